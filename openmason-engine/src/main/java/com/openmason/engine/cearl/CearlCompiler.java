@@ -50,7 +50,7 @@ public final class CearlCompiler {
 
         VramPlan plan = program.plan() == null ? null
             : new PlanBuilder(sourceName, checked, env).build(program.plan());
-        return new CearlProgram(sourceName, plan, kernels);
+        return new CearlProgram(sourceName, plan, kernels, checked);
     }
 
     // ─── Plan resolution ──────────────────────────────────────────────────
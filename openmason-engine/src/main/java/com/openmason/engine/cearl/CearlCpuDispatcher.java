@@ -0,0 +1,299 @@
+package com.openmason.engine.cearl;
+
+import com.openmason.engine.cearl.CpuEmitter.CpuKernel;
+import com.openmason.engine.cearl.CpuEmitter.Inv;
+import com.openmason.engine.cearl.CpuEmitter.Words;
+
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Executes a compiled CEARL kernel on the CPU — the headless twin of
+ * {@link CearlDispatcher} for dedicated servers, CI, and GPU-parity tests.
+ *
+ * <p>Same binding contract as the GPU path: buffers bind by take name (in
+ * the SSBO binding order the compiler recorded), uniforms set by take name
+ * with the type checked against the kernel's signature, and every misuse is
+ * a {@link CearlException} naming the valid takes. Buffers are Java arrays
+ * or off-heap segments holding exactly the bytes an SSBO would: 32-bit
+ * words in std430 layout (vec3 and forms containing one pad to 16 bytes
+ * per element), native byte order for segments.
+ *
+ * <p>Workgroups are spread across a fork-join pool. Kernels that call
+ * {@code barrier()} run each workgroup's invocations on virtual threads
+ * that meet at a phaser, so shared-memory reductions behave as on the GPU.
+ * Integer results are bit-identical to the GPU; f32 arithmetic
+ * is IEEE single precision without FMA contraction, and the
+ * transcendentals ({@code exp}, {@code sin}, ...) round from double, so
+ * compare those against driver output with a tolerance.
+ *
+ * <p>Bind and set uniforms from one thread, then {@link #dispatch}; a
+ * dispatch blocks until every workgroup has finished.
+ */
+public final class CearlCpuDispatcher {
+
+    /** Workgroups per fork-join leaf before splitting further. */
+    private static final int GROUPS_PER_TASK = 4;
+
+    private final CearlKernel kernel;
+    private final CpuKernel code;
+    private final ForkJoinPool pool;
+    private final Words[] buffers;
+    private final int[][] uniforms;
+    private final Map<String, CearlKernel.BufferBinding> buffersByName = new HashMap<>();
+    private final Map<String, CearlKernel.UniformBinding> uniformsByName = new HashMap<>();
+    private final Map<String, Integer> uniformIndex = new HashMap<>();
+
+    private CearlCpuDispatcher(CearlKernel kernel, CpuKernel code, ForkJoinPool pool) {
+        this.kernel = kernel;
+        this.code = code;
+        this.pool = pool;
+        this.buffers = new Words[kernel.buffers().size()];
+        this.uniforms = new int[kernel.uniforms().size()][];
+        for (CearlKernel.BufferBinding b : kernel.buffers()) {
+            buffersByName.put(b.name(), b);
+        }
+        for (int i = 0; i < uniforms.length; i++) {
+            CearlKernel.UniformBinding u = kernel.uniforms().get(i);
+            uniformsByName.put(u.name(), u);
+            uniformIndex.put(u.name(), i);
+            uniforms[i] = new int[code.uniformWords[i]];
+        }
+    }
+
+    /** Lowers the named kernel for the common fork-join pool. */
+    public static CearlCpuDispatcher create(CearlProgram program, String kernelName) {
+        return create(program, kernelName, ForkJoinPool.commonPool());
+    }
+
+    public static CearlCpuDispatcher create(CearlProgram program, String kernelName,
+                                            ForkJoinPool pool) {
+        CearlKernel kernel = program.kernel(kernelName);
+        if (kernel == null) {
+            throw new CearlException(program.sourceName(), 0, 0, "no kernel named '"
+                + kernelName + "' — kernels: " + program.kernels().keySet());
+        }
+        CearlAst.KernelDecl decl = program.checked().program().kernels().stream()
+            .filter(k -> k.name().equals(kernelName))
+            .findFirst()
+            .orElseThrow();
+        return new CearlCpuDispatcher(kernel, CpuEmitter.emit(program.checked(), decl), pool);
+    }
+
+    public CearlKernel kernel() {
+        return kernel;
+    }
+
+    /** Binds an int array (i32/u32 words, or any std430 data) to the named buffer take. */
+    public void bindBuffer(String takeName, int[] data) {
+        bind(takeName, Words.of(data));
+    }
+
+    /** Binds a float array; non-float fields of forms travel as raw float bits. */
+    public void bindBuffer(String takeName, float[] data) {
+        bind(takeName, Words.of(data));
+    }
+
+    /** Binds an off-heap segment in native byte order, laid out as the SSBO would be. */
+    public void bindBuffer(String takeName, MemorySegment segment) {
+        bind(takeName, Words.of(segment));
+    }
+
+    private void bind(String takeName, Words words) {
+        CearlKernel.BufferBinding b = buffersByName.get(takeName);
+        if (b == null) {
+            throw unknownTake(takeName, "buffer", buffersByName.keySet());
+        }
+        buffers[b.binding()] = words;
+    }
+
+    public void uniform1u(String name, int value) {
+        uniform(name, "uint", 0)[0] = value;
+    }
+
+    public void uniform1i(String name, int value) {
+        uniform(name, "int", 0)[0] = value;
+    }
+
+    public void uniform1f(String name, float value) {
+        uniform(name, "float", 0)[0] = Float.floatToRawIntBits(value);
+    }
+
+    public void uniform3f(String name, float x, float y, float z) {
+        int[] words = uniform(name, "vec3", 0);
+        words[0] = Float.floatToRawIntBits(x);
+        words[1] = Float.floatToRawIntBits(y);
+        words[2] = Float.floatToRawIntBits(z);
+    }
+
+    public void uniform4f(String name, float x, float y, float z, float w) {
+        int[] words = uniform(name, "vec4", 0);
+        words[0] = Float.floatToRawIntBits(x);
+        words[1] = Float.floatToRawIntBits(y);
+        words[2] = Float.floatToRawIntBits(z);
+        words[3] = Float.floatToRawIntBits(w);
+    }
+
+    /** Sets a vec4 uniform array; {@code values} holds arraySize × 4 floats. */
+    public void uniform4fv(String name, float[] values) {
+        CearlKernel.UniformBinding u = uniformsByName.get(name);
+        int[] words = uniform(name, "vec4", values.length / 4);
+        if (values.length != u.arraySize() * 4) {
+            throw new CearlException(kernel.name(), 0, 0, "uniform array '" + name
+                + "' takes " + u.arraySize() + " vec4s (" + (u.arraySize() * 4)
+                + " floats), got " + values.length);
+        }
+        for (int i = 0; i < values.length; i++) {
+            words[i] = Float.floatToRawIntBits(values[i]);
+        }
+    }
+
+    /**
+     * Runs one round over {@code elementCount} data elements — workgroup
+     * count is rounded up from the kernel's declared local size, and the
+     * trailing invocations run exactly as on the GPU (kernels guard with
+     * {@code count}). Returns once all writes are visible to the caller.
+     */
+    public void dispatch(int elementCount) {
+        if (elementCount <= 0) {
+            return;
+        }
+        List<String> unbound = new ArrayList<>();
+        for (CearlKernel.BufferBinding b : kernel.buffers()) {
+            if (buffers[b.binding()] == null) {
+                unbound.add(b.name());
+            }
+        }
+        if (!unbound.isEmpty()) {
+            throw new CearlException(kernel.name(), 0, 0, "kernel '" + kernel.name()
+                + "' dispatched with unbound buffer takes " + unbound
+                + " — bind every buffer take before dispatch");
+        }
+        int groups = (elementCount + code.localSize - 1) / code.localSize;
+        Words[] boundBuffers = buffers.clone();
+        int[][] boundUniforms = new int[uniforms.length][];
+        for (int i = 0; i < uniforms.length; i++) {
+            boundUniforms[i] = uniforms[i].clone();
+        }
+        pool.invoke(new GroupRange(boundBuffers, boundUniforms, 0, groups, groups));
+    }
+
+    /** A span of workgroups; splits until {@link #GROUPS_PER_TASK} remain. */
+    private final class GroupRange extends RecursiveAction {
+        private final Words[] buffers;
+        private final int[][] uniforms;
+        private final int from;
+        private final int to;
+        private final int groups;
+
+        GroupRange(Words[] buffers, int[][] uniforms, int from, int to, int groups) {
+            this.buffers = buffers;
+            this.uniforms = uniforms;
+            this.from = from;
+            this.to = to;
+            this.groups = groups;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GROUPS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new GroupRange(buffers, uniforms, from, mid, groups),
+                    new GroupRange(buffers, uniforms, mid, to, groups));
+                return;
+            }
+            if (code.usesBarrier) {
+                runLockstep();
+            } else {
+                runSequential();
+            }
+        }
+
+        /** No barriers: one context runs the group's invocations in order. */
+        private void runSequential() {
+            Inv inv = code.newInvocation(buffers, uniforms);
+            for (int g = from; g < to; g++) {
+                inv.shared = code.newShared();
+                for (int l = 0; l < code.localSize; l++) {
+                    inv.setIds(g, l, code.localSize, groups);
+                    code.run(inv);
+                }
+            }
+        }
+
+        /** Barriers: every invocation of a group gets a virtual thread and a phaser seat. */
+        private void runLockstep() {
+            int local = code.localSize;
+            Inv[] invs = new Inv[local];
+            for (int l = 0; l < local; l++) {
+                invs[l] = code.newInvocation(buffers, uniforms);
+            }
+            Thread[] threads = new Thread[local];
+            for (int g = from; g < to; g++) {
+                int[][] shared = code.newShared();
+                Phaser phaser = new Phaser(local);
+                AtomicReference<Throwable> failure = new AtomicReference<>();
+                for (int l = 0; l < local; l++) {
+                    Inv inv = invs[l];
+                    inv.shared = shared;
+                    inv.barrier = phaser;
+                    inv.setIds(g, l, local, groups);
+                    threads[l] = Thread.ofVirtual().start(() -> {
+                        try {
+                            code.run(inv);
+                        } catch (Throwable t) {
+                            failure.compareAndSet(null, t);
+                            phaser.forceTermination();
+                        } finally {
+                            phaser.arriveAndDeregister();
+                        }
+                    });
+                }
+                try {
+                    for (Thread t : threads) {
+                        t.join();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    phaser.forceTermination();
+                    throw new IllegalStateException("CPU dispatch of '" + kernel.name()
+                        + "' interrupted", e);
+                }
+                Throwable t = failure.get();
+                if (t instanceof RuntimeException re) {
+                    throw re;
+                }
+                if (t != null) {
+                    throw new IllegalStateException("CPU dispatch of '" + kernel.name()
+                        + "' failed", t);
+                }
+            }
+        }
+    }
+
+    private int[] uniform(String name, String expectedType, int expectedArray) {
+        CearlKernel.UniformBinding u = uniformsByName.get(name);
+        if (u == null) {
+            throw unknownTake(name, "uniform", uniformsByName.keySet());
+        }
+        if (!u.glslType().equals(expectedType)
+                || (expectedArray == 0) != (u.arraySize() == 0)) {
+            throw new CearlException(kernel.name(), 0, 0, "uniform '" + name + "' is "
+                + u.glslType() + (u.arraySize() > 0 ? "[" + u.arraySize() + "]" : "")
+                + " — use the matching setter");
+        }
+        return uniforms[uniformIndex.get(name)];
+    }
+
+    private CearlException unknownTake(String name, String what, Iterable<String> known) {
+        return new CearlException(kernel.name(), 0, 0, "kernel '" + kernel.name()
+            + "' has no " + what + " take named '" + name + "' — takes: " + known);
+    }
+}
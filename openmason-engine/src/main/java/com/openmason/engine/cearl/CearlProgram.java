@@ -1,5 +1,6 @@
 package com.openmason.engine.cearl;
 
+import com.openmason.engine.cearl.CearlChecker.Checked;
 import com.openmason.engine.vram.VramPlan;
 
 import java.util.Collections;
@@ -16,11 +17,14 @@ public final class CearlProgram {
     private final String sourceName;
     private final VramPlan plan;
     private final Map<String, CearlKernel> kernels;
+    private final Checked checked;
 
-    CearlProgram(String sourceName, VramPlan plan, LinkedHashMap<String, CearlKernel> kernels) {
+    CearlProgram(String sourceName, VramPlan plan, LinkedHashMap<String, CearlKernel> kernels,
+                 Checked checked) {
         this.sourceName = sourceName;
         this.plan = plan;
         this.kernels = Collections.unmodifiableMap(kernels);
+        this.checked = checked;
     }
 
     public String sourceName() {
@@ -40,4 +44,9 @@ public final class CearlProgram {
     public Map<String, CearlKernel> kernels() {
         return kernels;
     }
+
+    /** The checked AST the kernels were lowered from — input to the CPU backend. */
+    Checked checked() {
+        return checked;
+    }
 }
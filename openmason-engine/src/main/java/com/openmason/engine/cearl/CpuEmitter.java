@@ -0,0 +1,1517 @@
+package com.openmason.engine.cearl;
+
+import com.openmason.engine.cearl.CearlAst.Assign;
+import com.openmason.engine.cearl.CearlAst.Bin;
+import com.openmason.engine.cearl.CearlAst.Block;
+import com.openmason.engine.cearl.CearlAst.BoolLit;
+import com.openmason.engine.cearl.CearlAst.Call;
+import com.openmason.engine.cearl.CearlAst.Expr;
+import com.openmason.engine.cearl.CearlAst.ExprStmt;
+import com.openmason.engine.cearl.CearlAst.FloatLit;
+import com.openmason.engine.cearl.CearlAst.FnDecl;
+import com.openmason.engine.cearl.CearlAst.ForRange;
+import com.openmason.engine.cearl.CearlAst.Ident;
+import com.openmason.engine.cearl.CearlAst.If;
+import com.openmason.engine.cearl.CearlAst.Index;
+import com.openmason.engine.cearl.CearlAst.IntLit;
+import com.openmason.engine.cearl.CearlAst.KernelDecl;
+import com.openmason.engine.cearl.CearlAst.Let;
+import com.openmason.engine.cearl.CearlAst.Member;
+import com.openmason.engine.cearl.CearlAst.Param;
+import com.openmason.engine.cearl.CearlAst.Return;
+import com.openmason.engine.cearl.CearlAst.Stmt;
+import com.openmason.engine.cearl.CearlAst.TypeRef;
+import com.openmason.engine.cearl.CearlAst.Un;
+import com.openmason.engine.cearl.CearlAst.While;
+import com.openmason.engine.cearl.CearlChecker.Checked;
+import com.openmason.engine.cearl.CearlChecker.ConstInfo;
+import com.openmason.engine.cearl.CearlChecker.FnInfo;
+import com.openmason.engine.cearl.CearlChecker.StructInfo;
+import com.openmason.engine.cearl.CearlType.PrimKind;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Phaser;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Lowers a checked CEARL kernel to a tree of Java closures — the CPU twin of
+ * {@link GlslEmitter}, executed by {@link CearlCpuDispatcher}.
+ *
+ * <p>Every value is 32-bit words, exactly as the GPU sees it: scalars are one
+ * {@code int} (f32 as raw float bits, bool as 0/1), vectors and forms are an
+ * {@code int[]} in std430 layout. Buffers are addressed in std430 words too
+ * (vec3 elements stride four words), so the same bytes feed both backends.
+ *
+ * <p>CEARL has no recursion, so every craft gets one preallocated
+ * {@link Frame} per invocation context: locals, call temporaries and
+ * intermediate vectors live in fixed slots and a dispatch allocates nothing
+ * per element. Semantics the GPU leaves undefined are pinned down here:
+ * out-of-bounds buffer reads give 0 and writes are dropped (robust buffer
+ * access), integer division by zero gives 0, shared memory starts zeroed.
+ */
+final class CpuEmitter {
+
+    /** Statement outcomes: fall through, or unwind to the nearest loop/craft. */
+    static final int NORMAL = 0;
+    static final int BREAK = 1;
+    static final int CONTINUE = 2;
+    static final int RETURN = 3;
+
+    @FunctionalInterface
+    interface ScalarNode {
+        int eval(Inv inv);
+    }
+
+    /** Returns a vector/form value; callers copy it before storing. */
+    @FunctionalInterface
+    interface AggNode {
+        int[] eval(Inv inv);
+    }
+
+    @FunctionalInterface
+    interface StmtNode {
+        int exec(Inv inv);
+    }
+
+    @FunctionalInterface
+    private interface FloatFn {
+        float apply(float x);
+    }
+
+    // ─── Runtime ──────────────────────────────────────────────────────────
+
+    /** Slots of one craft (or the kernel body) for one invocation context. */
+    static final class Frame {
+        final int[] s;
+        final int[][] a;
+        int ret;
+
+        Frame(int scalars, List<Integer> aggSizes) {
+            s = new int[scalars];
+            a = new int[aggSizes.size()][];
+            for (int i = 0; i < a.length; i++) {
+                a[i] = new int[aggSizes.get(i)];
+            }
+        }
+    }
+
+    /**
+     * One invocation context: the frames plus the builtin ids and bindings.
+     * A worker reuses one context for every invocation it runs; barrier
+     * kernels give each invocation of a workgroup its own.
+     */
+    static final class Inv {
+        final Frame[] frames;
+        final int[] gid = new int[3];
+        final int[] lid = new int[3];
+        final int[] wgid = new int[3];
+        final int[] nwg = new int[3];
+        final Words[] buffers;
+        final int[][] uniforms;
+        int[][] shared;
+        Phaser barrier;
+
+        Inv(Frame[] frames, Words[] buffers, int[][] uniforms) {
+            this.frames = frames;
+            this.buffers = buffers;
+            this.uniforms = uniforms;
+        }
+
+        void setIds(int group, int local, int localSize, int groups) {
+            gid[0] = group * localSize + local;
+            lid[0] = local;
+            wgid[0] = group;
+            nwg[0] = groups;
+            nwg[1] = 1;
+            nwg[2] = 1;
+        }
+
+        void barrier() {
+            if (barrier != null) {
+                barrier.arriveAndAwaitAdvance();
+            }
+        }
+    }
+
+    /** Storage behind one bound buffer take, addressed in 32-bit words. */
+    abstract static class Words {
+
+        abstract int length();
+
+        abstract int get(int i);
+
+        abstract void set(int i, int v);
+
+        abstract boolean cas(int i, int expect, int update);
+
+        static Words of(int[] data) {
+            return new IntWords(data);
+        }
+
+        static Words of(float[] data) {
+            return new FloatWords(data);
+        }
+
+        static Words of(MemorySegment segment) {
+            return new SegmentWords(segment);
+        }
+    }
+
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final VarHandle FLOATS = MethodHandles.arrayElementVarHandle(float[].class);
+
+    private static final class IntWords extends Words {
+        private final int[] data;
+
+        IntWords(int[] data) {
+            this.data = data;
+        }
+
+        @Override
+        int length() {
+            return data.length;
+        }
+
+        @Override
+        int get(int i) {
+            return data[i];
+        }
+
+        @Override
+        void set(int i, int v) {
+            data[i] = v;
+        }
+
+        @Override
+        boolean cas(int i, int expect, int update) {
+            return INTS.compareAndSet(data, i, expect, update);
+        }
+    }
+
+    private static final class FloatWords extends Words {
+        private final float[] data;
+
+        FloatWords(float[] data) {
+            this.data = data;
+        }
+
+        @Override
+        int length() {
+            return data.length;
+        }
+
+        @Override
+        int get(int i) {
+            return Float.floatToRawIntBits(data[i]);
+        }
+
+        @Override
+        void set(int i, int v) {
+            data[i] = Float.intBitsToFloat(v);
+        }
+
+        @Override
+        boolean cas(int i, int expect, int update) {
+            // Float CAS compares raw bits, so integer fields in a float[] work.
+            return FLOATS.compareAndSet(data, i, Float.intBitsToFloat(expect),
+                Float.intBitsToFloat(update));
+        }
+    }
+
+    /** Native-order words, as uploaded to an SSBO. Atomics lock a stripe. */
+    private static final class SegmentWords extends Words {
+        private final MemorySegment segment;
+        private final int length;
+        private final Object[] stripes = new Object[64];
+
+        SegmentWords(MemorySegment segment) {
+            this.segment = segment;
+            this.length = (int) Math.min(Integer.MAX_VALUE, segment.byteSize() / Integer.BYTES);
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new Object();
+            }
+        }
+
+        @Override
+        int length() {
+            return length;
+        }
+
+        @Override
+        int get(int i) {
+            return segment.getAtIndex(ValueLayout.JAVA_INT_UNALIGNED, i);
+        }
+
+        @Override
+        void set(int i, int v) {
+            segment.setAtIndex(ValueLayout.JAVA_INT_UNALIGNED, i, v);
+        }
+
+        @Override
+        boolean cas(int i, int expect, int update) {
+            synchronized (stripes[i & (stripes.length - 1)]) {
+                if (get(i) != expect) {
+                    return false;
+                }
+                set(i, update);
+                return true;
+            }
+        }
+    }
+
+    /** A compiled craft: its body plus the frame shape it runs in. */
+    static final class FnCode {
+        final int id;
+        StmtNode body;
+        int scalars;
+        final List<Integer> aggSizes = new ArrayList<>();
+        int retSlot = -1;
+        int selfSlot = -1;
+        int[] paramSlots;
+        boolean[] paramAgg;
+
+        FnCode(int id) {
+            this.id = id;
+        }
+    }
+
+    /** The lowered kernel: entry body, every craft's frame shape, bindings. */
+    static final class CpuKernel {
+        final String name;
+        final int localSize;
+        final boolean usesBarrier;
+        final FnCode[] fns;
+        /** Words per uniform, in {@link CearlKernel#uniforms()} order. */
+        final int[] uniformWords;
+        /** std430 element stride (words) per buffer, in binding order. */
+        final int[] bufferStrides;
+        /** Words per shared array, in declaration order. */
+        final int[] sharedWords;
+
+        CpuKernel(String name, int localSize, boolean usesBarrier, FnCode[] fns,
+                  int[] uniformWords, int[] bufferStrides, int[] sharedWords) {
+            this.name = name;
+            this.localSize = localSize;
+            this.usesBarrier = usesBarrier;
+            this.fns = fns;
+            this.uniformWords = uniformWords;
+            this.bufferStrides = bufferStrides;
+            this.sharedWords = sharedWords;
+        }
+
+        Inv newInvocation(Words[] buffers, int[][] uniforms) {
+            Frame[] frames = new Frame[fns.length];
+            for (FnCode f : fns) {
+                frames[f.id] = new Frame(f.scalars, f.aggSizes);
+            }
+            return new Inv(frames, buffers, uniforms);
+        }
+
+        int[][] newShared() {
+            int[][] shared = new int[sharedWords.length][];
+            for (int i = 0; i < shared.length; i++) {
+                shared[i] = new int[sharedWords[i]];
+            }
+            return shared;
+        }
+
+        void run(Inv inv) {
+            fns[0].body.exec(inv);
+        }
+    }
+
+    // ─── Places (lvalues and addressable reads) ───────────────────────────
+
+    private static final int LOCAL_S = 0;
+    private static final int LOCAL_A = 1;
+    private static final int BUFFER = 2;
+    private static final int SHARED = 3;
+    private static final int UNIFORM = 4;
+
+    /**
+     * Where a value lives: a container plus a word offset, with at most one
+     * dynamic array index at the root (CEARL only indexes takes and shared
+     * arrays). {@code swizzle} maps component k to a word for multi-component
+     * swizzle reads; writes never carry one.
+     */
+    private record Place(int kind, int fn, int slot, ScalarNode index, boolean unsignedIndex,
+                         int stride, int limit, int offset, int size, int[] swizzle) {
+
+        Place member(int extraOffset, int newSize) {
+            return new Place(kind, fn, slot, index, unsignedIndex, stride, limit,
+                offset + extraOffset, newSize, null);
+        }
+
+        Place swizzled(int[] components) {
+            int[] words = new int[components.length];
+            for (int k = 0; k < components.length; k++) {
+                words[k] = components[k];
+            }
+            return new Place(kind, fn, slot, index, unsignedIndex, stride, limit, offset,
+                components.length, words);
+        }
+
+        /** First word of this place, or -1 when the index is out of bounds. */
+        int base(Inv inv) {
+            if (index == null) {
+                return offset;
+            }
+            int i = index.eval(inv);
+            int n = kind == BUFFER ? inv.buffers[slot].length() / stride : limit;
+            boolean out = unsignedIndex ? Integer.compareUnsigned(i, n) >= 0 : i < 0 || i >= n;
+            return out ? -1 : i * stride + offset;
+        }
+
+        int get(Inv inv, int base, int k) {
+            if (base < 0) {
+                return 0;
+            }
+            int w = base + (swizzle != null ? swizzle[k] : k);
+            return switch (kind) {
+                case LOCAL_S -> inv.frames[fn].s[slot];
+                case LOCAL_A -> inv.frames[fn].a[slot][w];
+                case BUFFER -> inv.buffers[slot].get(w);
+                case SHARED -> inv.shared[slot][w];
+                default -> inv.uniforms[slot][w];
+            };
+        }
+
+        void set(Inv inv, int base, int k, int v) {
+            if (base < 0) {
+                return;
+            }
+            int w = base + k;
+            switch (kind) {
+                case LOCAL_S -> inv.frames[fn].s[slot] = v;
+                case LOCAL_A -> inv.frames[fn].a[slot][w] = v;
+                case BUFFER -> inv.buffers[slot].set(w, v);
+                case SHARED -> inv.shared[slot][w] = v;
+                default -> throw new IllegalStateException("uniforms are read-only");
+            }
+        }
+
+        void store(Inv inv, int base, int[] src) {
+            for (int k = 0; k < size; k++) {
+                set(inv, base, k, src[k]);
+            }
+        }
+
+        boolean cas(Inv inv, int base, int expect, int update) {
+            return switch (kind) {
+                case BUFFER -> inv.buffers[slot].cas(base, expect, update);
+                case SHARED -> INTS.compareAndSet(inv.shared[slot], base, expect, update);
+                default -> {
+                    set(inv, base, 0, update);
+                    yield true;
+                }
+            };
+        }
+
+        /** Atomic read-modify-write; returns the previous value. */
+        int atomic(Inv inv, int base, IntBinaryOperator op, int v) {
+            if (base < 0) {
+                return 0;
+            }
+            while (true) {
+                int old = get(inv, base, 0);
+                if (cas(inv, base, old, op.applyAsInt(old, v))) {
+                    return old;
+                }
+            }
+        }
+    }
+
+    // ─── Lowering state ───────────────────────────────────────────────────
+
+    private record Var(CearlType type, int slot) {
+    }
+
+    /** A kernel take (buffer, uniform, or uniform array; stride 0 for a plain uniform) or a shared array. */
+    private record Take(int kind, int index, CearlType type, int stride, int limit) {
+    }
+
+    private final class FnBuilder {
+        final FnCode code;
+        final FnInfo info;
+        final Deque<Map<String, Var>> scopes = new ArrayDeque<>();
+
+        FnBuilder(FnCode code, FnInfo info) {
+            this.code = code;
+            this.info = info;
+            scopes.push(new HashMap<>());
+        }
+
+        int scalar() {
+            return code.scalars++;
+        }
+
+        int agg(int size) {
+            code.aggSizes.add(size);
+            return code.aggSizes.size() - 1;
+        }
+
+        Var declare(String name, CearlType type) {
+            Var v = new Var(type, isAgg(type) ? agg(size(type)) : scalar());
+            scopes.peek().put(name, v);
+            return v;
+        }
+
+        Var lookup(String name) {
+            for (Map<String, Var> scope : scopes) {
+                Var v = scope.get(name);
+                if (v != null) {
+                    return v;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Checked checked;
+    private final Map<String, FnCode> codes = new HashMap<>();
+    private final Map<String, Take> takes = new HashMap<>();
+    private final Map<String, Take> shareds = new HashMap<>();
+    private final Map<String, LinkedHashMap<String, Integer>> fieldOffsets = new HashMap<>();
+    private boolean usesBarrier;
+
+    private CpuEmitter(Checked checked) {
+        this.checked = checked;
+    }
+
+    static CpuKernel emit(Checked checked, KernelDecl kernel) {
+        return new CpuEmitter(checked).run(kernel);
+    }
+
+    private CpuKernel run(KernelDecl kernel) {
+        List<FnCode> all = new ArrayList<>();
+        FnCode main = new FnCode(0);
+        all.add(main);
+        List<FnInfo> infos = new ArrayList<>();
+        for (StructInfo s : checked.structs().values()) {
+            infos.addAll(s.methods().values());
+        }
+        infos.addAll(checked.fns().values());
+        for (FnInfo info : infos) {
+            FnCode code = new FnCode(all.size());
+            codes.put(info.key(), code);
+            all.add(code);
+        }
+
+        // Takes, numbered exactly as GlslEmitter numbers bindings and uniforms.
+        int buffers = 0;
+        List<Integer> uniformWords = new ArrayList<>();
+        List<Integer> bufferStrides = new ArrayList<>();
+        for (Param p : kernel.params()) {
+            CearlType elem = resolve(p.type().name());
+            if (p.type().array() && p.type().size() == null) {
+                int stride = stride(elem);
+                takes.put(p.name(), new Take(BUFFER, buffers++, elem, stride, 0));
+                bufferStrides.add(stride);
+            } else if (p.type().array()) {
+                int count = checked.resolvedSizes().get(p).intValue();
+                takes.put(p.name(), new Take(UNIFORM, uniformWords.size(), elem, size(elem), count));
+                uniformWords.add(count * size(elem));
+            } else {
+                takes.put(p.name(), new Take(UNIFORM, uniformWords.size(), elem, 0, 0));
+                uniformWords.add(size(elem));
+            }
+        }
+        List<Integer> sharedWords = new ArrayList<>();
+        for (CearlAst.SharedDecl sh : kernel.shareds()) {
+            CearlType elem = resolve(sh.type().name());
+            int count = checked.resolvedSizes().get(sh).intValue();
+            shareds.put(sh.name(), new Take(SHARED, sharedWords.size(), elem, size(elem), count));
+            sharedWords.add(count * size(elem));
+        }
+
+        for (FnInfo info : infos) {
+            lowerFn(codes.get(info.key()), info);
+        }
+        FnBuilder fb = new FnBuilder(main, null);
+        main.body = block(kernel.body(), fb);
+
+        return new CpuKernel(kernel.name(), kernel.localSize(), usesBarrier,
+            all.toArray(new FnCode[0]), ints(uniformWords), ints(bufferStrides), ints(sharedWords));
+    }
+
+    private void lowerFn(FnCode code, FnInfo info) {
+        FnBuilder fb = new FnBuilder(code, info);
+        FnDecl f = info.decl();
+        if (f.owner() != null) {
+            code.selfSlot = fb.declare("self", new CearlType.Struct(f.owner())).slot();
+        }
+        code.paramSlots = new int[f.params().size()];
+        code.paramAgg = new boolean[f.params().size()];
+        for (int i = 0; i < f.params().size(); i++) {
+            CearlType t = info.paramTypes().get(i);
+            code.paramSlots[i] = fb.declare(f.params().get(i).name(), t).slot();
+            code.paramAgg[i] = isAgg(t);
+        }
+        if (isAgg(info.ret())) {
+            code.retSlot = fb.agg(size(info.ret()));
+        }
+        code.body = block(f.body(), fb);
+    }
+
+    // ─── Statements ───────────────────────────────────────────────────────
+
+    private StmtNode block(Block block, FnBuilder fb) {
+        fb.scopes.push(new HashMap<>());
+        StmtNode[] stmts = new StmtNode[block.stmts().size()];
+        for (int i = 0; i < stmts.length; i++) {
+            stmts[i] = stmt(block.stmts().get(i), fb);
+        }
+        fb.scopes.pop();
+        if (stmts.length == 1) {
+            return stmts[0];
+        }
+        return inv -> {
+            for (StmtNode s : stmts) {
+                int r = s.exec(inv);
+                if (r != NORMAL) {
+                    return r;
+                }
+            }
+            return NORMAL;
+        };
+    }
+
+    private StmtNode stmt(Stmt stmt, FnBuilder fb) {
+        int fn = fb.code.id;
+        return switch (stmt) {
+            case Block b -> block(b, fb);
+            case Let l -> {
+                CearlType type = l.declared() != null ? resolveRef(l.declared()) : checked.typeOf(l.init());
+                Object init = lower(l.init(), fb);
+                Var v = fb.declare(l.name(), type);
+                int slot = v.slot();
+                if (isAgg(type)) {
+                    AggNode a = (AggNode) init;
+                    int n = size(type);
+                    yield inv -> {
+                        System.arraycopy(a.eval(inv), 0, inv.frames[fn].a[slot], 0, n);
+                        return NORMAL;
+                    };
+                }
+                ScalarNode s = (ScalarNode) init;
+                yield inv -> {
+                    inv.frames[fn].s[slot] = s.eval(inv);
+                    return NORMAL;
+                };
+            }
+            case Assign a -> assign(a, fb);
+            case If i -> {
+                ScalarNode cond = scalar(i.cond(), fb);
+                StmtNode then = block(i.then(), fb);
+                StmtNode otherwise = i.elseBranch() == null ? null : stmt(i.elseBranch(), fb);
+                yield inv -> cond.eval(inv) != 0 ? then.exec(inv)
+                    : otherwise != null ? otherwise.exec(inv) : NORMAL;
+            }
+            case While w -> {
+                ScalarNode cond = scalar(w.cond(), fb);
+                StmtNode body = block(w.body(), fb);
+                yield inv -> {
+                    while (cond.eval(inv) != 0) {
+                        int r = body.exec(inv);
+                        if (r == BREAK) {
+                            break;
+                        }
+                        if (r == RETURN) {
+                            return RETURN;
+                        }
+                    }
+                    return NORMAL;
+                };
+            }
+            case ForRange f -> forRange(f, fb);
+            case Return r -> {
+                if (r.value() == null) {
+                    yield inv -> RETURN;
+                }
+                Object value = lower(r.value(), fb);
+                if (value instanceof AggNode a) {
+                    int slot = fb.code.retSlot;
+                    int n = size(fb.info.ret());
+                    yield inv -> {
+                        System.arraycopy(a.eval(inv), 0, inv.frames[fn].a[slot], 0, n);
+                        return RETURN;
+                    };
+                }
+                ScalarNode s = (ScalarNode) value;
+                yield inv -> {
+                    inv.frames[fn].ret = s.eval(inv);
+                    return RETURN;
+                };
+            }
+            case CearlAst.Break b -> inv -> BREAK;
+            case CearlAst.Continue c -> inv -> CONTINUE;
+            case ExprStmt e -> {
+                Object value = lower(e.expr(), fb);
+                if (value instanceof AggNode a) {
+                    yield inv -> {
+                        a.eval(inv);
+                        return NORMAL;
+                    };
+                }
+                ScalarNode s = (ScalarNode) value;
+                yield inv -> {
+                    s.eval(inv);
+                    return NORMAL;
+                };
+            }
+        };
+    }
+
+    private StmtNode forRange(ForRange f, FnBuilder fb) {
+        int fn = fb.code.id;
+        boolean unsigned = checked.typeOf(f.from()).is(PrimKind.U32);
+        ScalarNode from = scalar(f.from(), fb);
+        ScalarNode to = scalar(f.to(), fb);
+        fb.scopes.push(new HashMap<>());
+        int slot = fb.declare(f.var(), unsigned ? CearlType.U32 : CearlType.I32).slot();
+        StmtNode body = block(f.body(), fb);
+        fb.scopes.pop();
+        return inv -> {
+            int[] s = inv.frames[fn].s;
+            // The bound is re-read every iteration, as in the emitted GLSL.
+            for (s[slot] = from.eval(inv); less(s[slot], to.eval(inv), unsigned); s[slot]++) {
+                int r = body.exec(inv);
+                if (r == BREAK) {
+                    break;
+                }
+                if (r == RETURN) {
+                    return RETURN;
+                }
+            }
+            return NORMAL;
+        };
+    }
+
+    private static boolean less(int a, int b, boolean unsigned) {
+        return unsigned ? Integer.compareUnsigned(a, b) < 0 : a < b;
+    }
+
+    private StmtNode assign(Assign a, FnBuilder fb) {
+        Place p = place(a.target(), fb);
+        CearlType target = checked.typeOf(a.target());
+        Object value = lower(a.value(), fb);
+        if (a.op().equals("=")) {
+            if (value instanceof AggNode v) {
+                return inv -> {
+                    int base = p.base(inv);
+                    p.store(inv, base, v.eval(inv));
+                    return NORMAL;
+                };
+            }
+            ScalarNode v = (ScalarNode) value;
+            return inv -> {
+                int base = p.base(inv);
+                p.set(inv, base, 0, v.eval(inv));
+                return NORMAL;
+            };
+        }
+        IntBinaryOperator op = arith(a.op().substring(0, 1), kindOf(target));
+        int n = isAgg(target) ? size(target) : 1;
+        if (value instanceof AggNode v) {
+            return inv -> {
+                int base = p.base(inv);
+                int[] rhs = v.eval(inv);
+                for (int k = 0; k < n; k++) {
+                    p.set(inv, base, k, op.applyAsInt(p.get(inv, base, k), rhs[k]));
+                }
+                return NORMAL;
+            };
+        }
+        ScalarNode v = (ScalarNode) value;
+        return inv -> {
+            int base = p.base(inv);
+            int rhs = v.eval(inv);
+            for (int k = 0; k < n; k++) {
+                p.set(inv, base, k, op.applyAsInt(p.get(inv, base, k), rhs));
+            }
+            return NORMAL;
+        };
+    }
+
+    // ─── Expressions ──────────────────────────────────────────────────────
+
+    private ScalarNode scalar(Expr e, FnBuilder fb) {
+        return (ScalarNode) lower(e, fb);
+    }
+
+    private AggNode agg(Expr e, FnBuilder fb) {
+        return (AggNode) lower(e, fb);
+    }
+
+    /** A {@link ScalarNode} for scalar-typed (and void) expressions, else an {@link AggNode}. */
+    private Object lower(Expr e, FnBuilder fb) {
+        return switch (e) {
+            case IntLit i -> constant(literalBits(i.value(), checked.typeOf(i)));
+            case FloatLit f -> constant(Float.floatToRawIntBits((float) f.value()));
+            case BoolLit b -> constant(b.value() ? 1 : 0);
+            case Ident id -> ident(id, fb);
+            case Member m -> member(m, fb);
+            case Index ix -> read(place(ix, fb), checked.typeOf(ix), fb);
+            case Un u -> unary(u, fb);
+            case Bin b -> binary(b, fb);
+            case Call c -> call(c, fb);
+            case CearlAst.SizeLit s -> throw new IllegalStateException(
+                "size literal survived checking — checker bug");
+        };
+    }
+
+    private static ScalarNode constant(int bits) {
+        return inv -> bits;
+    }
+
+    private static int literalBits(long value, CearlType type) {
+        return type != null && type.is(PrimKind.F32)
+            ? Float.floatToRawIntBits((float) value) : (int) value;
+    }
+
+    private Object ident(Ident id, FnBuilder fb) {
+        Place p = place(id, fb);
+        if (p != null) {
+            return read(p, checked.typeOf(id), fb);
+        }
+        Take take = takes.get(id.name());
+        if (take != null && take.kind() == UNIFORM && take.stride() == 0) {
+            int u = take.index();
+            if (isAgg(take.type())) {
+                return (AggNode) inv -> inv.uniforms[u];
+            }
+            return (ScalarNode) inv -> inv.uniforms[u][0];
+        }
+        switch (id.name()) {
+            case "gid" -> {
+                return (AggNode) inv -> inv.gid;
+            }
+            case "lid" -> {
+                return (AggNode) inv -> inv.lid;
+            }
+            case "wgid" -> {
+                return (AggNode) inv -> inv.wgid;
+            }
+            case "nwg" -> {
+                return (AggNode) inv -> inv.nwg;
+            }
+            default -> {
+            }
+        }
+        ConstInfo c = checked.consts().get(id.name());
+        if (c == null) {
+            throw new IllegalStateException("unresolved name '" + id.name() + "' — checker bug");
+        }
+        Object v = c.value();
+        if (v instanceof Boolean b) {
+            return constant(b ? 1 : 0);
+        }
+        if (c.type().is(PrimKind.F32)) {
+            float f = v instanceof Long l ? (float) (long) l : (float) (double) (Double) v;
+            return constant(Float.floatToRawIntBits(f));
+        }
+        return constant((int) (long) (Long) v);
+    }
+
+    private Object member(Member m, FnBuilder fb) {
+        Place p = place(m, fb);
+        if (p != null) {
+            return read(p, checked.typeOf(m), fb);
+        }
+        // Rvalue target (builtin id, call result, arithmetic): extract words.
+        CearlType target = checked.typeOf(m.target());
+        AggNode t = agg(m.target(), fb);
+        int[] words = memberWords(target, m.name());
+        if (words.length == 1) {
+            int w = words[0];
+            return (ScalarNode) inv -> t.eval(inv)[w];
+        }
+        int fn = fb.code.id;
+        int tmp = fb.agg(words.length);
+        return (AggNode) inv -> {
+            int[] src = t.eval(inv);
+            int[] dst = inv.frames[fn].a[tmp];
+            for (int k = 0; k < words.length; k++) {
+                dst[k] = src[words[k]];
+            }
+            return dst;
+        };
+    }
+
+    /** Word indices a member access selects within its target's value. */
+    private int[] memberWords(CearlType target, String name) {
+        if (target instanceof CearlType.Struct s) {
+            CearlType field = checked.structs().get(s.name()).fields().get(name);
+            int offset = fieldOffset(s.name(), name);
+            int[] words = new int[isAgg(field) ? size(field) : 1];
+            for (int k = 0; k < words.length; k++) {
+                words[k] = offset + k;
+            }
+            return words;
+        }
+        int[] words = new int[name.length()];
+        for (int k = 0; k < words.length; k++) {
+            words[k] = "xyzw".indexOf(name.charAt(k));
+        }
+        return words;
+    }
+
+    /** Reads a place as a value: scalars directly, aggregates into a temp. */
+    private Object read(Place p, CearlType type, FnBuilder fb) {
+        if (!isAgg(type)) {
+            return (ScalarNode) inv -> p.get(inv, p.base(inv), 0);
+        }
+        if (p.kind() == LOCAL_A && p.index() == null && p.offset() == 0 && p.swizzle() == null
+                && fb.code.aggSizes.get(p.slot()) == p.size() && p.fn() == fb.code.id) {
+            int fn = p.fn();
+            int slot = p.slot();
+            return (AggNode) inv -> inv.frames[fn].a[slot];
+        }
+        int fn = fb.code.id;
+        int tmp = fb.agg(p.size());
+        int n = p.size();
+        return (AggNode) inv -> {
+            int[] dst = inv.frames[fn].a[tmp];
+            int base = p.base(inv);
+            for (int k = 0; k < n; k++) {
+                dst[k] = p.get(inv, base, k);
+            }
+            return dst;
+        };
+    }
+
+    /** The place an addressable expression names, or null for rvalues. */
+    private Place place(Expr e, FnBuilder fb) {
+        int fn = fb.code.id;
+        switch (e) {
+            case Ident id -> {
+                if (checked.isImplicitSelf(id)) {
+                    String owner = fb.info.decl().owner();
+                    CearlType field = checked.structs().get(owner).fields().get(id.name());
+                    return new Place(LOCAL_A, fn, fb.code.selfSlot, null, false, 0, 0,
+                        fieldOffset(owner, id.name()), valueSize(field), null);
+                }
+                Var v = fb.lookup(id.name());
+                if (v == null) {
+                    return null;
+                }
+                return isAgg(v.type())
+                    ? new Place(LOCAL_A, fn, v.slot(), null, false, 0, 0, 0, size(v.type()), null)
+                    : new Place(LOCAL_S, fn, v.slot(), null, false, 0, 0, 0, 1, null);
+            }
+            case Index ix -> {
+                String name = ((Ident) ix.target()).name();
+                Take t = takes.containsKey(name) ? takes.get(name) : shareds.get(name);
+                ScalarNode index = scalar(ix.index(), fb);
+                boolean unsigned = checked.typeOf(ix.index()).is(PrimKind.U32);
+                return new Place(t.kind(), fn, t.index(), index, unsigned, t.stride(), t.limit(),
+                    0, valueSize(t.type()), null);
+            }
+            case Member m -> {
+                Place target = place(m.target(), fb);
+                if (target == null) {
+                    return null;
+                }
+                CearlType type = checked.typeOf(m.target());
+                if (type instanceof CearlType.Struct s) {
+                    CearlType field = checked.structs().get(s.name()).fields().get(m.name());
+                    return target.member(fieldOffset(s.name(), m.name()), valueSize(field));
+                }
+                int[] words = memberWords(type, m.name());
+                if (words.length == 1) {
+                    return target.member(words[0], 1);
+                }
+                return target.swizzled(words);
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    private Object unary(Un u, FnBuilder fb) {
+        if (u.op().equals("!")) {
+            ScalarNode x = scalar(u.operand(), fb);
+            return (ScalarNode) inv -> x.eval(inv) ^ 1;
+        }
+        CearlType t = checked.typeOf(u);
+        IntUnaryOperator neg = kindOf(t) == PrimKind.F32
+            ? v -> v ^ 0x80000000 : v -> -v;
+        return lanes1(t, lower(u.operand(), fb), neg, fb);
+    }
+
+    private Object binary(Bin b, FnBuilder fb) {
+        String op = b.op();
+        if (op.equals("&&")) {
+            ScalarNode l = scalar(b.left(), fb);
+            ScalarNode r = scalar(b.right(), fb);
+            return (ScalarNode) inv -> l.eval(inv) != 0 && r.eval(inv) != 0 ? 1 : 0;
+        }
+        if (op.equals("||")) {
+            ScalarNode l = scalar(b.left(), fb);
+            ScalarNode r = scalar(b.right(), fb);
+            return (ScalarNode) inv -> l.eval(inv) != 0 || r.eval(inv) != 0 ? 1 : 0;
+        }
+        CearlType lt = checked.typeOf(b.left());
+        switch (op) {
+            case "==", "!=", "<", "<=", ">", ">=" -> {
+                IntBinaryOperator cmp = compare(op, kindOf(lt));
+                ScalarNode l = scalar(b.left(), fb);
+                ScalarNode r = scalar(b.right(), fb);
+                return (ScalarNode) inv -> cmp.applyAsInt(l.eval(inv), r.eval(inv));
+            }
+            default -> {
+                CearlType result = checked.typeOf(b);
+                return lanes2(result, lower(b.left(), fb), lower(b.right(), fb),
+                    arith(op, kindOf(result)), fb);
+            }
+        }
+    }
+
+    // ─── Calls ────────────────────────────────────────────────────────────
+
+    private Object call(Call c, FnBuilder fb) {
+        if (c.callee() instanceof Member m) {
+            CearlType.Struct owner = (CearlType.Struct) checked.typeOf(m.target());
+            FnInfo info = checked.structs().get(owner.name()).methods().get(m.name());
+            return userCall(c, info, place(m.target(), fb), fb);
+        }
+        String name = ((Ident) c.callee()).name();
+        FnInfo fn = checked.fns().get(name);
+        if (fn != null) {
+            return userCall(c, fn, null, fb);
+        }
+        return builtin(c, name, fb);
+    }
+
+    private Object userCall(Call c, FnInfo info, Place receiver, FnBuilder fb) {
+        FnCode callee = codes.get(info.key());
+        int fn = fb.code.id;
+        int n = c.args().size();
+        ScalarNode[] scalars = new ScalarNode[n];
+        AggNode[] aggs = new AggNode[n];
+        int[] temps = new int[n];
+        int[] sizes = new int[n];
+        for (int i = 0; i < n; i++) {
+            CearlType t = info.paramTypes().get(i);
+            if (isAgg(t)) {
+                aggs[i] = agg(c.args().get(i), fb);
+                sizes[i] = size(t);
+                temps[i] = fb.agg(sizes[i]);
+            } else {
+                scalars[i] = scalar(c.args().get(i), fb);
+                temps[i] = fb.scalar();
+            }
+        }
+        boolean writeBack = receiver != null && info.mutatesSelf();
+        int selfSize = receiver == null ? 0 : receiver.size();
+        int retTemp = isAgg(info.ret()) ? fb.agg(size(info.ret())) : -1;
+        int retSize = retTemp < 0 ? 0 : size(info.ret());
+
+        ScalarNode invoke = inv -> {
+            Frame caller = inv.frames[fn];
+            // Arguments are evaluated into caller temps first: an argument
+            // may itself call the same craft and reuse its frame.
+            for (int i = 0; i < n; i++) {
+                if (aggs[i] != null) {
+                    System.arraycopy(aggs[i].eval(inv), 0, caller.a[temps[i]], 0, sizes[i]);
+                } else {
+                    caller.s[temps[i]] = scalars[i].eval(inv);
+                }
+            }
+            Frame frame = inv.frames[callee.id];
+            int base = 0;
+            if (receiver != null) {
+                base = receiver.base(inv);
+                int[] self = frame.a[callee.selfSlot];
+                for (int k = 0; k < selfSize; k++) {
+                    self[k] = receiver.get(inv, base, k);
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                if (aggs[i] != null) {
+                    System.arraycopy(caller.a[temps[i]], 0, frame.a[callee.paramSlots[i]], 0, sizes[i]);
+                } else {
+                    frame.s[callee.paramSlots[i]] = caller.s[temps[i]];
+                }
+            }
+            callee.body.exec(inv);
+            if (writeBack) {
+                receiver.store(inv, base, frame.a[callee.selfSlot]);
+            }
+            return frame.ret;
+        };
+        if (retTemp < 0) {
+            return invoke;
+        }
+        return (AggNode) inv -> {
+            invoke.eval(inv);
+            int[] dst = inv.frames[fn].a[retTemp];
+            System.arraycopy(inv.frames[callee.id].a[callee.retSlot], 0, dst, 0, retSize);
+            return dst;
+        };
+    }
+
+    private Object builtin(Call c, String name, FnBuilder fb) {
+        CearlType result = checked.typeOf(c);
+        List<Expr> args = c.args();
+        CearlType ctor = CearlType.builtin(name);
+        if (ctor instanceof CearlType.Prim to) {
+            PrimKind from = kindOf(checked.typeOf(args.getFirst()));
+            ScalarNode x = scalar(args.getFirst(), fb);
+            return (ScalarNode) inv -> convert(x.eval(inv), from, to.kind());
+        }
+        if (ctor instanceof CearlType.Vec v) {
+            return construct(v, args, fb);
+        }
+        return switch (name) {
+            case "count" -> {
+                String buffer = ((Ident) args.getFirst()).name();
+                Take t = takes.containsKey(buffer) ? takes.get(buffer) : shareds.get(buffer);
+                if (t.kind() != BUFFER) {
+                    yield constant(t.limit());
+                }
+                int index = t.index();
+                int stride = t.stride();
+                yield (ScalarNode) inv -> inv.buffers[index].length() / stride;
+            }
+            case "atomic_add", "atomic_min", "atomic_max" -> {
+                Place p = place(args.getFirst(), fb);
+                PrimKind kind = kindOf(checked.typeOf(args.getFirst()));
+                ScalarNode v = scalar(args.get(1), fb);
+                IntBinaryOperator op = switch (name) {
+                    case "atomic_add" -> Integer::sum;
+                    case "atomic_min" -> kind == PrimKind.U32
+                        ? (a, b) -> Integer.compareUnsigned(a, b) <= 0 ? a : b : Math::min;
+                    default -> kind == PrimKind.U32
+                        ? (a, b) -> Integer.compareUnsigned(a, b) >= 0 ? a : b : Math::max;
+                };
+                yield (ScalarNode) inv -> {
+                    int base = p.base(inv);
+                    return p.atomic(inv, base, op, v.eval(inv));
+                };
+            }
+            case "pick" -> {
+                ScalarNode cond = scalar(args.getFirst(), fb);
+                Object a = lower(args.get(1), fb);
+                Object b = lower(args.get(2), fb);
+                if (a instanceof AggNode av) {
+                    AggNode bv = (AggNode) b;
+                    yield (AggNode) inv -> cond.eval(inv) != 0 ? av.eval(inv) : bv.eval(inv);
+                }
+                ScalarNode as = (ScalarNode) a;
+                ScalarNode bs = (ScalarNode) b;
+                yield (ScalarNode) inv -> cond.eval(inv) != 0 ? as.eval(inv) : bs.eval(inv);
+            }
+            case "barrier" -> {
+                usesBarrier = true;
+                yield (ScalarNode) inv -> {
+                    inv.barrier();
+                    return 0;
+                };
+            }
+            case "dot" -> {
+                AggNode a = agg(args.getFirst(), fb);
+                AggNode b = agg(args.get(1), fb);
+                int n = size(checked.typeOf(args.getFirst()));
+                int fn = fb.code.id;
+                int tmp = fb.agg(n);
+                yield (ScalarNode) inv -> {
+                    int[] x = copy(a.eval(inv), inv.frames[fn].a[tmp], n);
+                    return Float.floatToRawIntBits(dot(x, b.eval(inv), n));
+                };
+            }
+            case "length" -> {
+                AggNode a = agg(args.getFirst(), fb);
+                int n = size(checked.typeOf(args.getFirst()));
+                yield (ScalarNode) inv -> {
+                    int[] x = a.eval(inv);
+                    return Float.floatToRawIntBits((float) Math.sqrt(dot(x, x, n)));
+                };
+            }
+            case "normalize" -> {
+                AggNode a = agg(args.getFirst(), fb);
+                int n = size(result);
+                int fn = fb.code.id;
+                int tmp = fb.agg(n);
+                yield (AggNode) inv -> {
+                    int[] x = a.eval(inv);
+                    float len = (float) Math.sqrt(dot(x, x, n));
+                    int[] dst = inv.frames[fn].a[tmp];
+                    for (int k = 0; k < n; k++) {
+                        dst[k] = Float.floatToRawIntBits(Float.intBitsToFloat(x[k]) / len);
+                    }
+                    return dst;
+                };
+            }
+            case "cross" -> {
+                AggNode a = agg(args.getFirst(), fb);
+                AggNode b = agg(args.get(1), fb);
+                int fn = fb.code.id;
+                int tmpA = fb.agg(3);
+                int tmp = fb.agg(3);
+                yield (AggNode) inv -> {
+                    int[] x = copy(a.eval(inv), inv.frames[fn].a[tmpA], 3);
+                    int[] y = b.eval(inv);
+                    float x0 = Float.intBitsToFloat(x[0]);
+                    float x1 = Float.intBitsToFloat(x[1]);
+                    float x2 = Float.intBitsToFloat(x[2]);
+                    float y0 = Float.intBitsToFloat(y[0]);
+                    float y1 = Float.intBitsToFloat(y[1]);
+                    float y2 = Float.intBitsToFloat(y[2]);
+                    int[] dst = inv.frames[fn].a[tmp];
+                    dst[0] = Float.floatToRawIntBits(x1 * y2 - y1 * x2);
+                    dst[1] = Float.floatToRawIntBits(x2 * y0 - y2 * x0);
+                    dst[2] = Float.floatToRawIntBits(x0 * y1 - y0 * x1);
+                    return dst;
+                };
+            }
+            case "floor" -> floatLanes(result, args, x -> (float) Math.floor(x), fb);
+            case "ceil" -> floatLanes(result, args, x -> (float) Math.ceil(x), fb);
+            case "sqrt" -> floatLanes(result, args, x -> (float) Math.sqrt(x), fb);
+            case "exp" -> floatLanes(result, args, x -> (float) Math.exp(x), fb);
+            case "log" -> floatLanes(result, args, x -> (float) Math.log(x), fb);
+            case "sin" -> floatLanes(result, args, x -> (float) Math.sin(x), fb);
+            case "cos" -> floatLanes(result, args, x -> (float) Math.cos(x), fb);
+            case "abs" -> {
+                IntUnaryOperator abs = switch (kindOf(result)) {
+                    case F32 -> v -> v & 0x7FFFFFFF;
+                    case I32 -> Math::abs;
+                    default -> v -> v;
+                };
+                yield lanes1(result, lower(args.getFirst(), fb), abs, fb);
+            }
+            case "pow" -> lanes2(result, lower(args.getFirst(), fb), lower(args.get(1), fb),
+                (a, b) -> Float.floatToRawIntBits((float) Math.pow(
+                    Float.intBitsToFloat(a), Float.intBitsToFloat(b))), fb);
+            case "mod" -> lanes2(result, lower(args.getFirst(), fb), lower(args.get(1), fb),
+                CpuEmitter::fmod, fb);
+            case "min" -> lanes2(result, lower(args.getFirst(), fb), lower(args.get(1), fb),
+                minMax(kindOf(result), true), fb);
+            case "max" -> lanes2(result, lower(args.getFirst(), fb), lower(args.get(1), fb),
+                minMax(kindOf(result), false), fb);
+            case "clamp" -> {
+                IntBinaryOperator max = minMax(kindOf(result), false);
+                IntBinaryOperator min = minMax(kindOf(result), true);
+                Object lowered = lanes2(result, lower(args.getFirst(), fb),
+                    lower(args.get(1), fb), max, fb);
+                yield lanes2(result, lowered, lower(args.get(2), fb), min, fb);
+            }
+            case "mix" -> {
+                Object x = lower(args.getFirst(), fb);
+                Object y = lower(args.get(1), fb);
+                Object t = lower(args.get(2), fb);
+                // x * (1 - t) + y * t, component-wise with scalar t broadcast.
+                Object oneMinusT = lanes1(isAgg(checked.typeOf(args.get(2)))
+                        ? checked.typeOf(args.get(2)) : CearlType.F32, t,
+                    v -> Float.floatToRawIntBits(1f - Float.intBitsToFloat(v)), fb);
+                IntBinaryOperator mul = arith("*", PrimKind.F32);
+                Object left = lanes2(result, x, oneMinusT, mul, fb);
+                Object right = lanes2(result, y, lower(args.get(2), fb), mul, fb);
+                yield lanes2(result, left, right, arith("+", PrimKind.F32), fb);
+            }
+            default -> throw new IllegalStateException("unknown builtin '" + name + "' — checker bug");
+        };
+    }
+
+    private Object construct(CearlType.Vec v, List<Expr> args, FnBuilder fb) {
+        int n = v.size();
+        int fn = fb.code.id;
+        int tmp = fb.agg(n);
+        Object[] parts = new Object[args.size()];
+        int[] widths = new int[args.size()];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = lower(args.get(i), fb);
+            CearlType t = checked.typeOf(args.get(i));
+            widths[i] = isAgg(t) ? size(t) : 1;
+        }
+        boolean broadcast = parts.length == 1 && widths[0] == 1 && n > 1;
+        return (AggNode) inv -> {
+            int[] dst = inv.frames[fn].a[tmp];
+            if (broadcast) {
+                Arrays.fill(dst, ((ScalarNode) parts[0]).eval(inv));
+                return dst;
+            }
+            int k = 0;
+            for (int i = 0; i < parts.length; i++) {
+                if (parts[i] instanceof ScalarNode s) {
+                    dst[k++] = s.eval(inv);
+                } else {
+                    System.arraycopy(((AggNode) parts[i]).eval(inv), 0, dst, k, widths[i]);
+                    k += widths[i];
+                }
+            }
+            return dst;
+        };
+    }
+
+    // ─── Component-wise helpers ───────────────────────────────────────────
+
+    private Object floatLanes(CearlType result, List<Expr> args, FloatFn f, FnBuilder fb) {
+        return lanes1(result, lower(args.getFirst(), fb),
+            v -> Float.floatToRawIntBits(f.apply(Float.intBitsToFloat(v))), fb);
+    }
+
+    private Object lanes1(CearlType result, Object operand, IntUnaryOperator f, FnBuilder fb) {
+        if (!isAgg(result)) {
+            ScalarNode x = (ScalarNode) operand;
+            return (ScalarNode) inv -> f.applyAsInt(x.eval(inv));
+        }
+        AggNode x = (AggNode) operand;
+        int n = size(result);
+        int fn = fb.code.id;
+        int tmp = fb.agg(n);
+        return (AggNode) inv -> {
+            int[] src = x.eval(inv);
+            int[] dst = inv.frames[fn].a[tmp];
+            for (int k = 0; k < n; k++) {
+                dst[k] = f.applyAsInt(src[k]);
+            }
+            return dst;
+        };
+    }
+
+    /**
+     * Applies {@code f} lane by lane; either operand may be a scalar, which is
+     * broadcast. The left vector is copied into the result first, so the
+     * right operand's evaluation cannot disturb it.
+     */
+    private Object lanes2(CearlType result, Object left, Object right, IntBinaryOperator f,
+                          FnBuilder fb) {
+        if (!isAgg(result)) {
+            ScalarNode x = (ScalarNode) left;
+            ScalarNode y = (ScalarNode) right;
+            return (ScalarNode) inv -> f.applyAsInt(x.eval(inv), y.eval(inv));
+        }
+        int n = size(result);
+        int fn = fb.code.id;
+        int tmp = fb.agg(n);
+        AggNode xv = left instanceof AggNode a ? a : null;
+        ScalarNode xs = left instanceof ScalarNode s ? s : null;
+        AggNode yv = right instanceof AggNode a ? a : null;
+        ScalarNode ys = right instanceof ScalarNode s ? s : null;
+        return (AggNode) inv -> {
+            int[] dst = inv.frames[fn].a[tmp];
+            int x = 0;
+            if (xv != null) {
+                System.arraycopy(xv.eval(inv), 0, dst, 0, n);
+            } else {
+                x = xs.eval(inv);
+            }
+            if (yv != null) {
+                int[] y = yv.eval(inv);
+                for (int k = 0; k < n; k++) {
+                    dst[k] = f.applyAsInt(xv != null ? dst[k] : x, y[k]);
+                }
+            } else {
+                int y = ys.eval(inv);
+                for (int k = 0; k < n; k++) {
+                    dst[k] = f.applyAsInt(xv != null ? dst[k] : x, y);
+                }
+            }
+            return dst;
+        };
+    }
+
+    private static int[] copy(int[] src, int[] dst, int n) {
+        System.arraycopy(src, 0, dst, 0, n);
+        return dst;
+    }
+
+    private static float dot(int[] a, int[] b, int n) {
+        float sum = 0f;
+        for (int k = 0; k < n; k++) {
+            sum += Float.intBitsToFloat(a[k]) * Float.intBitsToFloat(b[k]);
+        }
+        return sum;
+    }
+
+    /** GLSL mod: {@code x - y * floor(x / y)}. */
+    private static int fmod(int a, int b) {
+        float x = Float.intBitsToFloat(a);
+        float y = Float.intBitsToFloat(b);
+        return Float.floatToRawIntBits(x - y * (float) Math.floor(x / y));
+    }
+
+    /** GLSL min/max: {@code min(x, y) = y < x ? y : x}, unsigned for u32. */
+    private static IntBinaryOperator minMax(PrimKind kind, boolean min) {
+        IntBinaryOperator less = compare("<", kind);
+        return min
+            ? (x, y) -> less.applyAsInt(y, x) != 0 ? y : x
+            : (x, y) -> less.applyAsInt(x, y) != 0 ? y : x;
+    }
+
+    private static IntBinaryOperator arith(String op, PrimKind kind) {
+        if (kind == PrimKind.F32) {
+            return switch (op) {
+                case "+" -> (a, b) -> Float.floatToRawIntBits(Float.intBitsToFloat(a) + Float.intBitsToFloat(b));
+                case "-" -> (a, b) -> Float.floatToRawIntBits(Float.intBitsToFloat(a) - Float.intBitsToFloat(b));
+                case "*" -> (a, b) -> Float.floatToRawIntBits(Float.intBitsToFloat(a) * Float.intBitsToFloat(b));
+                case "/" -> (a, b) -> Float.floatToRawIntBits(Float.intBitsToFloat(a) / Float.intBitsToFloat(b));
+                default -> throw new IllegalStateException("'" + op + "' on f32 — checker bug");
+            };
+        }
+        boolean unsigned = kind == PrimKind.U32;
+        return switch (op) {
+            case "+" -> Integer::sum;
+            case "-" -> (a, b) -> a - b;
+            case "*" -> (a, b) -> a * b;
+            case "/" -> unsigned
+                ? (a, b) -> b == 0 ? 0 : Integer.divideUnsigned(a, b)
+                : (a, b) -> b == 0 ? 0 : a / b;
+            case "%" -> unsigned
+                ? (a, b) -> b == 0 ? 0 : Integer.remainderUnsigned(a, b)
+                : (a, b) -> b == 0 ? 0 : a % b;
+            default -> throw new IllegalStateException("unknown operator '" + op + "'");
+        };
+    }
+
+    private static IntBinaryOperator compare(String op, PrimKind kind) {
+        if (kind == PrimKind.F32) {
+            return switch (op) {
+                case "==" -> (a, b) -> Float.intBitsToFloat(a) == Float.intBitsToFloat(b) ? 1 : 0;
+                case "!=" -> (a, b) -> Float.intBitsToFloat(a) != Float.intBitsToFloat(b) ? 1 : 0;
+                case "<" -> (a, b) -> Float.intBitsToFloat(a) < Float.intBitsToFloat(b) ? 1 : 0;
+                case "<=" -> (a, b) -> Float.intBitsToFloat(a) <= Float.intBitsToFloat(b) ? 1 : 0;
+                case ">" -> (a, b) -> Float.intBitsToFloat(a) > Float.intBitsToFloat(b) ? 1 : 0;
+                default -> (a, b) -> Float.intBitsToFloat(a) >= Float.intBitsToFloat(b) ? 1 : 0;
+            };
+        }
+        if (kind == PrimKind.U32) {
+            return switch (op) {
+                case "==" -> (a, b) -> a == b ? 1 : 0;
+                case "!=" -> (a, b) -> a != b ? 1 : 0;
+                case "<" -> (a, b) -> Integer.compareUnsigned(a, b) < 0 ? 1 : 0;
+                case "<=" -> (a, b) -> Integer.compareUnsigned(a, b) <= 0 ? 1 : 0;
+                case ">" -> (a, b) -> Integer.compareUnsigned(a, b) > 0 ? 1 : 0;
+                default -> (a, b) -> Integer.compareUnsigned(a, b) >= 0 ? 1 : 0;
+            };
+        }
+        return switch (op) {
+            case "==" -> (a, b) -> a == b ? 1 : 0;
+            case "!=" -> (a, b) -> a != b ? 1 : 0;
+            case "<" -> (a, b) -> a < b ? 1 : 0;
+            case "<=" -> (a, b) -> a <= b ? 1 : 0;
+            case ">" -> (a, b) -> a > b ? 1 : 0;
+            default -> (a, b) -> a >= b ? 1 : 0;
+        };
+    }
+
+    /** GLSL constructor-cast semantics between scalar kinds. */
+    static int convert(int v, PrimKind from, PrimKind to) {
+        if (from == to) {
+            return v;
+        }
+        if (to == PrimKind.F32) {
+            float f = switch (from) {
+                case I32 -> (float) v;
+                case U32 -> (float) Integer.toUnsignedLong(v);
+                default -> v != 0 ? 1f : 0f;
+            };
+            return Float.floatToRawIntBits(f);
+        }
+        return switch (from) {
+            case F32 -> to == PrimKind.U32
+                ? (int) (long) Float.intBitsToFloat(v) : (int) Float.intBitsToFloat(v);
+            case BOOL -> v != 0 ? 1 : 0;
+            default -> v; // i32 <-> u32 keeps the bits
+        };
+    }
+
+    // ─── Types and std430 layout (in 32-bit words) ────────────────────────
+
+    private static boolean isAgg(CearlType t) {
+        return t instanceof CearlType.Vec || t instanceof CearlType.Struct;
+    }
+
+    private static PrimKind kindOf(CearlType t) {
+        return switch (t) {
+            case CearlType.Prim p -> p.kind();
+            case CearlType.Vec v -> v.elem();
+            default -> throw new IllegalStateException("no scalar kind for " + t.display());
+        };
+    }
+
+    private CearlType resolve(String name) {
+        CearlType t = CearlType.builtin(name);
+        return t != null ? t : new CearlType.Struct(name);
+    }
+
+    private CearlType resolveRef(TypeRef ref) {
+        return resolve(ref.name());
+    }
+
+    /** Words a value of {@code t} occupies (1 for scalars). */
+    private int valueSize(CearlType t) {
+        return isAgg(t) ? size(t) : 1;
+    }
+
+    private int size(CearlType t) {
+        return switch (t) {
+            case CearlType.Vec v -> v.size();
+            case CearlType.Struct s -> {
+                int offset = 0;
+                for (CearlType f : checked.structs().get(s.name()).fields().values()) {
+                    offset = roundUp(offset, align(f)) + size(f);
+                }
+                yield roundUp(offset, align(t));
+            }
+            default -> 1;
+        };
+    }
+
+    private int align(CearlType t) {
+        return switch (t) {
+            case CearlType.Vec v -> v.size() == 3 ? 4 : v.size();
+            case CearlType.Struct s -> {
+                int a = 1;
+                for (CearlType f : checked.structs().get(s.name()).fields().values()) {
+                    a = Math.max(a, align(f));
+                }
+                yield a;
+            }
+            default -> 1;
+        };
+    }
+
+    private int stride(CearlType t) {
+        return roundUp(size(t), align(t));
+    }
+
+    private int fieldOffset(String struct, String field) {
+        return fieldOffsets.computeIfAbsent(struct, name -> {
+            LinkedHashMap<String, Integer> offsets = new LinkedHashMap<>();
+            int offset = 0;
+            for (Map.Entry<String, CearlType> f : checked.structs().get(name).fields().entrySet()) {
+                offset = roundUp(offset, align(f.getValue()));
+                offsets.put(f.getKey(), offset);
+                offset += size(f.getValue());
+            }
+            return offsets;
+        }).get(field);
+    }
+
+    private static int roundUp(int value, int align) {
+        return (value + align - 1) / align * align;
+    }
+
+    private static int[] ints(List<Integer> values) {
+        int[] out = new int[values.size()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = values.get(i);
+        }
+        return out;
+    }
+}
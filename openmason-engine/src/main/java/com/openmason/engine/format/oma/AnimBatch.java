@@ -0,0 +1,185 @@
+package com.openmason.engine.format.oma;
+
+import java.util.Arrays;
+
+/**
+ * Evaluates the local poses of many entities in one pass, from
+ * {@link BakedAnimClip}s into a {@link PoseBuffer}, without allocating.
+ *
+ * <p>Fill a batch each frame — {@link #addEntity} for each entity, followed
+ * by {@link #addOverlay} for each of that entity's overlays — then
+ * {@link #evaluate}. The result per part is what {@link AnimLayering#blendPart}
+ * gives for the same inputs: the base clip's pose (or the rest pose), then
+ * every masked overlay in ascending priority, each blended in by its
+ * effective weight. A base track without keyframes keeps the entity
+ * renderers' rule: the identity pose when no overlay plays, the rest pose
+ * (animated) under overlays. Times are wrapped and weights enveloped here
+ * ({@link AnimSampler#wrapTime}, {@link AnimLayering#clipWeight}), so callers
+ * pass raw elapsed seconds as they would to the unbaked path.
+ *
+ * <p>All storage is reused and only grows; once a batch has seen its largest
+ * frame neither it nor the buffer allocates again. Not thread-safe — keep one
+ * per thread.
+ */
+public final class AnimBatch {
+
+    /** {@link AnimSampler.PartPose#identity()} as a baked frame. */
+    private static final float[] IDENTITY = {0, 0, 0, 0, 0, 0, 1, 1, 1};
+
+    private AnimRig[] rigs = new AnimRig[8];
+    private BakedAnimClip[] baseClips = new BakedAnimClip[8];
+    private float[] baseTimes = new float[8];
+    private int[] firstSlots = new int[8];
+    private int[] firstOverlays = new int[9];
+    private int entities;
+    private int slots;
+
+    private BakedAnimClip[] overlayClips = new BakedAnimClip[8];
+    private float[] overlayTimes = new float[8];
+    private float[] overlayWeights = new float[8];
+    private int overlays;
+
+    private final float[] scratch = new float[BakedAnimClip.FRAME_STRIDE];
+
+    /** Empty the batch, keeping its storage. */
+    public void clear() {
+        Arrays.fill(rigs, 0, entities, null);
+        Arrays.fill(baseClips, 0, entities, null);
+        Arrays.fill(overlayClips, 0, overlays, null);
+        entities = 0;
+        slots = 0;
+        overlays = 0;
+    }
+
+    /**
+     * Add an entity playing {@code baseClip} (null for none: every part stays
+     * at rest unless an overlay moves it).
+     *
+     * @param baseElapsed seconds since the base clip started (not wrapped)
+     * @return the entity's index in this batch
+     */
+    public int addEntity(AnimRig rig, BakedAnimClip baseClip, float baseElapsed) {
+        if (entities == rigs.length) {
+            int grown = entities * 2;
+            rigs = Arrays.copyOf(rigs, grown);
+            baseClips = Arrays.copyOf(baseClips, grown);
+            baseTimes = Arrays.copyOf(baseTimes, grown);
+            firstSlots = Arrays.copyOf(firstSlots, grown);
+            firstOverlays = Arrays.copyOf(firstOverlays, grown + 1);
+        }
+        rigs[entities] = rig;
+        baseClips[entities] = baseClip;
+        baseTimes[entities] = baseClip != null
+                ? AnimSampler.wrapTime(baseElapsed, baseClip.duration(), baseClip.loop())
+                : 0f;
+        firstSlots[entities] = slots;
+        firstOverlays[entities] = overlays;
+        slots += rig.partCount();
+        entities++;
+        firstOverlays[entities] = overlays;
+        return entities - 1;
+    }
+
+    /**
+     * Layer {@code clip} over the most recently added entity. The effective
+     * weight is {@code envelopeWeight * clipWeight(clip, elapsed)}; an overlay
+     * that comes to zero is dropped.
+     *
+     * @param elapsed seconds since the overlay started (not wrapped)
+     * @throws IllegalStateException if no entity has been added
+     */
+    public void addOverlay(BakedAnimClip clip, float elapsed, float envelopeWeight) {
+        if (entities == 0) {
+            throw new IllegalStateException("addOverlay before addEntity");
+        }
+        if (clip == null) return;
+        float weight = envelopeWeight * AnimLayering.clipWeight(clip.source(), elapsed);
+        if (weight <= 0f) return;
+        if (overlays == overlayClips.length) {
+            int grown = overlays * 2;
+            overlayClips = Arrays.copyOf(overlayClips, grown);
+            overlayTimes = Arrays.copyOf(overlayTimes, grown);
+            overlayWeights = Arrays.copyOf(overlayWeights, grown);
+        }
+        overlayClips[overlays] = clip;
+        overlayTimes[overlays] = AnimSampler.wrapTime(elapsed, clip.duration(), clip.loop());
+        overlayWeights[overlays] = weight;
+        overlays++;
+        firstOverlays[entities] = overlays;
+    }
+
+    public int entityCount() {
+        return entities;
+    }
+
+    /** First {@link PoseBuffer} slot of entity {@code entity}; its parts follow in rig order. */
+    public int firstSlot(int entity) {
+        return firstSlots[entity];
+    }
+
+    /** Evaluate every entity in the batch into {@code out}, replacing its contents. */
+    public void evaluate(PoseBuffer out) {
+        out.reset(slots);
+        for (int e = 0; e < entities; e++) {
+            int from = firstOverlays[e];
+            int to = firstOverlays[e + 1];
+            sortByPriority(from, to);
+            evaluateEntity(e, from, to, out);
+        }
+    }
+
+    private void evaluateEntity(int e, int overlayFrom, int overlayTo, PoseBuffer out) {
+        AnimRig rig = rigs[e];
+        float[] rest = rig.restPoses();
+        BakedAnimClip base = baseClips[e];
+        int[] baseBinding = base != null ? rig.baseBinding(base) : null;
+        int slot = firstSlots[e];
+        for (int p = 0; p < rig.partCount(); p++, slot++) {
+            int track = baseBinding != null ? baseBinding[p] : -1;
+            if (track >= 0) {
+                base.sample(track, baseTimes[e], scratch, 0);
+                out.set(slot, scratch, 0, true);
+            } else if (track == BakedAnimClip.EMPTY_TRACK) {
+                // Sampled alone, an empty track is the identity pose; blendPart starts it from rest.
+                if (overlayTo > overlayFrom) {
+                    out.set(slot, rest, p * BakedAnimClip.FRAME_STRIDE, true);
+                } else {
+                    out.set(slot, IDENTITY, 0, true);
+                }
+            } else {
+                out.set(slot, rest, p * BakedAnimClip.FRAME_STRIDE, false);
+            }
+        }
+        for (int o = overlayFrom; o < overlayTo; o++) {
+            BakedAnimClip clip = overlayClips[o];
+            int[] binding = rig.overlayBinding(clip);
+            float w = Math.min(overlayWeights[o], 1f);
+            slot = firstSlots[e];
+            for (int p = 0; p < binding.length; p++, slot++) {
+                if (binding[p] < 0) continue;
+                clip.sample(binding[p], overlayTimes[o], scratch, 0);
+                out.blend(slot, scratch, 0, w);
+            }
+        }
+    }
+
+    /** Stable insertion sort of one entity's overlays by ascending priority — a handful at most. */
+    private void sortByPriority(int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            BakedAnimClip clip = overlayClips[i];
+            float time = overlayTimes[i];
+            float weight = overlayWeights[i];
+            int priority = clip.layer().priority();
+            int j = i - 1;
+            while (j >= from && overlayClips[j].layer().priority() > priority) {
+                overlayClips[j + 1] = overlayClips[j];
+                overlayTimes[j + 1] = overlayTimes[j];
+                overlayWeights[j + 1] = overlayWeights[j];
+                j--;
+            }
+            overlayClips[j + 1] = clip;
+            overlayTimes[j + 1] = time;
+            overlayWeights[j + 1] = weight;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.openmason.engine.format.oma;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The part list of one model as {@link AnimBatch} sees it: part ids, part
+ * names and rest poses, plus each baked clip's track binding resolved once
+ * and cached.
+ *
+ * <p>A binding maps part index to the clip's track index, or {@code -1}. The
+ * base binding follows {@link BakedAnimClip#baseTrackIndex} and may hold
+ * {@link BakedAnimClip#EMPTY_TRACK}; the overlay binding follows
+ * {@link BakedAnimClip#trackIndex} and also applies the clip's
+ * {@link AnimLayerMeta#masksPart mask}, so parts outside it bind to nothing. Resolving these by string comparison is the costly part of
+ * layering; after the first frame a clip's bindings are a map lookup.
+ *
+ * <p>Build one per model at load time. Safe to share between threads.
+ */
+public final class AnimRig {
+
+    private final String[] partIds;
+    private final String[] partNames;
+    private final float[] restPoses;
+    private final Map<BakedAnimClip, int[]> baseBindings = new ConcurrentHashMap<>();
+    private final Map<BakedAnimClip, int[]> overlayBindings = new ConcurrentHashMap<>();
+
+    /**
+     * @param partIds   part ids, in part order
+     * @param partNames part names, in part order (entries may be null)
+     * @param restPoses {@link BakedAnimClip#FRAME_STRIDE} floats per part:
+     *                  rest position xyz, rotation xyz (degrees), scale xyz
+     * @throws IllegalArgumentException if the array lengths disagree
+     */
+    public AnimRig(String[] partIds, String[] partNames, float[] restPoses) {
+        if (partNames.length != partIds.length
+                || restPoses.length != partIds.length * BakedAnimClip.FRAME_STRIDE) {
+            throw new IllegalArgumentException("Part arrays disagree: " + partIds.length + " ids, "
+                    + partNames.length + " names, " + restPoses.length + " rest floats");
+        }
+        this.partIds = partIds.clone();
+        this.partNames = partNames.clone();
+        this.restPoses = restPoses.clone();
+    }
+
+    public int partCount() {
+        return partIds.length;
+    }
+
+    /** Rest poses, {@link BakedAnimClip#FRAME_STRIDE} floats per part. Read-only. */
+    float[] restPoses() {
+        return restPoses;
+    }
+
+    /** Track index per part of {@code clip} played as the base clip. */
+    int[] baseBinding(BakedAnimClip clip) {
+        int[] binding = baseBindings.get(clip);
+        if (binding == null) {
+            binding = bind(clip, false);
+            baseBindings.putIfAbsent(clip, binding);
+        }
+        return binding;
+    }
+
+    /** Track index per part of {@code clip} played as an overlay; unmasked parts are {@code -1}. */
+    int[] overlayBinding(BakedAnimClip clip) {
+        int[] binding = overlayBindings.get(clip);
+        if (binding == null) {
+            binding = bind(clip, true);
+            overlayBindings.putIfAbsent(clip, binding);
+        }
+        return binding;
+    }
+
+    private int[] bind(BakedAnimClip clip, boolean masked) {
+        int[] binding = new int[partIds.length];
+        for (int p = 0; p < partIds.length; p++) {
+            if (!masked) {
+                binding[p] = clip.baseTrackIndex(partIds[p], partNames[p]);
+            } else {
+                binding[p] = clip.layer().masksPart(partIds[p], partNames[p])
+                        ? clip.trackIndex(partIds[p], partNames[p])
+                        : -1;
+            }
+        }
+        return binding;
+    }
+}
@@ -0,0 +1,208 @@
+package com.openmason.engine.format.oma;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link ParsedAnimClip} resampled at load time into one flat float table,
+ * for the allocation-free evaluation path ({@link AnimBatch}).
+ *
+ * <p>Every non-empty track is sampled through {@link AnimSampler#sample} at
+ * evenly spaced frames spanning {@code [0, duration]}, so keyframe easing is
+ * baked in. A frame is nine floats — position xyz, rotation xyz (degrees),
+ * scale xyz — and the table holds all frames of track 0, then track 1, and so
+ * on. Sampling at runtime is an index computation and a lerp between two
+ * neighbouring frames (shortest-path for rotation), with no keyframe search,
+ * no easing lookup and no objects.
+ *
+ * <p>The frame spacing is {@code duration / (frames - 1)} with
+ * {@code frames = ceil(duration * sampleRate) + 1}, so the clip's last instant
+ * is always a frame and the effective rate is never below the requested one.
+ * Empty tracks get no frames but stay known by id and name, because the
+ * keyframed rules tell "no track" and "an empty track" apart.
+ *
+ * <p>Immutable and safe to share between threads.
+ */
+public final class BakedAnimClip {
+
+    /** Floats per baked frame: position xyz, rotation xyz (degrees), scale xyz. */
+    public static final int FRAME_STRIDE = 9;
+
+    /**
+     * Default bake rate. Above any authoring rate in use, so the resampled
+     * curve stays within a fraction of a degree of the keyframed one.
+     */
+    public static final float DEFAULT_SAMPLE_RATE = 60f;
+
+    /** {@link #baseTrackIndex} result for a part whose base track exists but has no keyframes. */
+    public static final int EMPTY_TRACK = -2;
+
+    private final ParsedAnimClip source;
+    private final String[] partIds;
+    private final String[] partNames;
+    private final int[] rows;
+    private final int trackCount;
+    private final int frames;
+    private final float framesPerSecond;
+    private final float[] table;
+
+    private BakedAnimClip(ParsedAnimClip source, String[] partIds, String[] partNames, int[] rows,
+                          int trackCount, int frames, float framesPerSecond, float[] table) {
+        this.source = source;
+        this.partIds = partIds;
+        this.partNames = partNames;
+        this.rows = rows;
+        this.trackCount = trackCount;
+        this.frames = frames;
+        this.framesPerSecond = framesPerSecond;
+        this.table = table;
+    }
+
+    /** Bake {@code clip} at {@link #DEFAULT_SAMPLE_RATE}. */
+    public static BakedAnimClip bake(ParsedAnimClip clip) {
+        return bake(clip, DEFAULT_SAMPLE_RATE);
+    }
+
+    /**
+     * Bake {@code clip} at {@code sampleRate} frames per second.
+     *
+     * @throws IllegalArgumentException if {@code sampleRate} is not positive
+     */
+    public static BakedAnimClip bake(ParsedAnimClip clip, float sampleRate) {
+        if (!(sampleRate > 0f)) {
+            throw new IllegalArgumentException("sampleRate must be positive: " + sampleRate);
+        }
+        float duration = Math.max(clip.duration(), 0f);
+        int frames = duration > 0f ? (int) Math.ceil(duration * sampleRate) + 1 : 1;
+        float step = frames > 1 ? duration / (frames - 1) : 0f;
+
+        List<ParsedAnimTrack> tracks = clip.tracks();
+        String[] partIds = new String[tracks.size()];
+        String[] partNames = new String[tracks.size()];
+        int[] rows = new int[tracks.size()];
+        int baked = 0;
+        for (int t = 0; t < tracks.size(); t++) {
+            partIds[t] = tracks.get(t).partId();
+            partNames[t] = tracks.get(t).partName();
+            rows[t] = tracks.get(t).isEmpty() ? -1 : baked++;
+        }
+        float[] table = new float[baked * frames * FRAME_STRIDE];
+        int at = 0;
+        for (ParsedAnimTrack track : tracks) {
+            if (track.isEmpty()) continue;
+            for (int f = 0; f < frames; f++) {
+                // The last frame lands exactly on the clip's end, not a rounding short of it.
+                float time = f == frames - 1 ? duration : f * step;
+                AnimSampler.PartPose pose = AnimSampler.sample(track, time);
+                table[at++] = pose.position().x;
+                table[at++] = pose.position().y;
+                table[at++] = pose.position().z;
+                table[at++] = pose.rotationDeg().x;
+                table[at++] = pose.rotationDeg().y;
+                table[at++] = pose.rotationDeg().z;
+                table[at++] = pose.scale().x;
+                table[at++] = pose.scale().y;
+                table[at++] = pose.scale().z;
+            }
+        }
+        return new BakedAnimClip(clip, partIds, partNames, rows, baked, frames,
+                frames > 1 ? (frames - 1) / duration : 0f, table);
+    }
+
+    /** The clip this was baked from. */
+    public ParsedAnimClip source() {
+        return source;
+    }
+
+    public float duration() {
+        return source.duration();
+    }
+
+    public boolean loop() {
+        return source.loop();
+    }
+
+    public AnimLayerMeta layer() {
+        return source.layer();
+    }
+
+    /** Number of baked (non-empty) tracks. */
+    public int trackCount() {
+        return trackCount;
+    }
+
+    /** Frames per track. */
+    public int frameCount() {
+        return frames;
+    }
+
+    /**
+     * Index of the baked track driving a part played as an overlay — the
+     * first track by id, then the first by name case-insensitively, the rebind
+     * rule {@link AnimLayering} uses — or {@code -1} when the clip does not
+     * animate it. A part whose matching track is empty is not animated.
+     */
+    public int trackIndex(String partId, String partName) {
+        if (partId != null) {
+            for (int t = 0; t < partIds.length; t++) {
+                if (partId.equals(partIds[t])) return rows[t];
+            }
+        }
+        if (partName != null) {
+            for (int t = 0; t < partNames.length; t++) {
+                if (partName.equalsIgnoreCase(partNames[t])) return rows[t];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Index of the baked track driving a part played as the base clip, by the
+     * entity renderers' rule: the last track with the part's id (as
+     * {@link ParsedAnimClip#trackByPartId} keeps it), then the first whose name
+     * matches exactly. {@link #EMPTY_TRACK} when that track has no keyframes,
+     * {@code -1} when nothing matches.
+     */
+    public int baseTrackIndex(String partId, String partName) {
+        for (int t = partIds.length - 1; t >= 0; t--) {
+            if (Objects.equals(partId, partIds[t])) return rows[t] >= 0 ? rows[t] : EMPTY_TRACK;
+        }
+        if (partName != null) {
+            for (int t = 0; t < partNames.length; t++) {
+                if (partName.equals(partNames[t])) return rows[t] >= 0 ? rows[t] : EMPTY_TRACK;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Write the pose of {@code track} at clip time {@code time} (already
+     * wrapped; clamped to {@code [0, duration]} here) into
+     * {@code out[offset .. offset + FRAME_STRIDE)}.
+     */
+    public void sample(int track, float time, float[] out, int offset) {
+        int base = track * frames * FRAME_STRIDE;
+        float f = time * framesPerSecond;
+        if (frames == 1 || !(f > 0f)) {
+            System.arraycopy(table, base, out, offset, FRAME_STRIDE);
+            return;
+        }
+        if (f >= frames - 1) {
+            System.arraycopy(table, base + (frames - 1) * FRAME_STRIDE, out, offset, FRAME_STRIDE);
+            return;
+        }
+        int i = (int) f;
+        float u = f - i;
+        int a = base + i * FRAME_STRIDE;
+        int b = a + FRAME_STRIDE;
+        for (int c = 0; c < 3; c++) {
+            out[offset + c] = table[a + c] + (table[b + c] - table[a + c]) * u;
+        }
+        for (int c = 3; c < 6; c++) {
+            out[offset + c] = AnimSampler.lerpAngleDeg(table[a + c], table[b + c], u);
+        }
+        for (int c = 6; c < 9; c++) {
+            out[offset + c] = table[a + c] + (table[b + c] - table[a + c]) * u;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.openmason.engine.format.oma;
+
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays output of {@link AnimBatch#evaluate}: one slot per
+ * part of every entity in the batch, each component in its own array.
+ *
+ * <p>A slot holds the part's final local pose (position, rotation in
+ * degrees, scale) and whether anything animated it. An un-animated slot
+ * holds the rest pose, so a consumer that wants the pose unconditionally can
+ * read it, and one with a cheaper rest-pose path can branch on
+ * {@link #animated}.
+ *
+ * <p>Arrays only grow, so a buffer reused frame to frame stops allocating
+ * once it has seen the largest batch. Not thread-safe.
+ */
+public final class PoseBuffer {
+
+    private float[] px = new float[0];
+    private float[] py = new float[0];
+    private float[] pz = new float[0];
+    private float[] rx = new float[0];
+    private float[] ry = new float[0];
+    private float[] rz = new float[0];
+    private float[] sx = new float[0];
+    private float[] sy = new float[0];
+    private float[] sz = new float[0];
+    private boolean[] animated = new boolean[0];
+    private int size;
+
+    /** Resize to {@code slots} slots, growing the arrays if needed. Contents are unspecified. */
+    void reset(int slots) {
+        if (slots > px.length) {
+            int capacity = Math.max(slots, px.length * 2);
+            px = Arrays.copyOf(px, capacity);
+            py = Arrays.copyOf(py, capacity);
+            pz = Arrays.copyOf(pz, capacity);
+            rx = Arrays.copyOf(rx, capacity);
+            ry = Arrays.copyOf(ry, capacity);
+            rz = Arrays.copyOf(rz, capacity);
+            sx = Arrays.copyOf(sx, capacity);
+            sy = Arrays.copyOf(sy, capacity);
+            sz = Arrays.copyOf(sz, capacity);
+            animated = Arrays.copyOf(animated, capacity);
+        }
+        size = slots;
+    }
+
+    /** Write one slot from a {@link BakedAnimClip#FRAME_STRIDE}-float pose at {@code src[offset]}. */
+    void set(int slot, float[] src, int offset, boolean isAnimated) {
+        px[slot] = src[offset];
+        py[slot] = src[offset + 1];
+        pz[slot] = src[offset + 2];
+        rx[slot] = src[offset + 3];
+        ry[slot] = src[offset + 4];
+        rz[slot] = src[offset + 5];
+        sx[slot] = src[offset + 6];
+        sy[slot] = src[offset + 7];
+        sz[slot] = src[offset + 8];
+        animated[slot] = isAnimated;
+    }
+
+    /**
+     * Blend slot {@code slot} toward the pose at {@code src[offset]} by
+     * {@code w}, with {@link AnimSampler#lerpPose} semantics: {@code w >= 1}
+     * takes the new pose outright, rotation takes the shortest path. Marks the
+     * slot animated.
+     */
+    void blend(int slot, float[] src, int offset, float w) {
+        if (w >= 1f) {
+            set(slot, src, offset, true);
+            return;
+        }
+        px[slot] += (src[offset] - px[slot]) * w;
+        py[slot] += (src[offset + 1] - py[slot]) * w;
+        pz[slot] += (src[offset + 2] - pz[slot]) * w;
+        rx[slot] = AnimSampler.lerpAngleDeg(rx[slot], src[offset + 3], w);
+        ry[slot] = AnimSampler.lerpAngleDeg(ry[slot], src[offset + 4], w);
+        rz[slot] = AnimSampler.lerpAngleDeg(rz[slot], src[offset + 5], w);
+        sx[slot] += (src[offset + 6] - sx[slot]) * w;
+        sy[slot] += (src[offset + 7] - sy[slot]) * w;
+        sz[slot] += (src[offset + 8] - sz[slot]) * w;
+        animated[slot] = true;
+    }
+
+    /** Number of slots written by the last evaluation. */
+    public int size() {
+        return size;
+    }
+
+    /** Whether the base clip or an overlay drove this slot; otherwise it holds the rest pose. */
+    public boolean animated(int slot) {
+        return animated[slot];
+    }
+
+    public float positionX(int slot) {
+        return px[slot];
+    }
+
+    public float positionY(int slot) {
+        return py[slot];
+    }
+
+    public float positionZ(int slot) {
+        return pz[slot];
+    }
+
+    public float rotationX(int slot) {
+        return rx[slot];
+    }
+
+    public float rotationY(int slot) {
+        return ry[slot];
+    }
+
+    public float rotationZ(int slot) {
+        return rz[slot];
+    }
+
+    public float scaleX(int slot) {
+        return sx[slot];
+    }
+
+    public float scaleY(int slot) {
+        return sy[slot];
+    }
+
+    public float scaleZ(int slot) {
+        return sz[slot];
+    }
+}
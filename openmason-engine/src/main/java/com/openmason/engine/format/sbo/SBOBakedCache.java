@@ -0,0 +1,204 @@
+package com.openmason.engine.format.sbo;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Content-hashed cache of decoded SBO files, so a boot whose assets have not
+ * changed skips ZIP inflation, manifest JSON and embedded-OMO decoding.
+ *
+ * <p>One cache file holds every entry of one asset folder:
+ * <pre>
+ *   int magic "SBOB", int {@link #VERSION}, int entryCount
+ *   per entry: name (UTF-8, int length), 32-byte SHA-256 of the source .sbo,
+ *              int payloadLength, payload ({@link SBOBakedCodec})
+ * </pre>
+ * The file is memory-mapped on {@link #open}; only entry headers are read up
+ * front, payloads are decoded from the mapping when looked up. An entry is
+ * used only when the source's current hash matches the one it was baked from,
+ * so editing, replacing or renaming an asset simply misses and re-parses.
+ *
+ * <p>{@link #get} and {@link #put} are safe from loader threads. {@link #save}
+ * rewrites the file with exactly the entries used this run (hits and fresh
+ * bakes), which also drops assets that were deleted; it does nothing when every
+ * lookup hit. A missing, truncated or foreign file reads as empty.
+ */
+public final class SBOBakedCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SBOBakedCache.class);
+
+    /** Format revision; bump whenever {@link SBOBakedCodec} or the records it encodes change. */
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x53424F42; // "SBOB"
+    private static final int HASH_BYTES = 32;
+
+    private final Path file;
+    /** Entries read from the file, by source name. */
+    private final Map<String, Entry> stored;
+    /** Entries to write back: hits plus fresh bakes. */
+    private final Map<String, Entry> live = new ConcurrentHashMap<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    private SBOBakedCache(Path file, Map<String, Entry> stored) {
+        this.file = file;
+        this.stored = stored;
+    }
+
+    /** Opens the cache at {@code file}; a missing or unreadable file yields an empty cache. */
+    public static SBOBakedCache open(Path file) {
+        return new SBOBakedCache(file, readIndex(file));
+    }
+
+    /** SHA-256 of a source file's bytes, the key an entry must match. */
+    public static byte[] hash(byte[] sourceBytes) {
+        try {
+            return MessageDigest.getInstance(SBOFormat.CHECKSUM_ALGORITHM).digest(sourceBytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(SBOFormat.CHECKSUM_ALGORITHM + " not available", e);
+        }
+    }
+
+    /**
+     * The cached parse of {@code name}, or null when there is none for this
+     * exact source hash (or the entry fails to decode).
+     */
+    public SBOParseResult get(String name, byte[] sourceHash) {
+        Entry entry = stored.get(name);
+        if (entry == null || !Arrays.equals(entry.hash, sourceHash)) {
+            misses.incrementAndGet();
+            return null;
+        }
+        try {
+            SBOParseResult result = SBOBakedCodec.decode(entry.payload.duplicate());
+            live.put(name, entry);
+            hits.incrementAndGet();
+            return result;
+        } catch (IOException e) {
+            logger.warn("Discarding unreadable baked entry '{}' in {}", name, file, e);
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /** Bakes a fresh parse for the next boot. */
+    public void put(String name, byte[] sourceHash, SBOParseResult result) {
+        try {
+            live.put(name, new Entry(sourceHash.clone(), ByteBuffer.wrap(SBOBakedCodec.encode(result))));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not bake SBO '{}'; it will be parsed again next boot", name, e);
+        }
+    }
+
+    public int hits() {
+        return hits.get();
+    }
+
+    public int misses() {
+        return misses.get();
+    }
+
+    /**
+     * Writes the entries used this run, when they differ from the file's. The
+     * file is replaced atomically; failures are logged, never thrown — the
+     * cache is an optimization and the sources stay authoritative.
+     */
+    public void save() {
+        if (live.size() == stored.size() && hits.get() == stored.size() && misses.get() == 0) {
+            return; // every stored entry was used unchanged
+        }
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Map<String, Entry> sorted = new TreeMap<>(live);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(sorted.size());
+                for (Map.Entry<String, Entry> e : sorted.entrySet()) {
+                    byte[] name = e.getKey().getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(name.length);
+                    out.write(name);
+                    out.write(e.getValue().hash);
+                    ByteBuffer payload = e.getValue().payload.duplicate();
+                    out.writeInt(payload.remaining());
+                    byte[] bytes = new byte[payload.remaining()];
+                    payload.get(bytes);
+                    out.write(bytes);
+                }
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            logger.debug("Wrote {} baked SBO entries to {}", sorted.size(), file);
+        } catch (IOException e) {
+            // e.g. Windows refuses to replace a file that is still mapped; next boot re-bakes.
+            logger.warn("Could not write SBO bake cache {}", file, e);
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {
+                // best effort
+            }
+        }
+    }
+
+    private static Map<String, Entry> readIndex(Path file) {
+        Map<String, Entry> index = new HashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return index;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel closes.
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (map.remaining() < 12 || map.getInt() != MAGIC || map.getInt() != VERSION) {
+                logger.info("Ignoring SBO bake cache {} (missing header or older version)", file);
+                return index;
+            }
+            int count = map.getInt();
+            for (int i = 0; i < count; i++) {
+                byte[] name = new byte[map.getInt()];
+                map.get(name);
+                byte[] hash = new byte[HASH_BYTES];
+                map.get(hash);
+                int length = map.getInt();
+                ByteBuffer payload = map.slice(map.position(), length);
+                map.position(map.position() + length);
+                index.put(new String(name, StandardCharsets.UTF_8), new Entry(hash, payload));
+            }
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException
+                 | IllegalArgumentException | NegativeArraySizeException e) {
+            logger.warn("Ignoring unreadable SBO bake cache {}", file, e);
+            index.clear();
+        }
+        return index;
+    }
+
+    /** One baked entry: the source hash it was built from and its encoded payload. */
+    private record Entry(byte[] hash, ByteBuffer payload) {
+    }
+}
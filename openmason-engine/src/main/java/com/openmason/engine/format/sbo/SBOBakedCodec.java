@@ -0,0 +1,567 @@
+package com.openmason.engine.format.sbo;
+
+import com.openmason.engine.format.mesh.ParsedFaceMapping;
+import com.openmason.engine.format.mesh.ParsedMaterialData;
+import com.openmason.engine.format.mesh.ParsedMeshData;
+import com.openmason.engine.format.omo.OMOFormat;
+import com.openmason.engine.format.omo.OMOReader;
+import com.openmason.engine.format.sound.SoundData;
+import com.openmason.engine.format.sound.SoundDef;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flat binary form of a {@link SBOParseResult} for {@link SBOBakedCache}: the
+ * manifest, resolved mesh, face mappings, materials and every embedded byte
+ * blob, written field by field in declaration order. Decoding reads straight
+ * from a (memory-mapped) {@link ByteBuffer} — no ZIP, no JSON, no OMO.
+ *
+ * <p>Encoding: big-endian primitives; strings are a UTF-8 byte length
+ * ({@code -1} = null) then the bytes; arrays and lists are a count
+ * ({@code -1} = null) then the elements; nullable records are a presence byte
+ * then the fields. Bump {@link SBOBakedCache#VERSION} whenever this layout or
+ * any of the encoded records change.
+ */
+final class SBOBakedCodec {
+
+    private SBOBakedCodec() {
+    }
+
+    // ===== Encode =====
+
+    static byte[] encode(SBOParseResult result) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeManifest(out, result.manifest());
+        writeOmoDocument(out, result.omoDocument());
+        writeMesh(out, result.meshData());
+        writeFaceMappings(out, result.faceMappings());
+        writeMaterials(out, result.materials());
+        writeBytes(out, result.defaultTexturePng());
+        writeBytes(out, result.embeddedOmtBytes());
+        writeByteMap(out, result.stateOmoBytes());
+        writeByteMap(out, result.stateOmtBytes());
+        out.writeInt(result.stateOmoData().size());
+        for (Map.Entry<String, OMOReader.ReadResult> e : result.stateOmoData().entrySet()) {
+            writeString(out, e.getKey());
+            writeReadResult(out, e.getValue());
+        }
+        writeByteMap(out, result.stateClipBytes());
+        writeByteMap(out, result.soundBytes());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeManifest(DataOutputStream out, SBOFormat.Document d) throws IOException {
+        writeString(out, d.version());
+        writeString(out, d.objectId());
+        writeString(out, d.objectName());
+        writeString(out, d.objectType());
+        writeString(out, d.objectPack());
+        writeString(out, d.checksum());
+        writeString(out, d.author());
+        writeString(out, d.description());
+        writeString(out, d.createdAt());
+        writeString(out, d.omoFilename());
+        writeString(out, d.textureFilename());
+
+        SBOFormat.GameProperties gp = d.gameProperties();
+        out.writeBoolean(gp != null);
+        if (gp != null) {
+            out.writeInt(gp.numericId());
+            out.writeFloat(gp.hardness());
+            out.writeBoolean(gp.solid());
+            out.writeBoolean(gp.breakable());
+            out.writeInt(gp.atlasX());
+            out.writeInt(gp.atlasY());
+            writeString(out, gp.renderLayer());
+            out.writeBoolean(gp.transparent());
+            out.writeBoolean(gp.flower());
+            out.writeBoolean(gp.stackable());
+            out.writeInt(gp.maxStackSize());
+            writeString(out, gp.category());
+            out.writeBoolean(gp.placeable());
+        }
+
+        out.writeInt(d.states().size());
+        for (SBOFormat.StateEntry e : d.states()) {
+            writeString(out, e.name());
+            writeString(out, e.filename());
+            out.writeBoolean(e.model());
+            writeString(out, e.checksum());
+            SBOFormat.AnimationRef a = e.animation();
+            out.writeBoolean(a != null);
+            if (a != null) {
+                writeString(out, a.filename());
+                writeString(out, a.checksum());
+                writeString(out, a.clipName());
+                out.writeFloat(a.duration());
+                out.writeFloat(a.fps());
+                out.writeBoolean(a.loop());
+                writeStrings(out, a.requiredParts());
+            }
+        }
+        writeString(out, d.defaultStateName());
+
+        out.writeBoolean(d.recipes() != null);
+        if (d.recipes() != null) {
+            out.writeInt(d.recipes().shaped().size());
+            for (SBOFormat.ShapedRecipe r : d.recipes().shaped()) {
+                out.writeInt(r.width());
+                out.writeInt(r.height());
+                writeStrings(out, r.pattern());
+                out.writeInt(r.outputCount());
+            }
+        }
+        out.writeBoolean(d.smeltingRecipes() != null);
+        if (d.smeltingRecipes() != null) {
+            out.writeInt(d.smeltingRecipes().recipes().size());
+            for (SBOFormat.SmeltingRecipeEntry r : d.smeltingRecipes().recipes()) {
+                writeString(out, r.inputObjectId());
+                out.writeInt(r.outputCount());
+            }
+        }
+        out.writeInt(d.fuel() != null ? d.fuel().burnTicks() : 0);
+
+        out.writeBoolean(d.sounds() != null);
+        if (d.sounds() != null) {
+            out.writeInt(d.sounds().sounds().size());
+            for (SoundDef s : d.sounds().sounds()) {
+                writeString(out, s.event());
+                writeString(out, s.filename());
+                writeString(out, s.checksum());
+                writeString(out, s.resourcePath());
+                out.writeFloat(s.volume());
+                out.writeFloat(s.pitchMin());
+                out.writeFloat(s.pitchMax());
+                out.writeBoolean(s.variation());
+            }
+        }
+    }
+
+    private static void writeOmoDocument(DataOutputStream out, OMOFormat.Document d) throws IOException {
+        out.writeBoolean(d != null);
+        if (d == null) {
+            return;
+        }
+        writeString(out, d.version());
+        writeString(out, d.objectName());
+        writeString(out, d.modelType());
+        OMOFormat.GeometryData g = d.geometry();
+        out.writeInt(g.width());
+        out.writeInt(g.height());
+        out.writeInt(g.depth());
+        out.writeDouble(g.position().x());
+        out.writeDouble(g.position().y());
+        out.writeDouble(g.position().z());
+        writeString(out, d.textureFile());
+    }
+
+    private static void writeMesh(DataOutputStream out, ParsedMeshData m) throws IOException {
+        out.writeBoolean(m != null);
+        if (m == null) {
+            return;
+        }
+        writeFloats(out, m.vertices());
+        writeFloats(out, m.texCoords());
+        writeInts(out, m.indices());
+        writeInts(out, m.triangleToFaceId());
+        writeString(out, m.uvMode());
+    }
+
+    private static void writeFaceMappings(DataOutputStream out, List<ParsedFaceMapping> mappings)
+            throws IOException {
+        out.writeInt(mappings == null ? -1 : mappings.size());
+        if (mappings == null) {
+            return;
+        }
+        for (ParsedFaceMapping f : mappings) {
+            out.writeInt(f.faceId());
+            out.writeInt(f.materialId());
+            out.writeFloat(f.u0());
+            out.writeFloat(f.v0());
+            out.writeFloat(f.u1());
+            out.writeFloat(f.v1());
+            out.writeInt(f.uvRotationDegrees());
+            out.writeBoolean(f.autoResize());
+        }
+    }
+
+    private static void writeMaterials(DataOutputStream out, List<ParsedMaterialData> materials)
+            throws IOException {
+        out.writeInt(materials == null ? -1 : materials.size());
+        if (materials == null) {
+            return;
+        }
+        for (ParsedMaterialData m : materials) {
+            out.writeInt(m.materialId());
+            writeString(out, m.name());
+            writeString(out, m.textureFile());
+            writeBytes(out, m.texturePng());
+            writeString(out, m.renderLayer());
+            out.writeBoolean(m.emissive());
+            out.writeInt(m.tintColor());
+        }
+    }
+
+    private static void writeReadResult(DataOutputStream out, OMOReader.ReadResult r) throws IOException {
+        writeOmoDocument(out, r.document());
+        writeMesh(out, r.meshData());
+        writeFaceMappings(out, r.faceMappings());
+        writeMaterials(out, r.materials());
+        writeBytes(out, r.defaultTextureBytes());
+
+        out.writeInt(r.parts().size());
+        for (OMOFormat.PartEntry p : r.parts()) {
+            writeString(out, p.id());
+            writeString(out, p.name());
+            out.writeFloat(p.originX());
+            out.writeFloat(p.originY());
+            out.writeFloat(p.originZ());
+            out.writeFloat(p.posX());
+            out.writeFloat(p.posY());
+            out.writeFloat(p.posZ());
+            out.writeFloat(p.rotX());
+            out.writeFloat(p.rotY());
+            out.writeFloat(p.rotZ());
+            out.writeFloat(p.scaleX());
+            out.writeFloat(p.scaleY());
+            out.writeFloat(p.scaleZ());
+            out.writeInt(p.vertexStart());
+            out.writeInt(p.vertexCount());
+            out.writeInt(p.indexStart());
+            out.writeInt(p.indexCount());
+            out.writeInt(p.faceStart());
+            out.writeInt(p.faceCount());
+            out.writeBoolean(p.visible());
+            out.writeBoolean(p.locked());
+            writeString(out, p.parentId());
+            writeString(out, p.boneId());
+        }
+
+        out.writeInt(r.attachmentPoints().size());
+        for (OMOFormat.AttachmentPointEntry a : r.attachmentPoints()) {
+            writeString(out, a.id());
+            writeString(out, a.name());
+            writeString(out, a.parentPartId());
+            writeString(out, a.parentPartName());
+            out.writeFloat(a.posX());
+            out.writeFloat(a.posY());
+            out.writeFloat(a.posZ());
+            out.writeFloat(a.rotX());
+            out.writeFloat(a.rotY());
+            out.writeFloat(a.rotZ());
+            out.writeFloat(a.scaleX());
+            out.writeFloat(a.scaleY());
+            out.writeFloat(a.scaleZ());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        writeBytes(out, s == null ? null : s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> strings) throws IOException {
+        out.writeInt(strings.size());
+        for (String s : strings) {
+            writeString(out, s);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] b) throws IOException {
+        out.writeInt(b == null ? -1 : b.length);
+        if (b != null) {
+            out.write(b);
+        }
+    }
+
+    private static void writeByteMap(DataOutputStream out, Map<String, byte[]> map) throws IOException {
+        out.writeInt(map.size());
+        for (Map.Entry<String, byte[]> e : map.entrySet()) {
+            writeString(out, e.getKey());
+            writeBytes(out, e.getValue());
+        }
+    }
+
+    private static void writeFloats(DataOutputStream out, float[] a) throws IOException {
+        out.writeInt(a == null ? -1 : a.length);
+        if (a != null) {
+            for (float v : a) {
+                out.writeFloat(v);
+            }
+        }
+    }
+
+    private static void writeInts(DataOutputStream out, int[] a) throws IOException {
+        out.writeInt(a == null ? -1 : a.length);
+        if (a != null) {
+            for (int v : a) {
+                out.writeInt(v);
+            }
+        }
+    }
+
+    // ===== Decode =====
+
+    /**
+     * Decodes one entry. {@code in} is consumed from its position; a truncated
+     * or otherwise malformed entry surfaces as {@link IOException}.
+     */
+    static SBOParseResult decode(ByteBuffer in) throws IOException {
+        try {
+            SBOFormat.Document manifest = readManifest(in);
+            OMOFormat.Document omoDocument = readOmoDocument(in);
+            ParsedMeshData mesh = readMesh(in);
+            List<ParsedFaceMapping> faceMappings = readFaceMappings(in);
+            List<ParsedMaterialData> materials = readMaterials(in);
+            byte[] defaultTexturePng = readBytes(in);
+            byte[] embeddedOmtBytes = readBytes(in);
+            Map<String, byte[]> stateOmoBytes = readByteMap(in);
+            Map<String, byte[]> stateOmtBytes = readByteMap(in);
+            int stateCount = in.getInt();
+            Map<String, OMOReader.ReadResult> stateOmoData = new LinkedHashMap<>();
+            for (int i = 0; i < stateCount; i++) {
+                stateOmoData.put(readString(in), readReadResult(in));
+            }
+            Map<String, byte[]> stateClipBytes = readByteMap(in);
+            Map<String, byte[]> soundBytes = readByteMap(in);
+            return new SBOParseResult(manifest, omoDocument, mesh, faceMappings, materials,
+                    defaultTexturePng, embeddedOmtBytes, stateOmoBytes, stateOmtBytes,
+                    stateOmoData, stateClipBytes, soundBytes);
+        } catch (BufferUnderflowException | IllegalArgumentException | NullPointerException e) {
+            // Record constructors validate; a corrupt entry trips them or runs off the end.
+            throw new IOException("Malformed baked SBO entry", e);
+        }
+    }
+
+    private static SBOFormat.Document readManifest(ByteBuffer in) {
+        String version = readString(in);
+        String objectId = readString(in);
+        String objectName = readString(in);
+        String objectType = readString(in);
+        String objectPack = readString(in);
+        String checksum = readString(in);
+        String author = readString(in);
+        String description = readString(in);
+        String createdAt = readString(in);
+        String omoFilename = readString(in);
+        String textureFilename = readString(in);
+
+        SBOFormat.GameProperties gameProperties = null;
+        if (readBoolean(in)) {
+            gameProperties = new SBOFormat.GameProperties(
+                    in.getInt(), in.getFloat(), readBoolean(in), readBoolean(in),
+                    in.getInt(), in.getInt(), readString(in),
+                    readBoolean(in), readBoolean(in), readBoolean(in),
+                    in.getInt(), readString(in), readBoolean(in));
+        }
+
+        int stateCount = in.getInt();
+        List<SBOFormat.StateEntry> states = new ArrayList<>(stateCount);
+        for (int i = 0; i < stateCount; i++) {
+            String name = readString(in);
+            String filename = readString(in);
+            boolean model = readBoolean(in);
+            String stateChecksum = readString(in);
+            SBOFormat.AnimationRef animation = null;
+            if (readBoolean(in)) {
+                animation = new SBOFormat.AnimationRef(
+                        readString(in), readString(in), readString(in),
+                        in.getFloat(), in.getFloat(), readBoolean(in), readStrings(in));
+            }
+            states.add(new SBOFormat.StateEntry(name, filename, model, stateChecksum, animation));
+        }
+        String defaultStateName = readString(in);
+
+        SBOFormat.RecipeData recipes = null;
+        if (readBoolean(in)) {
+            int count = in.getInt();
+            List<SBOFormat.ShapedRecipe> shaped = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                shaped.add(new SBOFormat.ShapedRecipe(in.getInt(), in.getInt(), readStrings(in), in.getInt()));
+            }
+            recipes = new SBOFormat.RecipeData(shaped);
+        }
+        SBOFormat.SmeltingRecipeData smelting = null;
+        if (readBoolean(in)) {
+            int count = in.getInt();
+            List<SBOFormat.SmeltingRecipeEntry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                entries.add(new SBOFormat.SmeltingRecipeEntry(readString(in), in.getInt()));
+            }
+            smelting = new SBOFormat.SmeltingRecipeData(entries);
+        }
+        int burnTicks = in.getInt();
+        SBOFormat.FuelData fuel = burnTicks > 0 ? new SBOFormat.FuelData(burnTicks) : null;
+
+        SoundData sounds = null;
+        if (readBoolean(in)) {
+            int count = in.getInt();
+            List<SoundDef> defs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                defs.add(new SoundDef(readString(in), readString(in), readString(in), readString(in),
+                        in.getFloat(), in.getFloat(), in.getFloat(), readBoolean(in)));
+            }
+            sounds = new SoundData(defs);
+        }
+
+        return new SBOFormat.Document(version, objectId, objectName, objectType, objectPack, checksum,
+                author, description, createdAt, omoFilename, textureFilename, gameProperties, states,
+                defaultStateName, recipes, smelting, fuel, sounds);
+    }
+
+    private static OMOFormat.Document readOmoDocument(ByteBuffer in) {
+        if (!readBoolean(in)) {
+            return null;
+        }
+        String version = readString(in);
+        String objectName = readString(in);
+        String modelType = readString(in);
+        OMOFormat.GeometryData geometry = new OMOFormat.GeometryData(in.getInt(), in.getInt(), in.getInt(),
+                new OMOFormat.Position(in.getDouble(), in.getDouble(), in.getDouble()));
+        return new OMOFormat.Document(version, objectName, modelType, geometry, readString(in));
+    }
+
+    private static ParsedMeshData readMesh(ByteBuffer in) {
+        if (!readBoolean(in)) {
+            return null;
+        }
+        return new ParsedMeshData(readFloats(in), readFloats(in), readInts(in), readInts(in), readString(in));
+    }
+
+    private static List<ParsedFaceMapping> readFaceMappings(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0) {
+            return null;
+        }
+        List<ParsedFaceMapping> mappings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            mappings.add(new ParsedFaceMapping(in.getInt(), in.getInt(),
+                    in.getFloat(), in.getFloat(), in.getFloat(), in.getFloat(),
+                    in.getInt(), readBoolean(in)));
+        }
+        return mappings;
+    }
+
+    private static List<ParsedMaterialData> readMaterials(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0) {
+            return null;
+        }
+        List<ParsedMaterialData> materials = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            materials.add(new ParsedMaterialData(in.getInt(), readString(in), readString(in),
+                    readBytes(in), readString(in), readBoolean(in), in.getInt()));
+        }
+        return materials;
+    }
+
+    private static OMOReader.ReadResult readReadResult(ByteBuffer in) {
+        OMOFormat.Document document = readOmoDocument(in);
+        ParsedMeshData mesh = readMesh(in);
+        List<ParsedFaceMapping> faceMappings = readFaceMappings(in);
+        List<ParsedMaterialData> materials = readMaterials(in);
+        byte[] defaultTexture = readBytes(in);
+
+        int partCount = in.getInt();
+        List<OMOFormat.PartEntry> parts = new ArrayList<>(partCount);
+        for (int i = 0; i < partCount; i++) {
+            parts.add(new OMOFormat.PartEntry(readString(in), readString(in),
+                    in.getFloat(), in.getFloat(), in.getFloat(),
+                    in.getFloat(), in.getFloat(), in.getFloat(),
+                    in.getFloat(), in.getFloat(), in.getFloat(),
+                    in.getFloat(), in.getFloat(), in.getFloat(),
+                    in.getInt(), in.getInt(), in.getInt(), in.getInt(), in.getInt(), in.getInt(),
+                    readBoolean(in), readBoolean(in), readString(in), readString(in)));
+        }
+
+        int attachmentCount = in.getInt();
+        List<OMOFormat.AttachmentPointEntry> attachments = new ArrayList<>(attachmentCount);
+        for (int i = 0; i < attachmentCount; i++) {
+            attachments.add(new OMOFormat.AttachmentPointEntry(readString(in), readString(in),
+                    readString(in), readString(in),
+                    in.getFloat(), in.getFloat(), in.getFloat(),
+                    in.getFloat(), in.getFloat(), in.getFloat(),
+                    in.getFloat(), in.getFloat(), in.getFloat()));
+        }
+        return new OMOReader.ReadResult(document, mesh, faceMappings, materials, defaultTexture,
+                parts, attachments);
+    }
+
+    private static boolean readBoolean(ByteBuffer in) {
+        return in.get() != 0;
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] b = readBytes(in);
+        return b == null ? null : new String(b, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readStrings(ByteBuffer in) {
+        int count = in.getInt();
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            strings.add(readString(in));
+        }
+        return strings;
+    }
+
+    private static byte[] readBytes(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] b = new byte[length];
+        in.get(b);
+        return b;
+    }
+
+    private static Map<String, byte[]> readByteMap(ByteBuffer in) {
+        int count = in.getInt();
+        Map<String, byte[]> map = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            map.put(readString(in), readBytes(in));
+        }
+        return map;
+    }
+
+    private static float[] readFloats(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if ((long) length * Float.BYTES > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        float[] a = new float[length];
+        in.asFloatBuffer().get(a);
+        in.position(in.position() + length * Float.BYTES);
+        return a;
+    }
+
+    private static int[] readInts(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if ((long) length * Integer.BYTES > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        int[] a = new int[length];
+        in.asIntBuffer().get(a);
+        in.position(in.position() + length * Integer.BYTES);
+        return a;
+    }
+}
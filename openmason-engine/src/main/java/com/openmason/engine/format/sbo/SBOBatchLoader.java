@@ -0,0 +1,118 @@
+package com.openmason.engine.format.sbo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads a folder's worth of SBO files at once: each file is read, hashed and
+ * either decoded from an {@link SBOBakedCache} or parsed (and baked) on a
+ * short-lived worker pool. Results come back in the order of {@code sources},
+ * so registries keep their discovery order and duplicate-id rules.
+ *
+ * <p>The cache is optional; pass null to parse everything.
+ */
+public final class SBOBatchLoader {
+
+    /**
+     * Outcome for one source: exactly one of {@code result} and {@code error}
+     * is non-null. {@code cached} is true when the result came from the bake.
+     */
+    public record Loaded(Path source, SBOParseResult result, IOException error, boolean cached) {
+    }
+
+    private SBOBatchLoader() {
+    }
+
+    /**
+     * Loads every source on up to {@code parallelism} threads. Does not save
+     * the cache; callers do that once they have the results.
+     */
+    public static List<Loaded> loadAll(List<Path> sources, SBOBakedCache cache, int parallelism) {
+        List<Loaded> loaded = new ArrayList<>(sources.size());
+        int threads = Math.max(1, Math.min(parallelism, sources.size()));
+        LazyParser parser = new LazyParser();
+        if (threads == 1) {
+            for (Path source : sources) {
+                loaded.add(load(source, cache, parser));
+            }
+            return loaded;
+        }
+
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "SBO-Loader-" + threadIds.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<Loaded>> futures = new ArrayList<>(sources.size());
+            for (Path source : sources) {
+                futures.add(pool.submit(() -> load(source, cache, parser)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                loaded.add(await(futures.get(i), sources.get(i)));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return loaded;
+    }
+
+    private static Loaded load(Path source, SBOBakedCache cache, LazyParser parser) {
+        try {
+            byte[] bytes = Files.readAllBytes(source);
+            String name = source.getFileName().toString();
+            byte[] hash = cache != null ? SBOBakedCache.hash(bytes) : null;
+            if (cache != null) {
+                SBOParseResult baked = cache.get(name, hash);
+                if (baked != null) {
+                    return new Loaded(source, baked, null, true);
+                }
+            }
+            SBOParseResult parsed = parser.get().parse(bytes, source.toString());
+            if (cache != null) {
+                cache.put(name, hash, parsed);
+            }
+            return new Loaded(source, parsed, null, false);
+        } catch (IOException e) {
+            return new Loaded(source, null, e, false);
+        } catch (RuntimeException e) {
+            // Manifest records reject malformed values with unchecked exceptions.
+            return new Loaded(source, null, new IOException("Invalid SBO: " + source, e), false);
+        }
+    }
+
+    private static Loaded await(Future<Loaded> future, Path source) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Loaded(source, null, new IOException("Interrupted loading " + source, e), false);
+        } catch (ExecutionException e) {
+            return new Loaded(source, null, new IOException("Failed loading " + source, e.getCause()), false);
+        }
+    }
+
+    /**
+     * Builds the parser (and its JSON mapper, a noticeable share of a cold
+     * boot) only once something misses the cache.
+     */
+    private static final class LazyParser {
+        private SBOParser parser;
+
+        synchronized SBOParser get() {
+            if (parser == null) {
+                parser = new SBOParser();
+            }
+            return parser;
+        }
+    }
+}
@@ -48,14 +48,31 @@ public class SBOParser {
         if (!Files.exists(sboPath)) {
             throw new IOException("SBO file does not exist: " + sboPath);
         }
+        try (InputStream fis = Files.newInputStream(sboPath)) {
+            return parse(fis, sboPath.toString());
+        }
+    }
 
+    /**
+     * Parse SBO bytes already in memory (e.g. read once to be hashed for the
+     * {@link SBOBakedCache}).
+     *
+     * @param sboBytes the whole .sbo file
+     * @param source   file name or path, used in log and error messages
+     * @return complete parse result
+     * @throws IOException if parsing fails
+     */
+    public SBOParseResult parse(byte[] sboBytes, String source) throws IOException {
+        return parse(new ByteArrayInputStream(sboBytes), source);
+    }
+
+    private SBOParseResult parse(InputStream in, String sboPath) throws IOException {
         SBOFormat.Document manifest = null;
         byte[] omoBytes = null;
         byte[] omtBytes = null;
         Map<String, byte[]> rawEntries = new HashMap<>();
 
-        try (InputStream fis = Files.newInputStream(sboPath);
-             ZipInputStream zis = new ZipInputStream(fis)) {
+        try (ZipInputStream zis = new ZipInputStream(in)) {
 
             ZipEntry entry;
             while ((entry = zis.getNextEntry()) != null) {
@@ -153,7 +170,7 @@ public class SBOParser {
      */
     private Map<String, byte[]> extractSoundBytes(SBOFormat.Document manifest,
                                                   Map<String, byte[]> rawEntries,
-                                                  Path sboPath) throws IOException {
+                                                  String sboPath) throws IOException {
         if (!manifest.hasSounds()) {
             return Collections.emptyMap();
         }
@@ -171,7 +188,7 @@ public class SBOParser {
         return soundBytes;
     }
 
-    private SBOParseResult parseModelBearing(SBOFormat.Document manifest, byte[] omoBytes, Path sboPath,
+    private SBOParseResult parseModelBearing(SBOFormat.Document manifest, byte[] omoBytes, String sboPath,
                                               Map<String, byte[]> stateOmoBytes,
                                               Map<String, byte[]> stateOmtBytes,
                                               Map<String, OMOReader.ReadResult> stateOmoData,
@@ -207,13 +224,13 @@ public class SBOParser {
         );
     }
 
-    private void validateNamedChecksum(String label, String expected, byte[] data, Path sboPath) {
+    private void validateNamedChecksum(String label, String expected, byte[] data, String sboPath) {
         try {
             MessageDigest digest = MessageDigest.getInstance(SBOFormat.CHECKSUM_ALGORITHM);
             String computed = HexFormat.of().formatHex(digest.digest(data));
             if (!computed.equalsIgnoreCase(expected)) {
                 logger.warn("SBO state '{}' checksum mismatch in {}: expected={}, computed={}",
-                        label, sboPath.getFileName(), expected, computed);
+                        label, fileName(sboPath), expected, computed);
             }
         } catch (java.security.NoSuchAlgorithmException e) {
             logger.warn("Cannot validate checksum for state '{}': {} not available",
@@ -369,17 +386,22 @@ public class SBOParser {
         );
     }
 
+    private static String fileName(String path) {
+        int slash = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+        return path.substring(slash + 1);
+    }
+
     private static String nullIfBlank(String s) {
         return s == null || s.isBlank() ? null : s;
     }
 
-    private void validateChecksum(SBOFormat.Document manifest, byte[] omoBytes, Path sboPath) throws IOException {
+    private void validateChecksum(SBOFormat.Document manifest, byte[] omoBytes, String sboPath) throws IOException {
         try {
             MessageDigest digest = MessageDigest.getInstance(SBOFormat.CHECKSUM_ALGORITHM);
             String computed = HexFormat.of().formatHex(digest.digest(omoBytes));
             if (!computed.equalsIgnoreCase(manifest.checksum())) {
                 logger.warn("SBO checksum mismatch in {}: expected={}, computed={}",
-                        sboPath.getFileName(), manifest.checksum(), computed);
+                        fileName(sboPath), manifest.checksum(), computed);
             }
         } catch (java.security.NoSuchAlgorithmException e) {
             logger.warn("Cannot validate SBO checksum: {} not available", SBOFormat.CHECKSUM_ALGORITHM);
@@ -474,7 +496,7 @@ public class SBOParser {
             }
         }
 
-        Map<String, byte[]> soundBytes = extractSoundBytes(manifest, rawEntries, sboPath);
+        Map<String, byte[]> soundBytes = extractSoundBytes(manifest, rawEntries, sboPath.toString());
 
         return new RawParse(manifest, defaultBytes, stateBytes, stateClipBytes, soundBytes);
     }
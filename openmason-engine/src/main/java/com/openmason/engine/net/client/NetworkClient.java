@@ -7,6 +7,7 @@ import com.openmason.engine.net.protocol.PacketRegistry;
 import com.openmason.engine.net.transport.NetAddress;
 import com.openmason.engine.net.transport.NetClient;
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
 
 /**
  * Game-agnostic client facade. Connects to a server (Local or TCP) and surfaces inbound
@@ -21,6 +22,15 @@ public final class NetworkClient {
     private volatile ClientConnection connection;
 
     public NetworkClient(PacketRegistry registry) {
+        this(registry, null);
+    }
+
+    /**
+     * A client whose TCP connection runs on a caller-owned NIO group (see
+     * {@link NetClient#NetClient(PacketRegistry, PacketDirection, PacketDirection, InboundSink, EventLoopGroup)}),
+     * for hosting many clients in one JVM. {@code null} behaves as {@link #NetworkClient(PacketRegistry)}.
+     */
+    public NetworkClient(PacketRegistry registry, EventLoopGroup sharedTcpGroup) {
         InboundSink sink = new InboundSink() {
             @Override
             public void onConnect(Channel ch) {
@@ -38,7 +48,7 @@ public final class NetworkClient {
             }
         };
         this.netClient = new NetClient(
-            registry, PacketDirection.CLIENTBOUND, PacketDirection.SERVERBOUND, sink);
+            registry, PacketDirection.CLIENTBOUND, PacketDirection.SERVERBOUND, sink, sharedTcpGroup);
     }
 
     /** Connect synchronously; the returned connection is also available via {@link #connection()}. */
@@ -0,0 +1,105 @@
+package com.openmason.engine.net.pipeline;
+
+import com.openmason.engine.net.protocol.ByteBufIO;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.TooLongFrameException;
+
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Inbound counterpart of {@link FrameEncoder}. Reads the flagged length header, inflates
+ * compressed bodies, splits bundles, and hands {@link PacketDecoder} exactly one packet
+ * (varint id + body) per message, so the packet codec never sees the framing.
+ *
+ * <p>Both the framed length and a compressed body's declared inflated length are capped at
+ * {@link ByteBufIO#MAX_FRAME_BYTES}; a peer cannot make this side allocate more by lying
+ * in a header.
+ */
+public final class FrameDecoder extends ByteToMessageDecoder {
+
+    private Inflater inflater;
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        if (in.readableBytes() < 4) {
+            return;
+        }
+        int header = in.getInt(in.readerIndex());
+        int flags = header >>> 24;
+        int length = header & FrameEncoder.LENGTH_MASK;
+        if (length > ByteBufIO.MAX_FRAME_BYTES) {
+            throw new TooLongFrameException("Frame of " + length + " bytes exceeds " + ByteBufIO.MAX_FRAME_BYTES);
+        }
+        if ((flags & ~(FrameEncoder.FLAG_BUNDLE | FrameEncoder.FLAG_COMPRESSED)) != 0) {
+            throw new DecoderException("Unknown frame flags 0x" + Integer.toHexString(flags));
+        }
+        if (in.readableBytes() < 4 + length) {
+            return;
+        }
+        in.skipBytes(4);
+        ByteBuf body = (flags & FrameEncoder.FLAG_COMPRESSED) != 0
+            ? inflate(ctx, in.readSlice(length))
+            : in.readRetainedSlice(length);
+        if ((flags & FrameEncoder.FLAG_BUNDLE) == 0) {
+            out.add(body);
+            return;
+        }
+        try {
+            while (body.isReadable()) {
+                int packetLength = ByteBufIO.readVarInt(body);
+                if (packetLength <= 0 || packetLength > body.readableBytes()) {
+                    throw new DecoderException("Bundled packet of " + packetLength + " bytes overruns its frame");
+                }
+                out.add(body.readRetainedSlice(packetLength));
+            }
+        } finally {
+            body.release();
+        }
+    }
+
+    private ByteBuf inflate(ChannelHandlerContext ctx, ByteBuf compressed) {
+        int inflatedLength = ByteBufIO.readVarInt(compressed);
+        if (inflatedLength <= 0 || inflatedLength > ByteBufIO.MAX_FRAME_BYTES) {
+            throw new TooLongFrameException("Compressed frame declares " + inflatedLength + " bytes");
+        }
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+        byte[] input = new byte[compressed.readableBytes()];
+        compressed.readBytes(input);
+        byte[] output = new byte[inflatedLength];
+        inflater.reset();
+        inflater.setInput(input);
+        try {
+            int produced = 0;
+            while (produced < inflatedLength && !inflater.finished()) {
+                int n = inflater.inflate(output, produced, inflatedLength - produced);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                produced += n;
+            }
+            if (produced != inflatedLength || !inflater.finished()) {
+                throw new DecoderException("Compressed frame inflated to the wrong length");
+            }
+        } catch (DataFormatException e) {
+            throw new DecoderException("Corrupt compressed frame", e);
+        }
+        ByteBuf body = ctx.alloc().heapBuffer(inflatedLength);
+        body.writeBytes(output);
+        return body;
+    }
+
+    @Override
+    protected void handlerRemoved0(ChannelHandlerContext ctx) {
+        if (inflater != null) {
+            inflater.end();
+            inflater = null;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.openmason.engine.net.pipeline;
+
+import com.openmason.engine.net.protocol.ByteBufIO;
+import com.openmason.engine.net.protocol.PreEncodedPacket;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.TooLongFrameException;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Outbound framing for TCP channels, replacing a plain length prepender. Encoded packets
+ * are held until the channel flushes; the flush then turns them into as few frames as it
+ * can:
+ *
+ * <ul>
+ *   <li>consecutive small packets ({@link #BUNDLE_MAX_PACKET_BYTES} or less) are packed into
+ *       one <b>bundle</b> frame, each behind a varint length, up to {@link #MAX_BUNDLE_BYTES};</li>
+ *   <li>larger packets keep a frame of their own;</li>
+ *   <li>any other frame whose body reaches the compression threshold is deflated, and sent
+ *       compressed only when that actually saves bytes.</li>
+ * </ul>
+ *
+ * <p>Bodies shared between connections ({@link SharedFrame}, from a {@link PreEncodedPacket})
+ * always travel alone and are never deflated here: deflating means copying the body out
+ * and compressing it again for every receiver. A packet that wants compression brings its
+ * frame already compressed ({@link #compressFrame}), done once for all of them.
+ *
+ * <p>The frame header is one big-endian int: the body length in the low 24 bits (the 8 MiB
+ * frame cap fits) and {@link #FLAG_BUNDLE} / {@link #FLAG_COMPRESSED} in the high byte. A
+ * single packet with neither flag is byte-identical to the old length-prefixed frame.
+ * A compressed body starts with the varint length of the inflated body.
+ *
+ * <p>With the server flushing once per tick, one flush carries a whole tick of entity
+ * moves, block changes and player states in one or two socket writes instead of one per
+ * packet. The compression threshold is {@value #DEFAULT_COMPRESSION_THRESHOLD} bytes unless
+ * {@code -Dstonebreak.net.compressThreshold=<bytes>} (or {@code off}) says otherwise.
+ */
+public final class FrameEncoder extends ChannelOutboundHandlerAdapter {
+
+    public static final int FLAG_BUNDLE = 0x01;
+    public static final int FLAG_COMPRESSED = 0x02;
+    public static final int LENGTH_MASK = 0x00FF_FFFF;
+
+    /** Packets up to this size are bundled; larger ones travel in a frame of their own. */
+    static final int BUNDLE_MAX_PACKET_BYTES = 2048;
+    /** A bundle closes once it holds this much, so one frame never delays the next for long. */
+    static final int MAX_BUNDLE_BYTES = 64 * 1024;
+
+    static final int DEFAULT_COMPRESSION_THRESHOLD = 512;
+    private static final int COMPRESSION_THRESHOLD = compressionThreshold();
+
+    private final int compressionThreshold;
+    private final FrameStats stats;
+    private final List<ByteBuf> pending = new ArrayList<>();
+    private final List<ChannelPromise> pendingPromises = new ArrayList<>();
+    /** Pending indices holding a {@link SharedFrame} body, and those already compressed. */
+    private final BitSet pendingShared = new BitSet();
+    private final BitSet pendingPrecompressed = new BitSet();
+    private Deflater deflater;
+    private byte[] deflateScratch;
+
+    public FrameEncoder(FrameStats stats) {
+        this(stats, COMPRESSION_THRESHOLD);
+    }
+
+    /** @param compressionThreshold smallest body that is deflated; negative disables compression */
+    public FrameEncoder(FrameStats stats, int compressionThreshold) {
+        this.stats = stats;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    private static int compressionThreshold() {
+        String prop = System.getProperty("stonebreak.net.compressThreshold");
+        if (prop == null) {
+            return DEFAULT_COMPRESSION_THRESHOLD;
+        }
+        if ("off".equalsIgnoreCase(prop.trim())) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(prop.trim());
+        } catch (NumberFormatException e) {
+            return DEFAULT_COMPRESSION_THRESHOLD;
+        }
+    }
+
+    /**
+     * Compresses a packet's frame body (varint {@code packetId}, then {@code body}) into the
+     * body of a {@link #FLAG_COMPRESSED} frame, once, for a {@link PreEncodedPacket} sent to
+     * many connections. Null when compression is off, the frame is under the threshold, or
+     * deflating does not shrink it — the packet then goes out uncompressed.
+     */
+    public static byte[] compressFrame(int packetId, byte[] body) {
+        if (COMPRESSION_THRESHOLD < 0) {
+            return null;
+        }
+        ByteBuf frame = Unpooled.buffer(body.length + 5);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            ByteBufIO.writeVarInt(frame, packetId);
+            frame.writeBytes(body);
+            int length = frame.readableBytes();
+            if (length < COMPRESSION_THRESHOLD) {
+                return null;
+            }
+            ByteBuf compressed = deflate(deflater, new byte[8192], frame.array(), frame.arrayOffset(), length,
+                Unpooled.buffer(length / 2 + 16));
+            if (compressed == null) {
+                return null;
+            }
+            byte[] out = new byte[compressed.readableBytes()];
+            compressed.readBytes(out);
+            compressed.release();
+            return out;
+        } finally {
+            deflater.end();
+            frame.release();
+        }
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (msg instanceof SharedFrame frame) {
+            if (enqueue(frame.content(), promise)) {
+                int index = pending.size() - 1;
+                pendingShared.set(index);
+                if (frame.compressed()) {
+                    pendingPrecompressed.set(index);
+                }
+            }
+        } else if (msg instanceof ByteBuf buf) {
+            enqueue(buf, promise);
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
+
+    private boolean enqueue(ByteBuf buf, ChannelPromise promise) {
+        if (buf.readableBytes() > ByteBufIO.MAX_FRAME_BYTES) {
+            buf.release();
+            promise.setFailure(new TooLongFrameException(
+                "Packet of " + buf.readableBytes() + " bytes exceeds " + ByteBufIO.MAX_FRAME_BYTES));
+            return false;
+        }
+        pending.add(buf);
+        pendingPromises.add(promise);
+        return true;
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        if (!pending.isEmpty()) {
+            stats.onFlush();
+            writeFrames(ctx);
+        }
+        ctx.flush();
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+        // Anything written before the close (a kick reason) still goes out first.
+        flush(ctx);
+        ctx.close(promise);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        for (int i = 0; i < pending.size(); i++) {
+            pending.get(i).release();
+            pendingPromises.get(i).tryFailure(new IllegalStateException("channel pipeline torn down"));
+        }
+        pending.clear();
+        pendingPromises.clear();
+        pendingShared.clear();
+        pendingPrecompressed.clear();
+        if (deflater != null) {
+            deflater.end();
+            deflater = null;
+        }
+    }
+
+    private void writeFrames(ChannelHandlerContext ctx) {
+        int bundleStart = 0;
+        int bundleBytes = 0;
+        int n = pending.size();
+        for (int i = 0; i < n; i++) {
+            ByteBuf packet = pending.get(i);
+            int size = packet.readableBytes();
+            // A pre-compressed frame counts as the packet it inflates to.
+            stats.onPacket(pendingPrecompressed.get(i)
+                ? ByteBufIO.readVarInt(packet.duplicate()) : size);
+            if (size > BUNDLE_MAX_PACKET_BYTES || pendingShared.get(i)) {
+                emit(ctx, bundleStart, i);
+                emit(ctx, i, i + 1);
+                bundleStart = i + 1;
+                bundleBytes = 0;
+                continue;
+            }
+            int cost = size + 3; // varint length of a bundled packet: <= 3 bytes below 2 MiB
+            if (bundleBytes + cost > MAX_BUNDLE_BYTES && i > bundleStart) {
+                emit(ctx, bundleStart, i);
+                bundleStart = i;
+                bundleBytes = 0;
+            }
+            bundleBytes += cost;
+        }
+        emit(ctx, bundleStart, n);
+        pending.clear();
+        pendingPromises.clear();
+        pendingShared.clear();
+        pendingPrecompressed.clear();
+    }
+
+    /** Frames pending packets [from, to): one packet as a plain frame, several as a bundle. */
+    private void emit(ChannelHandlerContext ctx, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        ByteBuf body;
+        int flags;
+        boolean shared = to - from == 1 && pendingShared.get(from);
+        if (to - from == 1) {
+            body = pending.get(from);
+            flags = pendingPrecompressed.get(from) ? FLAG_COMPRESSED : 0;
+        } else {
+            int size = 0;
+            for (int i = from; i < to; i++) {
+                size += pending.get(i).readableBytes() + 3;
+            }
+            body = ctx.alloc().ioBuffer(size);
+            for (int i = from; i < to; i++) {
+                ByteBuf packet = pending.get(i);
+                ByteBufIO.writeVarInt(body, packet.readableBytes());
+                body.writeBytes(packet);
+                packet.release();
+            }
+            flags = FLAG_BUNDLE;
+        }
+        if (!shared && compressionThreshold >= 0 && body.readableBytes() >= compressionThreshold) {
+            ByteBuf compressed = deflate(ctx, body);
+            if (compressed != null) {
+                body.release();
+                body = compressed;
+                flags |= FLAG_COMPRESSED;
+            }
+        }
+        int length = body.readableBytes();
+        ByteBuf header = ctx.alloc().ioBuffer(4);
+        header.writeInt((flags << 24) | length);
+        stats.onFrame(length + 4, (flags & FLAG_BUNDLE) != 0, (flags & FLAG_COMPRESSED) != 0);
+
+        ctx.write(header, ctx.voidPromise());
+        if (to - from == 1) {
+            ctx.write(body, pendingPromises.get(from));
+            return;
+        }
+        ChannelPromise framePromise = ctx.newPromise();
+        List<ChannelPromise> promises = new ArrayList<>(pendingPromises.subList(from, to));
+        framePromise.addListener(f -> {
+            for (ChannelPromise p : promises) {
+                if (f.isSuccess()) {
+                    p.trySuccess();
+                } else {
+                    p.tryFailure(f.cause());
+                }
+            }
+        });
+        ctx.write(body, framePromise);
+    }
+
+    /** The deflated body behind its inflated length, or null when deflating does not shrink it. */
+    private ByteBuf deflate(ChannelHandlerContext ctx, ByteBuf body) {
+        if (deflater == null) {
+            deflater = new Deflater(Deflater.BEST_SPEED);
+            deflateScratch = new byte[8192];
+        }
+        stats.onDeflate();
+        int inLength = body.readableBytes();
+        byte[] input;
+        int inOffset;
+        if (body.hasArray()) {
+            input = body.array();
+            inOffset = body.arrayOffset() + body.readerIndex();
+        } else {
+            input = new byte[inLength];
+            body.getBytes(body.readerIndex(), input);
+            inOffset = 0;
+        }
+        return deflate(deflater, deflateScratch, input, inOffset, inLength, ctx.alloc().ioBuffer(inLength / 2 + 16));
+    }
+
+    /** Deflates into {@code out} behind the inflated length; releases it and returns null if that does not shrink. */
+    private static ByteBuf deflate(Deflater deflater, byte[] scratch, byte[] input, int inOffset, int inLength,
+                                   ByteBuf out) {
+        deflater.reset();
+        deflater.setInput(input, inOffset, inLength);
+        deflater.finish();
+        ByteBufIO.writeVarInt(out, inLength);
+        while (!deflater.finished()) {
+            int produced = deflater.deflate(scratch);
+            out.writeBytes(scratch, 0, produced);
+            if (out.readableBytes() >= inLength) {
+                out.release();
+                return null; // incompressible (already-dense palettes): send it as it is
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,101 @@
+package com.openmason.engine.net.pipeline;
+
+/**
+ * Outbound framing counters for one TCP channel, kept by {@link FrameEncoder}. Written
+ * only on the channel's event loop and read from anywhere, so the fields are volatile
+ * with a single writer.
+ *
+ * <p>{@code payloadBytes} is what the packets encoded to (id + body, before any bundle or
+ * compression); {@code wireBytes} is what left in frames, headers included. Their ratio
+ * is the framing + compression saving.
+ */
+public final class FrameStats {
+
+    private volatile long flushes;
+    private volatile long packets;
+    private volatile long frames;
+    private volatile long bundles;
+    private volatile long compressedFrames;
+    private volatile long deflates;
+    private volatile long payloadBytes;
+    private volatile long wireBytes;
+
+    void onFlush() {
+        flushes++;
+    }
+
+    void onPacket(int bytes) {
+        packets++;
+        payloadBytes += bytes;
+    }
+
+    void onFrame(int wire, boolean bundle, boolean compressed) {
+        frames++;
+        wireBytes += wire;
+        if (bundle) {
+            bundles++;
+        }
+        if (compressed) {
+            compressedFrames++;
+        }
+    }
+
+    void onDeflate() {
+        deflates++;
+    }
+
+    /** Flushes that wrote at least one frame — each is one socket write on the event loop. */
+    public long flushes() {
+        return flushes;
+    }
+
+    public long packets() {
+        return packets;
+    }
+
+    public long frames() {
+        return frames;
+    }
+
+    public long bundles() {
+        return bundles;
+    }
+
+    public long compressedFrames() {
+        return compressedFrames;
+    }
+
+    /**
+     * Frame bodies this channel ran through its own deflater. Frames that arrived
+     * pre-compressed ({@link FrameEncoder#compressFrame}) count as compressed but not here.
+     */
+    public long deflates() {
+        return deflates;
+    }
+
+    public long payloadBytes() {
+        return payloadBytes;
+    }
+
+    public long wireBytes() {
+        return wireBytes;
+    }
+
+    public double packetsPerFlush() {
+        long f = flushes;
+        return f == 0 ? 0.0 : (double) packets / f;
+    }
+
+    public double wireBytesPerFlush() {
+        long f = flushes;
+        return f == 0 ? 0.0 : (double) wireBytes / f;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d packets in %d frames over %d flushes (%.1f packets/flush, %.0f B/flush), "
+                + "%d bundles, %d compressed, %d -> %d bytes",
+            packets, frames, flushes, packetsPerFlush(), wireBytesPerFlush(), bundles, compressedFrames,
+            payloadBytes, wireBytes);
+    }
+}
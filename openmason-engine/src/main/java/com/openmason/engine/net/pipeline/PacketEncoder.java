@@ -5,17 +5,28 @@ import com.openmason.engine.net.protocol.Packet;
 import com.openmason.engine.net.protocol.PacketCodec;
 import com.openmason.engine.net.protocol.PacketDirection;
 import com.openmason.engine.net.protocol.PacketRegistry;
+import com.openmason.engine.net.protocol.PreEncodedPacket;
 import com.openmason.engine.net.protocol.ProtocolPhase;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.MessageToMessageEncoder;
+
+import java.util.List;
 
 /**
  * Outbound encoder for remote (TCP) channels: writes the packet's varint id followed by
  * its body, resolving the id + {@link PacketCodec} from the registry by the channel's
  * current phase and this side's outbound direction. Local channels skip this handler.
+ *
+ * <p>A {@link PreEncodedPacket} that carries a body skips the codec: the body array is
+ * wrapped behind a small id header in a composite buffer, or its pre-compressed frame is
+ * wrapped as it is, and handed on as a {@link SharedFrame} that {@link FrameEncoder} neither
+ * bundles nor deflates — a payload shared by many connections is never copied or compressed
+ * per connection.
  */
-public final class PacketEncoder extends MessageToByteEncoder<Packet> {
+public final class PacketEncoder extends MessageToMessageEncoder<Packet> {
 
     private final PacketRegistry registry;
     private final PacketDirection outboundDirection;
@@ -26,14 +37,40 @@ public final class PacketEncoder extends MessageToByteEncoder<Packet> {
     }
 
     @Override
-    protected void encode(ChannelHandlerContext ctx, Packet msg, ByteBuf out) {
+    protected void encode(ChannelHandlerContext ctx, Packet msg, List<Object> out) {
         ProtocolPhase phase = phaseOf(ctx);
         int id = registry.idForClass(phase, outboundDirection, msg.getClass());
-        ByteBufIO.writeVarInt(out, id);
-        @SuppressWarnings("unchecked")
-        PacketCodec<Packet> codec =
-            (PacketCodec<Packet>) registry.codecForClass(phase, outboundDirection, msg.getClass());
-        codec.encode(out, msg);
+        if (msg instanceof PreEncodedPacket pre) {
+            byte[] compressed = pre.compressedFrame();
+            if (compressed != null) {
+                out.add(new SharedFrame(Unpooled.wrappedBuffer(compressed), true));
+                return;
+            }
+            byte[] body = pre.encodedBody();
+            if (body != null) {
+                ByteBuf header = ctx.alloc().buffer(5);
+                ByteBufIO.writeVarInt(header, id);
+                CompositeByteBuf frame = ctx.alloc().compositeBuffer(2);
+                frame.addComponents(true, header, Unpooled.wrappedBuffer(body));
+                out.add(new SharedFrame(frame, false));
+                return;
+            }
+        }
+        ByteBuf buf = ctx.alloc().ioBuffer();
+        boolean encoded = false;
+        try {
+            ByteBufIO.writeVarInt(buf, id);
+            @SuppressWarnings("unchecked")
+            PacketCodec<Packet> codec =
+                (PacketCodec<Packet>) registry.codecForClass(phase, outboundDirection, msg.getClass());
+            codec.encode(buf, msg);
+            out.add(buf);
+            encoded = true;
+        } finally {
+            if (!encoded) {
+                buf.release();
+            }
+        }
     }
 
     private static ProtocolPhase phaseOf(ChannelHandlerContext ctx) {
@@ -17,5 +17,8 @@ public final class PipelineAttributes {
     /** Last error seen by {@code exceptionCaught}, read by {@code channelInactive}. */
     public static final AttributeKey<Throwable> CAUSE = AttributeKey.valueOf("openmason.net.cause");
 
+    /** Outbound framing counters of a TCP channel; absent on LOCAL channels. */
+    public static final AttributeKey<FrameStats> FRAME_STATS = AttributeKey.valueOf("openmason.net.frameStats");
+
     private PipelineAttributes() {}
 }
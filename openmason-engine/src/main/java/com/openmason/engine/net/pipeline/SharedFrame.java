@@ -0,0 +1,24 @@
+package com.openmason.engine.net.pipeline;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+
+/**
+ * A packet's frame body built by {@link PacketEncoder} around a
+ * {@link com.openmason.engine.net.protocol.PreEncodedPacket}'s shared arrays. Tells
+ * {@link FrameEncoder} to frame it alone and leave it as it is; a {@code compressed}
+ * body is already in the {@link FrameEncoder#FLAG_COMPRESSED} format.
+ */
+final class SharedFrame extends DefaultByteBufHolder {
+
+    private final boolean compressed;
+
+    SharedFrame(ByteBuf body, boolean compressed) {
+        super(body);
+        this.compressed = compressed;
+    }
+
+    boolean compressed() {
+        return compressed;
+    }
+}
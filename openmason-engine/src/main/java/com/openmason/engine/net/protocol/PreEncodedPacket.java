@@ -0,0 +1,29 @@
+package com.openmason.engine.net.protocol;
+
+/**
+ * A packet that may carry its own wire body, already produced by its
+ * {@link PacketCodec}. The TCP encoder then frames that body as-is — wrapped,
+ * never copied — instead of running the codec again. This is for payloads
+ * cached and sent to many connections (chunk snapshots), where one encode
+ * serves every receiver.
+ *
+ * <p>The body must be byte-identical to what the codec would write, and it must not
+ * be mutated after the packet is sent: several channels may be flushing it at once.
+ * Local channels pass the packet object through and never look at the body.
+ */
+public interface PreEncodedPacket extends Packet {
+
+    /** The codec-encoded body (no packet id, no frame length), or null to encode normally. */
+    byte[] encodedBody();
+
+    /**
+     * The whole frame body — varint packet id, then the encoded body — already compressed
+     * by {@link com.openmason.engine.net.pipeline.FrameEncoder#compressFrame} with the id
+     * this packet registers under, or null. When present it is sent as a compressed frame
+     * in place of {@link #encodedBody()}, so a shared payload is deflated once, not once
+     * per connection.
+     */
+    default byte[] compressedFrame() {
+        return null;
+    }
+}
@@ -11,8 +11,13 @@ package com.openmason.engine.net.protocol;
 public final class ProtocolVersion {
 
     /** Current wire protocol version. 2 = multiplayer refinement batch (keepalive,
-     *  time sync, chunk meta payload, player state flags, projectile replication). */
-    public static final int CURRENT = 2;
+     *  time sync, chunk meta payload, player state flags, projectile replication).
+     *  3 = client chunk-cache offers and cached-chunk confirmations.
+     *  4 = section-hash chunk audits and section-delta repairs.
+     *  5 = flagged frame header with bundled and deflated frames.
+     *  6 = distance-tiered entity moves packed per player (EntityMovesS2C).
+     *  7 = 64-bit block hashes in chunk-cache offers and confirmations. */
+    public static final int CURRENT = 7;
 
     private ProtocolVersion() {}
 }
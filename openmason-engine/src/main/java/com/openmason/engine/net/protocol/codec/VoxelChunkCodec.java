@@ -35,6 +35,10 @@ import java.util.Map;
  * it reads through {@link IVoxelChunkData} and writes through a {@link BlockSetter} sink
  * plus an {@link IBlockTypeResolver}, so it carries no dependency on a concrete block enum.
  * The encoded form is a self-contained {@code byte[]} blob (carried as a packet field).
+ *
+ * <p>{@link #encodeSections} / {@link #decodeSectionsInto} carry a subset of the
+ * sections, selected by a bit mask (bit {@code sy} = section {@code sy}), in the same
+ * per-section format — the section delta a desync repair ships instead of a whole chunk.
  */
 public final class VoxelChunkCodec {
 
@@ -43,6 +47,8 @@ public final class VoxelChunkCodec {
     public static final int SECTION_H = 16;
     public static final int SECTIONS_PER_CHUNK = CHUNK_H / SECTION_H;
     public static final int BLOCKS_PER_SECTION = CHUNK_W * SECTION_H * CHUNK_W;
+    /** Section mask selecting every section: a full chunk. */
+    public static final int ALL_SECTIONS = (1 << SECTIONS_PER_CHUNK) - 1;
 
     private static final byte TAG_SINGLE   = 0;
     private static final byte TAG_PALETTED = 1;
@@ -69,12 +75,20 @@ public final class VoxelChunkCodec {
     private VoxelChunkCodec() {}
 
     public static byte[] encode(IVoxelChunkData chunk) {
+        return encodeSections(chunk, ALL_SECTIONS);
+    }
+
+    /** Encodes only the sections whose bit is set in {@code sectionMask}, lowest first. */
+    public static byte[] encodeSections(IVoxelChunkData chunk, int sectionMask) {
         com.openmason.engine.voxel.IVoxelChunkSections sections =
             chunk instanceof com.openmason.engine.voxel.IVoxelChunkSections s ? s : null;
         short[] ids = sections != null ? SECTION_IDS.get() : null;
         ByteArrayOutputStream buf = new ByteArrayOutputStream(4 * 1024);
         try (DataOutputStream out = new DataOutputStream(buf)) {
             for (int sy = 0; sy < SECTIONS_PER_CHUNK; sy++) {
+                if ((sectionMask & (1 << sy)) == 0) {
+                    continue;
+                }
                 if (sections != null && sections.copySectionBlockIds(sy, ids)) {
                     encodeSectionFromIds(ids, out);
                 } else {
@@ -88,12 +102,23 @@ public final class VoxelChunkCodec {
     }
 
     public static void decodeInto(byte[] payload, BlockSetter sink, IBlockTypeResolver resolver) {
+        decodeSectionsInto(payload, ALL_SECTIONS, sink, resolver);
+    }
+
+    /**
+     * Decodes a {@link #encodeSections} payload. Only the masked sections are written;
+     * the sink keeps whatever the others held.
+     */
+    public static void decodeSectionsInto(byte[] payload, int sectionMask, BlockSetter sink,
+                                          IBlockTypeResolver resolver) {
         if (payload.length > MAX_ENCODED_BYTES) {
             throw new IllegalArgumentException("Chunk payload too large: " + payload.length);
         }
         try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
             for (int sy = 0; sy < SECTIONS_PER_CHUNK; sy++) {
-                decodeSection(sink, resolver, sy, in);
+                if ((sectionMask & (1 << sy)) != 0) {
+                    decodeSection(sink, resolver, sy, in);
+                }
             }
         } catch (IOException e) {
             throw new IllegalArgumentException("Malformed chunk payload", e);
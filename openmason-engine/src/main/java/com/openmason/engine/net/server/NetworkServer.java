@@ -25,12 +25,18 @@ public final class NetworkServer {
     private final NetServer netServer;
 
     private volatile SocketAddress tcpBoundAddress;
+    private volatile boolean deferredFlush;
 
     public NetworkServer(PacketRegistry registry) {
+        this(registry, 0);
+    }
+
+    /** @param ioThreads TCP IO threads, {@code 0} for Netty's default (see {@link NetServer}) */
+    public NetworkServer(PacketRegistry registry, int ioThreads) {
         InboundSink sink = new InboundSink() {
             @Override
             public void onConnect(Channel ch) {
-                ServerConnection conn = new ServerConnection(ch);
+                ServerConnection conn = new ServerConnection(ch, deferredFlush);
                 ch.attr(ServerConnection.ATTR).set(conn);
                 connections.add(conn);
                 inboundQueue.postConnect(conn);
@@ -54,13 +60,13 @@ public final class NetworkServer {
             }
         };
         this.netServer = new NetServer(
-            registry, PacketDirection.SERVERBOUND, PacketDirection.CLIENTBOUND, sink);
+            registry, PacketDirection.SERVERBOUND, PacketDirection.CLIENTBOUND, sink, ioThreads);
     }
 
     /**
      * Start listening. {@code localAddress} (in-JVM) is bound when non-null;
      * {@code tcpAddress} when non-null. Singleplayer passes only a local address; a host
-     * passes both; a future dedicated server would pass only TCP.
+     * passes both; a dedicated server passes only TCP.
      */
     public void start(NetAddress localAddress, NetAddress tcpAddress) throws InterruptedException {
         if (localAddress != null) {
@@ -71,6 +77,22 @@ public final class NetworkServer {
         }
     }
 
+    /**
+     * Make connections accepted from now on hold their sends until {@link #flushAll}. The
+     * owning server then flushes once per tick instead of once per packet (see
+     * {@link ServerConnection}). Set before {@link #start}.
+     */
+    public void setDeferredFlush(boolean deferredFlush) {
+        this.deferredFlush = deferredFlush;
+    }
+
+    /** Flush every connection's pending sends; call once at the end of each tick. */
+    public void flushAll() {
+        for (ServerConnection c : connections.all()) {
+            c.flush();
+        }
+    }
+
     public ServerInboundQueue inboundQueue() {
         return inboundQueue;
     }
@@ -1,5 +1,6 @@
 package com.openmason.engine.net.server;
 
+import com.openmason.engine.net.pipeline.FrameStats;
 import com.openmason.engine.net.pipeline.PipelineAttributes;
 import com.openmason.engine.net.protocol.Packet;
 import com.openmason.engine.net.protocol.ProtocolPhase;
@@ -13,6 +14,11 @@ import io.netty.util.AttributeKey;
  *
  * <p>{@code writeAndFlush} is thread-safe, so {@link #send} may be called from the tick
  * thread; the actual write is scheduled on the channel's event loop.
+ *
+ * <p>With <b>deferred flush</b> on, {@link #send} only writes and the owner calls
+ * {@link #flush} once per tick, so a tick's packets reach the frame encoder together and
+ * leave as bundled frames in one socket write. The writability check behind droppable
+ * sends then sees the previous flush's backlog, not bytes queued earlier in this tick.
  */
 public final class ServerConnection {
 
@@ -21,10 +27,20 @@ public final class ServerConnection {
         AttributeKey.valueOf("openmason.net.serverConnection");
 
     private final Channel channel;
+    private final boolean deferredFlush;
+    private volatile boolean unflushed;
+    private volatile long packetsSent;
+    private volatile long flushes;
     private volatile Object attachment;
 
     public ServerConnection(Channel channel) {
+        this(channel, false);
+    }
+
+    /** @param deferredFlush hold sends until {@link #flush} instead of flushing each packet */
+    public ServerConnection(Channel channel, boolean deferredFlush) {
         this.channel = channel;
+        this.deferredFlush = deferredFlush;
     }
 
     public Channel channel() {
@@ -62,7 +78,13 @@ public final class ServerConnection {
         if (droppable && !channel.isWritable()) {
             return false;
         }
-        channel.writeAndFlush(packet);
+        packetsSent++;
+        if (deferredFlush) {
+            channel.write(packet);
+            unflushed = true;
+        } else {
+            channel.writeAndFlush(packet);
+        }
         return true;
     }
 
@@ -71,7 +93,38 @@ public final class ServerConnection {
         return send(packet, false);
     }
 
+    /**
+     * Flush what {@link #send} wrote since the last flush. A no-op for a connection that
+     * sent nothing, so the owner can flush every connection every tick for free. Called
+     * from the tick thread only.
+     */
+    public void flush() {
+        if (!unflushed) {
+            return;
+        }
+        unflushed = false;
+        flushes++;
+        channel.flush();
+    }
+
+    /** Packets accepted by {@link #send} (dropped ones excluded). */
+    public long packetsSent() {
+        return packetsSent;
+    }
+
+    /** Flushes that carried at least one packet; equals {@link #packetsSent} without deferred flush. */
+    public long flushes() {
+        return deferredFlush ? flushes : packetsSent;
+    }
+
+    /** Wire framing counters for TCP connections; {@code null} for in-JVM (LOCAL) ones. */
+    public FrameStats frameStats() {
+        return channel.attr(PipelineAttributes.FRAME_STATS).get();
+    }
+
+    /** Closes after flushing pending sends, so a kick reason still reaches the client. */
     public void close() {
+        flush();
         channel.close();
     }
 
@@ -1,29 +1,31 @@
 package com.openmason.engine.net.transport;
 
+import com.openmason.engine.net.pipeline.FrameDecoder;
+import com.openmason.engine.net.pipeline.FrameEncoder;
+import com.openmason.engine.net.pipeline.FrameStats;
 import com.openmason.engine.net.pipeline.InboundHandler;
 import com.openmason.engine.net.pipeline.InboundSink;
 import com.openmason.engine.net.pipeline.PacketDecoder;
 import com.openmason.engine.net.pipeline.PacketEncoder;
 import com.openmason.engine.net.pipeline.PipelineAttributes;
-import com.openmason.engine.net.protocol.ByteBufIO;
 import com.openmason.engine.net.protocol.PacketDirection;
 import com.openmason.engine.net.protocol.PacketRegistry;
 import com.openmason.engine.net.protocol.ProtocolPhase;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
-import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
-import io.netty.handler.codec.LengthFieldPrepender;
 
 /**
- * Builds the per-channel pipeline. REMOTE (TCP) channels get length framing plus the
+ * Builds the per-channel pipeline. REMOTE (TCP) channels get framing plus the
  * packet codec; LOCAL channels get only the {@link InboundHandler} (packet objects pass
  * through unserialized). Both terminate in one handler feeding one {@link InboundSink}, so
  * a single code path serves every deployment.
  *
  * <p>Outbound handler order matters: {@link PacketEncoder} is added after the
- * {@link LengthFieldPrepender} so, in tail→head outbound traversal, the packet is encoded
- * to bytes first and the length is prepended second.
+ * {@link FrameEncoder} so, in tail→head outbound traversal, the packet is encoded to bytes
+ * first and framed second. The frame encoder holds packets until the channel flushes, then
+ * bundles and compresses them (see {@link FrameEncoder}); its counters are published under
+ * {@link PipelineAttributes#FRAME_STATS}.
  */
 final class NetChannelInitializer extends ChannelInitializer<Channel> {
 
@@ -51,10 +53,10 @@ final class NetChannelInitializer extends ChannelInitializer<Channel> {
         ch.attr(PipelineAttributes.PHASE).set(ProtocolPhase.PLAY);
         ChannelPipeline p = ch.pipeline();
         if (transport == TransportType.TCP) {
-            // maxFrame, lengthFieldOffset=0, lengthFieldLength=4, lengthAdjustment=0, stripBytes=4
-            p.addLast("frameDecoder",
-                new LengthFieldBasedFrameDecoder(ByteBufIO.MAX_FRAME_BYTES, 0, 4, 0, 4));
-            p.addLast("frameEncoder", new LengthFieldPrepender(4));
+            FrameStats stats = new FrameStats();
+            ch.attr(PipelineAttributes.FRAME_STATS).set(stats);
+            p.addLast("frameDecoder", new FrameDecoder());
+            p.addLast("frameEncoder", new FrameEncoder(stats));
             p.addLast("packetDecoder", new PacketDecoder(registry, inboundDirection));
             p.addLast("packetEncoder", new PacketEncoder(registry, outboundDirection));
         }
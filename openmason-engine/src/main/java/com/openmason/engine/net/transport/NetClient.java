@@ -27,15 +27,29 @@ public final class NetClient {
     private final PacketDirection inboundDirection;
     private final PacketDirection outboundDirection;
     private final InboundSink sink;
+    /** Caller-owned NIO group for TCP connects; null to create (and own) one per connect. */
+    private final EventLoopGroup sharedTcpGroup;
 
     private EventLoopGroup group;
+    private Channel channel;
 
     public NetClient(PacketRegistry registry, PacketDirection inboundDirection,
                      PacketDirection outboundDirection, InboundSink sink) {
+        this(registry, inboundDirection, outboundDirection, sink, null);
+    }
+
+    /**
+     * As above, with TCP connections served by {@code sharedTcpGroup} — many clients in one
+     * JVM (load generators) then share a few IO threads instead of each spawning a full NIO
+     * group. The group is not shut down by {@link #close()}; its owner does that.
+     */
+    public NetClient(PacketRegistry registry, PacketDirection inboundDirection,
+                     PacketDirection outboundDirection, InboundSink sink, EventLoopGroup sharedTcpGroup) {
         this.registry = registry;
         this.inboundDirection = inboundDirection;
         this.outboundDirection = outboundDirection;
         this.sink = sink;
+        this.sharedTcpGroup = sharedTcpGroup;
     }
 
     /** Connect synchronously and return the connected channel. */
@@ -45,8 +59,8 @@ public final class NetClient {
             group = new DefaultEventLoopGroup();
             b.group(group).channel(LocalChannel.class);
         } else {
-            group = new NioEventLoopGroup();
-            b.group(group)
+            group = sharedTcpGroup != null ? null : new NioEventLoopGroup();
+            b.group(sharedTcpGroup != null ? sharedTcpGroup : group)
                 .channel(NioSocketChannel.class)
                 .option(ChannelOption.TCP_NODELAY, true)
                 .option(ChannelOption.SO_KEEPALIVE, true)
@@ -54,10 +68,16 @@ public final class NetClient {
                     new WriteBufferWaterMark(WRITE_LOW_WATER, WRITE_HIGH_WATER));
         }
         b.handler(new NetChannelInitializer(address.type(), registry, inboundDirection, outboundDirection, sink));
-        return b.connect(address.socketAddress()).sync().channel();
+        channel = b.connect(address.socketAddress()).sync().channel();
+        return channel;
     }
 
     public synchronized void close() {
+        if (channel != null) {
+            // Shutting the group down closes its channels, but a shared group outlives us.
+            channel.close();
+            channel = null;
+        }
         if (group != null) {
             group.shutdownGracefully();
             group = null;
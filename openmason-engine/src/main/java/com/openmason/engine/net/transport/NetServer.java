@@ -21,7 +21,7 @@ import java.util.List;
  * Low-level Netty server. Owns the event-loop groups and binds a Local listener (always,
  * for the co-located player) and/or a TCP listener (for remote clients). Both listeners
  * funnel their child channels through the same {@link InboundSink}, so one inbound queue
- * and one tick consumer serve singleplayer, LAN host, and a future dedicated server alike.
+ * and one tick consumer serve singleplayer, LAN host, and the dedicated server alike.
  */
 public final class NetServer {
 
@@ -32,6 +32,7 @@ public final class NetServer {
     private final PacketDirection inboundDirection;
     private final PacketDirection outboundDirection;
     private final InboundSink sink;
+    private final int ioThreads;
 
     private EventLoopGroup bossGroup;    // TCP accept
     private EventLoopGroup workerGroup;  // TCP child IO
@@ -40,10 +41,21 @@ public final class NetServer {
 
     public NetServer(PacketRegistry registry, PacketDirection inboundDirection,
                      PacketDirection outboundDirection, InboundSink sink) {
+        this(registry, inboundDirection, outboundDirection, sink, 0);
+    }
+
+    /**
+     * @param ioThreads TCP child event-loop threads; {@code 0} keeps Netty's default
+     *                  (twice the core count), which over-provisions a dedicated server
+     *                  whose cores belong to generation and ticking
+     */
+    public NetServer(PacketRegistry registry, PacketDirection inboundDirection,
+                     PacketDirection outboundDirection, InboundSink sink, int ioThreads) {
         this.registry = registry;
         this.inboundDirection = inboundDirection;
         this.outboundDirection = outboundDirection;
         this.sink = sink;
+        this.ioThreads = Math.max(0, ioThreads);
     }
 
     /** Bind the in-JVM Local listener. Returns the bound address. */
@@ -64,7 +76,7 @@ public final class NetServer {
     public synchronized SocketAddress bindTcp(SocketAddress address) throws InterruptedException {
         if (bossGroup == null) {
             bossGroup = new NioEventLoopGroup(1);
-            workerGroup = new NioEventLoopGroup();
+            workerGroup = new NioEventLoopGroup(ioThreads);
         }
         ServerBootstrap b = new ServerBootstrap()
             .group(bossGroup, workerGroup)
@@ -4,9 +4,12 @@ import com.openmason.engine.diagnostics.GpuMemoryTracker;
 import com.openmason.engine.rendering.shaders.ShaderProgram;
 import com.openmason.engine.rendering.api.RenderContext;
 import org.joml.Matrix4f;
+import org.lwjgl.system.MemoryUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.FloatBuffer;
+
 import static org.lwjgl.opengl.GL11.*;
 import static org.lwjgl.opengl.GL15.*;
 import static org.lwjgl.opengl.GL20.*;
@@ -40,6 +43,11 @@ public abstract class BaseRenderer implements IRenderer {
     // Tracked GPU bytes for VRAM accounting; reset on cleanup.
     private long trackedGpuBytes = 0;
 
+    // Allocated VBO/EBO sizes in floats/ints. Ranged VBO uploads grow the
+    // VBO with headroom, so it can exceed the live vertex data.
+    private int vboCapacity = 0;
+    private int eboCapacity = 0;
+
     // State
     protected boolean initialized = false;
     protected boolean enabled = true;
@@ -73,6 +81,7 @@ public abstract class BaseRenderer implements IRenderer {
                 vbo = glGenBuffers();
                 glBindBuffer(GL_ARRAY_BUFFER, vbo);
                 glBufferData(GL_ARRAY_BUFFER, geometryData.vertices(), GL_DYNAMIC_DRAW);
+                vboCapacity = geometryData.vertices().length;
                 trackedGpuBytes += (long) geometryData.vertices().length * Float.BYTES;
 
                 // Step 4: Create EBO if indexed
@@ -81,6 +90,7 @@ public abstract class BaseRenderer implements IRenderer {
                     glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, ebo);
                     glBufferData(GL_ELEMENT_ARRAY_BUFFER, geometryData.indices(), GL_STATIC_DRAW);
                     indexCount = geometryData.indexCount();
+                    eboCapacity = geometryData.indices().length;
                     trackedGpuBytes += (long) geometryData.indices().length * Integer.BYTES;
                 }
 
@@ -181,6 +191,8 @@ public abstract class BaseRenderer implements IRenderer {
 
         vertexCount = 0;
         indexCount = 0;
+        vboCapacity = 0;
+        eboCapacity = 0;
         initialized = false;
         geometryData = null;
 
@@ -216,6 +228,45 @@ public abstract class BaseRenderer implements IRenderer {
         glBindBuffer(GL_ARRAY_BUFFER, vbo);
         glBufferData(GL_ARRAY_BUFFER, vertices, GL_DYNAMIC_DRAW);
         glBindBuffer(GL_ARRAY_BUFFER, 0);
+        trackResize((long) vboCapacity * Float.BYTES, (long) vertices.length * Float.BYTES);
+        vboCapacity = vertices.length;
+    }
+
+    /**
+     * Update only {@code vertices[from, to)} in the VBO, at the same float
+     * offset. Everything outside the range must already be on the GPU — the
+     * VBO holds this array as of its last upload. Growing past the allocated
+     * size reallocates with headroom and uploads the whole array, so
+     * appending stays cheap on the next call.
+     *
+     * @param vertices Full vertex data
+     * @param from     First float to upload
+     * @param to       End of the range (exclusive)
+     */
+    protected void updateVBORange(float[] vertices, int from, int to) {
+        if (!initialized || vbo == 0) {
+            return;
+        }
+
+        glBindBuffer(GL_ARRAY_BUFFER, vbo);
+        if (vertices.length > vboCapacity) {
+            int capacity = Math.max(vertices.length, vboCapacity + vboCapacity / 2);
+            glBufferData(GL_ARRAY_BUFFER, (long) capacity * Float.BYTES, GL_DYNAMIC_DRAW);
+            trackResize((long) vboCapacity * Float.BYTES, (long) capacity * Float.BYTES);
+            vboCapacity = capacity;
+            from = 0;
+            to = vertices.length;
+        }
+        if (from < to) {
+            FloatBuffer slice = MemoryUtil.memAllocFloat(to - from);
+            try {
+                slice.put(vertices, from, to - from).flip();
+                glBufferSubData(GL_ARRAY_BUFFER, (long) from * Float.BYTES, slice);
+            } finally {
+                MemoryUtil.memFree(slice);
+            }
+        }
+        glBindBuffer(GL_ARRAY_BUFFER, 0);
     }
 
     /**
@@ -231,7 +282,7 @@ public abstract class BaseRenderer implements IRenderer {
 
         // Create EBO on demand if it doesn't exist yet (e.g., model loaded after init)
         long newEboBytes = (long) indices.length * Integer.BYTES;
-        long oldEboBytes = (long) indexCount * Integer.BYTES;
+        long oldEboBytes = (long) eboCapacity * Integer.BYTES;
         if (ebo == 0) {
             glBindVertexArray(vao);
             ebo = glGenBuffers();
@@ -245,20 +296,24 @@ public abstract class BaseRenderer implements IRenderer {
             glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, ebo);
             glBufferData(GL_ELEMENT_ARRAY_BUFFER, indices, GL_DYNAMIC_DRAW);
             glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
-            long delta = newEboBytes - oldEboBytes;
-            if (delta > 0) {
-                GpuMemoryTracker.getInstance()
-                    .track(GpuMemoryTracker.Category.ENTITY_MESH, delta);
-                trackedGpuBytes += delta;
-            } else if (delta < 0) {
-                GpuMemoryTracker.getInstance()
-                    .untrack(GpuMemoryTracker.Category.ENTITY_MESH, -delta);
-                trackedGpuBytes += delta; // delta is negative
-            }
+            trackResize(oldEboBytes, newEboBytes);
         }
+        eboCapacity = indices.length;
         indexCount = indices.length;
     }
 
+    private void trackResize(long oldBytes, long newBytes) {
+        long delta = newBytes - oldBytes;
+        if (delta > 0) {
+            GpuMemoryTracker.getInstance()
+                .track(GpuMemoryTracker.Category.ENTITY_MESH, delta);
+        } else if (delta < 0) {
+            GpuMemoryTracker.getInstance()
+                .untrack(GpuMemoryTracker.Category.ENTITY_MESH, -delta);
+        }
+        trackedGpuBytes += delta;
+    }
+
     // ========== Abstract methods for subclasses ==========
 
     /**
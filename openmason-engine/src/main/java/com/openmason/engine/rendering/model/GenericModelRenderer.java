@@ -150,6 +150,7 @@ public class GenericModelRenderer extends BaseRenderer {
         IGPUBufferUploader gpuUploader = new IGPUBufferUploader() {
             @Override public void uploadVBO(float[] data) { updateVBO(data); }
             @Override public void uploadEBO(int[] data) { updateEBO(data); }
+            @Override public void uploadVBORange(float[] data, int from, int to) { updateVBORange(data, from, to); }
             @Override public boolean isGPUReady() { return initialized; }
         };
 
@@ -177,8 +178,8 @@ public class GenericModelRenderer extends BaseRenderer {
 
         // Wire mutation coordinator
         this.mutationCoordinator = new MeshMutationCoordinator(
-            vertexManager, uniqueMapper, changeNotifier, geometryBuilder,
-            this.faceTextureManager, rebuildPipeline, gpuUploader, rendererState);
+            vertexManager, uniqueMapper, changeNotifier,
+            this.faceTextureManager, rebuildPipeline, rendererState);
 
         // Wire serialization adapter
         this.serializationAdapter = new MeshSerializationAdapter(
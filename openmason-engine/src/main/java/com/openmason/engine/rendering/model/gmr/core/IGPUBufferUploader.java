@@ -21,6 +21,19 @@ public interface IGPUBufferUploader {
      */
     void uploadEBO(int[] indices);
 
+    /**
+     * Upload only {@code interleavedData[from, to)} (float offsets) to the VBO.
+     * Valid when the VBO already holds every float outside the range — it was
+     * last uploaded from this array's layout. Defaults to a full upload.
+     *
+     * @param interleavedData Full interleaved vertex data
+     * @param from            First float to upload
+     * @param to              End of the range (exclusive)
+     */
+    default void uploadVBORange(float[] interleavedData, int from, int to) {
+        uploadVBO(interleavedData);
+    }
+
     /**
      * Check if the GPU buffers are initialized and ready for uploads.
      *
@@ -11,15 +11,19 @@ import com.openmason.engine.rendering.model.gmr.topology.MeshTopology;
 public interface IMeshRebuildPipeline {
 
     /**
-     * Full re-derivation after topology-changing operations (subdivision,
-     * face split/creation/deletion, snapshot restore, mesh load).
-     * Uploads both VBO and EBO.
+     * Re-derivation after topology-changing operations (subdivision,
+     * face split/creation/deletion, snapshot restore, mesh load) or face
+     * texture mapping edits. Re-derives the faces the mesh's dirty region
+     * names plus any whose mapping changed, and uploads the changed VBO and
+     * EBO ranges; a new mesh instance is derived and uploaded in full.
      */
     void rebuildFromEditable();
 
     /**
-     * Re-derivation after vertex position changes only — uploads the VBO but
-     * not the index buffer (loops unchanged).
+     * Re-derivation after vertex position changes only — re-derives the faces
+     * around moved vertices without re-checking texture mappings. Uploads
+     * their VBO range, plus their index range when a concave face
+     * re-triangulated differently.
      */
     void refreshPositionsFromEditable();
 
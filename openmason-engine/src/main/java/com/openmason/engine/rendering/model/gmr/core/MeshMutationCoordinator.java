@@ -11,7 +11,6 @@ import com.openmason.engine.rendering.model.gmr.editable.ops.MergeVerticesOp;
 import com.openmason.engine.rendering.model.gmr.editable.ops.ScaleFacesOp;
 import com.openmason.engine.rendering.model.gmr.editable.ops.SplitFaceOp;
 import com.openmason.engine.rendering.model.gmr.editable.ops.SubdivideEdgeOp;
-import com.openmason.engine.rendering.model.gmr.geometry.IGeometryDataBuilder;
 import com.openmason.engine.rendering.model.gmr.mapping.IUniqueVertexMapper;
 import com.openmason.engine.rendering.model.gmr.notification.IMeshChangeNotifier;
 import com.openmason.engine.rendering.model.gmr.uv.FaceTextureManager;
@@ -38,10 +37,8 @@ public class MeshMutationCoordinator implements IMeshMutationCoordinator {
     private final IVertexDataManager vertexManager;
     private final IUniqueVertexMapper uniqueMapper;
     private final IMeshChangeNotifier changeNotifier;
-    private final IGeometryDataBuilder geometryBuilder;
     private final FaceTextureManager faceTextureManager;
     private final MeshRebuildPipeline rebuildPipeline;
-    private final IGPUBufferUploader gpuUploader;
 
     // Callback to read/write vertexCount on the renderer
     private final RendererStateAccess rendererState;
@@ -62,18 +59,14 @@ public class MeshMutationCoordinator implements IMeshMutationCoordinator {
             IVertexDataManager vertexManager,
             IUniqueVertexMapper uniqueMapper,
             IMeshChangeNotifier changeNotifier,
-            IGeometryDataBuilder geometryBuilder,
             FaceTextureManager faceTextureManager,
             MeshRebuildPipeline rebuildPipeline,
-            IGPUBufferUploader gpuUploader,
             RendererStateAccess rendererState) {
         this.vertexManager = vertexManager;
         this.uniqueMapper = uniqueMapper;
         this.changeNotifier = changeNotifier;
-        this.geometryBuilder = geometryBuilder;
         this.faceTextureManager = faceTextureManager;
         this.rebuildPipeline = rebuildPipeline;
-        this.gpuUploader = gpuUploader;
         this.rendererState = rendererState;
     }
 
@@ -86,9 +79,9 @@ public class MeshMutationCoordinator implements IMeshMutationCoordinator {
     /**
      * Move one vertex (identified by any of its render corners). Light path
      * for interactive drags: updates the editable position and every derived
-     * corner copy, re-uploads the VBO, and notifies — topology/normal/UV
-     * re-derivation is deferred to the next structural rebuild, exactly as
-     * the legacy path deferred it.
+     * corner copy, re-uploads just those corners, and notifies — topology/
+     * normal/UV re-derivation is deferred to the next rebuild, which picks the
+     * vertex up from the mesh's dirty region.
      */
     @Override
     public void updateVertexPosition(int globalIndex, Vector3f position) {
@@ -102,12 +95,7 @@ public class MeshMutationCoordinator implements IMeshMutationCoordinator {
 
         int[] corners = uniqueMapper.getMeshIndicesForUniqueVertex(vertexId);
         vertexManager.updateVertexPositions(corners, position);
-
-        if (gpuUploader.isGPUReady()) {
-            float[] interleavedData = geometryBuilder.buildInterleavedData(
-                vertexManager.getVertices(), vertexManager.getTexCoords());
-            gpuUploader.uploadVBO(interleavedData);
-        }
+        rebuildPipeline.uploadCorners(corners);
 
         if (changeNotifier.getListenerCount() > 0) {
             changeNotifier.notifyVertexPositionChanged(vertexId, position, corners);
@@ -1,6 +1,8 @@
 package com.openmason.engine.rendering.model.gmr.core;
 
 import com.openmason.engine.rendering.model.gmr.editable.EditableMesh;
+import com.openmason.engine.rendering.model.gmr.editable.IncrementalRenderMeshBuilder;
+import com.openmason.engine.rendering.model.gmr.editable.MeshDirtyRegion;
 import com.openmason.engine.rendering.model.gmr.editable.RenderMesh;
 import com.openmason.engine.rendering.model.gmr.editable.RenderMeshBuilder;
 import com.openmason.engine.rendering.model.gmr.mapping.EditableMeshVertexMapper;
@@ -27,6 +29,15 @@ import org.slf4j.LoggerFactory;
  * <p>UVs are produced during derivation ({@link RenderMeshBuilder}), so there
  * is no separate UV-regeneration re-entry and no seam-duplication pass —
  * corners are per-face by construction.
+ *
+ * <p>Derivation is incremental while the corner layout holds: after vertex
+ * moves and mapping edits the mesh's {@link MeshDirtyRegion} says which
+ * vertices changed, only the faces on them are re-derived
+ * ({@link IncrementalRenderMeshBuilder}), only their corner range is
+ * re-uploaded, and the topology is kept with its lazy geometry caches
+ * invalidated around the moved vertices. Any layout change (and a new mesh
+ * instance) falls back to a full {@link RenderMeshBuilder#build}, topology
+ * rebuild and whole-buffer upload.
  */
 public class MeshRebuildPipeline implements IMeshRebuildPipeline {
 
@@ -49,6 +60,12 @@ public class MeshRebuildPipeline implements IMeshRebuildPipeline {
     // Authoritative mesh + latest derivation
     private EditableMesh editableMesh = new EditableMesh();
     private RenderMesh lastRenderMesh;
+    private final IncrementalRenderMeshBuilder renderMeshBuilder = new IncrementalRenderMeshBuilder();
+
+    // CPU copy of the VBO contents, patched range by range alongside it.
+    // Out of sync whenever an upload was skipped (GPU not ready yet).
+    private float[] interleavedData = new float[0];
+    private boolean gpuInSync;
 
     // ALL combined-soup vertex indices per editable vertex id, from the last
     // import — the part system's MeshRange index space. Welding crosses part
@@ -159,24 +176,31 @@ public class MeshRebuildPipeline implements IMeshRebuildPipeline {
     }
 
     /**
-     * Shared derivation. {@code structural} controls whether the index buffer
-     * is re-uploaded (loop/face changes) or only the VBO (position changes).
+     * Shared derivation. {@code structural} marks edits that may have changed
+     * face texture mappings without touching the mesh, so every face's mapping
+     * is re-checked; a position refresh skips that scan.
      */
     private void derive(boolean structural) {
         invalidateBounds();
 
-        RenderMesh rm = RenderMeshBuilder.build(editableMesh, faceTextureManager);
+        MeshDirtyRegion dirty = editableMesh.dirtyRegion();
+        IncrementalRenderMeshBuilder.Update update =
+            renderMeshBuilder.update(editableMesh, faceTextureManager, structural);
+        RenderMesh rm = update.mesh();
         this.lastRenderMesh = rm;
 
         // Write the GPU-facing caches (BaseRenderer, DrawBatchManager, extractors
-        // and serialization all keep reading these).
-        vertexManager.setData(rm.vertices(), rm.texCoords(), rm.indices());
-        if (rm.triangleCount() > 0) {
-            faceMapper.setMapping(rm.triangleToFaceId().clone());
-        } else {
-            faceMapper.clear();
+        // and serialization all keep reading these). Same layout means the
+        // arrays were patched in place and the caches already hold them.
+        if (update.layoutChanged()) {
+            vertexManager.setData(rm.vertices(), rm.texCoords(), rm.indices());
+            if (rm.triangleCount() > 0) {
+                faceMapper.setMapping(rm.triangleToFaceId().clone());
+            } else {
+                faceMapper.clear();
+            }
+            vertexMapper.update(editableMesh, rm);
         }
-        vertexMapper.update(editableMesh, rm);
 
         if (rendererState != null) {
             rendererState.setVertexCount(rm.cornerCount());
@@ -184,25 +208,92 @@ public class MeshRebuildPipeline implements IMeshRebuildPipeline {
         }
 
         // Topology from authoritative loops — winding is never reconstructed.
-        this.topology = MeshTopologyBuilder.build(editableMesh, rm);
+        // Moving vertices changes no connectivity, only face/vertex geometry.
+        if (update.layoutChanged() || topology == null) {
+            this.topology = MeshTopologyBuilder.build(editableMesh, rm);
+        } else {
+            topology.invalidateMovedVertices(dirty.vertices());
+        }
 
-        // Upload GPU buffers
         if (gpuUploader.isGPUReady()) {
-            float[] interleavedData = geometryBuilder.buildInterleavedData(
-                rm.vertices(), rm.texCoords());
-            gpuUploader.uploadVBO(interleavedData);
-            if (structural) {
-                gpuUploader.uploadEBO(rm.indices());
-            }
+            uploadBuffers(update);
+        } else {
+            gpuInSync = false;
         }
+        dirty.clear();
 
-        drawBatchesDirty = true;
+        if (structural || update.layoutChanged() || update.triangleFrom() < update.triangleTo()) {
+            drawBatchesDirty = true;
+        }
 
         // Notify listeners
         changeNotifier.notifyTopologyRebuilt(topology);
         changeNotifier.notifyGeometryRebuilt();
     }
 
+    /**
+     * Upload what the update changed: whole buffers after a full derivation
+     * (or when the GPU copy cannot be trusted), otherwise just the changed
+     * corner range. Indices always go up whole — the draw-batch pass re-sorts
+     * the EBO by material, so there is no render-order copy to patch.
+     */
+    private void uploadBuffers(IncrementalRenderMeshBuilder.Update update) {
+        RenderMesh rm = update.mesh();
+        int stride = geometryBuilder.getFloatsPerVertex();
+        boolean full = update.full() || !gpuInSync;
+
+        if (full) {
+            interleavedData = geometryBuilder.buildInterleavedData(rm.vertices(), rm.texCoords());
+            gpuUploader.uploadVBO(interleavedData);
+        } else {
+            // Same layout: the copy already has every corner's slot.
+            geometryBuilder.writeInterleavedData(rm.vertices(), rm.texCoords(), interleavedData,
+                update.cornerFrom(), update.cornerTo());
+            gpuUploader.uploadVBORange(interleavedData,
+                update.cornerFrom() * stride, update.cornerTo() * stride);
+        }
+
+        if (full || update.triangleFrom() < update.triangleTo()) {
+            gpuUploader.uploadEBO(rm.indices());
+        }
+        gpuInSync = true;
+    }
+
+    /**
+     * Re-upload the interleaved vertices of {@code corners} after their
+     * positions were written straight into the vertex data (the interactive
+     * drag path). Contiguous corners go up as one range each.
+     *
+     * @param corners Render corner indices, ascending
+     */
+    public void uploadCorners(int[] corners) {
+        if (!gpuUploader.isGPUReady()) {
+            gpuInSync = false;
+            return;
+        }
+        RenderMesh rm = lastRenderMesh;
+        if (rm == null) {
+            return;
+        }
+        int stride = geometryBuilder.getFloatsPerVertex();
+        if (!gpuInSync || interleavedData.length != rm.cornerCount() * stride) {
+            // Indices may be stale too; the next derivation re-syncs both.
+            interleavedData = geometryBuilder.buildInterleavedData(rm.vertices(), rm.texCoords());
+            gpuUploader.uploadVBO(interleavedData);
+            return;
+        }
+        int i = 0;
+        while (i < corners.length) {
+            int from = corners[i];
+            int to = from + 1;
+            while (++i < corners.length && corners[i] == to) {
+                to++;
+            }
+            geometryBuilder.writeInterleavedData(rm.vertices(), rm.texCoords(), interleavedData, from, to);
+            gpuUploader.uploadVBORange(interleavedData, from * stride, to * stride);
+        }
+    }
+
     // ── Shared state ────────────────────────────────────────────────────────
 
     @Override
@@ -37,6 +37,7 @@ public final class EditableMesh {
     private final List<Vector3f> positions = new ArrayList<>();
     private final Map<Integer, EditableFace> faces = new LinkedHashMap<>();
     private int nextFaceId = 0;
+    private final MeshDirtyRegion dirtyRegion = new MeshDirtyRegion();
 
     // ── Vertices ────────────────────────────────────────────────────────────
 
@@ -49,6 +50,7 @@ public final class EditableMesh {
      */
     public int addVertex(Vector3f position) {
         positions.add(new Vector3f(position));
+        dirtyRegion.markVertexAdded(positions.size() - 1);
         return positions.size() - 1;
     }
 
@@ -65,6 +67,7 @@ public final class EditableMesh {
     /** Move vertex {@code vertexId}; affects every face referencing it. */
     public void setPosition(int vertexId, Vector3f position) {
         positions.get(vertexId).set(position);
+        dirtyRegion.markVertex(vertexId);
     }
 
     /** Number of vertices ever added (orphans included). */
@@ -98,6 +101,7 @@ public final class EditableMesh {
         int[] loop = validatedLoop(vertexLoop);
         int faceId = nextFaceId++;
         faces.put(faceId, new EditableFace(faceId, loop, validatedUVs(loop, cornerUVs)));
+        dirtyRegion.markFaceChanged();
         return faceId;
     }
 
@@ -122,6 +126,7 @@ public final class EditableMesh {
         int[] loop = validatedLoop(vertexLoop);
         faces.put(faceId, new EditableFace(faceId, loop, validatedUVs(loop, cornerUVs)));
         nextFaceId = Math.max(nextFaceId, faceId + 1);
+        dirtyRegion.markFaceChanged();
     }
 
     /**
@@ -146,6 +151,7 @@ public final class EditableMesh {
         }
         int[] loop = validatedLoop(vertexLoop);
         face.setLoop(loop, validatedUVs(loop, cornerUVs));
+        dirtyRegion.markFaceChanged();
     }
 
     /** @return the face, or {@code null} if deleted / never existed */
@@ -160,7 +166,11 @@ public final class EditableMesh {
      * @return true if the face existed
      */
     public boolean removeFace(int faceId) {
-        return faces.remove(faceId) != null;
+        if (faces.remove(faceId) == null) {
+            return false;
+        }
+        dirtyRegion.markFaceChanged();
+        return true;
     }
 
     /** Live faces in insertion order (unmodifiable view). */
@@ -178,6 +188,15 @@ public final class EditableMesh {
         return nextFaceId;
     }
 
+    /**
+     * Everything mutated since the derived render data was last brought up
+     * to date. Copies ({@link #deepCopy()}) start clean: a new instance is
+     * always derived in full.
+     */
+    public MeshDirtyRegion dirtyRegion() {
+        return dirtyRegion;
+    }
+
     // ── Queries used by mutation ops ────────────────────────────────────────
 
     /**
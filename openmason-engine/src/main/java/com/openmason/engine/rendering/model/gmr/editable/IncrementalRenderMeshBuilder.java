@@ -0,0 +1,176 @@
+package com.openmason.engine.rendering.model.gmr.editable;
+
+import com.openmason.engine.rendering.model.gmr.uv.FaceTextureMapping;
+import com.openmason.engine.rendering.model.gmr.uv.IFaceTextureManager;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Keeps a {@link RenderMesh} current across edits by re-deriving only the
+ * faces an edit touched, using the mesh's {@link MeshDirtyRegion}. The result
+ * is always identical to {@link RenderMeshBuilder#build} on the same mesh —
+ * the same per-face emission, the same face order.
+ *
+ * <p>Two cases:
+ * <ul>
+ *   <li><b>Same layout</b> (vertices moved, mappings changed): corners and
+ *       triangles keep their indices, so the current arrays are patched in
+ *       place. A face is re-emitted (re-triangulated, UVs re-projected) when
+ *       one of its vertices moved or its texture mapping changed, and the
+ *       changed ranges are just those faces' blocks.</li>
+ *   <li><b>Layout changed</b> (faces added, removed or re-looped): a full
+ *       {@link RenderMeshBuilder#build}, reported as {@link Update#full()}.
+ *       Copying the untouched blocks across with rebased indices measured
+ *       slower than re-deriving them, since topology and the uploads are
+ *       rebuilt in full after a layout change anyway.</li>
+ * </ul>
+ *
+ * <p>In-place patching means the arrays of the returned mesh are shared with
+ * the previous result: holders of the old {@link RenderMesh} see the update,
+ * as they already do for interactive drags.
+ *
+ * <p>Does not clear the dirty region — the caller does once everything
+ * derived from it is current. Not thread-safe.
+ */
+public final class IncrementalRenderMeshBuilder {
+
+    /**
+     * One update's outcome. Ranges are half-open, in corners and triangles of
+     * {@link #mesh()}; an empty range means nothing there needs re-uploading.
+     *
+     * @param mesh          The current render mesh
+     * @param full          Derived from scratch (new mesh instance, first build
+     *                      or any layout change)
+     * @param layoutChanged Corner/triangle counts or order changed
+     */
+    public record Update(RenderMesh mesh, boolean full, boolean layoutChanged,
+                         int cornerFrom, int cornerTo, int triangleFrom, int triangleTo) {
+
+        /** @return true if no corner or triangle changed */
+        public boolean isEmpty() {
+            return cornerFrom >= cornerTo && triangleFrom >= triangleTo;
+        }
+    }
+
+    private static final int[] NONE = new int[0];
+
+    private EditableMesh source;
+    private RenderMesh current;
+
+    // Per face id: block start in the current mesh (-1 = not present) and the
+    // texture mapping the block's UVs were projected with.
+    private int[] faceFirstCorner = NONE;
+    private int[] faceFirstTriangle = NONE;
+    private FaceTextureMapping[] faceMappings = new FaceTextureMapping[0];
+    private int[] cornerToFaceId = NONE;
+
+    private final Vector3f pos = new Vector3f();
+    private final BitSet touchedFaces = new BitSet();
+
+    /** The most recent result, or null before the first update. */
+    public RenderMesh current() {
+        return current;
+    }
+
+    /** Forget the cached mesh so the next update derives from scratch. */
+    public void reset() {
+        source = null;
+        current = null;
+    }
+
+    /**
+     * Bring the render mesh up to date with {@code mesh}.
+     *
+     * @param textureManager Per-face mapping source (may be null)
+     * @param checkMappings  Compare every face's mapping against the one its
+     *                       UVs were derived with. Needed after mapping edits,
+     *                       which do not touch the mesh; a pure position
+     *                       refresh can skip the O(faces) scan.
+     */
+    public Update update(EditableMesh mesh, IFaceTextureManager textureManager, boolean checkMappings) {
+        MeshDirtyRegion dirty = mesh.dirtyRegion();
+        if (mesh != source || current == null || dirty.layoutChanged()
+                || mesh.vertexCount() != current.vertexIdToCorners().length) {
+            source = mesh;
+            return rebuild(mesh, textureManager);
+        }
+        return patch(mesh, textureManager, dirty.vertices(), checkMappings);
+    }
+
+    // ── Same layout: patch in place ─────────────────────────────────────────
+
+    private Update patch(EditableMesh mesh, IFaceTextureManager textureManager,
+                         BitSet dirtyVertices, boolean checkMappings) {
+        touchedFaces.clear();
+        int[][] vertexIdToCorners = current.vertexIdToCorners();
+        for (int v = dirtyVertices.nextSetBit(0); v >= 0; v = dirtyVertices.nextSetBit(v + 1)) {
+            for (int corner : vertexIdToCorners[v]) {
+                touchedFaces.set(cornerToFaceId[corner]);
+            }
+        }
+        if (checkMappings && textureManager != null) {
+            for (EditableFace face : mesh.faces()) {
+                int faceId = face.faceId();
+                if (!Objects.equals(textureManager.getFaceMapping(faceId), faceMappings[faceId])) {
+                    touchedFaces.set(faceId);
+                }
+            }
+        }
+
+        int cornerFrom = Integer.MAX_VALUE;
+        int cornerTo = 0;
+        int triangleFrom = Integer.MAX_VALUE;
+        int triangleTo = 0;
+        for (int faceId = touchedFaces.nextSetBit(0); faceId >= 0;
+                faceId = touchedFaces.nextSetBit(faceId + 1)) {
+            EditableFace face = mesh.face(faceId);
+            int firstCorner = faceFirstCorner[faceId];
+            int firstTriangle = faceFirstTriangle[faceId];
+            FaceTextureMapping mapping = RenderMeshBuilder.mapping(textureManager, faceId);
+            RenderMeshBuilder.emitFace(mesh, face, mapping, pos,
+                current.vertices(), current.texCoords(), current.cornerToVertexId(), firstCorner,
+                current.indices(), current.triangleToFaceId(), firstTriangle);
+            faceMappings[faceId] = mapping;
+
+            cornerFrom = Math.min(cornerFrom, firstCorner);
+            cornerTo = Math.max(cornerTo, firstCorner + face.loopLength());
+            triangleFrom = Math.min(triangleFrom, firstTriangle);
+            triangleTo = Math.max(triangleTo, firstTriangle + face.loopLength() - 2);
+        }
+        return touchedFaces.isEmpty()
+            ? new Update(current, false, false, 0, 0, 0, 0)
+            : new Update(current, false, false, cornerFrom, cornerTo, triangleFrom, triangleTo);
+    }
+
+    // ── Layout changed: derive in full ─────────────────────────────────────
+
+    private Update rebuild(EditableMesh mesh, IFaceTextureManager textureManager) {
+        current = RenderMeshBuilder.build(mesh, textureManager);
+
+        // Block starts for later in-place patches, in the builder's face order.
+        int idBound = mesh.faceIdUpperBound();
+        faceFirstCorner = new int[idBound];
+        faceFirstTriangle = new int[idBound];
+        faceMappings = new FaceTextureMapping[idBound];
+        cornerToFaceId = new int[current.cornerCount()];
+        Arrays.fill(faceFirstCorner, -1);
+        Arrays.fill(faceFirstTriangle, -1);
+        int corner = 0;
+        int triangle = 0;
+        for (EditableFace face : mesh.faces()) {
+            int faceId = face.faceId();
+            int n = face.loopLength();
+            faceFirstCorner[faceId] = corner;
+            faceFirstTriangle[faceId] = triangle;
+            faceMappings[faceId] = RenderMeshBuilder.mapping(textureManager, faceId);
+            Arrays.fill(cornerToFaceId, corner, corner + n, faceId);
+            corner += n;
+            triangle += n - 2;
+        }
+        return new Update(current, true, true,
+            0, current.cornerCount(), 0, current.triangleCount());
+    }
+}
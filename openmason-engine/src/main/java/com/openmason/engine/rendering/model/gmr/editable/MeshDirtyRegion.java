@@ -0,0 +1,55 @@
+package com.openmason.engine.rendering.model.gmr.editable;
+
+import java.util.BitSet;
+
+/**
+ * What changed in an {@link EditableMesh} since its derived data was last
+ * brought up to date: the vertices that moved or were added, and whether the
+ * face/corner layout changed at all.
+ *
+ * <p>The mesh marks this on every mutation; the single consumer (the rebuild
+ * pipeline) reads it to re-derive only the faces on moved vertices, or
+ * everything after a layout change, then {@link #clear()}s it. A layout change (face added, removed or
+ * re-looped, vertex added) shifts render corners; without one, every corner
+ * and triangle keeps its index and derived arrays can be patched in place.
+ */
+public final class MeshDirtyRegion {
+
+    private final BitSet vertices = new BitSet();
+    private boolean layoutChanged;
+
+    void markVertex(int vertexId) {
+        vertices.set(vertexId);
+    }
+
+    void markVertexAdded(int vertexId) {
+        vertices.set(vertexId);
+        layoutChanged = true;
+    }
+
+    /** A face was added, re-looped or removed. */
+    void markFaceChanged() {
+        layoutChanged = true;
+    }
+
+    /** Vertex ids moved or added since the last {@link #clear()}. Read-only. */
+    public BitSet vertices() {
+        return vertices;
+    }
+
+    /** Whether corners or triangles were added, removed or reordered. */
+    public boolean layoutChanged() {
+        return layoutChanged;
+    }
+
+    /** @return true if nothing changed since the last {@link #clear()} */
+    public boolean isEmpty() {
+        return !layoutChanged && vertices.isEmpty();
+    }
+
+    /** Forget everything marked so far (derived data is now current). */
+    public void clear() {
+        vertices.clear();
+        layoutChanged = false;
+    }
+}
@@ -7,9 +7,6 @@ import com.openmason.engine.rendering.model.gmr.uv.IFaceTextureManager;
 import com.openmason.engine.rendering.model.gmr.uv.MaterialDefinition;
 import org.joml.Vector3f;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Derives the render representation from an {@link EditableMesh}: emits one
  * corner per face-loop vertex (per-face duplication — a cube stays 24 render
@@ -53,61 +50,84 @@ public final class RenderMeshBuilder {
         int[] triangleToFaceId = new int[triangleTotal];
         int[] cornerToVertexId = new int[cornerTotal];
 
-        List<List<Integer>> cornersPerVertex = new ArrayList<>(mesh.vertexCount());
-        for (int v = 0; v < mesh.vertexCount(); v++) {
-            cornersPerVertex.add(new ArrayList<>(4));
-        }
-
         int corner = 0;
         int triangle = 0;
         Vector3f pos = new Vector3f();
 
         for (EditableFace face : mesh.faces()) {
-            int n = face.loopLength();
-            int firstCorner = corner;
-            Vector3f[] loopPositions = new Vector3f[n];
-
-            for (int i = 0; i < n; i++) {
-                int vertexId = face.vertexAt(i);
-                mesh.position(vertexId, pos);
-                loopPositions[i] = new Vector3f(pos);
-
-                vertices[corner * 3]     = pos.x;
-                vertices[corner * 3 + 1] = pos.y;
-                vertices[corner * 3 + 2] = pos.z;
-                cornerToVertexId[corner] = vertexId;
-                cornersPerVertex.get(vertexId).add(corner);
-                corner++;
-            }
+            emitFace(mesh, face, mapping(textureManager, face.faceId()), pos,
+                vertices, texCoords, cornerToVertexId, corner,
+                indices, triangleToFaceId, triangle);
+            corner += face.loopLength();
+            triangle += face.loopLength() - 2;
+        }
 
-            emitFaceUVs(face, loopPositions, texCoords, firstCorner,
-                mapping(textureManager, face.faceId()));
+        return new RenderMesh(vertices, texCoords, indices, triangleToFaceId,
+            cornerToVertexId, cornersByVertex(cornerToVertexId, mesh.vertexCount()));
+    }
 
-            int[] local = PolygonTriangulator.triangulate(loopPositions);
-            for (int i = 0; i < local.length; i += 3) {
-                indices[triangle * 3]     = firstCorner + local[i];
-                indices[triangle * 3 + 1] = firstCorner + local[i + 1];
-                indices[triangle * 3 + 2] = firstCorner + local[i + 2];
-                triangleToFaceId[triangle] = face.faceId();
-                triangle++;
-            }
+    /**
+     * Emit one face's corners (positions, UVs, vertex ids) at
+     * {@code firstCorner} and its triangles at {@code firstTriangle}. The
+     * whole render mesh is these blocks laid end to end in face order, which
+     * is what lets {@link IncrementalRenderMeshBuilder} re-emit single faces.
+     */
+    static void emitFace(EditableMesh mesh, EditableFace face, FaceTextureMapping faceMapping,
+                         Vector3f pos, float[] vertices, float[] texCoords,
+                         int[] cornerToVertexId, int firstCorner,
+                         int[] indices, int[] triangleToFaceId, int firstTriangle) {
+        int n = face.loopLength();
+        Vector3f[] loopPositions = new Vector3f[n];
+
+        int corner = firstCorner;
+        for (int i = 0; i < n; i++) {
+            int vertexId = face.vertexAt(i);
+            mesh.position(vertexId, pos);
+            loopPositions[i] = new Vector3f(pos);
+
+            vertices[corner * 3]     = pos.x;
+            vertices[corner * 3 + 1] = pos.y;
+            vertices[corner * 3 + 2] = pos.z;
+            cornerToVertexId[corner] = vertexId;
+            corner++;
         }
 
-        int[][] vertexIdToCorners = new int[mesh.vertexCount()][];
-        for (int v = 0; v < mesh.vertexCount(); v++) {
-            List<Integer> list = cornersPerVertex.get(v);
-            int[] arr = new int[list.size()];
-            for (int i = 0; i < arr.length; i++) {
-                arr[i] = list.get(i);
-            }
-            vertexIdToCorners[v] = arr;
+        emitFaceUVs(face, loopPositions, texCoords, firstCorner, faceMapping);
+
+        int triangle = firstTriangle;
+        int[] local = PolygonTriangulator.triangulate(loopPositions);
+        for (int i = 0; i < local.length; i += 3) {
+            indices[triangle * 3]     = firstCorner + local[i];
+            indices[triangle * 3 + 1] = firstCorner + local[i + 1];
+            indices[triangle * 3 + 2] = firstCorner + local[i + 2];
+            triangleToFaceId[triangle] = face.faceId();
+            triangle++;
         }
+    }
 
-        return new RenderMesh(vertices, texCoords, indices,
-            triangleToFaceId, cornerToVertexId, vertexIdToCorners);
+    /**
+     * Invert the corner→vertex map: corner indices per vertex id, ascending
+     * (orphan vertices get empty arrays). Two counting passes over primitive
+     * arrays.
+     */
+    static int[][] cornersByVertex(int[] cornerToVertexId, int vertexCount) {
+        int[] fill = new int[vertexCount];
+        for (int vertexId : cornerToVertexId) {
+            fill[vertexId]++;
+        }
+        int[][] vertexIdToCorners = new int[vertexCount][];
+        for (int v = 0; v < vertexCount; v++) {
+            vertexIdToCorners[v] = new int[fill[v]];
+            fill[v] = 0;
+        }
+        for (int corner = 0; corner < cornerToVertexId.length; corner++) {
+            int vertexId = cornerToVertexId[corner];
+            vertexIdToCorners[vertexId][fill[vertexId]++] = corner;
+        }
+        return vertexIdToCorners;
     }
 
-    private static FaceTextureMapping mapping(IFaceTextureManager textureManager, int faceId) {
+    static FaceTextureMapping mapping(IFaceTextureManager textureManager, int faceId) {
         return textureManager != null ? textureManager.getFaceMapping(faceId) : null;
     }
 
@@ -22,28 +22,32 @@ public class GeometryDataBuilder implements IGeometryDataBuilder {
 
         int vertexCount = vertices.length / POSITION_COMPONENTS;
         float[] interleaved = new float[vertexCount * FLOATS_PER_VERTEX];
+        writeInterleavedData(vertices, texCoords, interleaved, 0, vertexCount);
+        return interleaved;
+    }
 
-        for (int i = 0; i < vertexCount; i++) {
+    @Override
+    public void writeInterleavedData(float[] vertices, float[] texCoords, float[] dest,
+                                     int fromVertex, int toVertex) {
+        for (int i = fromVertex; i < toVertex; i++) {
             int srcPos = i * POSITION_COMPONENTS;
             int srcTex = i * TEXCOORD_COMPONENTS;
             int dst = i * FLOATS_PER_VERTEX;
 
             // Position (x, y, z)
-            interleaved[dst] = vertices[srcPos];
-            interleaved[dst + 1] = vertices[srcPos + 1];
-            interleaved[dst + 2] = vertices[srcPos + 2];
+            dest[dst] = vertices[srcPos];
+            dest[dst + 1] = vertices[srcPos + 1];
+            dest[dst + 2] = vertices[srcPos + 2];
 
             // TexCoord (u, v)
             if (texCoords != null && srcTex + 1 < texCoords.length) {
-                interleaved[dst + 3] = texCoords[srcTex];
-                interleaved[dst + 4] = texCoords[srcTex + 1];
+                dest[dst + 3] = texCoords[srcTex];
+                dest[dst + 4] = texCoords[srcTex + 1];
             } else {
-                interleaved[dst + 3] = 0.0f;
-                interleaved[dst + 4] = 0.0f;
+                dest[dst + 3] = 0.0f;
+                dest[dst + 4] = 0.0f;
             }
         }
-
-        return interleaved;
     }
 
     @Override
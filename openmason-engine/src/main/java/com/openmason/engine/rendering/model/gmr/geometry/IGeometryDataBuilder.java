@@ -16,6 +16,20 @@ public interface IGeometryDataBuilder {
      */
     float[] buildInterleavedData(float[] vertices, float[] texCoords);
 
+    /**
+     * Write interleaved data for vertices {@code [fromVertex, toVertex)} into
+     * {@code dest} at the same vertex offsets — the in-place counterpart of
+     * {@link #buildInterleavedData} for patching a range.
+     *
+     * @param vertices   Vertex positions (x,y,z interleaved)
+     * @param texCoords  Texture coordinates (u,v interleaved), may be null
+     * @param dest       Interleaved array, at least {@code toVertex} vertices long
+     * @param fromVertex First vertex to write
+     * @param toVertex   End of the range (exclusive)
+     */
+    void writeInterleavedData(float[] vertices, float[] texCoords, float[] dest,
+                              int fromVertex, int toVertex);
+
     /**
      * Get the stride in bytes (position 3 floats + texCoord 2 floats = 5 * 4 = 20 bytes).
      *
@@ -16,6 +16,7 @@ public final class DihedralAngleCache {
     private final MeshEdge[] edges;
     private final float[] dihedralAngles;
     private final boolean[] edgeDirty;
+    private int dirtyCount;
     private final FaceGeometryCache faceGeometryCache;
     private final EdgeClassifier edgeClassifier;
 
@@ -68,6 +69,29 @@ public final class DihedralAngleCache {
         dihedralAngles[edgeId] = computeDihedralAngleForEdge(edge);
         edgeClassifier.reclassify(edgeId, dihedralAngles[edgeId]);
         edgeDirty[edgeId] = false;
+        dirtyCount--;
+    }
+
+    /**
+     * Bring every dirty edge up to date, so whole-mesh classification counts
+     * are current. Free when nothing is dirty.
+     * Package-private — called by {@link MeshTopology} before counting queries.
+     */
+    void ensureAllClean() {
+        for (int i = 0; i < edgeDirty.length && dirtyCount > 0; i++) {
+            ensureClean(i);
+        }
+    }
+
+    /**
+     * Mark an edge's angle stale after an adjacent face's geometry changed.
+     * Package-private — called by {@link MeshTopology#invalidateMovedVertices}.
+     */
+    void markEdgeDirty(int edgeId) {
+        if (edgeId >= 0 && edgeId < edgeDirty.length && !edgeDirty[edgeId]) {
+            edgeDirty[edgeId] = true;
+            dirtyCount++;
+        }
     }
 
     /**
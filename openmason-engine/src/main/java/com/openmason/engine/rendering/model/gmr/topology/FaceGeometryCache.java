@@ -119,6 +119,16 @@ public final class FaceGeometryCache {
         }
     }
 
+    /**
+     * Mark a face's geometry stale after one of its vertices moved in place.
+     * Package-private — called by {@link MeshTopology#invalidateMovedVertices}.
+     */
+    void markFaceDirty(int faceId) {
+        if (faceId >= 0 && faceId < faceDirty.length) {
+            faceDirty[faceId] = true;
+        }
+    }
+
     /**
      * Direct reference to the face normals array.
      * Package-private — used by {@link DihedralAngleCache} and {@link VertexNormalCache}.
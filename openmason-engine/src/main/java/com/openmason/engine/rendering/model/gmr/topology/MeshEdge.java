@@ -26,6 +26,14 @@ public record MeshEdge(
     int[] adjacentFaceIds
 ) {
 
+    /**
+     * Odd multiplier applied to the high half of pair keys (a bijection, so
+     * keys stay unique). {@code Long.hashCode} folds the halves together, and
+     * {@code min ^ max} of nearby ids — which is what mesh edges join —
+     * collides so heavily that large-mesh edge maps degrade to tree bins.
+     */
+    static final int KEY_SCRAMBLE = 0x9E3779B9;
+
     /**
      * Create a MeshEdge with canonical vertex ordering enforced.
      *
@@ -43,7 +51,8 @@ public record MeshEdge(
 
     /**
      * Compute a canonical key for HashMap lookup.
-     * Packs the two vertex indices into a single long with the smaller index in the high bits.
+     * Packs the two vertex indices into a single long, the (scrambled) smaller
+     * index in the high bits.
      *
      * @return Packed long suitable for use as a map key
      */
@@ -56,12 +65,12 @@ public record MeshEdge(
      *
      * @param v0 First vertex index
      * @param v1 Second vertex index
-     * @return Packed long with min in high bits, max in low bits
+     * @return Packed long with scrambled min in high bits, max in low bits
      */
     public static long canonicalKey(int v0, int v1) {
         int min = Math.min(v0, v1);
         int max = Math.max(v0, v1);
-        return ((long) min << 32) | (max & 0xFFFFFFFFL);
+        return ((long) (min * KEY_SCRAMBLE) << 32) | (max & 0xFFFFFFFFL);
     }
 
     /**
@@ -190,7 +190,8 @@ public final class MeshGeometry {
 
     /**
      * Compute a canonical key for a pair of face IDs.
-     * Packs the smaller ID into the high bits, the larger into the low bits.
+     * Packs the smaller ID into the high bits, the larger into the low bits,
+     * scrambled as in {@link MeshEdge#canonicalKey(int, int)}.
      *
      * @param faceA First face ID
      * @param faceB Second face ID
@@ -199,6 +200,6 @@ public final class MeshGeometry {
     public static long canonicalFacePairKey(int faceA, int faceB) {
         int min = Math.min(faceA, faceB);
         int max = Math.max(faceA, faceB);
-        return ((long) min << 32) | (max & 0xFFFFFFFFL);
+        return ((long) (min * MeshEdge.KEY_SCRAMBLE) << 32) | (max & 0xFFFFFFFFL);
     }
 }
@@ -2,6 +2,7 @@ package com.openmason.engine.rendering.model.gmr.topology;
 
 import org.joml.Vector3f;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -319,11 +320,13 @@ public class MeshTopology {
 
     /** @see EdgeClassifier#countByKind(EdgeKind) */
     public int countEdgesByKind(EdgeKind kind) {
+        dihedralAngleCache.ensureAllClean();
         return edgeClassifier.countByKind(kind);
     }
 
     /** @see EdgeClassifier#countSharp() */
     public int countSharpEdges() {
+        dihedralAngleCache.ensureAllClean();
         return edgeClassifier.countSharp();
     }
 
@@ -369,6 +372,34 @@ public class MeshTopology {
         return faceGeometryCache.isFacePlanar(faceId, tolerance);
     }
 
+    /**
+     * Mark geometry stale around vertices that moved in place — same loops,
+     * same corner layout, new positions in the render vertex array this
+     * topology was built over. Faces touching a moved vertex, their edges'
+     * dihedral angles and their vertices' smooth normals recompute lazily on
+     * next read; connectivity is untouched. Rebuild instead after any loop or
+     * face change.
+     *
+     * @param vertexIds Unique vertex indices that moved
+     */
+    public void invalidateMovedVertices(BitSet vertexIds) {
+        for (int v = vertexIds.nextSetBit(0); v >= 0; v = vertexIds.nextSetBit(v + 1)) {
+            for (int faceId : elementAdjacencyQuery.getFacesForVertex(v)) {
+                MeshFace face = getFace(faceId);
+                if (face == null) {
+                    continue;
+                }
+                faceGeometryCache.markFaceDirty(faceId);
+                for (int w : face.vertexIndices()) {
+                    vertexNormalCache.markVertexDirty(w);
+                }
+                for (int edgeId : face.edgeIds()) {
+                    dihedralAngleCache.markEdgeDirty(edgeId);
+                }
+            }
+        }
+    }
+
     // =========================================================================
     // VERTEX NORMAL QUERIES
     // =========================================================================
@@ -49,6 +49,16 @@ public final class VertexNormalCache {
         return vertexNormals[uniqueVertexIdx];
     }
 
+    /**
+     * Mark a vertex normal stale after an adjacent face's geometry changed.
+     * Package-private — called by {@link MeshTopology#invalidateMovedVertices}.
+     */
+    void markVertexDirty(int uniqueVertexIdx) {
+        if (uniqueVertexIdx >= 0 && uniqueVertexIdx < vertexNormalDirty.length) {
+            vertexNormalDirty[uniqueVertexIdx] = true;
+        }
+    }
+
     private void ensureClean(int uniqueVertexIdx) {
         if (!vertexNormalDirty[uniqueVertexIdx]) {
             return;
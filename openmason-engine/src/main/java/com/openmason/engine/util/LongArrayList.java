@@ -0,0 +1,73 @@
+package com.openmason.engine.util;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive {@code long}s. Exists for per-tick work queues keyed by packed
+ * coordinates, where an {@code ArrayList<Long>} would box every entry and a cleared list
+ * should keep its capacity for the next tick.
+ *
+ * <p>Not thread-safe; callers confine instances to one thread or guard them externally.
+ */
+public final class LongArrayList {
+
+    private long[] elements;
+    private int size;
+
+    public LongArrayList() {
+        this(16);
+    }
+
+    public LongArrayList(int initialCapacity) {
+        elements = new long[Math.max(1, initialCapacity)];
+    }
+
+    public void add(long value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size << 1);
+        }
+        elements[size++] = value;
+    }
+
+    public void addAll(LongArrayList other) {
+        int needed = size + other.size;
+        if (needed > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(needed, elements.length << 1));
+        }
+        System.arraycopy(other.elements, 0, elements, size, other.size);
+        size = needed;
+    }
+
+    public long get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return elements[index];
+    }
+
+    /** Drops the first {@code count} elements, shifting the rest down. Capacity is kept. */
+    public void removeFirst(int count) {
+        if (count <= 0) {
+            return;
+        }
+        if (count >= size) {
+            size = 0;
+            return;
+        }
+        System.arraycopy(elements, count, elements, 0, size - count);
+        size -= count;
+    }
+
+    /** Empties the list; capacity is kept. */
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -32,4 +32,15 @@ public interface IBlockType {
 
     /** Whether this block type represents air (empty space). */
     boolean isAir();
+
+    /**
+     * Whether this block collides with only part of its cell, or by a rule
+     * the game decides per cell (layered snow, stair steps, doors). Such cells
+     * land in the shaped collision mask for the game to resolve; every other
+     * block collides as a whole cell when {@link #isSolid()} and not at all
+     * otherwise.
+     */
+    default boolean hasShapedCollision() {
+        return false;
+    }
 }
@@ -53,6 +53,29 @@ public interface CcoBlockStorage {
      */
     int getHighestNonAirY();
 
+    /**
+     * Copies the block ids of a box into {@code dst}. The box starts at local
+     * ({@code x0}, {@code y0}, {@code z0}), spans {@code sizeX × sizeY × sizeZ}
+     * cells and must lie inside the storage; cell ({@code x0+i}, {@code y0+j},
+     * {@code z0+k}) lands at {@code dst[dstOffset + j*strideY + k*strideZ + i]}.
+     * A null cell copies as id 0.
+     *
+     * <p>The default reads cell by cell; paletted storage resolves each section
+     * once and copies whole rows.
+     */
+    default void copyBlockIds(int x0, int y0, int z0, int sizeX, int sizeY, int sizeZ,
+                              short[] dst, int dstOffset, int strideZ, int strideY) {
+        for (int j = 0; j < sizeY; j++) {
+            for (int k = 0; k < sizeZ; k++) {
+                int out = dstOffset + j * strideY + k * strideZ;
+                for (int i = 0; i < sizeX; i++) {
+                    IBlockType block = get(x0 + i, y0 + j, z0 + k);
+                    dst[out + i] = block == null ? 0 : (short) block.getId();
+                }
+            }
+        }
+    }
+
     /**
      * Creates an independent snapshot copy of this storage.
      * Cheap for paletted implementations (copies palettes + index arrays,
@@ -1,6 +1,7 @@
 package com.openmason.engine.voxel.cco.data;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Thread-safe dirty flag tracker for CCO chunks.
@@ -10,12 +11,18 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * Zero allocations in hot paths.
  */
 public final class CcoDirtyTracker {
+    /** Hands each tracker its own revision range (high 32 bits), so revisions never repeat across chunks. */
+    private static final AtomicLong NEXT_TRACKER = new AtomicLong();
+
     private final AtomicBoolean meshDirty;
     private final AtomicBoolean dataDirty;
+    /** Bumped on every data change; unlike the dirty flag, saving never resets it. */
+    private final AtomicLong dataRevision;
 
     public CcoDirtyTracker() {
         this.meshDirty = new AtomicBoolean(false);
         this.dataDirty = new AtomicBoolean(false);
+        this.dataRevision = new AtomicLong(NEXT_TRACKER.incrementAndGet() << 32);
     }
 
     /**
@@ -25,6 +32,7 @@ public final class CcoDirtyTracker {
     public void markBlockChanged() {
         meshDirty.set(true);
         dataDirty.set(true);
+        dataRevision.incrementAndGet();
     }
 
     /**
@@ -41,6 +49,16 @@ public final class CcoDirtyTracker {
      */
     public void markDataDirtyOnly() {
         dataDirty.set(true);
+        dataRevision.incrementAndGet();
+    }
+
+    /**
+     * Data revision: changes whenever data is marked dirty and is unique to this
+     * tracker, so a value cached against one chunk never matches a reloaded
+     * one. Lets callers cache derived data (encoded snapshots) past saves.
+     */
+    public long getDataRevision() {
+        return dataRevision.get();
     }
 
     /**
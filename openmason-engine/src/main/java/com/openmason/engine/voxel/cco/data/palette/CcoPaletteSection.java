@@ -16,6 +16,12 @@ import java.util.Arrays;
  *       (practically unreachable in normal gameplay).</li>
  * </ul>
  *
+ * <p>Any indexed tier can also be <b>packed</b> ({@link #pack()}): the index
+ * array compressed into one blob for sections nobody is looking at. Packing
+ * is the one exception to "never demoted", and it is invisible to callers —
+ * the first read or write of a packed section inflates it back to the tier
+ * it was packed from (see {@link CcoSectionPacking}).
+ *
  * <p>Concurrency: reads are lock-free — a single volatile read of the
  * immutable-structure {@link State} followed by plain array reads. All
  * writes synchronize on this section. Structural transitions (uniform
@@ -32,6 +38,18 @@ import java.util.Arrays;
  * cost O(1) per section instead of cloning every index array. Palette
  * arrays are never mutated in place after publication (growth always copies),
  * so they are shared freely across states.
+ *
+ * <p>{@link #contentHash()} is an order-sensitive hash of the section's block
+ * ids that {@link #set} keeps current in O(1): the sum of a mixed per-cell
+ * term {@link #cellHash}, so a write swaps one term for another. It is computed
+ * once, lazily, on first request and then travels with {@link #copy()} and
+ * {@link #copyFrom}; chunk-level audits combine the per-section values instead
+ * of rescanning 65k cells.
+ *
+ * <p>{@link #collisionMasks()} is the section's collision occupancy as two
+ * bitsets, so physics can test a row of cells with a shift and a mask instead
+ * of a block lookup per cell. Like the content hash it is built lazily and
+ * then kept current by {@link #set}.
  */
 public final class CcoPaletteSection {
 
@@ -56,6 +74,14 @@ public final class CcoPaletteSection {
          * (≤ 13 distinct ids). Null otherwise.
          */
         final byte[] nibbles;
+        /**
+         * Packed tier: the active index array of the tier named by
+         * {@code packedTier}, compressed with {@code packedCodec}. The other
+         * three arrays are null while it is set. Never mutated.
+         */
+        final byte[] packed;
+        final byte packedTier;
+        final byte packedCodec;
         /**
          * Copy-on-write marker: set (under the owning section's lock) when this
          * state becomes visible from more than one section via {@link #copy()}/
@@ -64,23 +90,55 @@ public final class CcoPaletteSection {
          * cleared — a stale {@code true} only costs one extra clone.
          */
         volatile boolean shared;
+        /**
+         * Block id per palette entry, built on first bulk read. The palette
+         * never changes under a state, so racing builders compute the same
+         * array and either may win.
+         */
+        short[] paletteIds;
 
         State(IBlockType[] palette, byte[] indices, short[] wideIndices) {
             this(palette, indices, wideIndices, null);
         }
 
         State(IBlockType[] palette, byte[] indices, short[] wideIndices, byte[] nibbles) {
+            this(palette, indices, wideIndices, nibbles, null, TIER_NONE, (byte) 0);
+        }
+
+        State(IBlockType[] palette, byte[] indices, short[] wideIndices, byte[] nibbles,
+              byte[] packed, byte packedTier, byte packedCodec) {
             this.palette = palette;
             this.indices = indices;
             this.wideIndices = wideIndices;
             this.nibbles = nibbles;
+            this.packed = packed;
+            this.packedTier = packedTier;
+            this.packedCodec = packedCodec;
         }
 
         boolean uniform() {
-            return indices == null && wideIndices == null && nibbles == null;
+            return indices == null && wideIndices == null && nibbles == null && packed == null;
+        }
+
+        short[] paletteIds() {
+            short[] ids = paletteIds;
+            if (ids == null) {
+                ids = new short[palette.length];
+                for (int i = 0; i < palette.length; i++) {
+                    ids[i] = (short) idOf(palette[i]);
+                }
+                paletteIds = ids;
+            }
+            return ids;
         }
     }
 
+    // Tier a packed state inflates back to.
+    private static final byte TIER_NONE = 0;
+    private static final byte TIER_NIBBLE = 1;
+    private static final byte TIER_BYTE = 2;
+    private static final byte TIER_WIDE = 3;
+
     /** Palette size up to which a section stays on the nibble tier. */
     private static final int MAX_NIBBLE_PALETTE = 16;
 
@@ -129,6 +187,23 @@ public final class CcoPaletteSection {
     private volatile State state;
     /** Advisory non-air cell count, maintained under the write lock. */
     private volatile int nonAirCount;
+    /** Sum of {@link #cellHash} over all cells; valid once first computed. Guarded by this. */
+    private int contentHash;
+    private boolean contentHashValid;
+    /**
+     * See {@link #collisionMasks()}; null until first requested. Replaced under
+     * the lock, updated in place by {@link #set} (a racing reader sees the old
+     * or the new bit — a torn long differs in that one bit only).
+     */
+    private volatile long[] collisionMasks;
+
+    /** Collision kinds, see {@link #collisionKind}. */
+    private static final int COLLIDES_NOT = 0;
+    private static final int COLLIDES_FULL = 1;
+    private static final int COLLIDES_SHAPED = 2;
+
+    /** Masks of a section with no colliders at all, shared; never written. */
+    private static final long[] NO_COLLIDERS = new long[2 * (256 * CcoSectionIndexing.SECTION_HEIGHT / 64)];
 
     /** Creates a uniform section filled with the given block (typically air). */
     public CcoPaletteSection(int cellsPerLayer, IBlockType fillBlock) {
@@ -209,6 +284,9 @@ public final class CcoPaletteSection {
         if (s.wideIndices != null) {
             return s.palette[s.wideIndices[cellIndex]];
         }
+        if (s.packed != null) {
+            return readFrom(unpack(), cellIndex);
+        }
         return s.palette[0];
     }
 
@@ -218,7 +296,7 @@ public final class CcoPaletteSection {
      * @return true if the cell changed
      */
     public synchronized boolean set(int cellIndex, IBlockType block) {
-        State s = state;
+        State s = live();
         IBlockType current = readFrom(s, cellIndex);
         if (current == block) {
             return false;
@@ -301,9 +379,135 @@ public final class CcoPaletteSection {
         if (wasAir != nowAir) {
             nonAirCount += nowAir ? -1 : 1;
         }
+        if (contentHashValid) {
+            contentHash += cellHash(cellIndex, idOf(block)) - cellHash(cellIndex, idOf(current));
+        }
+        long[] masks = collisionMasks;
+        if (masks != null) {
+            updateCollisionMasks(masks, cellIndex, collisionKind(current), collisionKind(block));
+        }
         return true;
     }
 
+    /** Moves one cell between collision masks; called under the lock. */
+    private void updateCollisionMasks(long[] masks, int cellIndex, int kindBefore, int kindAfter) {
+        if (kindBefore == kindAfter) {
+            return;
+        }
+        boolean sharedMasks = masks == NO_COLLIDERS;
+        if (sharedMasks) {
+            masks = masks.clone();
+        }
+        int words = masks.length >> 1;
+        int word = cellIndex >>> 6;
+        long bit = 1L << cellIndex;
+        if (kindBefore != COLLIDES_NOT) {
+            masks[(kindBefore - 1) * words + word] &= ~bit;
+        }
+        if (kindAfter != COLLIDES_NOT) {
+            masks[(kindAfter - 1) * words + word] |= bit;
+        }
+        if (sharedMasks) {
+            collisionMasks = masks;
+        }
+    }
+
+    /**
+     * Collision occupancy of this section: two bitsets of
+     * {@code n = ceil(volume / 64)} words each, bit {@code i & 63} of word
+     * {@code i >> 6} standing for cell {@code i}. Words {@code [0, n)} mark
+     * cells whose block fills the whole cell; words {@code [n, 2n)} mark cells
+     * with a shaped collider ({@link IBlockType#hasShapedCollision()}), whose
+     * exact extent the game resolves per cell. Everything else is passable.
+     *
+     * <p>Built on first request (one pass over the section) and kept current
+     * by {@link #set} from then on. The array is shared and must not be
+     * modified; it may be replaced, so fetch it again per query.
+     */
+    public long[] collisionMasks() {
+        long[] masks = collisionMasks;
+        return masks != null ? masks : buildCollisionMasks();
+    }
+
+    private synchronized long[] buildCollisionMasks() {
+        long[] masks = collisionMasks;
+        if (masks != null) {
+            return masks;
+        }
+        State s = live();
+        int words = (volume + 63) >>> 6;
+        if (s.uniform()) {
+            int kind = collisionKind(s.palette[0]);
+            if (kind == COLLIDES_NOT && NO_COLLIDERS.length == 2 * words) {
+                masks = NO_COLLIDERS;
+            } else {
+                masks = new long[2 * words];
+                if (kind != COLLIDES_NOT) {
+                    int base = (kind - 1) * words;
+                    Arrays.fill(masks, base, base + words, -1L);
+                    if ((volume & 63) != 0) {
+                        masks[base + words - 1] = (1L << volume) - 1;
+                    }
+                }
+            }
+        } else {
+            int[] kinds = new int[s.palette.length];
+            for (int i = 0; i < kinds.length; i++) {
+                kinds[i] = collisionKind(s.palette[i]);
+            }
+            masks = new long[2 * words];
+            for (int cell = 0; cell < volume; cell++) {
+                int kind = kinds[paletteIndexAt(s, cell)];
+                if (kind != COLLIDES_NOT) {
+                    masks[(kind - 1) * words + (cell >>> 6)] |= 1L << cell;
+                }
+            }
+        }
+        collisionMasks = masks;
+        return masks;
+    }
+
+    /**
+     * Hash of this section's block ids by cell, equal for equal contents
+     * whatever the storage tier. O(1) after the first call (which scans the
+     * section once); see the class notes.
+     */
+    public synchronized int contentHash() {
+        if (!contentHashValid) {
+            State s = live();
+            int hash = 0;
+            if (s.uniform()) {
+                int id = idOf(s.palette[0]);
+                for (int i = 0; i < volume; i++) {
+                    hash += cellHash(i, id);
+                }
+            } else {
+                for (int i = 0; i < volume; i++) {
+                    hash += cellHash(i, idOf(readFrom(s, i)));
+                }
+            }
+            contentHash = hash;
+            contentHashValid = true;
+        }
+        return contentHash;
+    }
+
+    /**
+     * One cell's term of {@link #contentHash()}: the murmur3 finalizer over the
+     * packed (cell, id) pair. The packing is injective for sections of up to
+     * 65536 cells and the finalizer is a bijection, so distinct pairs never
+     * share a term. Exposed so storage without sections can hash the same way.
+     */
+    public static int cellHash(int cellIndex, int blockId) {
+        int h = (cellIndex << 16) | (blockId & 0xFFFF);
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
     private void widenAndSet(State s, int cellIndex, IBlockType block) {
         IBlockType[] palette = Arrays.copyOf(s.palette, s.palette.length + 1);
         palette[s.palette.length] = block;
@@ -324,15 +528,12 @@ public final class CcoPaletteSection {
      * id table + a tight index loop.
      */
     public void writeBlockIdsInto(short[] dst, int dstOffset) {
-        State s = state;
+        State s = live();
         if (s.uniform()) {
             java.util.Arrays.fill(dst, dstOffset, dstOffset + volume, (short) s.palette[0].getId());
             return;
         }
-        short[] paletteIds = new short[s.palette.length];
-        for (int i = 0; i < s.palette.length; i++) {
-            paletteIds[i] = (short) s.palette[i].getId();
-        }
+        short[] paletteIds = s.paletteIds();
         if (s.nibbles != null) {
             byte[] nib = s.nibbles;
             for (int i = 0; i < volume; i += 2) {
@@ -355,6 +556,48 @@ public final class CcoPaletteSection {
         }
     }
 
+    /**
+     * Copies the block ids of a box of this section into {@code dst}: the box
+     * starts at local cell ({@code x0}, {@code ly0}, {@code z0}) — {@code ly0}
+     * within the section — and spans {@code w × h × d} cells, in a column
+     * {@code sizeX} cells wide. Cell ({@code x0+i}, {@code ly0+j}, {@code z0+k})
+     * lands at {@code dst[dstOffset + j*strideY + k*strideZ + i]}.
+     *
+     * <p>The box-shaped sibling of {@link #writeBlockIdsInto}, for simulations
+     * that read a few cells around an entity: a uniform section is a row fill,
+     * an indexed one a tight index-to-id loop per row, with no per-cell
+     * virtual call. The box must lie inside the section.
+     */
+    public void copyBoxIds(int x0, int ly0, int z0, int w, int h, int d, int sizeX,
+                           short[] dst, int dstOffset, int strideZ, int strideY) {
+        State s = live();
+        short[] ids = s.paletteIds();
+        for (int j = 0; j < h; j++) {
+            for (int k = 0; k < d; k++) {
+                int cell = (ly0 + j) * cellsPerLayer + (z0 + k) * sizeX + x0;
+                int out = dstOffset + j * strideY + k * strideZ;
+                if (s.nibbles != null) {
+                    byte[] nib = s.nibbles;
+                    for (int i = 0; i < w; i++) {
+                        dst[out + i] = ids[nibbleAt(nib, cell + i)];
+                    }
+                } else if (s.indices != null) {
+                    byte[] indices = s.indices;
+                    for (int i = 0; i < w; i++) {
+                        dst[out + i] = ids[indices[cell + i] & 0xFF];
+                    }
+                } else if (s.wideIndices != null) {
+                    short[] wide = s.wideIndices;
+                    for (int i = 0; i < w; i++) {
+                        dst[out + i] = ids[wide[cell + i]];
+                    }
+                } else {
+                    Arrays.fill(dst, out, out + w, ids[0]);
+                }
+            }
+        }
+    }
+
     /** True if every cell holds the same block. */
     public boolean isUniform() {
         return state.uniform();
@@ -375,7 +618,7 @@ public final class CcoPaletteSection {
      * or -1 if the section is entirely air.
      */
     public int highestNonAirLocalY() {
-        State s = state;
+        State s = live();
         if (s.uniform()) {
             return isAir(s.palette[0]) ? -1 : CcoSectionIndexing.SECTION_HEIGHT - 1;
         }
@@ -399,7 +642,12 @@ public final class CcoPaletteSection {
         synchronized (this) {
             State s = state;
             s.shared = true;
-            return new CcoPaletteSection(cellsPerLayer, s, nonAirCount);
+            CcoPaletteSection copy = new CcoPaletteSection(cellsPerLayer, s, nonAirCount);
+            synchronized (copy) {
+                copy.contentHash = contentHash;
+                copy.contentHashValid = contentHashValid;
+            }
+            return copy;
         }
     }
 
@@ -413,14 +661,21 @@ public final class CcoPaletteSection {
         }
         State snap;
         int count;
+        int hash;
+        boolean hashValid;
         synchronized (other) {
             snap = other.state;
             snap.shared = true;
             count = other.nonAirCount;
+            hash = other.contentHash;
+            hashValid = other.contentHashValid;
         }
         synchronized (this) {
             this.state = snap;
             this.nonAirCount = count;
+            this.contentHash = hash;
+            this.contentHashValid = hashValid;
+            this.collisionMasks = null;
         }
     }
 
@@ -437,7 +692,7 @@ public final class CcoPaletteSection {
      *         {@link #writeBlockIdsInto} dense encoding)
      */
     public int snapshotPaletteData(short[] paletteIds, byte[] indices) {
-        State s = state;
+        State s = live();
         if (s.uniform()) {
             paletteIds[0] = (short) s.palette[0].getId();
             return 0;
@@ -463,7 +718,98 @@ public final class CcoPaletteSection {
 
     /** True when this section is on the 4-bit nibble tier (palette ≤ 16). */
     public boolean isNibbleTier() {
-        return state.nibbles != null;
+        return live().nibbles != null;
+    }
+
+    // ── Packed tier ─────────────────────────────────────────────────────────
+
+    /**
+     * Compresses this section's index array into the packed tier. Uniform and
+     * already-packed sections are left alone, as is any section whose indices
+     * don't compress. Readers racing the pack keep reading the state they hold;
+     * the next access after it inflates the section again.
+     *
+     * @return heap bytes the index array no longer takes (0 if nothing was packed)
+     */
+    public synchronized int pack() {
+        State s = state;
+        if (s.uniform() || s.packed != null) {
+            return 0;
+        }
+        byte tier;
+        byte[] raw;
+        if (s.nibbles != null) {
+            tier = TIER_NIBBLE;
+            raw = s.nibbles;
+        } else if (s.indices != null) {
+            tier = TIER_BYTE;
+            raw = s.indices;
+        } else {
+            tier = TIER_WIDE;
+            raw = new byte[volume * 2];
+            for (int i = 0; i < volume; i++) {
+                raw[i * 2] = (byte) (s.wideIndices[i] >> 8);
+                raw[i * 2 + 1] = (byte) s.wideIndices[i];
+            }
+        }
+        byte[] packed = CcoSectionPacking.compress(raw, raw.length);
+        if (packed == null) {
+            return 0;
+        }
+        state = new State(s.palette, null, null, null, packed, tier, CcoSectionPacking.codec());
+        collisionMasks = null; // cold sections have nobody colliding with them; rebuilt on demand
+        return (tier == TIER_WIDE ? volume * 2 : raw.length) - packed.length;
+    }
+
+    /** True while this section sits in the packed tier (see {@link #pack()}). */
+    public boolean isPacked() {
+        return state.packed != null;
+    }
+
+    /** Bytes of the packed blob, 0 when not packed. */
+    public int packedBytes() {
+        byte[] packed = state.packed;
+        return packed == null ? 0 : packed.length;
+    }
+
+    /** The current state, inflating a packed one first. */
+    private State live() {
+        State s = state;
+        return s.packed != null ? unpack() : s;
+    }
+
+    /** Inflates a packed state back to the tier it was packed from and publishes it. */
+    private synchronized State unpack() {
+        State s = state;
+        if (s.packed == null) {
+            return s; // another accessor got here first
+        }
+        long start = System.nanoTime();
+        State live;
+        switch (s.packedTier) {
+            case TIER_NIBBLE -> {
+                byte[] nibbles = new byte[(volume + 1) >> 1];
+                CcoSectionPacking.decompress(s.packedCodec, s.packed, nibbles, nibbles.length);
+                live = new State(s.palette, null, null, nibbles);
+            }
+            case TIER_BYTE -> {
+                byte[] indices = new byte[volume];
+                CcoSectionPacking.decompress(s.packedCodec, s.packed, indices, volume);
+                live = new State(s.palette, indices, null);
+            }
+            default -> {
+                byte[] raw = new byte[volume * 2];
+                CcoSectionPacking.decompress(s.packedCodec, s.packed, raw, raw.length);
+                short[] wide = new short[volume];
+                for (int i = 0; i < volume; i++) {
+                    wide[i] = (short) (((raw[i * 2] & 0xFF) << 8) | (raw[i * 2 + 1] & 0xFF));
+                }
+                live = new State(s.palette, null, wide);
+            }
+        }
+        state = live;
+        CcoSectionPacking.recordPromotion(System.nanoTime() - start);
+        return live;
     }
 
     private static IBlockType readFrom(State s, int cellIndex) {
@@ -479,6 +825,27 @@ public final class CcoPaletteSection {
         return s.palette[0];
     }
 
+    /** Palette index of a cell in a non-uniform, non-packed state. */
+    private static int paletteIndexAt(State s, int cellIndex) {
+        if (s.nibbles != null) {
+            return nibbleAt(s.nibbles, cellIndex);
+        }
+        if (s.indices != null) {
+            return s.indices[cellIndex] & 0xFF;
+        }
+        return s.wideIndices[cellIndex];
+    }
+
+    private static int collisionKind(IBlockType block) {
+        if (block == null) {
+            return COLLIDES_NOT;
+        }
+        if (block.hasShapedCollision()) {
+            return COLLIDES_SHAPED;
+        }
+        return block.isSolid() ? COLLIDES_FULL : COLLIDES_NOT;
+    }
+
     private static int indexOf(IBlockType[] palette, IBlockType block) {
         for (int i = 0; i < palette.length; i++) {
             if (palette[i] == block) {
@@ -488,6 +855,10 @@ public final class CcoPaletteSection {
         return -1;
     }
 
+    private static int idOf(IBlockType block) {
+        return block == null ? 0 : block.getId();
+    }
+
     private static boolean isAir(IBlockType block) {
         return block == null || block.isAir();
     }
@@ -495,7 +866,8 @@ public final class CcoPaletteSection {
     @Override
     public String toString() {
         State s = state;
-        String tier = s.nibbles != null ? "nibble"
+        String tier = s.packed != null ? "packed"
+            : s.nibbles != null ? "nibble"
             : s.indices != null ? "byte" : (s.wideIndices != null ? "short" : "uniform");
         return String.format("CcoPaletteSection{tier=%s, palette=%d, nonAir=%d}",
                 tier, s.palette.length, nonAirCount);
@@ -77,6 +77,30 @@ public final class CcoPalettedChunkStorage implements CcoBlockStorage {
                 .set(CcoSectionIndexing.cellIndex(x, y, z, sizeX, sizeZ), block);
     }
 
+    /** Splits the box at section boundaries and lets each section copy its slab. */
+    @Override
+    public void copyBlockIds(int x0, int y0, int z0, int boxX, int boxY, int boxZ,
+                             short[] dst, int dstOffset, int strideZ, int strideY) {
+        int y = y0;
+        int yEnd = y0 + boxY;
+        while (y < yEnd) {
+            int sectionIndex = CcoSectionIndexing.sectionIndex(y);
+            int localY = y % CcoSectionIndexing.SECTION_HEIGHT;
+            int height = Math.min(yEnd - y, CcoSectionIndexing.SECTION_HEIGHT - localY);
+            sections[sectionIndex].copyBoxIds(x0, localY, z0, boxX, height, boxZ, sizeX,
+                    dst, dstOffset + (y - y0) * strideY, strideZ, strideY);
+            y += height;
+        }
+    }
+
+    /**
+     * Collision masks of one section, see {@link CcoPaletteSection#collisionMasks()}.
+     * Cell order within a section is {@link CcoSectionIndexing#cellIndex}.
+     */
+    public long[] collisionMasks(int sectionIndex) {
+        return sections[sectionIndex].collisionMasks();
+    }
+
     @Override
     public boolean isInBounds(int x, int y, int z) {
         return x >= 0 && x < sizeX &&
@@ -167,6 +191,41 @@ public final class CcoPalettedChunkStorage implements CcoBlockStorage {
         return sections[sectionIndex];
     }
 
+    /**
+     * Packs every indexed section into its compressed tier (see
+     * {@link CcoPaletteSection#pack()}) — for columns nobody is expected to
+     * touch for a while. Any later access inflates just the section it hits.
+     *
+     * @return heap bytes freed
+     */
+    public int packSections() {
+        int saved = 0;
+        for (CcoPaletteSection section : sections) {
+            saved += section.pack();
+        }
+        return saved;
+    }
+
+    /** Sections currently in the packed tier. */
+    public int packedSectionCount() {
+        int count = 0;
+        for (CcoPaletteSection section : sections) {
+            if (section.isPacked()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** Bytes held by packed section blobs. */
+    public long packedBytes() {
+        long bytes = 0;
+        for (CcoPaletteSection section : sections) {
+            bytes += section.packedBytes();
+        }
+        return bytes;
+    }
+
     @Override
     public String toString() {
         return String.format("CcoPalettedChunkStorage{size=%dx%dx%d, sections=%d, nonAir=%d}",
@@ -0,0 +1,145 @@
+package com.openmason.engine.voxel.cco.data.palette;
+
+import com.openmason.engine.cenda.CendaKernels;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Codec and counters for the packed tier of {@link CcoPaletteSection}: a cold
+ * section's index array compressed into one byte blob, inflated again on the
+ * first access. zstd through the Cenda kernels when they are loaded, DEFLATE
+ * otherwise — the choice is fixed per process, but each packed state records
+ * its codec so nothing depends on that.
+ *
+ * <p>The counters are process-wide and monotonic; gauges (how much is packed
+ * right now) belong to whoever owns the sections and can walk them.
+ */
+public final class CcoSectionPacking {
+
+    static final byte CODEC_DEFLATE = 0;
+    static final byte CODEC_ZSTD = 1;
+
+    private static final int ZSTD_LEVEL = 3;
+
+    private static final LongAdder PACKS = new LongAdder();
+    private static final LongAdder PROMOTIONS = new LongAdder();
+    private static final LongAdder PROMOTION_NANOS = new LongAdder();
+    private static final AtomicLong MAX_PROMOTION_NANOS = new AtomicLong();
+
+    /** Per-thread compression scratch; sections are packed back to back by one sweep. */
+    private static final class Scratch {
+        byte[] compressed = new byte[0];
+        Deflater deflater;
+        Inflater inflater;
+    }
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private CcoSectionPacking() {
+    }
+
+    /** The codec {@link #compress} uses in this process. */
+    static byte codec() {
+        return CendaKernels.isAvailable() ? CODEC_ZSTD : CODEC_DEFLATE;
+    }
+
+    /**
+     * Compresses {@code raw[0..rawLen)} with {@link #codec()}. Returns the exact-size
+     * blob, or null when it would not come out smaller than the input.
+     */
+    static byte[] compress(byte[] raw, int rawLen) {
+        Scratch s = SCRATCH.get();
+        int bound = CendaKernels.zstdCompressBound(rawLen);
+        if (s.compressed.length < bound) {
+            s.compressed = new byte[bound];
+        }
+        int written;
+        if (codec() == CODEC_ZSTD) {
+            written = CendaKernels.zstdCompress(raw, rawLen, s.compressed, ZSTD_LEVEL);
+        } else {
+            Deflater deflater = s.deflater;
+            if (deflater == null) {
+                deflater = new Deflater(Deflater.BEST_SPEED);
+                s.deflater = deflater;
+            }
+            deflater.reset();
+            deflater.setInput(raw, 0, rawLen);
+            deflater.finish();
+            written = 0;
+            while (!deflater.finished() && written < s.compressed.length) {
+                written += deflater.deflate(s.compressed, written, s.compressed.length - written);
+            }
+            if (!deflater.finished()) {
+                written = -1;
+            }
+        }
+        if (written <= 0 || written >= rawLen) {
+            return null;
+        }
+        PACKS.increment();
+        return java.util.Arrays.copyOf(s.compressed, written);
+    }
+
+    /** Inflates a blob made by {@link #compress} into {@code raw[0..rawLen)}. */
+    static void decompress(byte codec, byte[] packed, byte[] raw, int rawLen) {
+        if (codec == CODEC_ZSTD) {
+            if (!CendaKernels.zstdDecompress(packed, 0, packed.length, raw, rawLen)) {
+                throw new IllegalStateException("zstd section inflate failed");
+            }
+            return;
+        }
+        Scratch s = SCRATCH.get();
+        Inflater inflater = s.inflater;
+        if (inflater == null) {
+            inflater = new Inflater();
+            s.inflater = inflater;
+        }
+        inflater.reset();
+        inflater.setInput(packed);
+        try {
+            int read = 0;
+            while (read < rawLen && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, rawLen - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != rawLen) {
+                throw new IllegalStateException("DEFLATE section inflate came up short: " + read + "/" + rawLen);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("DEFLATE section inflate failed", e);
+        }
+    }
+
+    static void recordPromotion(long nanos) {
+        PROMOTIONS.increment();
+        PROMOTION_NANOS.add(nanos);
+        MAX_PROMOTION_NANOS.accumulateAndGet(nanos, Math::max);
+    }
+
+    /** Sections packed since start-up. */
+    public static long packs() {
+        return PACKS.sum();
+    }
+
+    /** Packed sections inflated again by a reader or writer since start-up. */
+    public static long promotions() {
+        return PROMOTIONS.sum();
+    }
+
+    /** Total time spent in those inflations, in nanoseconds. */
+    public static long promotionNanos() {
+        return PROMOTION_NANOS.sum();
+    }
+
+    /** Slowest single inflation so far, in nanoseconds. */
+    public static long maxPromotionNanos() {
+        return MAX_PROMOTION_NANOS.get();
+    }
+}
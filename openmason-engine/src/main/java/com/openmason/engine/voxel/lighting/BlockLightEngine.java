@@ -0,0 +1,514 @@
+package com.openmason.engine.voxel.lighting;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Incremental flood-fill propagation of emissive block light into each
+ * chunk's {@link ChunkBlockLight}.
+ *
+ * <p>Light falls off by one level per block through non-opaque cells; an
+ * emitter's own cell holds its emission level even when the block itself is
+ * opaque (magma). Updates use the classic pair of BFS queues:
+ * <ol>
+ *   <li><b>Removal</b> — an edited cell that was lit is zeroed and its level
+ *       queued; neighbours dimmer than the removed level were lit through it
+ *       and are zeroed in turn, while neighbours at least as bright (another
+ *       source) are handed to the add queue to re-flood the hole.</li>
+ *   <li><b>Add</b> — each queued cell spreads {@code level - 1} into
+ *       non-opaque neighbours that are darker.</li>
+ * </ol>
+ * Both queues only visit cells whose level actually changes, so one edit
+ * costs at most the 15-block diamond around it regardless of how many chunks
+ * are loaded. Chunk borders are ordinary neighbour steps: the {@link Host}
+ * hands out the light store of whichever loaded chunk a cell falls in, and
+ * unloaded chunks stop the flood.
+ *
+ * <p><b>Threading:</b> {@link #onBlockChanged} and {@link #onChunkLoaded}
+ * only enqueue and may be called from any thread. {@link #propagatePending()}
+ * does the work; hosts call it from mesh worker threads before a build reads
+ * light, never from the render thread. One thread propagates at a time; the
+ * others return immediately and the active pass picks up their work. Every
+ * chunk whose light changed (plus neighbours whose border vertices sample it)
+ * is reported through {@link Host#onLightChanged} once the pass ends.
+ *
+ * @since 1.0
+ */
+public final class BlockLightEngine {
+
+    /** Brightest block-light level; emission values are clamped to it. */
+    public static final int MAX_LEVEL = 15;
+
+    /**
+     * World access for propagation. Called only from the propagating thread
+     * and never for cells of unloaded chunks; implementations must not trigger
+     * chunk generation (same contract as {@link LightingContext}).
+     */
+    public interface Host {
+
+        /** Light store of the chunk, or {@code null} if it isn't loaded. */
+        ChunkBlockLight lightStore(int chunkX, int chunkZ);
+
+        /** Emission level (0..15) of the block at world coordinates. */
+        int emission(int worldX, int worldY, int worldZ);
+
+        /** True if the block at world coordinates stops light passing through it. */
+        boolean blocksLight(int worldX, int worldY, int worldZ);
+
+        /** Reports every emitter of a loaded chunk, in world coordinates. */
+        void forEachEmitter(int chunkX, int chunkZ, EmitterSink sink);
+
+        /** A propagation pass changed light the chunk's mesh samples; remesh it. */
+        void onLightChanged(int chunkX, int chunkZ);
+    }
+
+    /** Receives one emitter found by {@link Host#forEachEmitter}. */
+    @FunctionalInterface
+    public interface EmitterSink {
+        void emit(int worldX, int worldY, int worldZ, int level);
+    }
+
+    private static final int[] DX = {1, -1, 0, 0, 0, 0};
+    private static final int[] DY = {0, 0, 1, -1, 0, 0};
+    private static final int[] DZ = {0, 0, 0, 0, 1, -1};
+
+    private final Host host;
+    private final int chunkSize;
+    private final int worldHeight;
+
+    private final ReentrantLock propagationLock = new ReentrantLock();
+    /** Edited cells (packed positions). Guarded by itself. */
+    private final LongQueue pendingEdits = new LongQueue();
+    /** Chunks to (re)seed, packed chunk keys. Guarded by {@link #pendingEdits}. */
+    private final LongQueue pendingChunks = new LongQueue();
+    /** Chunks that left the world, packed chunk keys. Guarded by {@link #pendingEdits}. */
+    private final LongQueue pendingUnloads = new LongQueue();
+
+    // Propagation-thread state, reused across passes.
+    private final LongQueue removeQueue = new LongQueue(); // (position, level) pairs
+    private final LongQueue addQueue = new LongQueue();
+    private final LongQueue editBatch = new LongQueue();
+    private final LongQueue chunkBatch = new LongQueue();
+    private final LongQueue unloadBatch = new LongQueue();
+    private final Set<Long> touchedChunks = new HashSet<>();
+    private int cachedChunkX;
+    private int cachedChunkZ;
+    private ChunkBlockLight cachedStore;
+
+    public BlockLightEngine(Host host, int chunkSize, int worldHeight) {
+        if (host == null) {
+            throw new IllegalArgumentException("Host cannot be null");
+        }
+        if (worldHeight > 1 << 12) {
+            throw new IllegalArgumentException("World height exceeds packed range: " + worldHeight);
+        }
+        this.host = host;
+        this.chunkSize = chunkSize;
+        this.worldHeight = worldHeight;
+    }
+
+    /** Queues a cell whose emission or opacity changed. Any thread. */
+    public void onBlockChanged(int worldX, int worldY, int worldZ) {
+        if (worldY < 0 || worldY >= worldHeight) {
+            return;
+        }
+        synchronized (pendingEdits) {
+            pendingEdits.push(pack(worldX, worldY, worldZ));
+        }
+    }
+
+    /**
+     * Queues a chunk whose blocks were (re)installed wholesale — load, network
+     * stream, snapshot restore. Its stale light is cleared, its emitters
+     * seeded, and light from loaded neighbours pulled across the border.
+     */
+    public void onChunkLoaded(int chunkX, int chunkZ) {
+        synchronized (pendingEdits) {
+            pendingChunks.push(chunkKey(chunkX, chunkZ));
+        }
+    }
+
+    /**
+     * Queues a chunk that was removed from the world. Light it spilled into
+     * loaded neighbours is taken back out of their border columns, so a later
+     * reload of the chunk does not pull its own stale light in again.
+     */
+    public void onChunkUnloaded(int chunkX, int chunkZ) {
+        synchronized (pendingEdits) {
+            pendingUnloads.push(chunkKey(chunkX, chunkZ));
+        }
+    }
+
+    public boolean hasPendingWork() {
+        synchronized (pendingEdits) {
+            return !pendingEdits.isEmpty() || !pendingChunks.isEmpty() || !pendingUnloads.isEmpty();
+        }
+    }
+
+    /**
+     * Drains queued work if no other thread is already propagating.
+     *
+     * @return true if this call ran at least one pass
+     */
+    public boolean propagatePending() {
+        boolean ran = false;
+        // Re-check after unlocking: a caller that failed tryLock while we held
+        // the lock left its work queued for us.
+        while (hasPendingWork()) {
+            if (!propagationLock.tryLock()) {
+                return ran;
+            }
+            try {
+                runPass();
+                ran = true;
+            } finally {
+                propagationLock.unlock();
+            }
+        }
+        return ran;
+    }
+
+    /** Current level at world coordinates; 0 when the chunk isn't loaded. */
+    public int getLightLevel(int worldX, int worldY, int worldZ) {
+        if (worldY < 0 || worldY >= worldHeight) {
+            return 0;
+        }
+        ChunkBlockLight store = host.lightStore(Math.floorDiv(worldX, chunkSize), Math.floorDiv(worldZ, chunkSize));
+        return store == null ? 0
+            : store.get(Math.floorMod(worldX, chunkSize), worldY, Math.floorMod(worldZ, chunkSize));
+    }
+
+    // ─── Pass ─────────────────────────────────────────────────────────────
+
+    private void runPass() {
+        synchronized (pendingEdits) {
+            editBatch.takeAll(pendingEdits);
+            chunkBatch.takeAll(pendingChunks);
+            unloadBatch.takeAll(pendingUnloads);
+        }
+        cachedStore = null;
+        try {
+            // An unloaded chunk's lit neighbour border cells are handled as
+            // edits: removed, then re-lit by whatever still reaches them.
+            for (int i = 0; i < unloadBatch.size(); i++) {
+                long key = unloadBatch.get(i);
+                int baseX = (int) (key >> 32) * chunkSize;
+                int baseZ = (int) key * chunkSize;
+                for (int j = 0; j < chunkSize; j++) {
+                    queueLitColumn(baseX - 1, baseZ + j);
+                    queueLitColumn(baseX + chunkSize, baseZ + j);
+                    queueLitColumn(baseX + j, baseZ - 1);
+                    queueLitColumn(baseX + j, baseZ + chunkSize);
+                }
+            }
+            // Removal seeds: a reseeded chunk's whole stale light field, then
+            // every lit edited cell.
+            for (int i = 0; i < chunkBatch.size(); i++) {
+                long key = chunkBatch.get(i);
+                int chunkX = (int) (key >> 32);
+                int chunkZ = (int) key;
+                ChunkBlockLight store = host.lightStore(chunkX, chunkZ);
+                if (store == null || store.isEmpty()) {
+                    continue;
+                }
+                int baseX = chunkX * chunkSize;
+                int baseZ = chunkZ * chunkSize;
+                store.forEachLit((lx, y, lz, level) -> {
+                    setLevel(baseX + lx, y, baseZ + lz, 0);
+                    removeQueue.push(pack(baseX + lx, y, baseZ + lz));
+                    removeQueue.push(level);
+                });
+            }
+            for (int i = 0; i < editBatch.size(); i++) {
+                long pos = editBatch.get(i);
+                int x = unpackX(pos);
+                int y = unpackY(pos);
+                int z = unpackZ(pos);
+                int old = level(x, y, z);
+                if (old > 0) {
+                    setLevel(x, y, z, 0);
+                    removeQueue.push(pos);
+                    removeQueue.push(old);
+                }
+            }
+            propagateRemoval();
+
+            // Add seeds: emitters, then every lit neighbour of an edited cell
+            // (an opaque block turned transparent opens a path for them).
+            for (int i = 0; i < chunkBatch.size(); i++) {
+                long key = chunkBatch.get(i);
+                seedChunk((int) (key >> 32), (int) key);
+            }
+            for (int i = 0; i < editBatch.size(); i++) {
+                long pos = editBatch.get(i);
+                int x = unpackX(pos);
+                int y = unpackY(pos);
+                int z = unpackZ(pos);
+                if (storeFor(x, z) == null) {
+                    continue;
+                }
+                seedEmitter(x, y, z, host.emission(x, y, z));
+                for (int d = 0; d < 6; d++) {
+                    int ny = y + DY[d];
+                    if (ny >= 0 && ny < worldHeight && level(x + DX[d], ny, z + DZ[d]) > 1) {
+                        addQueue.push(pack(x + DX[d], ny, z + DZ[d]));
+                    }
+                }
+            }
+            propagateAdd();
+        } finally {
+            editBatch.clear();
+            chunkBatch.clear();
+            unloadBatch.clear();
+            removeQueue.clear();
+            addQueue.clear();
+            cachedStore = null;
+        }
+        for (long key : touchedChunks) {
+            host.onLightChanged((int) (key >> 32), (int) key);
+        }
+        touchedChunks.clear();
+    }
+
+    private void seedChunk(int chunkX, int chunkZ) {
+        if (host.lightStore(chunkX, chunkZ) == null) {
+            return;
+        }
+        host.forEachEmitter(chunkX, chunkZ, this::seedEmitter);
+        // Pull light already present along the four borders back in.
+        int baseX = chunkX * chunkSize;
+        int baseZ = chunkZ * chunkSize;
+        for (int i = 0; i < chunkSize; i++) {
+            pullBorder(baseX - 1, baseZ + i);
+            pullBorder(baseX + chunkSize, baseZ + i);
+            pullBorder(baseX + i, baseZ - 1);
+            pullBorder(baseX + i, baseZ + chunkSize);
+        }
+    }
+
+    private void pullBorder(int x, int z) {
+        ChunkBlockLight store = storeFor(x, z);
+        if (store == null || store.isEmpty()) {
+            return;
+        }
+        int lx = Math.floorMod(x, chunkSize);
+        int lz = Math.floorMod(z, chunkSize);
+        for (int y = 0; y < worldHeight; y++) {
+            if (store.get(lx, y, lz) > 1) {
+                addQueue.push(pack(x, y, z));
+            }
+        }
+    }
+
+    private void queueLitColumn(int x, int z) {
+        ChunkBlockLight store = storeFor(x, z);
+        if (store == null || store.isEmpty()) {
+            return;
+        }
+        int lx = Math.floorMod(x, chunkSize);
+        int lz = Math.floorMod(z, chunkSize);
+        for (int y = 0; y < worldHeight; y++) {
+            if (store.get(lx, y, lz) > 0) {
+                editBatch.push(pack(x, y, z));
+            }
+        }
+    }
+
+    private void seedEmitter(int x, int y, int z, int emission) {
+        int level = Math.min(MAX_LEVEL, emission);
+        if (level > 0 && level > level(x, y, z)) {
+            setLevel(x, y, z, level);
+            addQueue.push(pack(x, y, z));
+        }
+    }
+
+    private void propagateRemoval() {
+        while (!removeQueue.isEmpty()) {
+            long pos = removeQueue.poll();
+            int removed = (int) removeQueue.poll();
+            int x = unpackX(pos);
+            int y = unpackY(pos);
+            int z = unpackZ(pos);
+            for (int d = 0; d < 6; d++) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+                int nz = z + DZ[d];
+                if (ny < 0 || ny >= worldHeight) {
+                    continue;
+                }
+                int neighbour = level(nx, ny, nz);
+                if (neighbour == 0) {
+                    continue;
+                }
+                long npos = pack(nx, ny, nz);
+                if (neighbour < removed) {
+                    setLevel(nx, ny, nz, 0);
+                    removeQueue.push(npos);
+                    removeQueue.push(neighbour);
+                    // An emitter lit dimmer than the removed light: restore it
+                    // as a source so the add pass refills around it.
+                    seedEmitter(nx, ny, nz, host.emission(nx, ny, nz));
+                } else {
+                    addQueue.push(npos);
+                }
+            }
+        }
+    }
+
+    private void propagateAdd() {
+        while (!addQueue.isEmpty()) {
+            long pos = addQueue.poll();
+            int x = unpackX(pos);
+            int y = unpackY(pos);
+            int z = unpackZ(pos);
+            int spread = level(x, y, z) - 1;
+            if (spread <= 0) {
+                continue;
+            }
+            for (int d = 0; d < 6; d++) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+                int nz = z + DZ[d];
+                if (ny < 0 || ny >= worldHeight || storeFor(nx, nz) == null) {
+                    continue;
+                }
+                if (level(nx, ny, nz) >= spread || host.blocksLight(nx, ny, nz)) {
+                    continue;
+                }
+                setLevel(nx, ny, nz, spread);
+                addQueue.push(pack(nx, ny, nz));
+            }
+        }
+    }
+
+    // ─── Store access ─────────────────────────────────────────────────────
+
+    /** Store of the chunk holding world column (x, z); one-entry cache per pass. */
+    private ChunkBlockLight storeFor(int x, int z) {
+        int chunkX = Math.floorDiv(x, chunkSize);
+        int chunkZ = Math.floorDiv(z, chunkSize);
+        if (cachedStore != null && chunkX == cachedChunkX && chunkZ == cachedChunkZ) {
+            return cachedStore;
+        }
+        ChunkBlockLight store = host.lightStore(chunkX, chunkZ);
+        if (store != null) {
+            cachedChunkX = chunkX;
+            cachedChunkZ = chunkZ;
+            cachedStore = store;
+        }
+        return store;
+    }
+
+    private int level(int x, int y, int z) {
+        ChunkBlockLight store = storeFor(x, z);
+        return store == null ? 0 : store.get(Math.floorMod(x, chunkSize), y, Math.floorMod(z, chunkSize));
+    }
+
+    private void setLevel(int x, int y, int z, int level) {
+        ChunkBlockLight store = storeFor(x, z);
+        if (store == null) {
+            return;
+        }
+        int lx = Math.floorMod(x, chunkSize);
+        int lz = Math.floorMod(z, chunkSize);
+        store.set(lx, y, lz, level);
+        int chunkX = Math.floorDiv(x, chunkSize);
+        int chunkZ = Math.floorDiv(z, chunkSize);
+        // Vertices on a chunk edge sample the neighbour's border cells, so a
+        // change there dirties the neighbour (and the diagonal at corners).
+        int ex = lx == 0 ? -1 : lx == chunkSize - 1 ? 1 : 0;
+        int ez = lz == 0 ? -1 : lz == chunkSize - 1 ? 1 : 0;
+        touchedChunks.add(chunkKey(chunkX, chunkZ));
+        if (ex != 0) {
+            touchedChunks.add(chunkKey(chunkX + ex, chunkZ));
+        }
+        if (ez != 0) {
+            touchedChunks.add(chunkKey(chunkX, chunkZ + ez));
+        }
+        if (ex != 0 && ez != 0) {
+            touchedChunks.add(chunkKey(chunkX + ex, chunkZ + ez));
+        }
+    }
+
+    // ─── Packing ──────────────────────────────────────────────────────────
+
+    // Position layout: x (26 bits, signed) | z (26 bits, signed) | y (12 bits).
+    private static final long MASK_26 = (1L << 26) - 1;
+
+    private static long pack(int x, int y, int z) {
+        return ((x & MASK_26) << 38) | ((z & MASK_26) << 12) | (y & 0xFFFL);
+    }
+
+    private static int unpackX(long pos) {
+        return (int) (pos >> 38);
+    }
+
+    private static int unpackZ(long pos) {
+        return (int) ((pos << 26) >> 38);
+    }
+
+    private static int unpackY(long pos) {
+        return (int) (pos & 0xFFF);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return (((long) chunkX) << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /** Growable FIFO of primitive longs; no boxing on the hot BFS path. */
+    private static final class LongQueue {
+        private long[] items = new long[256];
+        private int head;
+        private int tail;
+
+        void push(long value) {
+            if (tail == items.length) {
+                if (head > items.length / 2) {
+                    System.arraycopy(items, head, items, 0, tail - head);
+                } else {
+                    long[] grown = new long[items.length * 2];
+                    System.arraycopy(items, head, grown, 0, tail - head);
+                    items = grown;
+                }
+                tail -= head;
+                head = 0;
+            }
+            items[tail++] = value;
+        }
+
+        long poll() {
+            long value = items[head++];
+            if (head == tail) {
+                head = 0;
+                tail = 0;
+            }
+            return value;
+        }
+
+        long get(int index) {
+            return items[head + index];
+        }
+
+        int size() {
+            return tail - head;
+        }
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        void clear() {
+            head = 0;
+            tail = 0;
+        }
+
+        /** Moves every element of {@code other} onto this queue, leaving it empty. */
+        void takeAll(LongQueue other) {
+            for (int i = other.head; i < other.tail; i++) {
+                push(other.items[i]);
+            }
+            other.clear();
+        }
+    }
+}
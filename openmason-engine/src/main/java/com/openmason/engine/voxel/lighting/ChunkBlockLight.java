@@ -0,0 +1,139 @@
+package com.openmason.engine.voxel.lighting;
+
+import com.openmason.engine.voxel.cco.data.palette.CcoSectionIndexing;
+
+/**
+ * Per-chunk block-light levels (0..15), nibble-packed per 16-block section in
+ * the same cell order as {@link com.openmason.engine.voxel.cco.data.palette.CcoPaletteSection}
+ * (Y-major, then Z, then X; see {@link CcoSectionIndexing}).
+ *
+ * <p>Sections are allocated on the first non-zero write and dropped again
+ * when their last lit cell goes dark, so the common case — a chunk with no
+ * emitters anywhere near it — costs one empty reference array.
+ *
+ * <p><b>Threading:</b> written only by {@link BlockLightEngine} while it holds
+ * its propagation lock. Reads are lock-free plain array reads from mesh
+ * threads; a racing reader sees the old or new level of a cell, and the
+ * engine schedules a remesh of every chunk it touched once a pass finishes.
+ *
+ * @since 1.0
+ */
+public final class ChunkBlockLight {
+
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final int sectionBytes;
+    /** Nibble arrays per section; null = every cell dark. */
+    private final byte[][] sections;
+    /** Lit (non-zero) cell count per allocated section. Writer-only. */
+    private final int[] litCells;
+    private volatile int allocatedSections;
+
+    public ChunkBlockLight(int sizeX, int sizeY, int sizeZ) {
+        if (sizeX <= 0 || sizeY <= 0 || sizeZ <= 0) {
+            throw new IllegalArgumentException("ChunkBlockLight dimensions must be positive");
+        }
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        int sectionCount = CcoSectionIndexing.sectionCount(sizeY);
+        this.sectionBytes = (sizeX * sizeZ * CcoSectionIndexing.SECTION_HEIGHT + 1) >> 1;
+        this.sections = new byte[sectionCount][];
+        this.litCells = new int[sectionCount];
+    }
+
+    public int getSizeX() { return sizeX; }
+    public int getSizeY() { return sizeY; }
+    public int getSizeZ() { return sizeZ; }
+
+    /** Light level at local coordinates; 0 when out of range or never lit. */
+    public int get(int x, int y, int z) {
+        if (y < 0 || y >= sizeY) {
+            return 0;
+        }
+        byte[] nibbles = sections[CcoSectionIndexing.sectionIndex(y)];
+        if (nibbles == null) {
+            return 0;
+        }
+        int cell = CcoSectionIndexing.cellIndex(x, y, z, sizeX, sizeZ);
+        int b = nibbles[cell >> 1];
+        return (cell & 1) == 0 ? (b & 0xF) : ((b >> 4) & 0xF);
+    }
+
+    /** Sets the light level (clamped to 0..15) at local coordinates. Writer thread only. */
+    public void set(int x, int y, int z, int level) {
+        level = Math.max(0, Math.min(BlockLightEngine.MAX_LEVEL, level));
+        int section = CcoSectionIndexing.sectionIndex(y);
+        byte[] nibbles = sections[section];
+        if (nibbles == null) {
+            if (level == 0) {
+                return;
+            }
+            nibbles = new byte[sectionBytes];
+            sections[section] = nibbles;
+            allocatedSections++;
+        }
+        int cell = CcoSectionIndexing.cellIndex(x, y, z, sizeX, sizeZ);
+        int i = cell >> 1;
+        int b = nibbles[i];
+        int old = (cell & 1) == 0 ? (b & 0xF) : ((b >> 4) & 0xF);
+        if (old == level) {
+            return;
+        }
+        nibbles[i] = (byte) ((cell & 1) == 0 ? ((b & 0xF0) | level) : ((b & 0x0F) | (level << 4)));
+        if (old == 0) {
+            litCells[section]++;
+        } else if (level == 0 && --litCells[section] == 0) {
+            sections[section] = null;
+            allocatedSections--;
+        }
+    }
+
+    /** True when no cell in the chunk is lit. Cheap; read by the mesher to pick its path. */
+    public boolean isEmpty() {
+        return allocatedSections == 0;
+    }
+
+    /** Receives {@code (x, y, z, level)} for lit cells, in local coordinates. */
+    @FunctionalInterface
+    public interface LitCellVisitor {
+        void visit(int x, int y, int z, int level);
+    }
+
+    /**
+     * Visits every lit cell. Skips dark sections without touching their cells.
+     * The visitor may zero the cell it is handed (the engine clears a chunk
+     * this way); it must not light other cells.
+     */
+    public void forEachLit(LitCellVisitor visitor) {
+        int cellsPerLayer = sizeX * sizeZ;
+        for (int s = 0; s < sections.length; s++) {
+            byte[] nibbles = sections[s];
+            if (nibbles == null) {
+                continue;
+            }
+            int baseY = s * CcoSectionIndexing.SECTION_HEIGHT;
+            int volume = Math.min(CcoSectionIndexing.SECTION_HEIGHT, sizeY - baseY) * cellsPerLayer;
+            for (int cell = 0; cell < volume; cell++) {
+                int b = nibbles[cell >> 1];
+                int level = (cell & 1) == 0 ? (b & 0xF) : ((b >> 4) & 0xF);
+                if (level != 0) {
+                    int ly = cell / cellsPerLayer;
+                    int rem = cell - ly * cellsPerLayer;
+                    visitor.visit(rem % sizeX, baseY + ly, rem / sizeX, level);
+                }
+            }
+        }
+    }
+
+    public long getMemoryUsageBytes() {
+        long bytes = (long) sections.length * (8 + Integer.BYTES) + 48L;
+        for (byte[] nibbles : sections) {
+            if (nibbles != null) {
+                bytes += nibbles.length + 16L;
+            }
+        }
+        return bytes;
+    }
+}
@@ -10,9 +10,9 @@ package com.openmason.engine.voxel.lighting;
  * threads; an unguarded {@code getOrCreate} from here cascades into runaway
  * neighbor loads.
  *
- * <p>Future lighting signals (emissive blocks, colored block-light, time-of-day
- * sun tint) plug in here as additional query methods without breaking existing
- * sampler math.
+ * <p>Further lighting signals (colored block-light, time-of-day sun tint) plug
+ * in here as additional default query methods without breaking existing
+ * implementations — {@link #getBlockLight} is the first.
  *
  * @since 1.0
  */
@@ -31,4 +31,14 @@ public interface LightingContext {
      * opaque. Unloaded or out-of-range coords must return {@code false}.
      */
     boolean isSolidAt(int worldX, int worldY, int worldZ);
+
+    /**
+     * Emissive block-light level (0..15) propagated into the cell at
+     * (x, y, z), typically from a {@link ChunkBlockLight} maintained by
+     * {@link BlockLightEngine}. Unloaded or out-of-range coords return 0.
+     * Defaults to 0 for hosts without block light.
+     */
+    default int getBlockLight(int worldX, int worldY, int worldZ) {
+        return 0;
+    }
 }
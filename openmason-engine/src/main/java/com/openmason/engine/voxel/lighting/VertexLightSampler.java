@@ -9,14 +9,16 @@ package com.openmason.engine.voxel.lighting;
  *   <li><b>Sky occlusion</b> — fraction (0..1) of the 4 columns touching the
  *       vertex on the face's air side whose heightmap is at or below the
  *       vertex's Y.</li>
+ *   <li><b>Block light</b> — a shaded column cell instead takes its
+ *       emissive level / 15 from {@link LightingContext#getBlockLight}, so a
+ *       cell counts as lit by whichever of sky or block light is brighter.</li>
  *   <li><b>Ambient occlusion</b> — classic 3-neighbor solid count on the air
  *       side of the face; 0..3 neighbors maps to 1.0 / 0.87 / 0.74 / 0.61.</li>
  * </ul>
  *
- * <p>Both are pure functions of current world state exposed via
- * {@link LightingContext}; no propagation, no seeding, no global queues. Safe
- * to call from mesh-builder threads. Future emissive-block light folds in here
- * as an additional factor without changing the external contract.
+ * <p>All are pure functions of current world state exposed via
+ * {@link LightingContext}; block-light propagation itself happens ahead of
+ * time in {@link BlockLightEngine}. Safe to call from mesh-builder threads.
  *
  * <p>MMS face convention: 0 top (+Y), 1 bottom (-Y), 2 north (-Z), 3 south
  * (+Z), 4 east (+X), 5 west (-X).
@@ -50,14 +52,14 @@ public final class VertexLightSampler {
         return smoothLightingEnabled;
     }
 
-    /** Combined per-vertex brightness factor: {@code skyFactor * aoFactor} ∈ [0,1]. */
+    /** Combined per-vertex brightness factor: {@code max(sky, block) * aoFactor} ∈ [0,1]. */
     public static float sampleCombined(LightingContext ctx, float vx, float vy, float vz, int face) {
         if (ctx == null) return 1.0f;
         int ivx = Math.round(vx);
         int ivy = Math.round(vy);
         int ivz = Math.round(vz);
         boolean smooth = smoothLightingEnabled;
-        float sky = sampleSkyFactor(ctx, ivx, ivy, ivz, face, smooth);
+        float sky = sampleLightFactor(ctx, ivx, ivy, ivz, face, smooth);
         if (!smooth) return sky;
         float ao = sampleAoFactor(ctx, ivx, ivy, ivz, face);
         return sky * ao;
@@ -99,7 +101,7 @@ public final class VertexLightSampler {
 
         // Sky: the (up to four) air-side columns touching the vertex. (a, b) walk
         // the two tangent axes; flat lighting samples only the (hi, hi) cell.
-        int litCount = 0;
+        float lit = 0.0f;
         int sampled = 0;
         for (int a = smooth ? 0 : 1; a < 2; a++) {
             for (int b = smooth ? 0 : 1; b < 2; b++) {
@@ -114,10 +116,10 @@ public final class VertexLightSampler {
                 int h = columnHeight(ctx, cx, cz, ownX, ownY, ownZ);
                 if (h < 0) continue;
                 sampled++;
-                if (cy >= h) litCount++;
+                lit += cy >= h ? 1.0f : blockFactor(ctx, cx, cy, cz);
             }
         }
-        float sky = sampled == 0 ? 1.0f : SKY_FLOOR + (1.0f - SKY_FLOOR) * ((float) litCount / sampled);
+        float sky = sampled == 0 ? 1.0f : SKY_FLOOR + (1.0f - SKY_FLOOR) * (lit / sampled);
         if (!smooth) return sky;
 
         // AO: classic 3-neighbour count over the air-side cells. The "air" cell is
@@ -179,7 +181,7 @@ public final class VertexLightSampler {
         return h;
     }
 
-    /** Point sky probe for shading first-person geometry at the player's eye. */
+    /** Point sky (or block-light, if brighter) probe for shading first-person geometry at the player's eye. */
     public static float samplePointSky(LightingContext ctx, float wx, float wy, float wz) {
         if (ctx == null) return 1.0f;
         int ix = (int) Math.floor(wx);
@@ -187,14 +189,19 @@ public final class VertexLightSampler {
         int iz = (int) Math.floor(wz);
         int h = ctx.getColumnHeight(ix, iz);
         if (h < 0) return 1.0f; // unloaded
-        return iy >= h ? 1.0f : Math.max(SKY_FLOOR, 0.5f);
+        return iy >= h ? 1.0f : Math.max(Math.max(SKY_FLOOR, 0.5f), blockFactor(ctx, ix, iy, iz));
     }
 
-    // ─── Sky factor ────────────────────────────────────────────────────────
+    // ─── Sky + block light factor ─────────────────────────────────────────
 
-    private static float sampleSkyFactor(LightingContext ctx, int ivx, int ivy, int ivz, int face,
+    /** Block light at a shaded cell as a 0..1 brightness. Only queried under cover. */
+    private static float blockFactor(LightingContext ctx, int x, int y, int z) {
+        return ctx.getBlockLight(x, y, z) * (1.0f / BlockLightEngine.MAX_LEVEL);
+    }
+
+    private static float sampleLightFactor(LightingContext ctx, int ivx, int ivy, int ivz, int face,
                                          boolean smooth) {
-        int litCount = 0;
+        float lit = 0.0f;
         int sampled = 0;
         // Flat lighting samples only the (0, 0) column — one lookup instead of four.
         int lo = smooth ? -1 : 0;
@@ -213,12 +220,12 @@ public final class VertexLightSampler {
                 int h = ctx.getColumnHeight(cx, cz);
                 if (h < 0) continue; // unloaded neighbor — don't count
                 sampled++;
-                if (cy >= h) litCount++;
+                lit += cy >= h ? 1.0f : blockFactor(ctx, cx, cy, cz);
             }
         }
         if (sampled == 0) return 1.0f;
-        float skyFraction = (float) litCount / (float) sampled;
-        return SKY_FLOOR + (1.0f - SKY_FLOOR) * skyFraction;
+        float litFraction = lit / sampled;
+        return SKY_FLOOR + (1.0f - SKY_FLOOR) * litFraction;
     }
 
     // ─── Ambient occlusion ────────────────────────────────────────────────
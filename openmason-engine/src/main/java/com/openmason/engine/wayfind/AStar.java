@@ -25,6 +25,10 @@ import java.util.Objects;
  * navigation mixes movement costs (swimming, jumping, falling) that an octile distance cannot
  * model consistently.
  *
+ * <p><b>Distances.</b> {@link #distances} runs the same machinery as a uniform-cost flood that
+ * costs many targets from one source, for callers that need a cost table rather than a path — the
+ * hierarchical planner pricing every pair of portals in a section.
+ *
  * <p>Stateful and NOT thread-safe. Give each worker thread its own instance and reuse it.
  */
 public final class AStar implements PathSolver {
@@ -59,6 +63,9 @@ public final class AStar implements PathSolver {
 
     private final LongIntHashMap index = new LongIntHashMap(INITIAL_CAPACITY);
 
+    /** Target key → slot in the caller's cost array, for {@link #distances}. */
+    private final LongIntHashMap targetSlots = new LongIntHashMap(64);
+
     // ── Open set: binary min-heap of node ids ────────────────────────────────
     private int[] heap = new int[INITIAL_CAPACITY];
     private int heapSize;
@@ -139,6 +146,71 @@ public final class AStar implements PathSolver {
         return partial(SearchResult.Status.PARTIAL_UNREACHABLE, startId, bestId, expansions);
     }
 
+    /**
+     * Uniform-cost flood from {@code start}: writes the cheapest cost to each of {@code targets} into
+     * the matching slot of {@code outCosts} and returns how many were reached. Unreached targets get
+     * {@link Float#POSITIVE_INFINITY}. The domain's heuristic and goal are ignored.
+     *
+     * <p>The flood stops as soon as every target is settled, so a cost table over a bounded domain
+     * costs one search per source rather than one per pair. Targets must be distinct.
+     */
+    public int distances(SearchDomain domain, long start, long[] targets, float[] outCosts,
+                         SearchLimits limits, CancelToken cancel) {
+        Objects.requireNonNull(domain, "domain");
+        Objects.requireNonNull(limits, "limits");
+        Objects.requireNonNull(cancel, "cancel");
+
+        reset(domain.maxSuccessors());
+        targetSlots.clear();
+        for (int i = 0; i < targets.length; i++) {
+            outCosts[i] = Float.POSITIVE_INFINITY;
+            targetSlots.put(targets[i], i);
+        }
+
+        push(addNode(start, 0.0f, 0.0f, NO_PARENT, 0.0f));
+        int remaining = targets.length;
+        int expansions = 0;
+
+        while (heapSize > 0 && remaining > 0 && expansions < limits.maxExpansions()) {
+            if ((expansions & (CANCEL_POLL_INTERVAL - 1)) == 0 && cancel.isCancelled()) {
+                break;
+            }
+
+            int current = pop();
+            long currentKey = key[current];
+            int slot = targetSlots.get(currentKey, UNKNOWN_NODE);
+            if (slot != UNKNOWN_NODE && outCosts[slot] == Float.POSITIVE_INFINITY) {
+                // Popped in cost order with a zero heuristic, so the first pop is the cheapest.
+                outCosts[slot] = gScore[current];
+                remaining--;
+            }
+            expansions++;
+
+            int count = domain.successors(currentKey, successorNodes, successorCosts);
+            for (int i = 0; i < count; i++) {
+                float tentativeG = gScore[current] + successorCosts[i];
+                if (tentativeG > limits.maxCost()) {
+                    continue;
+                }
+                long successorKey = successorNodes[i];
+                int successor = index.get(successorKey, UNKNOWN_NODE);
+                if (successor == UNKNOWN_NODE) {
+                    push(addNode(successorKey, tentativeG, 0.0f, current, 0.0f));
+                } else if (tentativeG + RELAX_EPSILON < gScore[successor]) {
+                    gScore[successor] = tentativeG;
+                    fScore[successor] = tentativeG;
+                    parent[successor] = current;
+                    if (heapPos[successor] == NOT_IN_HEAP) {
+                        push(successor);
+                    } else {
+                        siftUp(heapPos[successor]);
+                    }
+                }
+            }
+        }
+        return targets.length - remaining;
+    }
+
     /** Closer to the goal wins; among equals, the cheaper node to stand on wins. */
     private boolean isBetterFallback(int candidate, int incumbent) {
         if (hScore[candidate] < hScore[incumbent]) {
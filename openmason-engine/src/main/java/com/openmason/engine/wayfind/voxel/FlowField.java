@@ -0,0 +1,196 @@
+package com.openmason.engine.wayfind.voxel;
+
+import java.util.Arrays;
+
+/**
+ * Cost-to-target for every cell of a {@link NavWindow}, and the move each cell should make next.
+ *
+ * <p>A path answers one agent; a field answers every agent in the window at once. Ten mobs chasing
+ * the same player, or a herd scattering from one, all read the same field — the search is paid once
+ * per target, and each agent's per-tick cost is a hash lookup for its cell and an array read for its
+ * next step, however big the group.
+ *
+ * <p>Two kinds of field:
+ * <ul>
+ *   <li>{@link #toward} is a plain Dijkstra integration from the target over the window's incoming
+ *       moves. Following {@link #nextStep} from any cell walks the cheapest route to the target.</li>
+ *   <li>{@link #away} is the "safety map" trick: seed every cell with the toward cost scaled by a
+ *       negative weight, then integrate again. Descending that field moves away from the threat, but
+ *       a weight above one makes the integration prefer a longer detour to open ground over the
+ *       nearest corner, so fleeing agents run past the threat to escape a dead end rather than
+ *       cowering in it.</li>
+ * </ul>
+ *
+ * <p>Immutable once built. A moving target gets a new field over the same window — see
+ * {@link NavWindow} for why that is cheap.
+ */
+public final class FlowField {
+
+    /** Returned by {@link #nextStep} for a cell that should stay put: the target, or a dead end. */
+    public static final int NO_STEP = -1;
+
+    private final NavWindow window;
+    private final int target;
+    private final float[] cost;
+    private final int[] next;
+
+    private FlowField(NavWindow window, int target, float[] cost, int[] next) {
+        this.window = window;
+        this.target = target;
+        this.cost = cost;
+        this.next = next;
+    }
+
+    /**
+     * Integrates cost toward {@code target}.
+     *
+     * @param target a window index, from {@link NavWindow#locate}
+     */
+    public static FlowField toward(NavWindow window, int target) {
+        float[] cost = new float[window.size()];
+        int[] next = new int[window.size()];
+        Arrays.fill(cost, Float.POSITIVE_INFINITY);
+        Arrays.fill(next, NO_STEP);
+
+        Heap heap = new Heap(window.size());
+        cost[target] = 0.0f;
+        heap.push(target, 0.0f);
+        integrate(window, cost, next, heap);
+        return new FlowField(window, target, cost, next);
+    }
+
+    /**
+     * Integrates a flee field from a {@link #toward} field for the threat.
+     *
+     * @param weight how strongly distance from the threat outweighs the cost of getting there;
+     *               above one, so that escaping a dead end beats hiding in it
+     */
+    public static FlowField away(FlowField threat, float weight) {
+        NavWindow window = threat.window;
+        float[] cost = new float[window.size()];
+        int[] next = new int[window.size()];
+        Arrays.fill(next, NO_STEP);
+
+        // Cells the threat cannot reach at all are the safest there are.
+        float farthest = 0.0f;
+        for (float c : threat.cost) {
+            if (c != Float.POSITIVE_INFINITY) {
+                farthest = Math.max(farthest, c);
+            }
+        }
+        Heap heap = new Heap(window.size());
+        for (int i = 0; i < cost.length; i++) {
+            float c = threat.cost[i];
+            cost[i] = -weight * (c == Float.POSITIVE_INFINITY ? farthest + 1.0f : c);
+            heap.push(i, cost[i]);
+        }
+        integrate(window, cost, next, heap);
+        return new FlowField(window, threat.target, cost, next);
+    }
+
+    /** Dijkstra over incoming moves: settles a cell, then offers every cell that can step into it. */
+    private static void integrate(NavWindow window, float[] cost, int[] next, Heap heap) {
+        while (!heap.isEmpty()) {
+            float settled = heap.peekCost();
+            int cell = heap.pop();
+            if (settled > cost[cell]) {
+                continue; // a stale entry; the cell was improved after it was queued
+            }
+            for (int e = window.incomingStart(cell), end = window.incomingEnd(cell); e < end; e++) {
+                int from = window.incomingFrom(e);
+                float candidate = settled + window.incomingCost(e);
+                if (candidate < cost[from]) {
+                    cost[from] = candidate;
+                    next[from] = cell;
+                    heap.push(from, candidate);
+                }
+            }
+        }
+    }
+
+    public NavWindow window() {
+        return window;
+    }
+
+    /** Window index of the cell the field was integrated from. */
+    public int target() {
+        return target;
+    }
+
+    /** The integrated cost at a window index; {@link Float#POSITIVE_INFINITY} where unreachable. */
+    public float cost(int index) {
+        return cost[index];
+    }
+
+    /** The window index to move to from {@code index}, or {@link #NO_STEP}. */
+    public int nextStep(int index) {
+        return next[index];
+    }
+
+    /**
+     * Binary min-heap of (cell, cost) pairs with lazy deletion: an improved cell is pushed again
+     * and its older entry skipped when popped. Cheaper than a decrease-key heap for one pass.
+     */
+    private static final class Heap {
+        private int[] cells;
+        private float[] costs;
+        private int size;
+
+        Heap(int capacity) {
+            cells = new int[Math.max(16, capacity)];
+            costs = new float[cells.length];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        float peekCost() {
+            return costs[0];
+        }
+
+        void push(int cell, float cost) {
+            if (size == cells.length) {
+                cells = Arrays.copyOf(cells, size * 2);
+                costs = Arrays.copyOf(costs, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (costs[parent] <= cost) {
+                    break;
+                }
+                cells[i] = cells[parent];
+                costs[i] = costs[parent];
+                i = parent;
+            }
+            cells[i] = cell;
+            costs[i] = cost;
+        }
+
+        int pop() {
+            int top = cells[0];
+            int lastCell = cells[--size];
+            float lastCost = costs[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && costs[child + 1] < costs[child]) {
+                    child++;
+                }
+                if (costs[child] >= lastCost) {
+                    break;
+                }
+                cells[i] = cells[child];
+                costs[i] = costs[child];
+                i = child;
+            }
+            cells[i] = lastCell;
+            costs[i] = lastCost;
+            return top;
+        }
+    }
+}
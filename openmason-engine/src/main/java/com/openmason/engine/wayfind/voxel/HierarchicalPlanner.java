@@ -0,0 +1,237 @@
+package com.openmason.engine.wayfind.voxel;
+
+import com.openmason.engine.util.LongIntHashMap;
+import com.openmason.engine.wayfind.AStar;
+import com.openmason.engine.wayfind.CancelToken;
+import com.openmason.engine.wayfind.SearchDomain;
+import com.openmason.engine.wayfind.SearchLimits;
+import com.openmason.engine.wayfind.SearchResult;
+
+import java.util.Arrays;
+
+/**
+ * Long-range ground routing: plans over a {@link SectionPortalGraph}, then walks only the first leg
+ * at block resolution.
+ *
+ * <p>A cell-level search pays for every block between start and goal, so a route a few hundred
+ * blocks long — or one that winds through a cave — runs out of budget long before it arrives. Here
+ * the start and goal are spliced into the portal graph of their sections, {@link AStar} searches
+ * portal to portal, and the same solver then refines the route from the start to the first portal
+ * at least {@value #LEG_MIN_BLOCKS} blocks along. The rest of the route is thrown away on purpose:
+ * by the time the agent gets there the world, or the goal, has usually moved, and asking again from
+ * a warm cache is cheaper than keeping a stale plan honest.
+ *
+ * <p>Routes are only as good as the portals. A portal sits at the centre or ends of a section
+ * crossing, so the abstract cost over-estimates a little and the chosen corridor is near-optimal
+ * rather than optimal — the refined leg itself is an exact search.
+ *
+ * <p>Stateful and NOT thread-safe, like the solver it wraps: one per worker thread, reused.
+ */
+public final class HierarchicalPlanner {
+
+    /** Refine up to the first portal at least this far from the start, horizontally. */
+    public static final int LEG_MIN_BLOCKS = 16;
+
+    /**
+     * Section cost tables one plan may build. Past this the search treats unbuilt sections as
+     * walls and gives up — the next plan resumes from everything this one cached.
+     */
+    public static final int MAX_SECTION_BUILDS = 48;
+
+    private static final float DIAGONAL_COST = 1.4142135f;
+
+    private final AStar router = new AStar();
+    private final AStar builder = new AStar();
+
+    /**
+     * One planned route.
+     *
+     * @param portals  the abstract route, start to goal, portal cells in between
+     * @param leg      the cell-level route from the start to {@code portals[legEnd]}
+     * @param legEnd   index into {@link #portals} of the leg's destination
+     * @param builds   section cost tables this plan had to build (zero on a warm cache)
+     */
+    public record Route(long[] portals, SearchResult leg, int legEnd, int builds) {
+
+        /** Whether the refined leg is the whole route — there is nothing left to plan. */
+        public boolean isFinalLeg() {
+            return legEnd == portals.length - 1;
+        }
+
+        /** Whether walking the leg reaches the goal itself. */
+        public boolean reachesGoal() {
+            return isFinalLeg() && leg.reachedGoal();
+        }
+    }
+
+    /**
+     * Plans from {@code start} to {@code goal}, both standable cells (snap them first).
+     *
+     * @param routeLimits bounds the portal-level search; its expansions count portals, not cells
+     * @param legLimits   bounds the cell-level refinement of the first leg
+     * @return the route, or {@code null} when the portal graph holds no way there (or the build
+     *         budget ran out first) — callers fall back to a plain cell search for a best effort
+     */
+    public Route plan(SectionPortalGraph graph, long start, long goal,
+                      SearchLimits routeLimits, SearchLimits legLimits, CancelToken cancel) {
+        PortalDomain portals = new PortalDomain(graph, start, goal);
+        if (!portals.spliceEndpoints()) {
+            return null;
+        }
+        SearchResult abstractRoute = router.search(portals, start, routeLimits, cancel);
+        if (!abstractRoute.reachedGoal()) {
+            return null;
+        }
+
+        long[] route = abstractRoute.nodes();
+        int legEnd = route.length - 1;
+        for (int i = 1; i < route.length; i++) {
+            if (octile(route[0], NavNodes.x(route[i]), NavNodes.z(route[i])) >= LEG_MIN_BLOCKS) {
+                legEnd = i;
+                break;
+            }
+        }
+        long target = route[legEnd];
+        GroundNavDomain legDomain = new GroundNavDomain(new NavCellCache(graph.volume()), graph.profile(),
+                NavNodes.x(target), NavNodes.y(target), NavNodes.z(target), 0.0f);
+        SearchResult leg = router.search(legDomain, start, legLimits, cancel);
+        return new Route(route, leg, legEnd, portals.builds);
+    }
+
+    private static float octile(long node, int goalX, int goalZ) {
+        int dx = Math.abs(NavNodes.x(node) - goalX);
+        int dz = Math.abs(NavNodes.z(node) - goalZ);
+        int diagonalSteps = Math.min(dx, dz);
+        return (dx + dz - 2 * diagonalSteps) + DIAGONAL_COST * diagonalSteps;
+    }
+
+    /**
+     * The portal graph as a {@link SearchDomain}, with the start and goal spliced in: the start
+     * gets edges to every portal of its section, and every portal of the goal's section that can
+     * walk to the goal gets an edge to it. One instance per plan.
+     */
+    private final class PortalDomain implements SearchDomain {
+        private final SectionPortalGraph graph;
+        private final long start;
+        private final long goal;
+        private final long startSection;
+        private final long goalSection;
+        private final int goalX;
+        private final int goalZ;
+
+        private long[] startEdges = new long[0];
+        private float[] startCosts = new float[0];
+        private final LongIntHashMap goalEdge = new LongIntHashMap(64);
+        private float[] goalCosts = new float[0];
+        private int builds;
+
+        PortalDomain(SectionPortalGraph graph, long start, long goal) {
+            this.graph = graph;
+            this.start = start;
+            this.goal = goal;
+            this.startSection = SectionPortalGraph.sectionOf(start);
+            this.goalSection = SectionPortalGraph.sectionOf(goal);
+            this.goalX = NavNodes.x(goal);
+            this.goalZ = NavNodes.z(goal);
+        }
+
+        /** Costs the start into its section and its section's portals into the goal. */
+        boolean spliceEndpoints() {
+            SectionPortalGraph.Section from = section(startSection);
+            SectionPortalGraph.Section to = section(goalSection);
+            if (from == null || to == null) {
+                return false;
+            }
+
+            if (from.indexOf(start) < 0) {
+                long[] targets = from.nodes();
+                float[] costs = new float[targets.length];
+                graph.flood(start, targets, costs, builder);
+                int kept = 0;
+                startEdges = new long[targets.length];
+                startCosts = new float[targets.length];
+                for (int i = 0; i < targets.length; i++) {
+                    if (costs[i] != Float.POSITIVE_INFINITY) {
+                        startEdges[kept] = targets[i];
+                        startCosts[kept++] = costs[i];
+                    }
+                }
+                startEdges = Arrays.copyOf(startEdges, kept);
+                startCosts = Arrays.copyOf(startCosts, kept);
+            }
+
+            long[] sources = to.nodes();
+            if (startSection == goalSection && to.indexOf(start) < 0) {
+                sources = Arrays.copyOf(sources, sources.length + 1);
+                sources[sources.length - 1] = start;
+            }
+            long[] single = {goal};
+            float[] cost = new float[1];
+            goalCosts = new float[sources.length];
+            int reachable = 0;
+            for (int i = 0; i < sources.length; i++) {
+                if (sources[i] == goal) {
+                    continue;
+                }
+                graph.flood(sources[i], single, cost, builder);
+                if (cost[0] != Float.POSITIVE_INFINITY) {
+                    goalEdge.put(sources[i], reachable);
+                    goalCosts[reachable++] = cost[0];
+                }
+            }
+            // A goal that is itself a portal needs no edge into it; otherwise somebody must reach it.
+            return reachable > 0 || to.indexOf(goal) >= 0;
+        }
+
+        @Override
+        public int successors(long node, long[] outNodes, float[] outCosts) {
+            int count = 0;
+            if (node == start && startEdges.length > 0) {
+                System.arraycopy(startEdges, 0, outNodes, 0, startEdges.length);
+                System.arraycopy(startCosts, 0, outCosts, 0, startCosts.length);
+                count = startEdges.length;
+            } else {
+                long sectionKey = SectionPortalGraph.sectionOf(node);
+                SectionPortalGraph.Section section = section(sectionKey);
+                int index = section == null ? -1 : section.indexOf(node);
+                if (index >= 0) {
+                    count = section.copyEdges(index, outNodes, outCosts, 0);
+                }
+            }
+            int toGoal = goalEdge.get(node, -1);
+            if (toGoal >= 0) {
+                outNodes[count] = goal;
+                outCosts[count++] = goalCosts[toGoal];
+            }
+            return count;
+        }
+
+        @Override
+        public float heuristic(long node) {
+            return octile(node, goalX, goalZ);
+        }
+
+        @Override
+        public boolean isGoal(long node) {
+            return node == goal;
+        }
+
+        @Override
+        public int maxSuccessors() {
+            return SectionPortalGraph.MAX_DEGREE;
+        }
+
+        /** A section's cost table, or {@code null} once this plan has built all it may. */
+        private SectionPortalGraph.Section section(long sectionKey) {
+            SectionPortalGraph.Section section = graph.cached(sectionKey);
+            if (section != null) {
+                return section;
+            }
+            if (builds >= MAX_SECTION_BUILDS) {
+                return null;
+            }
+            builds++;
+            return graph.section(sectionKey, builder);
+        }
+    }
+}
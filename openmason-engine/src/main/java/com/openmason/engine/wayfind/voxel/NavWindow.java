@@ -0,0 +1,249 @@
+package com.openmason.engine.wayfind.voxel;
+
+import com.openmason.engine.util.LongIntHashMap;
+
+import java.util.Arrays;
+
+/**
+ * The ground surface graph of one bounded box of the world, built once and read by any number of
+ * {@link FlowField}s.
+ *
+ * <p>A search reads the world lazily and forgets it; a flow field needs the whole box at once, and
+ * needs it <em>backwards</em> — "which cells can step into this one" rather than "where can I go from
+ * here" — because it integrates cost outward from the target. So the window reads every cell in
+ * the box once through a {@link GroundNavDomain}, keeps the standable ones, and stores each cell's
+ * incoming moves. Moves that leave the box are dropped; the field simply ends at the window edge.
+ *
+ * <p>Building touches every cell of the box and is the expensive half of a flow field. Integrating a
+ * field over a built window reads no world at all, which is what lets a field follow a moving target
+ * cheaply: the window is kept until the target nears its edge or a block inside it changes.
+ *
+ * <p>Immutable once built, so fields on any thread may share one without a lock.
+ */
+public final class NavWindow {
+
+    /** Returned by {@link #locate} when no standable cell is close enough. */
+    public static final int NOT_FOUND = -1;
+
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+
+    private final long[] nodes;
+    private final float[] surfaces;
+    private final LongIntHashMap index;
+
+    // Incoming moves in CSR form: node i is entered from inFrom[inStart[i] .. inStart[i + 1]).
+    private final int[] inStart;
+    private final int[] inFrom;
+    private final float[] inCost;
+
+    private NavWindow(int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                      long[] nodes, float[] surfaces, LongIntHashMap index,
+                      int[] inStart, int[] inFrom, float[] inCost) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+        this.nodes = nodes;
+        this.surfaces = surfaces;
+        this.index = index;
+        this.inStart = inStart;
+        this.inFrom = inFrom;
+        this.inCost = inCost;
+    }
+
+    /**
+     * Reads every cell of the inclusive box and builds its surface graph for {@code profile}.
+     *
+     * @param volume read directly; wrap it in nothing — the build caches what it reads itself
+     */
+    public static NavWindow build(NavVolume volume, NavProfile profile,
+                                  int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        minY = Math.max(0, minY);
+        maxY = Math.min(NavNodes.MAX_Y, maxY);
+        int columns = (maxX - minX + 1) * (maxZ - minZ + 1);
+        NavCellCache cache = new NavCellCache(volume, columns * (maxY - minY + 3));
+        GroundNavDomain ground = new GroundNavDomain(cache, profile, 0, 0, 0, 0.0f);
+
+        // Pass 1: every standable cell in the box.
+        LongIntHashMap index = new LongIntHashMap(columns * 2);
+        long[] nodes = new long[columns];
+        float[] surfaces = new float[columns];
+        int count = 0;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    long node = NavNodes.pack(x, y, z);
+                    float surface = ground.surfaceOf(node);
+                    if (Float.isNaN(surface)) {
+                        continue;
+                    }
+                    if (count == nodes.length) {
+                        nodes = Arrays.copyOf(nodes, count * 2);
+                        surfaces = Arrays.copyOf(surfaces, count * 2);
+                    }
+                    nodes[count] = node;
+                    surfaces[count] = surface;
+                    index.put(node, count++);
+                }
+            }
+        }
+
+        // Pass 2: every move between two of them, recorded forwards, then flipped into CSR.
+        long[] successors = new long[ground.maxSuccessors()];
+        float[] stepCosts = new float[ground.maxSuccessors()];
+        int[] edgeFrom = new int[count * 4 + 16];
+        int[] edgeTo = new int[edgeFrom.length];
+        float[] edgeCost = new float[edgeFrom.length];
+        int[] inCount = new int[count + 1];
+        int edges = 0;
+        for (int from = 0; from < count; from++) {
+            int moves = ground.successors(nodes[from], successors, stepCosts);
+            for (int i = 0; i < moves; i++) {
+                int to = index.get(successors[i], NOT_FOUND);
+                if (to == NOT_FOUND) {
+                    continue; // leaves the window
+                }
+                if (edges == edgeFrom.length) {
+                    edgeFrom = Arrays.copyOf(edgeFrom, edges * 2);
+                    edgeTo = Arrays.copyOf(edgeTo, edges * 2);
+                    edgeCost = Arrays.copyOf(edgeCost, edges * 2);
+                }
+                edgeFrom[edges] = from;
+                edgeTo[edges] = to;
+                edgeCost[edges++] = stepCosts[i];
+                inCount[to]++;
+            }
+        }
+
+        int[] inStart = new int[count + 1];
+        for (int i = 0; i < count; i++) {
+            inStart[i + 1] = inStart[i] + inCount[i];
+        }
+        int[] cursor = Arrays.copyOf(inStart, count);
+        int[] inFrom = new int[edges];
+        float[] inCost = new float[edges];
+        for (int e = 0; e < edges; e++) {
+            int slot = cursor[edgeTo[e]]++;
+            inFrom[slot] = edgeFrom[e];
+            inCost[slot] = edgeCost[e];
+        }
+
+        return new NavWindow(minX, minY, minZ, maxX, maxY, maxZ,
+                Arrays.copyOf(nodes, count), Arrays.copyOf(surfaces, count), index,
+                inStart, inFrom, inCost);
+    }
+
+    // ── Bounds ───────────────────────────────────────────────────────────────
+
+    public int minX() {
+        return minX;
+    }
+
+    public int minY() {
+        return minY;
+    }
+
+    public int minZ() {
+        return minZ;
+    }
+
+    public int maxX() {
+        return maxX;
+    }
+
+    public int maxY() {
+        return maxY;
+    }
+
+    public int maxZ() {
+        return maxZ;
+    }
+
+    /** Whether the block at (x, y, z) lies inside the box, widened by {@code margin} on every side. */
+    public boolean contains(int x, int y, int z, int margin) {
+        return x >= minX - margin && x <= maxX + margin
+                && y >= minY - margin && y <= maxY + margin
+                && z >= minZ - margin && z <= maxZ + margin;
+    }
+
+    // ── Cells ────────────────────────────────────────────────────────────────
+
+    /** Standable cells in the window. */
+    public int size() {
+        return nodes.length;
+    }
+
+    /** The packed cell behind a window index. */
+    public long node(int index) {
+        return nodes[index];
+    }
+
+    /** The height an agent's feet rest at in the cell behind a window index. */
+    public float surface(int index) {
+        return surfaces[index];
+    }
+
+    /** The window index of a packed cell, or {@link #NOT_FOUND} if it is not standable here. */
+    public int indexOf(long node) {
+        return index.get(node, NOT_FOUND);
+    }
+
+    /**
+     * The standable cell nearest {@code y} in the column, preferring the cell itself, then lower
+     * ones, then higher — {@link GroundNavDomain#snapToSurface}'s order, answered from the window.
+     *
+     * @return a window index, or {@link #NOT_FOUND}
+     */
+    public int locate(int x, int y, int z, int searchDown, int searchUp) {
+        if (x < minX || x > maxX || z < minZ || z > maxZ) {
+            return NOT_FOUND;
+        }
+        for (int offset = 0; offset <= Math.max(searchDown, searchUp); offset++) {
+            if (offset <= searchDown) {
+                int found = lookup(x, y - offset, z);
+                if (found != NOT_FOUND) {
+                    return found;
+                }
+            }
+            if (offset > 0 && offset <= searchUp) {
+                int found = lookup(x, y + offset, z);
+                if (found != NOT_FOUND) {
+                    return found;
+                }
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private int lookup(int x, int y, int z) {
+        if (y < minY || y > maxY) {
+            return NOT_FOUND;
+        }
+        return index.get(NavNodes.pack(x, y, z), NOT_FOUND);
+    }
+
+    // ── Incoming moves (field side) ──────────────────────────────────────────
+
+    int incomingStart(int index) {
+        return inStart[index];
+    }
+
+    int incomingEnd(int index) {
+        return inStart[index + 1];
+    }
+
+    int incomingFrom(int edge) {
+        return inFrom[edge];
+    }
+
+    float incomingCost(int edge) {
+        return inCost[edge];
+    }
+}
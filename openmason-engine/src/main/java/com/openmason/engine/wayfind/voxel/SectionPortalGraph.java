@@ -0,0 +1,615 @@
+package com.openmason.engine.wayfind.voxel;
+
+import com.openmason.engine.util.LongIntHashMap;
+import com.openmason.engine.wayfind.AStar;
+import com.openmason.engine.wayfind.CancelToken;
+import com.openmason.engine.wayfind.SearchDomain;
+import com.openmason.engine.wayfind.SearchLimits;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The abstract level of hierarchical ground navigation: the world cut into 16³ sections, each
+ * reduced to the handful of <b>portals</b> where a walker can cross into a neighbouring section,
+ * plus the walking cost between every pair of portals inside it. {@link HierarchicalPlanner}
+ * searches this graph instead of the cell grid, so a route's length costs portals, not blocks.
+ *
+ * <p><b>Portals.</b> Every {@link GroundNavDomain} move that leaves a section is a crossing. The
+ * crossings into one neighbour are grouped into runs of adjacent cells — a doorway, a strip of open
+ * hillside — and each run contributes one crossing at its centre, or one at each end once it is long
+ * enough that a single centre would bend routes (the classic HPA* entrance rule). A section's nodes
+ * are the cells its own crossings leave from plus the cells its neighbours' crossings land on.
+ *
+ * <p><b>Laziness.</b> Nothing is built until a search reaches it. A section's crossings and its
+ * portal cost table are cached separately, because the table depends on the neighbours' crossings
+ * too. The cache is shared by every search for one {@link NavProfile} — the first mob of a herd
+ * pays for the sections, the rest of the herd reuses them.
+ *
+ * <p><b>Invalidation.</b> A block change drops every section whose movement rules could read it
+ * (the section plus a profile-sized margin), and the cost tables of their neighbours. A build racing
+ * an invalidation never caches what it read: each build stamps its (x, z) slot first and withdraws
+ * its result if the stamp moved while it was reading.
+ *
+ * <p>Thread-safe: searches on any number of worker threads may share one graph, and invalidation
+ * may come from the tick thread at any time.
+ */
+public final class SectionPortalGraph {
+
+    public static final int SECTION_SHIFT = 4;
+    public static final int SECTION_SIZE = 1 << SECTION_SHIFT;
+
+    /** Portal cap per section. Keeps a node's degree, and so the planner's scratch, bounded. */
+    static final int MAX_PORTALS = 224;
+
+    /** Upper bound on one node's successors: every other portal, every crossing, the goal. */
+    static final int MAX_DEGREE = 256;
+
+    /** A run with more distinct cells than this gets a crossing at each end instead of the centre. */
+    private static final int LONG_RUN = 6;
+
+    /** Beyond this many cached sections the whole cache is dropped and rebuilt on demand. */
+    private static final int MAX_CACHED_SECTIONS = 8192;
+
+    private static final int STAMP_SLOTS = 1024;
+
+    /** Flood bound inside one section — its whole surface, several layers deep. */
+    private static final SearchLimits SECTION_FLOOD =
+            new SearchLimits(4 * SECTION_SIZE * SECTION_SIZE, Float.MAX_VALUE, 1.0f);
+
+    private final NavVolume volume;
+    private final NavProfile profile;
+    private final int margin;
+    private final int reachUp;
+    private final int reachDown;
+
+    private final Map<Long, Crossings> crossings = new ConcurrentHashMap<>();
+    private final Map<Long, Section> sections = new ConcurrentHashMap<>();
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_SLOTS);
+    private final AtomicLong builds = new AtomicLong();
+
+    /**
+     * @param volume read directly by builds, which wrap it in their own {@link NavCellCache}; must
+     *               be safe to read from the threads that search
+     * @throws IllegalArgumentException if the profile climbs or falls a whole section in one move —
+     *                                  crossings are only looked for between adjacent sections
+     */
+    public SectionPortalGraph(NavVolume volume, NavProfile profile) {
+        float climb = Math.max(profile.maxClimb(), profile.waterEscapeClimb());
+        if (climb >= SECTION_SIZE - 1 || profile.maxFall() >= SECTION_SIZE - 1) {
+            throw new IllegalArgumentException("profile moves too far vertically for "
+                    + SECTION_SIZE + "-block sections: " + profile);
+        }
+        this.volume = volume;
+        this.profile = profile;
+        this.reachUp = (int) Math.ceil(climb) + 1;
+        this.reachDown = (int) Math.ceil(profile.maxFall()) + 1;
+        // How far outside a section its movement rules read: a landing search up or down, the
+        // headroom above the highest landing, the profile's footprint, and the one-cell move itself.
+        this.margin = Math.max(reachDown, reachUp + (int) Math.ceil(profile.height()))
+                + profile.columnRadius() + 1;
+    }
+
+    public NavProfile profile() {
+        return profile;
+    }
+
+    NavVolume volume() {
+        return volume;
+    }
+
+    // ── Invalidation ─────────────────────────────────────────────────────────
+
+    /** The block at (x, y, z) changed; forgets every section whose routes could depend on it. */
+    public void invalidateBlock(int x, int y, int z) {
+        invalidate(x - margin, y - margin, z - margin, x + margin, y + margin, z + margin);
+    }
+
+    /**
+     * Terrain in the given block columns appeared or went away (a chunk loaded or unloaded);
+     * forgets every section that could have read it, at every height.
+     */
+    public void invalidateColumns(int minX, int minZ, int maxX, int maxZ) {
+        invalidate(minX - margin, 0, minZ - margin, maxX + margin, NavNodes.MAX_Y, maxZ + margin);
+    }
+
+    /** Drops the whole cache. */
+    public void clear() {
+        for (int i = 0; i < STAMP_SLOTS; i++) {
+            stamps.incrementAndGet(i);
+        }
+        crossings.clear();
+        sections.clear();
+    }
+
+    private void invalidate(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        int sx0 = minX >> SECTION_SHIFT;
+        int sz0 = minZ >> SECTION_SHIFT;
+        int sx1 = maxX >> SECTION_SHIFT;
+        int sz1 = maxZ >> SECTION_SHIFT;
+        int sy0 = Math.max(0, minY) >> SECTION_SHIFT;
+        int sy1 = Math.min(NavNodes.MAX_Y, maxY) >> SECTION_SHIFT;
+
+        // Stamps first, so a build that read the old terrain cannot cache it after the removal.
+        for (int sx = sx0 - 1; sx <= sx1 + 1; sx++) {
+            for (int sz = sz0 - 1; sz <= sz1 + 1; sz++) {
+                stamps.incrementAndGet(stampSlot(sx, sz));
+            }
+        }
+        remove(crossings, sx0, sy0, sz0, sx1, sy1, sz1);
+        // A cost table also lists the cells its neighbours' crossings land on.
+        remove(sections, sx0 - 1, sy0 - 1, sz0 - 1, sx1 + 1, sy1 + 1, sz1 + 1);
+    }
+
+    private static void remove(Map<Long, ?> map, int sx0, int sy0, int sz0, int sx1, int sy1, int sz1) {
+        sy0 = Math.max(0, sy0);
+        sy1 = Math.min(NavNodes.MAX_Y >> SECTION_SHIFT, sy1);
+        long box = (long) (sx1 - sx0 + 1) * (sy1 - sy0 + 1) * (sz1 - sz0 + 1);
+        if (box > map.size()) {
+            int fx0 = sx0, fy0 = sy0, fz0 = sz0, fx1 = sx1, fy1 = sy1, fz1 = sz1;
+            map.keySet().removeIf(key -> {
+                int sx = NavNodes.x(key);
+                int sy = NavNodes.y(key);
+                int sz = NavNodes.z(key);
+                return sx >= fx0 && sx <= fx1 && sy >= fy0 && sy <= fy1 && sz >= fz0 && sz <= fz1;
+            });
+            return;
+        }
+        for (int sx = sx0; sx <= sx1; sx++) {
+            for (int sy = sy0; sy <= sy1; sy++) {
+                for (int sz = sz0; sz <= sz1; sz++) {
+                    map.remove(NavNodes.pack(sx, sy, sz));
+                }
+            }
+        }
+    }
+
+    private static int stampSlot(int sx, int sz) {
+        return ((sx * 0x9E3779B1) ^ (sz * 0x85EBCA6B)) & (STAMP_SLOTS - 1);
+    }
+
+    // ── Diagnostics ──────────────────────────────────────────────────────────
+
+    /** Sections whose portal cost table is currently cached. */
+    public int cachedSections() {
+        return sections.size();
+    }
+
+    /** Cost tables built since construction — how often the cache missed. */
+    public long sectionBuilds() {
+        return builds.get();
+    }
+
+    // ── Keys ─────────────────────────────────────────────────────────────────
+
+    /** The section holding a packed cell, itself packed with {@link NavNodes} at section scale. */
+    public static long sectionOf(long node) {
+        return NavNodes.pack(NavNodes.x(node) >> SECTION_SHIFT,
+                NavNodes.y(node) >> SECTION_SHIFT,
+                NavNodes.z(node) >> SECTION_SHIFT);
+    }
+
+    // ── Lookup and build (planner side) ──────────────────────────────────────
+
+    /** The cached cost table for a section, or {@code null} if it has not been built. */
+    Section cached(long sectionKey) {
+        return sections.get(sectionKey);
+    }
+
+    /** The cost table for a section, building it (and any crossings it needs) on a miss. */
+    Section section(long sectionKey, AStar solver) {
+        Section section = sections.get(sectionKey);
+        if (section != null) {
+            return section;
+        }
+        int slot = stampSlot(NavNodes.x(sectionKey), NavNodes.z(sectionKey));
+        long stamp = stamps.get(slot);
+        section = buildSection(sectionKey, solver);
+        builds.incrementAndGet();
+        cache(sections, sectionKey, section, slot, stamp);
+        return section;
+    }
+
+    /**
+     * Cheapest walking cost from {@code from} to each target, without leaving {@code from}'s
+     * section. Writes {@link Float#POSITIVE_INFINITY} for targets it cannot reach that way.
+     */
+    void flood(long from, long[] targets, float[] outCosts, AStar solver) {
+        GroundNavDomain ground = new GroundNavDomain(
+                new NavCellCache(volume, 4096), profile, 0, 0, 0, 0.0f);
+        solver.distances(new InSection(ground, sectionOf(from)), from, targets, outCosts,
+                SECTION_FLOOD, CancelToken.NEVER);
+    }
+
+    private Crossings crossings(long sectionKey) {
+        Crossings found = crossings.get(sectionKey);
+        if (found != null) {
+            return found;
+        }
+        int slot = stampSlot(NavNodes.x(sectionKey), NavNodes.z(sectionKey));
+        long stamp = stamps.get(slot);
+        found = buildCrossings(sectionKey);
+        cache(crossings, sectionKey, found, slot, stamp);
+        return found;
+    }
+
+    private <T> void cache(Map<Long, T> map, long key, T value, int slot, long stamp) {
+        if (sections.size() >= MAX_CACHED_SECTIONS) {
+            clear();
+            return;
+        }
+        map.put(key, value);
+        if (stamps.get(slot) != stamp) {
+            map.remove(key, value); // invalidated while we were reading; serve it once, never again
+        }
+    }
+
+    private Section buildSection(long sectionKey, AStar solver) {
+        int sx = NavNodes.x(sectionKey);
+        int sy = NavNodes.y(sectionKey);
+        int sz = NavNodes.z(sectionKey);
+
+        Crossings own = crossings(sectionKey);
+        LongIntHashMap index = new LongIntHashMap(64);
+        long[] nodes = new long[32];
+        int count = 0;
+        for (int i = 0; i < own.size() && count < MAX_PORTALS; i++) {
+            if (index.get(own.from[i], -1) < 0) {
+                nodes = append(nodes, count, own.from[i]);
+                index.put(own.from[i], count++);
+            }
+        }
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    int ny = sy + dy;
+                    if ((dx | dy | dz) == 0 || ny < 0 || ny > (NavNodes.MAX_Y >> SECTION_SHIFT)) {
+                        continue;
+                    }
+                    Crossings neighbour = crossings(NavNodes.pack(sx + dx, ny, sz + dz));
+                    for (int i = 0; i < neighbour.size() && count < MAX_PORTALS; i++) {
+                        long landing = neighbour.to[i];
+                        if (sectionOf(landing) == sectionKey && index.get(landing, -1) < 0) {
+                            nodes = append(nodes, count, landing);
+                            index.put(landing, count++);
+                        }
+                    }
+                }
+            }
+        }
+        nodes = Arrays.copyOf(nodes, count);
+
+        // Adjacency in CSR form: node i's edges are [edgeStart[i], edgeStart[i + 1]).
+        int[] edgeStart = new int[count + 1];
+        long[] edgeTo = new long[Math.max(16, count * 4)];
+        float[] edgeCost = new float[edgeTo.length];
+        float[] costs = new float[count];
+        int edges = 0;
+        for (int a = 0; a < count; a++) {
+            edgeStart[a] = edges;
+            flood(nodes[a], nodes, costs, solver);
+            for (int b = 0; b < count; b++) {
+                if (b != a && costs[b] != Float.POSITIVE_INFINITY) {
+                    if (edges == edgeTo.length) {
+                        edgeTo = Arrays.copyOf(edgeTo, edges * 2);
+                        edgeCost = Arrays.copyOf(edgeCost, edges * 2);
+                    }
+                    edgeTo[edges] = nodes[b];
+                    edgeCost[edges++] = costs[b];
+                }
+            }
+            for (int i = 0; i < own.size(); i++) {
+                if (own.from[i] == nodes[a]) {
+                    if (edges == edgeTo.length) {
+                        edgeTo = Arrays.copyOf(edgeTo, edges * 2);
+                        edgeCost = Arrays.copyOf(edgeCost, edges * 2);
+                    }
+                    edgeTo[edges] = own.to[i];
+                    edgeCost[edges++] = own.cost[i];
+                }
+            }
+        }
+        edgeStart[count] = edges;
+        return new Section(nodes, index, edgeStart,
+                Arrays.copyOf(edgeTo, edges), Arrays.copyOf(edgeCost, edges));
+    }
+
+    /**
+     * Finds every move out of a section and keeps one or two representatives per run. Only cells
+     * near a face can leave: a move is one column sideways and at most a climb up or a fall down.
+     */
+    private Crossings buildCrossings(long sectionKey) {
+        int x0 = NavNodes.x(sectionKey) << SECTION_SHIFT;
+        int y0 = NavNodes.y(sectionKey) << SECTION_SHIFT;
+        int z0 = NavNodes.z(sectionKey) << SECTION_SHIFT;
+        GroundNavDomain ground = new GroundNavDomain(
+                new NavCellCache(volume, 8192), profile, 0, 0, 0, 0.0f);
+        long[] successors = new long[ground.maxSuccessors()];
+        float[] stepCosts = new float[ground.maxSuccessors()];
+
+        Candidates found = new Candidates();
+        for (int ly = 0; ly < SECTION_SIZE; ly++) {
+            boolean verticalFace = ly < reachDown || ly >= SECTION_SIZE - reachUp;
+            for (int lz = 0; lz < SECTION_SIZE; lz++) {
+                for (int lx = 0; lx < SECTION_SIZE; lx++) {
+                    boolean face = verticalFace || lx == 0 || lz == 0
+                            || lx == SECTION_SIZE - 1 || lz == SECTION_SIZE - 1;
+                    int x = x0 + lx;
+                    int y = y0 + ly;
+                    int z = z0 + lz;
+                    if (!face || !NavNodes.inRange(x, y, z)) {
+                        continue;
+                    }
+                    long node = NavNodes.pack(x, y, z);
+                    if (Float.isNaN(ground.surfaceOf(node))) {
+                        continue;
+                    }
+                    int count = ground.successors(node, successors, stepCosts);
+                    for (int i = 0; i < count; i++) {
+                        long target = sectionOf(successors[i]);
+                        if (target != sectionKey) {
+                            found.add(node, successors[i], stepCosts[i], target);
+                        }
+                    }
+                }
+            }
+        }
+        return found.representatives();
+    }
+
+    private static long[] append(long[] array, int size, long value) {
+        if (size == array.length) {
+            array = Arrays.copyOf(array, size * 2);
+        }
+        array[size] = value;
+        return array;
+    }
+
+    // ── Cached structures ────────────────────────────────────────────────────
+
+    /** The representative moves out of one section. Immutable once built. */
+    private static final class Crossings {
+        final long[] from;
+        final long[] to;
+        final float[] cost;
+
+        Crossings(long[] from, long[] to, float[] cost) {
+            this.from = from;
+            this.to = to;
+            this.cost = cost;
+        }
+
+        int size() {
+            return from.length;
+        }
+    }
+
+    /**
+     * One section's portals and the cost of every move between them: walks inside the section,
+     * plus the crossings leaving it. Immutable once built, so readers on any thread need no lock.
+     */
+    static final class Section {
+        private final long[] nodes;
+        private final LongIntHashMap index;
+        private final int[] edgeStart;
+        private final long[] edgeTo;
+        private final float[] edgeCost;
+
+        Section(long[] nodes, LongIntHashMap index, int[] edgeStart, long[] edgeTo, float[] edgeCost) {
+            this.nodes = nodes;
+            this.index = index;
+            this.edgeStart = edgeStart;
+            this.edgeTo = edgeTo;
+            this.edgeCost = edgeCost;
+        }
+
+        long[] nodes() {
+            return nodes;
+        }
+
+        int indexOf(long node) {
+            return index.get(node, -1);
+        }
+
+        /** Appends portal {@code i}'s edges to the caller's arrays from {@code offset}; returns the new end. */
+        int copyEdges(int i, long[] outNodes, float[] outCosts, int offset) {
+            int from = edgeStart[i];
+            int length = edgeStart[i + 1] - from;
+            System.arraycopy(edgeTo, from, outNodes, offset, length);
+            System.arraycopy(edgeCost, from, outCosts, offset, length);
+            return offset + length;
+        }
+    }
+
+    /** A ground domain that refuses to leave one section, so floods stay local to it. */
+    private static final class InSection implements SearchDomain {
+        private final GroundNavDomain ground;
+        private final long sectionKey;
+
+        InSection(GroundNavDomain ground, long sectionKey) {
+            this.ground = ground;
+            this.sectionKey = sectionKey;
+        }
+
+        @Override
+        public int successors(long node, long[] outNodes, float[] outCosts) {
+            int count = ground.successors(node, outNodes, outCosts);
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                if (sectionOf(outNodes[i]) == sectionKey) {
+                    outNodes[kept] = outNodes[i];
+                    outCosts[kept++] = outCosts[i];
+                }
+            }
+            return kept;
+        }
+
+        @Override
+        public float heuristic(long node) {
+            return 0.0f;
+        }
+
+        @Override
+        public boolean isGoal(long node) {
+            return false;
+        }
+    }
+
+    /**
+     * Every crossing found in one section's scan, reduced to representatives: grouped by the
+     * neighbour they enter, then into runs of touching cells.
+     */
+    private static final class Candidates {
+        private long[] from = new long[64];
+        private long[] to = new long[64];
+        private float[] cost = new float[64];
+        private long[] target = new long[64];
+        private int size;
+
+        void add(long fromNode, long toNode, float stepCost, long targetSection) {
+            if (size == from.length) {
+                int capacity = size * 2;
+                from = Arrays.copyOf(from, capacity);
+                to = Arrays.copyOf(to, capacity);
+                cost = Arrays.copyOf(cost, capacity);
+                target = Arrays.copyOf(target, capacity);
+            }
+            from[size] = fromNode;
+            to[size] = toNode;
+            cost[size] = stepCost;
+            target[size++] = targetSection;
+        }
+
+        Crossings representatives() {
+            int[] run = new int[size];
+            for (int i = 0; i < size; i++) {
+                run[i] = i;
+            }
+            // Union touching candidates that enter the same neighbour. Scan order keeps it
+            // deterministic; a face holds at most a few hundred candidates, so pairwise is fine.
+            for (int i = 0; i < size; i++) {
+                for (int j = i + 1; j < size; j++) {
+                    if (target[i] == target[j] && touching(from[i], from[j])) {
+                        union(run, i, j);
+                    }
+                }
+            }
+
+            // Group by run, then by from-cell, cheapest move first: each run becomes a contiguous
+            // slice, and within it each distinct from-cell a contiguous sub-slice led by its best move.
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> {
+                int byRun = Integer.compare(find(run, a), find(run, b));
+                if (byRun != 0) {
+                    return byRun;
+                }
+                int byCell = Long.compare(from[a], from[b]);
+                return byCell != 0 ? byCell : Float.compare(cost[a], cost[b]);
+            });
+
+            long[] outFrom = new long[16];
+            long[] outTo = new long[16];
+            float[] outCost = new float[16];
+            int out = 0;
+            for (int begin = 0; begin < size; ) {
+                int root = find(run, order[begin]);
+                int end = begin;
+                double cx = 0, cy = 0, cz = 0;
+                int cells = 0;
+                while (end < size && find(run, order[end]) == root) {
+                    if (end == begin || from[order[end]] != from[order[end - 1]]) {
+                        cx += NavNodes.x(from[order[end]]);
+                        cy += NavNodes.y(from[order[end]]);
+                        cz += NavNodes.z(from[order[end]]);
+                        cells++;
+                    }
+                    end++;
+                }
+                cx /= cells;
+                cy /= cells;
+                cz /= cells;
+
+                int first;
+                int second = -1;
+                if (cells <= LONG_RUN) {
+                    first = extreme(order, begin, end, cx, cy, cz, false);
+                } else {
+                    first = extreme(order, begin, end, cx, cy, cz, true);
+                    long a = from[first];
+                    second = extreme(order, begin, end, NavNodes.x(a), NavNodes.y(a), NavNodes.z(a), true);
+                }
+                for (int pick : new int[]{first, second}) {
+                    if (pick < 0) {
+                        continue;
+                    }
+                    if (out == outFrom.length) {
+                        outFrom = Arrays.copyOf(outFrom, out * 2);
+                        outTo = Arrays.copyOf(outTo, out * 2);
+                        outCost = Arrays.copyOf(outCost, out * 2);
+                    }
+                    outFrom[out] = from[pick];
+                    outTo[out] = to[pick];
+                    outCost[out++] = cost[pick];
+                }
+                begin = end;
+            }
+            return new Crossings(Arrays.copyOf(outFrom, out), Arrays.copyOf(outTo, out),
+                    Arrays.copyOf(outCost, out));
+        }
+
+        /**
+         * The candidate in {@code order[begin, end)} whose from-cell is nearest (or farthest from)
+         * the given point. Strict comparison keeps the first in sort order on ties, which is the
+         * cheapest move out of that cell.
+         */
+        private int extreme(Integer[] order, int begin, int end, double x, double y, double z,
+                            boolean farthest) {
+            int best = order[begin];
+            double bestDistance = distanceSquared(from[best], x, y, z);
+            for (int k = begin + 1; k < end; k++) {
+                double d = distanceSquared(from[order[k]], x, y, z);
+                if (farthest ? d > bestDistance : d < bestDistance) {
+                    best = order[k];
+                    bestDistance = d;
+                }
+            }
+            return best;
+        }
+
+        private static double distanceSquared(long node, double x, double y, double z) {
+            double dx = NavNodes.x(node) - x;
+            double dy = NavNodes.y(node) - y;
+            double dz = NavNodes.z(node) - z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        private static boolean touching(long a, long b) {
+            return Math.abs(NavNodes.x(a) - NavNodes.x(b)) <= 1
+                    && Math.abs(NavNodes.y(a) - NavNodes.y(b)) <= 1
+                    && Math.abs(NavNodes.z(a) - NavNodes.z(b)) <= 1;
+        }
+
+        private static int find(int[] parent, int i) {
+            while (parent[i] != i) {
+                parent[i] = parent[parent[i]];
+                i = parent[i];
+            }
+            return i;
+        }
+
+        private static void union(int[] parent, int a, int b) {
+            int ra = find(parent, a);
+            int rb = find(parent, b);
+            if (ra != rb) {
+                // Lower index wins, so a run's root is always its first candidate in scan order.
+                parent[Math.max(ra, rb)] = Math.min(ra, rb);
+            }
+        }
+    }
+}
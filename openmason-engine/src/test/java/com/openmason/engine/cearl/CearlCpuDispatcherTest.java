@@ -0,0 +1,280 @@
+package com.openmason.engine.cearl;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The CPU backend runs the same kernels the GPU does: element-wise math,
+ * std430 forms with methods, atomics, shared-memory reductions across
+ * barriers, and the binding contract of {@link CearlDispatcher} — take
+ * names, type-checked uniforms, and teaching errors on misuse.
+ */
+class CearlCpuDispatcherTest {
+
+    private static final Map<String, Long> ENV = Map.of("vram", 0L);
+
+    private static CearlCpuDispatcher dispatcher(String source, String kernel) {
+        return CearlCpuDispatcher.create(CearlCompiler.compile(source, "test.CEARL", ENV), kernel);
+    }
+
+    @Test
+    void elementWiseKernelMatchesJavaFloatMath() {
+        CearlCpuDispatcher d = dispatcher("""
+            kernel saxpy(64)
+                take xs: f32[] in
+                take ys: f32[] inout
+                take a: f32
+
+                fix i = gid.x
+                if i < count(xs)
+                    ys[i] = a * xs[i] + ys[i]
+                end
+            end
+            """, "saxpy");
+        int n = 1000; // not a multiple of the local size
+        float[] xs = new float[n];
+        float[] ys = new float[n];
+        float[] expected = new float[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = i * 0.37f;
+            ys[i] = 1f / (i + 1);
+            expected[i] = 2.5f * xs[i] + ys[i];
+        }
+        d.bindBuffer("xs", xs);
+        d.bindBuffer("ys", ys);
+        d.uniform1f("a", 2.5f);
+        d.dispatch(n);
+        assertArrayEquals(expected, ys);
+    }
+
+    @Test
+    void formsMethodsAndAtomicsFollowStd430() {
+        CearlCpuDispatcher d = dispatcher("""
+            pin HALF: f32 = 0.5
+
+            form Box
+                lo: vec3
+                pad0: f32
+                hi: vec3
+                pad1: f32
+
+                craft mid() -> vec3
+                    give (lo + hi) * HALF
+                end
+
+                craft expand(by: f32)
+                    hi = hi + vec3(by)
+                end
+            end
+
+            craft squared(x: f32) -> f32
+                give x * x
+            end
+
+            kernel demo(16)
+                take boxes: Box[] inout
+                take counts: u32[] inout
+                take scale: f32
+
+                fix i = gid.x
+                if i >= count(boxes)
+                    give
+                end
+                boxes[i].expand(squared(scale))
+                fix c = boxes[i].mid()
+                if c.y > 0.0
+                    atomic_add(counts[0], 1)
+                end
+            end
+            """, "demo");
+        int n = 40;
+        float[] boxes = new float[n * 8]; // 8 words per Box: vec3 + f32 + vec3 + f32
+        for (int i = 0; i < n; i++) {
+            boxes[i * 8 + 1] = -i;     // lo.y
+            boxes[i * 8 + 5] = i - 20; // hi.y
+        }
+        int[] counts = new int[1];
+        d.bindBuffer("boxes", boxes);
+        d.bindBuffer("counts", counts);
+        d.uniform1f("scale", 3f);
+        d.dispatch(n);
+
+        int positive = 0;
+        for (int i = 0; i < n; i++) {
+            assertEquals(i - 20 + 9f, boxes[i * 8 + 5], "hi.y grew by scale²");
+            assertEquals(9f, boxes[i * 8 + 4], "hi.x grew by scale²");
+            assertEquals(0f, boxes[i * 8 + 3], "padding untouched");
+            if ((-i + (i - 20 + 9f)) * 0.5f > 0f) {
+                positive++;
+            }
+        }
+        assertEquals(positive, counts[0]);
+    }
+
+    @Test
+    void sharedMemoryReductionAcrossBarriers() {
+        CearlCpuDispatcher d = dispatcher("""
+            kernel reduce_sum(64)
+                take values: u32[] in
+                take totals: u32[] inout
+                shared scratch: u32[64]
+
+                fix i = gid.x
+                scratch[lid.x] = 0
+                if i < count(values)
+                    scratch[lid.x] = values[i]
+                end
+                barrier()
+                flux stride: u32 = 32
+                while stride > 0
+                    if lid.x < stride
+                        scratch[lid.x] = scratch[lid.x] + scratch[lid.x + stride]
+                    end
+                    barrier()
+                    stride = stride / 2
+                end
+                if lid.x == 0
+                    atomic_add(totals[wgid.x], scratch[0])
+                end
+            end
+            """, "reduce_sum");
+        int n = 300;
+        int[] values = new int[n];
+        int[] expected = new int[(n + 63) / 64];
+        for (int i = 0; i < n; i++) {
+            values[i] = i * 7 + 1;
+            expected[i / 64] += values[i];
+        }
+        int[] totals = new int[expected.length];
+        d.bindBuffer("values", values);
+        d.bindBuffer("totals", totals);
+        d.dispatch(n);
+        assertArrayEquals(expected, totals);
+    }
+
+    @Test
+    void unsignedIntegerSemanticsAndLoops() {
+        CearlCpuDispatcher d = dispatcher("""
+            kernel ints(8)
+                take res: u32[] out
+                take big: u32
+
+                fix i = gid.x
+                flux acc: u32 = 0
+                for k in 0..i
+                    acc = acc + k
+                end
+                res[i * 3] = acc
+                res[i * 3 + 1] = big / (i + 1)
+                res[i * 3 + 2] = pick(big > i, u32(1), u32(2))
+            end
+            """, "ints");
+        int[] out = new int[8 * 3];
+        d.bindBuffer("res", out);
+        d.uniform1u("big", 0xF0000000);
+        d.dispatch(8);
+        for (int i = 0; i < 8; i++) {
+            assertEquals(i * (i - 1) / 2, out[i * 3]);
+            assertEquals(Integer.divideUnsigned(0xF0000000, i + 1), out[i * 3 + 1]);
+            assertEquals(1, out[i * 3 + 2], "0xF0000000 compares as unsigned");
+        }
+    }
+
+    @Test
+    void offHeapSegmentsAndOutOfBoundsAccess() {
+        CearlCpuDispatcher d = dispatcher("""
+            kernel copy(4)
+                take src: i32[] in
+                take dst: i32[] out
+
+                fix i = gid.x
+                dst[i] = src[i + 2] * 2
+            end
+            """, "copy");
+        try (Arena arena = Arena.ofShared()) {
+            MemorySegment src = arena.allocate(6 * Integer.BYTES);
+            MemorySegment dst = arena.allocate(6 * Integer.BYTES);
+            for (int i = 0; i < 6; i++) {
+                src.setAtIndex(ValueLayout.JAVA_INT, i, i + 1);
+            }
+            d.bindBuffer("src", src);
+            d.bindBuffer("dst", dst);
+            d.dispatch(8); // two groups of four, reaching past both buffers
+            int[] got = dst.toArray(ValueLayout.JAVA_INT);
+            // Reads past the end give 0; writes past the end are dropped.
+            assertArrayEquals(new int[]{6, 8, 10, 12, 0, 0}, got);
+        }
+    }
+
+    @Test
+    void dispatchRunsOnTheSuppliedPool() {
+        CearlProgram program = CearlCompiler.compile("""
+            kernel fill(32)
+                take res: f32[] out
+                fix i = gid.x
+                if i < count(res)
+                    res[i] = sqrt(f32(i))
+                end
+            end
+            """, "test.CEARL", ENV);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            CearlCpuDispatcher d = CearlCpuDispatcher.create(program, "fill", pool);
+            float[] out = new float[1000];
+            d.bindBuffer("res", out);
+            d.dispatch(out.length);
+            for (int i = 0; i < out.length; i++) {
+                assertEquals((float) Math.sqrt(i), out[i]);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void misuseTeachesTheBindingContract() {
+        CearlCpuDispatcher d = dispatcher("""
+            kernel k
+                take data: f32[] inout
+                take planes: vec4[2]
+                take n: u32
+                data[0] = planes[1].w + f32(n)
+            end
+            """, "k");
+
+        CearlException unknown = assertThrows(CearlException.class,
+            () -> d.bindBuffer("dat", new float[1]));
+        assertTrue(unknown.getMessage().contains("no buffer take named 'dat'"), unknown.getMessage());
+        assertTrue(unknown.getMessage().contains("data"), unknown.getMessage());
+
+        CearlException wrongType = assertThrows(CearlException.class, () -> d.uniform1f("n", 1f));
+        assertTrue(wrongType.getMessage().contains("uniform 'n' is uint"), wrongType.getMessage());
+
+        CearlException wrongLength = assertThrows(CearlException.class,
+            () -> d.uniform4fv("planes", new float[4]));
+        assertTrue(wrongLength.getMessage().contains("takes 2 vec4s"), wrongLength.getMessage());
+
+        CearlException unbound = assertThrows(CearlException.class, () -> d.dispatch(1));
+        assertTrue(unbound.getMessage().contains("[data]"), unbound.getMessage());
+
+        float[] data = new float[1];
+        d.bindBuffer("data", data);
+        d.uniform4fv("planes", new float[]{0, 0, 0, 0, 0, 0, 0, 1.5f});
+        d.uniform1u("n", 2);
+        d.dispatch(1);
+        assertEquals(3.5f, data[0]);
+
+        assertThrows(CearlException.class, () -> CearlCpuDispatcher.create(
+            CearlCompiler.compile("kernel k\nend\n", "test.CEARL", ENV), "missing"));
+    }
+}
@@ -0,0 +1,246 @@
+package com.openmason.engine.format.oma;
+
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The baked path must agree with the keyframed one: {@link BakedAnimClip}
+ * against {@link AnimSampler#sample}, and {@link AnimBatch} against
+ * {@link AnimLayering#blendPart} for the same base clip, overlays, weights and
+ * times. Agreement is to within resampling error, not bit-exact.
+ */
+class AnimBatchTest {
+
+    /**
+     * Resampling error at 60 Hz. The cubic eases bend hardest mid-segment, so a
+     * 60° swing in half a second is off by about a tenth of a degree there.
+     */
+    private static final float BAKE_EPS = 0.01f;
+    private static final float BAKE_ANGLE_EPS = 0.25f;
+    private static final float EPS = 1e-4f;
+
+    private static ParsedKeyframe kf(float t, float px, float rotY, float scale, String easing) {
+        return new ParsedKeyframe(t, new Vector3f(px, 0, 0), new Vector3f(0, rotY, 0),
+                new Vector3f(scale, scale, scale), easing);
+    }
+
+    private static ParsedAnimClip walk() {
+        return new ParsedAnimClip("walk", 24f, 1f, true, List.of(
+                new ParsedAnimTrack("leg", "Leg", List.of(
+                        kf(0f, 0f, -30f, 1f, "EASE_IN_OUT"),
+                        kf(0.5f, 0.25f, 30f, 1.2f, "EASE_IN"),
+                        kf(1f, 0f, -30f, 1f, "LINEAR"))),
+                new ParsedAnimTrack("arm", "Arm", List.of(
+                        kf(0f, 0f, 170f, 1f, "LINEAR"),
+                        kf(1f, 0f, -170f, 1f, "LINEAR")))));
+    }
+
+    private static ParsedAnimClip overlay(String part, List<String> mask, int priority, float rotY) {
+        return new ParsedAnimClip("overlay", 30f, 0.8f, false,
+                List.of(new ParsedAnimTrack(part, part, List.of(
+                        kf(0f, 0f, 0f, 1f, "EASE_OUT"),
+                        kf(0.8f, 0.5f, rotY, 1f, "LINEAR")))),
+                new AnimLayerMeta(AnimLayerMeta.LayerType.OVERLAY, mask, 0.1f, 0.2f, priority));
+    }
+
+    private static AnimRig rig() {
+        return new AnimRig(new String[] {"leg", "arm", "tail"}, new String[] {"Leg", "Arm", "Tail"},
+                new float[] {
+                    0, 1, 0, 0, 0, 0, 1, 1, 1,
+                    0, 2, 0, 0, 0, 0, 1, 1, 1,
+                    0, 3, 0, 0, 45, 0, 1, 1, 1});
+    }
+
+    private static void assertPose(AnimSampler.PartPose expected, PoseBuffer out, int slot) {
+        assertEquals(expected.position().x, out.positionX(slot), BAKE_EPS);
+        assertEquals(expected.position().y, out.positionY(slot), BAKE_EPS);
+        assertEquals(expected.position().z, out.positionZ(slot), BAKE_EPS);
+        assertEquals(0f, angleBetween(expected.rotationDeg().y, out.rotationY(slot)), BAKE_ANGLE_EPS);
+        assertEquals(expected.scale().x, out.scaleX(slot), BAKE_EPS);
+        assertEquals(expected.scale().y, out.scaleY(slot), BAKE_EPS);
+    }
+
+    /** Shortest signed turn from {@code a} to {@code b}, so 180 and -180 agree. */
+    private static float angleBetween(float a, float b) {
+        return AnimSampler.lerpAngleDeg(a, b, 1f) - a;
+    }
+
+    private static AnimSampler.PartPose rest(float[] restPoses, int part) {
+        int o = part * BakedAnimClip.FRAME_STRIDE;
+        return new AnimSampler.PartPose(
+                new Vector3f(restPoses[o], restPoses[o + 1], restPoses[o + 2]),
+                new Vector3f(restPoses[o + 3], restPoses[o + 4], restPoses[o + 5]),
+                new Vector3f(restPoses[o + 6], restPoses[o + 7], restPoses[o + 8]));
+    }
+
+    @Test
+    void bakedSamplesMatchKeyframedSamples() {
+        ParsedAnimClip clip = walk();
+        BakedAnimClip baked = BakedAnimClip.bake(clip);
+        float[] out = new float[BakedAnimClip.FRAME_STRIDE];
+        for (ParsedAnimTrack track : clip.tracks()) {
+            int index = baked.trackIndex(track.partId(), null);
+            for (float t = 0f; t <= 1f; t += 0.0137f) {
+                baked.sample(index, t, out, 0);
+                AnimSampler.PartPose expected = AnimSampler.sample(track, t);
+                assertEquals(expected.position().x, out[0], BAKE_EPS, track.partId() + " @" + t);
+                assertEquals(0f, angleBetween(expected.rotationDeg().y, out[4]), BAKE_ANGLE_EPS,
+                        track.partId() + " @" + t);
+                assertEquals(expected.scale().y, out[7], BAKE_EPS, track.partId() + " @" + t);
+            }
+        }
+    }
+
+    @Test
+    void bakedEndpointsAreExactAndTimeIsClamped() {
+        ParsedAnimClip clip = walk();
+        BakedAnimClip baked = BakedAnimClip.bake(clip, 7f);
+        int leg = baked.trackIndex("leg", null);
+        float[] out = new float[BakedAnimClip.FRAME_STRIDE];
+
+        baked.sample(leg, -1f, out, 0);
+        assertEquals(-30f, out[4], EPS);
+        baked.sample(leg, 5f, out, 0);
+        assertEquals(-30f, out[4], EPS);
+        baked.sample(leg, 0.5f, out, 0);
+        assertEquals(1.2f, out[7], 0.1f);
+        assertEquals(8, baked.frameCount());
+    }
+
+    @Test
+    void trackIndexMatchesByIdThenNameAndSkipsEmptyTracks() {
+        ParsedAnimClip clip = new ParsedAnimClip("c", 30f, 1f, true, List.of(
+                new ParsedAnimTrack("empty", "Empty", List.of()),
+                new ParsedAnimTrack("uuid-1", "Head", List.of(kf(0f, 0f, 10f, 1f, "LINEAR")))));
+        BakedAnimClip baked = BakedAnimClip.bake(clip);
+
+        assertEquals(1, baked.trackCount());
+        assertEquals(0, baked.trackIndex("uuid-1", null));
+        assertEquals(0, baked.trackIndex("stale", "head"));
+        assertEquals(-1, baked.trackIndex("empty", "Empty"));
+        assertThrows(IllegalArgumentException.class, () -> BakedAnimClip.bake(clip, 0f));
+    }
+
+    @Test
+    void baseTracksResolveAsTheKeyframedSolverDid() {
+        ParsedKeyframe key = kf(0f, 0.5f, 10f, 1f, "LINEAR");
+        ParsedAnimClip clip = new ParsedAnimClip("c", 30f, 1f, true, List.of(
+                new ParsedAnimTrack("leg", "Leg", List.of()),
+                new ParsedAnimTrack("stale-arm", "arm", List.of(key)),
+                new ParsedAnimTrack("stale-tail", "Tail", List.of(key))));
+        BakedAnimClip baked = BakedAnimClip.bake(clip);
+
+        assertEquals(BakedAnimClip.EMPTY_TRACK, baked.baseTrackIndex("leg", "Leg"));
+        assertEquals(-1, baked.baseTrackIndex("arm", "Arm"), "base names match exactly");
+        assertEquals(0, baked.trackIndex("arm", "Arm"), "overlay names match case-insensitively");
+        assertEquals(1, baked.baseTrackIndex("tail", "Tail"));
+
+        AnimRig rig = rig();
+        AnimBatch batch = new AnimBatch();
+        PoseBuffer out = new PoseBuffer();
+        batch.addEntity(rig, baked, 0f);
+        batch.addEntity(rig, baked, 0f);
+        batch.addOverlay(BakedAnimClip.bake(overlay("nothing", List.of(), 0, 0f)), 0.4f, 1f);
+        batch.evaluate(out);
+
+        // Alone, the empty leg track samples to the identity pose.
+        assertTrue(out.animated(0));
+        assertEquals(0f, out.positionY(0), EPS);
+        assertFalse(out.animated(1));
+        assertEquals(2f, out.positionY(1), EPS);
+        assertEquals(0.5f, out.positionX(2), EPS);
+        // Under an overlay it starts from rest, as blendPart does.
+        int second = batch.firstSlot(1);
+        assertTrue(out.animated(second));
+        assertEquals(1f, out.positionY(second), EPS);
+    }
+
+    @Test
+    void batchMatchesBlendPartForManyEntities() {
+        ParsedAnimClip walk = walk();
+        ParsedAnimClip swing = overlay("arm", List.of("Arm"), 5, 90f);
+        ParsedAnimClip nod = overlay("arm", List.of(), 0, -40f);
+        BakedAnimClip bakedWalk = BakedAnimClip.bake(walk);
+        BakedAnimClip bakedSwing = BakedAnimClip.bake(swing);
+        BakedAnimClip bakedNod = BakedAnimClip.bake(nod);
+        AnimRig rig = rig();
+        float[] restPoses = rig.restPoses();
+        String[] ids = {"leg", "arm", "tail"};
+        String[] names = {"Leg", "Arm", "Tail"};
+
+        AnimBatch batch = new AnimBatch();
+        PoseBuffer out = new PoseBuffer();
+        int entities = 20;
+        for (int e = 0; e < entities; e++) {
+            float elapsed = e * 0.173f;
+            batch.addEntity(rig, bakedWalk, elapsed + 3f);
+            // Higher priority first, so the batch has to reorder them.
+            batch.addOverlay(bakedSwing, elapsed % 0.8f, 0.9f);
+            batch.addOverlay(bakedNod, (elapsed * 1.7f) % 0.8f, 1f);
+        }
+        batch.evaluate(out);
+
+        assertEquals(entities * 3, out.size());
+        for (int e = 0; e < entities; e++) {
+            float elapsed = e * 0.173f;
+            float baseTime = AnimSampler.wrapTime(elapsed + 3f, walk.duration(), walk.loop());
+            List<AnimLayering.OverlayFrame> frames = List.of(
+                    frame(swing, elapsed % 0.8f, 0.9f),
+                    frame(nod, (elapsed * 1.7f) % 0.8f, 1f));
+            for (int p = 0; p < 3; p++) {
+                ParsedAnimTrack baseTrack = p < 2 ? walk.tracks().get(p) : null;
+                AnimSampler.PartPose expected = AnimLayering.blendPart(rest(restPoses, p),
+                        baseTrack, baseTime, frames, ids[p], names[p]);
+                assertPose(expected, out, batch.firstSlot(e) + p);
+            }
+        }
+    }
+
+    private static AnimLayering.OverlayFrame frame(ParsedAnimClip clip, float elapsed, float envelope) {
+        return new AnimLayering.OverlayFrame(clip,
+                AnimSampler.wrapTime(elapsed, clip.duration(), clip.loop()),
+                envelope * AnimLayering.clipWeight(clip, elapsed));
+    }
+
+    @Test
+    void untouchedPartsHoldTheRestPoseAndAreNotAnimated() {
+        AnimRig rig = rig();
+        AnimBatch batch = new AnimBatch();
+        PoseBuffer out = new PoseBuffer();
+
+        batch.addEntity(rig, null, 0f);
+        batch.addEntity(rig, BakedAnimClip.bake(walk()), 0.25f);
+        batch.evaluate(out);
+
+        for (int p = 0; p < 3; p++) {
+            assertFalse(out.animated(p));
+            assertEquals(p + 1f, out.positionY(p), EPS);
+        }
+        assertTrue(out.animated(batch.firstSlot(1)));
+        assertTrue(out.animated(batch.firstSlot(1) + 1));
+        assertFalse(out.animated(batch.firstSlot(1) + 2));
+        assertEquals(45f, out.rotationY(batch.firstSlot(1) + 2), EPS);
+    }
+
+    @Test
+    void clearedBatchIsReusedAndOverlaysNeedAnEntity() {
+        AnimBatch batch = new AnimBatch();
+        PoseBuffer out = new PoseBuffer();
+        BakedAnimClip walk = BakedAnimClip.bake(walk());
+        assertThrows(IllegalStateException.class, () -> batch.addOverlay(walk, 0f, 1f));
+
+        batch.addEntity(rig(), walk, 0f);
+        batch.evaluate(out);
+        batch.clear();
+        assertEquals(0, batch.entityCount());
+        batch.evaluate(out);
+        assertEquals(0, out.size());
+    }
+}
@@ -0,0 +1,128 @@
+package com.openmason.engine.format.sbo;
+
+import com.openmason.engine.format.mesh.ParsedFaceMapping;
+import com.openmason.engine.format.mesh.ParsedMaterialData;
+import com.openmason.engine.format.mesh.ParsedMeshData;
+import com.openmason.engine.format.omo.OMOFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Coverage for the baked SBO cache: a bake written by one boot is read back
+ * field for field by the next, and a changed source hash, a corrupt file or an
+ * unbakeable result all fall back to parsing instead of failing.
+ */
+class SBOBakedCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private static SBOParseResult block() {
+        SBOFormat.GameProperties gp = new SBOFormat.GameProperties(
+                7, 1.5f, true, true, 3, 4, "CUTOUT", true, false, true, 64, "BLOCKS", true);
+        SBOFormat.RecipeData recipes = new SBOFormat.RecipeData(List.of(
+                new SBOFormat.ShapedRecipe(2, 1, List.of("test:a", "test:b"), 4)));
+        SBOFormat.Document manifest = new SBOFormat.Document(
+                "1.7", "test:block", "Block", "block", "test", "abc123", "junit", "desc",
+                "2026-01-01", "model.omo", null, gp, List.of(), null,
+                recipes, null, new SBOFormat.FuelData(200), null);
+        OMOFormat.Document omo = new OMOFormat.Document("1.0", "Block", "BLOCK",
+                new OMOFormat.GeometryData(16, 16, 16, new OMOFormat.Position(0.5, 0, -0.5)), "texture.omt");
+        ParsedMeshData mesh = new ParsedMeshData(
+                new float[]{0, 0, 0, 1, 0, 0, 1, 1, 0},
+                new float[]{0, 0, 1, 0, 1, 1},
+                new int[]{0, 1, 2},
+                new int[]{0},
+                "FACE_MAPPED");
+        List<ParsedFaceMapping> faces = List.of(new ParsedFaceMapping(0, 1, 0f, 0f, 0.5f, 0.5f, 90, false));
+        List<ParsedMaterialData> materials = List.of(
+                new ParsedMaterialData(1, "stone", "material_1.png", new byte[]{1, 2, 3}, "OPAQUE", true, 0xFF00FF));
+        return new SBOParseResult(manifest, omo, mesh, faces, materials, new byte[]{9, 8, 7}, null,
+                Map.of(), Map.of(), Map.of(), Map.of(), Map.of("sounds/break_0.wav", new byte[]{5}));
+    }
+
+    @Test
+    void bakedEntryRoundTripsOnNextOpen() {
+        Path file = dir.resolve("blocks.sbobake");
+        byte[] hash = SBOBakedCache.hash(new byte[]{42});
+
+        SBOBakedCache first = SBOBakedCache.open(file);
+        assertNull(first.get("SB_Block.sbo", hash));
+        first.put("SB_Block.sbo", hash, block());
+        first.save();
+        assertTrue(Files.isRegularFile(file));
+
+        SBOBakedCache second = SBOBakedCache.open(file);
+        SBOParseResult baked = second.get("SB_Block.sbo", hash);
+        assertNotNull(baked);
+        assertEquals(1, second.hits());
+
+        SBOParseResult expected = block();
+        assertEquals(expected.manifest(), baked.manifest());
+        assertEquals(expected.omoDocument(), baked.omoDocument());
+        assertArrayEquals(expected.meshData().vertices(), baked.meshData().vertices());
+        assertArrayEquals(expected.meshData().texCoords(), baked.meshData().texCoords());
+        assertArrayEquals(expected.meshData().indices(), baked.meshData().indices());
+        assertArrayEquals(expected.meshData().triangleToFaceId(), baked.meshData().triangleToFaceId());
+        assertEquals(expected.faceMappings(), baked.faceMappings());
+        assertEquals(1, baked.materials().size());
+        assertArrayEquals(new byte[]{1, 2, 3}, baked.materials().get(0).texturePng());
+        assertEquals(0xFF00FF, baked.materials().get(0).tintColor());
+        assertArrayEquals(new byte[]{9, 8, 7}, baked.defaultTexturePng());
+        assertNull(baked.embeddedOmtBytes());
+        assertArrayEquals(new byte[]{5}, baked.soundBytes().get("sounds/break_0.wav"));
+    }
+
+    @Test
+    void changedSourceHashMissesAndIsDroppedOnSave() {
+        Path file = dir.resolve("blocks.sbobake");
+        SBOBakedCache first = SBOBakedCache.open(file);
+        first.put("SB_Block.sbo", SBOBakedCache.hash(new byte[]{1}), block());
+        first.save();
+
+        SBOBakedCache second = SBOBakedCache.open(file);
+        byte[] edited = SBOBakedCache.hash(new byte[]{2});
+        assertNull(second.get("SB_Block.sbo", edited), "an edited source must not reuse the old bake");
+        assertEquals(1, second.misses());
+        second.save(); // nothing used or baked this run
+
+        assertNull(SBOBakedCache.open(file).get("SB_Block.sbo", SBOBakedCache.hash(new byte[]{1})),
+                "entries not used in a run are not carried forward");
+    }
+
+    @Test
+    void corruptFileReadsAsEmpty() throws IOException {
+        Path file = dir.resolve("blocks.sbobake");
+        Files.write(file, new byte[]{0x53, 0x42, 0x4F, 0x42, 0, 0, 0, 1, 0, 0, 0, 5, 0, 0});
+
+        SBOBakedCache cache = SBOBakedCache.open(file);
+        assertNull(cache.get("SB_Block.sbo", SBOBakedCache.hash(new byte[]{1})));
+    }
+
+    @Test
+    void batchLoaderReportsUnreadableSourcesInOrder() throws IOException {
+        Path bad = dir.resolve("bad.sbo");
+        Files.write(bad, new byte[]{1, 2, 3});
+        Path missing = dir.resolve("missing.sbo");
+
+        List<SBOBatchLoader.Loaded> loaded = SBOBatchLoader.loadAll(
+                List.of(bad, missing), SBOBakedCache.open(dir.resolve("x.sbobake")), 2);
+
+        assertEquals(2, loaded.size());
+        assertEquals(bad, loaded.get(0).source());
+        assertEquals(missing, loaded.get(1).source());
+        for (SBOBatchLoader.Loaded entry : loaded) {
+            assertNull(entry.result());
+            assertNotNull(entry.error());
+            assertFalse(entry.cached());
+        }
+    }
+}
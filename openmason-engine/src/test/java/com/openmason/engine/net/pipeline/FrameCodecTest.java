@@ -0,0 +1,220 @@
+package com.openmason.engine.net.pipeline;
+
+import com.openmason.engine.net.protocol.ByteBufIO;
+import com.openmason.engine.net.protocol.PacketCodec;
+import com.openmason.engine.net.protocol.PacketDirection;
+import com.openmason.engine.net.protocol.PacketRegistry;
+import com.openmason.engine.net.protocol.PreEncodedPacket;
+import com.openmason.engine.net.protocol.ProtocolPhase;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link FrameEncoder} → {@link FrameDecoder} over embedded channels: packets written
+ * between flushes are bundled, large compressible frames are deflated, a lone packet
+ * still goes out as a plain length-prefixed frame, and a pre-encoded payload shared by
+ * many connections is compressed once, not per connection.
+ */
+class FrameCodecTest {
+
+    @Test
+    void packetsWrittenBeforeAFlushShareOneBundleFrame() {
+        FrameStats stats = new FrameStats();
+        EmbeddedChannel out = new EmbeddedChannel(new FrameEncoder(stats, -1));
+        List<byte[]> sent = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 40; i++) {
+            byte[] packet = new byte[1 + random.nextInt(60)];
+            random.nextBytes(packet);
+            sent.add(packet);
+            out.write(Unpooled.wrappedBuffer(packet));
+        }
+        assertNull(out.readOutbound(), "nothing leaves before the flush");
+        out.flush();
+
+        assertSamePackets(sent, roundTrip(out));
+        assertEquals(1, stats.flushes());
+        assertEquals(40, stats.packets());
+        assertEquals(1, stats.frames());
+        assertEquals(1, stats.bundles());
+    }
+
+    @Test
+    void largeRepetitiveFrameIsCompressed() {
+        FrameStats stats = new FrameStats();
+        EmbeddedChannel out = new EmbeddedChannel(new FrameEncoder(stats, 512));
+        byte[] chunk = new byte[40_000];
+        for (int i = 0; i < chunk.length; i++) {
+            chunk[i] = (byte) (i % 7 == 0 ? 3 : 1);
+        }
+        out.writeAndFlush(Unpooled.wrappedBuffer(chunk));
+
+        List<byte[]> got = roundTrip(out);
+        assertEquals(1, got.size());
+        assertArrayEquals(chunk, got.get(0));
+        assertEquals(1, stats.compressedFrames());
+        assertTrue(stats.wireBytes() < chunk.length / 4, "compressed frame: " + stats);
+    }
+
+    @Test
+    void incompressibleFrameIsSentAsIs() {
+        FrameStats stats = new FrameStats();
+        EmbeddedChannel out = new EmbeddedChannel(new FrameEncoder(stats, 512));
+        byte[] noise = new byte[10_000];
+        new Random(3).nextBytes(noise);
+        out.writeAndFlush(Unpooled.wrappedBuffer(noise));
+
+        List<byte[]> got = roundTrip(out);
+        assertArrayEquals(noise, got.get(0));
+        assertEquals(0, stats.compressedFrames());
+        assertEquals(noise.length + 4, stats.wireBytes());
+    }
+
+    @Test
+    void lonePacketKeepsThePlainLengthPrefix() {
+        EmbeddedChannel out = new EmbeddedChannel(new FrameEncoder(new FrameStats(), 512));
+        out.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {9, 8, 7}));
+
+        ByteBuf wire = Unpooled.buffer();
+        for (ByteBuf b; (b = out.readOutbound()) != null; ) {
+            wire.writeBytes(b);
+            b.release();
+        }
+        assertEquals(7, wire.readableBytes());
+        assertEquals(3, wire.readInt(), "flags byte is zero, length is the packet size");
+        assertEquals(9, wire.readByte());
+    }
+
+    @Test
+    void largePacketsBreakBundlesWithoutReordering() {
+        FrameStats stats = new FrameStats();
+        EmbeddedChannel out = new EmbeddedChannel(new FrameEncoder(stats, -1));
+        List<byte[]> sent = List.of(new byte[] {1}, new byte[] {2}, new byte[5000], new byte[] {3}, new byte[] {4});
+        for (byte[] packet : sent) {
+            out.write(Unpooled.wrappedBuffer(packet));
+        }
+        out.flush();
+
+        assertSamePackets(sent, roundTrip(out));
+        assertEquals(3, stats.frames());
+        assertEquals(2, stats.bundles());
+    }
+
+    @Test
+    void aSharedPayloadIsCompressedOnceForEveryChannel() {
+        byte[] body = repetitive(40_000);
+        byte[] compressed = FrameEncoder.compressFrame(SHARED_ID, body);
+        assertNotNull(compressed);
+        SharedPacket packet = new SharedPacket(body, compressed);
+
+        for (int channel = 0; channel < 4; channel++) {
+            FrameStats stats = new FrameStats();
+            EmbeddedChannel out = packetChannel(stats);
+            out.write(Unpooled.wrappedBuffer(new byte[] {1, 2, 3}));
+            out.writeAndFlush(packet);
+
+            List<byte[]> got = roundTrip(out);
+            assertEquals(2, got.size(), "the shared frame is never bundled");
+            assertArrayEquals(framed(SHARED_ID, body), got.get(1));
+            assertEquals(0, stats.deflates(), "channel " + channel + " deflated the shared payload");
+            assertEquals(1, stats.compressedFrames());
+            assertEquals(3 + body.length + 1, stats.payloadBytes(), "counted as the packet it inflates to");
+        }
+    }
+
+    @Test
+    void aSharedBodyWithoutACompressedFrameGoesOutAsItIs() {
+        byte[] body = repetitive(40_000);
+        FrameStats stats = new FrameStats();
+        EmbeddedChannel out = packetChannel(stats);
+        out.writeAndFlush(new SharedPacket(body, null));
+
+        List<byte[]> got = roundTrip(out);
+        assertArrayEquals(framed(SHARED_ID, body), got.get(0));
+        assertEquals(0, stats.deflates());
+        assertEquals(0, stats.compressedFrames());
+    }
+
+    private static final int SHARED_ID = 9;
+
+    /** A pre-encoded packet as a payload cache would hold it. */
+    private record SharedPacket(byte[] body, byte[] compressedFrame) implements PreEncodedPacket {
+        @Override
+        public byte[] encodedBody() {
+            return body;
+        }
+    }
+
+    /** {@link PacketEncoder} in front of a compressing {@link FrameEncoder}, in PLAY. */
+    private static EmbeddedChannel packetChannel(FrameStats stats) {
+        PacketRegistry registry = new PacketRegistry().register(ProtocolPhase.PLAY, PacketDirection.CLIENTBOUND,
+            SHARED_ID, SharedPacket.class, new PacketCodec<>() {
+                @Override
+                public void encode(ByteBuf out, SharedPacket packet) {
+                    out.writeBytes(packet.body());
+                }
+
+                @Override
+                public SharedPacket decode(ByteBuf in) {
+                    throw new UnsupportedOperationException();
+                }
+            });
+        EmbeddedChannel out = new EmbeddedChannel(
+            new FrameEncoder(stats, 512), new PacketEncoder(registry, PacketDirection.CLIENTBOUND));
+        out.attr(PipelineAttributes.PHASE).set(ProtocolPhase.PLAY);
+        return out;
+    }
+
+    private static byte[] repetitive(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (i % 7 == 0 ? 3 : 1);
+        }
+        return bytes;
+    }
+
+    /** What the decoder hands on for one packet: varint id, then body. */
+    private static byte[] framed(int id, byte[] body) {
+        ByteBuf buf = Unpooled.buffer();
+        ByteBufIO.writeVarInt(buf, id);
+        buf.writeBytes(body);
+        byte[] bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        return bytes;
+    }
+
+    private static void assertSamePackets(List<byte[]> expected, List<byte[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i), "packet " + i);
+        }
+    }
+
+    /** Feeds everything the encoder produced through a decoder, as one byte stream. */
+    private static List<byte[]> roundTrip(EmbeddedChannel out) {
+        EmbeddedChannel in = new EmbeddedChannel(new FrameDecoder());
+        for (ByteBuf b; (b = out.readOutbound()) != null; ) {
+            in.writeInbound(b);
+        }
+        List<byte[]> packets = new ArrayList<>();
+        for (ByteBuf b; (b = in.readInbound()) != null; ) {
+            byte[] bytes = new byte[b.readableBytes()];
+            b.readBytes(bytes);
+            b.release();
+            packets.add(bytes);
+        }
+        return packets;
+    }
+}
@@ -92,6 +92,34 @@ class VoxelChunkCodecTest {
         assertRoundTrip(chunk);
     }
 
+    @Test
+    void sectionSubsetLeavesOtherSectionsUntouched() {
+        FakeChunk chunk = new FakeChunk();
+        Random r = new Random(1234L);
+        for (int x = 0; x < W; x++)
+            for (int y = 0; y < H; y++)
+                for (int z = 0; z < W; z++)
+                    chunk.ids[x][y][z] = 1 + r.nextInt(5);
+        int mask = (1 << 0) | (1 << 5) | (1 << 15);
+        byte[] payload = VoxelChunkCodec.encodeSections(chunk, mask);
+        assertTrue(payload.length < VoxelChunkCodec.encode(chunk).length);
+
+        int[] untouched = new int[W];
+        java.util.Arrays.fill(untouched, -1);
+        int[][][] out = new int[W][H][W];
+        for (int x = 0; x < W; x++)
+            for (int y = 0; y < H; y++)
+                out[x][y] = untouched.clone();
+        BlockSetter sink = (x, y, z, type) -> out[x][y][z] = type.getId();
+        VoxelChunkCodec.decodeSectionsInto(payload, mask, sink, RESOLVER);
+        for (int x = 0; x < W; x++)
+            for (int y = 0; y < H; y++) {
+                boolean masked = (mask & (1 << (y / SECTION_H))) != 0;
+                assertArrayEquals(masked ? chunk.ids[x][y] : untouched, out[x][y],
+                    "mismatch at column x=" + x + " y=" + y);
+            }
+    }
+
     // ─── Helper ──────────────────────────────────────────────────────────────
 
     private static void assertRoundTrip(FakeChunk chunk) {
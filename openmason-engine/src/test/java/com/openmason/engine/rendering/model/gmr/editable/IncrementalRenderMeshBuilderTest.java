@@ -0,0 +1,210 @@
+package com.openmason.engine.rendering.model.gmr.editable;
+
+import com.openmason.engine.rendering.model.gmr.editable.ops.DeleteFaceOp;
+import com.openmason.engine.rendering.model.gmr.editable.ops.ExtrudeFacesOp;
+import com.openmason.engine.rendering.model.gmr.editable.ops.InsetFacesOp;
+import com.openmason.engine.rendering.model.gmr.editable.ops.MergeVerticesOp;
+import com.openmason.engine.rendering.model.gmr.editable.ops.SplitFaceOp;
+import com.openmason.engine.rendering.model.gmr.editable.ops.SubdivideEdgeOp;
+import com.openmason.engine.rendering.model.gmr.topology.MeshTopology;
+import com.openmason.engine.rendering.model.gmr.topology.MeshTopologyBuilder;
+import com.openmason.engine.rendering.model.gmr.uv.FaceTextureManager;
+import com.openmason.engine.rendering.model.gmr.uv.FaceTextureMapping;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The incremental path must produce exactly what {@link RenderMeshBuilder}
+ * does, and its reported ranges must cover everything that changed: outside
+ * them, every corner and index still holds its previous value.
+ */
+class IncrementalRenderMeshBuilderTest {
+
+    private static final float EPS = 1e-5f;
+
+    /** Run one update, checking it against a full build and its ranges against the previous mesh. */
+    private static IncrementalRenderMeshBuilder.Update step(IncrementalRenderMeshBuilder builder,
+                                                            EditableMesh mesh, FaceTextureManager ftm,
+                                                            boolean checkMappings) {
+        RenderMesh before = builder.current();
+        float[] oldVertices = before != null ? before.vertices().clone() : null;
+        float[] oldTexCoords = before != null ? before.texCoords().clone() : null;
+        int[] oldIndices = before != null ? before.indices().clone() : null;
+
+        IncrementalRenderMeshBuilder.Update update = builder.update(mesh, ftm, checkMappings);
+        mesh.dirtyRegion().clear();
+
+        RenderMesh expected = RenderMeshBuilder.build(mesh, ftm);
+        RenderMesh actual = update.mesh();
+        assertArrayEquals(expected.vertices(), actual.vertices());
+        assertArrayEquals(expected.texCoords(), actual.texCoords());
+        assertArrayEquals(expected.indices(), actual.indices());
+        assertArrayEquals(expected.triangleToFaceId(), actual.triangleToFaceId());
+        assertArrayEquals(expected.cornerToVertexId(), actual.cornerToVertexId());
+        assertArrayEquals(expected.vertexIdToCorners(), actual.vertexIdToCorners());
+        MeshInvariants.assertRenderMeshConsistent(mesh, actual);
+
+        if (oldVertices != null) {
+            for (int c = 0; c < actual.cornerCount(); c++) {
+                if (c >= update.cornerFrom() && c < update.cornerTo()) {
+                    continue;
+                }
+                assertTrue(c * 3 < oldVertices.length, "new corner " + c + " outside the range");
+                assertEquals(oldVertices[c * 3], actual.vertices()[c * 3], "corner " + c);
+                assertEquals(oldVertices[c * 3 + 1], actual.vertices()[c * 3 + 1], "corner " + c);
+                assertEquals(oldTexCoords[c * 2], actual.texCoords()[c * 2], "corner " + c);
+                assertEquals(oldTexCoords[c * 2 + 1], actual.texCoords()[c * 2 + 1], "corner " + c);
+            }
+            for (int i = 0; i < actual.indices().length; i++) {
+                if (i >= update.triangleFrom() * 3 && i < update.triangleTo() * 3) {
+                    continue;
+                }
+                assertTrue(i < oldIndices.length, "new index " + i + " outside the range");
+                assertEquals(oldIndices[i], actual.indices()[i], "index " + i);
+            }
+        }
+        return update;
+    }
+
+    @Test
+    void movedVertexPatchesOnlyItsFacesInPlace() {
+        EditableMesh mesh = TestMeshes.grid(8);
+        FaceTextureManager ftm = new FaceTextureManager();
+        IncrementalRenderMeshBuilder builder = new IncrementalRenderMeshBuilder();
+        RenderMesh first = step(builder, mesh, ftm, true).mesh();
+
+        // Interior vertex (4,4): the four quads around it.
+        mesh.setPosition(4 * 9 + 4, new Vector3f(4.2f, 3.9f, 0.5f));
+        IncrementalRenderMeshBuilder.Update update = step(builder, mesh, ftm, false);
+
+        assertFalse(update.full());
+        assertFalse(update.layoutChanged());
+        assertSame(first.vertices(), update.mesh().vertices(), "patched in place");
+        assertEquals((3 * 8 + 3) * 4, update.cornerFrom(), "face (3,3) is the first touched");
+        assertEquals((4 * 8 + 5) * 4, update.cornerTo(), "face (4,4) is the last touched");
+    }
+
+    @Test
+    void untouchedMeshReportsNothingToUpload() {
+        EditableMesh mesh = TestMeshes.grid(4);
+        FaceTextureManager ftm = new FaceTextureManager();
+        IncrementalRenderMeshBuilder builder = new IncrementalRenderMeshBuilder();
+        assertTrue(step(builder, mesh, ftm, true).full());
+
+        assertTrue(step(builder, mesh, ftm, true).isEmpty());
+    }
+
+    @Test
+    void mappingChangeReprojectsOnlyThatFace() {
+        EditableMesh mesh = TestMeshes.grid(4);
+        FaceTextureManager ftm = new FaceTextureManager();
+        IncrementalRenderMeshBuilder builder = new IncrementalRenderMeshBuilder();
+        step(builder, mesh, ftm, true);
+
+        ftm.setFaceMapping(new FaceTextureMapping(6, 0,
+            new FaceTextureMapping.UVRegion(0.5f, 0.5f, 1.0f, 1.0f),
+            FaceTextureMapping.UVRotation.CW_90));
+        IncrementalRenderMeshBuilder.Update update = step(builder, mesh, ftm, true);
+
+        assertFalse(update.layoutChanged());
+        assertEquals(24, update.cornerFrom());
+        assertEquals(28, update.cornerTo());
+    }
+
+    @Test
+    void layoutChangeDerivesInFullThenPatchesAgain() {
+        EditableMesh mesh = TestMeshes.grid(6);
+        FaceTextureManager ftm = new FaceTextureManager();
+        IncrementalRenderMeshBuilder builder = new IncrementalRenderMeshBuilder();
+        step(builder, mesh, ftm, true);
+
+        ExtrudeFacesOp.apply(mesh, new int[]{35}, 0.5f);
+        IncrementalRenderMeshBuilder.Update update = step(builder, mesh, ftm, true);
+
+        assertTrue(update.full());
+        assertTrue(update.layoutChanged());
+        assertEquals(0, update.cornerFrom());
+        assertEquals(update.mesh().cornerCount(), update.cornerTo());
+        assertEquals(update.mesh().triangleCount(), update.triangleTo());
+
+        // The block starts recorded by the full derive drive the next patch.
+        mesh.setPosition(4 * 7 + 4, new Vector3f(4.2f, 3.9f, 0.5f));
+        IncrementalRenderMeshBuilder.Update moved = step(builder, mesh, ftm, false);
+        assertFalse(moved.full());
+        assertSame(update.mesh().vertices(), moved.mesh().vertices(), "patched in place");
+        assertEquals((3 * 6 + 3) * 4, moved.cornerFrom(), "face (3,3) is the first touched");
+        assertEquals((4 * 6 + 5) * 4, moved.cornerTo(), "face (4,4) is the last touched");
+    }
+
+    @Test
+    void opSequenceMatchesFullBuildAfterEveryStep() {
+        EditableMesh mesh = TestMeshes.grid(6);
+        FaceTextureManager ftm = new FaceTextureManager();
+        IncrementalRenderMeshBuilder builder = new IncrementalRenderMeshBuilder();
+        step(builder, mesh, ftm, true);
+
+        ExtrudeFacesOp.apply(mesh, new int[]{7, 20}, 0.75f);
+        step(builder, mesh, ftm, true);
+        InsetFacesOp.apply(mesh, new int[]{14}, 0.2f);
+        step(builder, mesh, ftm, true);
+        SubdivideEdgeOp.apply(mesh, 0, 1, 0.5f);
+        step(builder, mesh, ftm, true);
+        SplitFaceOp.apply(mesh, 10, 18);
+        step(builder, mesh, ftm, true);
+        DeleteFaceOp.apply(mesh, 3);
+        step(builder, mesh, ftm, true);
+        MergeVerticesOp.apply(mesh, 30, new int[]{31});
+        step(builder, mesh, ftm, true);
+        mesh.setPosition(24, new Vector3f(3.5f, 3.25f, -1f));
+        mesh.setPosition(40, new Vector3f(4f, 5.5f, 2f));
+        step(builder, mesh, ftm, false);
+        DeleteFaceOp.apply(mesh, mesh.faceIdUpperBound() - 1);
+        step(builder, mesh, ftm, true);
+    }
+
+    @Test
+    void newMeshInstanceIsDerivedInFull() {
+        FaceTextureManager ftm = new FaceTextureManager();
+        IncrementalRenderMeshBuilder builder = new IncrementalRenderMeshBuilder();
+        EditableMesh mesh = TestMeshes.cube();
+        step(builder, mesh, ftm, true);
+
+        EditableMesh copy = mesh.deepCopy();
+        assertTrue(copy.dirtyRegion().isEmpty());
+        assertTrue(builder.update(copy, ftm, true).full());
+    }
+
+    @Test
+    void movedVertexTopologyMatchesRebuild() {
+        EditableMesh mesh = TestMeshes.grid(4);
+        IncrementalRenderMeshBuilder builder = new IncrementalRenderMeshBuilder();
+        RenderMesh rm = builder.update(mesh, null, false).mesh();
+        mesh.dirtyRegion().clear();
+        MeshTopology topology = MeshTopologyBuilder.build(mesh, rm);
+        topology.getFaceNormal(5);
+        topology.getVertexNormal(7);
+
+        mesh.setPosition(7, new Vector3f(2f, 1f, 1.5f));
+        builder.update(mesh, null, false);
+        topology.invalidateMovedVertices(mesh.dirtyRegion().vertices());
+        MeshTopology rebuilt = MeshTopologyBuilder.build(mesh, RenderMeshBuilder.build(mesh, null));
+
+        for (int f = 0; f < mesh.faceIdUpperBound(); f++) {
+            assertTrue(rebuilt.getFaceNormal(f).equals(topology.getFaceNormal(f), EPS), "face " + f);
+            assertEquals(rebuilt.getFaceArea(f), topology.getFaceArea(f), EPS, "face " + f);
+        }
+        for (int v = 0; v < mesh.vertexCount(); v++) {
+            assertTrue(rebuilt.getVertexNormal(v).equals(topology.getVertexNormal(v), EPS), "vertex " + v);
+        }
+        for (int e = 0; e < rebuilt.getEdgeCount(); e++) {
+            assertEquals(rebuilt.getDihedralAngle(e), topology.getDihedralAngle(e), EPS, "edge " + e);
+        }
+        assertEquals(rebuilt.countSharpEdges(), topology.countSharpEdges());
+    }
+}
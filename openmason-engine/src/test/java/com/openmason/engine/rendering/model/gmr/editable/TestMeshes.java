@@ -80,6 +80,26 @@ public final class TestMeshes {
         return mesh;
     }
 
+    /**
+     * A flat {@code n x n} grid of unit quads in the XY plane, CCW around +Z:
+     * {@code (n+1)^2} shared vertices, face ids row by row.
+     */
+    public static EditableMesh grid(int n) {
+        EditableMesh mesh = new EditableMesh();
+        for (int y = 0; y <= n; y++) {
+            for (int x = 0; x <= n; x++) {
+                mesh.addVertex(new Vector3f(x, y, 0));
+            }
+        }
+        for (int y = 0; y < n; y++) {
+            for (int x = 0; x < n; x++) {
+                int v = y * (n + 1) + x;
+                mesh.addFace(new int[]{v, v + 1, v + n + 2, v + n + 1});
+            }
+        }
+        return mesh;
+    }
+
     /** L-shape boundary positions matching {@link #lShapedFace()} (CCW, +Z normal). */
     public static Vector3f[] lShapeLoop() {
         return new Vector3f[]{
@@ -0,0 +1,66 @@
+package com.openmason.engine.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Contract tests for {@link LongArrayList}: growth past the initial capacity, bulk append,
+ * and head removal as used by per-tick work queues.
+ */
+class LongArrayListTest {
+
+    @Test
+    void growsPastInitialCapacity() {
+        LongArrayList list = new LongArrayList(2);
+        for (long i = 0; i < 100; i++) {
+            list.add(i * 31L);
+        }
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i * 31L, list.get(i));
+        }
+    }
+
+    @Test
+    void addAllAppendsInOrder() {
+        LongArrayList a = new LongArrayList(1);
+        LongArrayList b = new LongArrayList();
+        a.add(1L);
+        b.add(2L);
+        b.add(Long.MIN_VALUE);
+        a.addAll(b);
+        assertEquals(3, a.size());
+        assertEquals(1L, a.get(0));
+        assertEquals(2L, a.get(1));
+        assertEquals(Long.MIN_VALUE, a.get(2));
+        assertEquals(2, b.size(), "source list must be left intact");
+    }
+
+    @Test
+    void removeFirstShiftsTheRemainder() {
+        LongArrayList list = new LongArrayList();
+        for (long i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.removeFirst(4);
+        assertEquals(6, list.size());
+        assertEquals(4L, list.get(0));
+        assertEquals(9L, list.get(5));
+
+        list.removeFirst(0);
+        assertEquals(6, list.size());
+        list.removeFirst(100);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void getPastSizeThrowsEvenWithinCapacity() {
+        LongArrayList list = new LongArrayList(8);
+        list.add(5L);
+        list.clear();
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+}
@@ -0,0 +1,105 @@
+package com.openmason.engine.voxel.cco.data.palette;
+
+import com.openmason.engine.voxel.IBlockType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+/**
+ * Collision masks: built lazily from any tier, then kept equal to a fresh
+ * per-cell classification by every write, and never shared between copies.
+ */
+class CcoPaletteSectionCollisionMaskTest {
+
+    private static final int CELLS = 256;
+    private static final int VOLUME = CELLS * CcoSectionIndexing.SECTION_HEIGHT;
+    private static final int WORDS = VOLUME / 64;
+
+    @Test
+    void uniformSectionsMaskWholeOrNothing() {
+        assertMasksMatch(new CcoPaletteSection(CELLS, TestBlocks.air()));
+        assertMasksMatch(new CcoPaletteSection(CELLS, TestBlocks.block(5)));
+        assertMasksMatch(new CcoPaletteSection(CELLS, TestBlocks.shaped()));
+    }
+
+    @Test
+    void writesKeepMasksCurrentAcrossTiers() {
+        CcoPaletteSection s = new CcoPaletteSection(CELLS, TestBlocks.air());
+        s.collisionMasks();
+        Random random = new Random(7);
+        // Up to 300 distinct blocks: nibble → byte → wide tier on the way.
+        for (int i = 0; i < 20_000; i++) {
+            s.set(random.nextInt(VOLUME), pick(random));
+            if (i % 2_500 == 0) {
+                assertMasksMatch(s);
+            }
+        }
+        assertMasksMatch(s);
+    }
+
+    @Test
+    void packedSectionsRebuildTheirMasks() {
+        CcoPaletteSection s = new CcoPaletteSection(CELLS, TestBlocks.air());
+        Random random = new Random(3);
+        for (int i = 0; i < VOLUME; i += 3) {
+            s.set(i, random.nextBoolean() ? TestBlocks.block(1) : TestBlocks.shaped());
+        }
+        s.collisionMasks();
+        s.pack();
+
+        assertMasksMatch(s);
+    }
+
+    @Test
+    void copiesDoNotShareMasks() {
+        CcoPaletteSection original = new CcoPaletteSection(CELLS, TestBlocks.air());
+        long[] before = original.collisionMasks();
+        CcoPaletteSection copy = original.copy();
+
+        copy.set(10, TestBlocks.block(2));
+        original.set(20, TestBlocks.shaped());
+
+        assertMasksMatch(original);
+        assertMasksMatch(copy);
+        assertNotSame(original.collisionMasks(), copy.collisionMasks());
+        assertEquals(0L, before[0], "the shared empty masks were never written");
+    }
+
+    @Test
+    void copyFromReplacesMasks() {
+        CcoPaletteSection source = new CcoPaletteSection(CELLS, TestBlocks.block(4));
+        CcoPaletteSection target = new CcoPaletteSection(CELLS, TestBlocks.air());
+        target.collisionMasks();
+
+        target.copyFrom(source);
+
+        assertMasksMatch(target);
+    }
+
+    private static IBlockType pick(Random random) {
+        int roll = random.nextInt(10);
+        if (roll < 4) {
+            return TestBlocks.air();
+        }
+        if (roll == 4) {
+            return TestBlocks.shaped();
+        }
+        return TestBlocks.block(1 + random.nextInt(299));
+    }
+
+    private static void assertMasksMatch(CcoPaletteSection s) {
+        long[] masks = s.collisionMasks();
+        assertEquals(2 * WORDS, masks.length);
+        for (int cell = 0; cell < VOLUME; cell++) {
+            IBlockType block = s.get(cell);
+            boolean shaped = block != null && block.hasShapedCollision();
+            boolean full = block != null && !shaped && block.isSolid();
+            long bit = 1L << cell;
+            assertEquals(full, (masks[cell >>> 6] & bit) != 0, "full bit of cell " + cell);
+            assertEquals(shaped, (masks[WORDS + (cell >>> 6)] & bit) != 0, "shaped bit of cell " + cell);
+        }
+    }
+}
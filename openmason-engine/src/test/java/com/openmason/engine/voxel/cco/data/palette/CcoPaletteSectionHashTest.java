@@ -0,0 +1,87 @@
+package com.openmason.engine.voxel.cco.data.palette;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * {@link CcoPaletteSection#contentHash()}: the incrementally maintained value must
+ * always equal a from-scratch hash of the same contents — through tier promotions,
+ * copy-on-write copies, and regardless of which tier holds the blocks.
+ */
+@Tag("regression")
+class CcoPaletteSectionHashTest {
+
+    private static final int CELLS_PER_LAYER = 16 * 16;
+    private static final int VOLUME = CELLS_PER_LAYER * CcoSectionIndexing.SECTION_HEIGHT;
+
+    @Test
+    void incrementalHashMatchesRecomputeAcrossTiers() {
+        CcoPaletteSection section = new CcoPaletteSection(CELLS_PER_LAYER, TestBlocks.air());
+        section.contentHash(); // start tracking while still uniform
+        Random random = new Random(4242L);
+        // Palette sizes walk uniform → nibble → byte → wide.
+        for (int palette : new int[] {2, 16, 200, 400}) {
+            for (int n = 0; n < 2000; n++) {
+                section.set(random.nextInt(VOLUME), TestBlocks.block(random.nextInt(palette)));
+            }
+            assertEquals(recompute(section), section.contentHash(), "palette " + palette);
+        }
+    }
+
+    @Test
+    void equalContentsHashEquallyInDifferentTiers() {
+        CcoPaletteSection uniform = new CcoPaletteSection(CELLS_PER_LAYER, TestBlocks.block(3));
+        CcoPaletteSection inflated = new CcoPaletteSection(CELLS_PER_LAYER, TestBlocks.air());
+        // Inflate through a 300-entry palette (wide tier), then flood every cell with block 3.
+        for (int i = 1; i <= 300; i++) {
+            inflated.set(i, TestBlocks.block(i));
+        }
+        for (int i = 0; i < VOLUME; i++) {
+            inflated.set(i, TestBlocks.block(3));
+        }
+        assertEquals(uniform.contentHash(), inflated.contentHash());
+    }
+
+    @Test
+    void hashIsPositionSensitive() {
+        CcoPaletteSection a = new CcoPaletteSection(CELLS_PER_LAYER, TestBlocks.air());
+        CcoPaletteSection b = new CcoPaletteSection(CELLS_PER_LAYER, TestBlocks.air());
+        a.set(0, TestBlocks.block(1));
+        a.set(1, TestBlocks.block(2));
+        b.set(0, TestBlocks.block(2));
+        b.set(1, TestBlocks.block(1));
+        assertNotEquals(a.contentHash(), b.contentHash());
+    }
+
+    @Test
+    void hashSurvivesCopiesAndDivergesWithThem() {
+        CcoPaletteSection source = new CcoPaletteSection(CELLS_PER_LAYER, TestBlocks.air());
+        source.set(7, TestBlocks.block(5));
+        int before = source.contentHash();
+
+        CcoPaletteSection copy = source.copy();
+        CcoPaletteSection target = new CcoPaletteSection(CELLS_PER_LAYER, TestBlocks.block(9));
+        target.contentHash();
+        target.copyFrom(source);
+        assertEquals(before, copy.contentHash());
+        assertEquals(before, target.contentHash());
+
+        copy.set(8, TestBlocks.block(6));
+        assertEquals(before, source.contentHash(), "copy write changed the source hash");
+        assertEquals(recompute(copy), copy.contentHash());
+        assertEquals(recompute(target), target.contentHash());
+    }
+
+    private static int recompute(CcoPaletteSection section) {
+        int hash = 0;
+        for (int i = 0; i < VOLUME; i++) {
+            hash += CcoPaletteSection.cellHash(i, section.get(i).getId());
+        }
+        return hash;
+    }
+}
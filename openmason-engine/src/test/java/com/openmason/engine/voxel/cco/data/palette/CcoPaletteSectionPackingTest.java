@@ -0,0 +1,117 @@
+package com.openmason.engine.voxel.cco.data.palette;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The packed (cold) tier: every indexed tier compresses and comes back
+ * cell-for-cell identical on first touch, whichever accessor touches it,
+ * and copies of a packed section stay independent.
+ */
+class CcoPaletteSectionPackingTest {
+
+    private static final int CELLS = 256;
+    private static final int VOLUME = CELLS * CcoSectionIndexing.SECTION_HEIGHT;
+
+    @Test
+    void nibbleTierPacksAndReadsBack() {
+        assertRoundTrip(layered(4), true);
+    }
+
+    @Test
+    void byteTierPacksAndReadsBack() {
+        assertRoundTrip(layered(40), false);
+    }
+
+    @Test
+    void wideTierPacksAndReadsBack() {
+        assertRoundTrip(layered(300), false);
+    }
+
+    @Test
+    void uniformSectionsAreLeftAlone() {
+        CcoPaletteSection s = new CcoPaletteSection(CELLS, TestBlocks.block(3));
+
+        assertEquals(0, s.pack());
+        assertFalse(s.isPacked());
+        assertTrue(s.isUniform());
+    }
+
+    @Test
+    void aWriteInflatesThenApplies() {
+        CcoPaletteSection s = layered(4);
+        assertTrue(s.pack() > 0);
+
+        assertTrue(s.set(17, TestBlocks.block(9)));
+
+        assertFalse(s.isPacked());
+        assertSame(TestBlocks.block(9), s.get(17));
+        assertSame(expected(4, 18), s.get(18));
+    }
+
+    @Test
+    void copiesOfAPackedSectionInflateIndependently() {
+        CcoPaletteSection original = layered(4);
+        original.pack();
+        CcoPaletteSection copy = original.copy();
+
+        copy.set(0, TestBlocks.block(7));
+
+        assertSame(TestBlocks.block(7), copy.get(0));
+        assertSame(expected(4, 0), original.get(0));
+    }
+
+    @Test
+    void promotionsAreCounted() {
+        CcoPaletteSection s = layered(4);
+        s.pack();
+        long before = CcoSectionPacking.promotions();
+
+        s.get(100);
+        s.get(200);
+
+        assertEquals(before + 1, CcoSectionPacking.promotions(), "one inflate, then warm reads");
+    }
+
+    private static void assertRoundTrip(CcoPaletteSection s, boolean nibble) {
+        short[] before = new short[VOLUME];
+        s.writeBlockIdsInto(before, 0);
+        int hash = s.contentHash();
+        int nonAir = s.nonAirCount();
+
+        int saved = s.pack();
+
+        assertTrue(saved > 0, "layered ids compress");
+        assertTrue(s.isPacked());
+        assertFalse(s.isUniform());
+        assertTrue(s.packedBytes() > 0);
+        assertEquals(nonAir, s.nonAirCount(), "counts survive without inflating");
+        for (int i = 0; i < VOLUME; i++) {
+            assertSame(TestBlocks.block(before[i]), s.get(i), "cell " + i);
+        }
+        assertFalse(s.isPacked(), "the first read inflated it");
+        assertEquals(nibble, s.isNibbleTier(), "back on the tier it was packed from");
+        short[] after = new short[VOLUME];
+        s.writeBlockIdsInto(after, 0);
+        assertArrayEquals(before, after);
+        assertEquals(hash, s.contentHash());
+    }
+
+    /** A section whose ids run in horizontal bands of {@code types} distinct blocks. */
+    private static CcoPaletteSection layered(int types) {
+        CcoPaletteSection s = new CcoPaletteSection(CELLS, TestBlocks.air());
+        for (int i = 0; i < VOLUME; i++) {
+            s.set(i, expected(types, i));
+        }
+        return s;
+    }
+
+    private static com.openmason.engine.voxel.IBlockType expected(int types, int cell) {
+        return TestBlocks.block((cell / 8) % types);
+    }
+}
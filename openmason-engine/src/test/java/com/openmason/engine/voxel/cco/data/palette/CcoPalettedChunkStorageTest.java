@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -16,7 +17,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 /**
  * Behavioral equivalence of {@link CcoPalettedChunkStorage} against a simple
  * map-based reference model under randomized reads/writes, plus bounds,
- * copy independence, and highest-non-air queries.
+ * copy independence, highest-non-air queries, and bulk box copies.
  */
 class CcoPalettedChunkStorageTest {
 
@@ -120,6 +121,42 @@ class CcoPalettedChunkStorageTest {
         assertEquals(1, target.countNonAirBlocks());
     }
 
+    @Test
+    void boxCopyMatchesCellReadsAcrossSectionsAndTiers() {
+        CcoPalettedChunkStorage storage = newStorage();
+        Random random = new Random(42);
+        // Section 1 on the nibble tier, 2 on the byte tier, 3 on the wide tier,
+        // 4 packed, the rest uniform air.
+        int[] types = {0, 6, 40, 300, 6};
+        for (int sy = 1; sy < types.length; sy++) {
+            for (int y = sy * 16; y < sy * 16 + 16; y++) {
+                for (int z = 0; z < SZ; z++) {
+                    for (int x = 0; x < SX; x++) {
+                        storage.set(x, y, z, TestBlocks.block(1 + random.nextInt(types[sy])));
+                    }
+                }
+            }
+        }
+        storage.getSection(4).pack();
+
+        int x0 = 3, y0 = 9, z0 = 5, bx = 7, by = 70, bz = 9;
+        int strideZ = bx;
+        int strideY = bx * bz;
+        short[] bulk = new short[2 + bx * by * bz];
+        storage.copyBlockIds(x0, y0, z0, bx, by, bz, bulk, 2, strideZ, strideY);
+
+        short[] expected = new short[bulk.length];
+        for (int j = 0; j < by; j++) {
+            for (int k = 0; k < bz; k++) {
+                for (int i = 0; i < bx; i++) {
+                    expected[2 + j * strideY + k * strideZ + i] =
+                            (short) storage.get(x0 + i, y0 + j, z0 + k).getId();
+                }
+            }
+        }
+        assertArrayEquals(expected, bulk);
+    }
+
     @Test
     void copyFromRejectsMismatchedDimensions() {
         CcoPalettedChunkStorage storage = newStorage();
@@ -30,6 +30,25 @@ final class TestBlocks {
         return BLOCKS[0];
     }
 
+    /** A solid block with a shaped collider (like a stair); id {@value #SHAPED_ID}. */
+    static IBlockType shaped() {
+        return SHAPED;
+    }
+
+    static final int SHAPED_ID = COUNT;
+    private static final IBlockType SHAPED = new ShapedBlock();
+
+    private static final class ShapedBlock implements IBlockType {
+        public int getId() { return SHAPED_ID; }
+        public String getName() { return "shaped"; }
+        public boolean isSolid() { return true; }
+        public boolean isBreakable() { return true; }
+        public boolean isTransparent() { return true; }
+        public boolean isAir() { return false; }
+        @Override
+        public boolean hasShapedCollision() { return true; }
+    }
+
     private record TestBlock(int id) implements IBlockType {
         public int getId() { return id; }
         public String getName() { return "block" + id; }
@@ -0,0 +1,170 @@
+package com.openmason.engine.voxel.lighting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Manual benchmark: placing and breaking one light source inside a dense
+ * cave system, timed per edit, at several loaded-world sizes. The flood only
+ * visits cells whose level changes, so the per-edit cost should stay flat as
+ * the loaded area grows. Run explicitly:
+ * mvn test -pl openmason-engine -Dtest=BlockLightBenchmarkTest -Dlighting.bench=true
+ */
+class BlockLightBenchmarkTest {
+
+    private static final int CHUNK = 16;
+    private static final int HEIGHT = 128;
+    private static final int WARMUP = 2_000;
+    private static final int EDITS = 10_000;
+
+    /** Solid rock carved by random-walk tunnels; emitters tracked in one slot. */
+    private static final class CaveHost implements BlockLightEngine.Host {
+        final int radius;       // loaded chunks span [-radius, radius] on both axes
+        final int side;
+        final ChunkBlockLight[] stores;
+        final BitSet air = new BitSet();
+        int emitterX;
+        int emitterY = -1;
+        int emitterZ;
+
+        CaveHost(int radius, long seed) {
+            this.radius = radius;
+            this.side = 2 * radius + 1;
+            this.stores = new ChunkBlockLight[side * side];
+            for (int i = 0; i < stores.length; i++) {
+                stores[i] = new ChunkBlockLight(CHUNK, HEIGHT, CHUNK);
+            }
+            carve(new Random(seed));
+        }
+
+        private void carve(Random random) {
+            int span = side * CHUNK;
+            int worms = side * side * 6;
+            for (int w = 0; w < worms; w++) {
+                double x = random.nextInt(span);
+                double y = 16 + random.nextInt(HEIGHT - 32);
+                double z = random.nextInt(span);
+                double yaw = random.nextDouble() * Math.PI * 2;
+                for (int step = 0; step < 120; step++) {
+                    yaw += (random.nextDouble() - 0.5) * 0.6;
+                    x += Math.cos(yaw);
+                    z += Math.sin(yaw);
+                    y += (random.nextDouble() - 0.5) * 0.8;
+                    for (int dx = -1; dx <= 1; dx++) {
+                        for (int dy = -1; dy <= 1; dy++) {
+                            for (int dz = -1; dz <= 1; dz++) {
+                                int cx = (int) x + dx;
+                                int cy = (int) y + dy;
+                                int cz = (int) z + dz;
+                                if (cx >= 0 && cx < span && cy > 0 && cy < HEIGHT && cz >= 0 && cz < span) {
+                                    air.set(bit(cx - radius * CHUNK, cy, cz - radius * CHUNK));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        int bit(int x, int y, int z) {
+            int span = side * CHUNK;
+            return ((x + radius * CHUNK) * span + (z + radius * CHUNK)) * HEIGHT + y;
+        }
+
+        boolean inside(int x, int z) {
+            int min = -radius * CHUNK;
+            int max = (radius + 1) * CHUNK;
+            return x >= min && x < max && z >= min && z < max;
+        }
+
+        @Override
+        public ChunkBlockLight lightStore(int chunkX, int chunkZ) {
+            if (Math.abs(chunkX) > radius || Math.abs(chunkZ) > radius) {
+                return null;
+            }
+            return stores[(chunkX + radius) * side + chunkZ + radius];
+        }
+
+        @Override
+        public int emission(int worldX, int worldY, int worldZ) {
+            return worldX == emitterX && worldY == emitterY && worldZ == emitterZ ? 14 : 0;
+        }
+
+        @Override
+        public boolean blocksLight(int worldX, int worldY, int worldZ) {
+            return !inside(worldX, worldZ) || !air.get(bit(worldX, worldY, worldZ));
+        }
+
+        @Override
+        public void forEachEmitter(int chunkX, int chunkZ, BlockLightEngine.EmitterSink sink) {
+        }
+
+        @Override
+        public void onLightChanged(int chunkX, int chunkZ) {
+        }
+    }
+
+    @Test
+    void benchmark() {
+        assumeTrue(Boolean.getBoolean("lighting.bench"), "manual benchmark (-Dlighting.bench=true)");
+
+        for (int radius : new int[] {1, 4, 12}) {
+            CaveHost host = new CaveHost(radius, 42L);
+            BlockLightEngine engine = new BlockLightEngine(host, CHUNK, HEIGHT);
+            int[] spots = caveSpots(host, 64);
+
+            run(host, engine, spots, WARMUP);
+            long start = System.nanoTime();
+            run(host, engine, spots, EDITS);
+            long elapsed = System.nanoTime() - start;
+
+            int cells = host.air.cardinality();
+            System.out.printf("%2dx%-2d chunks (%,d cave cells): %.1f us per place/break edit%n",
+                host.side, host.side, cells, elapsed / 1e3 / EDITS);
+        }
+    }
+
+    /** Alternates place/break at the given spots; every break must leave the world dark. */
+    private static void run(CaveHost host, BlockLightEngine engine, int[] spots, int edits) {
+        for (int i = 0; i < edits; i++) {
+            int spot = (i / 2) % (spots.length / 3);
+            int x = spots[spot * 3];
+            int y = spots[spot * 3 + 1];
+            int z = spots[spot * 3 + 2];
+            if ((i & 1) == 0) {
+                host.emitterX = x;
+                host.emitterY = y;
+                host.emitterZ = z;
+            } else {
+                host.emitterY = -1;
+            }
+            engine.onBlockChanged(x, y, z);
+            engine.propagatePending();
+        }
+        assertEquals(0, engine.getLightLevel(spots[0], spots[1], spots[2]));
+    }
+
+    /** Air cells inside the centre chunk, so every edit's flood stays within loaded chunks. */
+    private static int[] caveSpots(CaveHost host, int count) {
+        Random random = new Random(7L);
+        int[] spots = new int[count * 3];
+        int found = 0;
+        while (found < count) {
+            int x = random.nextInt(CHUNK);
+            int y = 1 + random.nextInt(HEIGHT - 2);
+            int z = random.nextInt(CHUNK);
+            if (!host.blocksLight(x, y, z)) {
+                spots[found * 3] = x;
+                spots[found * 3 + 1] = y;
+                spots[found * 3 + 2] = z;
+                found++;
+            }
+        }
+        return spots;
+    }
+}
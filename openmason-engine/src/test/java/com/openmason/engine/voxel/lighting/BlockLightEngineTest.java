@@ -0,0 +1,225 @@
+package com.openmason.engine.voxel.lighting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Block-light flood fill: one level of falloff per block, walls stop it, and
+ * every edit is undone exactly — breaking a light must leave no residue, and
+ * a second source's field must survive the first one going out. Chunk borders
+ * are crossed like any other step; unloaded chunks stop the flood, take the
+ * light they spilled with them, and a chunk that loads later pulls its
+ * neighbours' light back in.
+ */
+class BlockLightEngineTest {
+
+    private static final int CHUNK = 16;
+    private static final int HEIGHT = 64;
+
+    /** Loaded chunks, opaque cells and emitters as plain maps; everything else is air. */
+    private static final class FakeHost implements BlockLightEngine.Host {
+        final Map<Long, ChunkBlockLight> stores = new HashMap<>();
+        final Set<Long> opaque = new HashSet<>();
+        final Map<Long, Integer> emitters = new HashMap<>();
+        final Set<Long> changed = new HashSet<>();
+
+        void load(int chunkX, int chunkZ) {
+            stores.put(key(chunkX, chunkZ), new ChunkBlockLight(CHUNK, HEIGHT, CHUNK));
+        }
+
+        @Override
+        public ChunkBlockLight lightStore(int chunkX, int chunkZ) {
+            return stores.get(key(chunkX, chunkZ));
+        }
+
+        @Override
+        public int emission(int worldX, int worldY, int worldZ) {
+            return emitters.getOrDefault(cell(worldX, worldY, worldZ), 0);
+        }
+
+        @Override
+        public boolean blocksLight(int worldX, int worldY, int worldZ) {
+            return opaque.contains(cell(worldX, worldY, worldZ));
+        }
+
+        @Override
+        public void forEachEmitter(int chunkX, int chunkZ, BlockLightEngine.EmitterSink sink) {
+            emitters.forEach((cell, level) -> {
+                int x = (int) ((cell >> 40) - 512);
+                int y = (int) (((cell >> 20) & 0xFFFFF) - 512);
+                int z = (int) ((cell & 0xFFFFF) - 512);
+                if (Math.floorDiv(x, CHUNK) == chunkX && Math.floorDiv(z, CHUNK) == chunkZ) {
+                    sink.emit(x, y, z, level);
+                }
+            });
+        }
+
+        @Override
+        public void onLightChanged(int chunkX, int chunkZ) {
+            changed.add(key(chunkX, chunkZ));
+        }
+
+        static long key(int chunkX, int chunkZ) {
+            return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+        }
+
+        static long cell(int x, int y, int z) {
+            return ((long) (x + 512) << 40) | ((long) (y + 512) << 20) | (z + 512);
+        }
+    }
+
+    private final FakeHost host = new FakeHost();
+    private final BlockLightEngine engine = new BlockLightEngine(host, CHUNK, HEIGHT);
+
+    private void place(int x, int y, int z, int emission) {
+        host.emitters.put(FakeHost.cell(x, y, z), emission);
+        engine.onBlockChanged(x, y, z);
+        engine.propagatePending();
+    }
+
+    private void breakBlock(int x, int y, int z) {
+        host.emitters.remove(FakeHost.cell(x, y, z));
+        host.opaque.remove(FakeHost.cell(x, y, z));
+        engine.onBlockChanged(x, y, z);
+        engine.propagatePending();
+    }
+
+    private void wall(int x, int y, int z) {
+        host.opaque.add(FakeHost.cell(x, y, z));
+        engine.onBlockChanged(x, y, z);
+        engine.propagatePending();
+    }
+
+    private int lit() {
+        int[] count = {0};
+        host.stores.values().forEach(store -> store.forEachLit((x, y, z, level) -> count[0]++));
+        return count[0];
+    }
+
+    @Test
+    void anEmitterFallsOffOneLevelPerBlock() {
+        host.load(0, 0);
+        place(8, 20, 8, 12);
+
+        assertEquals(12, engine.getLightLevel(8, 20, 8));
+        assertEquals(11, engine.getLightLevel(9, 20, 8));
+        assertEquals(9, engine.getLightLevel(8, 22, 7));
+        assertEquals(1, engine.getLightLevel(8, 31, 8));
+        assertEquals(0, engine.getLightLevel(8, 32, 8));
+    }
+
+    @Test
+    void breakingTheEmitterLeavesNoResidue() {
+        host.load(0, 0);
+        place(8, 20, 8, 12);
+        breakBlock(8, 20, 8);
+
+        assertEquals(0, lit());
+        assertTrue(host.stores.get(FakeHost.key(0, 0)).isEmpty(), "dark sections are released");
+    }
+
+    @Test
+    void aSecondSourceSurvivesTheFirstGoingOut() {
+        host.load(0, 0);
+        place(4, 20, 8, 10);
+        place(10, 20, 8, 10);
+        breakBlock(4, 20, 8);
+
+        assertEquals(10, engine.getLightLevel(10, 20, 8));
+        assertEquals(4, engine.getLightLevel(4, 20, 8), "refilled from the surviving source");
+        assertEquals(0, engine.getLightLevel(10, 20 + 10, 8));
+    }
+
+    @Test
+    void wallsBlockLightAndOpeningThemLetsItThrough() {
+        host.load(0, 0);
+        // Seal the emitter in a 3x3x3 shell.
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    if (dx != 0 || dy != 0 || dz != 0) {
+                        host.opaque.add(FakeHost.cell(8 + dx, 20 + dy, 8 + dz));
+                    }
+                }
+            }
+        }
+        place(8, 20, 8, 12);
+        assertEquals(0, engine.getLightLevel(10, 20, 8));
+
+        breakBlock(9, 20, 8);
+        assertEquals(11, engine.getLightLevel(9, 20, 8));
+        assertEquals(10, engine.getLightLevel(10, 20, 8));
+
+        wall(9, 20, 8);
+        assertEquals(0, engine.getLightLevel(10, 20, 8));
+        assertEquals(12, engine.getLightLevel(8, 20, 8), "the sealed source keeps its own level");
+    }
+
+    @Test
+    void lightCrossesChunkBordersAndReportsEveryTouchedChunk() {
+        host.load(0, 0);
+        host.load(1, 0);
+        place(14, 20, 8, 6);
+
+        assertEquals(3, engine.getLightLevel(17, 20, 8));
+        assertTrue(host.changed.contains(FakeHost.key(0, 0)));
+        assertTrue(host.changed.contains(FakeHost.key(1, 0)));
+        assertFalse(host.changed.contains(FakeHost.key(0, 1)));
+    }
+
+    @Test
+    void aChunkLoadedLaterPullsItsNeighboursLight() {
+        host.load(0, 0);
+        place(14, 20, 8, 6);
+        assertEquals(0, engine.getLightLevel(17, 20, 8), "unloaded chunks stop the flood");
+
+        host.load(1, 0);
+        engine.onChunkLoaded(1, 0);
+        engine.propagatePending();
+
+        assertEquals(3, engine.getLightLevel(17, 20, 8));
+    }
+
+    @Test
+    void reseedingAChunkReplacesItsStaleLight() {
+        host.load(0, 0);
+        place(8, 20, 8, 12);
+        // Bulk install without per-block edits (network stream): the emitter is gone.
+        host.emitters.clear();
+        engine.onChunkLoaded(0, 0);
+        engine.propagatePending();
+
+        assertEquals(0, lit());
+    }
+
+    @Test
+    void anUnloadedChunkTakesItsSpilledLightWithIt() {
+        host.load(0, 0);
+        host.load(1, 0);
+        place(17, 20, 8, 6);
+        place(2, 20, 8, 14);
+        assertEquals(4, engine.getLightLevel(15, 20, 8));
+
+        host.stores.remove(FakeHost.key(1, 0));
+        host.emitters.remove(FakeHost.cell(17, 20, 8));
+        engine.onChunkUnloaded(1, 0);
+        engine.propagatePending();
+        assertEquals(1, engine.getLightLevel(15, 20, 8), "only the chunk's own source still reaches the border");
+        assertEquals(0, engine.getLightLevel(15, 21, 8), "no residue of the departed source");
+
+        // Back without its torch: nothing of the old field may be pulled in.
+        host.load(1, 0);
+        engine.onChunkLoaded(1, 0);
+        engine.propagatePending();
+        assertEquals(0, engine.getLightLevel(17, 20, 8));
+        assertEquals(0, engine.getLightLevel(16, 20, 8));
+    }
+}
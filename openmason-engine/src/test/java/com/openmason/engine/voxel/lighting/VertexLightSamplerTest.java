@@ -26,6 +26,7 @@ class VertexLightSamplerTest {
     private static final class FakeWorld implements LightingContext {
         final Map<Long, Integer> columns = new HashMap<>();
         final Set<Long> solids = new HashSet<>();
+        final Map<Long, Integer> blockLight = new HashMap<>();
 
         void column(int x, int z, int skyStartsAt) {
             columns.put(pack(x, z), skyStartsAt);
@@ -45,6 +46,11 @@ class VertexLightSamplerTest {
             return solids.contains(pack3(worldX, worldY, worldZ));
         }
 
+        @Override
+        public int getBlockLight(int worldX, int worldY, int worldZ) {
+            return blockLight.getOrDefault(pack3(worldX, worldY, worldZ), 0);
+        }
+
         private static long pack(int x, int z) {
             return ((long) x << 32) | (z & 0xFFFFFFFFL);
         }
@@ -105,6 +111,33 @@ class VertexLightSamplerTest {
         assertEquals(1.0f, VertexLightSampler.sampleCombined(world, 0, 10, 0, TOP), EPS);
     }
 
+    // ── Block light (top face: air-side cells at y = 10) ────────────────────
+
+    @Test
+    void blockLightBrightensAShadedCellByItsLevel() {
+        for (int x = -1; x <= 0; x++) {
+            for (int z = -1; z <= 0; z++) {
+                world.column(x, z, 20); // roofed cave
+                world.blockLight.put(FakeWorld.pack3(x, 10, z), 12);
+            }
+        }
+
+        assertEquals(12f / 15f, VertexLightSampler.sampleCombined(world, 0, 10, 0, TOP), EPS);
+    }
+
+    @Test
+    void skyAndBlockLightTakeTheBrighterPerCell() {
+        world.column(-1, -1, 5);  // open sky
+        world.column(0, -1, 20);  // roofed, lit 9
+        world.column(-1, 0, 20);  // roofed, dark
+        world.column(0, 0, 5);    // open sky; its block light must not add on top
+        world.blockLight.put(FakeWorld.pack3(0, 10, -1), 9);
+        world.blockLight.put(FakeWorld.pack3(0, 10, 0), 15);
+
+        assertEquals((1f + 9f / 15f + 0f + 1f) / 4f,
+                VertexLightSampler.sampleCombined(world, 0, 10, 0, TOP), EPS);
+    }
+
     // ── Ambient occlusion (top face: sides at (-1,10,0) and (0,10,-1)) ───────
 
     @Test
@@ -194,6 +194,28 @@ class AStarTest {
         assertArrayEquals(fromCold.nodes(), fromWarm.nodes());
     }
 
+    // ── Distances ────────────────────────────────────────────────────────────
+
+    @Test
+    void distancesMatchDijkstraForEveryTarget() {
+        // The grid is symmetric, so flooding out of the goal costs each target exactly what the
+        // oracle charges to walk from that target to the goal.
+        GridDomain grid = GridDomain.maze(20, 20, 19, 19, 11).opening(10, 3).opening(3, 17).opening(19, 0);
+        long[] targets = {GridDomain.key(0, 0), GridDomain.key(10, 3), GridDomain.key(3, 17), GridDomain.key(19, 0)};
+        float[] costs = new float[targets.length];
+
+        int reached = new AStar().distances(grid, GridDomain.key(19, 19), targets, costs,
+                SearchLimits.DEFAULT.withMaxExpansions(100_000), CancelToken.NEVER);
+
+        int expected = 0;
+        for (int i = 0; i < targets.length; i++) {
+            float optimum = grid.dijkstraCostToGoal(GridDomain.x(targets[i]), GridDomain.y(targets[i]));
+            assertEquals(optimum, costs[i], EPSILON, "target " + i);
+            expected += Float.isInfinite(optimum) ? 0 : 1;
+        }
+        assertEquals(expected, reached);
+    }
+
     // ── Weighted search ──────────────────────────────────────────────────────
 
     @Test
@@ -0,0 +1,87 @@
+package com.openmason.engine.wayfind.voxel;
+
+import com.openmason.engine.wayfind.AStar;
+import com.openmason.engine.wayfind.CancelToken;
+import com.openmason.engine.wayfind.SearchLimits;
+import com.openmason.engine.wayfind.SearchResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Windows and the fields integrated over them: following a toward field from anywhere arrives at
+ * the target along a route as cheap as a search would find, and following an away field only ever
+ * puts more distance between the agent and the threat.
+ */
+class FlowFieldTest {
+
+    private static final int GROUND_TOP = 63;
+    private static final int STAND_Y = 64;
+    private static final NavProfile WALKER = NavProfile.walker(0.9f, 0);
+    private static final float EPSILON = 1e-3f;
+
+    @Test
+    void everyCellWalksDownhillToTheTarget() {
+        NavWindow window = NavWindow.build(BoxNavVolume.ground(24, 70, 24, GROUND_TOP), WALKER,
+                0, 60, 0, 23, 68, 23);
+        int target = window.locate(12, STAND_Y, 12, 4, 2);
+
+        FlowField field = FlowField.toward(window, target);
+
+        assertEquals(24 * 24, window.size(), "one standable cell per column on flat ground");
+        for (int cell = 0; cell < window.size(); cell++) {
+            int at = cell;
+            for (int steps = 0; at != target; steps++) {
+                int next = field.nextStep(at);
+                assertNotEquals(FlowField.NO_STEP, next, "stranded at " + NavNodes.toString(window.node(at)));
+                assertTrue(field.cost(next) < field.cost(at), "every step is downhill");
+                assertTrue(steps < window.size(), "no cycles");
+                at = next;
+            }
+        }
+    }
+
+    @Test
+    void costsMatchASearchAroundAWall() {
+        BoxNavVolume world = BoxNavVolume.ground(32, 70, 32, GROUND_TOP);
+        for (int z = 0; z < 28; z++) {
+            world.column(16, z, STAND_Y, STAND_Y + 2);
+        }
+        NavWindow window = NavWindow.build(world, WALKER, 0, 60, 0, 31, 68, 31);
+        FlowField field = FlowField.toward(window, window.locate(28, STAND_Y, 4, 4, 2));
+
+        SearchResult search = new AStar().search(
+                new GroundNavDomain(new NavCellCache(world), WALKER, 28, STAND_Y, 4, 0.0f),
+                NavNodes.pack(3, STAND_Y, 4), SearchLimits.DEFAULT.withMaxExpansions(10_000),
+                CancelToken.NEVER);
+
+        assertTrue(search.reachedGoal());
+        assertEquals(search.cost(), field.cost(window.indexOf(NavNodes.pack(3, STAND_Y, 4))), EPSILON,
+                "a field is the same Dijkstra a search runs, answered for every start at once");
+    }
+
+    @Test
+    void aFleeFieldOnlyEverIncreasesDistanceFromTheThreat() {
+        NavWindow window = NavWindow.build(BoxNavVolume.ground(32, 70, 32, GROUND_TOP), WALKER,
+                0, 60, 0, 31, 68, 31);
+        int threat = window.locate(16, STAND_Y, 16, 4, 2);
+        FlowField toward = FlowField.toward(window, threat);
+
+        FlowField away = FlowField.away(toward, 1.2f);
+
+        int at = window.locate(18, STAND_Y, 17, 4, 2);
+        for (int steps = 0; steps < 64; steps++) {
+            int next = away.nextStep(at);
+            if (next == FlowField.NO_STEP) {
+                break;
+            }
+            assertTrue(toward.cost(next) >= toward.cost(at) - EPSILON, "never back toward the threat");
+            at = next;
+        }
+        assertTrue(toward.cost(at) > 10.0f, "a fleeing agent ends up well clear, not one step away");
+        assertSame(window, away.window());
+    }
+}
@@ -0,0 +1,109 @@
+package com.openmason.engine.wayfind.voxel;
+
+import com.openmason.engine.wayfind.AStar;
+import com.openmason.engine.wayfind.CancelToken;
+import com.openmason.engine.wayfind.SearchLimits;
+import com.openmason.engine.wayfind.SearchResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The portal graph and the planner on top of it, against terrain big enough to span several
+ * sections: long routes come back with a walkable first leg, routes find the one gap a cell search
+ * would exhaust its budget looking for, and a block change is seen by the very next plan.
+ */
+class HierarchicalPlannerTest {
+
+    private static final int GROUND_TOP = 63;
+    private static final int STAND_Y = 64;
+    private static final NavProfile WALKER = NavProfile.walker(0.9f, 0);
+
+    private static final SearchLimits ROUTE = new SearchLimits(4000, Float.MAX_VALUE, 1.0f);
+    private static final SearchLimits LEG = new SearchLimits(600, Float.MAX_VALUE, 1.1f);
+
+    @Test
+    void longRouteRefinesOnlyItsFirstLeg() {
+        SectionPortalGraph graph = new SectionPortalGraph(BoxNavVolume.ground(96, 70, 96, GROUND_TOP), WALKER);
+        long start = NavNodes.pack(2, STAND_Y, 2);
+        long goal = NavNodes.pack(93, STAND_Y, 90);
+
+        HierarchicalPlanner.Route route = new HierarchicalPlanner()
+                .plan(graph, start, goal, ROUTE, LEG, CancelToken.NEVER);
+
+        assertNotNull(route);
+        assertEquals(start, route.portals()[0]);
+        assertEquals(goal, route.portals()[route.portals().length - 1]);
+        assertFalse(route.isFinalLeg(), "a ninety-block route is more than one leg");
+        assertTrue(route.leg().reachedGoal(), "the leg reaches the portal it was aimed at");
+        long legEnd = route.leg().node(route.leg().length() - 1);
+        assertEquals(route.portals()[route.legEnd()], legEnd);
+        assertTrue(NavNodes.x(legEnd) - 2 + NavNodes.z(legEnd) - 2 >= HierarchicalPlanner.LEG_MIN_BLOCKS,
+                "the leg should cover at least its minimum length");
+    }
+
+    @Test
+    void findsTheOnlyGapThroughALongWall() {
+        BoxNavVolume world = BoxNavVolume.ground(80, 70, 80, GROUND_TOP);
+        for (int z = 0; z < 80; z++) {
+            if (z < 70 || z > 72) {
+                world.column(40, z, STAND_Y, STAND_Y + 2);
+            }
+        }
+        long start = NavNodes.pack(5, STAND_Y, 5);
+        long goal = NavNodes.pack(75, STAND_Y, 5);
+
+        SearchResult flat = new AStar().search(
+                new GroundNavDomain(new NavCellCache(world), WALKER, 75, STAND_Y, 5, 0.0f),
+                start, LEG, CancelToken.NEVER);
+        assertFalse(flat.reachedGoal(), "the detour is far beyond a cell search's budget");
+
+        HierarchicalPlanner.Route route = new HierarchicalPlanner().plan(
+                new SectionPortalGraph(world, WALKER), start, goal, ROUTE, LEG, CancelToken.NEVER);
+
+        assertNotNull(route);
+        boolean throughGap = false;
+        for (long portal : route.portals()) {
+            throughGap |= NavNodes.z(portal) >= 64;
+        }
+        assertTrue(throughGap, "the route has to swing out to the gap at z = 70");
+    }
+
+    @Test
+    void blockChangesAreSeenByTheNextPlan() {
+        BoxNavVolume world = BoxNavVolume.ground(64, 70, 48, GROUND_TOP);
+        for (int z = 0; z < 48; z++) {
+            if (z != 20) {
+                world.column(32, z, STAND_Y, STAND_Y + 2);
+            }
+        }
+        SectionPortalGraph graph = new SectionPortalGraph(world, WALKER);
+        HierarchicalPlanner planner = new HierarchicalPlanner();
+        long start = NavNodes.pack(4, STAND_Y, 20);
+        long goal = NavNodes.pack(60, STAND_Y, 20);
+
+        assertNotNull(planner.plan(graph, start, goal, ROUTE, LEG, CancelToken.NEVER));
+        long builds = graph.sectionBuilds();
+        assertNotNull(planner.plan(graph, start, goal, ROUTE, LEG, CancelToken.NEVER));
+        assertEquals(builds, graph.sectionBuilds(), "a repeat plan runs entirely from the cache");
+
+        world.column(32, 20, STAND_Y, STAND_Y + 2);
+        graph.invalidateBlock(32, STAND_Y, 20);
+
+        assertNull(planner.plan(graph, start, goal, ROUTE, LEG, CancelToken.NEVER),
+                "the sealed gap must not survive in a cached section");
+        assertTrue(graph.sectionBuilds() > builds);
+    }
+
+    @Test
+    void unloadedTerrainIsNotRoutedThrough() {
+        SectionPortalGraph graph = new SectionPortalGraph(BoxNavVolume.ground(40, 70, 40, GROUND_TOP), WALKER);
+
+        assertNull(new HierarchicalPlanner().plan(graph, NavNodes.pack(2, STAND_Y, 2),
+                NavNodes.pack(90, STAND_Y, 2), ROUTE, LEG, CancelToken.NEVER));
+    }
+}
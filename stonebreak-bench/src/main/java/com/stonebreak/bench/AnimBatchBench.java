@@ -0,0 +1,132 @@
+package com.stonebreak.bench;
+
+import com.openmason.engine.format.oma.AnimBatch;
+import com.openmason.engine.format.oma.AnimLayerMeta;
+import com.openmason.engine.format.oma.AnimLayering;
+import com.openmason.engine.format.oma.AnimRig;
+import com.openmason.engine.format.oma.AnimSampler;
+import com.openmason.engine.format.oma.BakedAnimClip;
+import com.openmason.engine.format.oma.ParsedAnimClip;
+import com.openmason.engine.format.oma.ParsedAnimTrack;
+import com.openmason.engine.format.oma.ParsedKeyframe;
+import com.openmason.engine.format.oma.PoseBuffer;
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pose evaluation, reported per entity: a mob-sized rig (12 parts) playing a
+ * looping walk with an arm overlay fading in, posed part by part through
+ * {@link AnimLayering#blendPart} as the renderer used to, against the whole
+ * crowd posed in one {@link AnimBatch} pass from baked clips. Run with
+ * {@code -prof gc} to see the allocation side, which is the point.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+@State(Scope.Thread)
+public class AnimBatchBench {
+
+    private static final int ENTITIES = 256;
+    private static final int PARTS = 12;
+
+    private final String[] ids = new String[PARTS];
+    private final String[] names = new String[PARTS];
+    private final float[] elapsed = new float[ENTITIES];
+    private ParsedAnimClip walk;
+    private ParsedAnimClip attack;
+    private BakedAnimClip bakedWalk;
+    private BakedAnimClip bakedAttack;
+    private AnimRig rig;
+    private final AnimBatch batch = new AnimBatch();
+    private final PoseBuffer poses = new PoseBuffer();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(ChunkFixtures.SEED);
+        List<ParsedAnimTrack> walkTracks = new ArrayList<>();
+        float[] rest = new float[PARTS * BakedAnimClip.FRAME_STRIDE];
+        for (int p = 0; p < PARTS; p++) {
+            ids[p] = "part-" + p;
+            names[p] = p < 2 ? (p == 0 ? "LeftArm" : "RightArm") : "Part" + p;
+            rest[p * BakedAnimClip.FRAME_STRIDE + 6] = 1f;
+            rest[p * BakedAnimClip.FRAME_STRIDE + 7] = 1f;
+            rest[p * BakedAnimClip.FRAME_STRIDE + 8] = 1f;
+            List<ParsedKeyframe> keys = new ArrayList<>();
+            for (int k = 0; k <= 8; k++) {
+                keys.add(new ParsedKeyframe(k / 8f,
+                        new Vector3f(0f, random.nextFloat() * 0.1f, 0f),
+                        new Vector3f(random.nextFloat() * 60f - 30f, 0f, 0f),
+                        new Vector3f(1f, 1f, 1f), k % 2 == 0 ? "EASE_IN_OUT" : "LINEAR"));
+            }
+            walkTracks.add(new ParsedAnimTrack(ids[p], names[p], keys));
+        }
+        walk = new ParsedAnimClip("walk", 24f, 1f, true, walkTracks);
+        attack = new ParsedAnimClip("attack", 24f, 0.6f, false, List.of(
+                new ParsedAnimTrack(ids[0], names[0], List.of(
+                        new ParsedKeyframe(0f, new Vector3f(), new Vector3f(),
+                                new Vector3f(1f, 1f, 1f), "EASE_OUT"),
+                        new ParsedKeyframe(0.6f, new Vector3f(), new Vector3f(-90f, 0f, 0f),
+                                new Vector3f(1f, 1f, 1f), "LINEAR")))),
+                new AnimLayerMeta(AnimLayerMeta.LayerType.OVERLAY, List.of("LeftArm"), 0.1f, 0.1f, 0));
+        bakedWalk = BakedAnimClip.bake(walk);
+        bakedAttack = BakedAnimClip.bake(attack);
+        rig = new AnimRig(ids, names, rest);
+        for (int e = 0; e < ENTITIES; e++) {
+            elapsed[e] = random.nextFloat() * 10f;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTITIES)
+    public float keyframed() {
+        float sum = 0;
+        AnimSampler.PartPose restPose = AnimSampler.PartPose.identity();
+        for (int e = 0; e < ENTITIES; e++) {
+            float overlayElapsed = elapsed[e] % 0.6f;
+            List<AnimLayering.OverlayFrame> overlays = List.of(new AnimLayering.OverlayFrame(attack,
+                    AnimSampler.wrapTime(overlayElapsed, attack.duration(), attack.loop()),
+                    AnimLayering.clipWeight(attack, overlayElapsed)));
+            float baseTime = AnimSampler.wrapTime(elapsed[e], walk.duration(), walk.loop());
+            for (int p = 0; p < PARTS; p++) {
+                AnimSampler.PartPose pose = AnimLayering.blendPart(restPose,
+                        walk.tracks().get(p), baseTime, overlays, ids[p], names[p]);
+                sum += pose.rotationDeg().x;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTITIES)
+    public float baked() {
+        batch.clear();
+        for (int e = 0; e < ENTITIES; e++) {
+            batch.addEntity(rig, bakedWalk, elapsed[e]);
+            batch.addOverlay(bakedAttack, elapsed[e] % 0.6f, 1f);
+        }
+        batch.evaluate(poses);
+        float sum = 0;
+        for (int s = 0; s < poses.size(); s++) {
+            sum += poses.rotationX(s);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,39 @@
+package com.stonebreak.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of the shaded benchmark jar.
+ *
+ * <pre>
+ * mvn -pl stonebreak-bench -am package
+ * java -jar stonebreak-bench/target/stonebreak-benchmarks.jar            # everything
+ * java -jar stonebreak-bench/target/stonebreak-benchmarks.jar MeshBench  # one class
+ * </pre>
+ *
+ * Forks run with native access enabled for the Cenda kernels. Any JMH
+ * option passes through. Unless overridden, results go to
+ * {@code jmh-result.json} in the working directory and the GC profiler is on,
+ * so every run records {@code gc.alloc.rate.norm} (bytes per operation) next to
+ * the timing — the two numbers tracked across releases.
+ */
+public final class BenchMain {
+
+    private BenchMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> options = new ArrayList<>(List.of(args));
+        if (!options.contains("-rf")) {
+            options.addAll(List.of("-rf", "json"));
+            if (!options.contains("-rff")) {
+                options.addAll(List.of("-rff", "jmh-result.json"));
+            }
+        }
+        if (!options.contains("-prof")) {
+            options.addAll(List.of("-prof", "gc"));
+        }
+        org.openjdk.jmh.Main.main(options.toArray(String[]::new));
+    }
+}
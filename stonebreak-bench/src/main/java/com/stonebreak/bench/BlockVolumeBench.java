@@ -0,0 +1,124 @@
+package com.stonebreak.bench;
+
+import com.stonebreak.world.World;
+import com.stonebreak.world.operations.WorldConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-style world reads, reported per box: every cell of a small box read
+ * through {@link World#getBlockAt} one block at a time, against the same box
+ * copied out in one {@link World#readBlockIds} pass.
+ *
+ * <p>{@code MOB} is a cow-sized collision box (3 × 4 × 3), {@code COLUMN} a
+ * 1 × 64 × 1 ground scan. Boxes sit at random spots around the terrain
+ * surface of a loaded headless world, so some straddle chunk and section
+ * borders the way real ones do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+@State(Scope.Thread)
+public class BlockVolumeBench {
+
+    private static final int GRID = 4;
+    private static final int BOXES = 1024;
+
+    public enum Shape {
+        MOB(3, 4, 3),
+        COLUMN(1, 64, 1);
+
+        final int sizeX;
+        final int sizeY;
+        final int sizeZ;
+
+        Shape(int sizeX, int sizeY, int sizeZ) {
+            this.sizeX = sizeX;
+            this.sizeY = sizeY;
+            this.sizeZ = sizeZ;
+        }
+    }
+
+    @Param({"MOB", "COLUMN"})
+    public Shape shape;
+
+    private World world;
+    private final int[] origins = new int[BOXES * 3];
+    private short[] buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = World.createHeadless(new WorldConfiguration(GRID, 1), ChunkFixtures.SEED);
+        for (int cx = 0; cx < GRID; cx++) {
+            for (int cz = 0; cz < GRID; cz++) {
+                world.getChunkAt(cx, cz);
+            }
+        }
+        world.awaitPendingChunkLoads().join();
+
+        Random random = new Random(ChunkFixtures.SEED);
+        int span = GRID * WorldConfiguration.CHUNK_SIZE;
+        for (int i = 0; i < BOXES; i++) {
+            origins[i * 3] = random.nextInt(span - shape.sizeX);
+            origins[i * 3 + 1] = 40 + random.nextInt(48);
+            origins[i * 3 + 2] = random.nextInt(span - shape.sizeZ);
+        }
+        buffer = new short[shape.sizeX * shape.sizeY * shape.sizeZ];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.cleanup();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOXES)
+    public int perBlock() {
+        int sum = 0;
+        for (int i = 0; i < BOXES; i++) {
+            int x0 = origins[i * 3];
+            int y0 = origins[i * 3 + 1];
+            int z0 = origins[i * 3 + 2];
+            for (int y = y0; y < y0 + shape.sizeY; y++) {
+                for (int z = z0; z < z0 + shape.sizeZ; z++) {
+                    for (int x = x0; x < x0 + shape.sizeX; x++) {
+                        sum += world.getBlockAt(x, y, z).getId();
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOXES)
+    public int bulk() {
+        int sum = 0;
+        int volume = buffer.length;
+        for (int i = 0; i < BOXES; i++) {
+            world.readBlockIds(origins[i * 3], origins[i * 3 + 1], origins[i * 3 + 2],
+                shape.sizeX, shape.sizeY, shape.sizeZ, buffer);
+            for (int c = 0; c < volume; c++) {
+                sum += buffer[c];
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,57 @@
+package com.stonebreak.bench;
+
+import com.stonebreak.world.chunk.Chunk;
+import com.stonebreak.world.save.io.ChunkCodec;
+import com.stonebreak.world.save.model.ChunkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Save-format chunk codec: {@link ChunkCodec#encode} and {@link ChunkCodec#decode}
+ * per chunk. Compression follows the runtime — zstd when the Cenda kernels
+ * are loaded, DEFLATE otherwise — so compare runs on the same setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+@State(Scope.Thread)
+public class ChunkCodecBench {
+
+    @Param({"TERRAIN", "CAVES", "EDITED"})
+    public ChunkFixtures.Kind kind;
+
+    private ChunkData data;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Chunk chunk = ChunkFixtures.chunk(kind, 3, -2);
+        data = ChunkFixtures.chunkData(chunk);
+        payload = ChunkCodec.encode(data);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return ChunkCodec.encode(data);
+    }
+
+    @Benchmark
+    public ChunkData decode() throws IOException {
+        return ChunkCodec.decode(payload);
+    }
+}
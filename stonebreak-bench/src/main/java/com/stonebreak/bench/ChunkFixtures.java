@@ -0,0 +1,185 @@
+package com.stonebreak.bench;
+
+import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
+import com.stonebreak.blocks.BlockType;
+import com.stonebreak.world.chunk.Chunk;
+import com.stonebreak.world.generation.TerrainGenerationSystem;
+import com.stonebreak.world.save.model.ChunkData;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic chunk fixtures for the benchmarks: real terrain from the
+ * generator, then reshaped into the three shapes the hot paths see in play.
+ *
+ * <ul>
+ *   <li>{@link Kind#TERRAIN} — the generator's output untouched: mostly
+ *       uniform sections below the surface, air above.</li>
+ *   <li>{@link Kind#CAVES} — the same chunk with dense worm tunnels through
+ *       everything below the surface, so stone sections turn into two- and
+ *       three-entry palettes and the mesher sees many interior faces.</li>
+ *   <li>{@link Kind#EDITED} — a build site: thousands of placements from the
+ *       whole block set scattered around the surface, pushing sections to
+ *       wide palettes and the codecs off their uniform fast paths.</li>
+ * </ul>
+ *
+ * Fixtures depend only on the seed and chunk position, so runs across
+ * releases measure the same blocks.
+ */
+public final class ChunkFixtures {
+
+    public static final long SEED = 20260720L;
+
+    public static final int SIZE = 16;
+    public static final int HEIGHT = 256;
+    public static final int CELLS = SIZE * SIZE * HEIGHT;
+
+    public enum Kind { TERRAIN, CAVES, EDITED }
+
+    private static TerrainGenerationSystem terrain;
+
+    private ChunkFixtures() {
+    }
+
+    private static synchronized TerrainGenerationSystem terrain() {
+        if (terrain == null) {
+            terrain = new TerrainGenerationSystem(SEED);
+        }
+        return terrain;
+    }
+
+    /** A fresh chunk of the given kind at (chunkX, chunkZ). */
+    public static Chunk chunk(Kind kind, int chunkX, int chunkZ) {
+        Chunk chunk = terrain().generateTerrainOnly(chunkX, chunkZ).chunk();
+        Random random = new Random(SEED ^ (chunkX * 341873128712L + chunkZ * 132897987541L) ^ kind.ordinal());
+        switch (kind) {
+            case CAVES -> carveCaves(chunk, random);
+            case EDITED -> scatterEdits(chunk, random);
+            default -> {
+            }
+        }
+        return chunk;
+    }
+
+    public static CcoPalettedChunkStorage storage(Chunk chunk) {
+        return (CcoPalettedChunkStorage) chunk.getBlockStorageView();
+    }
+
+    /** The save-format view of a chunk, as the save service builds it. */
+    public static ChunkData chunkData(Chunk chunk) {
+        return ChunkData.builder()
+            .chunkX(chunk.getChunkX())
+            .chunkZ(chunk.getChunkZ())
+            .blocks(chunk.getBlockStorageView())
+            .lastModified(LocalDateTime.of(2026, 1, 1, 0, 0))
+            .featuresPopulated(true)
+            .hasEntitiesGenerated(true)
+            .waterMetadata(new HashMap<>())
+            .entities(List.of())
+            .blockStates(new HashMap<>())
+            .snowLayers(new HashMap<>())
+            .build();
+    }
+
+    /** Block ids in section order, {@code ((y * 16) + z) * 16 + x}. */
+    public static short[] blockIds(Chunk chunk) {
+        CcoPalettedChunkStorage storage = storage(chunk);
+        short[] ids = new short[CELLS];
+        for (int s = 0; s < storage.getSectionCount(); s++) {
+            storage.getSection(s).writeBlockIdsInto(ids, s * SIZE * SIZE * 16);
+        }
+        return ids;
+    }
+
+    /** Highest non-air y per column, indexed {@code z * 16 + x}; -1 for empty columns. */
+    public static int[] columnTops(short[] ids) {
+        int[] tops = new int[SIZE * SIZE];
+        for (int i = 0; i < tops.length; i++) {
+            tops[i] = -1;
+            for (int y = HEIGHT - 1; y >= 0; y--) {
+                if (ids[y * SIZE * SIZE + i] != 0) {
+                    tops[i] = y;
+                    break;
+                }
+            }
+        }
+        return tops;
+    }
+
+    /** Solid, placeable blocks — the palette a player builds with. */
+    public static List<BlockType> buildingBlocks() {
+        List<BlockType> blocks = new ArrayList<>();
+        for (BlockType block : BlockType.values()) {
+            if (block != BlockType.AIR && block != BlockType.WATER && block.isSolid()) {
+                blocks.add(block);
+            }
+        }
+        return blocks;
+    }
+
+    private static void carveCaves(Chunk chunk, Random random) {
+        int[] tops = columnTops(blockIds(chunk));
+        for (int worm = 0; worm < 24; worm++) {
+            double x = random.nextDouble() * SIZE;
+            double z = random.nextDouble() * SIZE;
+            int top = tops[(int) z * SIZE + (int) x];
+            double y = 4 + random.nextDouble() * Math.max(1, top - 12);
+            double yaw = random.nextDouble() * Math.PI * 2;
+            double pitch = (random.nextDouble() - 0.5) * 0.5;
+            for (int step = 0; step < 60; step++) {
+                double radius = 1.2 + random.nextDouble() * 1.8;
+                carveSphere(chunk, tops, x, y, z, radius);
+                x += Math.cos(yaw) * Math.cos(pitch);
+                z += Math.sin(yaw) * Math.cos(pitch);
+                y += Math.sin(pitch);
+                yaw += (random.nextDouble() - 0.5) * 0.8;
+                pitch = Math.clamp(pitch + (random.nextDouble() - 0.5) * 0.3, -0.6, 0.6);
+                x = Math.floorMod((int) Math.floor(x), SIZE) + (x - Math.floor(x));
+                z = Math.floorMod((int) Math.floor(z), SIZE) + (z - Math.floor(z));
+            }
+        }
+    }
+
+    private static void carveSphere(Chunk chunk, int[] tops, double cx, double cy, double cz, double r) {
+        int r2 = (int) Math.ceil(r);
+        for (int x = (int) cx - r2; x <= (int) cx + r2; x++) {
+            for (int z = (int) cz - r2; z <= (int) cz + r2; z++) {
+                if (x < 0 || x >= SIZE || z < 0 || z >= SIZE) {
+                    continue;
+                }
+                // Keep a crust so the tunnels stay caves rather than craters.
+                int ceiling = tops[z * SIZE + x] - 3;
+                for (int y = (int) cy - r2; y <= (int) cy + r2; y++) {
+                    if (y < 1 || y > ceiling) {
+                        continue;
+                    }
+                    double dx = x + 0.5 - cx;
+                    double dy = y + 0.5 - cy;
+                    double dz = z + 0.5 - cz;
+                    if (dx * dx + dy * dy + dz * dz <= r * r) {
+                        chunk.setBlock(x, y, z, BlockType.AIR);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void scatterEdits(Chunk chunk, Random random) {
+        List<BlockType> palette = buildingBlocks();
+        int[] tops = columnTops(blockIds(chunk));
+        for (int edit = 0; edit < 6000; edit++) {
+            int x = random.nextInt(SIZE);
+            int z = random.nextInt(SIZE);
+            int top = Math.max(tops[z * SIZE + x], 8);
+            int y = Math.clamp(top - 24 + random.nextInt(48), 1, HEIGHT - 1);
+            // One edit in five is mining, the rest placement.
+            BlockType block = random.nextInt(5) == 0
+                ? BlockType.AIR : palette.get(random.nextInt(palette.size()));
+            chunk.setBlock(x, y, z, block);
+        }
+    }
+}
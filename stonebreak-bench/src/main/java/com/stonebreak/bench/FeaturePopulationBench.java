@@ -0,0 +1,97 @@
+package com.stonebreak.bench;
+
+import com.stonebreak.world.World;
+import com.stonebreak.world.chunk.Chunk;
+import com.stonebreak.world.operations.WorldConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Feature decoration throughput — populated chunks per second — for a headless
+ * world whose generation pool has {@code workers} threads. Each invocation
+ * loads a fresh {@code (GRID + 1)²} block of terrain (not measured), then
+ * ticks the simulation until the {@code GRID²} chunks whose east/south
+ * neighbours all exist are decorated. The tick only dispatches; the trees,
+ * ores and flowers are placed on the pool.
+ *
+ * <p>The tick loop parks a millisecond between passes, standing in for the
+ * rest of a server tick, so it doesn't take a core from the workers.
+ *
+ * <pre>
+ * java -jar stonebreak-bench/target/stonebreak-benchmarks.jar FeaturePopulationBench -p workers=1,4,8
+ * </pre>
+ *
+ * Run it on a machine with at least eight cores; with fewer, the 4- and
+ * 8-worker figures only measure claim contention, not scaling.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, batchSize = 1)
+@Measurement(iterations = 5, batchSize = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+@State(Scope.Thread)
+public class FeaturePopulationBench {
+
+    private static final int GRID = 12;
+    private static final float TICK_SECONDS = 0.05f;
+
+    @Param({"1", "4", "8"})
+    public int workers;
+
+    private World world;
+
+    @Setup(Level.Invocation)
+    public void loadTerrain() {
+        world = World.createHeadless(new WorldConfiguration(GRID, workers), ChunkFixtures.SEED);
+        for (int cx = 0; cx <= GRID; cx++) {
+            for (int cz = 0; cz <= GRID; cz++) {
+                world.getChunkAt(cx, cz);
+            }
+        }
+        world.awaitPendingChunkLoads().join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GRID * GRID)
+    public int populate() {
+        int ticks = 0;
+        while (!allPopulated()) {
+            world.updateSimulation(TICK_SECONDS);
+            ticks++;
+            LockSupport.parkNanos(1_000_000L);
+        }
+        return ticks;
+    }
+
+    @TearDown(Level.Invocation)
+    public void unload() {
+        world.cleanup();
+    }
+
+    private boolean allPopulated() {
+        for (int cx = 0; cx < GRID; cx++) {
+            for (int cz = 0; cz < GRID; cz++) {
+                Chunk chunk = world.getChunkIfLoaded(cx, cz);
+                if (chunk == null || !chunk.areFeaturesPopulated()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
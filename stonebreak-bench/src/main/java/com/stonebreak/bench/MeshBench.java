@@ -0,0 +1,142 @@
+package com.stonebreak.bench;
+
+import com.openmason.engine.voxel.mms.mmsCore.MmsMeshBuilder;
+import com.openmason.engine.voxel.mms.mmsCore.MmsMeshData;
+import com.openmason.engine.voxel.mms.mmsGeometry.MmsGreedyMesher;
+import com.stonebreak.blocks.BlockType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesh assembly: greedy merging of a chunk's cube-face quad stream, and
+ * writing the same stream through {@link MmsMeshBuilder} into upload-ready
+ * mesh data.
+ *
+ * <p>The quad stream is extracted once per trial in the
+ * {@link MmsGreedyMesher#IN_STRIDE} record format the cube meshing paths
+ * emit. Corner light is the sky factor of the cell each face looks into — 1
+ * above the column top, 0 below — so open-air tops merge, cave walls merge,
+ * and the EDITED fixture's mixed blocks mostly do not.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+@State(Scope.Thread)
+public class MeshBench {
+
+    // Face order top, bottom, -z, +z, +x, -x — the cube meshers' order.
+    private static final int[] FDX = {0, 0, 0, 0, 1, -1};
+    private static final int[] FDY = {1, -1, 0, 0, 0, 0};
+    private static final int[] FDZ = {0, 0, -1, 1, 0, 0};
+    private static final int[][][] CORNERS = {
+        {{0, 1, 1}, {1, 1, 1}, {1, 1, 0}, {0, 1, 0}}, {{0, 0, 0}, {1, 0, 0}, {1, 0, 1}, {0, 0, 1}},
+        {{1, 0, 0}, {0, 0, 0}, {0, 1, 0}, {1, 1, 0}}, {{0, 0, 1}, {1, 0, 1}, {1, 1, 1}, {0, 1, 1}},
+        {{1, 0, 1}, {1, 0, 0}, {1, 1, 0}, {1, 1, 1}}, {{0, 0, 0}, {0, 0, 1}, {0, 1, 1}, {0, 1, 0}}};
+    private static final float[][] UV = {{0, 1}, {1, 1}, {1, 0}, {0, 0}};
+
+    @Param({"TERRAIN", "CAVES", "EDITED"})
+    public ChunkFixtures.Kind kind;
+
+    private float[] quads;
+    private int quadCount;
+    private final float[][] mergedHolder = new float[1][];
+    private MmsMeshBuilder builder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        short[] ids = ChunkFixtures.blockIds(ChunkFixtures.chunk(kind, 3, -2));
+        extractQuads(ids, ChunkFixtures.columnTops(ids));
+        builder = MmsMeshBuilder.createWithCapacity(quadCount * 4);
+    }
+
+    @Benchmark
+    public int greedyMerge() {
+        return MmsGreedyMesher.merge(quads, quadCount, mergedHolder);
+    }
+
+    @Benchmark
+    public MmsMeshData buildMesh() {
+        for (int q = 0; q < quadCount; q++) {
+            int base = q * MmsGreedyMesher.IN_STRIDE;
+            int x = (int) quads[base];
+            int y = (int) quads[base + 1];
+            int z = (int) quads[base + 2];
+            int face = (int) quads[base + 3];
+            float layer = quads[base + 4];
+            builder.beginFace();
+            for (int c = 0; c < 4; c++) {
+                int[] corner = CORNERS[face][c];
+                builder.addVertex(x + corner[0], y + corner[1], z + corner[2],
+                    UV[c][0], UV[c][1],
+                    FDX[face], FDY[face], FDZ[face],
+                    0f, 0f, 0f, quads[base + 5 + c], layer);
+            }
+            builder.endFace();
+        }
+        return builder.buildAndReset();
+    }
+
+    /** Visible faces of every non-air cell: neighbour is air, water, or a different non-solid block. */
+    private void extractQuads(short[] ids, int[] tops) {
+        boolean[] opaque = new boolean[Short.MAX_VALUE + 1];
+        for (BlockType block : BlockType.values()) {
+            opaque[block.getId()] = block.isSolid();
+        }
+        int size = ChunkFixtures.SIZE;
+        float[] out = new float[4096 * MmsGreedyMesher.IN_STRIDE];
+        int count = 0;
+        for (int y = 0; y < ChunkFixtures.HEIGHT; y++) {
+            for (int z = 0; z < size; z++) {
+                for (int x = 0; x < size; x++) {
+                    int id = ids[(y * size + z) * size + x];
+                    if (id == 0) {
+                        continue;
+                    }
+                    for (int face = 0; face < 6; face++) {
+                        int ax = x + FDX[face];
+                        int ay = y + FDY[face];
+                        int az = z + FDZ[face];
+                        boolean outside = ax < 0 || ax >= size || az < 0 || az >= size
+                            || ay < 0 || ay >= ChunkFixtures.HEIGHT;
+                        int adj = outside ? 0 : ids[(ay * size + az) * size + ax];
+                        if (adj != 0 && (opaque[adj] || adj == id)) {
+                            continue;
+                        }
+                        if (count * MmsGreedyMesher.IN_STRIDE + MmsGreedyMesher.IN_STRIDE > out.length) {
+                            out = Arrays.copyOf(out, out.length * 2);
+                        }
+                        int column = Math.clamp(az, 0, size - 1) * size + Math.clamp(ax, 0, size - 1);
+                        float sky = ay > tops[column] ? 1f : 0f;
+                        int base = count++ * MmsGreedyMesher.IN_STRIDE;
+                        out[base] = x;
+                        out[base + 1] = y;
+                        out[base + 2] = z;
+                        out[base + 3] = face;
+                        out[base + 4] = id;
+                        out[base + 5] = sky;
+                        out[base + 6] = sky;
+                        out[base + 7] = sky;
+                        out[base + 8] = sky;
+                    }
+                }
+            }
+        }
+        quads = out;
+        quadCount = count;
+    }
+}
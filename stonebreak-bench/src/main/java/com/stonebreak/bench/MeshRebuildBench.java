@@ -0,0 +1,231 @@
+package com.stonebreak.bench;
+
+import com.openmason.engine.rendering.model.gmr.editable.EditableFace;
+import com.openmason.engine.rendering.model.gmr.editable.EditableMesh;
+import com.openmason.engine.rendering.model.gmr.editable.IncrementalRenderMeshBuilder;
+import com.openmason.engine.rendering.model.gmr.editable.RenderMesh;
+import com.openmason.engine.rendering.model.gmr.editable.RenderMeshBuilder;
+import com.openmason.engine.rendering.model.gmr.editable.ops.ExtrudeFacesOp;
+import com.openmason.engine.rendering.model.gmr.editable.ops.SubdivideEdgeOp;
+import com.openmason.engine.rendering.model.gmr.topology.MeshTopology;
+import com.openmason.engine.rendering.model.gmr.topology.MeshTopologyBuilder;
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-edit latency of keeping a model's render mesh and topology current, by
+ * face count: the full derivation the rebuild pipeline used to run after
+ * every edit ({@link RenderMeshBuilder} plus {@link MeshTopologyBuilder})
+ * against the incremental one driven by the mesh's dirty region. Four edits:
+ * nudging one vertex, which patches in place and only invalidates topology
+ * caches around it; re-looping one face, which re-lays the render blocks but
+ * still rebuilds topology; extruding one face, which appends its side quads;
+ * and subdividing one edge, which inserts a vertex into the loops of the two
+ * faces on it. GPU upload is not measured.
+ *
+ * <p>The model is a flat grid of quads, rebuilt for every iteration; each
+ * invocation edits the next of a seeded set of interior vertices or faces.
+ * Extrude and subdivide grow the mesh, so they run as single shots of
+ * 64 edits on the fresh grid (scores per edit) rather than for
+ * as long as an iteration lasts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+@State(Scope.Thread)
+public class MeshRebuildBench {
+
+    private static final int TARGETS = 256;
+    private static final int EDITS = 64;
+
+    @Param({"1024", "16384", "65536"})
+    public int faces;
+
+    private EditableMesh mesh;
+    private final int[] vertexTargets = new int[TARGETS];
+    private final int[] faceTargets = new int[TARGETS];
+    private final Vector3f position = new Vector3f();
+    private int next;
+    private final IncrementalRenderMeshBuilder builder = new IncrementalRenderMeshBuilder();
+    private MeshTopology topology;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        next = 0;
+        builder.reset();
+        int side = (int) Math.sqrt(faces);
+        mesh = grid(side);
+        Random random = new Random(ChunkFixtures.SEED);
+        for (int i = 0; i < TARGETS; i++) {
+            int x = 1 + random.nextInt(side - 1);
+            int y = 1 + random.nextInt(side - 1);
+            vertexTargets[i] = y * (side + 1) + x;
+            faceTargets[i] = random.nextInt(mesh.faceIdUpperBound());
+        }
+        RenderMesh rm = builder.update(mesh, null, true).mesh();
+        topology = MeshTopologyBuilder.build(mesh, rm);
+        mesh.dirtyRegion().clear();
+    }
+
+    @Benchmark
+    public int moveVertexFull() {
+        moveNextVertex();
+        return fullDerive();
+    }
+
+    @Benchmark
+    public int moveVertexIncremental() {
+        moveNextVertex();
+        IncrementalRenderMeshBuilder.Update update = builder.update(mesh, null, false);
+        topology.invalidateMovedVertices(mesh.dirtyRegion().vertices());
+        mesh.dirtyRegion().clear();
+        return update.cornerTo() - update.cornerFrom();
+    }
+
+    @Benchmark
+    public int reloopFaceFull() {
+        reloopNextFace();
+        return fullDerive();
+    }
+
+    @Benchmark
+    public int reloopFaceIncremental() {
+        reloopNextFace();
+        return relayIncremental();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = 1)
+    @Measurement(iterations = 10, batchSize = 1)
+    @OperationsPerInvocation(EDITS)
+    public int extrudeFaceFull() {
+        int work = 0;
+        for (int i = 0; i < EDITS; i++) {
+            extrudeNextFace();
+            work += fullDerive();
+        }
+        return work;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = 1)
+    @Measurement(iterations = 10, batchSize = 1)
+    @OperationsPerInvocation(EDITS)
+    public int extrudeFaceIncremental() {
+        int work = 0;
+        for (int i = 0; i < EDITS; i++) {
+            extrudeNextFace();
+            work += relayIncremental();
+        }
+        return work;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = 1)
+    @Measurement(iterations = 10, batchSize = 1)
+    @OperationsPerInvocation(EDITS)
+    public int subdivideEdgeFull() {
+        int work = 0;
+        for (int i = 0; i < EDITS; i++) {
+            subdivideNextEdge();
+            work += fullDerive();
+        }
+        return work;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = 1)
+    @Measurement(iterations = 10, batchSize = 1)
+    @OperationsPerInvocation(EDITS)
+    public int subdivideEdgeIncremental() {
+        int work = 0;
+        for (int i = 0; i < EDITS; i++) {
+            subdivideNextEdge();
+            work += relayIncremental();
+        }
+        return work;
+    }
+
+    /** Incremental update after a layout change: re-laid render blocks, rebuilt topology. */
+    private int relayIncremental() {
+        IncrementalRenderMeshBuilder.Update update = builder.update(mesh, null, true);
+        topology = MeshTopologyBuilder.build(mesh, update.mesh());
+        mesh.dirtyRegion().clear();
+        return update.cornerTo() - update.cornerFrom() + topology.getEdgeCount();
+    }
+
+    private int fullDerive() {
+        RenderMesh rm = RenderMeshBuilder.build(mesh, null);
+        MeshTopology rebuilt = MeshTopologyBuilder.build(mesh, rm);
+        mesh.dirtyRegion().clear();
+        return rm.cornerCount() + rebuilt.getEdgeCount();
+    }
+
+    /** Lift the next target vertex out of the plane, or drop it back. */
+    private void moveNextVertex() {
+        int vertexId = vertexTargets[next++ & (TARGETS - 1)];
+        mesh.position(vertexId, position);
+        position.z = position.z == 0f ? 0.25f : 0f;
+        mesh.setPosition(vertexId, position);
+    }
+
+    /** Rotate the next target face's loop by one corner: same face, new triangulation start. */
+    private void reloopNextFace() {
+        EditableFace face = mesh.face(faceTargets[next++ & (TARGETS - 1)]);
+        int n = face.loopLength();
+        int[] loop = new int[n];
+        for (int i = 0; i < n; i++) {
+            loop[i] = face.vertexAt((i + 1) % n);
+        }
+        mesh.replaceFaceLoop(face.faceId(), loop);
+    }
+
+    /** Extrude the next target face a quarter unit out of the plane: four side quads appended. */
+    private void extrudeNextFace() {
+        ExtrudeFacesOp.apply(mesh, new int[]{faceTargets[next++ & (TARGETS - 1)]}, 0.25f);
+    }
+
+    /** Split the first edge of the next target face at its midpoint; still an edge of that face afterwards. */
+    private void subdivideNextEdge() {
+        EditableFace face = mesh.face(faceTargets[next++ & (TARGETS - 1)]);
+        SubdivideEdgeOp.apply(mesh, face.vertexAt(0), face.vertexAt(1), 0.5f);
+    }
+
+    /** {@code side} x {@code side} unit quads in XY, counter-clockwise. */
+    private static EditableMesh grid(int side) {
+        EditableMesh mesh = new EditableMesh();
+        for (int y = 0; y <= side; y++) {
+            for (int x = 0; x <= side; x++) {
+                mesh.addVertex(new Vector3f(x, y, 0));
+            }
+        }
+        for (int y = 0; y < side; y++) {
+            for (int x = 0; x < side; x++) {
+                int v = y * (side + 1) + x;
+                mesh.addFace(new int[]{v, v + 1, v + side + 2, v + side + 1});
+            }
+        }
+        return mesh;
+    }
+}
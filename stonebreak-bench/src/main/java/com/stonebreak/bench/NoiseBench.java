@@ -0,0 +1,92 @@
+package com.stonebreak.bench;
+
+import com.openmason.engine.cenda.CendaKernels;
+import com.stonebreak.world.generation.NoiseGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One chunk's 2D fbm channel — a 16x16 grid — on both world-gen noise
+ * backends: the classic Java simplex sampled per column, as the Java
+ * channel does, and the native FastNoise2 node filling the grid in one call.
+ * The two produce different terrain; this compares cost, not output.
+ *
+ * <p>{@code nativeFbm} fails the trial outright when the Cenda kernels did
+ * not load, rather than quietly measuring nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+@State(Scope.Thread)
+public class NoiseBench {
+
+    private static final int GRID = ChunkFixtures.SIZE;
+    private static final float SCALE = 0.005f;
+    private static final double PERSISTENCE = 0.5;
+    private static final double LACUNARITY = 2.0;
+
+    @Param({"4", "8"})
+    public int octaves;
+
+    private NoiseGenerator java;
+    private long nativeNode;
+    private final float[] out = new float[GRID * GRID];
+    private int chunk;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        java = new NoiseGenerator(ChunkFixtures.SEED, octaves, PERSISTENCE, LACUNARITY);
+        if (CendaKernels.isAvailable()) {
+            nativeNode = CendaKernels.createSimplexFbm(octaves, (float) LACUNARITY, (float) PERSISTENCE, SCALE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (nativeNode != 0L) {
+            CendaKernels.destroy(nativeNode);
+            nativeNode = 0L;
+        }
+    }
+
+    @Benchmark
+    public float[] javaFbm() {
+        // Walk along a row of chunks so neither backend can reuse a result.
+        int baseX = (chunk++ & 1023) * GRID;
+        for (int x = 0; x < GRID; x++) {
+            for (int z = 0; z < GRID; z++) {
+                out[x * GRID + z] = java.noise((baseX + x) * SCALE, z * SCALE);
+            }
+        }
+        return out;
+    }
+
+    @Benchmark
+    public float[] nativeFbm() {
+        if (nativeNode == 0L) {
+            throw new IllegalStateException("Cenda kernels unavailable; nothing to measure");
+        }
+        int baseX = (chunk++ & 1023) * GRID;
+        // FastNoise2's fast axis carries world z, matching the z-fastest layout above.
+        if (!CendaKernels.fillGrid2D(nativeNode, out, 0f, baseX, GRID, GRID, 1f, 1f,
+                Long.hashCode(ChunkFixtures.SEED))) {
+            throw new IllegalStateException("native noise fill failed");
+        }
+        return out;
+    }
+}
@@ -0,0 +1,89 @@
+package com.stonebreak.bench;
+
+import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
+import com.stonebreak.blocks.BlockType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paletted block storage reads and writes, reported per block access.
+ *
+ * <p>{@code get} walks a fixed random sequence of coordinates — the access
+ * pattern of physics, lighting and navigation probes rather than a linear
+ * sweep the prefetcher would hide. {@code set} replays a burst of edits onto
+ * a fresh copy each invocation, so palette growth and repacking are part of
+ * what is measured instead of settling after the first iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+@State(Scope.Thread)
+public class PalettedStorageBench {
+
+    private static final int READS = 4096;
+    private static final int WRITES = 1024;
+
+    @Param({"TERRAIN", "CAVES", "EDITED"})
+    public ChunkFixtures.Kind kind;
+
+    private CcoPalettedChunkStorage storage;
+    private final int[] readCoords = new int[READS * 3];
+    private final int[] writeCoords = new int[WRITES * 3];
+    private final BlockType[] writeBlocks = new BlockType[WRITES];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        storage = ChunkFixtures.storage(ChunkFixtures.chunk(kind, 3, -2));
+        Random random = new Random(ChunkFixtures.SEED);
+        for (int i = 0; i < READS; i++) {
+            readCoords[i * 3] = random.nextInt(ChunkFixtures.SIZE);
+            readCoords[i * 3 + 1] = random.nextInt(ChunkFixtures.HEIGHT);
+            readCoords[i * 3 + 2] = random.nextInt(ChunkFixtures.SIZE);
+        }
+        List<BlockType> palette = ChunkFixtures.buildingBlocks();
+        for (int i = 0; i < WRITES; i++) {
+            writeCoords[i * 3] = random.nextInt(ChunkFixtures.SIZE);
+            writeCoords[i * 3 + 1] = random.nextInt(ChunkFixtures.HEIGHT);
+            writeCoords[i * 3 + 2] = random.nextInt(ChunkFixtures.SIZE);
+            writeBlocks[i] = palette.get(random.nextInt(palette.size()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public void get(Blackhole bh) {
+        int[] c = readCoords;
+        for (int i = 0; i < READS; i++) {
+            bh.consume(storage.get(c[i * 3], c[i * 3 + 1], c[i * 3 + 2]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WRITES)
+    public CcoPalettedChunkStorage set() {
+        CcoPalettedChunkStorage target = storage.copy();
+        int[] c = writeCoords;
+        for (int i = 0; i < WRITES; i++) {
+            target.set(c[i * 3], c[i * 3 + 1], c[i * 3 + 2], writeBlocks[i]);
+        }
+        return target;
+    }
+}
@@ -0,0 +1,141 @@
+package com.stonebreak.bench;
+
+import com.openmason.engine.wayfind.AStar;
+import com.openmason.engine.wayfind.CancelToken;
+import com.openmason.engine.wayfind.SearchLimits;
+import com.openmason.engine.wayfind.SearchResult;
+import com.openmason.engine.wayfind.voxel.GroundNavDomain;
+import com.openmason.engine.wayfind.voxel.NavCell;
+import com.openmason.engine.wayfind.voxel.NavCellCache;
+import com.openmason.engine.wayfind.voxel.NavProfile;
+import com.openmason.engine.wayfind.voxel.NavVolume;
+import com.stonebreak.blocks.BlockType;
+import com.stonebreak.blocks.waterSystem.WaterHeightUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A mob-length route: {@link AStar} over {@link GroundNavDomain} across a
+ * 3x3 block of fixture chunks, corner to corner, through a fresh
+ * {@link NavCellCache} per search exactly as the mob AI runs it.
+ *
+ * <p>The volume reads prepared block arrays instead of a live world, so the
+ * numbers are the search and the movement rules, not chunk lookups. Shaped
+ * blocks count as full cubes here; the route is the same shape either way.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+@State(Scope.Thread)
+public class PathfindingBench {
+
+    private static final int GRID = 3;
+    private static final int SPAN = GRID * ChunkFixtures.SIZE;
+    private static final NavProfile WALKER = NavProfile.walker(1.8f, 0);
+    private static final SearchLimits LIMITS = SearchLimits.DEFAULT.withMaxExpansions(20_000);
+
+    @Param({"TERRAIN", "CAVES", "EDITED"})
+    public ChunkFixtures.Kind kind;
+
+    private FixtureVolume volume;
+    private final AStar solver = new AStar();
+    private int startX;
+    private int startY;
+    private int startZ;
+    private int goalX;
+    private int goalY;
+    private int goalZ;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        volume = new FixtureVolume(kind);
+        startX = 2;
+        startZ = 2;
+        startY = volume.surfaceY(startX, startZ);
+        goalX = SPAN - 3;
+        goalZ = SPAN - 3;
+        goalY = volume.surfaceY(goalX, goalZ);
+    }
+
+    @Benchmark
+    public SearchResult groundRoute() {
+        NavCellCache cache = new NavCellCache(volume);
+        GroundNavDomain domain = new GroundNavDomain(cache, WALKER, goalX, goalY, goalZ, 1.5f);
+        long start = domain.snapToSurface(startX, startY, startZ, 8, 8);
+        if (start == GroundNavDomain.NO_NODE) {
+            throw new IllegalStateException("fixture start is not standable");
+        }
+        return solver.search(domain, start, LIMITS, CancelToken.NEVER);
+    }
+
+    /** Cell flags for a {@code GRID x GRID} chunk block, origin at world (0, 0); outside is unknown. */
+    private static final class FixtureVolume implements NavVolume {
+        private final byte[] flags = new byte[SPAN * SPAN * ChunkFixtures.HEIGHT];
+
+        FixtureVolume(ChunkFixtures.Kind kind) {
+            int size = ChunkFixtures.SIZE;
+            for (int cx = 0; cx < GRID; cx++) {
+                for (int cz = 0; cz < GRID; cz++) {
+                    short[] ids = ChunkFixtures.blockIds(ChunkFixtures.chunk(kind, cx, cz));
+                    for (int i = 0; i < ids.length; i++) {
+                        int x = cx * size + (i % size);
+                        int z = cz * size + (i / size) % size;
+                        int y = i / (size * size);
+                        flags[index(x, y, z)] = (byte) classify(ids[i]);
+                    }
+                }
+            }
+        }
+
+        private static int classify(short id) {
+            if (id == 0) {
+                return NavCell.OPEN;
+            }
+            BlockType block = BlockType.getById(id);
+            if (block == BlockType.WATER) {
+                return NavCell.LIQUID;
+            }
+            return block != null && block.isSolid() ? NavCell.SOLID : NavCell.OPEN;
+        }
+
+        private static int index(int x, int y, int z) {
+            return (y * SPAN + z) * SPAN + x;
+        }
+
+        int surfaceY(int x, int z) {
+            for (int y = ChunkFixtures.HEIGHT - 1; y > 0; y--) {
+                if (flags[index(x, y - 1, z)] != NavCell.OPEN) {
+                    return y;
+                }
+            }
+            return 1;
+        }
+
+        @Override
+        public int flags(int x, int y, int z) {
+            if (x < 0 || x >= SPAN || z < 0 || z >= SPAN || y < 0 || y >= ChunkFixtures.HEIGHT) {
+                return NavCell.UNKNOWN;
+            }
+            return flags[index(x, y, z)];
+        }
+
+        @Override
+        public float topSurface(int x, int y, int z) {
+            return flags(x, y, z) == NavCell.LIQUID ? WaterHeightUtil.MAX_WATER_HEIGHT : 1.0f;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.stonebreak.bench;
+
+import com.openmason.engine.net.protocol.codec.VoxelChunkCodec;
+import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
+import com.stonebreak.network.client.NetworkChunkDecoder;
+import com.stonebreak.world.chunk.api.voxel.ChunkDataAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Network chunk codec: the server's full-chunk encode through the same
+ * section-reading adapter it streams with, and the client's decode into
+ * detached paletted storage ({@link NetworkChunkDecoder#decodeBlocks}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+@State(Scope.Thread)
+public class VoxelChunkCodecBench {
+
+    @Param({"TERRAIN", "CAVES", "EDITED"})
+    public ChunkFixtures.Kind kind;
+
+    private ChunkDataAdapter source;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = new ChunkDataAdapter(ChunkFixtures.chunk(kind, 3, -2));
+        payload = VoxelChunkCodec.encode(source);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return VoxelChunkCodec.encode(source);
+    }
+
+    @Benchmark
+    public CcoPalettedChunkStorage decode() {
+        return NetworkChunkDecoder.decodeBlocks(3, -2, payload);
+    }
+}
@@ -0,0 +1,111 @@
+package com.stonebreak.bench;
+
+import com.stonebreak.blocks.BlockShape;
+import com.stonebreak.world.VoxelCollider;
+import com.stonebreak.world.World;
+import com.stonebreak.world.operations.WorldConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collision queries, reported per box: the summed collision height of every
+ * cell of a body-sized box (2 × 3 × 2, a player or mob mid-stride) asked of
+ * {@link BlockShape#collisionHeight} cell by cell, as the per-axis resolvers
+ * used to, against the same box answered by {@link VoxelCollider#collect}
+ * from the section collision masks. Boxes sit at random spots around the
+ * terrain surface of a loaded headless world, so most hold a mix of ground
+ * and air and some straddle chunk and section borders.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+@State(Scope.Thread)
+public class VoxelColliderBench {
+
+    private static final int GRID = 4;
+    private static final int BOXES = 1024;
+    private static final int SIZE_X = 2;
+    private static final int SIZE_Y = 3;
+    private static final int SIZE_Z = 2;
+
+    private World world;
+    private final int[] origins = new int[BOXES * 3];
+    private final VoxelCollider collider = new VoxelCollider();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = World.createHeadless(new WorldConfiguration(GRID, 1), ChunkFixtures.SEED);
+        for (int cx = 0; cx < GRID; cx++) {
+            for (int cz = 0; cz < GRID; cz++) {
+                world.getChunkAt(cx, cz);
+            }
+        }
+        world.awaitPendingChunkLoads().join();
+
+        Random random = new Random(ChunkFixtures.SEED);
+        int span = GRID * WorldConfiguration.CHUNK_SIZE;
+        for (int i = 0; i < BOXES; i++) {
+            origins[i * 3] = random.nextInt(span - SIZE_X);
+            origins[i * 3 + 1] = 40 + random.nextInt(48);
+            origins[i * 3 + 2] = random.nextInt(span - SIZE_Z);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.cleanup();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOXES)
+    public float perCell() {
+        float sum = 0;
+        for (int i = 0; i < BOXES; i++) {
+            int x0 = origins[i * 3];
+            int y0 = origins[i * 3 + 1];
+            int z0 = origins[i * 3 + 2];
+            for (int y = y0; y < y0 + SIZE_Y; y++) {
+                for (int z = z0; z < z0 + SIZE_Z; z++) {
+                    for (int x = x0; x < x0 + SIZE_X; x++) {
+                        sum += BlockShape.collisionHeight(world, x, y, z);
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOXES)
+    public float masks() {
+        float sum = 0;
+        for (int i = 0; i < BOXES; i++) {
+            int x0 = origins[i * 3];
+            int y0 = origins[i * 3 + 1];
+            int z0 = origins[i * 3 + 2];
+            int cells = collider.collect(world, x0, y0, z0, x0 + SIZE_X - 1, y0 + SIZE_Y - 1, z0 + SIZE_Z - 1);
+            for (int c = 0; c < cells; c++) {
+                sum += collider.shaped(c)
+                    ? BlockShape.collisionHeight(world, collider.x(c), collider.y(c), collider.z(c))
+                    : 1.0f;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,385 @@
+package com.stonebreak.bench.load;
+
+import com.openmason.engine.net.client.ClientConnection;
+import com.openmason.engine.net.client.ClientInboundQueue;
+import com.openmason.engine.net.client.NetworkClient;
+import com.openmason.engine.net.protocol.Packet;
+import com.openmason.engine.net.protocol.ProtocolVersion;
+import com.openmason.engine.net.transport.NetAddress;
+import com.stonebreak.bench.ChunkFixtures;
+import com.stonebreak.blocks.BlockType;
+import com.stonebreak.network.StonebreakProtocol;
+import com.stonebreak.network.packet.chat.ChatMessageC2S;
+import com.stonebreak.network.packet.handshake.DisconnectC2S;
+import com.stonebreak.network.packet.handshake.HandshakeC2S;
+import com.stonebreak.network.packet.handshake.KeepAliveC2S;
+import com.stonebreak.network.packet.handshake.KeepAliveS2C;
+import com.stonebreak.network.packet.handshake.KickS2C;
+import com.stonebreak.network.packet.handshake.NeedsCharacterCreationS2C;
+import com.stonebreak.network.packet.handshake.WelcomeS2C;
+import com.stonebreak.network.packet.player.CharacterCreationC2S;
+import com.stonebreak.network.packet.player.PlayerStateC2S;
+import com.stonebreak.network.packet.player.PlayerStateFlags;
+import com.stonebreak.network.packet.player.ViewDistanceC2S;
+import com.stonebreak.network.packet.world.BlockChangeC2S;
+import com.stonebreak.world.operations.WorldConfiguration;
+import io.netty.channel.EventLoopGroup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * One simulated player: speaks the real protocol over its own TCP connection,
+ * the way a game client does, minus the world. It handshakes (creating a
+ * character when the server asks), then every driver tick reports its state
+ * along its {@link Route}, and on seeded timers places and breaks blocks,
+ * chats and changes its view distance.
+ *
+ * <p>It keeps a model of the square view the server streams: a chunk becomes
+ * wanted when it enters the view, and its latency is the time from then until
+ * the chunk packet is decoded. Chunks leaving the server's forget radius are
+ * dropped from the model so a return re-measures them, as the server re-sends.
+ *
+ * <p>Everything except the wire taps runs on the driver thread.
+ */
+final class Bot {
+
+    /** The least a character needs to pass the server's creation check: base scores, no choices. */
+    private static final byte[] CHARACTER_JSON =
+        "{\"abilityScores\":[10,10,10,10,10,10],\"remainingAp\":27}".getBytes(StandardCharsets.UTF_8);
+
+    private static final List<BlockType> BLOCKS = ChunkFixtures.buildingBlocks();
+
+    /** Placements stay well inside the server's 8-block reach. */
+    private static final int EDIT_OFFSET = 3;
+    /** A placed block is broken this long after, so the bot leaves the world as it found it. */
+    private static final long BREAK_DELAY_NS = 500_000_000L;
+
+    enum State { CONNECTING, CREATING_CHARACTER, PLAYING, GONE }
+
+    private final int index;
+    private final String username;
+    private final LoadTest.Options options;
+    private final Random random;
+    private final Route.Walker walker;
+    private final NetworkClient client;
+    private final WireMeter meter = new WireMeter();
+
+    private ClientConnection connection;
+    private State state = State.CONNECTING;
+    private String failure;
+
+    private long connectNs;
+    private long welcomeNs;
+    private long goneNs;
+    private long joinNs = -1L;
+    private long viewFillNs = -1L;
+
+    private float spawnX;
+    private float spawnY;
+    private float spawnZ;
+    private final float[] offset = new float[2];
+    private int viewDistance;
+    private int chunkX = Integer.MIN_VALUE;
+    private int chunkZ = Integer.MIN_VALUE;
+
+    /** Chunks in view not yet received, with the time each entered the view. */
+    private final Map<Long, Long> wanted = new HashMap<>();
+    private final Set<Long> received = new HashSet<>();
+    private final Samples chunkLatency = new Samples();
+
+    private long nextEditNs;
+    private long nextChatNs;
+    private long nextViewChangeNs;
+    private int[] placed;
+    private long breakAtNs;
+    private short placedId;
+
+    private int edits;
+    private int chats;
+    private int viewChanges;
+    private int lastRttMs = -1;
+
+    Bot(int index, LoadTest.Options options, EventLoopGroup ioGroup) {
+        this.index = index;
+        this.username = String.format("bot-%04d", index);
+        this.options = options;
+        this.random = new Random(options.seed() * 31 + index);
+        this.walker = new Route.Walker(options.route(), random, index, options.bots(),
+            options.speed(), options.roamRadius());
+        this.client = new NetworkClient(StonebreakProtocol.registry(), ioGroup);
+        this.viewDistance = options.viewDistance();
+    }
+
+    /** Connects and sends the handshake and view distance, exactly as the game client does. */
+    void connect(NetAddress address) {
+        connectNs = System.nanoTime();
+        try {
+            connection = client.connect(address);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            leave("interrupted while connecting");
+            return;
+        } catch (RuntimeException e) {
+            leave("connect failed: " + e);
+            return;
+        }
+        meter.install(connection.channel());
+        connection.send(new HandshakeC2S(ProtocolVersion.CURRENT, username));
+        connection.send(new ViewDistanceC2S(viewDistance));
+    }
+
+    /** One driver tick: drain inbound, account chunk arrivals, then act. */
+    void tick(long now, float dt) {
+        if (state == State.GONE) {
+            return;
+        }
+        client.inboundQueue().drain(this::onEvent);
+        if (state != State.PLAYING) {
+            return; // chunk arrivals wait for the welcome that precedes them on the wire
+        }
+        WireMeter.ChunkArrival arrival;
+        while ((arrival = meter.pollChunkArrival()) != null) {
+            onChunk(arrival);
+        }
+        if (connection == null || !connection.isActive()) {
+            leave("connection closed");
+            return;
+        }
+        move(now, dt);
+        act(now);
+    }
+
+    private void onEvent(ClientInboundQueue.Event e) {
+        switch (e.kind()) {
+            case CONNECT -> {
+            }
+            case PACKET -> onPacket(e.packet());
+            case DISCONNECT -> leave("disconnected");
+        }
+    }
+
+    private void onPacket(Packet packet) {
+        switch (packet) {
+            case NeedsCharacterCreationS2C ignored -> {
+                state = State.CREATING_CHARACTER;
+                connection.send(new CharacterCreationC2S(CHARACTER_JSON), false);
+            }
+            case WelcomeS2C w -> onWelcome(w);
+            case KeepAliveS2C ka -> {
+                lastRttMs = ka.lastRttMs();
+                connection.send(new KeepAliveC2S(ka.nonce()), false);
+            }
+            case KickS2C k -> leave("kicked: " + k.reason());
+            default -> {
+            }
+        }
+    }
+
+    private void onWelcome(WelcomeS2C w) {
+        // Timed from the wire, not from this drain, so the view's chunks are measured
+        // from the same clock their arrivals are.
+        long now = meter.welcomeNanos();
+        welcomeNs = now;
+        joinNs = now - connectNs;
+        spawnX = w.spawnX();
+        spawnY = w.spawnY();
+        spawnZ = w.spawnZ();
+        state = State.PLAYING;
+        nextEditNs = now + jitter(options.editIntervalNs());
+        nextChatNs = now + jitter(options.chatIntervalNs());
+        nextViewChangeNs = now + jitter(options.viewChangeIntervalNs());
+        updateView(now);
+    }
+
+    private void onChunk(WireMeter.ChunkArrival arrival) {
+        long key = key(arrival.chunkX(), arrival.chunkZ());
+        Long since = wanted.remove(key);
+        received.add(key);
+        if (since != null) {
+            chunkLatency.add(Math.max(0L, arrival.nanos() - since));
+            if (wanted.isEmpty() && viewFillNs < 0) {
+                viewFillNs = arrival.nanos() - welcomeNs;
+            }
+        }
+    }
+
+    private void move(long now, float dt) {
+        walker.step(offset, dt);
+        float x = spawnX + offset[0];
+        float z = spawnZ + offset[1];
+        float yaw = (float) Math.toDegrees(walker.heading());
+        connection.send(new PlayerStateC2S(x, spawnY, z, yaw, 0f, (byte) PlayerStateFlags.ON_GROUND), true);
+        int cx = Math.floorDiv((int) Math.floor(x), 16);
+        int cz = Math.floorDiv((int) Math.floor(z), 16);
+        if (cx != chunkX || cz != chunkZ) {
+            chunkX = cx;
+            chunkZ = cz;
+            updateView(now);
+        }
+    }
+
+    private void act(long now) {
+        if (placed != null && now >= breakAtNs) {
+            connection.send(new BlockChangeC2S(placed[0], placed[1], placed[2],
+                (short) BlockType.AIR.getId(), placedId), false);
+            placed = null;
+            edits++;
+        }
+        if (placed == null && options.editIntervalNs() > 0 && now >= nextEditNs) {
+            nextEditNs = now + jitter(options.editIntervalNs());
+            BlockType block = BLOCKS.get(random.nextInt(BLOCKS.size()));
+            int x = (int) Math.floor(spawnX + offset[0]) + random.nextInt(EDIT_OFFSET * 2 + 1) - EDIT_OFFSET;
+            int y = Math.clamp((int) Math.floor(spawnY) - 2, 1, WorldConfiguration.WORLD_HEIGHT - 1);
+            int z = (int) Math.floor(spawnZ + offset[1]) + random.nextInt(EDIT_OFFSET * 2 + 1) - EDIT_OFFSET;
+            placedId = (short) block.getId();
+            placed = new int[]{x, y, z};
+            breakAtNs = now + BREAK_DELAY_NS;
+            connection.send(new BlockChangeC2S(x, y, z, placedId, (short) BlockType.AIR.getId()), false);
+            edits++;
+        }
+        if (options.chatIntervalNs() > 0 && now >= nextChatNs) {
+            nextChatNs = now + jitter(options.chatIntervalNs());
+            connection.send(new ChatMessageC2S(username + " checking in (" + (++chats) + ")"), false);
+        }
+        if (options.viewChangeIntervalNs() > 0 && now >= nextViewChangeNs) {
+            nextViewChangeNs = now + jitter(options.viewChangeIntervalNs());
+            // Swing two chunks either side of the configured distance: a widening pulls a
+            // fresh ring, a narrowing exercises the server's forget pass.
+            int base = options.viewDistance();
+            viewDistance = viewDistance == base
+                ? Math.clamp(base + (random.nextBoolean() ? 2 : -2),
+                    WorldConfiguration.MIN_RENDER_DISTANCE, WorldConfiguration.MAX_RENDER_DISTANCE)
+                : base;
+            connection.send(new ViewDistanceC2S(viewDistance), false);
+            viewChanges++;
+            updateView(now);
+        }
+    }
+
+    /** Re-derives wanted/received for the current chunk and view, mirroring the server's rings. */
+    private void updateView(long now) {
+        if (chunkX == Integer.MIN_VALUE) {
+            chunkX = Math.floorDiv((int) Math.floor(spawnX + offset[0]), 16);
+            chunkZ = Math.floorDiv((int) Math.floor(spawnZ + offset[1]), 16);
+        }
+        int forget = viewDistance + 2;
+        for (Iterator<Long> it = received.iterator(); it.hasNext(); ) {
+            if (ring(it.next()) > forget) {
+                it.remove();
+            }
+        }
+        wanted.keySet().removeIf(key -> ring(key) > viewDistance);
+        for (int dz = -viewDistance; dz <= viewDistance; dz++) {
+            for (int dx = -viewDistance; dx <= viewDistance; dx++) {
+                long key = key(chunkX + dx, chunkZ + dz);
+                if (!received.contains(key)) {
+                    wanted.putIfAbsent(key, now);
+                }
+            }
+        }
+    }
+
+    private int ring(long key) {
+        int cx = (int) (key >> 32);
+        int cz = (int) key;
+        return Math.max(Math.abs(cx - chunkX), Math.abs(cz - chunkZ));
+    }
+
+    private static long key(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    /** Uniform in [interval/2, 3·interval/2), so bots spread out instead of firing in lockstep. */
+    private long jitter(long intervalNs) {
+        return intervalNs / 2 + (long) (random.nextDouble() * intervalNs);
+    }
+
+    private void leave(String reason) {
+        if (state == State.GONE) {
+            return;
+        }
+        failure = reason;
+        state = State.GONE;
+        goneNs = System.nanoTime();
+    }
+
+    /** Says goodbye and closes the connection; safe on a bot that already left. */
+    void disconnect() {
+        if (state != State.GONE) {
+            if (connection != null && connection.isActive()) {
+                connection.send(new DisconnectC2S("load_test_done"));
+            }
+            state = State.GONE;
+            goneNs = System.nanoTime();
+        }
+        client.shutdown();
+    }
+
+    // ─── Results, read after the driver stops ────────────────────────────────
+
+    int index() {
+        return index;
+    }
+
+    boolean joined() {
+        return joinNs >= 0;
+    }
+
+    /** Why the bot never got in or dropped early; null for a clean run. */
+    String failure() {
+        return failure;
+    }
+
+    long joinNs() {
+        return joinNs;
+    }
+
+    long viewFillNs() {
+        return viewFillNs;
+    }
+
+    Samples chunkLatency() {
+        return chunkLatency;
+    }
+
+    int pendingChunks() {
+        return wanted.size();
+    }
+
+    long bytesIn() {
+        return meter.bytesIn();
+    }
+
+    long bytesOut() {
+        return meter.bytesOut();
+    }
+
+    /** Seconds from connect until the bot left or was disconnected at the end. */
+    double connectedSeconds() {
+        long end = goneNs != 0L ? goneNs : System.nanoTime();
+        return Math.max(1e-9, (end - connectNs) / 1e9);
+    }
+
+    int edits() {
+        return edits;
+    }
+
+    int chats() {
+        return chats;
+    }
+
+    int viewChanges() {
+        return viewChanges;
+    }
+
+    int lastRttMs() {
+        return lastRttMs;
+    }
+}
@@ -0,0 +1,222 @@
+package com.stonebreak.bench.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.openmason.engine.net.pipeline.FrameStats;
+import com.stonebreak.network.server.ServerPlayer;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The capacity report of one {@link LoadTest} run. Latencies are reported in
+ * milliseconds as nearest-rank percentiles over every sample; bandwidth is
+ * per bot over its connected time, then summarised across bots. Server tick
+ * figures are absent when the bots loaded a remote server.
+ */
+final class LoadReport {
+
+    /** Server outbound framing summed over every connected bot, read before they leave. */
+    record Framing(long packets, long flushes, long frames, long bundles, long compressedFrames,
+                   long payloadBytes, long wireBytes) {
+
+        static Framing of(Collection<ServerPlayer> players) {
+            long packets = 0, flushes = 0, frames = 0, bundles = 0, compressed = 0, payload = 0, wire = 0;
+            for (ServerPlayer player : players) {
+                FrameStats stats = player.connection().frameStats();
+                if (stats == null) {
+                    continue;
+                }
+                packets += stats.packets();
+                flushes += stats.flushes();
+                frames += stats.frames();
+                bundles += stats.bundles();
+                compressed += stats.compressedFrames();
+                payload += stats.payloadBytes();
+                wire += stats.wireBytes();
+            }
+            return new Framing(packets, flushes, frames, bundles, compressed, payload, wire);
+        }
+
+        double packetsPerFlush() {
+            return flushes == 0 ? 0.0 : (double) packets / flushes;
+        }
+
+        double bytesPerFlush() {
+            return flushes == 0 ? 0.0 : (double) wireBytes / flushes;
+        }
+    }
+
+    private final LoadTest.Options options;
+    private final double wallSeconds;
+    private final Samples rampTicks;
+    private final Samples steadyTicks;
+    private final Framing framing;
+
+    private final int joined;
+    private final Map<String, Integer> failures = new TreeMap<>();
+    private final Samples join = new Samples();
+    private final Samples viewFill = new Samples();
+    private final Samples chunkLatency = new Samples();
+    private final Samples bytesInPerSecond = new Samples();
+    private final Samples bytesOutPerSecond = new Samples();
+    private final Samples rtt = new Samples();
+    private int pendingChunks;
+    private long edits;
+    private long chats;
+    private long viewChanges;
+
+    LoadReport(LoadTest.Options options, List<Bot> bots, double wallSeconds,
+               Samples rampTicks, Samples steadyTicks, Framing framing) {
+        this.options = options;
+        this.wallSeconds = wallSeconds;
+        this.rampTicks = rampTicks;
+        this.steadyTicks = steadyTicks;
+        this.framing = framing;
+        int joinedCount = 0;
+        for (Bot bot : bots) {
+            if (bot.failure() != null) {
+                failures.merge(bot.failure(), 1, Integer::sum);
+            }
+            if (!bot.joined()) {
+                continue;
+            }
+            joinedCount++;
+            join.add(bot.joinNs());
+            if (bot.viewFillNs() >= 0) {
+                viewFill.add(bot.viewFillNs());
+            }
+            chunkLatency.addAll(bot.chunkLatency());
+            pendingChunks += bot.pendingChunks();
+            bytesInPerSecond.add(Math.round(bot.bytesIn() / bot.connectedSeconds()));
+            bytesOutPerSecond.add(Math.round(bot.bytesOut() / bot.connectedSeconds()));
+            if (bot.lastRttMs() >= 0) {
+                rtt.add(bot.lastRttMs());
+            }
+            edits += bot.edits();
+            chats += bot.chats();
+            viewChanges += bot.viewChanges();
+        }
+        this.joined = joinedCount;
+    }
+
+    void print(PrintStream out) {
+        out.println();
+        out.printf(Locale.ROOT, "Stonebreak load test — %d bots, route %s, %d s ramp + %d s, seed %d, %s%n",
+            options.bots(), options.route(), options.rampSeconds(), options.durationSeconds(), options.seed(),
+            options.inProcess() ? "in-process server @ " + options.tickRate() + " Hz" : "server " + options.connect());
+        out.printf(Locale.ROOT, "  joined          %d/%d in %.1f s%n", joined, options.bots(), wallSeconds);
+        failures.forEach((reason, n) -> out.printf(Locale.ROOT, "  failed          %d × %s%n", n, reason));
+        out.println("                  count      mean       p50       p95       p99       max");
+        if (steadyTicks != null) {
+            long budget = 1_000_000_000L / options.tickRate();
+            row(out, "tick ramp", rampTicks);
+            row(out, "tick steady", steadyTicks);
+            out.printf(Locale.ROOT, "  over budget     %d of %d steady ticks > %.1f ms%n",
+                steadyTicks.countAbove(budget), steadyTicks.count(), budget / 1e6);
+        }
+        row(out, "join", join);
+        row(out, "view fill", viewFill);
+        row(out, "chunk latency", chunkLatency);
+        out.printf(Locale.ROOT, "  chunks pending  %d at the end%n", pendingChunks);
+        out.printf(Locale.ROOT, "  bytes/s in      mean %,.0f  p50 %,d  p95 %,d  max %,d per player%n",
+            bytesInPerSecond.mean(), bytesInPerSecond.percentile(50), bytesInPerSecond.percentile(95),
+            bytesInPerSecond.max());
+        out.printf(Locale.ROOT, "  bytes/s out     mean %,.0f  p50 %,d  p95 %,d  max %,d per player%n",
+            bytesOutPerSecond.mean(), bytesOutPerSecond.percentile(50), bytesOutPerSecond.percentile(95),
+            bytesOutPerSecond.max());
+        out.printf(Locale.ROOT, "  server rtt      p50 %d ms  max %d ms%n", rtt.percentile(50), rtt.max());
+        if (framing != null) {
+            out.printf(Locale.ROOT, "  server flushes  %,d: %.1f packets, %,.0f B each; %,d frames, %,d bundles, "
+                    + "%,d compressed, %,d -> %,d B%n",
+                framing.flushes(), framing.packetsPerFlush(), framing.bytesPerFlush(), framing.frames(),
+                framing.bundles(), framing.compressedFrames(), framing.payloadBytes(), framing.wireBytes());
+        }
+        out.printf(Locale.ROOT, "  actions         %d edits, %d chats, %d view changes%n", edits, chats, viewChanges);
+    }
+
+    private static void row(PrintStream out, String label, Samples s) {
+        out.printf(Locale.ROOT, "  %-14s %6d %9.2f %9.2f %9.2f %9.2f %9.2f%n", label, s.count(),
+            s.mean() / 1e6, s.percentile(50) / 1e6, s.percentile(95) / 1e6, s.percentile(99) / 1e6,
+            s.max() / 1e6);
+    }
+
+    void writeJson(Path file) throws IOException {
+        Map<String, Object> root = new LinkedHashMap<>();
+        Map<String, Object> opts = new LinkedHashMap<>();
+        opts.put("bots", options.bots());
+        opts.put("route", options.route().name().toLowerCase(Locale.ROOT));
+        opts.put("rampSeconds", options.rampSeconds());
+        opts.put("durationSeconds", options.durationSeconds());
+        opts.put("seed", options.seed());
+        opts.put("viewDistance", options.viewDistance());
+        opts.put("speed", options.speed());
+        opts.put("server", options.inProcess() ? "in-process" : options.connect());
+        opts.put("tickRate", options.inProcess() ? options.tickRate() : null);
+        root.put("options", opts);
+        root.put("wallSeconds", wallSeconds);
+        root.put("joined", joined);
+        List<Map<String, Object>> failed = new ArrayList<>();
+        failures.forEach((reason, n) -> failed.add(Map.of("reason", reason, "bots", n)));
+        root.put("failures", failed);
+        if (steadyTicks != null) {
+            Map<String, Object> ticks = new LinkedHashMap<>();
+            ticks.put("ramp", millis(rampTicks));
+            Map<String, Object> steady = millis(steadyTicks);
+            steady.put("overBudget", steadyTicks.countAbove(1_000_000_000L / options.tickRate()));
+            ticks.put("steady", steady);
+            root.put("serverTickMs", ticks);
+        }
+        root.put("joinMs", millis(join));
+        root.put("viewFillMs", millis(viewFill));
+        Map<String, Object> chunks = millis(chunkLatency);
+        chunks.put("pendingAtEnd", pendingChunks);
+        root.put("chunkLatencyMs", chunks);
+        root.put("bytesInPerPlayerPerSecond", plain(bytesInPerSecond));
+        root.put("bytesOutPerPlayerPerSecond", plain(bytesOutPerSecond));
+        root.put("serverRttMs", plain(rtt));
+        if (framing != null) {
+            Map<String, Object> flushes = new LinkedHashMap<>();
+            flushes.put("flushes", framing.flushes());
+            flushes.put("packetsPerFlush", framing.packetsPerFlush());
+            flushes.put("bytesPerFlush", framing.bytesPerFlush());
+            flushes.put("frames", framing.frames());
+            flushes.put("bundles", framing.bundles());
+            flushes.put("compressedFrames", framing.compressedFrames());
+            flushes.put("payloadBytes", framing.payloadBytes());
+            flushes.put("wireBytes", framing.wireBytes());
+            root.put("serverFraming", flushes);
+        }
+        root.put("actions", Map.of("edits", edits, "chats", chats, "viewChanges", viewChanges));
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), root);
+    }
+
+    private static Map<String, Object> millis(Samples s) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("count", s.count());
+        m.put("mean", s.mean() / 1e6);
+        m.put("p50", s.percentile(50) / 1e6);
+        m.put("p95", s.percentile(95) / 1e6);
+        m.put("p99", s.percentile(99) / 1e6);
+        m.put("max", s.max() / 1e6);
+        return m;
+    }
+
+    private static Map<String, Object> plain(Samples s) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("count", s.count());
+        m.put("mean", s.mean());
+        m.put("p50", s.percentile(50));
+        m.put("p95", s.percentile(95));
+        m.put("max", s.max());
+        return m;
+    }
+}
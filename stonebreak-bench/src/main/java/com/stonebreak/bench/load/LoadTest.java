@@ -0,0 +1,386 @@
+package com.stonebreak.bench.load;
+
+import com.openmason.engine.net.transport.NetAddress;
+import com.stonebreak.core.Game;
+import com.stonebreak.network.MultiplayerSession;
+import com.stonebreak.network.server.IntegratedServer;
+import com.stonebreak.network.server.ServerLevel;
+import com.stonebreak.world.operations.WorldConfiguration;
+import com.stonebreak.world.save.WorldStorage;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Synthetic multiplayer load: N {@link Bot}s join a server over TCP, walk a
+ * {@link Route}, break and place blocks, chat and change view distance, while
+ * the run records server tick duration, chunk-stream latency and bytes per
+ * player per second.
+ *
+ * <pre>
+ * java -cp stonebreak-bench/target/stonebreak-benchmarks.jar \
+ *      com.stonebreak.bench.load.LoadTest --bots 200 --route line --duration 120
+ * </pre>
+ *
+ * By default the server runs in this JVM, headless like a dedicated server,
+ * on loopback — that is what makes tick duration observable. Its world is
+ * {@code loadtest-<seed>}, deleted before every run, and every bot draws from
+ * a generator seeded by the run seed and its index, so two runs with the same
+ * options replay the same joins, paths and edits against the same terrain.
+ * {@code --connect} points the bots at a running server instead; the report
+ * then covers only what the clients can see.
+ *
+ * <p>Tick statistics are split at the end of the join ramp, so the steady
+ * state is read apart from the join burst. The report prints and is written
+ * as JSON ({@code load-result.json} unless {@code --out} says otherwise), to
+ * be kept next to the JMH results.
+ */
+public final class LoadTest {
+
+    private static final long DRIVER_PERIOD_NS = TimeUnit.MILLISECONDS.toNanos(50); // client rate, 20 Hz
+    private static final long MAX_POLL_NS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private static final String USAGE = """
+        Usage: LoadTest [options]
+          --bots <n>              simulated players (default: 50)
+          --duration <s>          steady-state run after the ramp (default: 60)
+          --ramp <s>              spread the joins over this long (default: 10)
+          --route <r>             random | circle | line (default: random)
+          --speed <m/s>           walking speed (default: 4.3)
+          --roam <blocks>         random route turns home past this radius (default: 256)
+          --view <chunks>         bots' view distance (default: 8)
+          --edit-every <s>        mean seconds between place+break pairs, 0 = never (default: 5)
+          --chat-every <s>        mean seconds between chat lines, 0 = never (default: 30)
+          --view-every <s>        mean seconds between view-distance changes, 0 = never (default: 60)
+          --seed <n>              world and bot seed (default: 20260720)
+          --connect <host:port>   load a running server instead of an in-process one
+          --tick-rate <hz>        in-process server tick rate (default: 20)
+          --gen-workers <n>       in-process server generation threads (default: cores / 2)
+          --client-io <n>         IO threads shared by all bots (default: min(4, cores))
+          --out <file>            JSON report path (default: load-result.json)
+        """;
+
+    /** Parsed command line; intervals in nanoseconds, 0 = the action is off. */
+    record Options(int bots, int durationSeconds, int rampSeconds, Route route, float speed,
+                   float roamRadius, int viewDistance, long editIntervalNs, long chatIntervalNs,
+                   long viewChangeIntervalNs, long seed, String connect, int tickRate,
+                   int genWorkers, int clientIoThreads, Path out) {
+
+        /** Returns null for {@code --help}; throws {@link IllegalArgumentException} on bad input. */
+        static Options parse(String[] args) {
+            int bots = 50;
+            int duration = 60;
+            int ramp = 10;
+            Route route = Route.RANDOM;
+            float speed = 4.3f;
+            float roam = 256f;
+            int view = WorldConfiguration.DEFAULT_RENDER_DISTANCE;
+            double editEvery = 5;
+            double chatEvery = 30;
+            double viewEvery = 60;
+            long seed = 20260720L;
+            String connect = null;
+            int tickRate = IntegratedServer.DEFAULT_TICK_RATE;
+            int genWorkers = 0;
+            int clientIo = Math.min(4, Runtime.getRuntime().availableProcessors());
+            Path out = Path.of("load-result.json");
+            for (int i = 0; i < args.length; i++) {
+                String flag = args[i];
+                if (flag.equals("--help") || flag.equals("-h")) {
+                    return null;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + flag);
+                }
+                String value = args[++i].trim();
+                switch (flag) {
+                    case "--bots" -> bots = parseInt(flag, value, 1, 10_000);
+                    case "--duration" -> duration = parseInt(flag, value, 1, 86_400);
+                    case "--ramp" -> ramp = parseInt(flag, value, 0, 3_600);
+                    case "--route" -> route = parseRoute(value);
+                    case "--speed" -> speed = (float) parseDouble(flag, value, 0, 100);
+                    case "--roam" -> roam = (float) parseDouble(flag, value, 16, 100_000);
+                    case "--view" -> view = parseInt(flag, value,
+                        WorldConfiguration.MIN_RENDER_DISTANCE, WorldConfiguration.MAX_RENDER_DISTANCE);
+                    case "--edit-every" -> editEvery = parseDouble(flag, value, 0, 3_600);
+                    case "--chat-every" -> chatEvery = parseDouble(flag, value, 0, 3_600);
+                    case "--view-every" -> viewEvery = parseDouble(flag, value, 0, 3_600);
+                    case "--seed" -> seed = parseLong(flag, value);
+                    case "--connect" -> connect = value;
+                    case "--tick-rate" -> tickRate = parseInt(flag, value, 1, 1000);
+                    case "--gen-workers" -> genWorkers = parseInt(flag, value, 1, 1024);
+                    case "--client-io" -> clientIo = parseInt(flag, value, 1, 1024);
+                    case "--out" -> out = Path.of(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + flag);
+                }
+            }
+            if (connect != null) {
+                parseHostPort(connect); // fail now, not after the ramp has started
+            }
+            return new Options(bots, duration, ramp, route, speed, roam, view, seconds(editEvery),
+                seconds(chatEvery), seconds(viewEvery), seed, connect, tickRate, genWorkers, clientIo, out);
+        }
+
+        boolean inProcess() {
+            return connect == null;
+        }
+
+        String worldName() {
+            return "loadtest-" + seed;
+        }
+
+        WorldConfiguration worldConfiguration() {
+            return genWorkers > 0
+                ? new WorldConfiguration(WorldConfiguration.DEFAULT_RENDER_DISTANCE, genWorkers)
+                : new WorldConfiguration();
+        }
+
+        private static long seconds(double s) {
+            return (long) (s * 1e9);
+        }
+
+        private static Route parseRoute(String value) {
+            try {
+                return Route.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("--route must be random, circle or line, got '" + value + "'");
+            }
+        }
+
+        private static int parseInt(String flag, String value, int min, int max) {
+            int parsed;
+            try {
+                parsed = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(flag + " expects a number, got '" + value + "'");
+            }
+            if (parsed < min || parsed > max) {
+                throw new IllegalArgumentException(flag + " must be " + min + ".." + max + ", got " + parsed);
+            }
+            return parsed;
+        }
+
+        private static double parseDouble(String flag, String value, double min, double max) {
+            double parsed;
+            try {
+                parsed = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(flag + " expects a number, got '" + value + "'");
+            }
+            if (!(parsed >= min && parsed <= max)) {
+                throw new IllegalArgumentException(flag + " must be " + min + ".." + max + ", got " + value);
+            }
+            return parsed;
+        }
+
+        private static long parseLong(String flag, String value) {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(flag + " expects a number, got '" + value + "'");
+            }
+        }
+    }
+
+    private final Options options;
+    private final Samples rampTicks = new Samples();
+    private final Samples steadyTicks = new Samples();
+    private volatile boolean rampDone;
+    private volatile boolean serverRunning = true;
+
+    private LoadTest(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("[LOAD] " + e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (options == null) {
+            System.out.print(USAGE);
+            return;
+        }
+        if (options.inProcess()) {
+            // The in-process server is a dedicated server: no client singleton, no AWT.
+            System.setProperty("java.awt.headless", "true");
+            Game.markHeadless();
+        }
+        LoadReport report = new LoadTest(options).run();
+        report.print(System.out);
+        report.writeJson(options.out());
+        System.out.println("[LOAD] Report written to " + options.out().toAbsolutePath());
+        // Generation and save executors are not all daemons; the run is over.
+        System.exit(0);
+    }
+
+    private LoadReport run() throws Exception {
+        IntegratedServer server = null;
+        Thread serverThread = null;
+        NetAddress target;
+        if (options.inProcess()) {
+            wipeWorld(options.worldName());
+            long bootStart = System.nanoTime();
+            server = new IntegratedServer(options.tickRate(), 0);
+            server.start(null, NetAddress.tcp("127.0.0.1", 0), options.worldName(), options.seed(),
+                options.worldConfiguration());
+            MultiplayerSession.attachDedicated(server);
+            server.setTickObserver(nanos -> (rampDone ? steadyTicks : rampTicks).add(nanos));
+            InetSocketAddress bound = (InetSocketAddress) server.tcpBoundAddress();
+            target = NetAddress.tcp("127.0.0.1", bound.getPort());
+            IntegratedServer live = server;
+            serverThread = Thread.ofPlatform().name("LoadTest-Server").start(() -> serve(live));
+            System.out.println("[LOAD] In-process server on " + bound + " at " + options.tickRate()
+                + " Hz, world '" + options.worldName() + "' — ready in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - bootStart) + " ms");
+        } else {
+            String[] hostPort = parseHostPort(options.connect());
+            target = NetAddress.tcp(hostPort[0], Integer.parseInt(hostPort[1]));
+        }
+
+        EventLoopGroup ioGroup = new NioEventLoopGroup(options.clientIoThreads());
+        List<Bot> bots = new ArrayList<>(options.bots());
+        for (int i = 0; i < options.bots(); i++) {
+            bots.add(new Bot(i, options, ioGroup));
+        }
+        System.out.println("[LOAD] " + options.bots() + " bots, route " + options.route()
+            + ", joining over " + options.rampSeconds() + " s, running " + options.durationSeconds() + " s");
+        long wallStart = System.nanoTime();
+        LoadReport.Framing framing = null;
+        try {
+            drive(bots, target);
+            if (server != null) {
+                framing = LoadReport.Framing.of(server.worldContext().players());
+            }
+        } finally {
+            for (Bot bot : bots) {
+                bot.disconnect();
+            }
+            ioGroup.shutdownGracefully().awaitUninterruptibly(5, TimeUnit.SECONDS);
+            if (server != null) {
+                serverRunning = false;
+                serverThread.join();
+                MultiplayerSession.detachDedicated();
+                ServerLevel level = server.worldContext().serverLevel();
+                server.shutdown();
+                if (level != null) {
+                    level.cleanup();
+                }
+            }
+        }
+        double wallSeconds = (System.nanoTime() - wallStart) / 1e9;
+        return new LoadReport(options, bots, wallSeconds,
+            options.inProcess() ? rampTicks : null, options.inProcess() ? steadyTicks : null, framing);
+    }
+
+    /**
+     * Ticks every bot at the client rate on this thread, connecting each on its slot of
+     * the ramp, until the duration is up.
+     */
+    private void drive(List<Bot> bots, NetAddress target) {
+        long start = System.nanoTime();
+        long rampNs = TimeUnit.SECONDS.toNanos(options.rampSeconds());
+        long endNs = start + rampNs + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+        int connected = 0;
+        long next = start;
+        long last = start;
+        long nextProgress = start + TimeUnit.SECONDS.toNanos(10);
+        while (true) {
+            long now = System.nanoTime();
+            if (now >= endNs) {
+                break;
+            }
+            while (connected < bots.size()
+                    && now - start >= rampNs * connected / Math.max(1, bots.size())) {
+                bots.get(connected++).connect(target);
+            }
+            if (connected == bots.size() && now - start >= rampNs) {
+                rampDone = true;
+            }
+            float dt = (now - last) / 1e9f;
+            last = now;
+            for (Bot bot : bots) {
+                try {
+                    bot.tick(now, dt);
+                } catch (RuntimeException e) {
+                    System.err.println("[LOAD] Bot " + bot.index() + " tick failed: " + e);
+                }
+            }
+            if (now >= nextProgress) {
+                nextProgress += TimeUnit.SECONDS.toNanos(10);
+                long joined = bots.stream().filter(Bot::joined).count();
+                System.out.println("[LOAD] " + TimeUnit.NANOSECONDS.toSeconds(now - start) + " s: "
+                    + joined + "/" + connected + " joined");
+            }
+            next += DRIVER_PERIOD_NS;
+            long wait = next - System.nanoTime();
+            if (wait > 0L) {
+                LockSupport.parkNanos(wait);
+            } else if (-wait > DRIVER_PERIOD_NS * 5) {
+                next = System.nanoTime(); // the driver itself fell behind; don't burst to catch up
+            }
+        }
+    }
+
+    /** The dedicated server's loop: drain at least every 5 ms, otherwise sleep to the next tick. */
+    private void serve(IntegratedServer server) {
+        while (serverRunning) {
+            try {
+                server.tick();
+            } catch (Throwable t) {
+                System.err.println("[LOAD] Server tick error: " + t);
+                t.printStackTrace();
+            }
+            long wait = Math.min(server.nanosUntilNextTick(), MAX_POLL_NS);
+            if (wait > 0L) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+    }
+
+    /** Deletes the scratch world so every run generates the same terrain from scratch. */
+    private static void wipeWorld(String worldName) throws IOException {
+        Path dir = WorldStorage.worldDir(worldName);
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(dir)) {
+            for (Path p : walk.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(p);
+            }
+        }
+    }
+
+    static String[] parseHostPort(String value) {
+        int colon = value.lastIndexOf(':');
+        if (colon <= 0 || colon == value.length() - 1) {
+            throw new IllegalArgumentException("--connect expects host:port, got '" + value + "'");
+        }
+        String port = value.substring(colon + 1);
+        try {
+            int p = Integer.parseInt(port);
+            if (p < 1 || p > 65535) {
+                throw new NumberFormatException();
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--connect port must be 1..65535, got '" + port + "'");
+        }
+        return new String[]{value.substring(0, colon), port};
+    }
+}
@@ -0,0 +1,84 @@
+package com.stonebreak.bench.load;
+
+import java.util.Random;
+
+/**
+ * How a bot moves once it has spawned. Bots fly at the spawn height — they
+ * hold no terrain — so a route only steers x/z.
+ *
+ * <ul>
+ *   <li>{@link #RANDOM} — a wandering heading that turns back toward spawn
+ *       past the roam radius: players milling around a town.</li>
+ *   <li>{@link #CIRCLE} — orbits spawn on one of eight rings, so bots keep
+ *       re-entering chunks other bots already pulled in.</li>
+ *   <li>{@link #LINE} — straight out from spawn on evenly fanned headings:
+ *       every bot explores, the worst case for generation and streaming.</li>
+ * </ul>
+ */
+enum Route {
+    RANDOM, CIRCLE, LINE;
+
+    /** Per-bot route state; all randomness comes from the bot's seeded generator. */
+    static final class Walker {
+        private final Route route;
+        private final Random random;
+        private final float speed;
+        private final float roamRadius;
+        private final float ringRadius;
+        private float heading;
+        private float turnRate;
+        private double nextTurnSeconds;
+        private double elapsedSeconds;
+
+        Walker(Route route, Random random, int botIndex, int botCount, float speed, float roamRadius) {
+            this.route = route;
+            this.random = random;
+            this.speed = speed;
+            this.roamRadius = roamRadius;
+            this.ringRadius = 32f + 16f * (botIndex % 8);
+            this.heading = switch (route) {
+                case LINE -> (float) (Math.PI * 2 * botIndex / Math.max(1, botCount));
+                default -> (float) (random.nextDouble() * Math.PI * 2);
+            };
+        }
+
+        /** Heading in radians, for the yaw the bot reports. */
+        float heading() {
+            return heading;
+        }
+
+        /**
+         * Advances by {@code dt} seconds from the offset ({@code pos[0]}, {@code pos[1]})
+         * relative to spawn, writing the new offset back.
+         */
+        void step(float[] pos, float dt) {
+            elapsedSeconds += dt;
+            float step = speed * dt;
+            switch (route) {
+                case RANDOM -> {
+                    if (elapsedSeconds >= nextTurnSeconds) {
+                        nextTurnSeconds = elapsedSeconds + 2 + random.nextDouble() * 8;
+                        turnRate = (float) ((random.nextDouble() - 0.5) * 1.2);
+                    }
+                    heading += turnRate * dt;
+                    float dist = (float) Math.hypot(pos[0], pos[1]);
+                    if (dist > roamRadius) {
+                        // Head home until back inside; the wander picks up again from there.
+                        heading = (float) Math.atan2(-pos[1], -pos[0]);
+                    }
+                    pos[0] += (float) Math.cos(heading) * step;
+                    pos[1] += (float) Math.sin(heading) * step;
+                }
+                case CIRCLE -> {
+                    heading += step / ringRadius;
+                    pos[0] = (float) Math.cos(heading) * ringRadius;
+                    pos[1] = (float) Math.sin(heading) * ringRadius;
+                }
+                case LINE -> {
+                    pos[0] += (float) Math.cos(heading) * step;
+                    pos[1] += (float) Math.sin(heading) * step;
+                }
+            }
+        }
+    }
+}
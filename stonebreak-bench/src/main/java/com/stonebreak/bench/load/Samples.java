@@ -0,0 +1,73 @@
+package com.stonebreak.bench.load;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of samples — nanoseconds, bytes per second, milliseconds —
+ * with exact percentiles. Load runs record at most a few hundred thousand
+ * values, so keeping them all is cheaper than being clever. Not thread-safe: each instance has one writer,
+ * and is read after that writer has stopped.
+ */
+final class Samples {
+
+    private long[] values = new long[1024];
+    private int count;
+    private boolean sorted = true;
+
+    void add(long value) {
+        if (count == values.length) {
+            values = Arrays.copyOf(values, count * 2);
+        }
+        values[count++] = value;
+        sorted = false;
+    }
+
+    void addAll(Samples other) {
+        for (int i = 0; i < other.count; i++) {
+            add(other.values[i]);
+        }
+    }
+
+    int count() {
+        return count;
+    }
+
+    /** Nearest-rank percentile, {@code p} in [0, 100]; 0 when empty. */
+    long percentile(double p) {
+        if (count == 0) {
+            return 0L;
+        }
+        if (!sorted) {
+            Arrays.sort(values, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * count);
+        return values[Math.clamp(rank - 1, 0, count - 1)];
+    }
+
+    long max() {
+        return percentile(100);
+    }
+
+    double mean() {
+        if (count == 0) {
+            return 0.0;
+        }
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += values[i];
+        }
+        return sum / count;
+    }
+
+    /** How many samples exceed {@code limit}. */
+    int countAbove(long limit) {
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            if (values[i] > limit) {
+                n++;
+            }
+        }
+        return n;
+    }
+}
@@ -0,0 +1,85 @@
+package com.stonebreak.bench.load;
+
+import com.stonebreak.network.packet.handshake.WelcomeS2C;
+import com.stonebreak.network.packet.world.ChunkCachedS2C;
+import com.stonebreak.network.packet.world.ChunkDataS2C;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Taps one bot's TCP pipeline: counts framed bytes each way at the head of
+ * the pipeline, and stamps the welcome and chunk packets the moment they are
+ * decoded — on the IO thread, so chunk latency does not include the wait for
+ * the bot's next tick to drain its inbound queue.
+ */
+final class WireMeter {
+
+    /** A chunk packet as it came off the wire. */
+    record ChunkArrival(int chunkX, int chunkZ, long nanos) {
+    }
+
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final Queue<ChunkArrival> chunkArrivals = new ConcurrentLinkedQueue<>();
+    private volatile long welcomeNanos;
+
+    /** Adds the taps to a freshly connected TCP channel, before anything is sent on it. */
+    void install(Channel channel) {
+        channel.pipeline().addFirst("loadBytes", new ChannelDuplexHandler() {
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+                if (msg instanceof ByteBuf buf) {
+                    bytesIn.add(buf.readableBytes());
+                }
+                super.channelRead(ctx, msg);
+            }
+
+            @Override
+            public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+                if (msg instanceof ByteBuf buf) {
+                    bytesOut.add(buf.readableBytes());
+                }
+                super.write(ctx, msg, promise);
+            }
+        });
+        channel.pipeline().addBefore("handler", "loadChunkClock", new ChannelInboundHandlerAdapter() {
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+                switch (msg) {
+                    case ChunkDataS2C cd -> chunkArrivals.add(new ChunkArrival(cd.chunkX(), cd.chunkZ(), System.nanoTime()));
+                    case ChunkCachedS2C cc -> chunkArrivals.add(new ChunkArrival(cc.chunkX(), cc.chunkZ(), System.nanoTime()));
+                    case WelcomeS2C ignored -> welcomeNanos = System.nanoTime();
+                    default -> {
+                    }
+                }
+                super.channelRead(ctx, msg);
+            }
+        });
+    }
+
+    long bytesIn() {
+        return bytesIn.sum();
+    }
+
+    long bytesOut() {
+        return bytesOut.sum();
+    }
+
+    /** When the welcome was decoded; valid once the bot has drained it. */
+    long welcomeNanos() {
+        return welcomeNanos;
+    }
+
+    /** Next stamped chunk arrival, or null when none are waiting. */
+    ChunkArrival pollChunkArrival() {
+        return chunkArrivals.poll();
+    }
+}
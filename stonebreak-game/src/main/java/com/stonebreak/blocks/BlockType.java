@@ -7,6 +7,7 @@ import com.stonebreak.items.Item;
 import com.stonebreak.items.ItemCategory;
 import com.stonebreak.config.Settings;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -40,6 +41,14 @@ public final class BlockType implements Item, IBlockType {
 
     private static final Map<String, BlockType> BY_NAME = new LinkedHashMap<>();
     private static final Map<Integer, BlockType> BY_ID = new LinkedHashMap<>();
+    /**
+     * Dense mirror of {@link #BY_ID} for the hot path: bulk volume reads turn
+     * every cell id back into a type, and the map would box each one. Replaced
+     * (never mutated) on registration, so readers need no lock.
+     */
+    private static volatile BlockType[] denseById = new BlockType[0];
+    /** Ids at or above this stay map-only. */
+    private static final int DENSE_ID_LIMIT = 4096;
     /**
      * Stable lookup from SBO {@code objectId} (e.g. {@code "stonebreak:dirt"})
      * to the corresponding {@link BlockType}. Populated whenever a block is
@@ -220,6 +229,12 @@ public final class BlockType implements Item, IBlockType {
     private static void registerInternal(BlockType bt) {
         BY_NAME.put(bt.enumName, bt);
         BY_ID.put(bt.id, bt);
+        if (bt.id >= 0 && bt.id < DENSE_ID_LIMIT) {
+            BlockType[] dense = denseById;
+            BlockType[] grown = Arrays.copyOf(dense, Math.max(dense.length, bt.id + 1));
+            grown[bt.id] = bt;
+            denseById = grown;
+        }
     }
 
     // ----- Enum-compat static API -----
@@ -249,6 +264,10 @@ public final class BlockType implements Item, IBlockType {
     }
 
     public static BlockType getById(int id) {
+        BlockType[] dense = denseById;
+        if (id >= 0 && id < dense.length) {
+            return dense[id];
+        }
         return BY_ID.get(id);
     }
 
@@ -373,6 +392,17 @@ public final class BlockType implements Item, IBlockType {
         return this == OAK_STAIRS || this == ELM_STAIRS || this == PINE_STAIRS;
     }
 
+    /**
+     * Snow layers, stair steps and animated blocks (doors) don't collide as a
+     * plain cube — {@link BlockShape} and the caller's door policy decide — so
+     * the collision masks flag their cells for a closer look.
+     */
+    @Override
+    public boolean hasShapedCollision() {
+        return this == SNOW || isStairs()
+            || com.stonebreak.blocks.anim.AnimatedBlockRegistry.isAnimatedType(this);
+    }
+
     /**
      * True for log/trunk blocks — the blocks that anchor leaf canopies. A leaf is
      * "supported" (won't decay) while it remains connected to one of these.
@@ -49,4 +49,26 @@ public interface FlowWorld {
     /** Chunk eviction hook so adapters can drop per-chunk caches. */
     default void onChunkUnloaded(int chunkX, int chunkZ) {
     }
+
+    /**
+     * A view for one region of a parallel tick, or null when this world cannot
+     * be written from worker threads (the sim then stays serial). Views are
+     * reused: {@link RegionView#publish()} resets one for the next tick.
+     */
+    default RegionView openRegionView() {
+        return null;
+    }
+
+    /**
+     * Worker-side view used by {@link ParallelWaterTick}. Reads and block/water
+     * writes go straight to the world — the tick guarantees regions touch
+     * disjoint chunks — while side effects that reach shared state (mesh
+     * dirtying, replication, item drops) are buffered until {@link #publish()},
+     * which the sim thread calls in a fixed region order.
+     */
+    interface RegionView extends FlowWorld {
+
+        /** Replays buffered side effects on the calling thread, then empties the buffer. */
+        void publish();
+    }
 }
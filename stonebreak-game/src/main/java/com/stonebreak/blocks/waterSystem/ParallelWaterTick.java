@@ -0,0 +1,188 @@
+package com.stonebreak.blocks.waterSystem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.openmason.engine.util.LongArrayList;
+import com.openmason.engine.util.LongIntHashMap;
+
+/**
+ * Region-partitioned parallel water tick, the opt-in server mode of
+ * {@link WaterSim} ({@code -Dstonebreak.water.parallel=on}).
+ *
+ * <p>A tick's batch is claimed up front and split by
+ * {@value #REGION_CHUNKS}×{@value #REGION_CHUNKS} chunk regions. A cell is
+ * <em>interior</em> when it sits at least {@value #REACH} blocks from its
+ * region's edge — the furthest one update reads (hole search) or writes — so
+ * interior updates of different regions never touch the same cell, or even
+ * the same chunk. Interior updates run per region on the fork-join pool, in
+ * batch order within the region, through a {@link FlowWorld.RegionView}.
+ * Then, on the calling thread and in the order regions first appeared in
+ * the batch, each region publishes its buffered side effects and hands its
+ * follow-up schedules to the queue. The remaining (border) updates run last,
+ * serially, against the world itself.
+ *
+ * <p>This is not the serial order — border cells see their region's interior
+ * already updated — but nothing depends on thread scheduling, so a given
+ * world and batch always produce the same result.
+ */
+final class ParallelWaterTick {
+
+    static final int REGION_CHUNKS = 2;
+    static final int REGION_BLOCKS = REGION_CHUNKS * 16;
+    static final int REACH = WaterSim.SLOPE_SEARCH_RANGE;
+
+    /** Below this many updates a tick runs serially; the fork-join hop would cost more. */
+    static final int MIN_PARALLEL_BATCH = 64;
+
+    private final WaterSim sim;
+    private final FlowWorld flow;
+    private final ForkJoinPool pool;
+    private final WaterSim.CellUpdater borderUpdater;
+
+    private final LongArrayList batch = new LongArrayList(WaterSim.MAX_UPDATES_PER_TICK);
+    private final LongArrayList border = new LongArrayList();
+    /** Region key → index into {@link #regions} for this tick. */
+    private final LongIntHashMap regionIndex = new LongIntHashMap();
+    /** Pooled regions; the first {@link #activeRegions} are in use this tick. */
+    private final List<Region> regions = new ArrayList<>();
+    private int activeRegions;
+
+    /** {@code firstView} is the view {@link WaterSim#setParallel} opened to check views exist; it becomes region 0's. */
+    ParallelWaterTick(WaterSim sim, FlowWorld flow, int parallelism, FlowWorld.RegionView firstView) {
+        this.sim = sim;
+        this.flow = flow;
+        this.borderUpdater = sim.new CellUpdater(flow, null);
+        regions.add(new Region(sim, firstView));
+        AtomicInteger threadIds = new AtomicInteger();
+        this.pool = new ForkJoinPool(Math.max(1, parallelism), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("WaterTick-" + threadIds.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /** Claims and runs up to {@code budget} due updates. */
+    void run(int budget) {
+        batch.clear();
+        sim.drainDue(budget, batch);
+        if (batch.size() < MIN_PARALLEL_BATCH) {
+            for (int i = 0; i < batch.size(); i++) {
+                borderUpdater.update(batch.get(i));
+            }
+            return;
+        }
+
+        partition();
+        if (activeRegions > 0) {
+            pool.invoke(new RegionBatch(regions, 0, activeRegions));
+        }
+        for (int r = 0; r < activeRegions; r++) {
+            Region region = regions.get(r);
+            region.view.publish();
+            for (int i = 0; i < region.deferred.size(); i++) {
+                sim.enqueue(region.deferred.get(i));
+            }
+        }
+        for (int i = 0; i < border.size(); i++) {
+            borderUpdater.update(border.get(i));
+        }
+    }
+
+    int parallelism() {
+        return pool.getParallelism();
+    }
+
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private void partition() {
+        for (int r = 0; r < activeRegions; r++) {
+            regions.get(r).reset();
+        }
+        activeRegions = 0;
+        regionIndex.clear();
+        border.clear();
+
+        for (int i = 0; i < batch.size(); i++) {
+            long posKey = batch.get(i);
+            int x = WaterSim.unpackX(posKey);
+            int z = WaterSim.unpackZ(posKey);
+            if (!isInterior(Math.floorMod(x, REGION_BLOCKS)) || !isInterior(Math.floorMod(z, REGION_BLOCKS))) {
+                border.add(posKey);
+                continue;
+            }
+            long key = regionKey(Math.floorDiv(x, REGION_BLOCKS), Math.floorDiv(z, REGION_BLOCKS));
+            int index = regionIndex.get(key, -1);
+            if (index < 0) {
+                index = activeRegions++;
+                regionIndex.put(key, index);
+                if (index == regions.size()) {
+                    regions.add(new Region(sim, flow.openRegionView()));
+                }
+            }
+            regions.get(index).updates.add(posKey);
+        }
+    }
+
+    private static boolean isInterior(int local) {
+        return local >= REACH && local < REGION_BLOCKS - REACH;
+    }
+
+    private static long regionKey(int regionX, int regionZ) {
+        return ((long) regionX << 32) | (regionZ & 0xFFFFFFFFL);
+    }
+
+    /** One region's share of a tick, with its own view and rule evaluator. */
+    private static final class Region {
+        final LongArrayList updates = new LongArrayList();
+        final LongArrayList deferred = new LongArrayList();
+        final FlowWorld.RegionView view;
+        final WaterSim.CellUpdater updater;
+
+        Region(WaterSim sim, FlowWorld.RegionView view) {
+            this.view = view;
+            this.updater = sim.new CellUpdater(view, deferred);
+        }
+
+        void tick() {
+            for (int i = 0; i < updates.size(); i++) {
+                updater.update(updates.get(i));
+            }
+        }
+
+        void reset() {
+            updates.clear();
+            deferred.clear();
+        }
+    }
+
+    /** Splits the active regions in halves down to single regions. */
+    private static final class RegionBatch extends RecursiveAction {
+        private final List<Region> regions;
+        private final int from;
+        private final int to;
+
+        RegionBatch(List<Region> regions, int from, int to) {
+            this.regions = regions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                regions.get(from).tick();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RegionBatch(regions, from, mid), new RegionBatch(regions, mid, to));
+        }
+    }
+}
@@ -1,13 +1,11 @@
 package com.stonebreak.blocks.waterSystem;
 
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Map;
 import java.util.Objects;
-import java.util.PriorityQueue;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
+import com.openmason.engine.util.LongArrayList;
+import com.openmason.engine.util.LongIntHashMap;
 import com.stonebreak.blocks.BlockType;
 import com.stonebreak.blocks.waterSystem.handlers.FlowBlockInteraction;
 import com.stonebreak.world.chunk.Chunk;
@@ -26,6 +24,16 @@ import com.stonebreak.world.operations.WorldConfiguration;
  * seeks holes up to {@value #SLOPE_SEARCH_RANGE} blocks away, and a flowing
  * cell flanked by two sources over solid ground becomes a source itself.
  *
+ * <p>Every update is scheduled exactly {@value #FLOW_DELAY} ticks out, so the
+ * queue is a timing wheel of primitive position lists rather than a priority
+ * queue of boxed entries: a tick drains one slot, and a breach that wakes
+ * thousands of cells allocates nothing once the lists have grown. Updates
+ * still run in the order they were scheduled.
+ *
+ * <p>Optionally ({@link #setParallel}) a tick's batch is split into
+ * chunk-aligned regions whose interior cells update on a worker pool; see
+ * {@link ParallelWaterTick}. Results are deterministic either way.
+ *
  * <p>Runs only on authoritative worlds — render-only (multiplayer client)
  * worlds never tick this engine or feed it block changes; they display
  * replicated layer values.
@@ -38,11 +46,18 @@ public final class WaterSim {
     /** How far flowing water scans for a hole to prefer flowing toward. */
     public static final int SLOPE_SEARCH_RANGE = 4;
 
-    private static final int MAX_UPDATES_PER_TICK = 256;
+    /**
+     * Updates per logical tick before the rest carry over to the next tick. Sized so
+     * a large breach front keeps the vanilla cadence instead of backing up the wheel.
+     */
+    static final int MAX_UPDATES_PER_TICK = 1024;
     private static final int MAX_TICKS_PER_FRAME = 2;
     private static final float TICK_INTERVAL = 1.0f / 20.0f;
     private static final int NO_HOLE = Integer.MAX_VALUE;
 
+    /** Wheel size: the smallest power of two strictly greater than {@link #FLOW_DELAY}. */
+    private static final int WHEEL_SLOTS = Integer.highestOneBit(FLOW_DELAY) << 1;
+
     /** Sentinel "state" values shared with the layer encoding (0..8) plus EMPTY. */
     private static final int SOURCE = ChunkWaterLayer.SOURCE;
     private static final int FALLING = ChunkWaterLayer.FALLING;
@@ -52,20 +67,35 @@ public final class WaterSim {
     private static final int[][] HORIZONTALS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
 
     private final FlowWorld flow;
+    private final CellUpdater serialUpdater;
 
-    private final PriorityQueue<ScheduledUpdate> pendingUpdates = new PriorityQueue<>(
-        (a, b) -> a.scheduledTick() != b.scheduledTick()
-            ? Long.compare(a.scheduledTick(), b.scheduledTick())
-            : Long.compare(a.sequence(), b.sequence()));
-    private final Map<Long, Long> scheduledTicks = new ConcurrentHashMap<>();
+    /**
+     * Guards the wheel, the due list, the due-tick map and {@link #logicalTick}:
+     * chunk-load listeners schedule from loader threads while the sim drains.
+     */
+    private final Object queueLock = new Object();
+    private final LongArrayList[] wheel = new LongArrayList[WHEEL_SLOTS];
+    /** Entries whose tick has come, oldest first: the current slot plus budget carry-over. */
+    private final LongArrayList due = new LongArrayList(MAX_UPDATES_PER_TICK);
+    /**
+     * Position → tick its live entry is due. A list entry whose position maps to a later
+     * tick (or is absent) is stale and skipped when drained.
+     */
+    private final LongIntHashMap scheduledTicks = new LongIntHashMap();
     private final Set<Long> scannedChunks = new HashSet<>();
 
     private float tickAccumulator;
-    private long logicalTick;
-    private long sequenceCounter;
+    /** Ticks wrap; compare by difference only. */
+    private int logicalTick;
+
+    private ParallelWaterTick parallel;
 
     public WaterSim(FlowWorld flow) {
         this.flow = Objects.requireNonNull(flow, "flow");
+        this.serialUpdater = new CellUpdater(flow, null);
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel[i] = new LongArrayList();
+        }
     }
 
     // ===== Tick driving =====
@@ -88,21 +118,65 @@ public final class WaterSim {
     /** Advances whole logical ticks directly — deterministic driver for tests. */
     public void advanceTicks(int ticks) {
         for (int i = 0; i < ticks; i++) {
-            logicalTick++;
-            processQueue(MAX_UPDATES_PER_TICK);
+            synchronized (queueLock) {
+                logicalTick++;
+                LongArrayList slot = wheel[logicalTick & (WHEEL_SLOTS - 1)];
+                due.addAll(slot);
+                slot.clear();
+            }
+            if (parallel != null) {
+                parallel.run(MAX_UPDATES_PER_TICK);
+            } else {
+                processQueue(MAX_UPDATES_PER_TICK);
+            }
             flow.onTickComplete();
         }
     }
 
     public int getQueuedUpdateCount() {
-        return scheduledTicks.size();
+        synchronized (queueLock) {
+            return scheduledTicks.size();
+        }
+    }
+
+    /**
+     * Switches region-parallel ticking on with {@code threads} workers, or back to
+     * serial with {@code threads <= 1}. Stays serial when the flow world cannot
+     * provide region views. Call from the thread that ticks the sim.
+     *
+     * @return whether the sim now ticks in parallel
+     */
+    public boolean setParallel(int threads) {
+        if (parallel != null) {
+            parallel.shutdown();
+            parallel = null;
+        }
+        if (threads <= 1) {
+            return false;
+        }
+        FlowWorld.RegionView firstView = flow.openRegionView();
+        if (firstView == null) {
+            System.err.println("[WATER-SIM] Flow world has no region views; parallel tick disabled");
+            return false;
+        }
+        parallel = new ParallelWaterTick(this, flow, threads, firstView);
+        return true;
+    }
+
+    public boolean isParallel() {
+        return parallel != null;
+    }
+
+    /** Worker count of the parallel tick; 0 while ticking serially. */
+    public int parallelThreads() {
+        return parallel != null ? parallel.parallelism() : 0;
     }
 
     // ===== External triggers =====
 
     /** Schedules a position for evaluation after the standard flow delay. */
     public void schedule(int x, int y, int z) {
-        enqueue(packKey(x, y, z), FLOW_DELAY);
+        enqueue(packKey(x, y, z));
     }
 
     /**
@@ -118,7 +192,7 @@ public final class WaterSim {
         if (next == BlockType.WATER) {
             schedule(x, y, z);
         }
-        scheduleWaterNeighbors(packKey(x, y, z));
+        serialUpdater.scheduleWaterNeighbors(packKey(x, y, z));
     }
 
     /**
@@ -185,7 +259,10 @@ public final class WaterSim {
             || (lz < WorldConfiguration.CHUNK_SIZE - 1 && reader.isAir(lx, y, lz + 1));
     }
 
-    /** Drops pending work for an unloading chunk. The water layer leaves with the chunk. */
+    /**
+     * Drops pending work for an unloading chunk. The water layer leaves with the chunk;
+     * wheel entries for it go stale and are skipped when drained.
+     */
     public void onChunkUnloaded(Chunk chunk) {
         if (chunk == null) {
             return;
@@ -194,16 +271,9 @@ public final class WaterSim {
         int chunkZ = chunk.getChunkZ();
         scannedChunks.remove(chunkKey(chunkX, chunkZ));
 
-        synchronized (pendingUpdates) {
-            Iterator<ScheduledUpdate> it = pendingUpdates.iterator();
-            while (it.hasNext()) {
-                ScheduledUpdate update = it.next();
-                if (update != null && isInChunk(update.posKey(), chunkX, chunkZ)) {
-                    it.remove();
-                }
-            }
+        synchronized (queueLock) {
+            scheduledTicks.removeIf(posKey -> isInChunk(posKey, chunkX, chunkZ));
         }
-        scheduledTicks.keySet().removeIf(posKey -> isInChunk(posKey, chunkX, chunkZ));
         flow.onChunkUnloaded(chunkX, chunkZ);
     }
 
@@ -211,218 +281,319 @@ public final class WaterSim {
 
     private void processQueue(int budget) {
         int processed = 0;
+        int cursor = 0;
         while (processed < budget) {
-            ScheduledUpdate next;
-            synchronized (pendingUpdates) {
-                next = pendingUpdates.peek();
-                if (next == null || next.scheduledTick() > logicalTick) {
+            long posKey;
+            synchronized (queueLock) {
+                if (cursor >= due.size()) {
                     break;
                 }
-                pendingUpdates.poll();
-            }
-            Long tracked = scheduledTicks.get(next.posKey());
-            if (tracked == null || tracked != next.scheduledTick()) {
-                continue; // superseded by an earlier reschedule
+                posKey = due.get(cursor++);
+                if (!claim(posKey)) {
+                    continue; // superseded, or its chunk unloaded
+                }
             }
-            scheduledTicks.remove(next.posKey());
-            onScheduledUpdate(next.posKey());
+            serialUpdater.update(posKey);
             processed++;
         }
+        synchronized (queueLock) {
+            due.removeFirst(cursor);
+        }
     }
 
-    private void enqueue(long posKey, int delayTicks) {
-        if (!isWithinWorld(unpackY(posKey))) {
-            return;
-        }
-        long scheduledTick = logicalTick + Math.max(0, delayTicks);
-        Long existing = scheduledTicks.get(posKey);
-        if (existing != null && existing <= scheduledTick) {
-            return;
-        }
-        scheduledTicks.put(posKey, scheduledTick);
-        synchronized (pendingUpdates) {
-            pendingUpdates.add(new ScheduledUpdate(posKey, scheduledTick, sequenceCounter++));
+    /**
+     * Moves up to {@code budget} live due positions into {@code out}, in schedule
+     * order, and retires them. Parallel ticks claim their whole batch up front.
+     */
+    void drainDue(int budget, LongArrayList out) {
+        synchronized (queueLock) {
+            int cursor = 0;
+            while (out.size() < budget && cursor < due.size()) {
+                long posKey = due.get(cursor++);
+                if (claim(posKey)) {
+                    out.add(posKey);
+                }
+            }
+            due.removeFirst(cursor);
         }
     }
 
-    /** Schedules the six orthogonal neighbors that currently hold water. */
-    private void scheduleWaterNeighbors(long posKey) {
-        for (int[] dir : HORIZONTALS) {
-            scheduleIfWater(keyOffset(posKey, dir[0], 0, dir[1]));
+    /** Retires a drained entry if it is the position's live one. Caller holds the lock. */
+    private boolean claim(long posKey) {
+        int dueTick = scheduledTicks.get(posKey, logicalTick + 1);
+        if (dueTick - logicalTick > 0) {
+            return false;
         }
-        scheduleIfWater(keyOffset(posKey, 0, 1, 0));
-        scheduleIfWater(keyOffset(posKey, 0, -1, 0));
+        scheduledTicks.remove(posKey);
+        return true;
     }
 
-    private void scheduleIfWater(long posKey) {
-        if (isWithinWorld(unpackY(posKey)) && blockAt(posKey) == BlockType.WATER) {
-            enqueue(posKey, FLOW_DELAY);
+    void enqueue(long posKey) {
+        if (!isWithinWorld(unpackY(posKey))) {
+            return;
+        }
+        synchronized (queueLock) {
+            int dueTick = logicalTick + FLOW_DELAY;
+            if (scheduledTicks.get(posKey, dueTick + 1) - dueTick <= 0) {
+                return; // already due no later than this
+            }
+            scheduledTicks.put(posKey, dueTick);
+            wheel[dueTick & (WHEEL_SLOTS - 1)].add(posKey);
         }
     }
 
     // ===== The vanilla update =====
 
     /**
-     * Full update of one cell: recompute the state of non-source water from
-     * its neighbors (dissipation, falling transitions, infinite-source rule),
-     * then spread — down as falling water when the cell below is flowable,
-     * otherwise horizontally toward the nearest hole.
+     * The vanilla rules for one cell against one {@link FlowWorld}. The serial tick
+     * uses a single instance over the world itself; parallel ticks use one per region
+     * over that region's view, with follow-up schedules collected in {@code deferred}
+     * so the shared queue is only touched from the sim thread.
      */
-    private void onScheduledUpdate(long posKey) {
-        if (blockAt(posKey) != BlockType.WATER) {
-            return; // stale — Chunk.setBlock already cleared any layer entry
+    final class CellUpdater {
+
+        private final FlowWorld flow;
+        private final LongArrayList deferred;
+
+        CellUpdater(FlowWorld flow, LongArrayList deferred) {
+            this.flow = flow;
+            this.deferred = deferred;
         }
 
-        int state = waterAt(posKey);
+        /**
+         * Full update of one cell: recompute the state of non-source water from
+         * its neighbors (dissipation, falling transitions, infinite-source rule),
+         * then spread — down as falling water when the cell below is flowable,
+         * otherwise horizontally toward the nearest hole.
+         */
+        void update(long posKey) {
+            if (blockAt(posKey) != BlockType.WATER) {
+                return; // stale — Chunk.setBlock already cleared any layer entry
+            }
+
+            int state = waterAt(posKey);
+
+            if (state != SOURCE) {
+                int desired = computeState(posKey);
+                if (desired == EMPTY) {
+                    setBlockAt(posKey, BlockType.AIR);
+                    markChanged(posKey, SOURCE);
+                    scheduleWaterNeighbors(posKey);
+                    return;
+                }
+                if (desired != state) {
+                    setWaterAt(posKey, desired);
+                    markChanged(posKey, desired);
+                    scheduleWaterNeighbors(posKey);
+                    schedule(posKey); // keep advancing (e.g. landed column starts spreading)
+                    state = desired;
+                }
+            }
+
+            long below = keyOffset(posKey, 0, -1, 0);
+            if (canFlowInto(below)) {
+                fill(below, FALLING);
+                return; // water pouring down never spreads sideways
+            }
 
-        if (state != SOURCE) {
-            int desired = computeState(posKey);
-            if (desired == EMPTY) {
-                setBlockAt(posKey, BlockType.AIR);
-                markChanged(posKey, SOURCE);
-                scheduleWaterNeighbors(posKey);
+            int spreadLevel = effectiveLevel(state) + 1; // source & landed falling → 1 (full strength)
+            if (spreadLevel > MAX_LEVEL) {
                 return;
             }
-            if (desired != state) {
-                setWaterAt(posKey, desired);
-                markChanged(posKey, desired);
-                scheduleWaterNeighbors(posKey);
-                enqueue(posKey, FLOW_DELAY); // keep advancing (e.g. landed column starts spreading)
-                state = desired;
+            int dirMask = pickFlowDirections(posKey);
+            for (int i = 0; i < HORIZONTALS.length; i++) {
+                if ((dirMask & (1 << i)) == 0) {
+                    continue;
+                }
+                long neighbor = keyOffset(posKey, HORIZONTALS[i][0], 0, HORIZONTALS[i][1]);
+                fill(neighbor, spreadLevel);
             }
         }
 
-        long below = keyOffset(posKey, 0, -1, 0);
-        if (canFlowInto(below)) {
-            fill(below, FALLING);
-            return; // water pouring down never spreads sideways
-        }
+        /**
+         * Desired state of a non-source cell derived from its neighbors:
+         * water above → falling; otherwise min horizontal supply + 1, drying up
+         * when nothing within reach supplies it. A falling neighbor supplies at
+         * full strength (vanilla: falling = amount 8) but never counts as a source,
+         * and the infinite-source rule needs solid ground or a source below —
+         * together these keep waterfall bases from minting sources.
+         */
+        private int computeState(long posKey) {
+            int sourceNeighbors = 0;
+            int minNeighbor = Integer.MAX_VALUE;
+            for (int[] dir : HORIZONTALS) {
+                long neighbor = keyOffset(posKey, dir[0], 0, dir[1]);
+                int neighborState = waterAt(neighbor);
+                if (neighborState == EMPTY) {
+                    continue;
+                }
+                if (neighborState == SOURCE) {
+                    sourceNeighbors++;
+                }
+                minNeighbor = Math.min(minNeighbor, effectiveLevel(neighborState));
+            }
 
-        int spreadLevel = effectiveLevel(state) + 1; // source & landed falling → 1 (full strength)
-        if (spreadLevel > MAX_LEVEL) {
-            return;
+            long belowKey = keyOffset(posKey, 0, -1, 0);
+            if (sourceNeighbors >= 2
+                && (isSolidAt(belowKey) || waterAt(belowKey) == SOURCE)) {
+                return SOURCE;
+            }
+
+            if (waterAt(keyOffset(posKey, 0, 1, 0)) != EMPTY) {
+                return FALLING;
+            }
+
+            if (minNeighbor == Integer.MAX_VALUE || minNeighbor + 1 > MAX_LEVEL) {
+                return EMPTY;
+            }
+            return minNeighbor + 1;
         }
-        int dirMask = pickFlowDirections(posKey);
-        for (int i = 0; i < HORIZONTALS.length; i++) {
-            if ((dirMask & (1 << i)) == 0) {
-                continue;
+
+        /**
+         * Flows water into a cell if the candidate state is strictly stronger than
+         * what is there. Breaks fragile blocks, writes WATER into the block array
+         * when needed, and schedules the cell's own update.
+         */
+        private void fill(long posKey, int candidate) {
+            if (!canFlowInto(posKey)) {
+                return;
+            }
+            BlockType block = blockAt(posKey);
+            if (block == BlockType.WATER && effectiveLevel(candidate) >= effectiveLevel(waterAt(posKey))) {
+                return;
             }
-            long neighbor = keyOffset(posKey, HORIZONTALS[i][0], 0, HORIZONTALS[i][1]);
-            fill(neighbor, spreadLevel);
+
+            if (FlowBlockInteraction.isFragile(block)) {
+                flow.dropFragile(unpackX(posKey), unpackY(posKey), unpackZ(posKey), block);
+            }
+            if (block != BlockType.WATER) {
+                setBlockAt(posKey, BlockType.WATER);
+            }
+            setWaterAt(posKey, candidate);
+            markChanged(posKey, candidate);
+            schedule(posKey);
+        }
+
+        // ===== Hole-seeking =====
+
+        /**
+         * Returns a bitmask over {@link #HORIZONTALS} of the directions water at
+         * this cell should spread: the direction(s) with the shortest path (≤
+         * {@value #SLOPE_SEARCH_RANGE}) to a hole, or every flowable direction
+         * when no hole is within range.
+         */
+        private int pickFlowDirections(long posKey) {
+            int bestDistance = NO_HOLE;
+            int mask = 0;
+            for (int i = 0; i < HORIZONTALS.length; i++) {
+                long neighbor = keyOffset(posKey, HORIZONTALS[i][0], 0, HORIZONTALS[i][1]);
+                if (!canFlowInto(neighbor)) {
+                    continue;
+                }
+                int distance = isHole(neighbor) ? 0 : slopeDistance(neighbor, 1, i);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    mask = 1 << i;
+                } else if (distance == bestDistance) {
+                    mask |= 1 << i;
+                }
+            }
+            return mask;
         }
-    }
 
-    /**
-     * Desired state of a non-source cell derived from its neighbors:
-     * water above → falling; otherwise min horizontal supply + 1, drying up
-     * when nothing within reach supplies it. A falling neighbor supplies at
-     * full strength (vanilla: falling = amount 8) but never counts as a source,
-     * and the infinite-source rule needs solid ground or a source below —
-     * together these keep waterfall bases from minting sources.
-     */
-    private int computeState(long posKey) {
-        int sourceNeighbors = 0;
-        int minNeighbor = Integer.MAX_VALUE;
-        for (int[] dir : HORIZONTALS) {
-            long neighbor = keyOffset(posKey, dir[0], 0, dir[1]);
-            int neighborState = waterAt(neighbor);
-            if (neighborState == EMPTY) {
-                continue;
+        /** Shortest hop count to a hole reachable through flowable cells, or NO_HOLE. */
+        private int slopeDistance(long posKey, int distance, int fromDirection) {
+            if (distance >= SLOPE_SEARCH_RANGE) {
+                return NO_HOLE;
             }
-            if (neighborState == SOURCE) {
-                sourceNeighbors++;
+            int best = NO_HOLE;
+            for (int i = 0; i < HORIZONTALS.length; i++) {
+                if (isOpposite(i, fromDirection)) {
+                    continue;
+                }
+                long next = keyOffset(posKey, HORIZONTALS[i][0], 0, HORIZONTALS[i][1]);
+                if (!canFlowInto(next)) {
+                    continue;
+                }
+                if (isHole(next)) {
+                    return distance;
+                }
+                best = Math.min(best, slopeDistance(next, distance + 1, i));
             }
-            minNeighbor = Math.min(minNeighbor, effectiveLevel(neighborState));
+            return best;
         }
 
-        long belowKey = keyOffset(posKey, 0, -1, 0);
-        if (sourceNeighbors >= 2
-            && (isSolidAt(belowKey) || waterAt(belowKey) == SOURCE)) {
-            return SOURCE;
+        /** Whether water occupying this cell could fall out of it. */
+        private boolean isHole(long posKey) {
+            return canFlowInto(keyOffset(posKey, 0, -1, 0));
         }
 
-        if (waterAt(keyOffset(posKey, 0, 1, 0)) != EMPTY) {
-            return FALLING;
+        // ===== Cell predicates =====
+
+        /** Whether water may flow into the cell: loaded, displaceable, and not a source. */
+        private boolean canFlowInto(long posKey) {
+            int y = unpackY(posKey);
+            if (!isWithinWorld(y) || !flow.isLoaded(unpackX(posKey), y, unpackZ(posKey))) {
+                return false;
+            }
+            BlockType block = blockAt(posKey);
+            if (!FlowBlockInteraction.canDisplace(block)) {
+                return false;
+            }
+            return !(block == BlockType.WATER && waterAt(posKey) == SOURCE);
         }
 
-        if (minNeighbor == Integer.MAX_VALUE || minNeighbor + 1 > MAX_LEVEL) {
-            return EMPTY;
+        /** Water state at the cell: EMPTY when not water, else the layer value. */
+        private int waterAt(long posKey) {
+            if (!isWithinWorld(unpackY(posKey)) || blockAt(posKey) != BlockType.WATER) {
+                return EMPTY;
+            }
+            return flow.getWater(unpackX(posKey), unpackY(posKey), unpackZ(posKey));
         }
-        return minNeighbor + 1;
-    }
 
-    /**
-     * Flows water into a cell if the candidate state is strictly stronger than
-     * what is there. Breaks fragile blocks, writes WATER into the block array
-     * when needed, and schedules the cell's own update.
-     */
-    private void fill(long posKey, int candidate) {
-        if (!canFlowInto(posKey)) {
-            return;
+        private BlockType blockAt(long posKey) {
+            return flow.getBlock(unpackX(posKey), unpackY(posKey), unpackZ(posKey));
         }
-        BlockType block = blockAt(posKey);
-        if (block == BlockType.WATER && effectiveLevel(candidate) >= effectiveLevel(waterAt(posKey))) {
-            return;
+
+        private void setBlockAt(long posKey, BlockType type) {
+            flow.setBlock(unpackX(posKey), unpackY(posKey), unpackZ(posKey), type);
         }
 
-        if (FlowBlockInteraction.isFragile(block)) {
-            flow.dropFragile(unpackX(posKey), unpackY(posKey), unpackZ(posKey), block);
+        private void setWaterAt(long posKey, int value) {
+            flow.setWater(unpackX(posKey), unpackY(posKey), unpackZ(posKey), value);
         }
-        if (block != BlockType.WATER) {
-            setBlockAt(posKey, BlockType.WATER);
+
+        private void markChanged(long posKey, int newValue) {
+            flow.markWaterChanged(unpackX(posKey), unpackY(posKey), unpackZ(posKey), newValue);
         }
-        setWaterAt(posKey, candidate);
-        markChanged(posKey, candidate);
-        enqueue(posKey, FLOW_DELAY);
-    }
 
-    // ===== Hole-seeking =====
+        private boolean isSolidAt(long posKey) {
+            return isWithinWorld(unpackY(posKey))
+                && flow.isSolid(unpackX(posKey), unpackY(posKey), unpackZ(posKey));
+        }
 
-    /**
-     * Returns a bitmask over {@link #HORIZONTALS} of the directions water at
-     * this cell should spread: the direction(s) with the shortest path (≤
-     * {@value #SLOPE_SEARCH_RANGE}) to a hole, or every flowable direction
-     * when no hole is within range.
-     */
-    private int pickFlowDirections(long posKey) {
-        int bestDistance = NO_HOLE;
-        int mask = 0;
-        for (int i = 0; i < HORIZONTALS.length; i++) {
-            long neighbor = keyOffset(posKey, HORIZONTALS[i][0], 0, HORIZONTALS[i][1]);
-            if (!canFlowInto(neighbor)) {
-                continue;
-            }
-            int distance = isHole(neighbor) ? 0 : slopeDistance(neighbor, 1, i);
-            if (distance < bestDistance) {
-                bestDistance = distance;
-                mask = 1 << i;
-            } else if (distance == bestDistance) {
-                mask |= 1 << i;
+        private void schedule(long posKey) {
+            if (deferred != null) {
+                deferred.add(posKey);
+            } else {
+                enqueue(posKey);
             }
         }
-        return mask;
-    }
 
-    /** Shortest hop count to a hole reachable through flowable cells, or NO_HOLE. */
-    private int slopeDistance(long posKey, int distance, int fromDirection) {
-        if (distance >= SLOPE_SEARCH_RANGE) {
-            return NO_HOLE;
-        }
-        int best = NO_HOLE;
-        for (int i = 0; i < HORIZONTALS.length; i++) {
-            if (isOpposite(i, fromDirection)) {
-                continue;
-            }
-            long next = keyOffset(posKey, HORIZONTALS[i][0], 0, HORIZONTALS[i][1]);
-            if (!canFlowInto(next)) {
-                continue;
+        /** Schedules the six orthogonal neighbors that currently hold water. */
+        void scheduleWaterNeighbors(long posKey) {
+            for (int[] dir : HORIZONTALS) {
+                scheduleIfWater(keyOffset(posKey, dir[0], 0, dir[1]));
             }
-            if (isHole(next)) {
-                return distance;
+            scheduleIfWater(keyOffset(posKey, 0, 1, 0));
+            scheduleIfWater(keyOffset(posKey, 0, -1, 0));
+        }
+
+        private void scheduleIfWater(long posKey) {
+            if (isWithinWorld(unpackY(posKey)) && blockAt(posKey) == BlockType.WATER) {
+                schedule(posKey);
             }
-            best = Math.min(best, slopeDistance(next, distance + 1, i));
         }
-        return best;
     }
 
     private static boolean isOpposite(int dirA, int dirB) {
@@ -430,65 +601,16 @@ public final class WaterSim {
         return (dirA ^ 1) == dirB && (dirA / 2) == (dirB / 2);
     }
 
-    /** Whether water occupying this cell could fall out of it. */
-    private boolean isHole(long posKey) {
-        return canFlowInto(keyOffset(posKey, 0, -1, 0));
-    }
-
-    // ===== Cell predicates =====
-
-    /** Whether water may flow into the cell: loaded, displaceable, and not a source. */
-    private boolean canFlowInto(long posKey) {
-        int y = unpackY(posKey);
-        if (!isWithinWorld(y) || !flow.isLoaded(unpackX(posKey), y, unpackZ(posKey))) {
-            return false;
-        }
-        BlockType block = blockAt(posKey);
-        if (!FlowBlockInteraction.canDisplace(block)) {
-            return false;
-        }
-        return !(block == BlockType.WATER && waterAt(posKey) == SOURCE);
-    }
-
-    /** Water state at the cell: EMPTY when not water, else the layer value. */
-    private int waterAt(long posKey) {
-        if (!isWithinWorld(unpackY(posKey)) || blockAt(posKey) != BlockType.WATER) {
-            return EMPTY;
-        }
-        return flow.getWater(unpackX(posKey), unpackY(posKey), unpackZ(posKey));
-    }
-
     /** Horizontal flow strength: sources and falling columns are full strength (0). */
     private static int effectiveLevel(int state) {
         return state == FALLING ? 0 : state;
     }
 
-    private BlockType blockAt(long posKey) {
-        return flow.getBlock(unpackX(posKey), unpackY(posKey), unpackZ(posKey));
-    }
-
-    private void setBlockAt(long posKey, BlockType type) {
-        flow.setBlock(unpackX(posKey), unpackY(posKey), unpackZ(posKey), type);
-    }
-
-    private void setWaterAt(long posKey, int value) {
-        flow.setWater(unpackX(posKey), unpackY(posKey), unpackZ(posKey), value);
-    }
-
-    private void markChanged(long posKey, int newValue) {
-        flow.markWaterChanged(unpackX(posKey), unpackY(posKey), unpackZ(posKey), newValue);
-    }
-
-    private boolean isSolidAt(long posKey) {
-        return isWithinWorld(unpackY(posKey))
-            && flow.isSolid(unpackX(posKey), unpackY(posKey), unpackZ(posKey));
-    }
-
     private static boolean isWithinWorld(int y) {
         return y >= 0 && y < WorldConfiguration.WORLD_HEIGHT;
     }
 
-    private static boolean isInChunk(long posKey, int chunkX, int chunkZ) {
+    static boolean isInChunk(long posKey, int chunkX, int chunkZ) {
         return Math.floorDiv(unpackX(posKey), WorldConfiguration.CHUNK_SIZE) == chunkX
             && Math.floorDiv(unpackZ(posKey), WorldConfiguration.CHUNK_SIZE) == chunkZ;
     }
@@ -511,23 +633,23 @@ public final class WaterSim {
     private static final int Y_SIGN_BIT = 0x00008000;
     private static final int Y_SIGN_EXT = 0xFFFF0000;
 
-    private static long packKey(int x, int y, int z) {
+    static long packKey(int x, int y, int z) {
         return ((long) (x & 0xFFFFFF) << X_SHIFT)
              | ((long) (z & 0xFFFFFF) << Z_SHIFT)
              | (y & Y_MASK);
     }
 
-    private static int unpackX(long key) {
+    static int unpackX(long key) {
         int x = (int) ((key >>> X_SHIFT) & XZ_MASK);
         return (x & XZ_SIGN_BIT) != 0 ? x | XZ_SIGN_EXT : x;
     }
 
-    private static int unpackY(long key) {
+    static int unpackY(long key) {
         int y = (int) (key & Y_MASK);
         return (y & Y_SIGN_BIT) != 0 ? y | Y_SIGN_EXT : y;
     }
 
-    private static int unpackZ(long key) {
+    static int unpackZ(long key) {
         int z = (int) ((key >>> Z_SHIFT) & XZ_MASK);
         return (z & XZ_SIGN_BIT) != 0 ? z | XZ_SIGN_EXT : z;
     }
@@ -535,7 +657,4 @@ public final class WaterSim {
     private static long keyOffset(long key, int dx, int dy, int dz) {
         return packKey(unpackX(key) + dx, unpackY(key) + dy, unpackZ(key) + dz);
     }
-
-    private record ScheduledUpdate(long posKey, long scheduledTick, long sequence) {
-    }
 }
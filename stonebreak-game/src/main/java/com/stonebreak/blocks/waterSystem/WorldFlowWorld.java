@@ -1,5 +1,6 @@
 package com.stonebreak.blocks.waterSystem;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -47,6 +48,10 @@ public final class WorldFlowWorld implements FlowWorld {
         }
         chunk.setBlock(Math.floorMod(x, WorldConfiguration.CHUNK_SIZE), y,
                        Math.floorMod(z, WorldConfiguration.CHUNK_SIZE), type);
+        reportBlock(x, y, z, type);
+    }
+
+    private void reportBlock(int x, int y, int z, BlockType type) {
         markDirty(x, z);
 
         // Report the mutation to the integrated server's replication funnel
@@ -128,6 +133,11 @@ public final class WorldFlowWorld implements FlowWorld {
         access.onChunkUnloaded(chunkX, chunkZ);
     }
 
+    @Override
+    public RegionView openRegionView() {
+        return new BufferedRegionView();
+    }
+
     /**
      * Marks the containing chunk dirty, plus adjacent chunks when the cell sits
      * on a border — water corner heights are sewn across chunk seams, so a
@@ -159,4 +169,95 @@ public final class WorldFlowWorld implements FlowWorld {
     private static long chunkKey(int chunkX, int chunkZ) {
         return CachedChunkAccess.chunkKey(chunkX, chunkZ);
     }
+
+    /**
+     * Region view for parallel ticks. Chunk writes land directly (each region owns
+     * its chunks for the phase); the dirty set, the replication sinks and drop
+     * spawning are shared, so those are recorded as {@code [kind, x, y, z, value]}
+     * events and replayed by {@link #publish()}.
+     */
+    private final class BufferedRegionView implements RegionView {
+
+        private static final int BLOCK = 0;
+        private static final int WATER = 1;
+        private static final int DROP = 2;
+        private static final int EVENT_INTS = 5;
+
+        private int[] events = new int[EVENT_INTS * 64];
+        private int eventCount;
+
+        @Override
+        public BlockType getBlock(int x, int y, int z) {
+            return WorldFlowWorld.this.getBlock(x, y, z);
+        }
+
+        @Override
+        public boolean isLoaded(int x, int y, int z) {
+            return WorldFlowWorld.this.isLoaded(x, y, z);
+        }
+
+        @Override
+        public void setBlock(int x, int y, int z, BlockType type) {
+            Chunk chunk = chunkAt(x, z);
+            if (chunk == null || y < 0 || y >= WorldConfiguration.WORLD_HEIGHT) {
+                return;
+            }
+            chunk.setBlock(Math.floorMod(x, WorldConfiguration.CHUNK_SIZE), y,
+                           Math.floorMod(z, WorldConfiguration.CHUNK_SIZE), type);
+            record(BLOCK, x, y, z, type.getId());
+        }
+
+        @Override
+        public int getWater(int x, int y, int z) {
+            return WorldFlowWorld.this.getWater(x, y, z);
+        }
+
+        @Override
+        public void setWater(int x, int y, int z, int value) {
+            WorldFlowWorld.this.setWater(x, y, z, value);
+        }
+
+        @Override
+        public boolean isSolid(int x, int y, int z) {
+            return WorldFlowWorld.this.isSolid(x, y, z);
+        }
+
+        @Override
+        public void dropFragile(int x, int y, int z, BlockType type) {
+            record(DROP, x, y, z, type.getId());
+        }
+
+        @Override
+        public void markWaterChanged(int x, int y, int z, int newValue) {
+            record(WATER, x, y, z, newValue);
+        }
+
+        @Override
+        public void publish() {
+            for (int i = 0; i < eventCount; i += EVENT_INTS) {
+                int x = events[i + 1];
+                int y = events[i + 2];
+                int z = events[i + 3];
+                int value = events[i + 4];
+                switch (events[i]) {
+                    case BLOCK -> reportBlock(x, y, z, BlockType.getById(value));
+                    case WATER -> WorldFlowWorld.this.markWaterChanged(x, y, z, value);
+                    default -> WorldFlowWorld.this.dropFragile(x, y, z, BlockType.getById(value));
+                }
+            }
+            eventCount = 0;
+        }
+
+        private void record(int kind, int x, int y, int z, int value) {
+            if (eventCount + EVENT_INTS > events.length) {
+                events = Arrays.copyOf(events, events.length << 1);
+            }
+            events[eventCount] = kind;
+            events[eventCount + 1] = x;
+            events[eventCount + 2] = y;
+            events[eventCount + 3] = z;
+            events[eventCount + 4] = value;
+            eventCount += EVENT_INTS;
+        }
+    }
 }
@@ -44,6 +44,9 @@ public class Game {
 
     // Singleton instance
     private static Game instance;
+    private static volatile boolean headless;
+    /** Never populated: what the static accessors read in a headless process. */
+    private static final GameServices HEADLESS_SERVICES = new GameServices();
     
     // Game components
     /** Subsystem registry backing every {@code getX()} accessor; see {@link GameServices}. */
@@ -94,14 +97,43 @@ public class Game {
      * Gets the singleton instance.
      * No synchronization needed: always created on the main thread during startup,
      * before any background threads are spawned. Post-init access is read-only.
+     *
+     * <p>Returns null in a headless process (see {@link #markHeadless()}): shared world and
+     * entity code reaches for the client singleton in places, and there it must find nothing
+     * rather than build one.
      */
     public static Game getInstance() {
         if (instance == null) {
+            if (headless) {
+                return null;
+            }
             instance = new Game();
         }
         return instance;
     }
 
+    /**
+     * Declares this process headless — a dedicated server with no window, renderer or audio.
+     * From then on {@link #getInstance()} is null and the static accessors answer as a game
+     * with nothing loaded. Call before any world exists; it cannot be undone.
+     */
+    public static void markHeadless() {
+        if (instance != null) {
+            throw new IllegalStateException("Game already created; cannot go headless");
+        }
+        headless = true;
+    }
+
+    public static boolean isHeadless() {
+        return headless;
+    }
+
+    /** The live service registry, or an empty one when headless. */
+    private static GameServices services() {
+        Game game = getInstance();
+        return game != null ? game.services : HEADLESS_SERVICES;
+    }
+
     /**
      * Runs {@code task} immediately if called from the main thread, or queues
      * it to execute at the start of the next {@link #update()} call otherwise.
@@ -324,7 +356,8 @@ public class Game {
      * Gets the time between frames.
      */
     public static float getDeltaTime() {
-        return getInstance().deltaTime;
+        Game game = getInstance();
+        return game != null ? game.deltaTime : 0f;
     }
 
     /**
@@ -352,28 +385,28 @@ public class Game {
      * Gets the world.
      */
     public static World getWorld() {
-        return getInstance().services.world();
+        return services().world();
     }
     
     /**
      * Gets the player.
      */
     public static Player getPlayer() {
-        return getInstance().services.player();
+        return services().player();
     }
     
     /**
      * Gets the renderer.
      */
     public static Renderer getRenderer() {
-        return getInstance().services.renderer();
+        return services().renderer();
     }
     
     /**
      * Gets the entity manager.
      */
     public static com.stonebreak.mobs.entities.EntityManager getEntityManager() {
-        return getInstance().services.entityManager();
+        return services().entityManager();
     }
 
 
@@ -381,7 +414,7 @@ public class Game {
      * Gets the time of day system.
      */
     public static TimeOfDay getTimeOfDay() {
-        return getInstance().services.timeOfDay();
+        return services().timeOfDay();
     }
 
     /** Delegates to {@link com.stonebreak.core.state.GameStateController#togglePauseMenu()}. */
@@ -557,14 +590,14 @@ public class Game {
      * Gets the sound system.
      */
     public static SoundSystem getSoundSystem() {
-        return getInstance().services.soundSystem();
+        return services().soundSystem();
     }
 
     /**
      * Gets the player sound binding (footstep selection). May be null before a world is loaded.
      */
     public static PlayerSounds getPlayerSounds() {
-        return getInstance().services.playerSounds();
+        return services().playerSounds();
     }
 
     /**
@@ -578,21 +611,21 @@ public class Game {
      * Gets the crafting manager.
      */
     public static CraftingManager getCraftingManager() {
-        return getInstance().services.craftingManager();
+        return services().craftingManager();
     }
 
     /**
      * Gets the sound emitter manager.
      */
     public static com.stonebreak.audio.emitters.SoundEmitterManager getSoundEmitterManager() {
-        return getInstance().services.soundEmitterManager();
+        return services().soundEmitterManager();
     }
 
     /**
      * Gets the background music manager.
      */
     public static com.stonebreak.audio.MusicManager getMusicManager() {
-        return getInstance().services.musicManager();
+        return services().musicManager();
     }
 
     /**
@@ -704,7 +737,7 @@ public class Game {
      * Gets the memory leak detector.
      */
     public static MemoryLeakDetector getMemoryLeakDetector() {
-        return getInstance().services.memoryLeakDetector();
+        return services().memoryLeakDetector();
     }
     
     /** Delegates to {@link com.stonebreak.core.diagnostics.GameDiagnostics#triggerMemoryLeakAnalysis()}. */
@@ -716,7 +749,7 @@ public class Game {
      * Gets the debug overlay.
      */
     public static DebugOverlay getDebugOverlay() {
-        return getInstance().services.debugOverlay();
+        return services().debugOverlay();
     }
     
     /** Delegates to {@link com.stonebreak.core.diagnostics.GameDiagnostics#toggleDebugOverlay()}. */
@@ -1,9 +1,10 @@
 package com.stonebreak.items.registry;
 
+import com.openmason.engine.format.sbo.SBOBatchLoader;
 import com.openmason.engine.format.sbo.SBOFormat;
 import com.openmason.engine.format.sbo.SBOParseResult;
-import com.openmason.engine.format.sbo.SBOParser;
 import com.stonebreak.items.ItemCategory;
+import com.stonebreak.rendering.sbo.SBOAssetCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,7 +44,6 @@ public final class ItemRegistry {
         return INSTANCE;
     }
 
-    private final SBOParser parser = new SBOParser();
     private final Map<String, ItemEntry> byObjectId = new LinkedHashMap<>();
     private final Map<Integer, ItemEntry> byNumericId = new LinkedHashMap<>();
     private boolean loaded = false;
@@ -62,44 +62,44 @@ public final class ItemRegistry {
         byNumericId.clear();
 
         int registered = 0;
-        for (Path sboPath : discoverSBOFiles()) {
-            try {
-                SBOParseResult result = parser.parse(sboPath);
-                if (!"item".equalsIgnoreCase(result.getObjectType())) {
-                    logger.warn("Skipping non-item SBO in items folder: {} (type={})",
-                            result.getObjectId(), result.getObjectType());
-                    continue;
-                }
-                if (!result.isTextureOnly()) {
-                    logger.warn("Skipping item SBO without texture payload: {}", result.getObjectId());
-                    continue;
-                }
+        for (SBOBatchLoader.Loaded loadedSbo : SBOAssetCache.load("items", discoverSBOFiles())) {
+            if (loadedSbo.error() != null) {
+                logger.error("Failed to parse item SBO: {}", loadedSbo.source(), loadedSbo.error());
+                continue;
+            }
+            SBOParseResult result = loadedSbo.result();
+            if (!"item".equalsIgnoreCase(result.getObjectType())) {
+                logger.warn("Skipping non-item SBO in items folder: {} (type={})",
+                        result.getObjectId(), result.getObjectType());
+                continue;
+            }
+            if (!result.isTextureOnly()) {
+                logger.warn("Skipping item SBO without texture payload: {}", result.getObjectId());
+                continue;
+            }
 
-                SBOFormat.GameProperties gp = result.manifest().gameProperties();
-                if (gp == null) {
-                    logger.warn("Skipping item SBO missing gameProperties: {}", result.getObjectId());
-                    continue;
-                }
+            SBOFormat.GameProperties gp = result.manifest().gameProperties();
+            if (gp == null) {
+                logger.warn("Skipping item SBO missing gameProperties: {}", result.getObjectId());
+                continue;
+            }
 
-                // Note: we don't promote into ItemType here. ItemType's own
-                // static initializer reads from this registry to create
-                // instances for both hardcoded constants and SBO-only items.
-                ItemEntry entry = new ItemEntry(result.getObjectId(), result.getObjectName(), gp, result);
-                ItemEntry prev = byObjectId.put(entry.objectId(), entry);
-                if (prev != null) {
-                    logger.warn("Duplicate item objectId '{}' — keeping last loaded", entry.objectId());
-                }
-                if (gp.numericId() >= 0) {
-                    ItemEntry prevById = byNumericId.put(gp.numericId(), entry);
-                    if (prevById != null && !prevById.objectId().equals(entry.objectId())) {
-                        logger.error("Item numeric ID collision: {} and {} both claim id={}",
-                                prevById.objectId(), entry.objectId(), gp.numericId());
-                    }
+            // Note: we don't promote into ItemType here. ItemType's own
+            // static initializer reads from this registry to create
+            // instances for both hardcoded constants and SBO-only items.
+            ItemEntry entry = new ItemEntry(result.getObjectId(), result.getObjectName(), gp, result);
+            ItemEntry prev = byObjectId.put(entry.objectId(), entry);
+            if (prev != null) {
+                logger.warn("Duplicate item objectId '{}' — keeping last loaded", entry.objectId());
+            }
+            if (gp.numericId() >= 0) {
+                ItemEntry prevById = byNumericId.put(gp.numericId(), entry);
+                if (prevById != null && !prevById.objectId().equals(entry.objectId())) {
+                    logger.error("Item numeric ID collision: {} and {} both claim id={}",
+                            prevById.objectId(), entry.objectId(), gp.numericId());
                 }
-                registered++;
-            } catch (IOException e) {
-                logger.error("Failed to parse item SBO: {}", sboPath, e);
             }
+            registered++;
         }
 
         loaded = true;
@@ -82,14 +82,14 @@ public class Chicken extends LivingEntity {
     protected void onDeath() {
         mobAI.cleanup();
         for (ItemStack drop : getDrops()) {
-            DropUtil.createItemDrop(world, getPosition(), drop);
+            DropUtil.createItemDrop(world, getPosition(), drop, getRandom());
         }
     }
 
     @Override
     public ItemStack[] getDrops() {
-        if (Math.random() < 0.60) {
-            int count = 1 + (int)(Math.random() * 2);
+        if (getRandom().nextFloat() < 0.60f) {
+            int count = 1 + getRandom().nextInt(2);
             return new ItemStack[] { new ItemStack(ItemType.FEATHER, count) };
         }
         return new ItemStack[0];
@@ -133,13 +133,13 @@ public class Cow extends LivingEntity {
     protected void onDeath() {
         mobAI.cleanup();
         for (ItemStack drop : getDrops()) {
-            DropUtil.createItemDrop(world, getPosition(), drop);
+            DropUtil.createItemDrop(world, getPosition(), drop, getRandom());
         }
     }
 
     @Override
     public ItemStack[] getDrops() {
-        if (Math.random() < 0.40) {
+        if (getRandom().nextFloat() < 0.40f) {
             return new ItemStack[] { new ItemStack(ItemType.LEATHER, 1) };
         }
         return new ItemStack[0];
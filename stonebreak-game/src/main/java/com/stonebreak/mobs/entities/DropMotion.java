@@ -0,0 +1,82 @@
+package com.stonebreak.mobs.entities;
+
+import com.stonebreak.blocks.BlockType;
+import com.stonebreak.world.BlockVolume;
+import com.stonebreak.world.VoxelCollider;
+import com.stonebreak.world.World;
+import org.joml.Vector3f;
+
+/**
+ * One tick of movement for {@link ItemDrop} and {@link BlockDrop}, whose
+ * position is the centre of their box. Sideways they sweep against the
+ * section collision masks, so a drop thrown at a wall stops against it
+ * instead of sliding into it. Downward they travel no further than the top
+ * of the first ground block they would cross, so a long fall still lands on
+ * the block the drop's own ground probe looks for rather than skipping past
+ * it in one tick.
+ *
+ * <p>"Ground" here is the drops' own rule — anything but air and water —
+ * which is why the fall is checked against block ids and not the masks.
+ */
+final class DropMotion {
+
+    private static final int AIR_ID = BlockType.AIR.getId();
+    private static final int WATER_ID = BlockType.WATER.getId();
+    /** Per thread, as entities may tick in parallel. */
+    private static final ThreadLocal<VoxelCollider> COLLIDER = ThreadLocal.withInitial(VoxelCollider::new);
+    private static final ThreadLocal<BlockVolume> COLUMN = ThreadLocal.withInitial(BlockVolume::new);
+
+    private DropMotion() {
+    }
+
+    /**
+     * Moves the drop by {@code movement}, zeroing the velocity of a horizontal
+     * axis a wall stopped. {@code probeBias} is how far below its bottom the
+     * drop looks for ground.
+     */
+    static void move(World world, Vector3f position, Vector3f velocity, Vector3f movement,
+                     float width, float length, float height, float probeBias) {
+        if (world == null) {
+            position.add(movement);
+            return;
+        }
+        float halfWidth = width / 2;
+        float halfLength = length / 2;
+        float bottom = position.y - height / 2;
+        VoxelCollider collider = COLLIDER.get();
+
+        float dx = collider.sweep(world, VoxelCollider.AXIS_X,
+            position.x - halfWidth, bottom, position.z - halfLength,
+            position.x + halfWidth, bottom + height, position.z + halfLength, movement.x);
+        if (dx != movement.x) {
+            velocity.x = 0;
+        }
+        position.x += dx;
+
+        float dz = collider.sweep(world, VoxelCollider.AXIS_Z,
+            position.x - halfWidth, bottom, position.z - halfLength,
+            position.x + halfWidth, bottom + height, position.z + halfLength, movement.z);
+        if (dz != movement.z) {
+            velocity.z = 0;
+        }
+        position.z += dz;
+
+        position.y += movement.y;
+        if (movement.y < 0) {
+            int fromCell = (int) Math.floor(bottom - probeBias);
+            int toCell = (int) Math.floor(position.y - height / 2 - probeBias);
+            if (toCell < fromCell) {
+                int x = (int) Math.floor(position.x);
+                int z = (int) Math.floor(position.z);
+                BlockVolume column = COLUMN.get().readColumn(world, x, z, toCell + 1, fromCell);
+                for (int y = fromCell; y > toCell; y--) {
+                    int id = column.id(x, y, z);
+                    if (id != AIR_ID && id != WATER_ID) {
+                        position.y = y + 1.0f + height / 2;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+}
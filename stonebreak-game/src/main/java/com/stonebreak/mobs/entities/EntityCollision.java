@@ -1,6 +1,8 @@
 package com.stonebreak.mobs.entities;
 
 import org.joml.Vector3f;
+import com.stonebreak.world.BlockVolume;
+import com.stonebreak.world.VoxelCollider;
 import com.stonebreak.world.World;
 import com.stonebreak.blocks.BlockType;
 
@@ -9,6 +11,15 @@ import com.stonebreak.blocks.BlockType;
  * Provides methods for world collision, entity-entity collision, and physics application.
  */
 public class EntityCollision {
+    private static final int AIR_ID = BlockType.AIR.getId();
+    private static final int WATER_ID = BlockType.WATER.getId();
+    /** Downward ground scans read the column this many blocks at a time. */
+    private static final int SCAN_SLAB = 16;
+    /** Boxes and columns are read in one pass; per thread, as entities may tick in parallel. */
+    private static final ThreadLocal<BlockVolume> VOLUME = ThreadLocal.withInitial(BlockVolume::new);
+    /** Colliding cells from the section collision masks; per thread for the same reason. */
+    private static final ThreadLocal<VoxelCollider> COLLIDER = ThreadLocal.withInitial(VoxelCollider::new);
+
     private final World world;
     
     /**
@@ -52,11 +63,11 @@ public class EntityCollision {
         int minZ = (int) Math.floor(newBounds.minZ);
         int maxZ = (int) Math.ceil(newBounds.maxZ);
         
+        BlockVolume volume = VOLUME.get().read(world, minX, minY, minZ, maxX, maxY, maxZ);
         for (int x = minX; x <= maxX; x++) {
             for (int y = minY; y <= maxY; y++) {
                 for (int z = minZ; z <= maxZ; z++) {
-                    BlockType blockType = world.getBlockAt(x, y, z);
-                    if (blockType != null && blockType != BlockType.AIR && blockType != BlockType.WATER) {
+                    if (isGround(volume.id(x, y, z))) {
                         return true; // Collision detected
                     }
                 }
@@ -66,6 +77,31 @@ public class EntityCollision {
         return false; // No collision
     }
     
+    /** Anything but air and water stops an entity. */
+    private static boolean isGround(int blockId) {
+        return blockId != AIR_ID && blockId != WATER_ID;
+    }
+
+    /**
+     * Highest Y in {@code [bottomY, topY]} of the column whose block stops an
+     * entity, or {@code bottomY - 1} if there is none. Reads the column a
+     * {@link #SCAN_SLAB}-block slab at a time from the top, so a scan that
+     * finds ground just below where it starts reads one slab, not the column.
+     */
+    private int highestGround(int blockX, int blockZ, int topY, int bottomY) {
+        BlockVolume column = VOLUME.get();
+        for (int slabTop = topY; slabTop >= bottomY; slabTop -= SCAN_SLAB) {
+            int slabBottom = Math.max(bottomY, slabTop - SCAN_SLAB + 1);
+            column.readColumn(world, blockX, blockZ, slabBottom, slabTop);
+            for (int y = slabTop; y >= slabBottom; y--) {
+                if (isGround(column.id(blockX, y, blockZ))) {
+                    return y;
+                }
+            }
+        }
+        return bottomY - 1;
+    }
+
     /**
      * Gets the effective collision height of a block at the given position.
      * For most blocks this is 1.0 (full block) or 0.0 (no collision).
@@ -87,9 +123,12 @@ public class EntityCollision {
     }
     
     /**
-     * Handles collision on the X axis for entities (similar to Player).
+     * Handles collision on the X axis for entities (similar to Player), after
+     * the entity moved {@code moved} along it. Every column the leading edge
+     * crossed is tested, so a fast body (an arrow, a knocked-back mob) cannot
+     * pass through a wall between two ticks.
      */
-    private void handleCollisionX(Entity entity, Vector3f position, Vector3f velocity) {
+    private void handleCollisionX(Entity entity, Vector3f position, Vector3f velocity, float moved) {
         float halfWidth = entity.getWidth() / 2;
         float halfLength = entity.getLength() / 2;
         
@@ -109,60 +148,45 @@ public class EntityCollision {
         float checkMinZ = position.z - halfLength;
         float checkMaxZ = position.z + halfLength;
         
-        // Iterate over the Y and Z cells the entity's volume spans
-        for (int yi = (int)Math.floor(entityFootY); yi < (int)Math.ceil(entityHeadY); yi++) {
-            for (int zi = (int)Math.floor(checkMinZ); zi < (int)Math.ceil(checkMaxZ); zi++) {
-                if (velocity.x < 0) { // Moving left
-                    float entityLeftEdge = position.x - halfWidth;
-                    int blockToCheckX = (int)Math.floor(entityLeftEdge);
+        if (velocity.x != 0) {
+            boolean negative = velocity.x < 0; // Moving left
+            float edge = negative ? position.x - halfWidth : position.x + halfWidth;
+            int edgeCell = (int)Math.floor(edge);
+            int startCell = (int)Math.floor(edge - moved);
+            
+            // The Y and Z cells the entity's volume spans, across the crossed columns
+            VoxelCollider collider = COLLIDER.get();
+            int cells = collider.collect(world, Math.min(edgeCell, startCell), (int)Math.floor(entityFootY),
+                (int)Math.floor(checkMinZ), Math.max(edgeCell, startCell),
+                (int)Math.ceil(entityHeadY) - 1, (int)Math.ceil(checkMaxZ) - 1);
+            for (int i = 0; i < cells; i++) {
+                int blockToCheckX = collider.x(i);
+                int yi = collider.y(i);
+                int zi = collider.z(i);
+                float blockHeight = collider.shaped(i)
+                    ? getBlockCollisionHeight(blockToCheckX, yi, zi, edge, checkMinZ, edge, checkMaxZ)
+                    : 1.0f;
+                if (blockHeight > 0) {
+                    float blockTop = yi + blockHeight;
                     
-                    float blockHeight = getBlockCollisionHeight(blockToCheckX, yi, zi,
-                        entityLeftEdge, checkMinZ, entityLeftEdge, checkMaxZ);
-                    if (blockHeight > 0) {
-                        float blockTop = yi + blockHeight;
-                        
-                        // Auto step-up for blocks up to 0.5 blocks high (cows can't step as high as players)
-                        float stepUpNeeded = blockTop - position.y;
-                        if (entity instanceof LivingEntity livingEntity) {
-                            stepUpNeeded = blockTop - (position.y - livingEntity.getLegHeight());
-                        }
-                        
-                        if (stepUpNeeded > 0.0f && stepUpNeeded <= 0.5f && 
-                            yi == (int)Math.floor(entityFootY) && entity.isOnGround()) {
-                            stepUpHeight = Math.max(stepUpHeight, stepUpNeeded);
-                        } else if (entityFootY < blockTop && entityHeadY > yi) {
-                            float potentialNewX = (float)(blockToCheckX + 1) + halfWidth;
-                            if (!collisionOccurred || potentialNewX > correctedPositionX) {
-                                correctedPositionX = potentialNewX;
-                            }
-                            collisionOccurred = true;
-                        }
+                    // Auto step-up for blocks up to 0.5 blocks high (cows can't step as high as players)
+                    float stepUpNeeded = blockTop - position.y;
+                    if (entity instanceof LivingEntity livingEntity) {
+                        stepUpNeeded = blockTop - (position.y - livingEntity.getLegHeight());
                     }
-                } else if (velocity.x > 0) { // Moving right
-                    float entityRightEdge = position.x + halfWidth;
-                    int blockToCheckX = (int)Math.floor(entityRightEdge);
                     
-                    float blockHeight = getBlockCollisionHeight(blockToCheckX, yi, zi,
-                        entityRightEdge, checkMinZ, entityRightEdge, checkMaxZ);
-                    if (blockHeight > 0) {
-                        float blockTop = yi + blockHeight;
-                        
-                        // Auto step-up for blocks up to 0.5 blocks high
-                        float stepUpNeeded = blockTop - position.y;
-                        if (entity instanceof LivingEntity livingEntity) {
-                            stepUpNeeded = blockTop - (position.y - livingEntity.getLegHeight());
-                        }
-                        
-                        if (stepUpNeeded > 0.0f && stepUpNeeded <= 0.5f && 
-                            yi == (int)Math.floor(entityFootY) && entity.isOnGround()) {
-                            stepUpHeight = Math.max(stepUpHeight, stepUpNeeded);
-                        } else if (entityFootY < blockTop && entityHeadY > yi) {
-                            float potentialNewX = (float)blockToCheckX - halfWidth;
-                            if (!collisionOccurred || potentialNewX < correctedPositionX) {
-                                correctedPositionX = potentialNewX;
-                            }
-                            collisionOccurred = true;
+                    if (stepUpNeeded > 0.0f && stepUpNeeded <= 0.5f && 
+                        yi == (int)Math.floor(entityFootY) && entity.isOnGround()) {
+                        stepUpHeight = Math.max(stepUpHeight, stepUpNeeded);
+                    } else if (entityFootY < blockTop && entityHeadY > yi) {
+                        float potentialNewX = negative
+                            ? (float)(blockToCheckX + 1) + halfWidth
+                            : (float)blockToCheckX - halfWidth;
+                        if (!collisionOccurred || (negative ? potentialNewX > correctedPositionX
+                                : potentialNewX < correctedPositionX)) {
+                            correctedPositionX = potentialNewX;
                         }
+                        collisionOccurred = true;
                     }
                 }
             }
@@ -178,9 +202,11 @@ public class EntityCollision {
     }
     
     /**
-     * Handles collision on the Y axis for entities (similar to Player).
+     * Handles collision on the Y axis for entities (similar to Player), after
+     * the entity moved {@code moved} along it. Cells the leading face crossed
+     * stop it too, if it was clear of them before the move.
      */
-    private void handleCollisionY(Entity entity, Vector3f position, Vector3f velocity) {
+    private void handleCollisionY(Entity entity, Vector3f position, Vector3f velocity, float moved) {
         float halfWidth = entity.getWidth() / 2;
         float halfLength = entity.getLength() / 2;
         
@@ -199,37 +225,48 @@ public class EntityCollision {
             checkBottomY = position.y - livingEntity.getLegHeight();
         }
         
-        for (int xi = (int)Math.floor(entityMinX); xi < (int)Math.ceil(entityMaxX); xi++) {
-            for (int zi = (int)Math.floor(entityMinZ); zi < (int)Math.ceil(entityMaxZ); zi++) {
-                if (velocity.y < 0) { // Moving down
-                    int blockToCheckY = (int)Math.floor(checkBottomY);
-                    float blockHeight = getBlockCollisionHeight(xi, blockToCheckY, zi,
-                        entityMinX, entityMinZ, entityMaxX, entityMaxZ);
-                    if (blockHeight > 0) {
-                        float blockTop = blockToCheckY + blockHeight;
-                        if (checkBottomY < blockTop) {
-                            float potentialNewY = blockTop;
-                            if (entity instanceof LivingEntity livingEntity) {
-                                potentialNewY = blockTop + livingEntity.getLegHeight();
-                            }
-                            if (!collisionOccurred || potentialNewY > correctedPositionY) {
-                                correctedPositionY = potentialNewY;
-                            }
-                            collisionOccurred = true;
-                            downwardCollision = true;
+        if (velocity.y != 0) {
+            boolean downward = velocity.y < 0; // Moving down
+            float face = downward ? checkBottomY : position.y + entity.getHeight();
+            float startFace = face - moved;
+            int blockToCheckY = (int)Math.floor(face);
+            int startCell = (int)Math.floor(startFace);
+            
+            VoxelCollider collider = COLLIDER.get();
+            int cells = collider.collect(world, (int)Math.floor(entityMinX), Math.min(blockToCheckY, startCell),
+                (int)Math.floor(entityMinZ), (int)Math.ceil(entityMaxX) - 1,
+                Math.max(blockToCheckY, startCell), (int)Math.ceil(entityMaxZ) - 1);
+            for (int i = 0; i < cells; i++) {
+                int xi = collider.x(i);
+                int yi = collider.y(i);
+                int zi = collider.z(i);
+                float blockHeight = collider.shaped(i)
+                    ? getBlockCollisionHeight(xi, yi, zi, entityMinX, entityMinZ, entityMaxX, entityMaxZ)
+                    : 1.0f;
+                if (blockHeight <= 0) {
+                    continue;
+                }
+                if (downward) {
+                    float blockTop = yi + blockHeight;
+                    boolean crossed = yi == blockToCheckY
+                        || blockTop <= startFace + VoxelCollider.CONTACT_EPSILON;
+                    if (crossed && checkBottomY < blockTop) {
+                        float potentialNewY = blockTop;
+                        if (entity instanceof LivingEntity livingEntity) {
+                            potentialNewY = blockTop + livingEntity.getLegHeight();
                         }
-                    }
-                } else if (velocity.y > 0) { // Moving up
-                    int blockToCheckY = (int)Math.floor(position.y + entity.getHeight());
-                    float blockHeight = getBlockCollisionHeight(xi, blockToCheckY, zi,
-                        entityMinX, entityMinZ, entityMaxX, entityMaxZ);
-                    if (blockHeight > 0) {
-                        float potentialNewY = (float)blockToCheckY - entity.getHeight();
-                        if (!collisionOccurred || potentialNewY < correctedPositionY) {
+                        if (!collisionOccurred || potentialNewY > correctedPositionY) {
                             correctedPositionY = potentialNewY;
                         }
                         collisionOccurred = true;
+                        downwardCollision = true;
+                    }
+                } else if (yi == blockToCheckY || yi >= startFace - VoxelCollider.CONTACT_EPSILON) {
+                    float potentialNewY = (float)yi - entity.getHeight();
+                    if (!collisionOccurred || potentialNewY < correctedPositionY) {
+                        correctedPositionY = potentialNewY;
                     }
+                    collisionOccurred = true;
                 }
             }
         }
@@ -246,9 +283,10 @@ public class EntityCollision {
     }
     
     /**
-     * Handles collision on the Z axis for entities (similar to Player).
+     * Handles collision on the Z axis for entities (similar to Player), after
+     * the entity moved {@code moved} along it; see {@link #handleCollisionX}.
      */
-    private void handleCollisionZ(Entity entity, Vector3f position, Vector3f velocity) {
+    private void handleCollisionZ(Entity entity, Vector3f position, Vector3f velocity, float moved) {
         float halfWidth = entity.getWidth() / 2;
         float halfLength = entity.getLength() / 2;
         
@@ -268,60 +306,45 @@ public class EntityCollision {
         float checkMinX = position.x - halfWidth;
         float checkMaxX = position.x + halfWidth;
         
-        // Iterate over the Y and X cells the entity's volume spans
-        for (int yi = (int)Math.floor(entityFootY); yi < (int)Math.ceil(entityHeadY); yi++) {
-            for (int xi = (int)Math.floor(checkMinX); xi < (int)Math.ceil(checkMaxX); xi++) {
-                if (velocity.z < 0) { // Moving towards -Z (front)
-                    float entityFrontEdge = position.z - halfLength;
-                    int blockToCheckZ = (int)Math.floor(entityFrontEdge);
+        if (velocity.z != 0) {
+            boolean negative = velocity.z < 0; // Moving towards -Z (front)
+            float edge = negative ? position.z - halfLength : position.z + halfLength;
+            int edgeCell = (int)Math.floor(edge);
+            int startCell = (int)Math.floor(edge - moved);
+            
+            // The Y and X cells the entity's volume spans, across the crossed rows
+            VoxelCollider collider = COLLIDER.get();
+            int cells = collider.collect(world, (int)Math.floor(checkMinX), (int)Math.floor(entityFootY),
+                Math.min(edgeCell, startCell), (int)Math.ceil(checkMaxX) - 1,
+                (int)Math.ceil(entityHeadY) - 1, Math.max(edgeCell, startCell));
+            for (int i = 0; i < cells; i++) {
+                int xi = collider.x(i);
+                int yi = collider.y(i);
+                int blockToCheckZ = collider.z(i);
+                float blockHeight = collider.shaped(i)
+                    ? getBlockCollisionHeight(xi, yi, blockToCheckZ, checkMinX, edge, checkMaxX, edge)
+                    : 1.0f;
+                if (blockHeight > 0) {
+                    float blockTop = yi + blockHeight;
                     
-                    float blockHeight = getBlockCollisionHeight(xi, yi, blockToCheckZ,
-                        checkMinX, entityFrontEdge, checkMaxX, entityFrontEdge);
-                    if (blockHeight > 0) {
-                        float blockTop = yi + blockHeight;
-                        
-                        // Auto step-up for blocks up to 0.5 blocks high
-                        float stepUpNeeded = blockTop - position.y;
-                        if (entity instanceof LivingEntity livingEntity) {
-                            stepUpNeeded = blockTop - (position.y - livingEntity.getLegHeight());
-                        }
-                        
-                        if (stepUpNeeded > 0.0f && stepUpNeeded <= 0.5f && 
-                            yi == (int)Math.floor(entityFootY) && entity.isOnGround()) {
-                            stepUpHeight = Math.max(stepUpHeight, stepUpNeeded);
-                        } else if (entityFootY < blockTop && entityHeadY > yi) {
-                            float potentialNewZ = (float)(blockToCheckZ + 1) + halfLength;
-                            if (!collisionOccurred || potentialNewZ > correctedPositionZ) {
-                                correctedPositionZ = potentialNewZ;
-                            }
-                            collisionOccurred = true;
-                        }
+                    // Auto step-up for blocks up to 0.5 blocks high
+                    float stepUpNeeded = blockTop - position.y;
+                    if (entity instanceof LivingEntity livingEntity) {
+                        stepUpNeeded = blockTop - (position.y - livingEntity.getLegHeight());
                     }
-                } else if (velocity.z > 0) { // Moving towards +Z (back)
-                    float entityBackEdge = position.z + halfLength;
-                    int blockToCheckZ = (int)Math.floor(entityBackEdge);
                     
-                    float blockHeight = getBlockCollisionHeight(xi, yi, blockToCheckZ,
-                        checkMinX, entityBackEdge, checkMaxX, entityBackEdge);
-                    if (blockHeight > 0) {
-                        float blockTop = yi + blockHeight;
-                        
-                        // Auto step-up for blocks up to 0.5 blocks high
-                        float stepUpNeeded = blockTop - position.y;
-                        if (entity instanceof LivingEntity livingEntity) {
-                            stepUpNeeded = blockTop - (position.y - livingEntity.getLegHeight());
-                        }
-                        
-                        if (stepUpNeeded > 0.0f && stepUpNeeded <= 0.5f && 
-                            yi == (int)Math.floor(entityFootY) && entity.isOnGround()) {
-                            stepUpHeight = Math.max(stepUpHeight, stepUpNeeded);
-                        } else if (entityFootY < blockTop && entityHeadY > yi) {
-                            float potentialNewZ = (float)blockToCheckZ - halfLength;
-                            if (!collisionOccurred || potentialNewZ < correctedPositionZ) {
-                                correctedPositionZ = potentialNewZ;
-                            }
-                            collisionOccurred = true;
+                    if (stepUpNeeded > 0.0f && stepUpNeeded <= 0.5f && 
+                        yi == (int)Math.floor(entityFootY) && entity.isOnGround()) {
+                        stepUpHeight = Math.max(stepUpHeight, stepUpNeeded);
+                    } else if (entityFootY < blockTop && entityHeadY > yi) {
+                        float potentialNewZ = negative
+                            ? (float)(blockToCheckZ + 1) + halfLength
+                            : (float)blockToCheckZ - halfLength;
+                        if (!collisionOccurred || (negative ? potentialNewZ > correctedPositionZ
+                                : potentialNewZ < correctedPositionZ)) {
+                            correctedPositionZ = potentialNewZ;
                         }
+                        collisionOccurred = true;
                     }
                 }
             }
@@ -348,9 +371,9 @@ public class EntityCollision {
         Vector3f velocity = entity.getVelocity();
         
         // Apply new per-axis collision handling
-        handleCollisionX(entity, position, velocity);
-        handleCollisionY(entity, position, velocity);
-        handleCollisionZ(entity, position, velocity);
+        handleCollisionX(entity, position, velocity, 0.0f);
+        handleCollisionY(entity, position, velocity, 0.0f);
+        handleCollisionZ(entity, position, velocity, 0.0f);
         
         // Update entity with results
         entity.setPosition(position);
@@ -429,19 +452,17 @@ public class EntityCollision {
         }
         
         // Search downward from starting height to find ground
-        for (int y = startY; y >= endY; y--) {
-            BlockType blockType = world.getBlockAt(blockX, y, blockZ);
-            if (blockType != null && blockType != BlockType.AIR && blockType != BlockType.WATER) {
-                float groundSurface = y + 1.0f; // Top surface of the block
-                
-                // For living entities, position the body bottom so feet touch the ground
-                if (entity instanceof LivingEntity livingEntity) {
-                    return groundSurface + livingEntity.getLegHeight();
-                }
-                
-                // For non-living entities, position at ground surface
-                return groundSurface;
+        int y = highestGround(blockX, blockZ, startY, endY);
+        if (y >= endY) {
+            float groundSurface = y + 1.0f; // Top surface of the block
+            
+            // For living entities, position the body bottom so feet touch the ground
+            if (entity instanceof LivingEntity livingEntity) {
+                return groundSurface + livingEntity.getLegHeight();
             }
+            
+            // For non-living entities, position at ground surface
+            return groundSurface;
         }
         
         // If no ground found in range, return current entity position (don't teleport)
@@ -460,11 +481,9 @@ public class EntityCollision {
         int blockZ = (int) Math.floor(z);
         
         // Search downward from a reasonable height to find ground
-        for (int y = 255; y >= 0; y--) {
-            BlockType blockType = world.getBlockAt(blockX, y, blockZ);
-            if (blockType != null && blockType != BlockType.AIR && blockType != BlockType.WATER) {
-                return y + 1.0f; // Top surface of the block
-            }
+        int y = highestGround(blockX, blockZ, 255, 0);
+        if (y >= 0) {
+            return y + 1.0f; // Top surface of the block
         }
         
         return 0.0f; // Bedrock level
@@ -504,14 +523,17 @@ public class EntityCollision {
         entity.setVelocity(velocity);
         
         // Update position with per-axis collision detection (similar to Player)
-        position.x += velocity.x * deltaTime;
-        handleCollisionX(entity, position, velocity);
+        float dx = velocity.x * deltaTime;
+        position.x += dx;
+        handleCollisionX(entity, position, velocity, dx);
         
-        position.y += velocity.y * deltaTime;
-        handleCollisionY(entity, position, velocity);
+        float dy = velocity.y * deltaTime;
+        position.y += dy;
+        handleCollisionY(entity, position, velocity, dy);
         
-        position.z += velocity.z * deltaTime;
-        handleCollisionZ(entity, position, velocity);
+        float dz = velocity.z * deltaTime;
+        position.z += dz;
+        handleCollisionZ(entity, position, velocity, dz);
         
         // Update entity with final position and velocity
         entity.setPosition(position);
@@ -554,27 +576,21 @@ public class EntityCollision {
             float z1 = entity.getPosition().z - halfLength;
             float z2 = entity.getPosition().z + halfLength;
             
-            boolean blockBeneath = false;
+            // Every cell under the footprint, inset 0.1 from its edges
+            int blockY = (int) Math.floor(y);
+            VoxelCollider collider = COLLIDER.get();
+            int cells = collider.collect(world,
+                (int) Math.floor(x1 + 0.1f), blockY, (int) Math.floor(z1 + 0.1f),
+                (int) Math.floor(x2 - 0.1f), blockY, (int) Math.floor(z2 - 0.1f));
             
-            // Check several points beneath the entity to ensure there's ground
-            for (float checkX = x1 + 0.1f; checkX <= x2 - 0.1f; checkX += 0.3f) {
-                for (float checkZ = z1 + 0.1f; checkZ <= z2 - 0.1f; checkZ += 0.3f) {
-                    int blockX = (int) Math.floor(checkX);
-                    int blockY = (int) Math.floor(y);
-                    int blockZ = (int) Math.floor(checkZ);
-                    
-                    float blockHeight = getBlockCollisionHeight(blockX, blockY, blockZ);
-                    if (blockHeight > 0) {
-                        // Check if the block's top surface is close enough to the entity's feet
-                        float blockTop = blockY + blockHeight;
-                        if (blockTop >= y) { // Block surface is at or above the check point
-                            blockBeneath = true;
-                            break;
-                        }
-                    }
-                }
-                if (blockBeneath) {
-                    break;
+            boolean blockBeneath = false;
+            for (int i = 0; i < cells && !blockBeneath; i++) {
+                float blockHeight = collider.shaped(i)
+                    ? getBlockCollisionHeight(collider.x(i), blockY, collider.z(i))
+                    : 1.0f;
+                // Check if the block's top surface is close enough to the entity's feet
+                if (blockHeight > 0 && blockY + blockHeight >= y) {
+                    blockBeneath = true;
                 }
             }
             
@@ -608,19 +624,17 @@ public class EntityCollision {
         int blockZ = (int) Math.floor(z);
         
         // Search downward from current position to find ground
-        for (int y = (int) Math.floor(entityBottomY); y >= 0; y--) {
-            BlockType blockType = world.getBlockAt(blockX, y, blockZ);
-            if (blockType != null && blockType != BlockType.AIR && blockType != BlockType.WATER) {
-                float blockTop = y + 1.0f;
-                
-                // For living entities, return the body bottom position where feet would touch ground
-                if (entity instanceof LivingEntity livingEntity) {
-                    return blockTop + livingEntity.getLegHeight();
-                }
-                
-                // For non-living entities, return ground surface
-                return blockTop;
+        int y = highestGround(blockX, blockZ, (int) Math.floor(entityBottomY), 0);
+        if (y >= 0) {
+            float blockTop = y + 1.0f;
+            
+            // For living entities, return the body bottom position where feet would touch ground
+            if (entity instanceof LivingEntity livingEntity) {
+                return blockTop + livingEntity.getLegHeight();
             }
+            
+            // For non-living entities, return ground surface
+            return blockTop;
         }
         
         // If no ground found, return current position to avoid teleportation
@@ -683,21 +697,24 @@ public class EntityCollision {
         Vector3f position = entity.getPosition();
         Vector3f velocity = entity.getVelocity();
 
-        float targetX = position.x + velocity.x * deltaTime;
+        float dx = velocity.x * deltaTime;
+        float targetX = position.x + dx;
         position.x = targetX;
-        handleCollisionX(entity, position, velocity);
+        handleCollisionX(entity, position, velocity, dx);
         boolean blockedX = Math.abs(position.x - targetX) > 1e-4f;
 
-        float targetY = position.y + velocity.y * deltaTime;
+        float dy = velocity.y * deltaTime;
+        float targetY = position.y + dy;
         float velYBefore = velocity.y;
         position.y = targetY;
-        handleCollisionY(entity, position, velocity); // zeroes velocity.y / sets onGround on a hit
+        handleCollisionY(entity, position, velocity, dy); // zeroes velocity.y / sets onGround on a hit
         boolean blockedY = Math.abs(position.y - targetY) > 1e-4f
                 || (velYBefore != 0f && velocity.y == 0f);
 
-        float targetZ = position.z + velocity.z * deltaTime;
+        float dz = velocity.z * deltaTime;
+        float targetZ = position.z + dz;
         position.z = targetZ;
-        handleCollisionZ(entity, position, velocity);
+        handleCollisionZ(entity, position, velocity, dz);
         boolean blockedZ = Math.abs(position.z - targetZ) > 1e-4f;
 
         entity.setPosition(position);
@@ -31,9 +31,17 @@ public class EntityManager {
     private final World world;
     private final EntityCollision collision;
 
+    // Cell-hash over live entities: range/nearest/type queries + collision broadphase
+    private final EntitySpatialIndex spatialIndex = new EntitySpatialIndex();
+
     // Update tracking
     private float totalTime;
 
+    // Opt-in region-parallel tick (server only); null = serial loop
+    private ParallelEntityTick parallelTick;
+    private final List<Entity> regionLocalScratch = new ArrayList<>();
+    private final List<Entity> serialScratch = new ArrayList<>();
+
     // Async entity loading
     private final ExecutorService entityDeserializationExecutor;
     private final Queue<Entity> pendingEntityAdditions;
@@ -84,69 +92,178 @@ public class EntityManager {
                 List<Entity> added = new ArrayList<>(entitiesToAdd);
                 entities.addAll(entitiesToAdd);
                 entitiesToAdd.clear();
-                for (Entity e : added) fireAdded(e);
+                for (Entity e : added) {
+                    spatialIndex.add(e);
+                    fireAdded(e);
+                }
             }
         }
 
-        // Update all entities
-        for (Entity entity : entities) {
-            if (entity.isAlive()) {
-                // Network shadows are driven by inbound state packets — skip local
-                // AI/physics. Apply network interpolation each frame so motion is
-                // smooth between snapshots, and advance client-only visual clocks so
-                // animations play (the discrete animation state arrives via EntityAnimS2C).
-                if (entity.isNetworkShadow()) {
-                    if (entity.getInterpolator() != null) entity.getInterpolator().apply(entity);
-                    entity.updateClientVisuals(deltaTime);
-                    continue;
-                }
+        if (parallelTick != null) {
+            updateEntitiesParallel(deltaTime);
+        } else {
+            updateEntitiesSerial(deltaTime);
+        }
+    }
 
-                entity.update(deltaTime);
+    /**
+     * Switches {@link #update} to the region-partitioned parallel tick on a
+     * pool of {@code parallelism} threads, or back to the serial loop with
+     * {@code parallelism <= 1}. Call from the thread that drives updates.
+     */
+    public void setParallelTick(int parallelism) {
+        if (parallelTick != null) {
+            parallelTick.shutdown();
+            parallelTick = null;
+        }
+        if (parallelism > 1) {
+            parallelTick = new ParallelEntityTick(parallelism);
+        }
+    }
 
-                if (entity.getPosition().y < -10) {
-                    entity.setAlive(false);
-                    continue;
-                }
+    public boolean isParallelTick() {
+        return parallelTick != null;
+    }
 
-                // Apply physics and collision
-                // Self-propelled projectiles (e.g. the fire bolt) move themselves
-                // in update() and must skip the external physics step.
-                if (entity.isSelfPropelled()) {
-                    // self-managed projectile, no external physics
-                } else if (entity instanceof BlockDrop || entity instanceof ItemDrop) {
-                    // Drops fully self-manage physics (custom gravity/bounce/ground snap in
-                    // update()). The external step double-integrated their velocity AND its
-                    // checkGroundBeneath treats position.y as the entity's bottom while drops
-                    // treat it as their center — it knocked resting drops off the ground every
-                    // tick, leaving them oscillating ~3 cm forever at the server's 20 Hz
-                    // (replicated to every client as visible jitter).
-                } else if (entity.getType() == EntityType.BOBBER) {
-                    if (!((FishingBobber) entity).isSettled()) {
-                        collision.applyEntityPhysics(entity, deltaTime);
-                    }
-                } else if (entity instanceof LivingEntity livingEntity) {
-                    collision.applyLivingEntityPhysics(livingEntity, deltaTime);
-                } else {
-                    collision.applyEntityPhysics(entity, deltaTime);
-                }
+    private void updateEntitiesSerial(float deltaTime) {
+        long start = System.nanoTime();
+        for (Entity entity : entities) {
+            if (!entity.isAlive()) {
+                markForRemoval(entity);
+                continue;
+            }
+            if (entity.isNetworkShadow()) {
+                updateNetworkShadow(entity, deltaTime);
             } else {
-                // Mark dead entities for removal
-                synchronized (entitiesToRemove) {
-                    entitiesToRemove.add(entity);
-                }
+                tickEntity(entity, deltaTime);
             }
+            spatialIndex.update(entity);
         }
-        
+        long updated = System.nanoTime();
+
         // Handle entity-entity collisions
         handleEntityCollisions();
-        
+        flushRemovals();
+
+        EntityTickStats.record(EntityTickStats.Phase.PARTITION, 0);
+        EntityTickStats.record(EntityTickStats.Phase.REGION_UPDATE, 0);
+        EntityTickStats.record(EntityTickStats.Phase.SERIAL_UPDATE, updated - start);
+        EntityTickStats.record(EntityTickStats.Phase.MERGE, System.nanoTime() - updated);
+        EntityTickStats.endTick(0, 1);
+    }
+
+    /**
+     * Parallel tick: region-local mobs tick on the pool (see
+     * {@link ParallelEntityTick}); shadows, projectiles and drops then tick
+     * here in manager order, and the merge phase re-files the index, resolves
+     * collisions and applies adds/removes exactly as the serial loop does.
+     * Spawns requested during the region phase already queue through the
+     * synchronized {@code entitiesToAdd}.
+     */
+    private void updateEntitiesParallel(float deltaTime) {
+        long start = System.nanoTime();
+        regionLocalScratch.clear();
+        serialScratch.clear();
+        for (Entity entity : entities) {
+            if (!entity.isAlive()) {
+                markForRemoval(entity);
+            } else if (ParallelEntityTick.isRegionLocal(entity)) {
+                regionLocalScratch.add(entity);
+            } else {
+                serialScratch.add(entity);
+            }
+        }
+        parallelTick.partition(regionLocalScratch);
+        long partitioned = System.nanoTime();
+
+        parallelTick.run(entity -> tickEntity(entity, deltaTime), this::addEntity);
+        long regionsDone = System.nanoTime();
+
+        for (Entity entity : serialScratch) {
+            if (entity.isNetworkShadow()) {
+                updateNetworkShadow(entity, deltaTime);
+            } else {
+                tickEntity(entity, deltaTime);
+            }
+        }
+        long serialDone = System.nanoTime();
+
+        // Merge: the index is re-filed single-threaded so region workers never
+        // contend on it for writes.
+        for (Entity entity : entities) {
+            spatialIndex.update(entity);
+        }
+        handleEntityCollisions();
+        flushRemovals();
+        regionLocalScratch.clear();
+        serialScratch.clear();
+
+        EntityTickStats.record(EntityTickStats.Phase.PARTITION, partitioned - start);
+        EntityTickStats.record(EntityTickStats.Phase.REGION_UPDATE, regionsDone - partitioned);
+        EntityTickStats.record(EntityTickStats.Phase.SERIAL_UPDATE, serialDone - regionsDone);
+        EntityTickStats.record(EntityTickStats.Phase.MERGE, System.nanoTime() - serialDone);
+        EntityTickStats.endTick(parallelTick.lastRegionCount(), parallelTick.parallelism());
+    }
+
+    // Network shadows are driven by inbound state packets — skip local
+    // AI/physics. Apply network interpolation each frame so motion is
+    // smooth between snapshots, and advance client-only visual clocks so
+    // animations play (the discrete animation state arrives via EntityAnimS2C).
+    private void updateNetworkShadow(Entity entity, float deltaTime) {
+        if (entity.getInterpolator() != null) entity.getInterpolator().apply(entity);
+        entity.updateClientVisuals(deltaTime);
+    }
+
+    /** One simulated entity's AI/update plus its external physics step. */
+    private void tickEntity(Entity entity, float deltaTime) {
+        entity.update(deltaTime);
+
+        if (entity.getPosition().y < -10) {
+            entity.setAlive(false);
+            return;
+        }
+
+        // Apply physics and collision
+        // Self-propelled projectiles (e.g. the fire bolt) move themselves
+        // in update() and must skip the external physics step.
+        if (entity.isSelfPropelled()) {
+            // self-managed projectile, no external physics
+        } else if (entity instanceof BlockDrop || entity instanceof ItemDrop) {
+            // Drops fully self-manage physics (custom gravity/bounce/ground snap in
+            // update()). The external step double-integrated their velocity AND its
+            // checkGroundBeneath treats position.y as the entity's bottom while drops
+            // treat it as their center — it knocked resting drops off the ground every
+            // tick, leaving them oscillating ~3 cm forever at the server's 20 Hz
+            // (replicated to every client as visible jitter).
+        } else if (entity.getType() == EntityType.BOBBER) {
+            if (!((FishingBobber) entity).isSettled()) {
+                collision.applyEntityPhysics(entity, deltaTime);
+            }
+        } else if (entity instanceof LivingEntity livingEntity) {
+            collision.applyLivingEntityPhysics(livingEntity, deltaTime);
+        } else {
+            collision.applyEntityPhysics(entity, deltaTime);
+        }
+    }
+
+    private void markForRemoval(Entity entity) {
+        // Mark dead entities for removal
+        synchronized (entitiesToRemove) {
+            entitiesToRemove.add(entity);
+        }
+    }
+
+    private void flushRemovals() {
         // Remove dead entities
         synchronized (entitiesToRemove) {
             if (!entitiesToRemove.isEmpty()) {
                 List<Entity> removed = new ArrayList<>(entitiesToRemove);
                 entities.removeAll(entitiesToRemove);
                 entitiesToRemove.clear();
-                for (Entity e : removed) fireRemoved(e);
+                for (Entity e : removed) {
+                    spatialIndex.remove(e);
+                    fireRemoved(e);
+                }
             }
         }
     }
@@ -251,7 +368,9 @@ public class EntityManager {
      * This is used for entities created outside the spawn system, like drops.
      */
     public void addEntity(Entity entity) {
-        if (entity != null) {
+        // From inside a region tick the add waits in that region's queue, so
+        // the order does not depend on which worker got there first.
+        if (entity != null && !ParallelEntityTick.deferSpawn(entity)) {
             synchronized (entitiesToAdd) {
                 entitiesToAdd.add(entity);
             }
@@ -496,17 +615,7 @@ public class EntityManager {
      */
     public List<Entity> getEntitiesInRange(Vector3f center, float radius) {
         List<Entity> nearbyEntities = new ArrayList<>();
-        float radiusSquared = radius * radius;
-        
-        for (Entity entity : entities) {
-            if (entity.isAlive()) {
-                float distanceSquared = entity.getPosition().distanceSquared(center);
-                if (distanceSquared <= radiusSquared) {
-                    nearbyEntities.add(entity);
-                }
-            }
-        }
-        
+        spatialIndex.queryRange(center, radius, nearbyEntities);
         return nearbyEntities;
     }
     
@@ -514,20 +623,7 @@ public class EntityManager {
      * Gets the nearest entity of a specific type to a position.
      */
     public Entity getNearestEntity(Vector3f position, EntityType type) {
-        Entity nearest = null;
-        float nearestDistance = Float.MAX_VALUE;
-        
-        for (Entity entity : entities) {
-            if (entity.isAlive() && entity.getType() == type) {
-                float distance = entity.getPosition().distance(position);
-                if (distance < nearestDistance) {
-                    nearest = entity;
-                    nearestDistance = distance;
-                }
-            }
-        }
-        
-        return nearest;
+        return spatialIndex.nearest(position, type);
     }
     
     /**
@@ -535,13 +631,7 @@ public class EntityManager {
      */
     public List<Entity> getEntitiesByType(EntityType type) {
         List<Entity> entitiesOfType = new ArrayList<>();
-        
-        for (Entity entity : entities) {
-            if (entity.isAlive() && entity.getType() == type) {
-                entitiesOfType.add(entity);
-            }
-        }
-        
+        spatialIndex.collectByType(type, entitiesOfType);
         return entitiesOfType;
     }
     
@@ -599,32 +689,41 @@ public class EntityManager {
     }
     
     /**
-     * Handles collisions between entities.
+     * Handles collisions between entities. The spatial index's broadphase only
+     * hands over pairs whose footprints overlap, so the cost follows local
+     * density instead of the square of the entity count.
      */
     private void handleEntityCollisions() {
-        List<Entity> livingEntities = new ArrayList<>(entities);
-
-        for (int i = 0; i < livingEntities.size(); i++) {
-            for (int j = i + 1; j < livingEntities.size(); j++) {
-                Entity entity1 = livingEntities.get(i);
-                Entity entity2 = livingEntities.get(j);
-
-                // Network shadows are positioned by the interpolator from
-                // authoritative state packets; resolving collisions here would
-                // clobber that position and visibly desync the entity.
-                if (entity1.isNetworkShadow() || entity2.isNetworkShadow()) continue;
-
-                if (collision.checkEntityCollision(entity1, entity2)) {
-                    collision.resolveEntityCollision(entity1, entity2);
-                }
-            }
+        for (Entity entity : entities) {
+            // Network shadows are positioned by the interpolator from
+            // authoritative state packets; resolving collisions here would
+            // clobber that position and visibly desync the entity.
+            if (entity.isNetworkShadow()) continue;
+            spatialIndex.forEachOverlapCandidate(entity, collisionVisitor);
+        }
+        // Separation moved entities; re-file them now that the broadphase is done.
+        for (Entity moved : collisionMoved) {
+            spatialIndex.update(moved);
         }
+        collisionMoved.clear();
     }
+
+    private final List<Entity> collisionMoved = new ArrayList<>();
+    private final EntitySpatialIndex.PairVisitor collisionVisitor = (entity1, entity2) -> {
+        if (entity2.isNetworkShadow()) return;
+        if (collision.checkEntityCollision(entity1, entity2)) {
+            collision.resolveEntityCollision(entity1, entity2);
+            collisionMoved.add(entity1);
+            collisionMoved.add(entity2);
+        }
+    };
     
     /**
      * Cleans up dead entities and performs maintenance.
      */
     public void cleanup() {
+        setParallelTick(0);
+
         // Shutdown entity deserialization executor
         entityDeserializationExecutor.shutdown();
         try {
@@ -640,6 +739,11 @@ public class EntityManager {
         pendingEntityAdditions.clear();
 
         // Remove all dead entities (CopyOnWriteArrayList doesn't support iterator.remove())
+        for (Entity entity : entities) {
+            if (!entity.isAlive()) {
+                spatialIndex.remove(entity);
+            }
+        }
         entities.removeIf(entity -> !entity.isAlive());
 
         // Clear pending lists
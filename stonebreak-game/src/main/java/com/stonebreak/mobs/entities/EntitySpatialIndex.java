@@ -0,0 +1,309 @@
+package com.stonebreak.mobs.entities;
+
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uniform-grid spatial hash over the managed entities, keyed by horizontal
+ * {@value #CELL_SIZE}-block cells (entities are tall-world but ground-bound,
+ * so Y is not bucketed). Backs {@link EntityManager}'s range / nearest / type
+ * queries and its entity-entity collision broadphase, so each costs in
+ * proportion to the entities near the query rather than the total count.
+ *
+ * <p>Each entity sits in exactly one cell, chosen by its position at the last
+ * {@link #update}. The manager re-files an entity right after it moves in its
+ * tick, so the index is at most one tick stale for entities moved from
+ * outside their own update (knockback, teleports).
+ *
+ * <p>All methods synchronize on the index: the game/server thread mutates it
+ * during {@link EntityManager#update}, other threads may query it.
+ */
+final class EntitySpatialIndex {
+
+    static final int CELL_SIZE = 4;
+
+    /** Receives one broadphase candidate; {@code first} was indexed before {@code second}. */
+    @FunctionalInterface
+    interface PairVisitor {
+        void visit(Entity first, Entity second);
+    }
+
+    private static final class Slot {
+        final Entity entity;
+        final EntityType type;
+        /** Insertion order; orders each candidate pair exactly once. */
+        final int sequence;
+        float halfExtent;
+        long cell;
+        int cellIndex;
+        int typeIndex;
+
+        Slot(Entity entity, int sequence) {
+            this.entity = entity;
+            this.type = entity.getType();
+            this.sequence = sequence;
+        }
+    }
+
+    private final Map<Long, ArrayList<Slot>> cells = new HashMap<>();
+    private final Map<Entity, Slot> slots = new IdentityHashMap<>();
+    private final Map<EntityType, ArrayList<Slot>> byType = new EnumMap<>(EntityType.class);
+    private int nextSequence;
+    /** Largest horizontal half-extent indexed so far; widens the broadphase search. */
+    private float maxHalfExtent;
+
+    synchronized void add(Entity entity) {
+        if (slots.containsKey(entity)) {
+            return;
+        }
+        Slot slot = new Slot(entity, nextSequence++);
+        slot.halfExtent = halfExtent(entity);
+        maxHalfExtent = Math.max(maxHalfExtent, slot.halfExtent);
+        slot.cell = cellOf(entity.getPosition());
+        addToCell(slot);
+        if (slot.type != null) {
+            ArrayList<Slot> ofType = byType.computeIfAbsent(slot.type, t -> new ArrayList<>());
+            slot.typeIndex = ofType.size();
+            ofType.add(slot);
+        }
+        slots.put(entity, slot);
+    }
+
+    synchronized void remove(Entity entity) {
+        Slot slot = slots.remove(entity);
+        if (slot == null) {
+            return;
+        }
+        removeFromCell(slot);
+        if (slot.type != null) {
+            ArrayList<Slot> ofType = byType.get(slot.type);
+            Slot last = ofType.remove(ofType.size() - 1);
+            if (last != slot) {
+                ofType.set(slot.typeIndex, last);
+                last.typeIndex = slot.typeIndex;
+            }
+        }
+    }
+
+    /** Re-files an entity after it moved (or changed size). Cheap when it stayed in its cell. */
+    synchronized void update(Entity entity) {
+        Slot slot = slots.get(entity);
+        if (slot == null) {
+            return;
+        }
+        slot.halfExtent = halfExtent(entity);
+        maxHalfExtent = Math.max(maxHalfExtent, slot.halfExtent);
+        long cell = cellOf(entity.getPosition());
+        if (cell != slot.cell) {
+            removeFromCell(slot);
+            slot.cell = cell;
+            addToCell(slot);
+        }
+    }
+
+    synchronized void clear() {
+        cells.clear();
+        slots.clear();
+        byType.clear();
+        maxHalfExtent = 0;
+    }
+
+    synchronized int size() {
+        return slots.size();
+    }
+
+    /** Live entities within {@code radius} (3D) of {@code center}, appended to {@code out}. */
+    synchronized void queryRange(Vector3f center, float radius, List<Entity> out) {
+        int minX = cellCoord(center.x - radius);
+        int maxX = cellCoord(center.x + radius);
+        int minZ = cellCoord(center.z - radius);
+        int maxZ = cellCoord(center.z + radius);
+        long cellCount = (long) (maxX - minX + 1) * (maxZ - minZ + 1);
+        if (cellCount > slots.size()) {
+            // A radius wider than the population: probing empty cells costs more than a scan.
+            for (Slot slot : slots.values()) {
+                collectInRange(slot, center, radius, out);
+            }
+            return;
+        }
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                ArrayList<Slot> bucket = cells.get(cellKey(x, z));
+                if (bucket == null) {
+                    continue;
+                }
+                for (int i = 0; i < bucket.size(); i++) {
+                    collectInRange(bucket.get(i), center, radius, out);
+                }
+            }
+        }
+    }
+
+    /**
+     * Nearest live entity of {@code type} (3D distance), or null. Searches
+     * rings of cells outward from {@code position} until no closer ring can
+     * beat the best hit; falls back to scanning the type's list once the rings
+     * have probed more cells than it holds entities.
+     */
+    synchronized Entity nearest(Vector3f position, EntityType type) {
+        ArrayList<Slot> ofType = byType.get(type);
+        if (ofType == null || ofType.isEmpty()) {
+            return null;
+        }
+        int originX = cellCoord(position.x);
+        int originZ = cellCoord(position.z);
+        Entity best = null;
+        float bestDistance = Float.MAX_VALUE;
+        int probed = 0;
+        for (int ring = 0; ; ring++) {
+            if (best != null) {
+                // Anything in this ring or beyond is at least (ring - 1) cells away.
+                if ((ring - 1) * (float) CELL_SIZE > bestDistance) {
+                    return best;
+                }
+            }
+            if (probed > ofType.size()) {
+                return nearestByScan(ofType, position);
+            }
+            for (int dx = -ring; dx <= ring; dx++) {
+                boolean edgeColumn = dx == -ring || dx == ring;
+                for (int dz = -ring; dz <= ring; dz += edgeColumn ? 1 : 2 * ring) {
+                    probed++;
+                    ArrayList<Slot> bucket = cells.get(cellKey(originX + dx, originZ + dz));
+                    if (bucket != null) {
+                        for (int i = 0; i < bucket.size(); i++) {
+                            Slot slot = bucket.get(i);
+                            Entity entity = slot.entity;
+                            if (slot.type != type || !entity.isAlive()) {
+                                continue;
+                            }
+                            float distance = entity.distanceTo(position);
+                            if (distance < bestDistance) {
+                                best = entity;
+                                bestDistance = distance;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /** Live entities of {@code type}, appended to {@code out}. */
+    synchronized void collectByType(EntityType type, List<Entity> out) {
+        ArrayList<Slot> ofType = byType.get(type);
+        if (ofType == null) {
+            return;
+        }
+        for (int i = 0; i < ofType.size(); i++) {
+            Entity entity = ofType.get(i).entity;
+            if (entity.isAlive()) {
+                out.add(entity);
+            }
+        }
+    }
+
+    /**
+     * Collision broadphase for one entity: visits every entity indexed after
+     * it whose horizontal footprint overlaps its own. Calling this for every
+     * indexed entity visits each overlapping pair exactly once. The visitor
+     * may move entities but must not add, remove or {@link #update} them.
+     */
+    synchronized void forEachOverlapCandidate(Entity entity, PairVisitor visitor) {
+        Slot self = slots.get(entity);
+        if (self == null) {
+            return;
+        }
+        Vector3f p = entity.getPosition();
+        float reach = self.halfExtent + maxHalfExtent;
+        int minX = cellCoord(p.x - reach);
+        int maxX = cellCoord(p.x + reach);
+        int minZ = cellCoord(p.z - reach);
+        int maxZ = cellCoord(p.z + reach);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                ArrayList<Slot> bucket = cells.get(cellKey(x, z));
+                if (bucket == null) {
+                    continue;
+                }
+                for (int i = 0; i < bucket.size(); i++) {
+                    Slot other = bucket.get(i);
+                    if (other.sequence <= self.sequence) {
+                        continue;
+                    }
+                    Vector3f q = other.entity.getPosition();
+                    float limit = self.halfExtent + other.halfExtent;
+                    if (Math.abs(q.x - p.x) <= limit && Math.abs(q.z - p.z) <= limit) {
+                        visitor.visit(entity, other.entity);
+                    }
+                }
+            }
+        }
+    }
+
+    // distanceTo reads the live position without getPosition()'s defensive copy.
+    private static void collectInRange(Slot slot, Vector3f center, float radius, List<Entity> out) {
+        Entity entity = slot.entity;
+        if (entity.isAlive() && entity.distanceTo(center) <= radius) {
+            out.add(entity);
+        }
+    }
+
+    private static Entity nearestByScan(ArrayList<Slot> ofType, Vector3f position) {
+        Entity best = null;
+        float bestDistance = Float.MAX_VALUE;
+        for (int i = 0; i < ofType.size(); i++) {
+            Entity entity = ofType.get(i).entity;
+            if (!entity.isAlive()) {
+                continue;
+            }
+            float distance = entity.distanceTo(position);
+            if (distance < bestDistance) {
+                best = entity;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    private void addToCell(Slot slot) {
+        ArrayList<Slot> bucket = cells.computeIfAbsent(slot.cell, k -> new ArrayList<>(4));
+        slot.cellIndex = bucket.size();
+        bucket.add(slot);
+    }
+
+    private void removeFromCell(Slot slot) {
+        ArrayList<Slot> bucket = cells.get(slot.cell);
+        Slot last = bucket.remove(bucket.size() - 1);
+        if (last != slot) {
+            bucket.set(slot.cellIndex, last);
+            last.cellIndex = slot.cellIndex;
+        }
+        if (bucket.isEmpty()) {
+            cells.remove(slot.cell);
+        }
+    }
+
+    /** Horizontal half-extent of the entity's box: the broadphase treats it as a square. */
+    private static float halfExtent(Entity entity) {
+        return Math.max(entity.getWidth(), entity.getLength()) * 0.5f;
+    }
+
+    private static int cellCoord(float v) {
+        return Math.floorDiv((int) Math.floor(v), CELL_SIZE);
+    }
+
+    private static long cellOf(Vector3f position) {
+        return cellKey(cellCoord(position.x), cellCoord(position.z));
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+}
@@ -3,6 +3,7 @@ package com.stonebreak.mobs.entities;
 import com.stonebreak.blocks.BlockType;
 import com.stonebreak.core.Game;
 import com.stonebreak.player.Player;
+import com.stonebreak.world.BlockVolume;
 import com.stonebreak.world.World;
 import com.stonebreak.world.operations.WorldConfiguration;
 import org.joml.Vector3f;
@@ -78,6 +79,12 @@ public class EntitySpawner {
     private static final int MIN_SPAWN_HEIGHT = 60;
     private static final int MAX_SPAWN_HEIGHT = 120;
 
+    /**
+     * Columns are read in one pass. Per thread, since {@link #isValidSpawnLocation}
+     * is public and not confined to the tick thread.
+     */
+    private static final ThreadLocal<BlockVolume> COLUMN = ThreadLocal.withInitial(BlockVolume::new);
+
     /** The passive types this spawner manages. */
     private static final EntityType[] PASSIVE_SPAWN_TYPES =
             {EntityType.COW, EntityType.CHICKEN, EntityType.SHEEP, EntityType.GOOSE};
@@ -365,10 +372,11 @@ public class EntitySpawner {
         if (!isChunkReadyForSpawn(Math.floorDiv(x, 16), Math.floorDiv(z, 16))) {
             return null;
         }
+        BlockVolume column = COLUMN.get().readColumn(world, x, z, MIN_SPAWN_HEIGHT, MAX_SPAWN_HEIGHT + 2);
         for (int y = MAX_SPAWN_HEIGHT; y >= MIN_SPAWN_HEIGHT; y--) {
-            if (isStandableColumn(world.getBlockAt(x, y, z),
-                                  world.getBlockAt(x, y + 1, z),
-                                  world.getBlockAt(x, y + 2, z))) {
+            if (isStandableColumn(column.block(x, y, z),
+                                  column.block(x, y + 1, z),
+                                  column.block(x, y + 2, z))) {
                 return new Vector3f(x + 0.5f, y + 1, z + 0.5f);
             }
         }
@@ -407,11 +415,12 @@ public class EntitySpawner {
     }
 
     private boolean isValidGroundSpawn(int x, int y, int z, Vector3f position) {
-        BlockType ground = world.getBlockAt(x, y - 1, z);
+        BlockVolume column = COLUMN.get().readColumn(world, x, z, y - 1, y + 1);
+        BlockType ground = column.block(x, y - 1, z);
         if (ground == null || ground == BlockType.AIR || ground == BlockType.WATER) return false;
 
-        BlockType head = world.getBlockAt(x, y, z);
-        BlockType above = world.getBlockAt(x, y + 1, z);
+        BlockType head = column.block(x, y, z);
+        BlockType above = column.block(x, y + 1, z);
         if (head != null && head != BlockType.AIR) return false;
         if (above != null && above != BlockType.AIR) return false;
 
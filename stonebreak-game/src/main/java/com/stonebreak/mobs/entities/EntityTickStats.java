@@ -0,0 +1,86 @@
+package com.stonebreak.mobs.entities;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide entity-tick timing per phase, fed by {@link EntityManager#update}
+ * and surfaced on the F3 debug overlay, so the parallel tick's scaling can be
+ * read off a live server. Serial ticks report everything under
+ * {@link Phase#SERIAL_UPDATE} and {@link Phase#MERGE}.
+ *
+ * <p>Static for the same reason as {@code TerrainGenStats}: the overlay has no
+ * path to the server's manager. Each phase keeps its last-tick time and an
+ * exponential moving average, which is what the overlay shows.
+ */
+public final class EntityTickStats {
+
+    public enum Phase {
+        /** Bucketing entities into regions (parallel mode only). */
+        PARTITION,
+        /** Region-local AI, navigation and physics on the fork-join pool. */
+        REGION_UPDATE,
+        /** Entities ticked on the manager thread (all of them in serial mode). */
+        SERIAL_UPDATE,
+        /** Spatial-index refresh, entity-entity collisions, adds and removals. */
+        MERGE
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final AtomicLong[] LAST_NANOS = new AtomicLong[PHASES.length];
+    /** Moving average in nanos, stored as double bits. */
+    private static final AtomicLong[] AVERAGE_BITS = new AtomicLong[PHASES.length];
+    private static final AtomicLong TICKS = new AtomicLong();
+    private static volatile int regions;
+    private static volatile int parallelism;
+
+    static {
+        for (int i = 0; i < PHASES.length; i++) {
+            LAST_NANOS[i] = new AtomicLong();
+            AVERAGE_BITS[i] = new AtomicLong(Double.doubleToLongBits(0.0));
+        }
+    }
+
+    private EntityTickStats() {
+    }
+
+    static void record(Phase phase, long nanos) {
+        int i = phase.ordinal();
+        LAST_NANOS[i].set(nanos);
+        double average = Double.longBitsToDouble(AVERAGE_BITS[i].get());
+        AVERAGE_BITS[i].set(Double.doubleToLongBits(average + (nanos - average) * 0.05));
+    }
+
+    /** Ends a tick; {@code parallelism} is 1 for the serial loop. */
+    static void endTick(int regionCount, int threads) {
+        regions = regionCount;
+        parallelism = threads;
+        TICKS.incrementAndGet();
+    }
+
+    public static long tickCount() {
+        return TICKS.get();
+    }
+
+    public static double lastMillis(Phase phase) {
+        return LAST_NANOS[phase.ordinal()].get() / 1e6;
+    }
+
+    public static double averageMillis(Phase phase) {
+        return Double.longBitsToDouble(AVERAGE_BITS[phase.ordinal()].get()) / 1e6;
+    }
+
+    /** Overlay line, e.g. "2.10 ms (region 1.60 / serial 0.10 / merge 0.40, 37 regions x8)". */
+    public static String summary() {
+        double total = 0;
+        for (Phase phase : PHASES) {
+            total += averageMillis(phase);
+        }
+        if (parallelism <= 1) {
+            return String.format("%.2f ms (serial %.2f / merge %.2f)",
+                total, averageMillis(Phase.SERIAL_UPDATE), averageMillis(Phase.MERGE));
+        }
+        return String.format("%.2f ms (region %.2f / serial %.2f / merge %.2f, %d regions x%d)",
+            total, averageMillis(Phase.REGION_UPDATE), averageMillis(Phase.SERIAL_UPDATE),
+            averageMillis(Phase.MERGE), regions, parallelism);
+    }
+}
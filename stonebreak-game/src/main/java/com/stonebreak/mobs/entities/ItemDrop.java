@@ -130,7 +130,7 @@ public class ItemDrop extends Entity {
         // Update position based on velocity
         Vector3f movement = new Vector3f(velocity).mul(deltaTime);
         Vector3f oldPosition = new Vector3f(position);
-        position.add(movement);
+        DropMotion.move(world, position, velocity, movement, width, length, height, GROUND_PROBE_BIAS);
         
         // Simple collision detection with world
         checkWorldCollision(oldPosition);
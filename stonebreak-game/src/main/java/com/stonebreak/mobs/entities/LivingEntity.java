@@ -9,6 +9,9 @@ import com.stonebreak.mobs.entities.ai.AwarenessController;
 import com.stonebreak.mobs.entities.ai.MobAI;
 import com.stonebreak.mobs.entities.status.StatusEffectType;
 
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Base class for all living entities that can move, interact, and have AI behavior.
  * Extends Entity with health management, movement, and interaction capabilities.
@@ -77,6 +80,17 @@ public abstract class LivingEntity extends Entity {
      */
     protected AwarenessController awareness;
 
+    /**
+     * This mob's own random source: wander directions, AI rolls, flight timing and drops all draw
+     * from it rather than {@link Math#random()}, so mobs ticked on different region workers
+     * ({@link ParallelEntityTick}) never race on a shared generator. Seeded from the spawn order,
+     * type and position.
+     */
+    private final Random random;
+
+    /** Spawn counter mixed into each seed, so two mobs spawned on the same block still diverge. */
+    private static final AtomicLong SEED_SEQUENCE = new AtomicLong();
+
     /**
      * Creates a new living entity at the specified position.
      */
@@ -98,6 +112,7 @@ public abstract class LivingEntity extends Entity {
         this.isMoving = false;
         this.interactionRange = 3.0f;
         this.lastInteractionTime = 0;
+        this.random = new Random(seedFor(type, position));
         this.animationController = new AnimationController(this);
         this.footsteps = hasFootsteps() ? MobSounds.forEntity(world, this) : null;
     }
@@ -381,7 +396,19 @@ public abstract class LivingEntity extends Entity {
      * Gets a random direction for wandering behavior.
      */
     protected Vector3f getRandomDirection() {
-        return LivingEntityLocomotion.randomDirection();
+        return locomotion.randomDirection();
+    }
+
+    /** This mob's own seeded random source; only touch it from the thread ticking the mob. */
+    public Random getRandom() {
+        return random;
+    }
+
+    private static long seedFor(EntityType type, Vector3f position) {
+        long seed = SEED_SEQUENCE.getAndIncrement() * 0x9E3779B97F4A7C15L;
+        seed ^= ((long) Float.floatToIntBits(position.x) << 32) ^ Float.floatToIntBits(position.z);
+        seed ^= Float.floatToIntBits(position.y) * 0xBF58476D1CE4E5B9L + type.ordinal();
+        return seed;
     }
 
     /**
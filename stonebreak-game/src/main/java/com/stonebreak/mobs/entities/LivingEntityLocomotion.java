@@ -3,6 +3,7 @@ package com.stonebreak.mobs.entities;
 import org.joml.Vector3f;
 import com.stonebreak.blocks.BlockType;
 import com.stonebreak.mobs.entities.Entity.BoundingBox;
+import com.stonebreak.world.BlockVolume;
 
 /**
  * Locomotion component of a {@link LivingEntity}: jumping and swim strokes (and the apex
@@ -14,6 +15,9 @@ import com.stonebreak.mobs.entities.Entity.BoundingBox;
  */
 final class LivingEntityLocomotion {
 
+    /** Probe boxes are read in one pass; per thread, as entities may tick in parallel. */
+    private static final ThreadLocal<BlockVolume> VOLUME = ThreadLocal.withInitial(BlockVolume::new);
+
     private final LivingEntity owner;
 
     LivingEntityLocomotion(LivingEntity owner) {
@@ -94,9 +98,9 @@ final class LivingEntityLocomotion {
         return new Vector3f((float) Math.sin(travelYawRad), 0f, (float) Math.cos(travelYawRad));
     }
 
-    /** A random horizontal unit direction for wandering behavior. */
-    static Vector3f randomDirection() {
-        float angle = (float) (Math.random() * 2 * Math.PI);
+    /** A random horizontal unit direction for wandering behavior, from the owner's own random. */
+    Vector3f randomDirection() {
+        float angle = owner.getRandom().nextFloat() * 2 * (float) Math.PI;
         return new Vector3f(
             (float) Math.sin(angle),
             0,
@@ -129,11 +133,11 @@ final class LivingEntityLocomotion {
         int minZ = (int) Math.floor(targetBounds.minZ);
         int maxZ = (int) Math.ceil(targetBounds.maxZ);
 
+        BlockVolume volume = VOLUME.get().read(owner.world, minX, minY, minZ, maxX, maxY, maxZ);
         for (int x = minX; x <= maxX; x++) {
             for (int y = minY; y <= maxY; y++) {
                 for (int z = minZ; z <= maxZ; z++) {
-                    if (owner.world.getBlockAt(x, y, z) != null &&
-                        owner.world.getBlockAt(x, y, z).isSolid()) {
+                    if (volume.block(x, y, z).isSolid()) {
                         return false;
                     }
                 }
@@ -161,11 +165,13 @@ final class LivingEntityLocomotion {
         int groundZ = (int) Math.floor(targetPosition.z);
 
         // Check current ground block and surrounding area
+        BlockVolume volume = VOLUME.get().read(owner.world,
+            groundX - 1, groundY, groundZ - 1, groundX + 1, groundY + 1, groundZ + 1);
         for (int x = groundX - 1; x <= groundX + 1; x++) {
             for (int z = groundZ - 1; z <= groundZ + 1; z++) {
                 // Check at ground level and one block up (where flowers typically are)
                 for (int y = groundY; y <= groundY + 1; y++) {
-                    var blockType = owner.world.getBlockAt(x, y, z);
+                    var blockType = volume.block(x, y, z);
                     if (blockType != null && isFlower(blockType)) {
                         return false; // Avoid trampling flowers
                     }
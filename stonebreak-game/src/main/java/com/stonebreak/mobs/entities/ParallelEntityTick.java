@@ -0,0 +1,200 @@
+package com.stonebreak.mobs.entities;
+
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Region-partitioned parallel entity tick, the opt-in server mode of
+ * {@link EntityManager#update} ({@code -Dstonebreak.entities.parallel=on}).
+ *
+ * <p>Entities are bucketed by {@value #REGION_CHUNKS}×{@value #REGION_CHUNKS}
+ * chunk regions and the regions are 4-coloured by coordinate parity. The
+ * colours run one after another; within a colour every region ticks on the
+ * fork-join pool. Two regions of the same colour always have a whole region
+ * between them, so an entity whose AI, navigation and physics only reach
+ * {@value #REGION_BLOCKS} blocks never sees a neighbour that is being ticked
+ * concurrently. Inside a region entities tick in manager order, exactly as
+ * the serial loop would.
+ *
+ * <p>Two more things keep the result independent of thread scheduling. Every
+ * random roll in a mob's tick comes from its own seeded generator
+ * ({@link LivingEntity#getRandom()}), never a shared one. And entities queued
+ * from inside a region (loot from a mob that died mid-tick) are held per
+ * region and handed back region by region once every colour has run, not in
+ * the order the workers happened to finish.
+ *
+ * <p>Only region-local entities go through here (see
+ * {@link #isRegionLocal}); the manager ticks the rest afterwards on its own
+ * thread, along with collisions and every add/remove.
+ */
+final class ParallelEntityTick {
+
+    static final int REGION_CHUNKS = 4;
+    static final int REGION_BLOCKS = REGION_CHUNKS * 16;
+
+    private final ForkJoinPool pool;
+    /** Spawn queue of the region this worker is ticking; unset outside {@link #run}. */
+    private static final ThreadLocal<List<Entity>> REGION_SPAWNS = new ThreadLocal<>();
+
+    /** Region key → entities in manager order. Regions are reused across ticks. */
+    private final Map<Long, Region> regions = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private final List<Region>[] byColour = new List[] {
+        new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()
+    };
+    private int lastRegionCount;
+
+    ParallelEntityTick(int parallelism) {
+        AtomicInteger threadIds = new AtomicInteger();
+        this.pool = new ForkJoinPool(Math.max(1, parallelism), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("EntityTick-" + threadIds.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Whether the entity can tick inside its region: server-simulated mobs
+     * whose update only reads the world and nearby entities. Projectiles,
+     * drops (they reach into player inventories), remote players and network
+     * shadows stay on the manager thread.
+     */
+    static boolean isRegionLocal(Entity entity) {
+        return entity instanceof LivingEntity
+            && !entity.isNetworkShadow()
+            && !entity.isSelfPropelled()
+            && entity.getType() != EntityType.REMOTE_PLAYER;
+    }
+
+    /** Groups {@code entities} by region; call once per tick before {@link #run}. */
+    void partition(List<Entity> entities) {
+        for (Region region : regions.values()) {
+            region.entities.clear();
+        }
+        for (Entity entity : entities) {
+            Vector3f p = entity.getPosition();
+            long key = regionKey(regionCoord(p.x), regionCoord(p.z));
+            regions.computeIfAbsent(key, k -> new Region()).entities.add(entity);
+        }
+        // Drop regions that emptied out so the map tracks where entities are now.
+        regions.values().removeIf(region -> region.entities.isEmpty());
+        for (List<Region> colour : byColour) {
+            colour.clear();
+        }
+        for (Map.Entry<Long, Region> region : regions.entrySet()) {
+            long key = region.getKey();
+            byColour[colour((int) (key >> 32), (int) key)].add(region.getValue());
+        }
+        lastRegionCount = regions.size();
+    }
+
+    /**
+     * Ticks every partitioned entity, one colour at a time, regions of a colour in parallel,
+     * then hands whatever the regions queued through {@link #deferSpawn} to {@code spawn} on the
+     * calling thread, region by region.
+     */
+    void run(Consumer<Entity> tick, Consumer<Entity> spawn) {
+        for (List<Region> colour : byColour) {
+            if (colour.isEmpty()) {
+                continue;
+            }
+            pool.invoke(new RegionBatch(colour, 0, colour.size(), tick));
+        }
+        for (List<Region> colour : byColour) {
+            for (Region region : colour) {
+                for (int i = 0; i < region.spawned.size(); i++) {
+                    spawn.accept(region.spawned.get(i));
+                }
+                region.spawned.clear();
+            }
+        }
+    }
+
+    /**
+     * Queues {@code entity} on the region being ticked on this thread.
+     *
+     * @return false outside a region tick; the caller queues it itself
+     */
+    static boolean deferSpawn(Entity entity) {
+        List<Entity> spawned = REGION_SPAWNS.get();
+        if (spawned == null) {
+            return false;
+        }
+        spawned.add(entity);
+        return true;
+    }
+
+    int lastRegionCount() {
+        return lastRegionCount;
+    }
+
+    int parallelism() {
+        return pool.getParallelism();
+    }
+
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    static int regionCoord(float blockCoord) {
+        return Math.floorDiv((int) Math.floor(blockCoord), REGION_BLOCKS);
+    }
+
+    /** 0..3 by coordinate parity: equal colours are never adjacent, diagonals included. */
+    static int colour(int regionX, int regionZ) {
+        return (regionX & 1) | ((regionZ & 1) << 1);
+    }
+
+    private static long regionKey(int regionX, int regionZ) {
+        return ((long) regionX << 32) | (regionZ & 0xFFFFFFFFL);
+    }
+
+    /** One region's entities, in manager order, and what they queued this tick. */
+    private static final class Region {
+        final ArrayList<Entity> entities = new ArrayList<>();
+        final ArrayList<Entity> spawned = new ArrayList<>();
+    }
+
+    /** Splits a colour's regions in halves down to single regions. */
+    private static final class RegionBatch extends RecursiveAction {
+        private final List<Region> regions;
+        private final int from;
+        private final int to;
+        private final Consumer<Entity> tick;
+
+        RegionBatch(List<Region> regions, int from, int to, Consumer<Entity> tick) {
+            this.regions = regions;
+            this.from = from;
+            this.to = to;
+            this.tick = tick;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                Region region = regions.get(from);
+                REGION_SPAWNS.set(region.spawned);
+                try {
+                    for (int i = 0; i < region.entities.size(); i++) {
+                        tick.accept(region.entities.get(i));
+                    }
+                } finally {
+                    REGION_SPAWNS.remove();
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RegionBatch(regions, from, mid, tick), new RegionBatch(regions, mid, to, tick));
+        }
+    }
+}
@@ -34,9 +34,9 @@ public final class MobAI {
     private MobBehaviorState currentState = MobBehaviorState.IDLE;
     private float stateTimer;
 
-    /** The usual case: reacts to the local player, seeded from the shared random. */
+    /** The usual case: reacts to the local player, rolling on the mob's own seeded random. */
     public MobAI(LivingEntity entity, Steering steering, Behavior... behaviors) {
-        this(entity, new PathAgent(entity, steering), PlayerLocator.LOCAL, new Random(),
+        this(entity, new PathAgent(entity, steering), PlayerLocator.LOCAL, entity.getRandom(),
                 List.of(behaviors));
     }
 
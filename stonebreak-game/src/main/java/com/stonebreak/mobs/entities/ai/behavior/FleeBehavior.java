@@ -18,6 +18,9 @@ import java.util.EnumSet;
  * <p>Fleeing routes rather than sprinting blindly away: the mob picks a spot away from the threat
  * and lets navigation find the way there, so it rounds a rock instead of pressing into it. If the
  * spot turns out unreachable it picks another, which is what running along a cliff edge looks like.
+ * While a flee field for the threat exists the mob descends that instead, so a herd scattering
+ * from one player shares a single field rather than planning a retreat each; the picked spot is
+ * where it heads when the field has nothing better.
  */
 public final class FleeBehavior implements Behavior {
 
@@ -112,6 +115,9 @@ public final class FleeBehavior implements Behavior {
         }
         if (context.nav().isSettled()) {
             pickRetreat(context); // arrived, or the way is blocked — keep moving off
+        } else if (threatKnown) {
+            // Re-aim the shared field at wherever the threat is now; the retreat spot stays put.
+            context.nav().fleeFrom(threat, target, ARRIVAL_RADIUS, speedMultiplier);
         }
     }
 
@@ -158,6 +164,6 @@ public final class FleeBehavior implements Behavior {
         }
         target.normalize().mul(distance).add(position);
         target.y = position.y;
-        context.nav().moveTo(target, ARRIVAL_RADIUS, speedMultiplier);
+        context.nav().fleeFrom(threat, target, ARRIVAL_RADIUS, speedMultiplier);
     }
 }
@@ -61,6 +61,11 @@ public final class PursuePlayerBehavior implements Behavior {
             return; // shouldContinue ends this on the next tick
         }
         boolean alerted = awareness.getState() == AwarenessController.AwarenessState.ALERTED;
+        if (alerted && context.nearestPlayer() != null) {
+            // A live player is what a whole pack converges on, so they share one field for it.
+            context.nav().pursue(destination, ARRIVAL_RADIUS, pursueSpeedMultiplier);
+            return;
+        }
         context.nav().moveTo(destination, ARRIVAL_RADIUS,
                 alerted ? pursueSpeedMultiplier : investigateSpeedMultiplier);
     }
@@ -1,6 +1,7 @@
 package com.stonebreak.mobs.entities.ai.nav;
 
 import com.stonebreak.blocks.BlockType;
+import com.stonebreak.world.BlockVolume;
 import com.stonebreak.world.World;
 
 /**
@@ -24,6 +25,9 @@ public final class AirProbe {
     /** How far above and below a column the peak scan looks. */
     private static final int PEAK_SCAN_RANGE = 32;
 
+    /** Each probe reads its box or column in one pass; per thread, as entities may tick in parallel. */
+    private static final ThreadLocal<BlockVolume> VOLUME = ThreadLocal.withInitial(BlockVolume::new);
+
     private AirProbe() {
         throw new UnsupportedOperationException("Utility class");
     }
@@ -43,10 +47,11 @@ public final class AirProbe {
         int minZ = (int) Math.floor(z - radius);
         int maxZ = (int) Math.floor(z + radius);
 
+        BlockVolume volume = VOLUME.get().read(world, minX, minY, minZ, maxX, maxY, maxZ);
         for (int bx = minX; bx <= maxX; bx++) {
             for (int by = minY; by <= maxY; by++) {
                 for (int bz = minZ; bz <= maxZ; bz++) {
-                    BlockType block = world.getBlockAt(bx, by, bz);
+                    BlockType block = volume.block(bx, by, bz);
                     if (block != null && block.isSolid()) {
                         return false;
                     }
@@ -67,8 +72,10 @@ public final class AirProbe {
         int blockX = (int) Math.floor(x);
         int blockZ = (int) Math.floor(z);
         int centre = (int) Math.floor(fromY);
+        BlockVolume column = VOLUME.get().readColumn(world, blockX, blockZ,
+            centre - PEAK_SCAN_RANGE, centre + PEAK_SCAN_RANGE);
         for (int y = centre + PEAK_SCAN_RANGE; y >= centre - PEAK_SCAN_RANGE; y--) {
-            BlockType block = world.getBlockAt(blockX, y, blockZ);
+            BlockType block = column.block(blockX, y, blockZ);
             if (block != null && block.isSolid()) {
                 return y + 1.0f;
             }
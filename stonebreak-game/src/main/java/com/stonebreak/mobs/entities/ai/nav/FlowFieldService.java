@@ -0,0 +1,284 @@
+package com.stonebreak.mobs.entities.ai.nav;
+
+import com.openmason.engine.wayfind.voxel.FlowField;
+import com.openmason.engine.wayfind.voxel.NavProfile;
+import com.openmason.engine.wayfind.voxel.NavVolume;
+import com.openmason.engine.wayfind.voxel.NavWindow;
+import org.joml.Vector3f;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared flow fields for mobs that chase or flee the same target, owned by a
+ * {@link PathfindingService} and run on its workers.
+ *
+ * <p>A pack chasing one player would otherwise send one search each, all near-identical. Here the
+ * first mob to ask for a target creates a field for it; every other mob of the same
+ * {@link NavProfile} asking for a target within {@link #SHARE_RADIUS} of it reads the same field.
+ * Per-mob cost is a short scan of the live fields plus a cell lookup, so it stays flat however big
+ * the group gets.
+ *
+ * <p>Fields follow their target. When the target moves to another cell the field is re-integrated
+ * over the window it already has, which reads no world; only when the target nears the window edge,
+ * or a block inside the window changes, is a new window read. Either way the work happens on a
+ * worker and the previous field stays readable until the new one is published — a mob never waits
+ * on a field, it falls back to an ordinary path until the first one exists.
+ *
+ * <p>Thread-safe: mobs on any tick thread may ask at once.
+ */
+public final class FlowFieldService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlowFieldService.class);
+
+    /** Half-width of a window, in blocks. Past this a chaser is on its own path anyway. */
+    static final int WINDOW_RADIUS = 32;
+
+    /** Window reach below and above the target. Enough for hillsides and a shallow cave. */
+    private static final int WINDOW_BELOW = 12;
+    private static final int WINDOW_ABOVE = 12;
+
+    /** A target this close to its window's edge gets a new window centred on it. */
+    private static final int RECENTRE_MARGIN = 8;
+
+    /** Requests aimed within this many blocks of a live field's target share that field. */
+    static final float SHARE_RADIUS = 4.0f;
+
+    /** How far a target or agent position is snapped down or up onto a standable cell. */
+    private static final int SNAP_DOWN = 4;
+    private static final int SNAP_UP = 2;
+
+    /** See {@link FlowField#away}: above one, so a cornered herd breaks out rather than cowering. */
+    private static final float FLEE_WEIGHT = 1.2f;
+
+    /** A field nobody has read for this long is dropped. */
+    private static final long IDLE_NANOS = 10_000_000_000L;
+
+    private final NavVolume volume;
+    private final Executor executor;
+
+    private final List<Entry> entries = new ArrayList<>(); // guarded by itself
+
+    private final AtomicLong windowBuilds = new AtomicLong();
+    private final AtomicLong integrations = new AtomicLong();
+
+    private volatile boolean closed;
+
+    FlowFieldService(NavVolume volume, Executor executor) {
+        this.volume = volume;
+        this.executor = executor;
+    }
+
+    /**
+     * The current field toward (or away from) {@code target} for agents moving like
+     * {@code profile}, and a request to keep it current. Cheap enough to call every tick per mob.
+     *
+     * @return the latest published field, or {@code null} while the first one is still being built,
+     *         when the target has no standable cell, or once the service is closed
+     */
+    public FlowField field(Vector3f target, NavProfile profile, boolean flee) {
+        if (closed) {
+            return null;
+        }
+        int x = (int) Math.floor(target.x);
+        int y = (int) Math.floor(target.y + 0.001f);
+        int z = (int) Math.floor(target.z);
+        long now = System.nanoTime();
+
+        Entry entry;
+        synchronized (entries) {
+            entry = find(x, z, profile, flee);
+            if (entry == null) {
+                entries.removeIf(idle -> now - idle.lastUsed > IDLE_NANOS);
+                entry = new Entry(profile, flee);
+                entries.add(entry);
+            }
+            entry.aim(x, y, z, now);
+        }
+        if (entry.isStale() && entry.refreshing.compareAndSet(false, true)) {
+            schedule(entry);
+        }
+        return entry.published;
+    }
+
+    /**
+     * Where an agent whose feet are at {@code feet} should step next along {@code field}.
+     *
+     * @return a window index into {@code field.window()}, {@link FlowField#NO_STEP} when the agent
+     *         is where the field leads (the target, or a dead end), or {@link NavWindow#NOT_FOUND}
+     *         when the agent is not standing anywhere the field covers
+     */
+    public static int nextStep(FlowField field, Vector3f feet) {
+        int cell = field.window().locate((int) Math.floor(feet.x), (int) Math.floor(feet.y + 0.001f),
+                (int) Math.floor(feet.z), SNAP_DOWN, SNAP_UP);
+        return cell == NavWindow.NOT_FOUND ? NavWindow.NOT_FOUND : field.nextStep(cell);
+    }
+
+    private Entry find(int x, int z, NavProfile profile, boolean flee) {
+        float best = SHARE_RADIUS * SHARE_RADIUS;
+        Entry found = null;
+        for (Entry entry : entries) {
+            if (entry.flee != flee || !entry.profile.equals(profile)) {
+                continue;
+            }
+            float dx = entry.aimX - x;
+            float dz = entry.aimZ - z;
+            float distanceSquared = dx * dx + dz * dz;
+            if (distanceSquared <= best) {
+                best = distanceSquared;
+                found = entry;
+            }
+        }
+        return found;
+    }
+
+    private void schedule(Entry entry) {
+        try {
+            executor.execute(() -> refresh(entry));
+        } catch (RuntimeException rejectedByExecutor) {
+            // A shutting-down pool refuses work; the next request will try again.
+            entry.refreshing.set(false);
+        }
+    }
+
+    private void refresh(Entry entry) {
+        int x = entry.aimX;
+        int y = entry.aimY;
+        int z = entry.aimZ;
+        try {
+            if (closed) {
+                return;
+            }
+            NavWindow window = entry.window;
+            if (window == null || entry.dirty || !insideInterior(window, x, y, z)) {
+                // Clear first: a change landing mid-build marks the new window dirty again.
+                entry.dirty = false;
+                window = NavWindow.build(volume, entry.profile,
+                        x - WINDOW_RADIUS, y - WINDOW_BELOW, z - WINDOW_RADIUS,
+                        x + WINDOW_RADIUS, y + WINDOW_ABOVE, z + WINDOW_RADIUS);
+                entry.window = window;
+                windowBuilds.incrementAndGet();
+            }
+
+            int target = window.locate(x, y, z, SNAP_DOWN, SNAP_UP);
+            FlowField field = null;
+            if (target != NavWindow.NOT_FOUND) {
+                field = FlowField.toward(window, target);
+                if (entry.flee) {
+                    field = FlowField.away(field, FLEE_WEIGHT);
+                }
+                integrations.incrementAndGet();
+            }
+            entry.published = field;
+        } catch (Throwable failure) {
+            entry.published = null;
+            LOGGER.warn("Flow field build failed", failure);
+        } finally {
+            // Recorded even on failure, so a broken target is retried when it moves, not every tick.
+            entry.builtX = x;
+            entry.builtY = y;
+            entry.builtZ = z;
+            entry.refreshing.set(false);
+        }
+    }
+
+    private static boolean insideInterior(NavWindow window, int x, int y, int z) {
+        return x >= window.minX() + RECENTRE_MARGIN && x <= window.maxX() - RECENTRE_MARGIN
+                && z >= window.minZ() + RECENTRE_MARGIN && z <= window.maxZ() - RECENTRE_MARGIN
+                && y >= window.minY() + SNAP_DOWN && y <= window.maxY() - SNAP_UP;
+    }
+
+    // ── World changes ────────────────────────────────────────────────────────
+
+    /** A block changed; every window that could have read it is rebuilt on its next refresh. */
+    void onBlockChanged(int x, int y, int z) {
+        synchronized (entries) {
+            for (Entry entry : entries) {
+                NavWindow window = entry.window;
+                // One block of slack: a cell's standability reads the block below and its headroom.
+                if (window != null && window.contains(x, y, z, 2)) {
+                    entry.dirty = true;
+                }
+            }
+        }
+    }
+
+    /** Terrain in the given block columns loaded or unloaded. */
+    void onColumnsChanged(int minX, int minZ, int maxX, int maxZ) {
+        synchronized (entries) {
+            for (Entry entry : entries) {
+                NavWindow window = entry.window;
+                if (window != null && maxX >= window.minX() - 1 && minX <= window.maxX() + 1
+                        && maxZ >= window.minZ() - 1 && minZ <= window.maxZ() + 1) {
+                    entry.dirty = true;
+                }
+            }
+        }
+    }
+
+    // ── Diagnostics and teardown ─────────────────────────────────────────────
+
+    /** Fields currently alive. */
+    public int liveFields() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /** Windows read from the world since construction. */
+    public long windowBuilds() {
+        return windowBuilds.get();
+    }
+
+    /** Fields integrated since construction, including those over a reused window. */
+    public long integrations() {
+        return integrations.get();
+    }
+
+    void close() {
+        closed = true;
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /** One shared field: what it is aimed at, and what has been published for it so far. */
+    private static final class Entry {
+        final NavProfile profile;
+        final boolean flee;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        volatile int aimX;
+        volatile int aimY;
+        volatile int aimZ;
+        volatile long lastUsed;
+
+        volatile NavWindow window;
+        volatile boolean dirty;
+        volatile FlowField published;
+        volatile int builtX;
+        volatile int builtY;
+        volatile int builtZ;
+
+        Entry(NavProfile profile, boolean flee) {
+            this.profile = profile;
+            this.flee = flee;
+        }
+
+        void aim(int x, int y, int z, long now) {
+            aimX = x;
+            aimY = y;
+            aimZ = z;
+            lastUsed = now;
+        }
+
+        boolean isStale() {
+            return window == null || dirty || aimX != builtX || aimY != builtY || aimZ != builtZ;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.stonebreak.mobs.entities.ai.nav;
 
 import com.stonebreak.blocks.BlockType;
+import com.stonebreak.world.BlockVolume;
 import com.stonebreak.world.World;
 
 /**
@@ -22,6 +23,9 @@ public final class GroundProbe {
     private static final int WATER_SCAN_UP = 1;
     private static final int WATER_SCAN_DOWN = 3;
 
+    /** Each probe reads its column in one pass; per thread, as entities may tick in parallel. */
+    private static final ThreadLocal<BlockVolume> COLUMN = ThreadLocal.withInitial(BlockVolume::new);
+
     private GroundProbe() {
         throw new UnsupportedOperationException("Utility class");
     }
@@ -40,9 +44,11 @@ public final class GroundProbe {
         int blockZ = (int) Math.floor(z);
         int from = (int) Math.floor(startY);
 
+        BlockVolume column = COLUMN.get().readColumn(world, blockX, blockZ,
+            from - GROUND_SCAN_DOWN, from + GROUND_SCAN_UP + 1);
         for (int y = from + GROUND_SCAN_UP; y >= from - GROUND_SCAN_DOWN; y--) {
-            BlockType block = world.getBlockAt(blockX, y, blockZ);
-            BlockType above = world.getBlockAt(blockX, y + 1, blockZ);
+            BlockType block = column.block(blockX, y, blockZ);
+            BlockType above = column.block(blockX, y + 1, blockZ);
             if (block != null && block.isSolid() && (above == null || !above.isSolid())) {
                 return y + 1.0f;
             }
@@ -62,8 +68,10 @@ public final class GroundProbe {
         int blockZ = (int) Math.floor(z);
         int from = (int) Math.floor(y);
 
+        BlockVolume column = COLUMN.get().readColumn(world, blockX, blockZ,
+            from - WATER_SCAN_DOWN, from + WATER_SCAN_UP);
         for (int cy = from + WATER_SCAN_UP; cy >= from - WATER_SCAN_DOWN; cy--) {
-            if (world.getBlockAt(blockX, cy, blockZ) == BlockType.WATER) {
+            if (column.block(blockX, cy, blockZ) == BlockType.WATER) {
                 return cy + 1.0f;
             }
         }
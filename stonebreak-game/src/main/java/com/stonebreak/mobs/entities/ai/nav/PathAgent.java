@@ -1,7 +1,10 @@
 package com.stonebreak.mobs.entities.ai.nav;
 
 import com.openmason.engine.wayfind.SearchLimits;
+import com.openmason.engine.wayfind.voxel.FlowField;
+import com.openmason.engine.wayfind.voxel.NavNodes;
 import com.openmason.engine.wayfind.voxel.NavProfile;
+import com.openmason.engine.wayfind.voxel.NavWindow;
 import com.stonebreak.mobs.entities.LivingEntity;
 import com.stonebreak.world.World;
 import org.joml.Vector3f;
@@ -19,6 +22,10 @@ import org.joml.Vector3f;
  * <p>Searches are asynchronous, so there is always a window between asking and having a route. The
  * mob holds position through it rather than blundering off in the goal's rough direction — a wrong
  * first step is worse than a late one, and at a fraction of a second nobody sees the pause.
+ *
+ * <p>Targets that many mobs share — a player being chased or fled — go through {@link #pursue} and
+ * {@link #fleeFrom} instead, which steer along a {@link FlowFieldService} field one cell at a time
+ * and only fall back to a route of their own when the field cannot help.
  */
 public final class PathAgent {
 
@@ -44,6 +51,12 @@ public final class PathAgent {
     private static final float STUCK_SPEED_BLOCKS_PER_SECOND = 0.15f;
     private static final float STUCK_SECONDS = 1.5f;
 
+    /**
+     * How long a mob that wedged while following a shared field walks its own route instead. The
+     * field would steer it straight back into whatever pinned it.
+     */
+    private static final float FIELD_STUCK_BACKOFF_SECONDS = 3.0f;
+
     /**
      * Expansion budget per search. Roughly a 30-block route through cluttered ground; beyond it the
      * partial result is a better answer than a longer search, because the world will have moved on.
@@ -75,6 +88,13 @@ public final class PathAgent {
     private float goalRadius = 1.0f;
     private float speedMultiplier = 1.0f;
 
+    // Shared-field steering, set by pursue and fleeFrom. The path machinery below stays armed as
+    // the fallback for whenever the field has nothing to say.
+    private boolean fieldActive;
+    private boolean fieldFlee;
+    private final Vector3f fieldTarget = new Vector3f();
+    private float fieldBackoff;
+
     private Path path = Path.EMPTY;
     private int cursor;
 
@@ -120,6 +140,7 @@ public final class PathAgent {
      * @param speedMultiplier scales the mob's base move speed while walking this route
      */
     public void moveTo(Vector3f goal, float goalRadius, float speedMultiplier) {
+        this.fieldActive = false;
         this.desiredGoal.set(goal);
         this.goalRadius = goalRadius;
         this.speedMultiplier = speedMultiplier;
@@ -129,9 +150,35 @@ public final class PathAgent {
         }
     }
 
+    /**
+     * Chases a target that other mobs may be chasing too. Steers along the shared flow field for
+     * it, so a pack costs one field instead of one search per member; falls back to an ordinary
+     * route to the target while the field is being built or the mob is outside it.
+     */
+    public void pursue(Vector3f target, float goalRadius, float speedMultiplier) {
+        moveTo(target, goalRadius, speedMultiplier);
+        fieldActive = true;
+        fieldFlee = false;
+        fieldTarget.set(target);
+    }
+
+    /**
+     * Runs from a threat along the shared flee field for it. Where the field has no answer — still
+     * building, or the mob is cornered at the edge of it — the mob routes to {@code retreat}
+     * instead, so callers still pick a sensible spot to run to.
+     */
+    public void fleeFrom(Vector3f threat, Vector3f retreat, float goalRadius, float speedMultiplier) {
+        moveTo(retreat, goalRadius, speedMultiplier);
+        fieldActive = true;
+        fieldFlee = true;
+        fieldTarget.set(threat);
+    }
+
     /** Abandons the destination and the route, and stops the mob where it stands. */
     public void stop() {
         hasGoal = false;
+        fieldActive = false;
+        fieldBackoff = 0.0f;
         clearPath();
         cancelPending();
         stuckTimer = 0.0f;
@@ -151,6 +198,7 @@ public final class PathAgent {
     public void tick(float deltaTime) {
         steering.tick(deltaTime);
         searchCooldown = Math.max(0.0f, searchCooldown - deltaTime);
+        fieldBackoff = Math.max(0.0f, fieldBackoff - deltaTime);
 
         collectResult();
 
@@ -158,9 +206,47 @@ public final class PathAgent {
             return;
         }
 
-        requestPathIfNeeded();
-        followPath(deltaTime);
-        updateStuck(deltaTime);
+        boolean onField = fieldActive && fieldBackoff <= 0.0f && followField(deltaTime);
+        if (!onField) {
+            requestPathIfNeeded();
+            followPath(deltaTime);
+        }
+        if (updateStuck(deltaTime) && onField) {
+            fieldBackoff = FIELD_STUCK_BACKOFF_SECONDS;
+        }
+    }
+
+    /**
+     * Takes one step along the shared field, if it has one to offer. Returns false to hand the
+     * tick to the path follower.
+     */
+    private boolean followField(float deltaTime) {
+        PathfindingService service = service();
+        FlowField field = service == null ? null
+                : service.flowFields().field(fieldTarget, profile, fieldFlee);
+        if (field == null) {
+            return false;
+        }
+        if (!fieldFlee && entity.getPosition().distance(fieldTarget) <= goalRadius) {
+            arrive();
+            return true;
+        }
+        int next = FlowFieldService.nextStep(field, feet(scratch));
+        if (next == NavWindow.NOT_FOUND) {
+            return false; // outside the field's window
+        }
+        if (next == FlowField.NO_STEP) {
+            if (fieldFlee) {
+                return false; // cornered: the retreat route gets a say
+            }
+            arrive();
+            return true;
+        }
+        clearPath();
+        long cell = field.window().node(next);
+        steerToward(NavNodes.x(cell) + 0.5f, field.window().surface(next), NavNodes.z(cell) + 0.5f,
+                deltaTime);
+        return true;
     }
 
     /** Adopts a finished search, or drops one that has become irrelevant. */
@@ -261,10 +347,17 @@ public final class PathAgent {
                 arrive();
                 return;
             }
-            dx = path.x(cursor) - position.x;
-            dz = path.z(cursor) - position.z;
-            horizontal = (float) Math.sqrt(dx * dx + dz * dz);
         }
+        steerToward(path.x(cursor), path.y(cursor), path.z(cursor), deltaTime);
+    }
+
+    /** Walks toward one waypoint, jumping if the rise to it needs more than an auto-step. */
+    private void steerToward(float x, float y, float z, float deltaTime) {
+        Vector3f position = entity.getPosition();
+        float feetY = position.y - entity.getLegHeight();
+        float dx = x - position.x;
+        float dz = z - position.z;
+        float horizontal = (float) Math.sqrt(dx * dx + dz * dz);
 
         if (horizontal < 1e-4f) {
             steering.stopMoving();
@@ -276,7 +369,7 @@ public final class PathAgent {
 
         // The route planned a rise the auto-step cannot make, so it planned a jump. Take it on the
         // approach rather than at the wall, or the hop starts with no room to carry the body over.
-        if (path.y(cursor) - feetY > profile.maxStepUp() + 0.05f && horizontal < 1.5f) {
+        if (y - feetY > profile.maxStepUp() + 0.05f && horizontal < 1.5f) {
             steering.requestJump();
         }
         status = Status.FOLLOWING;
@@ -291,14 +384,16 @@ public final class PathAgent {
     /**
      * Notices a mob that wants to move and is not moving — pinned by another mob, wedged on
      * geometry the route did not model — and forces a replan rather than letting it shuffle
-     * against a wall indefinitely.
+     * against a wall indefinitely. Field steering is checked the same way; the caller then sets the
+     * field aside for a while, since it would only lead back into the wall. Returns whether the mob
+     * was just declared stuck.
      */
-    private void updateStuck(float deltaTime) {
+    private boolean updateStuck(float deltaTime) {
         Vector3f position = entity.getPosition();
         if (status != Status.FOLLOWING) {
             previousPosition.set(position);
             stuckTimer = 0.0f;
-            return;
+            return false;
         }
 
         float moved = position.distance(previousPosition);
@@ -311,10 +406,12 @@ public final class PathAgent {
                 clearPath();
                 searchCooldown = 0.0f;
                 status = Status.STUCK;
+                return true;
             }
         } else {
             stuckTimer = 0.0f;
         }
+        return false;
     }
 
     // ── State ────────────────────────────────────────────────────────────────
@@ -6,15 +6,18 @@ import com.openmason.engine.wayfind.SearchResult;
 import com.openmason.engine.wayfind.voxel.AirNavDomain;
 import com.openmason.engine.wayfind.voxel.AirNavProfile;
 import com.openmason.engine.wayfind.voxel.GroundNavDomain;
+import com.openmason.engine.wayfind.voxel.HierarchicalPlanner;
 import com.openmason.engine.wayfind.voxel.NavCellCache;
 import com.openmason.engine.wayfind.voxel.NavNodes;
 import com.openmason.engine.wayfind.voxel.NavProfile;
 import com.openmason.engine.wayfind.voxel.NavVolume;
+import com.openmason.engine.wayfind.voxel.SectionPortalGraph;
 import com.stonebreak.world.World;
 import org.joml.Vector3f;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
@@ -36,6 +39,16 @@ import java.util.concurrent.atomic.AtomicLong;
  * <p>What the threading buys is not raw speed — a mob route costs a few hundred microseconds — but
  * insulation: a pathological search in a cave system cannot stretch a server tick.
  *
+ * <p>Ground routes longer than {@link #HIERARCHICAL_MIN_BLOCKS} go through a
+ * {@link HierarchicalPlanner} instead: one {@link SectionPortalGraph} per {@link NavProfile} is
+ * shared by every mob that moves that way, and only the first leg of the route comes back as a
+ * {@link Path}. The leg is marked incomplete, so the agent walks it and asks again from there.
+ * The world reports block and chunk changes through {@link #onBlockChanged} and
+ * {@link #onColumnsChanged} to keep those graphs honest.
+ *
+ * <p>Mobs chasing or fleeing a shared target skip searches altogether and read a field from
+ * {@link #flowFields()}, which runs on the same workers.
+ *
  * <p>The rules that keep it boring:
  * <ul>
  *   <li>Workers produce an immutable {@link Path} and nothing else. They never touch an entity.</li>
@@ -69,6 +82,15 @@ public final class PathfindingService implements AutoCloseable {
      */
     private static final int AIR_GOAL_SNAP_CELLS = 2;
 
+    /**
+     * Horizontal distance beyond which a ground search plans over sections first. Below it a
+     * plain cell search is cheap and exact, and a portal detour would only make the route worse.
+     */
+    public static final int HIERARCHICAL_MIN_BLOCKS = 32;
+
+    /** Portal-level budget for a hierarchical route: expansions count portals, not cells. */
+    private static final SearchLimits ROUTE_LIMITS = new SearchLimits(4000, Float.MAX_VALUE, 1.0f);
+
     private final NavVolume volume;
     private final Executor executor;
     private final ExecutorService ownedPool;
@@ -76,12 +98,16 @@ public final class PathfindingService implements AutoCloseable {
 
     private final Set<PathRequest> inFlight = ConcurrentHashMap.newKeySet();
     private final ThreadLocal<AStar> solvers = ThreadLocal.withInitial(AStar::new);
+    private final ThreadLocal<HierarchicalPlanner> planners = ThreadLocal.withInitial(HierarchicalPlanner::new);
+    private final Map<NavProfile, SectionPortalGraph> portalGraphs = new ConcurrentHashMap<>();
+    private final FlowFieldService flowFields;
 
     private final AtomicLong submitted = new AtomicLong();
     private final AtomicLong rejected = new AtomicLong();
     private final AtomicLong completed = new AtomicLong();
     private final AtomicLong failed = new AtomicLong();
     private final AtomicLong partial = new AtomicLong();
+    private final AtomicLong hierarchical = new AtomicLong();
     private final AtomicLong searchNanos = new AtomicLong();
 
     private volatile boolean closed;
@@ -108,6 +134,12 @@ public final class PathfindingService implements AutoCloseable {
         this.executor = executor;
         this.ownedPool = ownedPool;
         this.maxInFlight = maxInFlight;
+        this.flowFields = new FlowFieldService(volume, executor);
+    }
+
+    /** Shared flow fields for group pursuit and flight, over this service's world and workers. */
+    public FlowFieldService flowFields() {
+        return flowFields;
     }
 
     /**
@@ -266,6 +298,20 @@ public final class PathfindingService implements AutoCloseable {
                             NavNodes.x(snappedGoal), NavNodes.y(snappedGoal), NavNodes.z(snappedGoal),
                             goalRadius);
 
+            if (snappedGoal != GroundNavDomain.NO_NODE && isLongRoute(start, snappedGoal)) {
+                HierarchicalPlanner.Route route = planners.get().plan(portalGraph(profile), start,
+                        snappedGoal, ROUTE_LIMITS, limits, request.cancelToken());
+                if (route != null && route.leg().length() > 0) {
+                    // Only the whole route's final leg can honestly claim to reach the goal.
+                    hierarchical.incrementAndGet();
+                    request.publish(Path.of(route.leg().nodes(), domain, route.reachesGoal()));
+                    completed.incrementAndGet();
+                    return;
+                }
+                // No portal route (unloaded terrain, or the build budget ran out): fall through to
+                // the cell search below for its best effort.
+            }
+
             SearchResult result = solvers.get().search(domain, start, limits, request.cancelToken());
             if (result.status() == SearchResult.Status.PARTIAL_BUDGET
                     || result.status() == SearchResult.Status.PARTIAL_UNREACHABLE) {
@@ -285,15 +331,54 @@ public final class PathfindingService implements AutoCloseable {
         }
     }
 
+    private static boolean isLongRoute(long start, long goal) {
+        int dx = Math.abs(NavNodes.x(goal) - NavNodes.x(start));
+        int dz = Math.abs(NavNodes.z(goal) - NavNodes.z(start));
+        return Math.max(dx, dz) >= HIERARCHICAL_MIN_BLOCKS;
+    }
+
+    private SectionPortalGraph portalGraph(NavProfile profile) {
+        return portalGraphs.computeIfAbsent(profile, key -> new SectionPortalGraph(volume, key));
+    }
+
+    // ── World changes ────────────────────────────────────────────────────────
+
+    /** A block changed; drops every cached portal section whose routes could depend on it. */
+    public void onBlockChanged(int x, int y, int z) {
+        for (SectionPortalGraph graph : portalGraphs.values()) {
+            graph.invalidateBlock(x, y, z);
+        }
+        flowFields.onBlockChanged(x, y, z);
+    }
+
+    /** Terrain in the given block columns loaded or unloaded, at every height. */
+    public void onColumnsChanged(int minX, int minZ, int maxX, int maxZ) {
+        for (SectionPortalGraph graph : portalGraphs.values()) {
+            graph.invalidateColumns(minX, minZ, maxX, maxZ);
+        }
+        flowFields.onColumnsChanged(minX, minZ, maxX, maxZ);
+    }
+
     /** Snapshot of service load, for the debug overlay. */
     public Stats stats() {
         long done = completed.get();
+        int sections = 0;
+        for (SectionPortalGraph graph : portalGraphs.values()) {
+            sections += graph.cachedSections();
+        }
         return new Stats(submitted.get(), rejected.get(), done, failed.get(), partial.get(),
-                inFlight.size(), done == 0 ? 0 : searchNanos.get() / done / 1000L);
+                inFlight.size(), done == 0 ? 0 : searchNanos.get() / done / 1000L,
+                hierarchical.get(), sections, flowFields.liveFields());
     }
 
+    /**
+     * @param hierarchical   searches answered with the first leg of a portal-level route
+     * @param portalSections portal sections currently cached, across every profile
+     * @param flowFields     shared flow fields currently alive
+     */
     public record Stats(long submitted, long rejected, long completed, long failed, long partial,
-                        int inFlight, long averageMicros) {
+                        int inFlight, long averageMicros, long hierarchical, int portalSections,
+                        int flowFields) {
     }
 
     /**
@@ -309,6 +394,8 @@ public final class PathfindingService implements AutoCloseable {
         for (PathRequest request : inFlight) {
             request.cancel();
         }
+        portalGraphs.clear();
+        flowFields.close();
         if (ownedPool != null) {
             ownedPool.shutdownNow();
             try {
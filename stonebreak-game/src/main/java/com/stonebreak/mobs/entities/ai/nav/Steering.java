@@ -3,6 +3,7 @@ package com.stonebreak.mobs.entities.ai.nav;
 import com.stonebreak.blocks.BlockType;
 import com.stonebreak.mobs.entities.EntityWaterPhysics;
 import com.stonebreak.mobs.entities.LivingEntity;
+import com.stonebreak.world.BlockVolume;
 import org.joml.Vector3f;
 
 /**
@@ -41,6 +42,9 @@ public final class Steering {
     /** How far up a shore is measured before giving up on climbing out over it. */
     private static final int MAX_SHORE_PROBE_CELLS = 3;
 
+    /** Obstacle columns are read in one pass; per thread, as entities may tick in parallel. */
+    private static final ThreadLocal<BlockVolume> COLUMN = ThreadLocal.withInitial(BlockVolume::new);
+
     private final LivingEntity entity;
     private final float rotationSpeedDegPerSec;
     private final float hopBoostSpeed;      // <= 0 disables the airborne hop boost
@@ -214,12 +218,13 @@ public final class Steering {
             return shouldStrokeOverShore(blockX, blockY, blockZ, feetY);
         }
 
-        BlockType ahead = entity.getWorld().getBlockAt(blockX, blockY, blockZ);
+        BlockVolume column = COLUMN.get().readColumn(entity.getWorld(), blockX, blockZ, blockY, blockY + 2);
+        BlockType ahead = column.block(blockX, blockY, blockZ);
         if (ahead == null || !ahead.isSolid()) {
             return false;
         }
-        BlockType above1 = entity.getWorld().getBlockAt(blockX, blockY + 1, blockZ);
-        BlockType above2 = entity.getWorld().getBlockAt(blockX, blockY + 2, blockZ);
+        BlockType above1 = column.block(blockX, blockY + 1, blockZ);
+        BlockType above2 = column.block(blockX, blockY + 2, blockZ);
         return (above1 == null || !above1.isSolid())
                 && (above2 == null || !above2.isSolid());
     }
@@ -241,8 +246,10 @@ public final class Steering {
         int top = blockY;
         boolean foundSolid = false;
         int limit = blockY + MAX_SHORE_PROBE_CELLS;
+        // The stack and the two cells above its highest possible top.
+        BlockVolume column = COLUMN.get().readColumn(entity.getWorld(), blockX, blockZ, blockY, limit + 2);
         for (int y = blockY; y <= limit; y++) {
-            BlockType block = entity.getWorld().getBlockAt(blockX, y, blockZ);
+            BlockType block = column.block(blockX, y, blockZ);
             if (block != null && block.isSolid()) {
                 foundSolid = true;
                 top = y;
@@ -260,8 +267,8 @@ public final class Steering {
         }
 
         // Room to stand once up there.
-        BlockType above1 = entity.getWorld().getBlockAt(blockX, top + 1, blockZ);
-        BlockType above2 = entity.getWorld().getBlockAt(blockX, top + 2, blockZ);
+        BlockType above1 = column.block(blockX, top + 1, blockZ);
+        BlockType above2 = column.block(blockX, top + 2, blockZ);
         return (above1 == null || !above1.isSolid())
                 && (above2 == null || !above2.isSolid());
     }
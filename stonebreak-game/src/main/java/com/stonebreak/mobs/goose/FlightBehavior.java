@@ -129,8 +129,8 @@ public final class FlightBehavior implements Behavior {
         // Jitter the first migration and join scan so a flock spawned together does not all take
         // off on the same tick.
         this.migrateCooldown = MIGRATE_MIN_COOLDOWN
-                + (float) (Math.random() * (MIGRATE_MAX_COOLDOWN - MIGRATE_MIN_COOLDOWN));
-        this.joinScanTimer = (float) (Math.random() * JOIN_SCAN_INTERVAL);
+                + goose.getRandom().nextFloat() * (MIGRATE_MAX_COOLDOWN - MIGRATE_MIN_COOLDOWN);
+        this.joinScanTimer = goose.getRandom().nextFloat() * JOIN_SCAN_INTERVAL;
     }
 
     /** Whether the goose is off the ground — drives its physics mode. */
@@ -100,14 +100,14 @@ public class Goose extends LivingEntity {
     protected void onDeath() {
         mobAI.cleanup();
         for (ItemStack drop : getDrops()) {
-            DropUtil.createItemDrop(world, getPosition(), drop);
+            DropUtil.createItemDrop(world, getPosition(), drop, getRandom());
         }
     }
 
     @Override
     public ItemStack[] getDrops() {
-        if (Math.random() < 0.55) {
-            int count = 1 + (int) (Math.random() * 3); // 1–3 feathers
+        if (getRandom().nextFloat() < 0.55f) {
+            int count = 1 + getRandom().nextInt(3); // 1–3 feathers
             return new ItemStack[] { new ItemStack(ItemType.FEATHER, count) };
         }
         return new ItemStack[0];
@@ -1,8 +1,10 @@
 package com.stonebreak.mobs.sbe;
 
+import com.openmason.engine.format.oma.BakedAnimClip;
 import com.openmason.engine.format.oma.ParsedAnimClip;
 import com.openmason.engine.format.sound.SoundData;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -21,13 +23,17 @@ import java.util.Map;
  *                   none; resolved for playback by the audio layer
  * @param soundBytes embedded sound sample bytes keyed by archive entry
  *                   filename (1.4+); empty when no def embeds audio
+ * @param bakedClips {@code clips} resampled for the allocation-free pose
+ *                   path, under the same state names; baked from
+ *                   {@code clips} when null, which is what every loader passes
  */
 public record SbeEntityAsset(
         String objectId,
         Map<String, SbeModelGeometry> variants,
         Map<String, ParsedAnimClip> clips,
         SoundData sounds,
-        Map<String, byte[]> soundBytes
+        Map<String, byte[]> soundBytes,
+        Map<String, BakedAnimClip> bakedClips
 ) {
     /** The variant used when a requested name is unknown. */
     public static final String DEFAULT_VARIANT = "Default";
@@ -36,13 +42,23 @@ public record SbeEntityAsset(
         variants = variants == null ? Map.of() : Map.copyOf(variants);
         clips = clips == null ? Map.of() : Map.copyOf(clips);
         soundBytes = soundBytes == null ? Map.of() : Map.copyOf(soundBytes);
+        bakedClips = bakedClips == null ? bake(clips) : Map.copyOf(bakedClips);
+    }
+
+    /** Asset whose clips are baked here, at load time. */
+    public SbeEntityAsset(String objectId,
+                          Map<String, SbeModelGeometry> variants,
+                          Map<String, ParsedAnimClip> clips,
+                          SoundData sounds,
+                          Map<String, byte[]> soundBytes) {
+        this(objectId, variants, clips, sounds, soundBytes, null);
     }
 
     /** Soundless convenience constructor (bare OMO/SBO attachables, tests). */
     public SbeEntityAsset(String objectId,
                           Map<String, SbeModelGeometry> variants,
                           Map<String, ParsedAnimClip> clips) {
-        this(objectId, variants, clips, null, Map.of());
+        this(objectId, variants, clips, null, Map.of(), null);
     }
 
     /**
@@ -65,6 +81,19 @@ public record SbeEntityAsset(
         return stateName != null ? clips.get(stateName) : null;
     }
 
+    /** Baked counterpart of {@link #clipFor}, or {@code null} if absent or {@code stateName} is null. */
+    public BakedAnimClip bakedClipFor(String stateName) {
+        return stateName != null ? bakedClips.get(stateName) : null;
+    }
+
+    private static Map<String, BakedAnimClip> bake(Map<String, ParsedAnimClip> clips) {
+        Map<String, BakedAnimClip> baked = new HashMap<>(clips.size() * 2);
+        for (Map.Entry<String, ParsedAnimClip> e : clips.entrySet()) {
+            baked.put(e.getKey(), BakedAnimClip.bake(e.getValue()));
+        }
+        return Map.copyOf(baked);
+    }
+
     /** Bytes of an embedded sound sample by entry filename, or null (1.4+). */
     public byte[] soundBytesFor(String filename) {
         return soundBytes.get(filename);
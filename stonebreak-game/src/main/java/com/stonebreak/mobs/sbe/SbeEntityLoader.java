@@ -25,6 +25,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Generic, entity-blind loader for SBE entity assets.
@@ -60,6 +64,42 @@ public final class SbeEntityLoader {
         return CACHE.computeIfAbsent(resourcePath, SbeEntityLoader::decode);
     }
 
+    /**
+     * Decodes several resources concurrently on up to {@code parallelism}
+     * threads, filling the cache so the subsequent {@link #load(String)} calls
+     * are lookups. Failures are left for those calls to surface: a path that
+     * failed here is simply decoded (and fails) again.
+     */
+    public static void preload(List<String> resourcePaths, int parallelism) {
+        int threads = Math.min(parallelism, resourcePaths.size());
+        if (threads <= 1) {
+            return;
+        }
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "SBE-Loader-" + threadIds.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(resourcePaths.size());
+            for (String resourcePath : resourcePaths) {
+                futures.add(pool.submit(() -> load(resourcePath)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (java.util.concurrent.ExecutionException e) {
+                    // Reported by the caller's own load().
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
     /**
      * Loads (or returns the cached) attachable accessory asset from a file on
      * disk (see {@code EntityAttachments}). Dispatches on extension:
@@ -1,5 +1,6 @@
 package com.stonebreak.mobs.sbe;
 
+import com.stonebreak.rendering.sbo.SBOAssetCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,9 +53,12 @@ public final class SbeEntityRegistry {
      * @return the number of entities successfully registered
      */
     public static synchronized int scanAndLoad() {
+        long start = System.nanoTime();
         BY_OBJECT_ID.clear();
         com.stonebreak.audio.EntitySounds.invalidate();
-        for (String resourcePath : discover()) {
+        List<String> resourcePaths = discover();
+        SbeEntityLoader.preload(resourcePaths, SBOAssetCache.threads());
+        for (String resourcePath : resourcePaths) {
             try {
                 SbeEntityAsset asset = SbeEntityLoader.load(resourcePath);
                 BY_OBJECT_ID.put(asset.objectId(), asset);
@@ -62,8 +66,8 @@ public final class SbeEntityRegistry {
                 logger.error("Failed to load SBE file: {}", resourcePath, e);
             }
         }
-        logger.info("SBE entity registry: {} entit(ies) loaded from {}",
-                BY_OBJECT_ID.size(), SBE_RESOURCE_PATH);
+        logger.info("SBE entity registry: {} entit(ies) loaded from {} in {} ms",
+                BY_OBJECT_ID.size(), SBE_RESOURCE_PATH, (System.nanoTime() - start) / 1_000_000);
         return BY_OBJECT_ID.size();
     }
 
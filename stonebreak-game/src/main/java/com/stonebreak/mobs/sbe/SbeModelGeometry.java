@@ -1,5 +1,9 @@
 package com.stonebreak.mobs.sbe;
 
+import com.openmason.engine.format.oma.AnimRig;
+import com.openmason.engine.format.oma.BakedAnimClip;
+import org.joml.Vector3f;
+
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +27,8 @@ import java.util.Map;
  *                   author put the origin.
  * @param attachmentPoints authored attachment points (sockets) where other
  *                   models can be mounted at runtime; empty for most models
+ * @param rig        the parts' ids, names and rest poses for the baked pose
+ *                   path, in part order; built from {@code parts} when null
  */
 public record SbeModelGeometry(
         float[] vertices,
@@ -31,11 +37,42 @@ public record SbeModelGeometry(
         List<SbePart> parts,
         Map<Integer, MaterialImage> materials,
         float restMinY,
-        List<SbeAttachmentPoint> attachmentPoints
+        List<SbeAttachmentPoint> attachmentPoints,
+        AnimRig rig
 ) {
     public SbeModelGeometry {
         parts = parts == null ? List.of() : List.copyOf(parts);
         materials = materials == null ? Map.of() : Map.copyOf(materials);
         attachmentPoints = attachmentPoints == null ? List.of() : List.copyOf(attachmentPoints);
+        rig = rig == null ? rigOf(parts) : rig;
+    }
+
+    /** Geometry whose rig is built from its parts. */
+    public SbeModelGeometry(float[] vertices, float[] texCoords, int[] indices,
+                            List<SbePart> parts, Map<Integer, MaterialImage> materials,
+                            float restMinY, List<SbeAttachmentPoint> attachmentPoints) {
+        this(vertices, texCoords, indices, parts, materials, restMinY, attachmentPoints, null);
+    }
+
+    private static AnimRig rigOf(List<SbePart> parts) {
+        String[] ids = new String[parts.size()];
+        String[] names = new String[parts.size()];
+        float[] rest = new float[parts.size() * BakedAnimClip.FRAME_STRIDE];
+        for (int i = 0; i < parts.size(); i++) {
+            SbePart part = parts.get(i);
+            ids[i] = part.id();
+            names[i] = part.name();
+            int at = i * BakedAnimClip.FRAME_STRIDE;
+            put(rest, at, part.restPos());
+            put(rest, at + 3, part.restRot());
+            put(rest, at + 6, part.restScale());
+        }
+        return new AnimRig(ids, names, rest);
+    }
+
+    private static void put(float[] dest, int at, Vector3f v) {
+        dest[at] = v.x;
+        dest[at + 1] = v.y;
+        dest[at + 2] = v.z;
     }
 }
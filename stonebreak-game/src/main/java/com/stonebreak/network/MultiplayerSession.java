@@ -26,6 +26,9 @@ import org.joml.Vector3f;
  *   <li>{@code SINGLEPLAYER} — integrated server (Local listener) + local client.</li>
  *   <li>{@code HOST} — integrated server (Local + TCP) + local client.</li>
  *   <li>{@code JOIN} — client only, connected to a remote host over TCP.</li>
+ *   <li>{@code DEDICATED} — a headless {@code DedicatedServer} process: server (TCP only), no
+ *       client, no local player. It owns its tick loop; the session only routes the
+ *       server-side hooks (entity replication, drop pickups, kill credit) to it.</li>
  * </ul>
  *
  * <p>Game-system hooks (block edits, chat, drop pickup) are routed to the right side; the
@@ -33,7 +36,7 @@ import org.joml.Vector3f;
  */
 public final class MultiplayerSession {
 
-    public enum Mode { MENU, SINGLEPLAYER, HOST, JOIN }
+    public enum Mode { MENU, SINGLEPLAYER, HOST, JOIN, DEDICATED }
 
     /** How often the dedicated server thread pumps {@code server.tick()} (inbound drain runs at
      *  this rate; the authoritative sim runs at 20 Hz via the tick's internal accumulator). */
@@ -61,7 +64,7 @@ public final class MultiplayerSession {
     /** In a world (any mode but MENU). The local player is a client whenever this is true. */
     public static boolean isInWorld() { return mode != Mode.MENU; }
     /** A real network is involved (host or remote join) — not pure singleplayer. */
-    public static boolean isOnline() { return mode == Mode.HOST || mode == Mode.JOIN; }
+    public static boolean isOnline() { return mode == Mode.HOST || mode == Mode.JOIN || mode == Mode.DEDICATED; }
     public static boolean isHosting() { return mode == Mode.HOST; }
     /** The local player is a client in every in-world mode (two-world model). */
     public static boolean isClient() { return mode != Mode.MENU; }
@@ -307,6 +310,31 @@ public final class MultiplayerSession {
         t.start();
     }
 
+    /**
+     * Dedicated server: publish an already-started {@link IntegratedServer} so the server-side
+     * game hooks reach it. The caller runs the tick loop and owns teardown
+     * ({@link #detachDedicated}); nothing here touches {@code Game}, which a headless process
+     * never creates.
+     */
+    public static synchronized void attachDedicated(IntegratedServer s) {
+        if (mode != Mode.MENU) {
+            throw new IllegalStateException("Session already in mode " + mode);
+        }
+        server = s;
+        attachEntityListener(s.worldContext().entityManager());
+        mode = Mode.DEDICATED;
+    }
+
+    /** Unpublish the dedicated server before its teardown; the inverse of {@link #attachDedicated}. */
+    public static synchronized void detachDedicated() {
+        if (mode != Mode.DEDICATED) {
+            return;
+        }
+        detachEntityListener();
+        server = null;
+        mode = Mode.MENU;
+    }
+
     /** Join a remote host: client only (the host owns the authoritative world + persistence). */
     public static synchronized void joinServer(String host, int port, String username) throws InterruptedException {
         if (mode != Mode.MENU) {
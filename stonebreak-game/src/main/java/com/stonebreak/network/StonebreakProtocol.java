@@ -7,6 +7,7 @@ import com.stonebreak.network.packet.entity.EntityAnimS2C;
 import com.stonebreak.network.packet.entity.EntityDamageC2S;
 import com.stonebreak.network.packet.entity.EntityDespawnS2C;
 import com.stonebreak.network.packet.entity.EntityMoveS2C;
+import com.stonebreak.network.packet.entity.EntityMovesS2C;
 import com.stonebreak.network.packet.entity.EntityResyncC2S;
 import com.stonebreak.network.packet.entity.ProjectileSpawnC2S;
 import com.stonebreak.network.packet.entity.EntitySpawnS2C;
@@ -36,9 +37,12 @@ import com.stonebreak.network.packet.world.BlockChangeS2C;
 import com.stonebreak.network.packet.world.BlockMetaS2C;
 import com.stonebreak.network.packet.world.BlockStateS2C;
 import com.stonebreak.network.packet.world.BlockToggleC2S;
+import com.stonebreak.network.packet.world.ChunkCacheOfferC2S;
+import com.stonebreak.network.packet.world.ChunkCachedS2C;
 import com.stonebreak.network.packet.world.ChunkDataS2C;
 import com.stonebreak.network.packet.world.ChunkHashesC2S;
 import com.stonebreak.network.packet.world.ChunkResyncRequestC2S;
+import com.stonebreak.network.packet.world.ChunkSectionsS2C;
 import com.stonebreak.network.packet.world.FurnaceSlotsC2S;
 import com.stonebreak.network.packet.world.MultiBlockChangeS2C;
 import com.stonebreak.network.packet.world.SnowLayerC2S;
@@ -94,6 +98,7 @@ public final class StonebreakProtocol {
         r.register(PLAY, SERVERBOUND, 18, TimeSetC2S.class, TimeSetC2S.CODEC);
         r.register(PLAY, SERVERBOUND, 19, BlockToggleC2S.class, BlockToggleC2S.CODEC);
         r.register(PLAY, SERVERBOUND, 20, CharacterCreationC2S.class, CharacterCreationC2S.CODEC);
+        r.register(PLAY, SERVERBOUND, 21, ChunkCacheOfferC2S.class, ChunkCacheOfferC2S.CODEC);
 
         // ── clientbound (S2C) ──────────────────────────────────────────────
         r.register(PLAY, CLIENTBOUND, 1, ChunkDataS2C.class, ChunkDataS2C.CODEC);
@@ -120,6 +125,9 @@ public final class StonebreakProtocol {
         r.register(PLAY, CLIENTBOUND, 22, BlockStateS2C.class, BlockStateS2C.CODEC);
         r.register(PLAY, CLIENTBOUND, 23, KillCreditS2C.class, KillCreditS2C.CODEC);
         r.register(PLAY, CLIENTBOUND, 24, NeedsCharacterCreationS2C.class, NeedsCharacterCreationS2C.CODEC);
+        r.register(PLAY, CLIENTBOUND, 25, ChunkCachedS2C.class, ChunkCachedS2C.CODEC);
+        r.register(PLAY, CLIENTBOUND, 26, ChunkSectionsS2C.class, ChunkSectionsS2C.CODEC);
+        r.register(PLAY, CLIENTBOUND, 27, EntityMovesS2C.class, EntityMovesS2C.CODEC);
 
         return r;
     }
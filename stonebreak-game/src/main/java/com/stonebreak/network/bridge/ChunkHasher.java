@@ -1,40 +1,140 @@
 package com.stonebreak.network.bridge;
 
-import com.stonebreak.blocks.BlockType;
+import com.openmason.engine.voxel.IBlockType;
+import com.openmason.engine.voxel.cco.data.CcoBlockStorage;
+import com.openmason.engine.voxel.cco.data.palette.CcoPaletteSection;
+import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
+import com.openmason.engine.voxel.cco.data.palette.CcoSectionIndexing;
 import com.stonebreak.world.chunk.Chunk;
 import com.stonebreak.world.operations.WorldConfiguration;
 
 /**
  * Deterministic content hash of a chunk's block ids, used by the desync audit: the client
  * periodically hashes resident chunks and sends them ({@code ChunkHashesC2S}); the server
- * compares against its own (cached) hashes and re-streams any mismatch.
+ * compares against its own and repairs any mismatch.
  *
- * <p>FNV-1a over the 65 536 block ids in fixed Y→Z→X order. Both sides MUST iterate
- * identically — this class is the single implementation for both. Metadata (snow layers,
- * block states) is deliberately excluded: it self-heals on the re-stream anyway and keeping
- * the hash blocks-only keeps it cheap (~0.1 ms/chunk, zero allocation).
+ * <p>Two levels. Each 16-tall section has a hash that the paletted storage keeps current
+ * on every block write ({@link CcoPaletteSection#contentHash()}), so reading one is O(1)
+ * once the section has been hashed once. The chunk hash is FNV-1a over the section hashes
+ * in ascending order. The audit ships section hashes so the server can re-send only the
+ * sections that differ.
+ *
+ * <p>The client chunk cache keys its entries by {@link #cacheHash} instead: 64-bit FNV-1a
+ * over every block id, computed by a full scan. A match there installs blocks with no
+ * other check, so it must not rest on the 32-bit sums the audit can afford to have
+ * collide (a missed audit repair is caught by the next audit; a cache collision is not).
+ *
+ * <p>Both sides MUST hash identically — this class is the single implementation for both.
+ * Metadata (snow layers, block states) is deliberately excluded: the repair carries the
+ * chunk's full metadata anyway, and keeping the hash blocks-only keeps it cheap.
  */
 public final class ChunkHasher {
 
+    /** Sections per chunk, and section hashes per audited chunk. */
+    public static final int SECTIONS = WorldConfiguration.WORLD_HEIGHT / CcoSectionIndexing.SECTION_HEIGHT;
+
     private static final int FNV_OFFSET = 0x811C9DC5;
     private static final int FNV_PRIME = 0x01000193;
+    private static final long FNV64_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV64_PRIME = 0x00000100000001B3L;
+    private static final int SECTION_CELLS = WorldConfiguration.CHUNK_SIZE * WorldConfiguration.CHUNK_SIZE
+        * CcoSectionIndexing.SECTION_HEIGHT;
 
     private ChunkHasher() {}
 
     public static int hash(Chunk chunk) {
+        return hash(chunk.getBlockStorageView());
+    }
+
+    /** Same hash over detached storage (a decoded network payload); equal to {@link #hash(Chunk)} once installed. */
+    public static int hash(CcoBlockStorage storage) {
+        int h = FNV_OFFSET;
+        for (int sy = 0; sy < SECTIONS; sy++) {
+            h = mix(h, sectionHash(storage, sy));
+        }
+        return h;
+    }
+
+    /** Writes the chunk's {@link #SECTIONS} section hashes into {@code out} from {@code offset}. */
+    public static void sectionHashes(Chunk chunk, int[] out, int offset) {
+        CcoBlockStorage storage = chunk.getBlockStorageView();
+        for (int sy = 0; sy < SECTIONS; sy++) {
+            out[offset + sy] = sectionHash(storage, sy);
+        }
+    }
+
+    /** Chunk hash from section hashes at {@code out[offset..offset + SECTIONS)}; equals {@link #hash}. */
+    public static int combine(int[] sectionHashes, int offset) {
         int h = FNV_OFFSET;
-        for (int y = 0; y < WorldConfiguration.WORLD_HEIGHT; y++) {
-            for (int z = 0; z < WorldConfiguration.CHUNK_SIZE; z++) {
-                for (int x = 0; x < WorldConfiguration.CHUNK_SIZE; x++) {
-                    BlockType b = chunk.getBlock(x, y, z);
-                    int id = b != null ? b.getId() : 0;
-                    h ^= id & 0xFF;
-                    h *= FNV_PRIME;
-                    h ^= (id >>> 8) & 0xFF;
-                    h *= FNV_PRIME;
+        for (int sy = 0; sy < SECTIONS; sy++) {
+            h = mix(h, sectionHashes[offset + sy]);
+        }
+        return h;
+    }
+
+    public static long cacheHash(Chunk chunk) {
+        return cacheHash(chunk.getBlockStorageView());
+    }
+
+    /**
+     * 64-bit hash of every block id, section by section in cell order; the client chunk
+     * cache's key. A full scan — callers bound how often they run it.
+     */
+    public static long cacheHash(CcoBlockStorage storage) {
+        short[] ids = new short[SECTION_CELLS];
+        long h = FNV64_OFFSET;
+        for (int sy = 0; sy < SECTIONS; sy++) {
+            sectionIds(storage, sy, ids);
+            for (short id : ids) {
+                h ^= id & 0xFFFF;
+                h *= FNV64_PRIME;
+            }
+        }
+        return h;
+    }
+
+    private static void sectionIds(CcoBlockStorage storage, int sy, short[] out) {
+        if (storage instanceof CcoPalettedChunkStorage paletted) {
+            paletted.getSection(sy).writeBlockIdsInto(out, 0);
+            return;
+        }
+        int size = WorldConfiguration.CHUNK_SIZE;
+        int yBase = sy * CcoSectionIndexing.SECTION_HEIGHT;
+        for (int ly = 0; ly < CcoSectionIndexing.SECTION_HEIGHT; ly++) {
+            for (int z = 0; z < size; z++) {
+                for (int x = 0; x < size; x++) {
+                    IBlockType b = storage.get(x, yBase + ly, z);
+                    out[CcoSectionIndexing.cellIndex(x, ly, z, size, size)] = (short) (b != null ? b.getId() : 0);
                 }
             }
         }
+    }
+
+    private static int sectionHash(CcoBlockStorage storage, int sy) {
+        if (storage instanceof CcoPalettedChunkStorage paletted) {
+            return paletted.getSection(sy).contentHash();
+        }
+        // Non-paletted storage: the same per-cell terms, summed by a full scan.
+        int size = WorldConfiguration.CHUNK_SIZE;
+        int yBase = sy * CcoSectionIndexing.SECTION_HEIGHT;
+        int h = 0;
+        for (int ly = 0; ly < CcoSectionIndexing.SECTION_HEIGHT; ly++) {
+            for (int z = 0; z < size; z++) {
+                for (int x = 0; x < size; x++) {
+                    IBlockType b = storage.get(x, yBase + ly, z);
+                    h += CcoPaletteSection.cellHash(
+                        CcoSectionIndexing.cellIndex(x, ly, z, size, size), b != null ? b.getId() : 0);
+                }
+            }
+        }
+        return h;
+    }
+
+    private static int mix(int h, int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            h ^= (value >>> shift) & 0xFF;
+            h *= FNV_PRIME;
+        }
         return h;
     }
 }
@@ -0,0 +1,227 @@
+package com.stonebreak.network.client;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * On-disk cache of chunk payloads a remote client has received, one directory per server
+ * world, so a returning player can offer what it already holds ({@code ChunkCacheOfferC2S})
+ * instead of re-downloading its whole view.
+ *
+ * <p>Each entry is the raw {@code VoxelChunkCodec} payload as it came off the wire, in a
+ * file named {@code <cx>.<cz>.<hash>.chunk} where {@code hash} is the 64-bit
+ * {@link com.stonebreak.network.bridge.ChunkHasher#cacheHash} of the decoded blocks, as 16
+ * hex digits (files named otherwise, such as older 32-bit entries, are dropped). The index
+ * is rebuilt from file names alone when the cache opens, so opening never reads payloads.
+ * The hash also guards reads: a cached payload whose decoded blocks do not hash back to
+ * its name is discarded and the chunk re-requested.
+ *
+ * <p>Entries are written when a snapshot arrives and are never updated by later block
+ * edits; an edited chunk just fails the server's hash comparison on the next offer and
+ * streams normally. Writes run on one background thread; {@link #read} runs on the
+ * caller's (decode worker) thread.
+ */
+public final class ClientChunkCache {
+
+    /** Entries kept per server world; the oldest are pruned when the cache opens. */
+    static final int MAX_ENTRIES = 16_384;
+
+    private static final String SUFFIX = ".chunk";
+    private static final int HASH_DIGITS = 16;
+
+    private final Path dir;
+    private final int maxEntries;
+    /** Chunk key → hash of the cached copy. */
+    private final ConcurrentHashMap<Long, Long> index = new ConcurrentHashMap<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "Chunk-Cache-Writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private ClientChunkCache(Path dir, int maxEntries) {
+        this.dir = dir;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Opens (creating if needed) the cache for one server world under {@code root}. The
+     * world is identified by the server address and its world seed.
+     */
+    public static ClientChunkCache open(Path root, String serverAddress, long worldSeed) {
+        return open(root.resolve(worldId(serverAddress, worldSeed)), MAX_ENTRIES);
+    }
+
+    static ClientChunkCache open(Path dir, int maxEntries) {
+        ClientChunkCache cache = new ClientChunkCache(dir, maxEntries);
+        cache.load();
+        return cache;
+    }
+
+    /** Directory name for a server world: the sanitized address plus the seed. */
+    static String worldId(String serverAddress, long worldSeed) {
+        String address = serverAddress.replaceAll("[^A-Za-z0-9.-]", "_");
+        return address + "-" + Long.toHexString(worldSeed);
+    }
+
+    /** Hash of the cached copy of (cx, cz), or {@code missing} when none is cached. */
+    public long heldHash(int cx, int cz, long missing) {
+        Long hash = index.get(key(cx, cz));
+        return hash != null ? hash : missing;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Caches a received payload in the background. Replaces any older copy of the chunk;
+     * a new chunk is skipped once the cache is full (it is pruned on the next open).
+     */
+    public void store(int cx, int cz, long hash, byte[] payload) {
+        long key = key(cx, cz);
+        Long previous = index.get(key);
+        if ((previous != null && previous == hash) || (previous == null && index.size() >= maxEntries)) {
+            return;
+        }
+        index.put(key, hash);
+        try {
+            writer.execute(() -> write(cx, cz, hash, previous, payload));
+        } catch (RejectedExecutionException e) {
+            index.remove(key, hash); // closed mid-session; nothing was written
+        }
+    }
+
+    /** The cached payload for (cx, cz) at {@code hash}, or null if it is gone or unreadable. */
+    public byte[] read(int cx, int cz, long hash) {
+        Path file = file(cx, cz, hash);
+        try {
+            byte[] payload = Files.readAllBytes(file);
+            // Touch for the open-time pruning order: recently used entries survive.
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return payload;
+        } catch (IOException e) {
+            index.remove(key(cx, cz), hash);
+            return null;
+        }
+    }
+
+    /** Drops a cached copy that failed verification. */
+    public void discard(int cx, int cz, long hash) {
+        if (index.remove(key(cx, cz), hash)) {
+            try {
+                writer.execute(() -> delete(file(cx, cz, hash)));
+            } catch (RejectedExecutionException ignored) {
+                // closed; the stale file is pruned or replaced later
+            }
+        }
+    }
+
+    /** Finishes pending writes (bounded wait) and stops the writer. */
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(2, TimeUnit.SECONDS)) {
+                System.err.println("[CHUNK-CACHE] Writer did not finish; dropping pending writes.");
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void load() {
+        List<Path> files = new ArrayList<>();
+        try {
+            Files.createDirectories(dir);
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+                for (Path file : stream) {
+                    files.add(file);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[CHUNK-CACHE] Cannot open " + dir + ": " + e.getMessage());
+            return;
+        }
+        if (files.size() > maxEntries) {
+            files.sort(Comparator.comparingLong(ClientChunkCache::lastModified).reversed());
+            for (Path stale : files.subList(maxEntries * 3 / 4, files.size())) {
+                delete(stale);
+            }
+            files = files.subList(0, maxEntries * 3 / 4);
+        }
+        for (Path file : files) {
+            String[] parts = file.getFileName().toString()
+                .substring(0, file.getFileName().toString().length() - SUFFIX.length()).split("\\.");
+            try {
+                if (parts.length == 3 && parts[2].length() == HASH_DIGITS) {
+                    index.put(key(Integer.parseInt(parts[0]), Integer.parseInt(parts[1])),
+                        Long.parseUnsignedLong(parts[2], 16));
+                    continue;
+                }
+            } catch (NumberFormatException ignored) {
+                // fall through and delete
+            }
+            delete(file);
+        }
+    }
+
+    private void write(int cx, int cz, long hash, Long previous, byte[] payload) {
+        Path target = file(cx, cz, hash);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.write(temp, payload);
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            index.remove(key(cx, cz), hash);
+            delete(temp);
+            System.err.println("[CHUNK-CACHE] Failed to cache chunk (" + cx + "," + cz + "): " + e.getMessage());
+            return;
+        }
+        if (previous != null) {
+            delete(file(cx, cz, previous));
+        }
+    }
+
+    private Path file(int cx, int cz, long hash) {
+        return dir.resolve(cx + "." + cz + "." + String.format("%016x", hash) + SUFFIX);
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // best effort — an orphan file is only wasted space
+        }
+    }
+
+    private static long key(int cx, int cz) {
+        return (((long) cx) << 32) | (cz & 0xFFFFFFFFL);
+    }
+}
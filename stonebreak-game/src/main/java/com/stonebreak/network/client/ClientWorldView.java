@@ -19,6 +19,7 @@ import com.stonebreak.network.packet.chat.ChatMessageS2C;
 import com.stonebreak.network.packet.entity.EntityDamageC2S;
 import com.stonebreak.network.packet.entity.EntityDespawnS2C;
 import com.stonebreak.network.packet.entity.EntityMoveS2C;
+import com.stonebreak.network.packet.entity.EntityMovesS2C;
 import com.stonebreak.network.packet.entity.EntitySpawnS2C;
 import com.stonebreak.network.packet.entity.EntityAnimS2C;
 import com.stonebreak.network.packet.entity.EntityTeleportS2C;
@@ -109,6 +110,16 @@ public final class ClientWorldView {
     private int auditCounter = 0;
     private int auditCursor = 0;
 
+    // ─── Chunk disk cache (remote sessions) ──────────────────────────────────
+    /** Received chunks on disk for this server world; opened on welcome, null for local play. */
+    private ClientChunkCache chunkCache;
+    private String serverAddress;
+    /** Chunks offered to the server and not yet dropped from the keep radius. */
+    private final java.util.Set<Long> offeredChunks = new java.util.HashSet<>();
+    private int lastOfferCx = Integer.MIN_VALUE;
+    private int lastOfferCz = Integer.MIN_VALUE;
+    private int lastOfferRadius = -1;
+
     // Remote (TCP) player-data sync. The in-process local player is persisted same-JVM and does
     // NOT use this path. A remote client first receives its saved PlayerData (PlayerDataS2C),
     // applies it, THEN periodically sends its own (PlayerDataC2S) — so an empty inventory can't
@@ -125,6 +136,9 @@ public final class ClientWorldView {
     /** Connect (Local or TCP) and send the handshake. */
     public void connect(NetAddress address, String username) throws InterruptedException {
         this.remote = address.type() == com.openmason.engine.net.transport.TransportType.TCP;
+        // Host as typed, not the resolved IP, so the chunk cache survives DNS changes.
+        this.serverAddress = address.socketAddress() instanceof java.net.InetSocketAddress inet
+            ? inet.getHostString() + ":" + inet.getPort() : address.toString();
         connection = networkClient.connect(address);
         connection.send(new HandshakeC2S(ProtocolVersion.CURRENT, username));
         // Report our render distance right after the handshake (channel is FIFO, so the
@@ -208,10 +222,11 @@ public final class ClientWorldView {
     }
 
     /**
-     * Chunk-hash desync audit: hash a small round-robin batch of resident chunks around the
-     * player and ship them; the server re-streams any that mismatch its own state. ~0.1 ms
-     * per chunk, 16 chunks per 10 s — near-zero steady-state cost, and it catches divergence
-     * the block-change feed can't (missed applies, corruption).
+     * Chunk-hash desync audit: ship the section hashes of a small round-robin batch of
+     * resident chunks around the player; the server re-sends just the sections that mismatch
+     * its own state. Section hashes are kept current by every block write, so this is 16
+     * reads per chunk — and it catches divergence the block-change feed can't (missed
+     * applies, corruption).
      */
     private void sendChunkHashAudit() {
         ClientConnection conn = connection;
@@ -227,7 +242,8 @@ public final class ClientWorldView {
         // Deterministic ring order; the cursor rotates coverage across rounds.
         int side = radius * 2 + 1;
         int total = side * side;
-        int[] entries = new int[AUDIT_CHUNKS_PER_ROUND * 3];
+        int stride = com.stonebreak.network.packet.world.ChunkHashesC2S.STRIDE;
+        int[] entries = new int[AUDIT_CHUNKS_PER_ROUND * stride];
         int n = 0;
         for (int step = 0; step < total && n < AUDIT_CHUNKS_PER_ROUND; step++) {
             int idx = (auditCursor + step) % total;
@@ -237,14 +253,14 @@ public final class ClientWorldView {
             if (chunk == null || chunkHandler.hasPendingInstall(cx, cz)) {
                 continue; // pending install: resident state is legitimately behind the wire
             }
-            entries[n * 3] = cx;
-            entries[n * 3 + 1] = cz;
-            entries[n * 3 + 2] = com.stonebreak.network.bridge.ChunkHasher.hash(chunk);
+            entries[n * stride] = cx;
+            entries[n * stride + 1] = cz;
+            com.stonebreak.network.bridge.ChunkHasher.sectionHashes(chunk, entries, n * stride + 2);
             n++;
         }
         auditCursor = (auditCursor + Math.max(1, n)) % total;
         if (n > 0) {
-            int[] trimmed = java.util.Arrays.copyOf(entries, n * 3);
+            int[] trimmed = java.util.Arrays.copyOf(entries, n * stride);
             conn.send(new com.stonebreak.network.packet.world.ChunkHashesC2S(trimmed), false);
         }
     }
@@ -270,8 +286,8 @@ public final class ClientWorldView {
     }
 
     /**
-     * User-initiated full resync (pause-menu button): hash EVERY resident chunk in render
-     * distance and ship the batches at once — the server re-streams any that mismatch — plus
+     * User-initiated full resync (pause-menu button): audit EVERY resident chunk in render
+     * distance and ship the batches at once — the server repairs any that mismatch — plus
      * one entity-snapshot resync. Routed through the hash-audit path rather than per-chunk
      * {@code ChunkResyncRequestC2S} because explicit resync requests share the server's
      * 32-per-10s budget while hash audits are compared server-side for free.
@@ -290,7 +306,8 @@ public final class ClientWorldView {
         int radius = com.stonebreak.config.Settings.getInstance().getRenderDistance();
         int maxPerPacket = com.stonebreak.network.packet.world.ChunkHashesC2S.MAX_ENTRIES;
 
-        int[] entries = new int[maxPerPacket * 3];
+        int stride = com.stonebreak.network.packet.world.ChunkHashesC2S.STRIDE;
+        int[] entries = new int[maxPerPacket * stride];
         int n = 0;
         int audited = 0;
         for (int cz = pcz - radius; cz <= pcz + radius; cz++) {
@@ -299,9 +316,9 @@ public final class ClientWorldView {
                 if (chunk == null || chunkHandler.hasPendingInstall(cx, cz)) {
                     continue;
                 }
-                entries[n * 3] = cx;
-                entries[n * 3 + 1] = cz;
-                entries[n * 3 + 2] = com.stonebreak.network.bridge.ChunkHasher.hash(chunk);
+                entries[n * stride] = cx;
+                entries[n * stride + 1] = cz;
+                com.stonebreak.network.bridge.ChunkHasher.sectionHashes(chunk, entries, n * stride + 2);
                 audited++;
                 if (++n == maxPerPacket) {
                     conn.send(new com.stonebreak.network.packet.world.ChunkHashesC2S(
@@ -312,7 +329,7 @@ public final class ClientWorldView {
         }
         if (n > 0) {
             conn.send(new com.stonebreak.network.packet.world.ChunkHashesC2S(
-                    java.util.Arrays.copyOf(entries, n * 3)), false);
+                    java.util.Arrays.copyOf(entries, n * stride)), false);
         }
         requestEntityResync();
         System.out.println("[CLIENT] Manual full resync: audited " + audited + " chunks.");
@@ -419,6 +436,9 @@ public final class ClientWorldView {
         if (!p.isOnGround()) flags |= com.stonebreak.network.packet.player.PlayerStateFlags.AIRBORNE;
         if (p.isOnGround())  flags |= com.stonebreak.network.packet.player.PlayerStateFlags.ON_GROUND;
         if (p.isAttacking()) flags |= com.stonebreak.network.packet.player.PlayerStateFlags.ATTACKING;
+        // Offers go out ahead of the state that moves our view: the channel is FIFO, so the
+        // server has them before its streaming scan reaches the new chunks.
+        offerCachedChunks(pos.x, pos.z);
         connection.send(new PlayerStateC2S(pos.x, pos.y, pos.z, yaw, pitch, flags), true);
 
         if (p.getInventory() != null) {
@@ -430,6 +450,68 @@ public final class ClientWorldView {
         }
     }
 
+    /**
+     * Offers the server every disk-cached chunk in view that is neither resident nor already
+     * offered (see {@code ChunkCacheOfferC2S}). Runs when the player changes chunk or the
+     * render distance changes; a no-op for local sessions, which have no cache.
+     */
+    private void offerCachedChunks(float x, float z) {
+        ClientChunkCache cache = chunkCache;
+        com.stonebreak.world.World world = Game.getWorld();
+        if (cache == null || world == null) {
+            return;
+        }
+        int pcx = (int) Math.floor(x / 16.0);
+        int pcz = (int) Math.floor(z / 16.0);
+        int radius = com.stonebreak.config.Settings.getInstance().getRenderDistance();
+        if (pcx == lastOfferCx && pcz == lastOfferCz && radius == lastOfferRadius) {
+            return;
+        }
+        lastOfferCx = pcx;
+        lastOfferCz = pcz;
+        lastOfferRadius = radius;
+        // Past the keep radius the server forgets the chunk too; a new offer is due on return.
+        int keepRadius = world.clientKeepRadius();
+        offeredChunks.removeIf(key -> Math.max(Math.abs((int) (key >> 32) - pcx),
+            Math.abs(key.intValue() - pcz)) > keepRadius);
+
+        int maxPerPacket = com.stonebreak.network.packet.world.ChunkCacheOfferC2S.MAX_ENTRIES;
+        int[] coords = new int[maxPerPacket * 2];
+        long[] hashes = new long[maxPerPacket];
+        int n = 0;
+        int offered = 0;
+        for (int cz = pcz - radius; cz <= pcz + radius; cz++) {
+            for (int cx = pcx - radius; cx <= pcx + radius; cx++) {
+                long key = (((long) cx) << 32) | (cz & 0xFFFFFFFFL);
+                if (offeredChunks.contains(key) || world.getChunkIfLoaded(cx, cz) != null
+                        || chunkHandler.hasPendingInstall(cx, cz)) {
+                    continue;
+                }
+                long hash = cache.heldHash(cx, cz, Long.MIN_VALUE);
+                if (hash == Long.MIN_VALUE) {
+                    continue;
+                }
+                offeredChunks.add(key);
+                coords[n * 2] = cx;
+                coords[n * 2 + 1] = cz;
+                hashes[n] = hash;
+                offered++;
+                if (++n == maxPerPacket) {
+                    connection.send(new com.stonebreak.network.packet.world.ChunkCacheOfferC2S(
+                        coords.clone(), hashes.clone()), false);
+                    n = 0;
+                }
+            }
+        }
+        if (n > 0) {
+            connection.send(new com.stonebreak.network.packet.world.ChunkCacheOfferC2S(
+                java.util.Arrays.copyOf(coords, n * 2), java.util.Arrays.copyOf(hashes, n)), false);
+        }
+        if (offered > 0) {
+            System.out.println("[CLIENT] Offered " + offered + " cached chunks around (" + pcx + "," + pcz + ")");
+        }
+    }
+
     // ─── Local intents (wired from game systems in the lifecycle phase) ──────────
 
     /** Local-player block edit: send the intent (with the prev block the player saw) to the server. */
@@ -534,6 +616,7 @@ public final class ClientWorldView {
             }
         }
         chunkHandler.onSessionEnd();
+        closeChunkCache();
         entityHandler.onSessionEnd();
         playerHandler.onSessionEnd();
         networkClient.shutdown();
@@ -569,6 +652,8 @@ public final class ClientWorldView {
             case NeedsCharacterCreationS2C ncc -> handleNeedsCharacterCreation(ncc);
             case KickS2C k -> { kickReason = k.reason(); disconnected = true; }
             case ChunkDataS2C cd -> chunkHandler.apply(cd);
+            case com.stonebreak.network.packet.world.ChunkCachedS2C cc -> chunkHandler.applyCached(cc);
+            case com.stonebreak.network.packet.world.ChunkSectionsS2C cs -> chunkHandler.applySections(cs);
             case BlockChangeS2C b -> blockHandler.applyBlockChange(b);
             case MultiBlockChangeS2C m -> blockHandler.applyMultiBlock(m);
             case com.stonebreak.network.packet.world.BlockMetaS2C bm -> blockHandler.applyBlockMeta(bm);
@@ -587,6 +672,7 @@ public final class ClientWorldView {
             case EntitySpawnS2C s -> entityHandler.applySpawn(s);
             case EntityDespawnS2C d -> entityHandler.applyDespawn(d.networkId());
             case EntityMoveS2C mv -> entityHandler.applyDelta(mv);
+            case EntityMovesS2C mv -> entityHandler.applyMoves(mv);
             case EntityTeleportS2C t -> entityHandler.applyTeleport(t);
             case EntityAnimS2C a -> entityHandler.applyAnim(a.networkId(), a.state());
             case KeepAliveS2C ka -> {
@@ -657,5 +743,29 @@ public final class ClientWorldView {
             ? Game.getInstance().getCurrentWorldName()
             : "mp_" + System.currentTimeMillis();
         Game.getInstance().startClientWorld(label, w.worldSeed(), spawn);
+        if (remote) {
+            openChunkCache(w.worldSeed());
+        }
+    }
+
+    /** Opens this server world's chunk disk cache; the seed tells worlds on one address apart. */
+    private void openChunkCache(long worldSeed) {
+        closeChunkCache();
+        chunkCache = ClientChunkCache.open(
+            com.stonebreak.world.save.WorldStorage.chunkCacheRoot(), serverAddress, worldSeed);
+        chunkHandler.setDiskCache(chunkCache);
+        offeredChunks.clear();
+        lastOfferCx = Integer.MIN_VALUE;
+        lastOfferCz = Integer.MIN_VALUE;
+        lastOfferRadius = -1;
+        System.out.println("[CLIENT] Chunk cache holds " + chunkCache.size() + " chunks for this world.");
+    }
+
+    private void closeChunkCache() {
+        if (chunkCache != null) {
+            chunkHandler.setDiskCache(null);
+            chunkCache.close();
+            chunkCache = null;
+        }
     }
 }
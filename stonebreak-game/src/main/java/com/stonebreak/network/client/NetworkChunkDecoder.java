@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.openmason.engine.net.protocol.codec.VoxelChunkCodec;
+import com.openmason.engine.voxel.cco.data.palette.CcoPaletteSection;
 import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
 import com.stonebreak.blocks.BlockType;
 import com.stonebreak.network.bridge.GameBlockTypeResolver;
@@ -44,6 +45,31 @@ public final class NetworkChunkDecoder {
         return decoded;
     }
 
+    /**
+     * Decodes a section delta ({@code ChunkSectionsS2C}) over {@code base}, a detached copy of
+     * the resident blocks. Masked sections are cleared first — the per-cell fallback skips air
+     * writes, so it must start from an empty section — and the rest keep the base's contents.
+     *
+     * @return {@code base} with the sections applied, or null on decode failure
+     */
+    public static CcoPalettedChunkStorage decodeSections(int chunkX, int chunkZ, CcoPalettedChunkStorage base,
+                                                         int sectionMask, byte[] payload) {
+        int cellsPerLayer = WorldConfiguration.CHUNK_SIZE * WorldConfiguration.CHUNK_SIZE;
+        for (int sy = 0; sy < base.getSectionCount(); sy++) {
+            if ((sectionMask & (1 << sy)) != 0) {
+                base.replaceSection(sy, new CcoPaletteSection(cellsPerLayer, BlockType.AIR));
+            }
+        }
+        try {
+            VoxelChunkCodec.decodeSectionsInto(payload, sectionMask, new StorageBlockSetter(base),
+                    GameBlockTypeResolver.INSTANCE);
+        } catch (Exception e) {
+            logger.error("[NETWORK] Failed to decode sections of chunk ({},{}): {}", chunkX, chunkZ, e.getMessage());
+            return null;
+        }
+        return base;
+    }
+
     /** Height of the first non-opaque cell above each column, indexed {@code z * CHUNK_SIZE + x}. */
     public static int[] computeSkyHeights(CcoPalettedChunkStorage decoded) {
         int size = WorldConfiguration.CHUNK_SIZE;
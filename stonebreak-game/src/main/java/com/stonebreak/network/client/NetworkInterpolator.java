@@ -11,6 +11,11 @@ import org.joml.Vector3f;
  * {@link #apply(Entity)} interpolates between them across an expected snapshot interval
  * (default = the server tick period, 50 ms).
  *
+ * <p>Entities far from the player are updated less often (the server's distance tiers);
+ * those updates say how long until the next one, and {@link #receive(float, float, float,
+ * float, Entity, long)} stretches the interpolation window to match, so a cow 80 blocks
+ * away glides across its 200 ms gap instead of stepping every fourth tick.
+ *
  * <p>If snapshots arrive late, interpolation extrapolates lightly past the target
  * (clamped) so motion doesn't visibly stop while waiting.
  *
@@ -22,6 +27,8 @@ public final class NetworkInterpolator {
     private static final float MAX_EXTRAPOLATION = 0.25f;
     /** Default snapshot period (server tick) in nanos. */
     public static final long DEFAULT_PERIOD_NS = 50_000_000L;
+    /** Longest window a tiered update may ask for; guards against a bogus interval. */
+    private static final long MAX_PERIOD_NS = 1_000_000_000L;
 
     private float prevX, prevY, prevZ, prevYawDeg, prevPitchDeg;
     private float targetX, targetY, targetZ, targetYawDeg, targetPitchDeg;
@@ -63,6 +70,16 @@ public final class NetworkInterpolator {
         receive(x, y, z, yawDeg, targetPitchDeg, displayed);
     }
 
+    /**
+     * As above, for a snapshot that announced the next one {@code expectedIntervalNs} from
+     * now: the move to the target is spread over that interval. The window sticks for
+     * later snapshots that don't carry one (teleports).
+     */
+    public void receive(float x, float y, float z, float yawDeg, Entity displayed, long expectedIntervalNs) {
+        durationNs = Math.clamp(expectedIntervalNs, 1_000_000L, MAX_PERIOD_NS);
+        receive(x, y, z, yawDeg, targetPitchDeg, displayed);
+    }
+
     /** Per-frame: write interpolated position/yaw onto the entity. */
     public void apply(Entity entity) {
         if (!hasSample) {
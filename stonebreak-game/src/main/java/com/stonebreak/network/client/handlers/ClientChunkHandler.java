@@ -2,8 +2,14 @@ package com.stonebreak.network.client.handlers;
 
 import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
 import com.stonebreak.core.Game;
+import com.stonebreak.network.bridge.ChunkHasher;
+import com.stonebreak.network.client.ClientChunkCache;
+import com.stonebreak.network.client.NetworkChunkDecoder;
+import com.stonebreak.network.packet.world.ChunkCachedS2C;
 import com.stonebreak.network.packet.world.ChunkDataS2C;
+import com.stonebreak.network.packet.world.ChunkSectionsS2C;
 import com.stonebreak.world.World;
+import com.stonebreak.world.chunk.Chunk;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
@@ -12,6 +18,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 /**
  * Client-side: installs authoritative chunk snapshots into the local world.
@@ -28,6 +35,14 @@ import java.util.concurrent.Executors;
  * monotonic sequence number and a ready item older than the latest submission
  * for its chunk is dropped (a newer decode is queued or in flight), so
  * out-of-order decode completion can never roll a chunk back.
+ *
+ * <p>With a disk cache attached (remote sessions), every decoded snapshot is also
+ * written to it, and {@link ChunkCachedS2C} confirmations decode the cached copy
+ * through the same workers and sequencing.
+ *
+ * <p>Desync repairs ({@link ChunkSectionsS2C}) carry only the mismatching sections: they
+ * are decoded over a copy of the resident blocks (copy-on-write, so the copy is cheap)
+ * and then install exactly like a full snapshot.
  */
 public final class ClientChunkHandler {
 
@@ -36,12 +51,15 @@ public final class ClientChunkHandler {
     // workers), and the ready queue is naturally bounded by decode throughput
     // per frame — loading speed is hardware-limited, not paced.
 
-    /** Raw payloads that arrived before the client world existed (rebuild/rejoin). */
-    private final Deque<ChunkDataS2C> pending = new ArrayDeque<>();
+    /** Decode submissions for payloads that arrived before the client world existed (rebuild/rejoin). */
+    private final Deque<Runnable> pending = new ArrayDeque<>();
+
+    /** Disk cache of received payloads; null for local sessions. */
+    private volatile ClientChunkCache diskCache;
 
     private record DecodedChunk(int chunkX, int chunkZ, long seq,
                                 CcoPalettedChunkStorage storage, int[] heights,
-                                byte[] metaPayload) {}
+                                byte[] metaPayload, long submittedNanos) {}
 
     private final ConcurrentLinkedQueue<DecodedChunk> ready = new ConcurrentLinkedQueue<>();
     /** Latest submitted decode sequence per chunk key; main-thread only. */
@@ -94,40 +112,122 @@ public final class ClientChunkHandler {
             return t;
         });
 
+    /** Attach (or with null, detach) the disk cache that received payloads are written to. */
+    public void setDiskCache(ClientChunkCache cache) {
+        this.diskCache = cache;
+    }
+
     public void apply(ChunkDataS2C cd) {
         // isClientWorldReady (not a bare null check): during a world REBUILD (rejoin),
         // Game.getWorld() still returns the previous session's world — installing there
         // would silently lose the chunk (the server marks it sent exactly once).
         if (!Game.isClientWorldReady()) {
-            pending.add(cd);
+            pending.add(() -> submitDecode(cd));
             return;
         }
         submitDecode(cd);
     }
 
+    /** The server confirmed our disk-cached copy of a chunk: install it with the fresh metadata. */
+    public void applyCached(ChunkCachedS2C cc) {
+        if (!Game.isClientWorldReady()) {
+            pending.add(() -> submitCachedDecode(cc));
+            return;
+        }
+        submitCachedDecode(cc);
+    }
+
+    /** The server's repair for a desync audit mismatch: replace the listed sections. */
+    public void applySections(ChunkSectionsS2C cs) {
+        if (!Game.isClientWorldReady()) {
+            pending.add(() -> submitSectionsDecode(cs));
+            return;
+        }
+        submitSectionsDecode(cs);
+    }
+
+    private void submitSectionsDecode(ChunkSectionsS2C cs) {
+        // A snapshot still installing would overwrite the repaired base; apply on top of it.
+        if (runAfterPendingInstall(cs.chunkX(), cs.chunkZ(), () -> submitSectionsDecode(cs))) {
+            return;
+        }
+        Chunk chunk = Game.getWorld().getChunkIfLoaded(cs.chunkX(), cs.chunkZ());
+        if (chunk == null) {
+            // Dropped locally since the audit; only a full snapshot can restore it.
+            com.stonebreak.network.MultiplayerSession.requestChunkResync(cs.chunkX(), cs.chunkZ());
+            return;
+        }
+        // Snapshot the base now, on the main thread; edits arriving later defer behind the install.
+        CcoPalettedChunkStorage base = copyBlocks(chunk);
+        submitDecode(cs.chunkX(), cs.chunkZ(), cs.metaPayload(), () -> NetworkChunkDecoder.decodeSections(
+            cs.chunkX(), cs.chunkZ(), base, cs.sectionMask(), cs.payload()));
+    }
+
+    private static CcoPalettedChunkStorage copyBlocks(Chunk chunk) {
+        var blocks = chunk.getBlockStorageView();
+        if (blocks instanceof CcoPalettedChunkStorage paletted) {
+            return paletted.copy();
+        }
+        CcoPalettedChunkStorage copy = CcoPalettedChunkStorage.createEmpty(
+            blocks.getSizeX(), blocks.getSizeY(), blocks.getSizeZ(), com.stonebreak.blocks.BlockType.AIR);
+        copy.copyFrom(blocks);
+        return copy;
+    }
+
     private void submitDecode(ChunkDataS2C cd) {
+        com.stonebreak.world.chunk.utils.ChunkLatency.requested(cd.chunkX(), cd.chunkZ());
+        submitDecode(cd.chunkX(), cd.chunkZ(), cd.metaPayload(), () -> {
+            CcoPalettedChunkStorage storage = NetworkChunkDecoder.decodeBlocks(cd.chunkX(), cd.chunkZ(), cd.payload());
+            ClientChunkCache cache = diskCache;
+            if (storage != null && cache != null) {
+                cache.store(cd.chunkX(), cd.chunkZ(), ChunkHasher.cacheHash(storage), cd.payload());
+            }
+            return storage;
+        });
+    }
+
+    private void submitCachedDecode(ChunkCachedS2C cc) {
+        com.stonebreak.world.chunk.utils.ChunkLatency.requested(cc.chunkX(), cc.chunkZ());
+        submitDecode(cc.chunkX(), cc.chunkZ(), cc.metaPayload(), () -> {
+            ClientChunkCache cache = diskCache;
+            byte[] payload = cache == null ? null : cache.read(cc.chunkX(), cc.chunkZ(), cc.hash());
+            CcoPalettedChunkStorage storage = payload == null
+                ? null : NetworkChunkDecoder.decodeBlocks(cc.chunkX(), cc.chunkZ(), payload);
+            // The file name vouches for the hash; the blocks must agree before we trust them.
+            if (payload != null && (storage == null || ChunkHasher.cacheHash(storage) != cc.hash())) {
+                cache.discard(cc.chunkX(), cc.chunkZ(), cc.hash());
+                storage = null;
+            }
+            if (storage != null) {
+                com.stonebreak.world.chunk.utils.ChunkPipelineStats.CACHE_INSTALLED.increment();
+            }
+            return storage;
+        });
+    }
+
+    private void submitDecode(int chunkX, int chunkZ, byte[] metaPayload, Supplier<CcoPalettedChunkStorage> decode) {
         if (decodeExecutor.isShutdown()) {
             return; // stray packet after session teardown
         }
         long seq = nextSeq++;
-        latestSeq.put(key(cd.chunkX(), cd.chunkZ()), seq);
+        long submitted = System.nanoTime();
+        latestSeq.put(key(chunkX, chunkZ), seq);
         decodeExecutor.execute(() -> {
-            CcoPalettedChunkStorage storage =
-                com.stonebreak.network.client.NetworkChunkDecoder.decodeBlocks(cd.chunkX(), cd.chunkZ(), cd.payload());
+            CcoPalettedChunkStorage storage = decode.get();
             // Heightmap on the worker too — the install then only swaps storage.
-            int[] heights = storage == null ? null : com.stonebreak.network.client.NetworkChunkDecoder.computeSkyHeights(storage);
-            // storage == null → decode failed; carried through so the main
-            // thread can request the resync (network calls stay off workers).
-            ready.add(new DecodedChunk(cd.chunkX(), cd.chunkZ(), seq, storage, heights, cd.metaPayload()));
+            int[] heights = storage == null ? null : NetworkChunkDecoder.computeSkyHeights(storage);
+            // storage == null → decode failed (or the cached copy is gone); carried through
+            // so the main thread can request the resync (network calls stay off workers).
+            ready.add(new DecodedChunk(chunkX, chunkZ, seq, storage, heights, metaPayload, submitted));
         });
     }
 
     public void tick() {
         boolean worldReady = Game.isClientWorldReady();
         if (worldReady && !pending.isEmpty()) {
-            ChunkDataS2C cd;
-            while ((cd = pending.poll()) != null) {
-                submitDecode(cd);
+            Runnable submit;
+            while ((submit = pending.poll()) != null) {
+                submit.run();
             }
         }
         if (ready.isEmpty() || !worldReady) {
@@ -164,6 +264,9 @@ public final class ClientChunkHandler {
                 com.stonebreak.network.MultiplayerSession.requestChunkResync(dc.chunkX(), dc.chunkZ());
                 continue;
             }
+            // Arrival to installed: decode worker, then the wait for this tick.
+            com.stonebreak.world.chunk.utils.ChunkLatency.record(
+                com.stonebreak.world.chunk.utils.ChunkLatency.Stage.INSTALL, dc.chunkX(), dc.chunkZ(), dc.submittedNanos());
             java.util.List<Runnable> deferred = deferredActions.remove(chunkKey);
             if (deferred != null) {
                 for (Runnable action : deferred) {
@@ -178,6 +281,7 @@ public final class ClientChunkHandler {
         ready.clear();
         latestSeq.clear();
         deferredActions.clear();
+        diskCache = null;
         decodeExecutor.shutdownNow();
     }
 
@@ -8,6 +8,7 @@ import com.stonebreak.mobs.entities.EntityType;
 import com.stonebreak.network.client.NetworkInterpolator;
 import com.stonebreak.network.packet.entity.EntityDespawnS2C;
 import com.stonebreak.network.packet.entity.EntityMoveS2C;
+import com.stonebreak.network.packet.entity.EntityMovesS2C;
 import com.stonebreak.network.packet.entity.EntitySpawnS2C;
 import com.stonebreak.network.packet.entity.EntityTeleportS2C;
 import org.joml.Vector3f;
@@ -111,7 +112,29 @@ public final class ClientEntityHandler {
         if (!Game.isClientWorldReady()) {
             return;
         }
-        Entity e = byNetworkId.get(m.networkId());
+        applyDelta(m.networkId(), m.dx(), m.dy(), m.dz(), m.yawDeg10(), NetworkInterpolator.DEFAULT_PERIOD_NS);
+    }
+
+    /**
+     * A tick's packed moves: each entry is a delta plus the ticks until that entity's next
+     * update, which becomes its interpolation window.
+     */
+    public void applyMoves(EntityMovesS2C m) {
+        if (!Game.isClientWorldReady()) {
+            return;
+        }
+        long tickNs = m.tickMillis() * 1_000_000L;
+        int[] ids = m.networkIds();
+        short[] d = m.deltas();
+        byte[] intervals = m.intervals();
+        for (int i = 0; i < ids.length; i++) {
+            applyDelta(ids[i], d[4 * i], d[4 * i + 1], d[4 * i + 2], d[4 * i + 3],
+                Math.max(1, intervals[i]) * tickNs);
+        }
+    }
+
+    private void applyDelta(int networkId, short dx, short dy, short dz, short yawDeg10, long intervalNs) {
+        Entity e = byNetworkId.get(networkId);
         if (e == null) {
             noteUnknownMove();
             return;
@@ -126,11 +149,15 @@ public final class ClientEntityHandler {
             Vector3f p = e.getPosition();
             baseX = p.x; baseY = p.y; baseZ = p.z;
         }
-        float nx = baseX + EntityDeltaCodec.decodePosDelta(m.dx());
-        float ny = baseY + EntityDeltaCodec.decodePosDelta(m.dy());
-        float nz = baseZ + EntityDeltaCodec.decodePosDelta(m.dz());
-        float yaw = EntityDeltaCodec.decodeYawDeg(m.yawDeg10());
-        applyAbsolute(m.networkId(), nx, ny, nz, yaw);
+        float nx = baseX + EntityDeltaCodec.decodePosDelta(dx);
+        float ny = baseY + EntityDeltaCodec.decodePosDelta(dy);
+        float nz = baseZ + EntityDeltaCodec.decodePosDelta(dz);
+        float yaw = EntityDeltaCodec.decodeYawDeg(yawDeg10);
+        if (interp != null) {
+            interp.receive(nx, ny, nz, yaw, e, intervalNs);
+        } else {
+            applyAbsolute(networkId, nx, ny, nz, yaw);
+        }
     }
 
     public void applyTeleport(EntityTeleportS2C t) {
@@ -0,0 +1,65 @@
+package com.stonebreak.network.packet.entity;
+
+import com.openmason.engine.net.protocol.ByteBufIO;
+import com.openmason.engine.net.protocol.Packet;
+import com.openmason.engine.net.protocol.PacketCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Server → client: one tick's entity movement for one player, packed. Entry {@code i} is
+ * the {@link EntityMoveS2C} delta of {@code networkIds[i]} — position deltas
+ * {@code deltas[4i..4i+2]} in 1/4096 block, absolute yaw {@code deltas[4i+3]} in 1/10° —
+ * plus {@code intervals[i]}, the number of server ticks until that entity's next update
+ * for this player (its distance tier). {@code tickMillis} is the server tick length, so
+ * the client can stretch interpolation over {@code intervals[i] * tickMillis}.
+ *
+ * <p>About 11 bytes an entry, against 17 for a framed standalone {@link EntityMoveS2C}.
+ */
+public record EntityMovesS2C(int tickMillis, int[] networkIds, short[] deltas, byte[] intervals) implements Packet {
+
+    /** Entries per packet; a player who knows more entities gets several packets. */
+    public static final int MAX_ENTRIES = 4096;
+
+    public int count() {
+        return networkIds.length;
+    }
+
+    public static final PacketCodec<EntityMovesS2C> CODEC = new PacketCodec<>() {
+        @Override
+        public void encode(ByteBuf out, EntityMovesS2C p) {
+            ByteBufIO.writeVarInt(out, p.tickMillis());
+            int n = p.count();
+            ByteBufIO.writeVarInt(out, n);
+            short[] deltas = p.deltas();
+            for (int i = 0; i < n; i++) {
+                ByteBufIO.writeVarInt(out, p.networkIds()[i]);
+                out.writeShort(deltas[4 * i]);
+                out.writeShort(deltas[4 * i + 1]);
+                out.writeShort(deltas[4 * i + 2]);
+                out.writeShort(deltas[4 * i + 3]);
+                out.writeByte(p.intervals()[i]);
+            }
+        }
+
+        @Override
+        public EntityMovesS2C decode(ByteBuf in) {
+            int tickMillis = ByteBufIO.readVarInt(in);
+            int n = ByteBufIO.readVarInt(in);
+            if (n < 0 || n > MAX_ENTRIES) {
+                throw new IllegalArgumentException("Invalid entity-moves count: " + n);
+            }
+            int[] ids = new int[n];
+            short[] deltas = new short[4 * n];
+            byte[] intervals = new byte[n];
+            for (int i = 0; i < n; i++) {
+                ids[i] = ByteBufIO.readVarInt(in);
+                deltas[4 * i] = in.readShort();
+                deltas[4 * i + 1] = in.readShort();
+                deltas[4 * i + 2] = in.readShort();
+                deltas[4 * i + 3] = in.readShort();
+                intervals[i] = in.readByte();
+            }
+            return new EntityMovesS2C(tickMillis, ids, deltas, intervals);
+        }
+    };
+}
@@ -0,0 +1,49 @@
+package com.stonebreak.network.packet.world;
+
+import com.openmason.engine.net.protocol.ByteBufIO;
+import com.openmason.engine.net.protocol.Packet;
+import com.openmason.engine.net.protocol.PacketCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Client → server: chunks the client holds in its on-disk chunk cache for the view it is
+ * about to enter, as {@code ChunkHasher.cacheHash} hashes. When the streaming scan reaches
+ * one of them and the server's own hash matches, it sends a {@link ChunkCachedS2C} instead
+ * of the full snapshot. {@code coords} is flat {@code [cx0, cz0, cx1, cz1, ...]} with one
+ * entry of {@code hashes} per chunk; sent ahead of the player state that moves the view, so
+ * the offers are in place before the scan.
+ */
+public record ChunkCacheOfferC2S(int[] coords, long[] hashes) implements Packet {
+
+    /** Max offered chunks per packet; the client splits a full view across several. */
+    public static final int MAX_ENTRIES = 64;
+
+    public static final PacketCodec<ChunkCacheOfferC2S> CODEC = new PacketCodec<>() {
+        @Override
+        public void encode(ByteBuf out, ChunkCacheOfferC2S p) {
+            long[] hashes = p.hashes();
+            ByteBufIO.writeVarInt(out, hashes.length);
+            for (int i = 0; i < hashes.length; i++) {
+                out.writeInt(p.coords()[i * 2]);
+                out.writeInt(p.coords()[i * 2 + 1]);
+                out.writeLong(hashes[i]);
+            }
+        }
+
+        @Override
+        public ChunkCacheOfferC2S decode(ByteBuf in) {
+            int n = ByteBufIO.readVarInt(in);
+            if (n < 0 || n > MAX_ENTRIES) {
+                throw new IllegalArgumentException("Invalid chunk-cache offer count: " + n);
+            }
+            int[] coords = new int[n * 2];
+            long[] hashes = new long[n];
+            for (int i = 0; i < n; i++) {
+                coords[i * 2] = in.readInt();
+                coords[i * 2 + 1] = in.readInt();
+                hashes[i] = in.readLong();
+            }
+            return new ChunkCacheOfferC2S(coords, hashes);
+        }
+    };
+}
@@ -0,0 +1,32 @@
+package com.stonebreak.network.packet.world;
+
+import com.openmason.engine.net.protocol.ByteBufIO;
+import com.openmason.engine.net.protocol.Packet;
+import com.openmason.engine.net.protocol.PacketCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Server → client: stands in for a {@link ChunkDataS2C} when the client offered this chunk
+ * from its disk cache ({@link ChunkCacheOfferC2S}) and the 64-bit block hash matches the
+ * server's. The client installs its cached blocks; {@code metaPayload} is the current
+ * metadata blob, sent in full because the hash covers block ids only (snow, block states
+ * and water levels may have moved on since the copy was cached).
+ */
+public record ChunkCachedS2C(int chunkX, int chunkZ, long hash, byte[] metaPayload) implements Packet {
+
+    public static final PacketCodec<ChunkCachedS2C> CODEC = new PacketCodec<>() {
+        @Override
+        public void encode(ByteBuf out, ChunkCachedS2C p) {
+            out.writeInt(p.chunkX());
+            out.writeInt(p.chunkZ());
+            out.writeLong(p.hash());
+            ByteBufIO.writeByteArray(out, p.metaPayload(), ByteBufIO.MAX_CHUNK_BYTES);
+        }
+
+        @Override
+        public ChunkCachedS2C decode(ByteBuf in) {
+            return new ChunkCachedS2C(in.readInt(), in.readInt(), in.readLong(),
+                ByteBufIO.readByteArray(in, ByteBufIO.MAX_CHUNK_BYTES));
+        }
+    };
+}
@@ -1,9 +1,14 @@
 package com.stonebreak.network.packet.world;
 
+import com.openmason.engine.net.pipeline.FrameEncoder;
 import com.openmason.engine.net.protocol.ByteBufIO;
-import com.openmason.engine.net.protocol.Packet;
 import com.openmason.engine.net.protocol.PacketCodec;
+import com.openmason.engine.net.protocol.PreEncodedPacket;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 
 /**
  * Server → client: a full chunk snapshot. {@code payload} is the section-paletted blob
@@ -11,14 +16,117 @@ import io.netty.buffer.ByteBuf;
  * {@code metaPayload} is the game-side chunk metadata blob (snow layers, block states —
  * see {@code GameChunkMetaCodec}), empty when the chunk carries none. Keeping metadata in
  * a separate game-encoded blob leaves the engine chunk codec game-agnostic.
+ *
+ * <p>{@code wireBody} is the packet's own {@link #CODEC} output when the server encoded
+ * it once for many connections (see {@link #withWireBody()}); null otherwise. It is not
+ * part of the wire format — decoded packets never carry one. {@code compressedFrame} is
+ * the same body compressed once into a whole frame ({@link FrameEncoder#compressFrame}).
+ *
+ * <p>A <b>wire-only</b> packet ({@link #wireOnly}) keeps one of those two forms — the
+ * compressed frame when deflating pays off, the plain body otherwise — with null
+ * {@code payload} and {@code metaPayload}: it is only ever written to TCP channels, which
+ * send the frame and never look at the fields. {@link #fromWireBody()} recovers the full
+ * packet.
  */
-public record ChunkDataS2C(int chunkX, int chunkZ, byte[] payload, byte[] metaPayload) implements Packet {
+public record ChunkDataS2C(int chunkX, int chunkZ, byte[] payload, byte[] metaPayload, byte[] wireBody,
+                           byte[] compressedFrame)
+        implements PreEncodedPacket {
 
     private static final byte[] EMPTY = new byte[0];
 
+    public ChunkDataS2C(int chunkX, int chunkZ, byte[] payload, byte[] metaPayload) {
+        this(chunkX, chunkZ, payload, metaPayload, null, null);
+    }
+
     /** Convenience for meta-less chunks (tests, plain terrain). */
     public ChunkDataS2C(int chunkX, int chunkZ, byte[] payload) {
-        this(chunkX, chunkZ, payload, EMPTY);
+        this(chunkX, chunkZ, payload, EMPTY, null, null);
+    }
+
+    /** This packet with its wire body encoded once, for TCP sends that must not re-encode or copy it. */
+    public ChunkDataS2C withWireBody() {
+        if (wireBody != null || payload == null) {
+            return this;
+        }
+        ByteBuf buf = Unpooled.buffer(payload.length + metaPayload.length + 16);
+        try {
+            CODEC.encode(buf, this);
+            byte[] body = new byte[buf.readableBytes()];
+            buf.readBytes(body);
+            return new ChunkDataS2C(chunkX, chunkZ, payload, metaPayload, body, null);
+        } finally {
+            buf.release();
+        }
+    }
+
+    /**
+     * This packet reduced to one wire form, dropping the payload arrays it duplicates:
+     * the frame compressed once under {@code packetId}, or the plain body when that does
+     * not shrink it. For caches that serve remote connections; never hand it to a local
+     * channel.
+     */
+    public ChunkDataS2C wireOnly(int packetId) {
+        if (payload == null) {
+            return this;
+        }
+        byte[] body = withWireBody().wireBody;
+        byte[] compressed = FrameEncoder.compressFrame(packetId, body);
+        return compressed != null
+            ? new ChunkDataS2C(chunkX, chunkZ, null, null, null, compressed)
+            : new ChunkDataS2C(chunkX, chunkZ, null, null, body, null);
+    }
+
+    /** Bytes a wire-only packet retains (whichever form it kept). */
+    public int wireBytes() {
+        return compressedFrame != null ? compressedFrame.length : wireBody.length;
+    }
+
+    /** True if the payload arrays were dropped ({@link #wireOnly(int)}). */
+    public boolean isWireOnly() {
+        return payload == null;
+    }
+
+    /** The full packet, decoded back out of a wire-only packet's body; {@code this} otherwise. */
+    public ChunkDataS2C fromWireBody() {
+        if (payload != null) {
+            return this;
+        }
+        if (compressedFrame == null) {
+            return CODEC.decode(Unpooled.wrappedBuffer(wireBody));
+        }
+        ByteBuf frame = Unpooled.wrappedBuffer(inflateFrame(compressedFrame));
+        ByteBufIO.readVarInt(frame); // packet id
+        return CODEC.decode(frame);
+    }
+
+    private static byte[] inflateFrame(byte[] compressed) {
+        ByteBuf in = Unpooled.wrappedBuffer(compressed);
+        byte[] out = new byte[ByteBufIO.readVarInt(in)];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed, in.readerIndex(), in.readableBytes());
+            int produced = 0;
+            while (produced < out.length && !inflater.finished()) {
+                int n = inflater.inflate(out, produced, out.length - produced);
+                if (n == 0 && inflater.needsInput()) {
+                    break;
+                }
+                produced += n;
+            }
+            if (produced != out.length) {
+                throw new IllegalStateException("Compressed chunk frame inflated to the wrong length");
+            }
+            return out;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt compressed chunk frame", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Override
+    public byte[] encodedBody() {
+        return wireBody;
     }
 
     public static final PacketCodec<ChunkDataS2C> CODEC = new PacketCodec<>() {
@@ -3,16 +3,20 @@ package com.stonebreak.network.packet.world;
 import com.openmason.engine.net.protocol.ByteBufIO;
 import com.openmason.engine.net.protocol.Packet;
 import com.openmason.engine.net.protocol.PacketCodec;
+import com.openmason.engine.net.protocol.codec.VoxelChunkCodec;
 import io.netty.buffer.ByteBuf;
 
 /**
- * Client → server: periodic desync audit — {@code ChunkHasher} hashes of a small
- * round-robin batch of resident chunks. The server compares against its own cached hashes
- * and re-streams any mismatching chunk. Entries are {@code {cx, cz, hash}} triples packed
- * flat as {@code [cx0, cz0, h0, cx1, cz1, h1, ...]}.
+ * Client → server: periodic desync audit — {@code ChunkHasher} section hashes of a small
+ * round-robin batch of resident chunks. The server compares each section against its own
+ * and sends back only the sections that differ ({@link ChunkSectionsS2C}). Entries are
+ * {@link #STRIDE}-int records packed flat: {@code [cx, cz, s0 .. s15, cx, cz, ...]}.
  */
 public record ChunkHashesC2S(int[] entries) implements Packet {
 
+    /** Ints per audited chunk: coordinates plus one hash per section. */
+    public static final int STRIDE = 2 + VoxelChunkCodec.SECTIONS_PER_CHUNK;
+
     /** Max audited chunks per packet (client sends ≤16; bound guards hostile input). */
     public static final int MAX_ENTRIES = 64;
 
@@ -29,7 +33,7 @@ public record ChunkHashesC2S(int[] entries) implements Packet {
         @Override
         public ChunkHashesC2S decode(ByteBuf in) {
             int n = ByteBufIO.readVarInt(in);
-            if (n < 0 || n > MAX_ENTRIES * 3 || n % 3 != 0) {
+            if (n < 0 || n > MAX_ENTRIES * STRIDE || n % STRIDE != 0) {
                 throw new IllegalArgumentException("Invalid chunk-hash entry count: " + n);
             }
             int[] entries = new int[n];
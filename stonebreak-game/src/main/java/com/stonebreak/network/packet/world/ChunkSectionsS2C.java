@@ -0,0 +1,36 @@
+package com.stonebreak.network.packet.world;
+
+import com.openmason.engine.net.protocol.ByteBufIO;
+import com.openmason.engine.net.protocol.Packet;
+import com.openmason.engine.net.protocol.PacketCodec;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Server → client: desync repair for the sections of one chunk that failed the hash audit.
+ * {@code payload} holds just the sections set in {@code sectionMask} (bit {@code sy} =
+ * section {@code sy}), encoded by {@code VoxelChunkCodec.encodeSections}; the client keeps
+ * its other sections. {@code metaPayload} is the chunk's full metadata blob, as in
+ * {@link ChunkDataS2C}, since the audit hash does not cover it.
+ */
+public record ChunkSectionsS2C(int chunkX, int chunkZ, int sectionMask,
+                               byte[] payload, byte[] metaPayload) implements Packet {
+
+    public static final PacketCodec<ChunkSectionsS2C> CODEC = new PacketCodec<>() {
+        @Override
+        public void encode(ByteBuf out, ChunkSectionsS2C p) {
+            out.writeInt(p.chunkX());
+            out.writeInt(p.chunkZ());
+            out.writeShort(p.sectionMask());
+            ByteBufIO.writeByteArray(out, p.payload(), ByteBufIO.MAX_CHUNK_BYTES);
+            ByteBufIO.writeByteArray(out, p.metaPayload(), ByteBufIO.MAX_CHUNK_BYTES);
+        }
+
+        @Override
+        public ChunkSectionsS2C decode(ByteBuf in) {
+            return new ChunkSectionsS2C(
+                in.readInt(), in.readInt(), in.readUnsignedShort(),
+                ByteBufIO.readByteArray(in, ByteBufIO.MAX_CHUNK_BYTES),
+                ByteBufIO.readByteArray(in, ByteBufIO.MAX_CHUNK_BYTES));
+        }
+    };
+}
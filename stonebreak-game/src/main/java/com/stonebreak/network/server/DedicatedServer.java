@@ -0,0 +1,259 @@
+package com.stonebreak.network.server;
+
+import com.openmason.engine.net.transport.NetAddress;
+import com.stonebreak.core.Game;
+import com.stonebreak.network.MultiplayerSession;
+import com.stonebreak.world.chunk.utils.ChunkLatencyReport;
+import com.stonebreak.world.operations.WorldConfiguration;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Headless dedicated-server entry point: the authoritative {@link IntegratedServer} on a plain
+ * JVM, with no window, GL context, Skija surface or audio device. Boots the {@link ServerLevel}
+ * (world, save service, terrain generation) and the handlers exactly as an integrated server
+ * does, listens on TCP only, and runs the tick loop on the main thread.
+ *
+ * <pre>
+ * java -cp stonebreak-game.jar com.stonebreak.network.server.DedicatedServer \
+ *      --world survival --port 25565 --tick-rate 20 --gen-workers 6
+ * </pre>
+ *
+ * Nothing here reaches {@code core.Main} or the client bootstrap, and {@link Game#markHeadless()}
+ * runs first so shared world and entity code that consults the client singleton finds none
+ * rather than constructing one — so it runs in a container with no display. Worlds are stored
+ * where {@code WorldStorage} puts them; point {@code XDG_DATA_HOME} at a volume to persist them.
+ *
+ * <p>SIGTERM / Ctrl-C stops the loop, flushes connected players and chunks, and closes the
+ * save service before the JVM exits.
+ */
+public final class DedicatedServer {
+
+    public static final int DEFAULT_PORT = 25565;
+
+    /** Longest the loop sleeps between inbound drains — the integrated server's poll interval. */
+    private static final long MAX_POLL_NS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    /** How long the shutdown hook waits for the save flush before letting the JVM go. */
+    private static final long SHUTDOWN_WAIT_SECONDS = 30;
+
+    private static final String USAGE = """
+        Usage: DedicatedServer [options]
+          --world <name>          world to load or create (default: world)
+          --seed <seed>           seed for a new world; text is hashed (default: random)
+          --bind <host>           interface to listen on (default: all)
+          --port <port>           TCP port (default: 25565)
+          --tick-rate <hz>        simulation ticks per second (default: 20)
+          --gen-workers <n>       chunk generation threads (default: cores / 2)
+          --io-threads <n>        network IO threads (default: Netty's, 2 x cores)
+          --entity-threads <n>    region-parallel entity tick on n threads (default: off)
+          --water-threads <n>     region-parallel water tick on n threads (default: off)
+          --latency-report <s>    print chunk pipeline latency every s seconds (default: off)
+          --latency-format <f>    latency report as text or json (default: text)
+        """;
+
+    /** Parsed command line. Thread counts of 0 mean "leave the default". */
+    record Options(String worldName, long seed, String bindHost, int port, int tickRate,
+                   int genWorkers, int ioThreads, int entityThreads, int waterThreads,
+                   int latencyReportSeconds, ChunkLatencyReport.Format latencyFormat) {
+
+        /** Returns null for {@code --help}; throws {@link IllegalArgumentException} on bad input. */
+        static Options parse(String[] args) {
+            String world = "world";
+            long seed = new Random().nextLong();
+            String bind = null;
+            int port = DEFAULT_PORT;
+            int tickRate = IntegratedServer.DEFAULT_TICK_RATE;
+            int genWorkers = 0;
+            int ioThreads = 0;
+            int entityThreads = 0;
+            int waterThreads = 0;
+            int latencyReportSeconds = 0;
+            ChunkLatencyReport.Format latencyFormat = ChunkLatencyReport.Format.TEXT;
+            for (int i = 0; i < args.length; i++) {
+                String flag = args[i];
+                if (flag.equals("--help") || flag.equals("-h")) {
+                    return null;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + flag);
+                }
+                String value = args[++i];
+                switch (flag) {
+                    case "--world" -> world = value;
+                    case "--seed" -> seed = parseSeed(value);
+                    case "--bind" -> bind = value;
+                    case "--port" -> port = parseInt(flag, value, 0, 65535);
+                    case "--tick-rate" -> tickRate = parseInt(flag, value, 1, 1000);
+                    case "--gen-workers" -> genWorkers = parseInt(flag, value, 1, 1024);
+                    case "--io-threads" -> ioThreads = parseInt(flag, value, 1, 1024);
+                    case "--entity-threads" -> entityThreads = parseInt(flag, value, 1, 1024);
+                    case "--water-threads" -> waterThreads = parseInt(flag, value, 1, 1024);
+                    case "--latency-report" -> latencyReportSeconds = parseInt(flag, value, 1, 86400);
+                    case "--latency-format" -> latencyFormat = switch (value.trim().toLowerCase()) {
+                        case "text" -> ChunkLatencyReport.Format.TEXT;
+                        case "json" -> ChunkLatencyReport.Format.JSON;
+                        default -> throw new IllegalArgumentException(
+                            "--latency-format expects text or json, got '" + value + "'");
+                    };
+                    default -> throw new IllegalArgumentException("Unknown option " + flag);
+                }
+            }
+            if (world.isBlank()) {
+                throw new IllegalArgumentException("--world must not be blank");
+            }
+            return new Options(world, seed, bind, port, tickRate, genWorkers, ioThreads,
+                entityThreads, waterThreads, latencyReportSeconds, latencyFormat);
+        }
+
+        /** Same rule as the create-world dialog: numbers are taken as-is, anything else hashed. */
+        private static long parseSeed(String value) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return value.trim().hashCode();
+            }
+        }
+
+        private static int parseInt(String flag, String value, int min, int max) {
+            int parsed;
+            try {
+                parsed = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(flag + " expects a number, got '" + value + "'");
+            }
+            if (parsed < min || parsed > max) {
+                throw new IllegalArgumentException(flag + " must be " + min + ".." + max + ", got " + parsed);
+            }
+            return parsed;
+        }
+
+        WorldConfiguration worldConfiguration() {
+            return genWorkers > 0
+                ? new WorldConfiguration(WorldConfiguration.DEFAULT_RENDER_DISTANCE, genWorkers)
+                : new WorldConfiguration();
+        }
+
+        NetAddress tcpAddress() {
+            return bindHost != null ? NetAddress.tcp(bindHost, port) : NetAddress.tcpBind(port);
+        }
+
+        /** The periodic chunk latency dump, or null when {@code --latency-report} is off. */
+        ChunkLatencyReport latencyReport() {
+            return latencyReportSeconds > 0
+                ? new ChunkLatencyReport(TimeUnit.SECONDS.toNanos(latencyReportSeconds), latencyFormat, System.out)
+                : null;
+        }
+
+        /** The parallel entity/water ticks are configured by system property in {@link ServerLevel}. */
+        void applyThreadProperties() {
+            if (entityThreads > 0) {
+                System.setProperty("stonebreak.entities.parallel", "on");
+                System.setProperty("stonebreak.entities.threads", Integer.toString(entityThreads));
+            }
+            if (waterThreads > 0) {
+                System.setProperty("stonebreak.water.parallel", "on");
+                System.setProperty("stonebreak.water.threads", Integer.toString(waterThreads));
+            }
+        }
+    }
+
+    private final Options options;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private volatile boolean running = true;
+
+    private DedicatedServer(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("[DEDICATED] " + e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (options == null) {
+            System.out.print(USAGE);
+            return;
+        }
+        // Before anything can touch the client singleton or AWT.
+        System.setProperty("java.awt.headless", "true");
+        Game.markHeadless();
+        options.applyThreadProperties();
+        if (!new DedicatedServer(options).run()) {
+            System.exit(1);
+        }
+    }
+
+    /** Boots, serves until stopped, tears down. False when the boot failed. */
+    private boolean run() {
+        long bootStart = System.nanoTime();
+        IntegratedServer server = new IntegratedServer(options.tickRate(), options.ioThreads());
+        // The hook only flips the flag: the loop notices within one poll, and an interrupt
+        // could land on the teardown's own waits and cut the save flush short.
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            running = false;
+            try {
+                stopped.await(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "Dedicated-Shutdown"));
+
+        try {
+            server.start(null, options.tcpAddress(), options.worldName(), options.seed(),
+                options.worldConfiguration());
+            MultiplayerSession.attachDedicated(server);
+            System.out.println("[DEDICATED] Serving '" + options.worldName() + "' on "
+                + server.tcpBoundAddress() + " at " + options.tickRate() + " Hz — ready in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - bootStart) + " ms");
+            loop(server);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            System.err.println("[DEDICATED] Failed to start: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        } finally {
+            MultiplayerSession.detachDedicated();
+            ServerLevel level = server.worldContext().serverLevel();
+            server.shutdown();
+            if (level != null) {
+                level.cleanup();
+            }
+            stopped.countDown();
+        }
+    }
+
+    /**
+     * Drains inbound packets at least every {@link #MAX_POLL_NS} and otherwise sleeps until the
+     * next tick is due, so the main thread sleeps instead of spinning.
+     */
+    private void loop(IntegratedServer server) {
+        ChunkLatencyReport latencyReport = options.latencyReport();
+        while (running) {
+            try {
+                server.tick();
+                if (latencyReport != null) {
+                    latencyReport.maybeReport(System.nanoTime());
+                }
+            } catch (Throwable t) {
+                System.err.println("[DEDICATED] Tick error: " + t);
+                t.printStackTrace();
+            }
+            long wait = Math.min(server.nanosUntilNextTick(), MAX_POLL_NS);
+            if (wait > 0L) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+    }
+}
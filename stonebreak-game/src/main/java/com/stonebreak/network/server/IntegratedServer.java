@@ -39,11 +39,14 @@ import com.stonebreak.network.server.handlers.ServerChatHandler;
 import com.stonebreak.network.server.handlers.ServerChunkHandler;
 import com.stonebreak.network.server.handlers.ServerEntityHandler;
 import com.stonebreak.network.server.handlers.ServerPlayerHandler;
+import com.stonebreak.world.World;
+import com.stonebreak.world.operations.WorldConfiguration;
 import org.joml.Vector3f;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.LongConsumer;
 
 /**
  * The world-authoritative integrated server. Wraps the engine {@link NetworkServer} and
@@ -51,21 +54,23 @@ import java.util.List;
  * including the co-located host — is a client; this server holds the truth.
  *
  * <p>{@link #tick()} runs on the dedicated {@code <Mode>-Server} daemon thread (see
- * {@code MultiplayerSession.startWithServer}): it drains the inbound queue
- * (connect/disconnect/handshake inline, PLAY packets routed to handlers) and then advances
- * a fixed <b>20 Hz</b> replication step (the 50 ms accumulator + 5-tick spiral-of-death
- * clamp inherited from the old session pump). Netty event-loop threads only ever enqueue.
+ * {@code MultiplayerSession.startWithServer}), or on the main thread of a
+ * {@link DedicatedServer}: it drains the inbound queue (connect/disconnect/handshake inline,
+ * PLAY packets routed to handlers) and then advances a fixed-rate replication step — <b>20 Hz</b>
+ * unless a dedicated server is configured otherwise — behind the accumulator + 5-tick
+ * spiral-of-death clamp inherited from the old session pump. Netty event-loop threads only
+ * ever enqueue.
  */
 public final class IntegratedServer {
 
-    private static final long TICK_PERIOD_NS = 50_000_000L;        // 20 Hz
-    private static final long MAX_ACCUMULATOR_NS = TICK_PERIOD_NS * 5;
-    /** Persist connected remote players' inventories this often (~30 s at 20 Hz) for crash safety. */
-    private static final int REMOTE_PLAYER_SAVE_INTERVAL_TICKS = 600;
+    /** The shipped simulation rate; a dedicated server may run at another (see {@link DedicatedServer}). */
+    public static final int DEFAULT_TICK_RATE = 20;
+    /** Persist connected remote players' inventories this often, for crash safety. */
+    private static final int REMOTE_PLAYER_SAVE_INTERVAL_SECONDS = 30;
     private int remotePlayerSaveCounter = 0;
 
-    /** Keepalive probe + authoritative time sample cadence (100 ticks = 5 s at 20 Hz). */
-    private static final int KEEPALIVE_INTERVAL_TICKS = 100;
+    /** Keepalive probe + authoritative time sample cadence. */
+    private static final int KEEPALIVE_INTERVAL_SECONDS = 5;
     /** Kick a REMOTE player after this much total inbound silence (dead TCP peer). */
     private static final long INBOUND_SILENCE_TIMEOUT_NS = 30_000_000_000L; // 30 s
     private int keepaliveCounter = 0;
@@ -80,15 +85,47 @@ public final class IntegratedServer {
     private final ServerPlayerHandler playerHandler;
     private final ServerChatHandler chatHandler;
 
+    private final long tickPeriodNs;
+    private final long maxAccumulatorNs;
+    private final int keepaliveIntervalTicks;
+    private final int remotePlayerSaveIntervalTicks;
+
     private long lastTickNs = 0L;
     private long tickAccumulatorNs = 0L;
 
+    // Tick-thread scratch: chunk columns the players stand in, for the cold-tier sweep.
+    private int[] coldAnchorXs = new int[8];
+    private int[] coldAnchorZs = new int[8];
+
+    /** Receives each server tick's duration (ns) on the tick thread; null when unobserved. */
+    private volatile LongConsumer tickObserver;
+    private long observedPumpNs; // tick thread: pump time not yet reported
+
     public IntegratedServer() {
-        this.networkServer = new NetworkServer(StonebreakProtocol.registry());
+        this(DEFAULT_TICK_RATE, 0);
+    }
+
+    /**
+     * @param tickRate  simulation ticks per second; periodic work (keepalives, player saves)
+     *                  keeps its wall-clock cadence at any rate
+     * @param ioThreads TCP IO threads, {@code 0} for Netty's default
+     */
+    public IntegratedServer(int tickRate, int ioThreads) {
+        if (tickRate < 1 || tickRate > 1000) {
+            throw new IllegalArgumentException("tickRate must be 1..1000, got " + tickRate);
+        }
+        this.tickPeriodNs = 1_000_000_000L / tickRate;
+        this.maxAccumulatorNs = tickPeriodNs * 5;
+        this.keepaliveIntervalTicks = KEEPALIVE_INTERVAL_SECONDS * tickRate;
+        this.remotePlayerSaveIntervalTicks = REMOTE_PLAYER_SAVE_INTERVAL_SECONDS * tickRate;
+        this.networkServer = new NetworkServer(StonebreakProtocol.registry(), ioThreads);
+        // Sends only write; tick() flushes each connection once at its end, so a tick's
+        // packets leave as a few bundled frames instead of one syscall per packet.
+        this.networkServer.setDeferredFlush(true);
         this.ctx = new ServerWorldContext(networkServer.connections());
         this.chunkHandler = new ServerChunkHandler();
         this.blockHandler = new ServerBlockHandler(chunkHandler);
-        this.entityHandler = new ServerEntityHandler();
+        this.entityHandler = new ServerEntityHandler(tickRate);
         this.playerHandler = new ServerPlayerHandler();
         this.chatHandler = new ServerChatHandler();
     }
@@ -102,7 +139,13 @@ public final class IntegratedServer {
      */
     public void start(NetAddress localAddress, NetAddress tcpAddress, String worldName, long fallbackSeed)
             throws InterruptedException {
-        ServerLevel level = ServerLevel.createAndLoad(worldName, fallbackSeed);
+        start(localAddress, tcpAddress, worldName, fallbackSeed, new WorldConfiguration());
+    }
+
+    /** As above, with the world's worker configuration (chunk generation thread count). */
+    public void start(NetAddress localAddress, NetAddress tcpAddress, String worldName, long fallbackSeed,
+                      WorldConfiguration worldConfig) throws InterruptedException {
+        ServerLevel level = ServerLevel.createAndLoad(worldName, fallbackSeed, worldConfig);
         ctx.setServerLevel(level);
 
         // Wire the spawner's player-position source to the live server roster. Kept here
@@ -140,6 +183,11 @@ public final class IntegratedServer {
         return ctx;
     }
 
+    /** The bound TCP listener (resolves a port-0 bind), or null when TCP is not bound. */
+    public java.net.SocketAddress tcpBoundAddress() {
+        return networkServer.tcpBoundAddress();
+    }
+
     /**
      * Snapshots a spawn anchor (position + view distance) for every player that has both completed
      * the handshake AND reported a position (so the dynamic mob cap sizes itself to each player's
@@ -161,6 +209,9 @@ public final class IntegratedServer {
     // ─── Per-frame pump (host game thread) ────────────────────────────────────────
 
     public void tick() {
+        LongConsumer observer = tickObserver;
+        long pumpStart = observer == null ? 0L : System.nanoTime();
+
         ServerInboundQueue queue = networkServer.inboundQueue();
         queue.drain(this::dispatch);
 
@@ -170,22 +221,51 @@ public final class IntegratedServer {
         }
         tickAccumulatorNs += now - lastTickNs;
         lastTickNs = now;
-        if (tickAccumulatorNs > MAX_ACCUMULATOR_NS) {
-            tickAccumulatorNs = MAX_ACCUMULATOR_NS;
+        if (tickAccumulatorNs > maxAccumulatorNs) {
+            tickAccumulatorNs = maxAccumulatorNs;
         }
-        while (tickAccumulatorNs >= TICK_PERIOD_NS) {
-            tickAccumulatorNs -= TICK_PERIOD_NS;
+        boolean stepped = false;
+        while (tickAccumulatorNs >= tickPeriodNs) {
+            tickAccumulatorNs -= tickPeriodNs;
             replicationTick();
+            stepped = true;
+        }
+        networkServer.flushAll();
+
+        if (observer != null) {
+            // Pumps between steps only drain and flush; their time is charged to the next step.
+            observedPumpNs += System.nanoTime() - pumpStart;
+            if (stepped) {
+                observer.accept(observedPumpNs);
+                observedPumpNs = 0L;
+            }
         }
     }
 
+    /**
+     * Observe the wall time of every server tick: the whole pump that ran the replication
+     * step — inbound dispatch, world sim plus all handler flushes, the network flush —
+     * plus any pumps since the previous one that only dispatched and flushed. Called on
+     * the tick thread at the end of that pump (once, if a pump caught up several steps).
+     * Used by the bot load generator; pass null to stop observing.
+     */
+    public void setTickObserver(LongConsumer observer) {
+        this.tickObserver = observer;
+    }
+
+    /** Nanoseconds until the next simulation tick is due; 0 when one is due now. */
+    public long nanosUntilNextTick() {
+        return Math.max(0L, tickPeriodNs - tickAccumulatorNs - (System.nanoTime() - lastTickNs));
+    }
+
     private void replicationTick() {
         // Authoritative world simulation on the headless server world: water/furnace/features,
         // entity AI + physics, mob spawning, and time. Replication handlers then ship the
         // resulting state to clients.
         ServerLevel level = ctx.serverLevel();
         if (level != null) {
-            level.tick(TICK_PERIOD_NS / 1_000_000_000f);
+            level.tick(tickPeriodNs / 1_000_000_000f);
+            updateColdTier(level.world());
         }
         blockHandler.tick(ctx);
         playerHandler.tick(ctx);
@@ -195,7 +275,7 @@ public final class IntegratedServer {
         // Keepalive probes + authoritative time sample, every 5 s. Local channels get probes
         // too (free RTT signal) but are exempt from the silence kick — a same-JVM stall
         // (debugger, world-gen hitch on the game thread) must not tear down SP/host.
-        if (++keepaliveCounter >= KEEPALIVE_INTERVAL_TICKS) {
+        if (++keepaliveCounter >= keepaliveIntervalTicks) {
             keepaliveCounter = 0;
             long now = System.nanoTime();
             TimeSyncS2C timeSync = currentTimeSync();
@@ -216,7 +296,7 @@ public final class IntegratedServer {
         }
 
         // Periodically persist connected remote players' inventories (crash safety).
-        if (++remotePlayerSaveCounter >= REMOTE_PLAYER_SAVE_INTERVAL_TICKS) {
+        if (++remotePlayerSaveCounter >= remotePlayerSaveIntervalTicks) {
             remotePlayerSaveCounter = 0;
             for (ServerPlayer sp : ctx.players()) {
                 persistPlayer(sp);
@@ -224,6 +304,28 @@ public final class IntegratedServer {
         }
     }
 
+    /**
+     * Lets the server world pack idle chunks far from every player (see
+     * {@code ColdChunkTier}; the sweep itself runs at most once a second).
+     * Players that have not reported a position yet are left out, as for the
+     * spawn anchors.
+     */
+    private void updateColdTier(World world) {
+        Collection<ServerPlayer> roster = ctx.players();
+        if (coldAnchorXs.length < roster.size()) {
+            coldAnchorXs = new int[roster.size()];
+            coldAnchorZs = new int[roster.size()];
+        }
+        int anchors = 0;
+        for (ServerPlayer sp : roster) {
+            if (!sp.handshakeDone() || sp.lastStateNs() == 0L) continue;
+            coldAnchorXs[anchors] = Math.floorDiv((int) Math.floor(sp.x()), WorldConfiguration.CHUNK_SIZE);
+            coldAnchorZs[anchors] = Math.floorDiv((int) Math.floor(sp.z()), WorldConfiguration.CHUNK_SIZE);
+            anchors++;
+        }
+        world.updateColdTier(coldAnchorXs, coldAnchorZs, anchors);
+    }
+
     /**
      * C2S: /timeset — set the authoritative world clock. Host-only for now (the client-side
      * cheats gate can't be trusted from remote peers). Applies on the server tick thread and
@@ -301,6 +403,8 @@ public final class IntegratedServer {
                 chunkHandler.handleResyncRequest(sp, cr.chunkX(), cr.chunkZ());
             case com.stonebreak.network.packet.world.ChunkHashesC2S ch ->
                 chunkHandler.handleChunkHashes(sp, ch.entries(), ctx);
+            case com.stonebreak.network.packet.world.ChunkCacheOfferC2S co ->
+                chunkHandler.handleChunkCacheOffer(sp, co.coords(), co.hashes());
             case com.stonebreak.network.packet.entity.EntityResyncC2S ignored2 -> {
                 if (sp.allowResync()) {
                     entityHandler.onPeerResync(sp, ctx); // idempotent client-side (known ids ignored)
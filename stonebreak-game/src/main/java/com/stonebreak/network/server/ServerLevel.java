@@ -65,6 +65,26 @@ public final class ServerLevel {
         // manager/spawner (not the Game/client singleton, which during boot is the wrong one).
         world.setEntitySpawner(entitySpawner);
         world.setEntityManager(entityManager);
+        // Opt-in region-parallel entity tick (-Dstonebreak.entities.parallel=on); pool size
+        // defaults to the core count, -Dstonebreak.entities.threads overrides it.
+        if ("on".equalsIgnoreCase(System.getProperty("stonebreak.entities.parallel", "off"))) {
+            int threads = Integer.getInteger("stonebreak.entities.threads",
+                Runtime.getRuntime().availableProcessors());
+            entityManager.setParallelTick(threads);
+            System.out.println("[SERVER-LEVEL] Parallel entity tick on " + threads + " threads");
+        }
+        // Opt-in region-parallel water tick (-Dstonebreak.water.parallel=on), sized the same way
+        // (-Dstonebreak.water.threads).
+        if ("on".equalsIgnoreCase(System.getProperty("stonebreak.water.parallel", "off"))) {
+            int threads = Integer.getInteger("stonebreak.water.threads",
+                Runtime.getRuntime().availableProcessors());
+            if (world.getWaterSim().setParallel(threads)) {
+                System.out.println("[SERVER-LEVEL] Parallel water tick on "
+                    + world.getWaterSim().parallelThreads() + " threads");
+            } else {
+                System.out.println("[SERVER-LEVEL] Water tick stays serial");
+            }
+        }
     }
 
     /**
@@ -74,6 +94,11 @@ public final class ServerLevel {
      * the world metadata loads and the spawn area pre-generates (run off the render thread).
      */
     public static ServerLevel createAndLoad(String worldName, long fallbackSeed) {
+        return createAndLoad(worldName, fallbackSeed, new WorldConfiguration());
+    }
+
+    /** As above, with an explicit world configuration (the dedicated server sizes its workers). */
+    public static ServerLevel createAndLoad(String worldName, long fallbackSeed, WorldConfiguration config) {
         String worldPath = com.stonebreak.world.save.WorldStorage.worldPath(worldName);
         SaveService save = new SaveService(worldPath);
 
@@ -99,7 +124,7 @@ public final class ServerLevel {
             timeTicks = TimeOfDay.NOON;
         }
 
-        World world = World.createHeadless(new WorldConfiguration(), seed);
+        World world = World.createHeadless(config, seed);
         if (worldData.getSpawnPosition() != null) {
             world.setSpawnPosition(worldData.getSpawnPosition());
         }
@@ -41,6 +41,12 @@ public final class ServerPlayer {
     private int lastCx = Integer.MIN_VALUE;
     private int lastCz = Integer.MIN_VALUE;
     private final LongIntHashMap sentChunkVersions = new LongIntHashMap();
+    // Chunks the client offered from its disk cache (ChunkCacheOfferC2S) → offered 64-bit
+    // block hash. Consumed by the streaming scan the first time it reaches the chunk, and
+    // pruned with the sent set. Capped: a hostile client must not grow it without bound.
+    // Boxed, but only probed while offers are outstanding (a returning player's first view).
+    private static final int MAX_CACHE_OFFERS = 8192;
+    private final java.util.HashMap<Long, Long> cacheOffers = new java.util.HashMap<>();
 
     /**
      * True while this player's chunk view may be out of date and the streaming scan in
@@ -183,6 +189,19 @@ public final class ServerPlayer {
     /** Forget every sent chunk whose packed key matches the predicate (left the keep radius). */
     public void forgetChunksMatching(java.util.function.LongPredicate predicate) {
         sentChunkVersions.removeIf(predicate);
+        if (!cacheOffers.isEmpty()) {
+            cacheOffers.keySet().removeIf(predicate::test);
+        }
+    }
+    /** Record a client cache offer; ignored once the cap is reached. */
+    public void offerCachedChunk(long key, long hash) {
+        if (cacheOffers.size() < MAX_CACHE_OFFERS) {
+            cacheOffers.put(key, hash);
+        }
+    }
+    /** The offered hash for {@code key}, removing the offer, or null if none. */
+    public Long takeCacheOffer(long key) {
+        return cacheOffers.isEmpty() ? null : cacheOffers.remove(key);
     }
 
     // ─── Transport convenience ────────────────────────────────────────────────
@@ -0,0 +1,152 @@
+package com.stonebreak.network.server.handlers;
+
+import com.openmason.engine.net.protocol.PacketDirection;
+import com.openmason.engine.net.protocol.ProtocolPhase;
+import com.stonebreak.network.StonebreakProtocol;
+import com.stonebreak.network.packet.world.ChunkDataS2C;
+import com.stonebreak.world.chunk.utils.ChunkPipelineStats;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encoded chunk snapshots shared by every player the server streams to, so a
+ * chunk near spawn is encoded once per version instead of once per viewer.
+ *
+ * <p>An entry is valid for one (chunk, {@code chunkVersions} version, chunk data
+ * revision) triple. The version covers player edits; the revision
+ * ({@link com.stonebreak.world.chunk.Chunk#getDataRevision}) covers everything else
+ * that rewrites a chunk without a version bump — water flow, snow, furnace state —
+ * and a chunk reloaded from disk, which never reuses a revision. A lookup that
+ * finds a stale entry drops it.
+ *
+ * <p>Bounded by an LRU byte budget over the retained arrays. Remote (TCP) sends
+ * use the packet's pre-encoded wire body ({@link ChunkDataS2C#withWireBody}), built
+ * lazily the first time a remote player needs the chunk, so a singleplayer host never
+ * pays for it. The wire form is compressed here, once per chunk state, so connections
+ * send the same compressed frame rather than each deflating the payload again.
+ *
+ * <p>An entry holds one form only: once a remote player has needed the chunk it keeps
+ * just the wire form ({@link ChunkDataS2C#wireOnly}), which already contains the payload,
+ * and a local send from it decodes the payload back out — a LAN host's extra copy,
+ * against keeping every chunk a dedicated server streams twice over. Server tick thread
+ * only.
+ */
+final class ChunkPayloadCache {
+
+    /** Default budget: several thousand typical 1-3 KB chunks. */
+    static final long DEFAULT_BUDGET_BYTES = 32L * 1024 * 1024;
+
+    /** The id the compressed frame is built under; clients only ever receive it in PLAY. */
+    private static final int WIRE_ID = StonebreakProtocol.registry()
+        .idForClass(ProtocolPhase.PLAY, PacketDirection.CLIENTBOUND, ChunkDataS2C.class);
+
+    private static final class Entry {
+        final int version;
+        final long revision;
+        ChunkDataS2C packet;
+        long bytes;
+
+        Entry(int version, long revision, ChunkDataS2C packet) {
+            this.version = version;
+            this.revision = revision;
+            this.packet = packet;
+            this.bytes = retainedBytes(packet);
+        }
+    }
+
+    private final long budgetBytes;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long bytes;
+
+    ChunkPayloadCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * The cached snapshot for this chunk state, or null on a miss. {@code wire}
+     * asks for the TCP form (wire-only); otherwise the full packet, which local
+     * channels hand over as an object. Counts the hit or miss.
+     */
+    ChunkDataS2C get(long chunkKey, int version, long revision, boolean wire) {
+        Entry entry = entries.get(chunkKey);
+        if (entry == null || entry.version != version || entry.revision != revision) {
+            if (entry != null) {
+                remove(chunkKey);
+            }
+            ChunkPipelineStats.PAYLOAD_CACHE_MISSES.increment();
+            return null;
+        }
+        ChunkPipelineStats.PAYLOAD_CACHE_HITS.increment();
+        if (wire) {
+            if (!entry.packet.isWireOnly()) {
+                toWireOnly(entry);
+            }
+            ChunkPipelineStats.PAYLOAD_BYTES_SAVED.add(entry.packet.wireBytes());
+            return entry.packet;
+        }
+        ChunkDataS2C local = entry.packet.fromWireBody();
+        ChunkPipelineStats.PAYLOAD_BYTES_SAVED.add(local.payload().length + local.metaPayload().length);
+        return local;
+    }
+
+    /** Caches a freshly encoded snapshot and returns the form to send ({@code wire} as in {@link #get}). */
+    ChunkDataS2C put(long chunkKey, int version, long revision, ChunkDataS2C packet, boolean wire) {
+        remove(chunkKey);
+        Entry entry = new Entry(version, revision, wire ? packet.wireOnly(WIRE_ID) : packet);
+        entries.put(chunkKey, entry);
+        bytes += entry.bytes;
+        trim();
+        return entry.packet;
+    }
+
+    /** Drops a chunk's entry; its next send re-encodes. */
+    void invalidate(long chunkKey) {
+        remove(chunkKey);
+    }
+
+    void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long sizeBytes() {
+        return bytes;
+    }
+
+    private void toWireOnly(Entry entry) {
+        entry.packet = entry.packet.wireOnly(WIRE_ID);
+        long retained = retainedBytes(entry.packet);
+        bytes += retained - entry.bytes;
+        entry.bytes = retained;
+        trim();
+    }
+
+    private void remove(long chunkKey) {
+        Entry old = entries.remove(chunkKey);
+        if (old != null) {
+            bytes -= old.bytes;
+        }
+    }
+
+    /** Evicts least-recently-used entries until under budget; the newest entry always stays. */
+    private void trim() {
+        Iterator<Map.Entry<Long, Entry>> it = entries.entrySet().iterator();
+        while (bytes > budgetBytes && entries.size() > 1 && it.hasNext()) {
+            bytes -= it.next().getValue().bytes;
+            it.remove();
+        }
+    }
+
+    private static long retainedBytes(ChunkDataS2C packet) {
+        if (packet.isWireOnly()) {
+            return packet.wireBytes() + 64L;
+        }
+        return packet.payload().length + packet.metaPayload().length + 64L;
+    }
+}
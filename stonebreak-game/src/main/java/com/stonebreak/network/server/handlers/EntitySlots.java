@@ -0,0 +1,167 @@
+package com.stonebreak.network.server.handlers;
+
+import com.openmason.engine.util.LongIntHashMap;
+import com.stonebreak.mobs.entities.Entity;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+
+/**
+ * Dense slot table of the entities {@link ServerEntityHandler} replicates. Each tracked
+ * entity owns a small int slot for as long as it lives; per-entity state sits in arrays
+ * indexed by that slot instead of {@code Map<Integer, ...>} entries, and per-player views
+ * ({@link PlayerEntityView}) index their own arrays by the same slot.
+ *
+ * <p>{@link #snapshot} copies every entity's position and yaw once per tick, so the
+ * per-player passes that follow read plain floats instead of allocating a
+ * {@code Vector3f} per (player, entity) pair.
+ *
+ * <p>A freed slot is reused by the next registration; the handler clears it from every
+ * player view before that can happen. Server tick thread only.
+ */
+final class EntitySlots {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final LongIntHashMap slotById = new LongIntHashMap(INITIAL_CAPACITY);
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private String[] animState = new String[INITIAL_CAPACITY];
+    private float[] x = new float[INITIAL_CAPACITY];
+    private float[] y = new float[INITIAL_CAPACITY];
+    private float[] z = new float[INITIAL_CAPACITY];
+    private float[] yaw = new float[INITIAL_CAPACITY];
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int highWater;
+    private int size;
+
+    /** Registers an entity (network id already assigned) and snapshots it; returns its slot. */
+    int add(Entity e) {
+        int id = e.getNetworkId();
+        int existing = slotOf(id);
+        if (existing >= 0) {
+            entities[existing] = e;
+            capture(existing);
+            return existing;
+        }
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (highWater == ids.length) {
+                grow(ids.length * 2);
+            }
+            slot = highWater++;
+        }
+        ids[slot] = id;
+        entities[slot] = e;
+        animState[slot] = null;
+        slotById.put(id, slot);
+        size++;
+        capture(slot);
+        return slot;
+    }
+
+    /** Frees a network id's slot; returns the slot it held, or -1 if it was not tracked. */
+    int remove(int networkId) {
+        int slot = slotOf(networkId);
+        if (slot < 0) {
+            return -1;
+        }
+        slotById.remove(networkId);
+        ids[slot] = 0;
+        entities[slot] = null;
+        animState[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        size--;
+        return slot;
+    }
+
+    void clear() {
+        slotById.clear();
+        Arrays.fill(ids, 0, highWater, 0);
+        Arrays.fill(entities, 0, highWater, null);
+        Arrays.fill(animState, 0, highWater, null);
+        freeCount = 0;
+        highWater = 0;
+        size = 0;
+    }
+
+    int slotOf(int networkId) {
+        return slotById.get(networkId, -1);
+    }
+
+    /** Exclusive upper bound of used slots; free slots below it report id 0. */
+    int highWater() {
+        return highWater;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** Network id in a slot, 0 when the slot is free (ids start at 1). */
+    int id(int slot) {
+        return ids[slot];
+    }
+
+    Entity entity(int slot) {
+        return entities[slot];
+    }
+
+    String animState(int slot) {
+        return animState[slot];
+    }
+
+    void setAnimState(int slot, String state) {
+        animState[slot] = state;
+    }
+
+    float x(int slot) {
+        return x[slot];
+    }
+
+    float y(int slot) {
+        return y[slot];
+    }
+
+    float z(int slot) {
+        return z[slot];
+    }
+
+    float yaw(int slot) {
+        return yaw[slot];
+    }
+
+    /** Copies every live entity's position and yaw for this tick. */
+    void snapshot() {
+        for (int slot = 0; slot < highWater; slot++) {
+            if (ids[slot] != 0) {
+                capture(slot);
+            }
+        }
+    }
+
+    private void capture(int slot) {
+        Entity e = entities[slot];
+        Vector3f p = e.getPosition();
+        x[slot] = p.x;
+        y[slot] = p.y;
+        z[slot] = p.z;
+        yaw[slot] = e.getRotation().y;
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        entities = Arrays.copyOf(entities, capacity);
+        animState = Arrays.copyOf(animState, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        yaw = Arrays.copyOf(yaw, capacity);
+    }
+}
@@ -0,0 +1,115 @@
+package com.stonebreak.network.server.handlers;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * One player's side of entity replication, indexed by {@link EntitySlots} slot: which
+ * entities the player's client holds a shadow for (its interest set), and for each the
+ * position/yaw base that client last received plus the ticks of the last move and
+ * last absolute resync sent to it.
+ *
+ * <p>The base is per player because players hear from an entity at different rates
+ * (distance tiers), so their delta chains diverge. It only advances when a packet was
+ * actually written: a droppable batch skipped under back-pressure leaves the base where
+ * the client still is, and the next batch carries the whole accumulated delta.
+ * Server tick thread only.
+ */
+final class PlayerEntityView {
+
+    private final BitSet known = new BitSet();
+    private float[] baseX = new float[0];
+    private float[] baseY = new float[0];
+    private float[] baseZ = new float[0];
+    private float[] baseYaw = new float[0];
+    private int[] lastSentTick = new int[0];
+    private int[] lastResyncTick = new int[0];
+
+    boolean knows(int slot) {
+        return known.get(slot);
+    }
+
+    /** Next known slot at or after {@code from}, or -1. */
+    int nextKnown(int from) {
+        return known.nextSetBit(from);
+    }
+
+    int knownCount() {
+        return known.cardinality();
+    }
+
+    /** The client was just sent a spawn (or teleport) at this base. */
+    void add(int slot, float x, float y, float z, float yaw, int tick) {
+        ensureCapacity(slot + 1);
+        known.set(slot);
+        rebase(slot, x, y, z, yaw, tick);
+        lastResyncTick[slot] = tick;
+    }
+
+    void forget(int slot) {
+        known.clear(slot);
+    }
+
+    void clear() {
+        known.clear();
+    }
+
+    /** Absolute reset: the client now shows exactly this state. */
+    void rebase(int slot, float x, float y, float z, float yaw, int tick) {
+        baseX[slot] = x;
+        baseY[slot] = y;
+        baseZ[slot] = z;
+        baseYaw[slot] = yaw;
+        lastSentTick[slot] = tick;
+    }
+
+    /** A delta was written: advance the base by what the client decodes. */
+    void advance(int slot, float dx, float dy, float dz, float yaw, int tick) {
+        baseX[slot] += dx;
+        baseY[slot] += dy;
+        baseZ[slot] += dz;
+        baseYaw[slot] = yaw;
+        lastSentTick[slot] = tick;
+    }
+
+    void markResynced(int slot, int tick) {
+        lastResyncTick[slot] = tick;
+    }
+
+    float baseX(int slot) {
+        return baseX[slot];
+    }
+
+    float baseY(int slot) {
+        return baseY[slot];
+    }
+
+    float baseZ(int slot) {
+        return baseZ[slot];
+    }
+
+    float baseYaw(int slot) {
+        return baseYaw[slot];
+    }
+
+    int lastSentTick(int slot) {
+        return lastSentTick[slot];
+    }
+
+    int lastResyncTick(int slot) {
+        return lastResyncTick[slot];
+    }
+
+    private void ensureCapacity(int slots) {
+        if (slots <= baseX.length) {
+            return;
+        }
+        int capacity = Math.max(64, Integer.highestOneBit(slots - 1) << 1);
+        baseX = Arrays.copyOf(baseX, capacity);
+        baseY = Arrays.copyOf(baseY, capacity);
+        baseZ = Arrays.copyOf(baseZ, capacity);
+        baseYaw = Arrays.copyOf(baseYaw, capacity);
+        lastSentTick = Arrays.copyOf(lastSentTick, capacity);
+        lastResyncTick = Arrays.copyOf(lastResyncTick, capacity);
+    }
+}
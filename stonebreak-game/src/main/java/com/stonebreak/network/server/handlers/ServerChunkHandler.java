@@ -2,7 +2,10 @@ package com.stonebreak.network.server.handlers;
 
 import com.openmason.engine.net.protocol.codec.VoxelChunkCodec;
 import com.openmason.engine.util.LongIntHashMap;
+import com.stonebreak.network.packet.world.ChunkCachedS2C;
 import com.stonebreak.network.packet.world.ChunkDataS2C;
+import com.stonebreak.network.packet.world.ChunkHashesC2S;
+import com.stonebreak.network.packet.world.ChunkSectionsS2C;
 import com.stonebreak.network.server.ServerPlayer;
 import com.stonebreak.network.server.ServerWorldContext;
 import com.stonebreak.world.World;
@@ -22,6 +25,11 @@ import com.stonebreak.world.chunk.api.voxel.ChunkDataAdapter;
  *
  * <p>Per-player "sent version" state lives on {@link ServerPlayer}, so it is cleaned up
  * automatically when a player disconnects.
+ *
+ * <p>A remote client that still holds a chunk in its disk cache offers the cached block hash
+ * ({@link #handleChunkCacheOffer}); when the scan reaches that chunk and the hash matches the
+ * server's 64-bit {@code ChunkHasher.cacheHash}, only a {@link ChunkCachedS2C} with the
+ * current metadata goes out.
  */
 public final class ServerChunkHandler {
 
@@ -55,21 +63,26 @@ public final class ServerChunkHandler {
      * forever; even the max view (r=24, 2401 chunks) drains in 3 ticks.
      */
     private static final int LOCAL_PUSH_PER_TICK = 1024;
+    /**
+     * Client-cache confirmations per player per tick. They cost a few bytes each, so they
+     * are not charged to the push budget; the cap bounds the full-scan cache hashing
+     * (~0.1 ms per chunk) a returning player's first scan triggers.
+     */
+    private static final int MAX_CACHE_CONFIRMS_PER_TICK = 64;
 
     /** Current version per chunk key; bumped on modification so clients re-receive it.
      *  Primitive-keyed: the view scan probes this per ring cell, and a boxed
      *  {@code Map<Long, Integer>} allocated a Long per probe. */
     private final LongIntHashMap chunkVersions = new LongIntHashMap();
 
+    /** Encoded snapshots shared by every viewer, keyed by chunk + version + data revision. */
+    private final ChunkPayloadCache payloadCache = new ChunkPayloadCache(ChunkPayloadCache.DEFAULT_BUDGET_BYTES);
+
     /** Set when any chunk version bumps; the next tick re-arms every player's view scan. */
     private boolean versionsDirty = false;
 
-    /** Lazily-computed content hash per chunk for the desync audit. Invalidated on ANY
-     *  server-side mutation (player edits via markChunkModified, sim edits via
-     *  {@link #invalidateHash}); recomputed only when a client audit asks. */
-    private final LongIntHashMap chunkHashes = new LongIntHashMap();
-    /** Sentinel for "no cached hash" — a real hash colliding with it merely recomputes. */
-    private static final int NO_HASH = Integer.MIN_VALUE;
+    /** Server-side section hashes for the chunk being audited; tick thread only. */
+    private final int[] auditSections = new int[com.stonebreak.network.bridge.ChunkHasher.SECTIONS];
 
     /** Server tick counter driving the sim-edit audit grace window. */
     private int tickCounter = 0;
@@ -104,20 +117,24 @@ public final class ServerChunkHandler {
         long key = packKey(cx, cz);
         chunkVersions.put(key, chunkVersions.get(key, 0) + 1);
         versionsDirty = true;
-        chunkHashes.remove(key);
+        payloadCache.invalidate(key);
     }
 
-    /** Drop a chunk's cached audit hash (server-side content changed without a version bump). */
+    /**
+     * Note a server-side content change without a version bump (simulation edits). Starts
+     * the chunk's audit grace window; the section hashes track the change on their own.
+     */
     public void invalidateHash(int cx, int cz) {
         long key = packKey(cx, cz);
-        chunkHashes.remove(key);
         lastSimEditTick.put(key, tickCounter);
+        // The data revision would reject the entry anyway; dropping it frees the bytes now.
+        payloadCache.invalidate(key);
     }
 
     public void onSessionStart() {
         chunkVersions.clear();
-        chunkHashes.clear();
         lastSimEditTick.clear();
+        payloadCache.clear();
         tickCounter = 0;
         versionsDirty = true;
     }
@@ -135,19 +152,32 @@ public final class ServerChunkHandler {
     }
 
     /**
-     * C2S: periodic client desync audit. Compares each reported hash against the server's
-     * cached (lazily recomputed) hash; a mismatch re-streams the chunk to that player.
-     * Steady-state cost is a map probe per entry; hashing happens only after invalidation.
+     * C2S: chunks the client can install from its disk cache. Only recorded here; the
+     * streaming scan checks the hash when it reaches the chunk, so an offer for a chunk
+     * that changes before then simply falls back to a full snapshot.
+     */
+    public void handleChunkCacheOffer(ServerPlayer sp, int[] coords, long[] hashes) {
+        for (int i = 0; i < hashes.length && i * 2 + 1 < coords.length; i++) {
+            sp.offerCachedChunk(packKey(coords[i * 2], coords[i * 2 + 1]), hashes[i]);
+        }
+    }
+
+    /**
+     * C2S: periodic client desync audit. Compares each reported section hash against the
+     * server's and sends the player just the sections that differ, plus the chunk metadata.
+     * Section hashes are maintained on every block write, so the steady-state cost is 16
+     * reads per audited chunk. While the connection is backed up, a mismatching chunk is
+     * instead forgotten and re-streams in full through the paced view scan.
      */
     public void handleChunkHashes(ServerPlayer sp, int[] entries, ServerWorldContext ctx) {
         World world = ctx.world();
         if (world == null) {
             return;
         }
-        for (int i = 0; i + 2 < entries.length; i += 3) {
+        int stride = ChunkHashesC2S.STRIDE;
+        for (int i = 0; i + stride <= entries.length; i += stride) {
             int cx = entries[i];
             int cz = entries[i + 1];
-            int clientHash = entries[i + 2];
             Chunk chunk = world.getChunkIfLoaded(cx, cz);
             if (chunk == null || !chunk.areFeaturesPopulated()) {
                 continue; // not resident server-side — nothing to compare against
@@ -159,17 +189,26 @@ public final class ServerChunkHandler {
             if (tickCounter - lastSimEditTick.get(key, NEVER_TICK) < SIM_EDIT_AUDIT_GRACE_TICKS) {
                 continue;
             }
-            int serverHash = chunkHashes.get(key, NO_HASH);
-            if (serverHash == NO_HASH) {
-                serverHash = com.stonebreak.network.bridge.ChunkHasher.hash(chunk);
-                chunkHashes.put(key, serverHash);
+            com.stonebreak.network.bridge.ChunkHasher.sectionHashes(chunk, auditSections, 0);
+            int mask = 0;
+            for (int sy = 0; sy < auditSections.length; sy++) {
+                if (auditSections[sy] != entries[i + 2 + sy]) {
+                    mask |= 1 << sy;
+                }
+            }
+            if (mask == 0) {
+                continue;
             }
-            if (serverHash != clientHash) {
-                System.out.println("[SERVER-CHUNK] Audit mismatch at (" + cx + "," + cz
-                    + ") for player " + sp.playerId() + " — re-streaming.");
+            System.out.println("[SERVER-CHUNK] Audit mismatch at (" + cx + "," + cz + ") for player "
+                + sp.playerId() + " — repairing " + Integer.bitCount(mask) + " section(s).");
+            if (!sp.connection().isWritable()) {
                 sp.forgetChunk(key);
                 sp.markViewScanPending();
+                continue;
             }
+            byte[] sections = VoxelChunkCodec.encodeSections(new ChunkDataAdapter(chunk), mask);
+            sp.send(new ChunkSectionsS2C(cx, cz, mask, sections, encodeChunkMeta(world, chunk, cx, cz)), false);
+            com.stonebreak.world.chunk.utils.ChunkPipelineStats.SECTIONS_REPAIRED.add(Integer.bitCount(mask));
         }
     }
 
@@ -236,6 +275,7 @@ public final class ServerChunkHandler {
             // keeps the scan armed for next tick.
             boolean viewComplete = true;
             int budget = sp.isLocal() ? LOCAL_PUSH_PER_TICK : MAX_PUSH_PER_TICK;
+            int confirmBudget = MAX_CACHE_CONFIRMS_PER_TICK;
             outer:
             for (int r = 0; r <= viewDistance; r++) {
                 for (int dz = -r; dz <= r; dz++) {
@@ -270,11 +310,43 @@ public final class ServerChunkHandler {
                             viewComplete = false;
                             break outer;
                         }
-                        byte[] payload = VoxelChunkCodec.encode(new ChunkDataAdapter(chunk));
-                        byte[] metaPayload = encodeChunkMeta(world, chunk, cx + dx, cz + dz);
-                        sp.send(new ChunkDataS2C(cx + dx, cz + dz, payload, metaPayload), false);
+                        // The client holds this exact block state on disk: confirm it and
+                        // ship only the metadata. A stale offer is consumed either way.
+                        long sendStart = System.nanoTime();
+                        com.stonebreak.world.chunk.utils.ChunkLatency.requested(cx + dx, cz + dz);
+                        Long offered = sp.takeCacheOffer(key);
+                        if (offered != null) {
+                            if (--confirmBudget < 0) {
+                                sp.offerCachedChunk(key, offered); // keep it for next tick
+                                viewComplete = false;
+                                break outer;
+                            }
+                            if (offered == com.stonebreak.network.bridge.ChunkHasher.cacheHash(chunk)) {
+                                sp.send(new ChunkCachedS2C(cx + dx, cz + dz, offered,
+                                    encodeChunkMeta(world, chunk, cx + dx, cz + dz)), false);
+                                sp.markChunkSent(key, version);
+                                com.stonebreak.world.chunk.utils.ChunkPipelineStats.CACHE_CONFIRMED.increment();
+                                com.stonebreak.world.chunk.utils.ChunkLatency.record(
+                                    com.stonebreak.world.chunk.utils.ChunkLatency.Stage.STREAM, cx + dx, cz + dz, sendStart);
+                                continue;
+                            }
+                        }
+                        // One encode per chunk state, shared by every viewer; remote
+                        // sends reuse the cached wire form, compressed once, without copying it.
+                        boolean wire = !sp.isLocal();
+                        long revision = chunk.getDataRevision();
+                        ChunkDataS2C packet = payloadCache.get(key, version, revision, wire);
+                        if (packet == null) {
+                            byte[] payload = VoxelChunkCodec.encode(new ChunkDataAdapter(chunk));
+                            byte[] metaPayload = encodeChunkMeta(world, chunk, cx + dx, cz + dz);
+                            packet = payloadCache.put(key, version, revision,
+                                new ChunkDataS2C(cx + dx, cz + dz, payload, metaPayload), wire);
+                        }
+                        sp.send(packet, false);
                         sp.markChunkSent(key, version);
                         com.stonebreak.world.chunk.utils.ChunkPipelineStats.STREAMED.increment();
+                        com.stonebreak.world.chunk.utils.ChunkLatency.record(
+                            com.stonebreak.world.chunk.utils.ChunkLatency.Stage.STREAM, cx + dx, cz + dz, sendStart);
                         if (--budget <= 0) {
                             viewComplete = false; // runaway guard — outer rings unverified
                             break outer;
@@ -10,7 +10,7 @@ import com.stonebreak.mobs.sbe.EntityAnimResolver;
 import com.stonebreak.network.packet.entity.EntityAnimS2C;
 import com.stonebreak.network.packet.entity.EntityDamageC2S;
 import com.stonebreak.network.packet.entity.EntityDespawnS2C;
-import com.stonebreak.network.packet.entity.EntityMoveS2C;
+import com.stonebreak.network.packet.entity.EntityMovesS2C;
 import com.stonebreak.network.packet.entity.EntitySpawnS2C;
 import com.stonebreak.network.packet.entity.EntityTeleportS2C;
 import com.stonebreak.network.server.ServerPlayer;
@@ -18,8 +18,8 @@ import com.stonebreak.network.server.ServerWorldContext;
 import com.openmason.engine.net.protocol.Packet;
 import org.joml.Vector3f;
 
+import java.util.Arrays;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -27,8 +27,8 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Replicates non-player entities (cows, chickens, drops) to clients — the authoritative
  * successor of the old {@code EntitySynchronizer} HOST path. Assigns network ids,
  * replicates spawn/despawn (driven by the EntityManager listener wired in the lifecycle
- * phase), and emits compact {@link EntityMoveS2C} deltas (or {@link EntityTeleportS2C} on
- * big jumps / periodic resync) each server tick for entities that moved.
+ * phase), and emits compact movement deltas (or {@link EntityTeleportS2C} on big jumps /
+ * periodic resync) for entities that moved.
  *
  * <p><b>Per-player interest:</b> each player only receives entities within their own view
  * distance (Chebyshev chunk radius — the same shape chunk streaming uses). An entity gets
@@ -38,6 +38,17 @@ import java.util.concurrent.atomic.AtomicInteger;
  * what makes entities "despawn" for far-away players and appear per-player instead of
  * being globally revealed to whoever was online when they spawned.
  *
+ * <p><b>Update tiers:</b> how often a player hears about an entity depends on how far it
+ * is from them ({@link #updateIntervalTicks}): every tick up close, every 8th tick at the
+ * edge of view. Projectiles are always top priority. Every move due for one player in one
+ * tick goes out as a single {@link EntityMovesS2C}, and each entry tells the client's
+ * interpolator how long to stretch it over. Since players hear from the same entity at
+ * different rates, the delta base is per player ({@link PlayerEntityView}).
+ *
+ * <p>Per-entity and per-player bookkeeping lives in slot-indexed arrays
+ * ({@link EntitySlots}, {@link PlayerEntityView}); all of it is touched on the server tick
+ * thread only.
+ *
  * <p>The client-side shadow creation + interpolation lives in the client world view, not
  * here.
  */
@@ -45,8 +56,14 @@ public final class ServerEntityHandler {
 
     private static final float MIN_BROADCAST_DELTA = 0.005f;
     private static final float MIN_BROADCAST_YAW_DEG = 0.5f;
-    /** Force an absolute teleport every N ticks per entity to bound drift from lost deltas. */
-    private static final int RESYNC_PERIOD_TICKS = 40; // 40 * 50ms = 2 s
+    /** Force an absolute teleport every N updates per (player, entity) to bound drift. At the
+     *  near tier that is 40 * 50ms = 2 s; farther tiers stretch it by their interval. */
+    private static final int RESYNC_PERIOD_TICKS = 40;
+
+    /** Tier radii in blocks (3D, from the player). Package-private for the tier tests. */
+    static final float NEAR_TIER_BLOCKS = 24f;
+    static final float MID_TIER_BLOCKS = 48f;
+    static final float FAR_TIER_BLOCKS = 96f;
 
     /** Interest exit hysteresis: leave at view+2 chunks (mirrors the chunk-forget radius),
      *  enter at the view distance itself. Package-private for the interest tests. */
@@ -57,23 +74,33 @@ public final class ServerEntityHandler {
     /** Upper bound on a single client-reported hit, to contain buggy/hostile clients. */
     private static final float MAX_DAMAGE_AMOUNT = 100f;
 
+    private final int tickMillis;
     private final AtomicInteger nextNetworkId = new AtomicInteger(1);
     private final Map<Integer, Entity> byNetworkId = new ConcurrentHashMap<>();
-    private final Map<Integer, float[]> lastBroadcast = new ConcurrentHashMap<>();
-    private final Map<Integer, Integer> ticksSinceResync = new ConcurrentHashMap<>();
-    /** Last SBE animation-state name broadcast per entity, so we only resend on change. */
-    private final Map<Integer, String> lastAnimState = new ConcurrentHashMap<>();
-    /** playerId → network ids this player has been sent a spawn for (their interest set). */
-    private final Map<Integer, Set<Integer>> interestByPlayer = new ConcurrentHashMap<>();
+    private final EntitySlots slots = new EntitySlots();
+    /** playerId → that player's interest set and delta bases. */
+    private final Map<Integer, PlayerEntityView> views = new ConcurrentHashMap<>();
+    private int tick;
+
+    // Per-player move batch, reused across players and ticks (copied into each packet).
+    private int batchCount;
+    private int[] batchSlots = new int[64];
+    private int[] batchIds = new int[64];
+    private short[] batchDeltas = new short[256];
+    private byte[] batchIntervals = new byte[64];
+
+    /** @param tickRate server ticks per second; clients scale tier interpolation by it */
+    public ServerEntityHandler(int tickRate) {
+        this.tickMillis = Math.max(1, Math.round(1000f / tickRate));
+    }
 
     /** Reset, then snapshot existing entities so they're tracked + replicable. */
     public void onSessionStart(ServerWorldContext ctx) {
         nextNetworkId.set(1);
         byNetworkId.clear();
-        lastBroadcast.clear();
-        ticksSinceResync.clear();
-        lastAnimState.clear();
-        interestByPlayer.clear();
+        slots.clear();
+        views.clear();
+        tick = 0;
         EntityManager em = ctx.entityManager();
         if (em != null) {
             for (Entity e : em.getAllEntities()) {
@@ -86,10 +113,8 @@ public final class ServerEntityHandler {
 
     public void onSessionEnd() {
         byNetworkId.clear();
-        lastBroadcast.clear();
-        ticksSinceResync.clear();
-        lastAnimState.clear();
-        interestByPlayer.clear();
+        slots.clear();
+        views.clear();
     }
 
     /** EntityManager listener hook: a new entity was added to the authoritative world. */
@@ -97,19 +122,18 @@ public final class ServerEntityHandler {
         if (!isReplicable(e)) {
             return;
         }
-        registerHostEntity(e);
+        int slot = registerHostEntity(e);
         int sentTo = 0;
         for (ServerPlayer sp : ctx.players()) {
-            if (offerToPlayer(sp, e, ctx)) {
+            if (offerToPlayer(sp, slot, ctx)) {
                 sentTo++;
             }
         }
         // Drops are rare enough to trace individually — this line is the server half of the
         // drop-replication diagnosis (pairs with the client's "Drop shadow" line).
         if (e.getType() == EntityType.BLOCK_DROP || e.getType() == EntityType.ITEM_DROP) {
-            Vector3f dp = e.getPosition();
             System.out.printf("[SERVER-ENTITY] %s spawn netId=%d at (%.1f, %.1f, %.1f) sent to %d interested player(s)%n",
-                e.getType(), e.getNetworkId(), dp.x, dp.y, dp.z, sentTo);
+                e.getType(), e.getNetworkId(), slots.x(slot), slots.y(slot), slots.z(slot), sentTo);
         }
     }
 
@@ -120,11 +144,12 @@ public final class ServerEntityHandler {
             return;
         }
         byNetworkId.remove(id);
-        lastBroadcast.remove(id);
-        ticksSinceResync.remove(id);
-        lastAnimState.remove(id);
-        for (Set<Integer> known : interestByPlayer.values()) {
-            known.remove(id);
+        int slot = slots.remove(id);
+        if (slot >= 0) {
+            // Before the slot can be reused by the next registration.
+            for (PlayerEntityView view : views.values()) {
+                view.forget(slot);
+            }
         }
         // Broadcast (not interest-scoped): a stray despawn for an unknown id is a no-op on
         // the client, and this guarantees no ghost can survive an interest bookkeeping slip.
@@ -136,7 +161,7 @@ public final class ServerEntityHandler {
      * send what's already in range.
      */
     public void onPeerJoined(ServerPlayer sp, ServerWorldContext ctx) {
-        interestByPlayer.put(sp.playerId(), ConcurrentHashMap.newKeySet());
+        views.put(sp.playerId(), new PlayerEntityView());
         updatePlayerInterest(sp, ctx);
     }
 
@@ -147,17 +172,20 @@ public final class ServerEntityHandler {
      * range. Deliberately does NOT reset the interest set: wiping it would orphan entities
      * sitting in the enter/exit hysteresis band — no longer "known", so never despawned,
      * yet outside the enter radius, so never re-spawned — a frozen ghost on the client.
+     *
+     * <p>The re-sent spawn carries this player's delta base, not the live position, so a
+     * client that already had the shadow and one that just got it agree on the base the
+     * next move is relative to.
      */
     public void onPeerResync(ServerPlayer sp, ServerWorldContext ctx) {
-        Set<Integer> known = knownSetFor(sp);
-        for (Integer id : known) {
-            Entity e = byNetworkId.get(id);
-            if (e != null) {
-                sendSpawnTo(sp, e);
-            } else {
-                // Bookkeeping slip (entity gone but still in the set) — despawn + forget.
-                known.remove(id);
-                sp.send(new EntityDespawnS2C(id), false);
+        PlayerEntityView view = viewFor(sp);
+        for (int slot = view.nextKnown(0); slot >= 0; slot = view.nextKnown(slot + 1)) {
+            Entity e = slots.entity(slot);
+            sp.send(spawnPacketFor(e, view.baseX(slot), view.baseY(slot), view.baseZ(slot),
+                view.baseYaw(slot)), false);
+            EntityAnimS2C anim = animPacketFor(e);
+            if (anim != null) {
+                sp.send(anim, false);
             }
         }
         updatePlayerInterest(sp, ctx);
@@ -165,73 +193,156 @@ public final class ServerEntityHandler {
 
     /** Drop a disconnected player's interest bookkeeping. */
     public void onPeerLeft(ServerPlayer sp) {
-        interestByPlayer.remove(sp.playerId());
+        views.remove(sp.playerId());
     }
 
     public void tick(ServerWorldContext ctx) {
+        tick++;
+        slots.snapshot();
         // Interest pass first: entities entering a player's view get their spawn before any
         // move packet this tick could reference them.
         for (ServerPlayer sp : ctx.players()) {
             updatePlayerInterest(sp, ctx);
         }
-        for (Entity e : byNetworkId.values()) {
+        // Replicate animation/behavior state on change (independent of movement — a mob can
+        // change state while stationary, e.g. Idle -> Grazing).
+        for (int slot = 0; slot < slots.highWater(); slot++) {
+            if (slots.id(slot) != 0 && slots.entity(slot).isAlive()) {
+                broadcastAnimIfChanged(slot, ctx);
+            }
+        }
+        for (ServerPlayer sp : ctx.players()) {
+            PlayerEntityView view = views.get(sp.playerId());
+            if (view != null && sp.handshakeDone()) {
+                replicateMoves(sp, view, ctx);
+            }
+        }
+    }
+
+    /**
+     * One player's movement pass: every known entity whose tier interval has elapsed and
+     * that moved (or is due a resync) is queued into this player's batch; big jumps and
+     * resyncs go out as teleports. The batch is flushed as {@link EntityMovesS2C}.
+     */
+    private void replicateMoves(ServerPlayer sp, PlayerEntityView view, ServerWorldContext ctx) {
+        float px = anchorX(sp, ctx);
+        float py = anchorY(sp, ctx);
+        float pz = anchorZ(sp, ctx);
+        batchCount = 0;
+        for (int slot = view.nextKnown(0); slot >= 0; slot = view.nextKnown(slot + 1)) {
+            Entity e = slots.entity(slot);
             if (!e.isAlive()) {
                 continue;
             }
-            // Replicate animation/behavior state on change (independent of movement — a mob can
-            // change state while stationary, e.g. Idle -> Grazing).
-            broadcastAnimIfChanged(e, ctx);
-
-            int id = e.getNetworkId();
-            float[] last = lastBroadcast.get(id);
-            if (last == null) {
+            float x = slots.x(slot);
+            float y = slots.y(slot);
+            float z = slots.z(slot);
+            float ox = x - px;
+            float oy = y - py;
+            float oz = z - pz;
+            int interval = updateIntervalTicks(e.getType(), ox * ox + oy * oy + oz * oz);
+            if (tick - view.lastSentTick(slot) < interval) {
                 continue;
             }
-            Vector3f p = e.getPosition();
-            float yaw = e.getRotation().y;
-
-            float dx = p.x - last[0];
-            float dy = p.y - last[1];
-            float dz = p.z - last[2];
-            float dyaw = Math.abs(yaw - last[3]);
-
-            int sinceResync = ticksSinceResync.getOrDefault(id, 0) + 1;
+            float yaw = slots.yaw(slot);
+            float dx = x - view.baseX(slot);
+            float dy = y - view.baseY(slot);
+            float dz = z - view.baseZ(slot);
             boolean posMoved = Math.abs(dx) >= MIN_BROADCAST_DELTA
                 || Math.abs(dy) >= MIN_BROADCAST_DELTA
                 || Math.abs(dz) >= MIN_BROADCAST_DELTA;
-            boolean rotMoved = dyaw >= MIN_BROADCAST_YAW_DEG;
-            boolean forceResync = sinceResync >= RESYNC_PERIOD_TICKS;
-
+            boolean rotMoved = Math.abs(yaw - view.baseYaw(slot)) >= MIN_BROADCAST_YAW_DEG;
+            boolean forceResync = tick - view.lastResyncTick(slot) >= RESYNC_PERIOD_TICKS * interval;
             if (!posMoved && !rotMoved && !forceResync) {
-                ticksSinceResync.put(id, sinceResync);
                 continue;
             }
-
             if (!forceResync && EntityDeltaCodec.fitsInDelta(dx, dy, dz)) {
-                short edx = EntityDeltaCodec.encodePosDelta(dx);
-                short edy = EntityDeltaCodec.encodePosDelta(dy);
-                short edz = EntityDeltaCodec.encodePosDelta(dz);
-                short eyaw = EntityDeltaCodec.encodeYawDeg(yaw);
-                sendToInterested(ctx, id, new EntityMoveS2C(id, edx, edy, edz, eyaw), true);
-                // Track exactly what we sent (decoded back) so deltas don't accumulate drift.
-                last[0] += EntityDeltaCodec.decodePosDelta(edx);
-                last[1] += EntityDeltaCodec.decodePosDelta(edy);
-                last[2] += EntityDeltaCodec.decodePosDelta(edz);
-                last[3] = EntityDeltaCodec.decodeYawDeg(eyaw);
-                ticksSinceResync.put(id, sinceResync);
-            } else {
-                sendToInterested(ctx, id, new EntityTeleportS2C(id, p.x, p.y, p.z, yaw), false);
-                last[0] = p.x; last[1] = p.y; last[2] = p.z; last[3] = yaw;
-                ticksSinceResync.put(id, 0);
+                queueMove(sp, view, slot, dx, dy, dz, yaw, interval);
+                continue;
+            }
+            if (sp.send(new EntityTeleportS2C(slots.id(slot), x, y, z, yaw), false)) {
+                view.rebase(slot, x, y, z, yaw, tick);
+                view.markResynced(slot, tick);
                 // The periodic resync also refreshes animation state, self-healing any spawn-race
                 // miss (e.g. an anim packet that arrived before the client world was ready).
                 EntityAnimS2C anim = animPacketFor(e);
                 if (anim != null) {
-                    lastAnimState.put(id, anim.state());
-                    sendToInterested(ctx, id, anim, false);
+                    sp.send(anim, false);
                 }
             }
         }
+        flushMoves(sp, view);
+    }
+
+    private void queueMove(ServerPlayer sp, PlayerEntityView view, int slot,
+                           float dx, float dy, float dz, float yaw, int interval) {
+        if (batchCount == EntityMovesS2C.MAX_ENTRIES) {
+            flushMoves(sp, view);
+        }
+        if (batchCount == batchIds.length) {
+            int capacity = batchCount * 2;
+            batchSlots = Arrays.copyOf(batchSlots, capacity);
+            batchIds = Arrays.copyOf(batchIds, capacity);
+            batchDeltas = Arrays.copyOf(batchDeltas, capacity * 4);
+            batchIntervals = Arrays.copyOf(batchIntervals, capacity);
+        }
+        int i = batchCount++;
+        batchSlots[i] = slot;
+        batchIds[i] = slots.id(slot);
+        batchDeltas[4 * i] = EntityDeltaCodec.encodePosDelta(dx);
+        batchDeltas[4 * i + 1] = EntityDeltaCodec.encodePosDelta(dy);
+        batchDeltas[4 * i + 2] = EntityDeltaCodec.encodePosDelta(dz);
+        batchDeltas[4 * i + 3] = EntityDeltaCodec.encodeYawDeg(yaw);
+        batchIntervals[i] = (byte) interval;
+    }
+
+    /**
+     * Send the queued moves as one droppable packet. Bases advance only when it was
+     * written — exactly by what the client decodes, so quantization never accumulates. A
+     * dropped batch leaves them (and the entries' last-sent ticks) untouched, so the same
+     * entities are due again next tick with the full accumulated delta.
+     */
+    private void flushMoves(ServerPlayer sp, PlayerEntityView view) {
+        int n = batchCount;
+        if (n == 0) {
+            return;
+        }
+        batchCount = 0;
+        EntityMovesS2C packet = new EntityMovesS2C(tickMillis,
+            Arrays.copyOf(batchIds, n), Arrays.copyOf(batchDeltas, 4 * n), Arrays.copyOf(batchIntervals, n));
+        if (!sp.send(packet, true)) {
+            return;
+        }
+        for (int i = 0; i < n; i++) {
+            view.advance(batchSlots[i],
+                EntityDeltaCodec.decodePosDelta(batchDeltas[4 * i]),
+                EntityDeltaCodec.decodePosDelta(batchDeltas[4 * i + 1]),
+                EntityDeltaCodec.decodePosDelta(batchDeltas[4 * i + 2]),
+                EntityDeltaCodec.decodeYawDeg(batchDeltas[4 * i + 3]),
+                tick);
+        }
+    }
+
+    /**
+     * Ticks between updates of an entity for a player at squared distance {@code distSq}:
+     * 1 within {@link #NEAR_TIER_BLOCKS}, then 2, 4, and 8 beyond {@link #FAR_TIER_BLOCKS}.
+     * Projectiles are fast and short-lived — a 400 ms gap would overflow the delta range
+     * and show as a teleporting arrow — so they stay at every tick at any distance.
+     */
+    static int updateIntervalTicks(EntityType type, float distSq) {
+        if (type == EntityType.ARROW || type == EntityType.FIRE_BOLT || type == EntityType.NULL_SPIKE) {
+            return 1;
+        }
+        if (distSq <= NEAR_TIER_BLOCKS * NEAR_TIER_BLOCKS) {
+            return 1;
+        }
+        if (distSq <= MID_TIER_BLOCKS * MID_TIER_BLOCKS) {
+            return 2;
+        }
+        if (distSq <= FAR_TIER_BLOCKS * FAR_TIER_BLOCKS) {
+            return 4;
+        }
+        return 8;
     }
 
     /**
@@ -391,6 +502,7 @@ public final class ServerEntityHandler {
         };
     }
 
+
     // ─── Per-player interest ────────────────────────────────────────────────────
 
     /**
@@ -403,47 +515,53 @@ public final class ServerEntityHandler {
         }
         float px = anchorX(sp, ctx);
         float pz = anchorZ(sp, ctx);
-        Set<Integer> known = knownSetFor(sp);
+        PlayerEntityView view = viewFor(sp);
         int enterRadius = sp.viewDistanceChunks();
         int exitRadius = enterRadius + INTEREST_EXIT_MARGIN_CHUNKS;
-        for (Entity e : byNetworkId.values()) {
-            int id = e.getNetworkId();
-            float[] base = lastBroadcast.get(id);
-            float ex = base != null ? base[0] : e.getPosition().x;
-            float ez = base != null ? base[2] : e.getPosition().z;
-            if (known.contains(id)) {
+        for (int slot = 0; slot < slots.highWater(); slot++) {
+            int id = slots.id(slot);
+            if (id == 0) {
+                continue;
+            }
+            float ex = slots.x(slot);
+            float ez = slots.z(slot);
+            if (view.knows(slot)) {
                 if (!withinChunkRadius(ex, ez, px, pz, exitRadius)) {
-                    known.remove(id);
+                    view.forget(slot);
                     sp.send(new EntityDespawnS2C(id), false);
                 }
             } else if (withinChunkRadius(ex, ez, px, pz, enterRadius)) {
-                known.add(id);
-                sendSpawnTo(sp, e);
+                sendSpawnTo(sp, view, slot);
             }
         }
     }
 
     /** Offer one entity to one player (spawn hook path); true if a spawn was sent. */
-    private boolean offerToPlayer(ServerPlayer sp, Entity e, ServerWorldContext ctx) {
+    private boolean offerToPlayer(ServerPlayer sp, int slot, ServerWorldContext ctx) {
         if (!sp.handshakeDone()) {
             return false;
         }
-        Set<Integer> known = knownSetFor(sp);
-        int id = e.getNetworkId();
-        if (known.contains(id)) {
+        PlayerEntityView view = viewFor(sp);
+        if (view.knows(slot)) {
             return false;
         }
-        Vector3f p = e.getPosition();
-        if (!withinChunkRadius(p.x, p.z, anchorX(sp, ctx), anchorZ(sp, ctx), sp.viewDistanceChunks())) {
+        if (!withinChunkRadius(slots.x(slot), slots.z(slot), anchorX(sp, ctx), anchorZ(sp, ctx),
+                sp.viewDistanceChunks())) {
             return false;
         }
-        known.add(id);
-        sendSpawnTo(sp, e);
+        sendSpawnTo(sp, view, slot);
         return true;
     }
 
-    private void sendSpawnTo(ServerPlayer sp, Entity e) {
-        sp.send(spawnPacketFor(e), false);
+    /** Spawn at this tick's snapshot, which becomes the player's delta base for the entity. */
+    private void sendSpawnTo(ServerPlayer sp, PlayerEntityView view, int slot) {
+        Entity e = slots.entity(slot);
+        float x = slots.x(slot);
+        float y = slots.y(slot);
+        float z = slots.z(slot);
+        float yaw = slots.yaw(slot);
+        view.add(slot, x, y, z, yaw, tick);
+        sp.send(spawnPacketFor(e, x, y, z, yaw), false);
         // Current animation state so the shadow starts in the right clip, not the default.
         EntityAnimS2C anim = animPacketFor(e);
         if (anim != null) {
@@ -451,17 +569,17 @@ public final class ServerEntityHandler {
         }
     }
 
-    private void sendToInterested(ServerWorldContext ctx, int networkId, Packet packet, boolean droppable) {
+    private void sendToInterested(ServerWorldContext ctx, int slot, Packet packet, boolean droppable) {
         for (ServerPlayer sp : ctx.players()) {
-            Set<Integer> known = interestByPlayer.get(sp.playerId());
-            if (known != null && known.contains(networkId)) {
+            PlayerEntityView view = views.get(sp.playerId());
+            if (view != null && view.knows(slot)) {
                 sp.send(packet, droppable);
             }
         }
     }
 
-    private Set<Integer> knownSetFor(ServerPlayer sp) {
-        return interestByPlayer.computeIfAbsent(sp.playerId(), ignored -> ConcurrentHashMap.newKeySet());
+    private PlayerEntityView viewFor(ServerPlayer sp) {
+        return views.computeIfAbsent(sp.playerId(), ignored -> new PlayerEntityView());
     }
 
     /** Interest anchor: the player's last reported position, or the world spawn until the
@@ -470,6 +588,10 @@ public final class ServerEntityHandler {
         return sp.lastStateNs() != 0L ? sp.x() : ctx.spawn().x;
     }
 
+    private static float anchorY(ServerPlayer sp, ServerWorldContext ctx) {
+        return sp.lastStateNs() != 0L ? sp.y() : ctx.spawn().y;
+    }
+
     private static float anchorZ(ServerPlayer sp, ServerWorldContext ctx) {
         return sp.lastStateNs() != 0L ? sp.z() : ctx.spawn().z;
     }
@@ -486,14 +608,12 @@ public final class ServerEntityHandler {
 
     // ─── Helpers ───────────────────────────────────────────────────────────────
 
-    private void registerHostEntity(Entity e) {
+    private int registerHostEntity(Entity e) {
         if (e.getNetworkId() < 0) {
             e.setNetworkId(nextNetworkId.getAndIncrement());
         }
         byNetworkId.put(e.getNetworkId(), e);
-        Vector3f p = e.getPosition();
-        lastBroadcast.put(e.getNetworkId(), new float[]{p.x, p.y, p.z, e.getRotation().y});
-        ticksSinceResync.put(e.getNetworkId(), 0);
+        return slots.add(e);
     }
 
     private static boolean isReplicable(Entity e) {
@@ -503,15 +623,14 @@ public final class ServerEntityHandler {
     }
 
     /** Send an {@link EntityAnimS2C} to interested players when an entity's SBE state changed. */
-    private void broadcastAnimIfChanged(Entity e, ServerWorldContext ctx) {
-        String state = EntityAnimResolver.sbeState(e);
+    private void broadcastAnimIfChanged(int slot, ServerWorldContext ctx) {
+        String state = EntityAnimResolver.sbeState(slots.entity(slot));
         if (state == null) {
             return; // not an AI-animated mob (drops/projectiles)
         }
-        int id = e.getNetworkId();
-        if (!state.equals(lastAnimState.get(id))) {
-            lastAnimState.put(id, state);
-            sendToInterested(ctx, id, new EntityAnimS2C(id, state), false);
+        if (!state.equals(slots.animState(slot))) {
+            slots.setAnimState(slot, state);
+            sendToInterested(ctx, slot, new EntityAnimS2C(slots.id(slot), state), false);
         }
     }
 
@@ -521,18 +640,7 @@ public final class ServerEntityHandler {
         return state != null ? new EntityAnimS2C(e.getNetworkId(), state) : null;
     }
 
-    private EntitySpawnS2C spawnPacketFor(Entity e) {
-        // Seed the client at the entity's last-broadcast base (not its live position): the
-        // move deltas this handler emits are computed against that base, so a late-interest
-        // spawn keeps the receiver's delta chain consistent with everyone else's.
-        float[] last = lastBroadcast.get(e.getNetworkId());
-        float x, y, z, yaw;
-        if (last != null) {
-            x = last[0]; y = last[1]; z = last[2]; yaw = last[3];
-        } else {
-            Vector3f p = e.getPosition();
-            x = p.x; y = p.y; z = p.z; yaw = e.getRotation().y;
-        }
+    private static EntitySpawnS2C spawnPacketFor(Entity e, float x, float y, float z, float yaw) {
         return new EntitySpawnS2C(
             e.getNetworkId(), e.getType().ordinal(),
             x, y, z, yaw,
@@ -2,6 +2,7 @@ package com.stonebreak.player.physics;
 
 import com.stonebreak.blocks.BlockType;
 import com.stonebreak.player.state.PhysicsState;
+import com.stonebreak.world.VoxelCollider;
 import com.stonebreak.world.World;
 import org.joml.Vector3f;
 
@@ -13,10 +14,16 @@ import static com.stonebreak.player.PlayerConstants.PLAYER_WIDTH;
  * full-height blocks. Each axis is resolved independently after its delta is added
  * to position; velocity is zeroed on hit to prevent sticking. Snow blocks report a
  * layered collision height via {@link World#getSnowHeight(int, int, int)}.
+ *
+ * <p>Candidate cells come from {@link VoxelCollider}: only cells the section
+ * collision masks mark are visited, full cubes count as height 1 without a
+ * block lookup, and shaped cells go through {@link #getBlockCollisionHeight}.
  */
 public class CollisionHandler {
 
     private final PhysicsState state;
+    /** Solid and shaped cells near the player, read from the section collision masks. */
+    private final VoxelCollider collider = new VoxelCollider();
     private World world;
 
     public CollisionHandler(PhysicsState state, World world) {
@@ -28,7 +35,13 @@ public class CollisionHandler {
         this.world = world;
     }
 
-    public void resolveX() {
+    /**
+     * Resolves the X axis after the body moved {@code moved} along it. Every
+     * column the leading edge crossed is tested, not only the one it ended in,
+     * so a long step (a frame hitch, a knockback) cannot carry the body
+     * through a wall.
+     */
+    public void resolveX(float moved) {
         Vector3f position = state.getPosition();
         Vector3f velocity = state.getVelocity();
         float halfWidth = PLAYER_WIDTH / 2;
@@ -41,59 +54,44 @@ public class CollisionHandler {
         float checkMinZ = position.z - halfWidth;
         float checkMaxZ = position.z + halfWidth;
 
-        for (int yi = (int) Math.floor(playerFootY); yi < (int) Math.ceil(playerHeadY); yi++) {
-            for (int zi = (int) Math.floor(checkMinZ); zi < (int) Math.ceil(checkMaxZ); zi++) {
-                if (velocity.x < 0) {
-                    float playerLeftEdge = position.x - halfWidth;
-                    int blockToCheckX = (int) Math.floor(playerLeftEdge);
-                    // Sample at the leading edge: on a shaped block that is the
-                    // deepest the body reaches, so it meets one tread at a time.
-                    float blockHeight = getBlockCollisionHeight(blockToCheckX, yi, zi,
-                            playerLeftEdge, checkMinZ, playerLeftEdge, checkMaxZ);
-                    if (blockHeight > 0) {
-                        float blockTop = yi + blockHeight;
-                        float stepUpNeeded = blockTop - position.y;
-                        float playerBaseY = (int) Math.floor(position.y);
-                        float playerElevation = position.y - playerBaseY;
-                        boolean canStepUp = (blockHeight < 1.0f) ||
-                                (blockHeight == 1.0f && playerElevation >= 0.5f);
-                        if (stepUpNeeded > 0.0f && stepUpNeeded <= 1.0f && canStepUp &&
-                                yi == (int) Math.floor(playerFootY) && position.y >= yi) {
-                            stepUpHeight = Math.max(stepUpHeight, stepUpNeeded);
-                        } else if (yi > (int) Math.floor(playerFootY) && blockHeight <= 0.125f && stepUpHeight > 0.0f) {
-                            // Single-layer snow on upper row during step-up — skip wall collision
-                        } else if (position.y < blockTop && position.y + PLAYER_HEIGHT > yi) {
-                            float potentialNewX = (float) (blockToCheckX + 1) + halfWidth;
-                            if (!collisionOccurred || potentialNewX > correctedPositionX) {
-                                correctedPositionX = potentialNewX;
-                            }
-                            collisionOccurred = true;
-                        }
-                    }
-                } else if (velocity.x > 0) {
-                    float playerRightEdge = position.x + halfWidth;
-                    int blockToCheckX = (int) Math.floor(playerRightEdge);
-                    float blockHeight = getBlockCollisionHeight(blockToCheckX, yi, zi,
-                            playerRightEdge, checkMinZ, playerRightEdge, checkMaxZ);
-                    if (blockHeight > 0) {
-                        float blockTop = yi + blockHeight;
-                        float stepUpNeeded = blockTop - position.y;
-                        float playerBaseY = (int) Math.floor(position.y);
-                        float playerElevation = position.y - playerBaseY;
-                        boolean canStepUp = (blockHeight < 1.0f) ||
-                                (blockHeight == 1.0f && playerElevation >= 0.5f);
-                        if (stepUpNeeded > 0.0f && stepUpNeeded <= 1.0f && canStepUp &&
-                                yi == (int) Math.floor(playerFootY) && position.y >= yi) {
-                            stepUpHeight = Math.max(stepUpHeight, stepUpNeeded);
-                        } else if (yi > (int) Math.floor(playerFootY) && blockHeight <= 0.125f && stepUpHeight > 0.0f) {
-                            // Single-layer snow on upper row during step-up — skip wall collision
-                        } else if (position.y < blockTop && position.y + PLAYER_HEIGHT > yi) {
-                            float potentialNewX = (float) blockToCheckX - halfWidth;
-                            if (!collisionOccurred || potentialNewX < correctedPositionX) {
-                                correctedPositionX = potentialNewX;
-                            }
-                            collisionOccurred = true;
+        if (velocity.x != 0) {
+            boolean negative = velocity.x < 0;
+            // Sample at the leading edge: on a shaped block that is the
+            // deepest the body reaches, so it meets one tread at a time.
+            float edge = negative ? position.x - halfWidth : position.x + halfWidth;
+            int edgeCell = (int) Math.floor(edge);
+            int startCell = (int) Math.floor(edge - moved);
+            int cells = collider.collect(world, Math.min(edgeCell, startCell), (int) Math.floor(playerFootY),
+                    (int) Math.floor(checkMinZ), Math.max(edgeCell, startCell),
+                    (int) Math.ceil(playerHeadY) - 1, (int) Math.ceil(checkMaxZ) - 1);
+            for (int i = 0; i < cells; i++) {
+                int blockToCheckX = collider.x(i);
+                int yi = collider.y(i);
+                int zi = collider.z(i);
+                float blockHeight = collider.shaped(i)
+                        ? getBlockCollisionHeight(blockToCheckX, yi, zi, edge, checkMinZ, edge, checkMaxZ)
+                        : 1.0f;
+                if (blockHeight > 0) {
+                    float blockTop = yi + blockHeight;
+                    float stepUpNeeded = blockTop - position.y;
+                    float playerBaseY = (int) Math.floor(position.y);
+                    float playerElevation = position.y - playerBaseY;
+                    boolean canStepUp = (blockHeight < 1.0f) ||
+                            (blockHeight == 1.0f && playerElevation >= 0.5f);
+                    if (stepUpNeeded > 0.0f && stepUpNeeded <= 1.0f && canStepUp &&
+                            yi == (int) Math.floor(playerFootY) && position.y >= yi) {
+                        stepUpHeight = Math.max(stepUpHeight, stepUpNeeded);
+                    } else if (yi > (int) Math.floor(playerFootY) && blockHeight <= 0.125f && stepUpHeight > 0.0f) {
+                        // Single-layer snow on upper row during step-up — skip wall collision
+                    } else if (position.y < blockTop && position.y + PLAYER_HEIGHT > yi) {
+                        float potentialNewX = negative
+                                ? (float) (blockToCheckX + 1) + halfWidth
+                                : (float) blockToCheckX - halfWidth;
+                        if (!collisionOccurred || (negative ? potentialNewX > correctedPositionX
+                                : potentialNewX < correctedPositionX)) {
+                            correctedPositionX = potentialNewX;
                         }
+                        collisionOccurred = true;
                     }
                 }
             }
@@ -128,7 +126,13 @@ public class CollisionHandler {
         }
     }
 
-    public void resolveY() {
+    /**
+     * Resolves the Y axis after the body moved {@code moved} along it. Cells
+     * between where the leading face started and where it ended stop the body
+     * too, if it was clear of them before the move — a long fall lands on the
+     * first floor it crosses.
+     */
+    public void resolveY(float moved) {
         Vector3f position = state.getPosition();
         Vector3f velocity = state.getVelocity();
         float halfWidth = PLAYER_WIDTH / 2;
@@ -141,35 +145,44 @@ public class CollisionHandler {
         float playerMinZ = position.z - halfWidth;
         float playerMaxZ = position.z + halfWidth;
 
-        for (int xi = (int) Math.floor(playerMinX); xi < (int) Math.ceil(playerMaxX); xi++) {
-            for (int zi = (int) Math.floor(playerMinZ); zi < (int) Math.ceil(playerMaxZ); zi++) {
-                if (velocity.y < 0) {
-                    int blockToCheckY = (int) Math.floor(position.y);
-                    // Whole footprint: a body rests on the tallest step its box
-                    // overlaps, exactly as it would on a stack of solid boxes.
-                    float blockHeight = getBlockCollisionHeight(xi, blockToCheckY, zi,
-                            playerMinX, playerMinZ, playerMaxX, playerMaxZ);
-                    if (blockHeight > 0) {
-                        float blockTop = blockToCheckY + blockHeight;
-                        if (position.y < blockTop) {
-                            if (!collisionOccurred || blockTop > correctedPositionY) {
-                                correctedPositionY = blockTop;
-                            }
-                            collisionOccurred = true;
-                            downwardCollision = true;
-                        }
-                    }
-                } else if (velocity.y > 0) {
-                    int blockToCheckY = (int) Math.floor(position.y + PLAYER_HEIGHT);
-                    float blockHeight = getBlockCollisionHeight(xi, blockToCheckY, zi,
-                            playerMinX, playerMinZ, playerMaxX, playerMaxZ);
-                    if (blockHeight > 0) {
-                        float potentialNewY = (float) blockToCheckY - PLAYER_HEIGHT;
-                        if (!collisionOccurred || potentialNewY < correctedPositionY) {
-                            correctedPositionY = potentialNewY;
+        if (velocity.y != 0) {
+            boolean downward = velocity.y < 0;
+            float face = downward ? position.y : position.y + PLAYER_HEIGHT;
+            float startFace = face - moved;
+            int blockToCheckY = (int) Math.floor(face);
+            int startCell = (int) Math.floor(startFace);
+            int cells = collider.collect(world, (int) Math.floor(playerMinX), Math.min(blockToCheckY, startCell),
+                    (int) Math.floor(playerMinZ), (int) Math.ceil(playerMaxX) - 1,
+                    Math.max(blockToCheckY, startCell), (int) Math.ceil(playerMaxZ) - 1);
+            for (int i = 0; i < cells; i++) {
+                int xi = collider.x(i);
+                int yi = collider.y(i);
+                int zi = collider.z(i);
+                // Whole footprint: a body rests on the tallest step its box
+                // overlaps, exactly as it would on a stack of solid boxes.
+                float blockHeight = collider.shaped(i)
+                        ? getBlockCollisionHeight(xi, yi, zi, playerMinX, playerMinZ, playerMaxX, playerMaxZ)
+                        : 1.0f;
+                if (blockHeight <= 0) {
+                    continue;
+                }
+                if (downward) {
+                    float blockTop = yi + blockHeight;
+                    boolean crossed = yi == blockToCheckY
+                            || blockTop <= startFace + VoxelCollider.CONTACT_EPSILON;
+                    if (crossed && position.y < blockTop) {
+                        if (!collisionOccurred || blockTop > correctedPositionY) {
+                            correctedPositionY = blockTop;
                         }
                         collisionOccurred = true;
+                        downwardCollision = true;
+                    }
+                } else if (yi == blockToCheckY || yi >= startFace - VoxelCollider.CONTACT_EPSILON) {
+                    float potentialNewY = (float) yi - PLAYER_HEIGHT;
+                    if (!collisionOccurred || potentialNewY < correctedPositionY) {
+                        correctedPositionY = potentialNewY;
                     }
+                    collisionOccurred = true;
                 }
             }
         }
@@ -213,7 +226,8 @@ public class CollisionHandler {
         }
     }
 
-    public void resolveZ() {
+    /** Resolves the Z axis after the body moved {@code moved} along it; see {@link #resolveX}. */
+    public void resolveZ(float moved) {
         Vector3f position = state.getPosition();
         Vector3f velocity = state.getVelocity();
         float halfWidth = PLAYER_WIDTH / 2;
@@ -226,58 +240,43 @@ public class CollisionHandler {
         float checkMinX = position.x - halfWidth;
         float checkMaxX = position.x + halfWidth;
 
-        for (int yi = (int) Math.floor(playerFootY); yi < (int) Math.ceil(playerHeadY); yi++) {
-            for (int xi = (int) Math.floor(checkMinX); xi < (int) Math.ceil(checkMaxX); xi++) {
-                if (velocity.z < 0) {
-                    float playerFrontEdge = position.z - halfWidth;
-                    int blockToCheckZ = (int) Math.floor(playerFrontEdge);
-                    // Leading edge — see resolveX.
-                    float blockHeight = getBlockCollisionHeight(xi, yi, blockToCheckZ,
-                            checkMinX, playerFrontEdge, checkMaxX, playerFrontEdge);
-                    if (blockHeight > 0) {
-                        float blockTop = yi + blockHeight;
-                        float stepUpNeeded = blockTop - position.y;
-                        float playerBaseY = (int) Math.floor(position.y);
-                        float playerElevation = position.y - playerBaseY;
-                        boolean canStepUp = (blockHeight < 1.0f) ||
-                                (blockHeight == 1.0f && playerElevation >= 0.5f);
-                        if (stepUpNeeded > 0.0f && stepUpNeeded <= 1.0f && canStepUp &&
-                                yi == (int) Math.floor(playerFootY) && position.y >= yi) {
-                            stepUpHeight = Math.max(stepUpHeight, stepUpNeeded);
-                        } else if (yi > (int) Math.floor(playerFootY) && blockHeight <= 0.125f && stepUpHeight > 0.0f) {
-                            // Single-layer snow on upper row during step-up — skip wall collision
-                        } else if (position.y < blockTop && position.y + PLAYER_HEIGHT > yi) {
-                            float potentialNewZ = (float) (blockToCheckZ + 1) + halfWidth;
-                            if (!collisionOccurred || potentialNewZ > correctedPositionZ) {
-                                correctedPositionZ = potentialNewZ;
-                            }
-                            collisionOccurred = true;
-                        }
-                    }
-                } else if (velocity.z > 0) {
-                    float playerBackEdge = position.z + halfWidth;
-                    int blockToCheckZ = (int) Math.floor(playerBackEdge);
-                    float blockHeight = getBlockCollisionHeight(xi, yi, blockToCheckZ,
-                            checkMinX, playerBackEdge, checkMaxX, playerBackEdge);
-                    if (blockHeight > 0) {
-                        float blockTop = yi + blockHeight;
-                        float stepUpNeeded = blockTop - position.y;
-                        float playerBaseY = (int) Math.floor(position.y);
-                        float playerElevation = position.y - playerBaseY;
-                        boolean canStepUp = (blockHeight < 1.0f) ||
-                                (blockHeight == 1.0f && playerElevation >= 0.5f);
-                        if (stepUpNeeded > 0.0f && stepUpNeeded <= 1.0f && canStepUp &&
-                                yi == (int) Math.floor(playerFootY) && position.y >= yi) {
-                            stepUpHeight = Math.max(stepUpHeight, stepUpNeeded);
-                        } else if (yi > (int) Math.floor(playerFootY) && blockHeight <= 0.125f && stepUpHeight > 0.0f) {
-                            // Single-layer snow on upper row during step-up — skip wall collision
-                        } else if (position.y < blockTop && position.y + PLAYER_HEIGHT > yi) {
-                            float potentialNewZ = (float) blockToCheckZ - halfWidth;
-                            if (!collisionOccurred || potentialNewZ < correctedPositionZ) {
-                                correctedPositionZ = potentialNewZ;
-                            }
-                            collisionOccurred = true;
+        if (velocity.z != 0) {
+            boolean negative = velocity.z < 0;
+            // Leading edge — see resolveX.
+            float edge = negative ? position.z - halfWidth : position.z + halfWidth;
+            int edgeCell = (int) Math.floor(edge);
+            int startCell = (int) Math.floor(edge - moved);
+            int cells = collider.collect(world, (int) Math.floor(checkMinX), (int) Math.floor(playerFootY),
+                    Math.min(edgeCell, startCell), (int) Math.ceil(checkMaxX) - 1,
+                    (int) Math.ceil(playerHeadY) - 1, Math.max(edgeCell, startCell));
+            for (int i = 0; i < cells; i++) {
+                int xi = collider.x(i);
+                int yi = collider.y(i);
+                int blockToCheckZ = collider.z(i);
+                float blockHeight = collider.shaped(i)
+                        ? getBlockCollisionHeight(xi, yi, blockToCheckZ, checkMinX, edge, checkMaxX, edge)
+                        : 1.0f;
+                if (blockHeight > 0) {
+                    float blockTop = yi + blockHeight;
+                    float stepUpNeeded = blockTop - position.y;
+                    float playerBaseY = (int) Math.floor(position.y);
+                    float playerElevation = position.y - playerBaseY;
+                    boolean canStepUp = (blockHeight < 1.0f) ||
+                            (blockHeight == 1.0f && playerElevation >= 0.5f);
+                    if (stepUpNeeded > 0.0f && stepUpNeeded <= 1.0f && canStepUp &&
+                            yi == (int) Math.floor(playerFootY) && position.y >= yi) {
+                        stepUpHeight = Math.max(stepUpHeight, stepUpNeeded);
+                    } else if (yi > (int) Math.floor(playerFootY) && blockHeight <= 0.125f && stepUpHeight > 0.0f) {
+                        // Single-layer snow on upper row during step-up — skip wall collision
+                    } else if (position.y < blockTop && position.y + PLAYER_HEIGHT > yi) {
+                        float potentialNewZ = negative
+                                ? (float) (blockToCheckZ + 1) + halfWidth
+                                : (float) blockToCheckZ - halfWidth;
+                        if (!collisionOccurred || (negative ? potentialNewZ > correctedPositionZ
+                                : potentialNewZ < correctedPositionZ)) {
+                            correctedPositionZ = potentialNewZ;
                         }
+                        collisionOccurred = true;
                     }
                 }
             }
@@ -317,26 +316,23 @@ public class CollisionHandler {
     public boolean isPlayerInsideSolidBlock() {
         Vector3f position = state.getPosition();
         float halfWidth = PLAYER_WIDTH / 2;
-        int minX = (int) Math.floor(position.x - halfWidth);
-        int maxX = (int) Math.ceil(position.x + halfWidth);
-        int minY = (int) Math.floor(position.y);
-        int maxY = (int) Math.ceil(position.y + PLAYER_HEIGHT);
-        int minZ = (int) Math.floor(position.z - halfWidth);
-        int maxZ = (int) Math.ceil(position.z + halfWidth);
+        int cells = collider.collect(world,
+                (int) Math.floor(position.x - halfWidth), (int) Math.floor(position.y),
+                (int) Math.floor(position.z - halfWidth), (int) Math.ceil(position.x + halfWidth) - 1,
+                (int) Math.ceil(position.y + PLAYER_HEIGHT) - 1, (int) Math.ceil(position.z + halfWidth) - 1);
 
-        for (int x = minX; x < maxX; x++) {
-            for (int y = minY; y < maxY; y++) {
-                for (int z = minZ; z < maxZ; z++) {
-                    // Route through the position-aware height so state-aware
-                    // exceptions (doors, snow layers, stair steps) agree with
-                    // the sweep.
-                    float height = getBlockCollisionHeight(x, y, z,
+        for (int i = 0; i < cells; i++) {
+            int y = collider.y(i);
+            // Route shaped cells through the position-aware height so
+            // state-aware exceptions (doors, snow layers, stair steps) agree
+            // with the sweep.
+            float height = collider.shaped(i)
+                    ? getBlockCollisionHeight(collider.x(i), y, collider.z(i),
                             position.x - halfWidth, position.z - halfWidth,
-                            position.x + halfWidth, position.z + halfWidth);
-                    if (height > 0.0f && position.y < y + height) {
-                        return true;
-                    }
-                }
+                            position.x + halfWidth, position.z + halfWidth)
+                    : 1.0f;
+            if (height > 0.0f && position.y < y + height) {
+                return true;
             }
         }
         // Door panels collide as model boxes, not cells.
@@ -79,14 +79,17 @@ public class MovementController {
             return;
         }
 
-        position.x += velocity.x * dt;
-        collisionHandler.resolveX();
+        float dx = velocity.x * dt;
+        position.x += dx;
+        collisionHandler.resolveX(dx);
 
-        position.y += velocity.y * dt;
-        collisionHandler.resolveY();
+        float dy = velocity.y * dt;
+        position.y += dy;
+        collisionHandler.resolveY(dy);
 
-        position.z += velocity.z * dt;
-        collisionHandler.resolveZ();
+        float dz = velocity.z * dt;
+        position.z += dz;
+        collisionHandler.resolveZ(dz);
     }
 
     public void applyDamping() {
@@ -69,6 +69,12 @@ public class WorldRenderer {
     // fall through to per-chunk tests. Reused across frames.
     private int[] regionVisibility = new int[0];
     private int regionGridMinRx, regionGridMinRz, regionGridWidth, regionGridHeight;
+    // Chunk-column bounds of this frame's loaded chunks (set by computeRegionVisibility).
+    private int loadedMinCx, loadedMinCz, loadedMaxCx, loadedMaxCz;
+    // Cave-occlusion cull over section visibility graphs; chunks it dropped this frame.
+    private final com.stonebreak.rendering.gameWorld.occlusion.SectionOcclusionCuller occlusionCuller =
+            new com.stonebreak.rendering.gameWorld.occlusion.SectionOcclusionCuller();
+    private int occlusionCulledChunks;
     private final List<com.stonebreak.rendering.gameWorld.water.WaterRenderer.LodWaterNode> reusableLodWater = new ArrayList<>();
     // Cached so the per-frame chunk visit doesn't allocate a capturing lambda each call.
     private final java.util.function.Consumer<Chunk> loadedCollector = reusableLoadedChunks::add;
@@ -402,11 +408,13 @@ public class WorldRenderer {
      * camera view frustum. A region-level pre-cull (one classifying AABB test
      * per 8x8-chunk-column region) skips or wholesale-accepts entire regions,
      * so per-chunk tests only run where a region straddles the frustum edge.
-     * Returns a reused list; allocation-free.
+     * Survivors then go through the cave-occlusion cull. Returns a reused
+     * list; allocation-free.
      */
     private List<Chunk> cullChunksToFrustum(World world, Player player) {
         frustumCuller.update(projectionMatrix, player.getViewMatrix());
         reusableVisibleChunks.clear();
+        occlusionCulledChunks = 0;
         int count = reusableLoadedChunks.size();
         if (count == 0) {
             return reusableVisibleChunks;
@@ -425,9 +433,42 @@ public class WorldRenderer {
                 reusableVisibleChunks.add(chunk);
             }
         }
+        if (com.stonebreak.rendering.gameWorld.occlusion.SectionOcclusionCuller.isEnabled()) {
+            cullOccludedChunks(player);
+        }
         return reusableVisibleChunks;
     }
 
+    /**
+     * Drops frustum-visible chunks no line of sight from the camera can reach:
+     * a BFS over 16³ sections through their mesh-time visibility graphs (see
+     * {@link com.stonebreak.rendering.gameWorld.occlusion.SectionOcclusionCuller}).
+     * Underground this removes nearly everything the surrounding stone hides;
+     * on the surface it removes next to nothing. Compacts the visible list in place.
+     */
+    private void cullOccludedChunks(Player player) {
+        occlusionCuller.begin(loadedMinCx, loadedMinCz, loadedMaxCx, loadedMaxCz);
+        for (int i = 0; i < reusableLoadedChunks.size(); i++) {
+            Chunk chunk = reusableLoadedChunks.get(i);
+            occlusionCuller.setColumn(chunk.getChunkX(), chunk.getChunkZ(), chunk.getSectionConnectivity());
+        }
+        Vector3f eye = player.getCamera().getPosition();
+        occlusionCuller.run(eye.x, eye.y, eye.z, frustumCuller);
+
+        int kept = 0;
+        for (int i = 0; i < reusableVisibleChunks.size(); i++) {
+            Chunk chunk = reusableVisibleChunks.get(i);
+            if (occlusionCuller.isColumnVisible(chunk.getChunkX(), chunk.getChunkZ())) {
+                reusableVisibleChunks.set(kept++, chunk);
+            }
+        }
+        occlusionCulledChunks = reusableVisibleChunks.size() - kept;
+        occlusionCuller.recordCulledChunks(occlusionCulledChunks);
+        for (int i = reusableVisibleChunks.size() - 1; i >= kept; i--) {
+            reusableVisibleChunks.remove(i);
+        }
+    }
+
     /**
      * Classifies every region covering this frame's loaded chunks against the
      * camera frustum (INSIDE / INTERSECT / plane index when fully outside).
@@ -446,6 +487,10 @@ public class WorldRenderer {
             if (cz < minCz) minCz = cz;
             if (cz > maxCz) maxCz = cz;
         }
+        loadedMinCx = minCx;
+        loadedMinCz = minCz;
+        loadedMaxCx = maxCx;
+        loadedMaxCz = maxCz;
         regionGridMinRx = minCx >> shift;
         regionGridMinRz = minCz >> shift;
         regionGridWidth = (maxCx >> shift) - regionGridMinRx + 1;
@@ -487,8 +532,11 @@ public class WorldRenderer {
             // GL 4.3+ path: compute-shader per-mesh cull + one indirect
             // multidraw per region — no per-chunk CPU visibility work for the
             // opaque pass at all. Falls back to the CPU multidraw when the
-            // cull program is unavailable.
-            if (com.stonebreak.rendering.gameWorld.regions.ChunkRegionRenderer.isGpuCullEnabled()
+            // cull program is unavailable. The GPU cull only knows the frustum,
+            // so when cave occlusion dropped chunks this frame the CPU list
+            // (which it already filtered) draws instead.
+            if (occlusionCulledChunks == 0
+                    && com.stonebreak.rendering.gameWorld.regions.ChunkRegionRenderer.isGpuCullEnabled()
                     && regionRenderer.drawLayerGpuCulled(
                         com.stonebreak.rendering.gameWorld.regions.ChunkRegionRenderer.LAYER_ATLAS,
                         frustumCuller.projectionView())) {
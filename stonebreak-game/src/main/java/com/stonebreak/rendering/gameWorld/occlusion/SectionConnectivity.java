@@ -0,0 +1,212 @@
+package com.stonebreak.rendering.gameWorld.occlusion;
+
+import com.openmason.engine.cenda.CendaKernels;
+import com.openmason.engine.voxel.cco.data.CcoBlockStorage;
+import com.openmason.engine.voxel.cco.data.palette.CcoPaletteSection;
+import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
+import com.stonebreak.blocks.BlockType;
+import com.stonebreak.world.chunk.Chunk;
+import com.stonebreak.world.chunk.api.mightyMesh.mmsIntegration.CendaMesher;
+import com.stonebreak.world.operations.WorldConfiguration;
+
+/**
+ * Face-to-face visibility graph of a 16³ chunk section: which of its six faces
+ * can see each other through cells that don't hide what's behind them.
+ *
+ * <p>Every connected pocket of see-through cells is flood-filled once; a pocket
+ * touching faces A and B means a line of sight can enter through A and leave
+ * through B. The 15 possible face pairs pack into the low bits of a short —
+ * {@link #ALL} for open air, {@link #NONE} for solid stone — so a chunk column
+ * costs 16 shorts. Built on the mesh worker right after the mesh (see
+ * {@link #of(Chunk)}) and read by {@link SectionOcclusionCuller} every frame.
+ *
+ * <p>A cell occludes only when the mesher would hide a neighbour's face behind
+ * it: a full cube that isn't transparent, per {@link CendaMesher#classTable()}.
+ * Leaves, glass-like blocks, slabs, stairs, crosses and water all count as open,
+ * so the graph can only ever over-report visibility, never hide a drawn face.
+ *
+ * <p>Pure CPU; no GL context needed.
+ */
+public final class SectionConnectivity {
+
+    /** Faces, in {@code opposite(f) == f ^ 1} order. */
+    public static final int WEST = 0;  // -X
+    public static final int EAST = 1;  // +X
+    public static final int DOWN = 2;  // -Y
+    public static final int UP = 3;    // +Y
+    public static final int NORTH = 4; // -Z
+    public static final int SOUTH = 5; // +Z
+    public static final int FACES = 6;
+
+    /** Every face sees every other face. */
+    public static final short ALL = 0x7FFF;
+    /** No face sees any other face. */
+    public static final short NONE = 0;
+
+    static final int SIZE = 16;
+    static final int CELLS = SIZE * SIZE * SIZE;
+
+    private static final int SECTIONS = WorldConfiguration.WORLD_HEIGHT / SIZE;
+
+    /** Bit of each face pair, symmetric; -1 on the diagonal. */
+    private static final int[] PAIR_BIT = new int[FACES * FACES];
+
+    static {
+        int bit = 0;
+        for (int a = 0; a < FACES; a++) {
+            PAIR_BIT[a * FACES + a] = -1;
+            for (int b = a + 1; b < FACES; b++) {
+                PAIR_BIT[a * FACES + b] = bit;
+                PAIR_BIT[b * FACES + a] = bit;
+                bit++;
+            }
+        }
+    }
+
+    /** Per-thread flood-fill scratch; mesh workers build sections back to back. */
+    private static final class Scratch {
+        final short[] ids = new short[CELLS];
+        final long[] visited = new long[CELLS / 64];
+        final int[] queue = new int[CELLS];
+    }
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private SectionConnectivity() {
+    }
+
+    /** Whether a line of sight can enter {@code graph}'s section through one face and leave through another. */
+    public static boolean connects(short graph, int from, int to) {
+        int bit = PAIR_BIT[from * FACES + to];
+        return bit >= 0 && (graph & (1 << bit)) != 0;
+    }
+
+    /**
+     * Graphs for every section of a chunk column, bottom up. Reads the chunk's
+     * paletted sections in bulk where it can; uniform sections skip the fill.
+     */
+    public static short[] of(Chunk chunk) {
+        byte[] classTable = CendaMesher.classTable();
+        short[] graphs = new short[SECTIONS];
+        CcoBlockStorage storage = chunk.getBlockStorageView();
+        Scratch scratch = SCRATCH.get();
+        if (storage instanceof CcoPalettedChunkStorage paletted
+                && paletted.getSectionCount() == SECTIONS) {
+            for (int s = 0; s < SECTIONS; s++) {
+                CcoPaletteSection section = paletted.getSection(s);
+                if (section.isUniform()) {
+                    graphs[s] = occludes(section.uniformBlock().getId(), classTable) ? NONE : ALL;
+                    continue;
+                }
+                section.writeBlockIdsInto(scratch.ids, 0);
+                graphs[s] = compute(scratch.ids, 0, classTable);
+            }
+            return graphs;
+        }
+        for (int s = 0; s < SECTIONS; s++) {
+            for (int cell = 0; cell < CELLS; cell++) {
+                BlockType type = chunk.getBlock(cell & 15, s * SIZE + (cell >> 8), (cell >> 4) & 15);
+                scratch.ids[cell] = (short) (type == null ? BlockType.AIR.getId() : type.getId());
+            }
+            graphs[s] = compute(scratch.ids, 0, classTable);
+        }
+        return graphs;
+    }
+
+    /**
+     * Graph of one section whose block ids sit at {@code ids[offset .. offset + 4096)}
+     * in section cell order ({@code y * 256 + z * 16 + x}).
+     *
+     * @param classTable per-block-id {@link CendaKernels} class bits
+     */
+    public static short compute(short[] ids, int offset, byte[] classTable) {
+        Scratch scratch = SCRATCH.get();
+        long[] visited = scratch.visited;
+        int[] queue = scratch.queue;
+        java.util.Arrays.fill(visited, 0L);
+
+        int graph = 0;
+        for (int start = 0; start < CELLS; start++) {
+            // Pockets that never reach the boundary can't connect two faces.
+            if (boundaryFaces(start) == 0 || isVisited(visited, start)
+                    || occludes(ids[offset + start], classTable)) {
+                continue;
+            }
+            int faces = 0;
+            int head = 0;
+            int tail = 0;
+            markVisited(visited, start);
+            queue[tail++] = start;
+            while (head < tail) {
+                int cell = queue[head++];
+                faces |= boundaryFaces(cell);
+                int x = cell & 15;
+                int y = cell >> 8;
+                int z = (cell >> 4) & 15;
+                if (x > 0) tail = offer(cell - 1, ids, offset, classTable, visited, queue, tail);
+                if (x < 15) tail = offer(cell + 1, ids, offset, classTable, visited, queue, tail);
+                if (y > 0) tail = offer(cell - 256, ids, offset, classTable, visited, queue, tail);
+                if (y < 15) tail = offer(cell + 256, ids, offset, classTable, visited, queue, tail);
+                if (z > 0) tail = offer(cell - 16, ids, offset, classTable, visited, queue, tail);
+                if (z < 15) tail = offer(cell + 16, ids, offset, classTable, visited, queue, tail);
+            }
+            graph |= pairsOf(faces);
+            if (graph == ALL) {
+                break;
+            }
+        }
+        return (short) graph;
+    }
+
+    private static int offer(int cell, short[] ids, int offset, byte[] classTable,
+                             long[] visited, int[] queue, int tail) {
+        if (isVisited(visited, cell) || occludes(ids[offset + cell], classTable)) {
+            return tail;
+        }
+        markVisited(visited, cell);
+        queue[tail] = cell;
+        return tail + 1;
+    }
+
+    private static boolean occludes(int id, byte[] classTable) {
+        byte cls = id >= 0 && id < classTable.length ? classTable[id] : 0;
+        return (cls & CendaKernels.CLASS_CUBE) != 0 && (cls & CendaKernels.CLASS_TRANSPARENT) == 0;
+    }
+
+    private static int boundaryFaces(int cell) {
+        int x = cell & 15;
+        int y = cell >> 8;
+        int z = (cell >> 4) & 15;
+        int faces = 0;
+        if (x == 0) faces |= 1 << WEST;
+        if (x == 15) faces |= 1 << EAST;
+        if (y == 0) faces |= 1 << DOWN;
+        if (y == 15) faces |= 1 << UP;
+        if (z == 0) faces |= 1 << NORTH;
+        if (z == 15) faces |= 1 << SOUTH;
+        return faces;
+    }
+
+    private static int pairsOf(int faces) {
+        int pairs = 0;
+        for (int a = 0; a < FACES; a++) {
+            if ((faces & (1 << a)) == 0) {
+                continue;
+            }
+            for (int b = a + 1; b < FACES; b++) {
+                if ((faces & (1 << b)) != 0) {
+                    pairs |= 1 << PAIR_BIT[a * FACES + b];
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private static boolean isVisited(long[] visited, int cell) {
+        return (visited[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    private static void markVisited(long[] visited, int cell) {
+        visited[cell >>> 6] |= 1L << cell;
+    }
+}
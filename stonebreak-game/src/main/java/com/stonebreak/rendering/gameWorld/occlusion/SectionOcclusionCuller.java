@@ -0,0 +1,250 @@
+package com.stonebreak.rendering.gameWorld.occlusion;
+
+import com.stonebreak.rendering.gameWorld.ChunkFrustumCuller;
+import com.stonebreak.world.operations.WorldConfiguration;
+
+import java.util.Arrays;
+
+/**
+ * Cave-occlusion culling: a breadth-first walk over 16³ sections outward from
+ * the camera's section, stepping into a neighbour only through a face the
+ * current section's {@link SectionConnectivity} graph connects to the face it
+ * was entered by. Underground, stone closes almost every face pair, so the walk
+ * stays inside the cave the camera is in and the columns it never reaches are
+ * dropped before any draw list is built. On the surface the walk floods the
+ * air and culls next to nothing.
+ *
+ * <p>Two extra rules keep the walk cheap and tight, as in the usual
+ * formulation of this cull: a section is visited at most once per frame, and
+ * the walk never steps in a direction opposite to one it has already taken
+ * (a line of sight from the camera can't double back). With a frustum the
+ * walk also skips sections outside the view. Sections whose column has no
+ * graph yet (not loaded, not meshed) count as wide open, so missing data can
+ * only ever draw too much.
+ *
+ * <p>Meshes are per column, so the result is per column: a column is drawn
+ * when any of its sections is reached. Per frame: {@link #begin}, one
+ * {@link #setColumn} per loaded column, {@link #run}, then query
+ * {@link #isColumnVisible}. Arrays are reused across frames; pure CPU, no GL.
+ * Off with {@code -Dstonebreak.occlusion=off}.
+ */
+public final class SectionOcclusionCuller {
+
+    private static final int SECTIONS = WorldConfiguration.WORLD_HEIGHT / SectionConnectivity.SIZE;
+    private static final float SECTION_BLOCKS = SectionConnectivity.SIZE;
+
+    private static volatile Boolean enabled;
+    private static volatile SectionOcclusionCuller active;
+
+    private int minCx;
+    private int minCz;
+    private int width;
+    private int depth;
+
+    private short[][] columns = new short[0][];
+    private int[] columnReached = new int[0];
+    private int[] sectionVisited = new int[0];
+    private int stamp;
+
+    // BFS queue: section index, the face it was entered by, and the directions taken to get there.
+    private int[] queueSection = new int[0];
+    private byte[] queueEntry = new byte[0];
+    private byte[] queueTravelled = new byte[0];
+
+    private boolean passthrough;
+    private int visitedSections;
+    private int culledChunks;
+
+    public SectionOcclusionCuller() {
+        active = this;
+    }
+
+    /** The culler the world renderer is using, for the debug overlay; null before the first frame. */
+    public static SectionOcclusionCuller active() {
+        return active;
+    }
+
+    /** Whether occlusion culling is on (default) — {@code -Dstonebreak.occlusion=off} disables it. */
+    public static boolean isEnabled() {
+        Boolean value = enabled;
+        if (value == null) {
+            String prop = System.getProperty("stonebreak.occlusion", "on");
+            value = !("off".equalsIgnoreCase(prop) || "false".equalsIgnoreCase(prop));
+            enabled = value;
+            System.out.println("[SectionOcclusionCuller] Cave-occlusion culling "
+                + (value ? "ENABLED" : "disabled (property)"));
+        }
+        return value;
+    }
+
+    /** Starts a frame covering chunk columns {@code [minCx..maxCx] x [minCz..maxCz]}. */
+    public void begin(int minCx, int minCz, int maxCx, int maxCz) {
+        this.minCx = minCx;
+        this.minCz = minCz;
+        this.width = Math.max(0, maxCx - minCx + 1);
+        this.depth = Math.max(0, maxCz - minCz + 1);
+        int columnCount = width * depth;
+        if (columns.length < columnCount) {
+            columns = new short[columnCount][];
+            columnReached = new int[columnCount];
+            sectionVisited = new int[columnCount * SECTIONS];
+            queueSection = new int[columnCount * SECTIONS];
+            queueEntry = new byte[columnCount * SECTIONS];
+            queueTravelled = new byte[columnCount * SECTIONS];
+            stamp = 0;
+        } else {
+            Arrays.fill(columns, 0, columnCount, null);
+        }
+        if (++stamp == Integer.MAX_VALUE) {
+            // Wrapped: old stamps could alias the new one.
+            Arrays.fill(columnReached, 0);
+            Arrays.fill(sectionVisited, 0);
+            stamp = 1;
+        }
+        passthrough = false;
+        visitedSections = 0;
+    }
+
+    /**
+     * Supplies one column's section graphs, bottom up; {@code null} while the
+     * column has not been meshed yet. Columns outside the frame's bounds are ignored.
+     */
+    public void setColumn(int chunkX, int chunkZ, short[] graphs) {
+        int column = columnIndex(chunkX, chunkZ);
+        if (column >= 0) {
+            columns[column] = graphs;
+        }
+    }
+
+    /**
+     * Walks outward from the camera. {@code frustum} may be {@code null} to
+     * walk regardless of view direction (tests, or views that look every way).
+     */
+    public void run(float cameraX, float cameraY, float cameraZ, ChunkFrustumCuller frustum) {
+        int startSy = (int) Math.floor(cameraY / SECTION_BLOCKS);
+        int startColumn = columnIndex(Math.floorDiv((int) Math.floor(cameraX), 16),
+                Math.floorDiv((int) Math.floor(cameraZ), 16));
+        if (startColumn < 0 || startSy < 0 || startSy >= SECTIONS) {
+            // Camera outside the grid or above/below the world: nothing to walk from.
+            passthrough = true;
+            return;
+        }
+
+        int head = 0;
+        int tail = 0;
+        int start = startColumn * SECTIONS + startSy;
+        sectionVisited[start] = stamp;
+        columnReached[startColumn] = stamp;
+        visitedSections = 1;
+
+        // The camera's own section sees out of every face, whatever its graph says.
+        for (int direction = 0; direction < SectionConnectivity.FACES; direction++) {
+            tail = step(start, direction, 0, frustum, tail);
+        }
+        while (head < tail) {
+            int section = queueSection[head];
+            int entry = queueEntry[head];
+            int travelled = queueTravelled[head];
+            head++;
+            short graph = graphOf(section);
+            for (int direction = 0; direction < SectionConnectivity.FACES; direction++) {
+                if ((travelled & (1 << (direction ^ 1))) != 0
+                        || !SectionConnectivity.connects(graph, entry, direction)) {
+                    continue;
+                }
+                tail = step(section, direction, travelled, frustum, tail);
+            }
+        }
+    }
+
+    /** Visits the neighbour of {@code section} across {@code direction}, if it is new and in view. */
+    private int step(int section, int direction, int travelled, ChunkFrustumCuller frustum, int tail) {
+        int column = section / SECTIONS;
+        int sy = section - column * SECTIONS;
+        int cx = column / depth;
+        int cz = column - cx * depth;
+        switch (direction) {
+            case SectionConnectivity.WEST -> cx--;
+            case SectionConnectivity.EAST -> cx++;
+            case SectionConnectivity.DOWN -> sy--;
+            case SectionConnectivity.UP -> sy++;
+            case SectionConnectivity.NORTH -> cz--;
+            default -> cz++;
+        }
+        if (cx < 0 || cx >= width || cz < 0 || cz >= depth || sy < 0 || sy >= SECTIONS) {
+            return tail;
+        }
+        int neighbourColumn = cx * depth + cz;
+        int neighbour = neighbourColumn * SECTIONS + sy;
+        if (sectionVisited[neighbour] == stamp) {
+            return tail;
+        }
+        if (frustum != null) {
+            float minX = (minCx + cx) * SECTION_BLOCKS;
+            float minY = sy * SECTION_BLOCKS;
+            float minZ = (minCz + cz) * SECTION_BLOCKS;
+            if (!frustum.isBoxVisible(minX, minY, minZ,
+                    minX + SECTION_BLOCKS, minY + SECTION_BLOCKS, minZ + SECTION_BLOCKS)) {
+                return tail;
+            }
+        }
+        sectionVisited[neighbour] = stamp;
+        columnReached[neighbourColumn] = stamp;
+        visitedSections++;
+        queueSection[tail] = neighbour;
+        queueEntry[tail] = (byte) (direction ^ 1);
+        queueTravelled[tail] = (byte) (travelled | (1 << direction));
+        return tail + 1;
+    }
+
+    private short graphOf(int section) {
+        int column = section / SECTIONS;
+        short[] graphs = columns[column];
+        if (graphs == null) {
+            return SectionConnectivity.ALL;
+        }
+        return graphs[section - column * SECTIONS];
+    }
+
+    private int columnIndex(int chunkX, int chunkZ) {
+        int ix = chunkX - minCx;
+        int iz = chunkZ - minCz;
+        if (ix < 0 || ix >= width || iz < 0 || iz >= depth) {
+            return -1;
+        }
+        return ix * depth + iz;
+    }
+
+    /** Whether the last {@link #run} reached any section of the column. */
+    public boolean isColumnVisible(int chunkX, int chunkZ) {
+        if (passthrough) {
+            return true;
+        }
+        int column = columnIndex(chunkX, chunkZ);
+        return column >= 0 && columnReached[column] == stamp;
+    }
+
+    /** Whether the last {@link #run} reached the section at section-row {@code sectionY} of the column. */
+    public boolean isSectionVisible(int chunkX, int sectionY, int chunkZ) {
+        if (passthrough) {
+            return true;
+        }
+        int column = columnIndex(chunkX, chunkZ);
+        return column >= 0 && sectionY >= 0 && sectionY < SECTIONS
+                && sectionVisited[column * SECTIONS + sectionY] == stamp;
+    }
+
+    /** Sections the last {@link #run} visited — a debug gauge of how much the walk covered. */
+    public int visitedSections() {
+        return visitedSections;
+    }
+
+    /** Frustum-visible chunks the caller dropped on this frame's result (debug overlay). */
+    public int culledChunks() {
+        return culledChunks;
+    }
+
+    public void recordCulledChunks(int chunks) {
+        this.culledChunks = chunks;
+    }
+}
@@ -1,9 +1,9 @@
 package com.stonebreak.rendering.models.entities;
 
+import com.openmason.engine.format.oma.AnimBatch;
 import com.openmason.engine.format.oma.AnimLayering;
-import com.openmason.engine.format.oma.AnimSampler;
-import com.openmason.engine.format.oma.ParsedAnimClip;
-import com.openmason.engine.format.oma.ParsedAnimTrack;
+import com.openmason.engine.format.oma.BakedAnimClip;
+import com.openmason.engine.format.oma.PoseBuffer;
 import com.stonebreak.mobs.sbe.AnimState;
 import com.stonebreak.mobs.sbe.SbeAttachmentPoint;
 import com.stonebreak.mobs.sbe.SbeEntityAsset;
@@ -12,10 +12,7 @@ import com.stonebreak.mobs.sbe.SbePart;
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 /**
  * GL-free SBE pose math: computes per-part world matrices from a base
@@ -42,9 +39,24 @@ import java.util.Map;
  * </pre>
  * The socket therefore translates, rotates, AND scales the attached model —
  * the returned matrix is used directly as the attached model's base transform.
+ *
+ * <p>Local poses come from the asset's {@link BakedAnimClip}s, evaluated by an
+ * {@link AnimBatch} into a {@link PoseBuffer}; batch, buffer and matrices are
+ * kept per thread, so posing a model allocates nothing once they have grown.
  */
 public final class SbePoseSolver {
 
+    /** Per thread: posing is plain math that any thread may call, not only the renderer. */
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private static final class Scratch {
+        final AnimBatch batch = new AnimBatch();
+        final PoseBuffer poses = new PoseBuffer();
+        final Matrix4f partMatrix = new Matrix4f();
+        final Matrix4f restInverse = new Matrix4f();
+        final Matrix4f headParent = new Matrix4f();
+    }
+
     /** Receives the computed world matrix for one animated part. */
     @FunctionalInterface
     public interface PartConsumer {
@@ -67,23 +79,28 @@ public final class SbePoseSolver {
      * Walks the geometry's parts, computing each part's world matrix from the
      * base transform plus its animation delta ({@code base * M_anim * M_rest^-1};
      * un-animated parts use {@code base} alone), and hands it to {@code consumer}.
-     * When overlays are active, the per-part pose is composed via
-     * {@link AnimLayering#blendPart} — masked parts blend toward the overlay's
-     * pose by its weight; unmasked parts keep the base pose. {@code headYawDeg}/
-     * {@code headPitchDeg} rotate the part named "head" about its neck pivot.
+     * When overlays are active, the per-part pose is layered as
+     * {@link AnimLayering#blendPart} does — masked parts blend toward the
+     * overlay's pose by its weight; unmasked parts keep the base pose.
+     * {@code headYawDeg}/{@code headPitchDeg} rotate the part named "head"
+     * about its neck pivot.
+     *
+     * <p>The matrix handed to {@code consumer} is per-thread scratch, valid
+     * until it returns; the consumer must not pose another model meanwhile.
      */
     public static void forEachPartMatrix(SbeModelGeometry geometry, SbeEntityAsset asset,
                                          AnimState anim, Matrix4f base,
                                          float headYawDeg, float headPitchDeg,
                                          PartConsumer consumer) {
-        ResolvedAnim resolved = resolveAnim(asset, anim);
+        Scratch scratch = SCRATCH.get();
+        int firstSlot = evaluate(scratch, geometry, asset, anim);
         String headPartId = (headYawDeg != 0f || headPitchDeg != 0f) ? headPartId(geometry) : null;
-        Matrix4f partMatrix = new Matrix4f();
-        Matrix4f restInverse = new Matrix4f();
-        for (SbePart part : geometry.parts()) {
-            computePartMatrix(partMatrix, restInverse, part, resolved, base,
+        List<SbePart> parts = geometry.parts();
+        for (int i = 0; i < parts.size(); i++) {
+            SbePart part = parts.get(i);
+            computePartMatrix(scratch.partMatrix, scratch, part, firstSlot + i, base,
                     headPartId, headYawDeg, headPitchDeg);
-            consumer.accept(partMatrix, part);
+            consumer.accept(scratch.partMatrix, part);
         }
     }
 
@@ -114,11 +131,12 @@ public final class SbePoseSolver {
         if (socket.isModelRoot()) {
             dest.set(base);
         } else {
-            SbePart host = resolveHostPart(geometry, socket);
-            if (host == null) return null;
-            ResolvedAnim resolved = resolveAnim(asset, anim);
+            int host = resolveHostPart(geometry, socket);
+            if (host < 0) return null;
+            Scratch scratch = SCRATCH.get();
+            int firstSlot = evaluate(scratch, geometry, asset, anim);
             String headPartId = (headYawDeg != 0f || headPitchDeg != 0f) ? headPartId(geometry) : null;
-            computePartMatrix(dest, new Matrix4f(), host, resolved, base,
+            computePartMatrix(dest, scratch, geometry.parts().get(host), firstSlot + host, base,
                     headPartId, headYawDeg, headPitchDeg);
         }
 
@@ -133,37 +151,33 @@ public final class SbePoseSolver {
                 .scale(scl);
     }
 
-    /** Host part by id, falling back to name; null when both miss. */
-    private static SbePart resolveHostPart(SbeModelGeometry geometry, SbeAttachmentPoint socket) {
+    /** Index of the host part by id, falling back to name; -1 when both miss. */
+    private static int resolveHostPart(SbeModelGeometry geometry, SbeAttachmentPoint socket) {
+        List<SbePart> parts = geometry.parts();
         if (socket.parentPartId() != null && !socket.parentPartId().isBlank()) {
-            for (SbePart part : geometry.parts()) {
-                if (socket.parentPartId().equals(part.id())) {
-                    return part;
+            for (int i = 0; i < parts.size(); i++) {
+                if (socket.parentPartId().equals(parts.get(i).id())) {
+                    return i;
                 }
             }
         }
         if (socket.parentPartName() != null && !socket.parentPartName().isBlank()) {
-            for (SbePart part : geometry.parts()) {
-                if (socket.parentPartName().equals(part.name())) {
-                    return part;
+            for (int i = 0; i < parts.size(); i++) {
+                if (socket.parentPartName().equals(parts.get(i).name())) {
+                    return i;
                 }
             }
         }
-        return null;
+        return -1;
     }
 
     /**
-     * One part's world matrix into {@code dest}. {@code scratchRestInverse} is
-     * caller-provided scratch so the per-frame loop stays allocation-free.
+     * One part's world matrix into {@code dest}, from its evaluated pose in
+     * slot {@code slot} of the scratch {@link PoseBuffer}.
      */
-    private static void computePartMatrix(Matrix4f dest, Matrix4f scratchRestInverse,
-                                          SbePart part, ResolvedAnim resolved, Matrix4f base,
-                                          String headPartId, float headYawDeg, float headPitchDeg) {
-        ParsedAnimTrack track = resolved.baseTracks().get(part.id());
-        if (track == null) {
-            track = trackByName(resolved.baseClip(), part.name());
-        }
-
+    private static void computePartMatrix(Matrix4f dest, Scratch scratch, SbePart part, int slot,
+                                          Matrix4f base, String headPartId,
+                                          float headYawDeg, float headPitchDeg) {
         // The head part may receive an extra turn about its neck pivot, in the
         // model's local frame (between base and the part transform), so the head
         // can track the cursor while the body faces the movement direction.
@@ -173,81 +187,59 @@ public final class SbePoseSolver {
             Vector3f rp = part.restPos();
             Vector3f ro = part.restOrigin();
             float px = rp.x + ro.x, py = rp.y + ro.y, pz = rp.z + ro.z; // pivot in model space
-            parent = new Matrix4f(base)
+            parent = scratch.headParent.set(base)
                     .translate(px, py, pz)
                     .rotateY((float) Math.toRadians(headYawDeg))
                     .rotateX((float) Math.toRadians(headPitchDeg))
                     .translate(-px, -py, -pz);
         }
 
-        AnimSampler.PartPose pose;
-        if (!resolved.overlays().isEmpty()) {
-            // Rest pose references the part's own vectors — no copies. blendPart
-            // returns this same instance when nothing animates the part.
-            AnimSampler.PartPose restPose = new AnimSampler.PartPose(
-                    part.restPos(), part.restRot(), part.restScale());
-            pose = AnimLayering.blendPart(restPose, track, resolved.baseTime(),
-                    resolved.overlays(), part.id(), part.name());
-            if (pose == restPose && track == null) {
-                pose = null; // nothing touches this part — fast path below
-            }
-        } else {
-            pose = track != null ? AnimSampler.sample(track, resolved.baseTime()) : null;
+        PoseBuffer poses = scratch.poses;
+        if (!poses.animated(slot)) {
+            dest.set(parent); // nothing touches this part — fast path
+            return;
         }
+        Vector3f origin = part.restOrigin();
 
-        if (pose == null) {
-            dest.set(parent);
-        } else {
-            Vector3f origin = part.restOrigin();
-
-            // M_rest^-1
-            partTransform(scratchRestInverse.identity(),
-                    part.restPos(), part.restRot(), part.restScale(), origin)
-                    .invert();
-            // parent * M_anim * M_rest^-1
-            partTransform(dest.set(parent),
-                    pose.position(), pose.rotationDeg(), pose.scale(), origin)
-                    .mul(scratchRestInverse);
-        }
+        // M_rest^-1
+        Matrix4f restInverse = partTransform(scratch.restInverse.identity(),
+                part.restPos(), part.restRot(), part.restScale(), origin)
+                .invert();
+        // parent * M_anim * M_rest^-1
+        dest.set(parent)
+                .translate(poses.positionX(slot), poses.positionY(slot), poses.positionZ(slot))
+                .translate(origin)
+                .rotateXYZ((float) Math.toRadians(poses.rotationX(slot)),
+                        (float) Math.toRadians(poses.rotationY(slot)),
+                        (float) Math.toRadians(poses.rotationZ(slot)))
+                .scale(poses.scaleX(slot), poses.scaleY(slot), poses.scaleZ(slot))
+                .translate(-origin.x, -origin.y, -origin.z)
+                .mul(restInverse);
     }
 
     /**
-     * A render-ready animation frame: the base clip with its wrapped time and
-     * track lookup, plus the active overlay frames (clip + wrapped time +
-     * effective weight) for {@link AnimLayering}.
-     */
-    private record ResolvedAnim(ParsedAnimClip baseClip, float baseTime,
-                                Map<String, ParsedAnimTrack> baseTracks,
-                                List<AnimLayering.OverlayFrame> overlays) {}
-
-    /**
-     * Resolve an {@link AnimState} against the asset's clips. Overlay weights
-     * combine the caller's envelope with the clip's own fade-in/out
-     * ({@link AnimLayering#clipWeight}); zero-weight or unknown overlays are
-     * dropped so the per-part loop stays on its fast path.
+     * Evaluate an {@link AnimState} against the asset's baked clips into the
+     * scratch pose buffer, returning the geometry's first slot. Overlay
+     * weights combine the caller's envelope with the clip's own fade-in/out
+     * ({@link AnimLayering#clipWeight}); zero-weight or unknown overlays drop
+     * out, and parts nothing animates come back un-animated.
      */
-    private static ResolvedAnim resolveAnim(SbeEntityAsset asset, AnimState anim) {
-        ParsedAnimClip baseClip = anim != null ? asset.clipFor(anim.baseState()) : null;
-        float baseTime = 0f;
-        Map<String, ParsedAnimTrack> baseTracks = Collections.emptyMap();
-        if (baseClip != null) {
-            baseTime = AnimSampler.wrapTime(anim.baseTime(), baseClip.duration(), baseClip.loop());
-            baseTracks = baseClip.trackByPartId();
-        }
-
-        List<AnimLayering.OverlayFrame> overlays = List.of();
+    private static int evaluate(Scratch scratch, SbeModelGeometry geometry,
+                                SbeEntityAsset asset, AnimState anim) {
+        AnimBatch batch = scratch.batch;
+        batch.clear();
+        BakedAnimClip baseClip = anim != null ? asset.bakedClipFor(anim.baseState()) : null;
+        int entity = batch.addEntity(geometry.rig(), baseClip, anim != null ? anim.baseTime() : 0f);
         if (anim != null && anim.hasOverlays()) {
-            overlays = new ArrayList<>(anim.overlays().size());
-            for (AnimState.Overlay overlay : anim.overlays()) {
-                ParsedAnimClip clip = asset.clipFor(overlay.stateName());
-                if (clip == null) continue;
-                float weight = overlay.weight() * AnimLayering.clipWeight(clip, overlay.time());
-                if (weight <= 0f) continue;
-                float wrapped = AnimSampler.wrapTime(overlay.time(), clip.duration(), clip.loop());
-                overlays.add(new AnimLayering.OverlayFrame(clip, wrapped, weight));
+            List<AnimState.Overlay> overlays = anim.overlays();
+            for (int i = 0; i < overlays.size(); i++) {
+                AnimState.Overlay overlay = overlays.get(i);
+                batch.addOverlay(asset.bakedClipFor(overlay.stateName()),
+                        overlay.time(), overlay.weight());
             }
         }
-        return new ResolvedAnim(baseClip, baseTime, baseTracks, overlays);
+        batch.evaluate(scratch.poses);
+        return batch.firstSlot(entity);
     }
 
     /** One-time diagnostic guard so the head-part lookup logs at most once. */
@@ -295,15 +287,4 @@ public final class SbePoseSolver {
                 .scale(scale)
                 .translate(-origin.x, -origin.y, -origin.z);
     }
-
-    /** Fallback track lookup by part name when the part UUID does not match. */
-    private static ParsedAnimTrack trackByName(ParsedAnimClip clip, String partName) {
-        if (clip == null || partName == null) return null;
-        for (ParsedAnimTrack track : clip.tracks()) {
-            if (partName.equals(track.partName())) {
-                return track;
-            }
-        }
-        return null;
-    }
 }
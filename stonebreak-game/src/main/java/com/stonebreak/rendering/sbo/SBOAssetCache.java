@@ -0,0 +1,55 @@
+package com.stonebreak.rendering.sbo;
+
+import com.openmason.engine.format.sbo.SBOBakedCache;
+import com.openmason.engine.format.sbo.SBOBatchLoader;
+import com.stonebreak.world.save.WorldStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Startup loading for the SBO registries: parses a folder's files on a pool
+ * and reuses the baked copies in {@link WorldStorage#assetCacheRoot()} for
+ * files whose content hash is unchanged (see {@link SBOBakedCache}).
+ *
+ * <p>{@code -Dstonebreak.assetCache=off} bypasses the bake (always parse);
+ * {@code -Dstonebreak.assetThreads} overrides the pool size.
+ */
+public final class SBOAssetCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SBOAssetCache.class);
+
+    private SBOAssetCache() {
+    }
+
+    /**
+     * Loads {@code sources} in order, backed by the bake named {@code cacheName}
+     * (e.g. {@code "blocks"}), and logs how long it took and how much came from the bake.
+     */
+    public static List<SBOBatchLoader.Loaded> load(String cacheName, List<Path> sources) {
+        long start = System.nanoTime();
+        boolean enabled = !"off".equalsIgnoreCase(System.getProperty("stonebreak.assetCache", "on"));
+        int threads = threads();
+
+        SBOBakedCache cache = enabled
+                ? SBOBakedCache.open(WorldStorage.assetCacheRoot().resolve(cacheName + ".sbobake"))
+                : null;
+        List<SBOBatchLoader.Loaded> loaded = SBOBatchLoader.loadAll(sources, cache, threads);
+        if (cache != null) {
+            cache.save();
+        }
+
+        logger.info("SBO {}: {} files in {} ms on {} threads ({} from bake)",
+                cacheName, sources.size(), (System.nanoTime() - start) / 1_000_000, threads,
+                cache != null ? cache.hits() : 0);
+        return loaded;
+    }
+
+    /** Startup loader pool size: {@code -Dstonebreak.assetThreads}, else one per core. */
+    public static int threads() {
+        return Math.max(1, Integer.getInteger("stonebreak.assetThreads",
+                Runtime.getRuntime().availableProcessors()));
+    }
+}
@@ -1,7 +1,7 @@
 package com.stonebreak.rendering.sbo;
 
+import com.openmason.engine.format.sbo.SBOBatchLoader;
 import com.openmason.engine.format.sbo.SBOParseResult;
-import com.openmason.engine.format.sbo.SBOParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,8 +15,9 @@ import java.util.stream.Stream;
 
 /**
  * Registry for SBO-based block definitions.
- * Scans a resource folder for .sbo files, parses them, and stores results
- * indexed by object ID.
+ * Scans a resource folder for .sbo files, parses them (in parallel, reusing
+ * unchanged files from the baked cache — see {@link SBOAssetCache}), and
+ * stores results indexed by object ID.
  *
  * <p>SBO files are treated like lego bricks — drop them into the
  * {@code sbo/blocks/} resource folder and they're automatically loaded.
@@ -27,7 +28,6 @@ public class SBOBlockRegistry {
     private static final String SBO_RESOURCE_PATH = "sbo/blocks";
 
     private final Map<String, SBOParseResult> registryById = new LinkedHashMap<>();
-    private final SBOParser parser = new SBOParser();
 
     /**
      * Scan the SBO blocks resource folder and parse all .sbo files found.
@@ -41,16 +41,16 @@ public class SBOBlockRegistry {
 
         // Try classpath scanning first
         List<Path> sboPaths = discoverSBOFiles();
-        for (Path sboPath : sboPaths) {
-            try {
-                SBOParseResult result = parser.parse(sboPath);
-                String objectId = result.getObjectId();
-                registryById.put(objectId, result);
-                loaded++;
-                logger.info("Loaded SBO block: {} ({})", result.getObjectName(), objectId);
-            } catch (IOException e) {
-                logger.error("Failed to parse SBO file: {}", sboPath, e);
+        for (SBOBatchLoader.Loaded entry : SBOAssetCache.load("blocks", sboPaths)) {
+            if (entry.error() != null) {
+                logger.error("Failed to parse SBO file: {}", entry.source(), entry.error());
+                continue;
             }
+            SBOParseResult result = entry.result();
+            String objectId = result.getObjectId();
+            registryById.put(objectId, result);
+            loaded++;
+            logger.info("Loaded SBO block: {} ({})", result.getObjectName(), objectId);
         }
 
         logger.info("SBO block registry: loaded {} blocks from {}", loaded, SBO_RESOURCE_PATH);
@@ -1,6 +1,7 @@
 package com.stonebreak.ui.debug;
 
 import com.stonebreak.blocks.BlockType;
+import com.stonebreak.blocks.waterSystem.WaterSim;
 import com.stonebreak.core.Game;
 import com.stonebreak.network.MultiplayerSession;
 import com.stonebreak.network.server.IntegratedServer;
@@ -30,6 +31,10 @@ public final class DebugDiagnostics {
     private final long[] pipelineLast = new long[6];
     private final double[] pipelineRates = new double[6];
 
+    // Chunk latency line, rebuilt every ~500 ms (snapshots copy every histogram bucket).
+    private long latencySampleNanos = 0L;
+    private String latencySummary;
+
     /**
      * Updates the average FPS calculation with the current frame's FPS.
      */
@@ -119,8 +124,10 @@ public final class DebugDiagnostics {
                     case com.stonebreak.world.chunk.ChunkWaterLayer.FALLING -> "Falling";
                     default -> "Flowing " + value;
                 };
-                String queued = (world.getWaterSim() != null)
-                        ? String.format(" (%d queued)", world.getWaterSim().getQueuedUpdateCount())
+                WaterSim sim = world.getWaterSim();
+                String queued = (sim != null)
+                        ? String.format(" (%d queued%s)", sim.getQueuedUpdateCount(),
+                                sim.isParallel() ? ", " + sim.parallelThreads() + " threads" : "")
                         : "";
                 return String.format("Water %s%s ~ (%d,%d,%d)", type, queued, bx, by, bz);
             }
@@ -159,6 +166,37 @@ public final class DebugDiagnostics {
             pipelineRates[3], pipelineRates[4], pipelineRates[5]);
     }
 
+    /**
+     * Chunk pipeline tail latency since start-up: request-to-first-upload p50/p99
+     * and each stage's p99, from {@code ChunkLatency}. Null until any chunk has
+     * been timed.
+     */
+    public String chunkLatencySummary() {
+        long now = System.nanoTime();
+        if (latencySampleNanos != 0L && now - latencySampleNanos < 500_000_000L) {
+            return latencySummary;
+        }
+        latencySampleNanos = now;
+        StringBuilder sb = new StringBuilder();
+        var e2e = com.stonebreak.world.chunk.utils.ChunkLatency.histogram(
+            com.stonebreak.world.chunk.utils.ChunkLatency.Stage.END_TO_END).snapshot();
+        if (e2e.count() > 0) {
+            sb.append(String.format("e2e %.0f/%.0f ms (max %.0f) |",
+                e2e.percentileNanos(50) / 1e6, e2e.percentileNanos(99) / 1e6, e2e.maxNanos() / 1e6));
+        }
+        sb.append(" p99");
+        boolean any = false;
+        for (var stage : com.stonebreak.world.chunk.utils.ChunkLatency.Stage.values()) {
+            if (stage == com.stonebreak.world.chunk.utils.ChunkLatency.Stage.END_TO_END) continue;
+            var s = com.stonebreak.world.chunk.utils.ChunkLatency.histogram(stage).snapshot();
+            if (s.count() == 0) continue;
+            any = true;
+            sb.append(String.format(" %s %.1f", stage.shortName(), s.percentileNanos(99) / 1e6));
+        }
+        latencySummary = any ? sb.append(" ms").toString().trim() : null;
+        return latencySummary;
+    }
+
     /** One-line world-gen noise backend status: Cenda native kernels vs classic Java. */
     public static String noiseBackendSummary() {
         if (com.stonebreak.world.generation.noise.TerrainNoise.backend()
@@ -185,9 +223,10 @@ public final class DebugDiagnostics {
             return "off";
         }
         var stats = service.stats();
-        return String.format("%d searching / %d done @ %d µs / %d partial / %d rejected",
+        return String.format("%d searching / %d done @ %d µs / %d partial / %d rejected / %d hpa (%d sections) / %d fields",
                 stats.inFlight(), stats.completed(), stats.averageMicros(),
-                stats.partial(), stats.rejected());
+                stats.partial(), stats.rejected(), stats.hierarchical(), stats.portalSections(),
+                stats.flowFields());
     }
 
     /** The world whose pathfinder the mobs actually use; falls back to the rendered one. */
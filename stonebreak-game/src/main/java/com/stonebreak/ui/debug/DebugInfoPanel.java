@@ -99,6 +99,37 @@ public final class DebugInfoPanel implements DebugPanel {
         panel.row("Pending Mesh", String.valueOf(world.getPendingMeshBuildCount()));
         panel.row("Pending GL", String.valueOf(world.getPendingGLUploadCount()));
         panel.row("Chunk Flow", diagnostics.chunkPipelineSummary());
+        String chunkLatency = diagnostics.chunkLatencySummary();
+        if (chunkLatency != null) {
+            panel.row("Chunk Latency", chunkLatency);
+        }
+        long cacheHits = com.stonebreak.world.chunk.utils.ChunkPipelineStats.PAYLOAD_CACHE_HITS.sum();
+        long cacheLookups = cacheHits + com.stonebreak.world.chunk.utils.ChunkPipelineStats.PAYLOAD_CACHE_MISSES.sum();
+        if (cacheLookups > 0) {
+            panel.row("Chunk Cache", String.format("%.0f%% hits (%.1f MB encode saved)",
+                100.0 * cacheHits / cacheLookups,
+                com.stonebreak.world.chunk.utils.ChunkPipelineStats.PAYLOAD_BYTES_SAVED.sum() / (1024.0 * 1024.0)));
+        }
+        long diskConfirmed = com.stonebreak.world.chunk.utils.ChunkPipelineStats.CACHE_CONFIRMED.sum();
+        long diskInstalled = com.stonebreak.world.chunk.utils.ChunkPipelineStats.CACHE_INSTALLED.sum();
+        if (diskConfirmed + diskInstalled > 0) {
+            panel.row("Disk Cache", String.format("%d confirmed / %d installed from disk",
+                diskConfirmed, diskInstalled));
+        }
+        long sectionsRepaired = com.stonebreak.world.chunk.utils.ChunkPipelineStats.SECTIONS_REPAIRED.sum();
+        if (sectionsRepaired > 0) {
+            panel.row("Audit Repairs", sectionsRepaired + " sections");
+        }
+        long coldChunks = com.stonebreak.world.chunk.utils.ChunkPipelineStats.COLD_CHUNKS.sum();
+        long promotions = com.openmason.engine.voxel.cco.data.palette.CcoSectionPacking.promotions();
+        if (coldChunks > 0 || promotions > 0) {
+            panel.row("Cold Tier", String.format("%d chunks (%.1f MB packed) / %d inflates, %.0f us avg, %.0f us max",
+                coldChunks,
+                com.stonebreak.world.chunk.utils.ChunkPipelineStats.COLD_BYTES.sum() / (1024.0 * 1024.0),
+                promotions,
+                promotions > 0 ? com.openmason.engine.voxel.cco.data.palette.CcoSectionPacking.promotionNanos() / 1000.0 / promotions : 0.0,
+                com.openmason.engine.voxel.cco.data.palette.CcoSectionPacking.maxPromotionNanos() / 1000.0));
+        }
         if (com.stonebreak.rendering.gameWorld.regions.ChunkRegionRenderer.isEnabled()) {
             var regions = com.stonebreak.rendering.gameWorld.regions.ChunkRegionRenderer.getInstance();
             panel.row("Chunk Draws", String.format("%d cmds / %d region draws / %d legacy",
@@ -109,6 +140,12 @@ public final class DebugInfoPanel implements DebugPanel {
                     regions.publishedGpuCommands(), regions.publishedGpuRegionDraws(),
                     regions.publishedGpuPreCulledRegions()));
             }
+            var occlusion = com.stonebreak.rendering.gameWorld.occlusion.SectionOcclusionCuller.active();
+            if (occlusion != null
+                    && com.stonebreak.rendering.gameWorld.occlusion.SectionOcclusionCuller.isEnabled()) {
+                panel.row("Occlusion", String.format("%d chunks culled / %d sections walked",
+                    occlusion.culledChunks(), occlusion.visitedSections()));
+            }
             var lodBatcher = com.stonebreak.rendering.gameWorld.fastlod.FastLodRegionBatcher.active();
             if (lodBatcher != null) {
                 panel.row("LOD Draws", String.format("%d cmds / %d region draws",
@@ -116,6 +153,9 @@ public final class DebugInfoPanel implements DebugPanel {
             }
         }
         panel.row("Nav", DebugDiagnostics.navigationSummary(world));
+        if (com.stonebreak.mobs.entities.EntityTickStats.tickCount() > 0) {
+            panel.row("Entity Tick", com.stonebreak.mobs.entities.EntityTickStats.summary());
+        }
         com.stonebreak.world.TimeOfDay clock = Game.getTimeOfDay();
         if (clock != null) {
             panel.row("Time", clock.getTimeString());
@@ -12,6 +12,9 @@ import com.stonebreak.player.Camera;
 import com.stonebreak.world.World;
 import org.joml.Vector3f;
 
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Utility class for creating and managing item and block drops in the world.
  * Handles the creation of drop entities when blocks are broken or items are dropped.
@@ -79,22 +82,30 @@ public class DropUtil {
      * Used when items are dropped from inventory or other sources.
      */
     public static void createItemDrop(World world, Vector3f position, ItemStack itemStack) {
+        createItemDrop(world, position, itemStack, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Creates an item drop whose scatter comes from {@code random} — a mob's own generator when
+     * it drops loot from inside its tick, so the drop does not depend on which thread ran it.
+     */
+    public static void createItemDrop(World world, Vector3f position, ItemStack itemStack, Random random) {
         if (itemStack == null || itemStack.isEmpty() || world == null) {
             return;
         }
         
         // Add some randomness to the drop position
         Vector3f dropPosition = new Vector3f(
-            position.x + (float)(Math.random() - 0.5) * DROP_SPREAD_RADIUS,
+            position.x + (random.nextFloat() - 0.5f) * DROP_SPREAD_RADIUS,
             position.y + DROP_HEIGHT_OFFSET,
-            position.z + (float)(Math.random() - 0.5) * DROP_SPREAD_RADIUS
+            position.z + (random.nextFloat() - 0.5f) * DROP_SPREAD_RADIUS
         );
         
         // Create random initial velocity
         Vector3f initialVelocity = new Vector3f(
-            (float)(Math.random() - 0.5) * DROP_VELOCITY_MAX,
-            DROP_VELOCITY_MIN + (float)Math.random() * (DROP_VELOCITY_MAX - DROP_VELOCITY_MIN),
-            (float)(Math.random() - 0.5) * DROP_VELOCITY_MAX
+            (random.nextFloat() - 0.5f) * DROP_VELOCITY_MAX,
+            DROP_VELOCITY_MIN + random.nextFloat() * (DROP_VELOCITY_MAX - DROP_VELOCITY_MIN),
+            (random.nextFloat() - 0.5f) * DROP_VELOCITY_MAX
         );
         
         ItemDrop drop = ItemDrop.createDropWithVelocity(world, dropPosition, itemStack, initialVelocity);
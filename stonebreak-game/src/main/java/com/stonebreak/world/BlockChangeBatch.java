@@ -0,0 +1,57 @@
+package com.stonebreak.world;
+
+import com.stonebreak.blocks.BlockType;
+
+/**
+ * Block edits made through {@link World#setBlockAt} on a thread that has deferred the world's
+ * change hooks ({@link World#deferBlockChangeHooks}). The blocks themselves are already written;
+ * what waits here is the notification. Water flow, leaf decay, animated blocks and pathfinding
+ * all keep tick-thread-only state, so a feature-decoration worker records its edits and the tick
+ * hands them over with {@link World#replayBlockChangeHooks} once the job is drained.
+ *
+ * <p>Owned by one job at a time: written by the worker, read by the tick after the hand-off.
+ */
+public final class BlockChangeBatch {
+
+    private int[] positions = new int[3 * 16];
+    private BlockType[] types = new BlockType[2 * 16];
+    private int size;
+
+    void record(int x, int y, int z, BlockType previous, BlockType next) {
+        if (size * 2 == types.length) {
+            positions = java.util.Arrays.copyOf(positions, positions.length * 2);
+            types = java.util.Arrays.copyOf(types, types.length * 2);
+        }
+        positions[size * 3] = x;
+        positions[size * 3 + 1] = y;
+        positions[size * 3 + 2] = z;
+        types[size * 2] = previous;
+        types[size * 2 + 1] = next;
+        size++;
+    }
+
+    /** Edits recorded so far. */
+    public int size() {
+        return size;
+    }
+
+    int x(int i) {
+        return positions[i * 3];
+    }
+
+    int y(int i) {
+        return positions[i * 3 + 1];
+    }
+
+    int z(int i) {
+        return positions[i * 3 + 2];
+    }
+
+    BlockType previous(int i) {
+        return types[i * 2];
+    }
+
+    BlockType next(int i) {
+        return types[i * 2 + 1];
+    }
+}
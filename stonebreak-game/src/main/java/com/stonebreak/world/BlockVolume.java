@@ -0,0 +1,70 @@
+package com.stonebreak.world;
+
+import com.stonebreak.blocks.BlockType;
+
+/**
+ * A box of block ids read from a {@link World} in one pass
+ * ({@link World#readBlockIds}) and then queried by world coordinates. Entity
+ * code that inspects every cell of a collision box, or scans a column for
+ * ground, reads the box once instead of calling {@link World#getBlockAt} per
+ * cell — each of which is a chunk-map lookup, a section lookup and a palette
+ * decode.
+ *
+ * <p>Reusable: {@link #read} grows the buffer when a box needs more room and
+ * never shrinks it, so an owner that keeps one (per thread, if it is shared)
+ * reads every tick without allocating. Not thread-safe.
+ */
+public final class BlockVolume {
+
+    private short[] ids = new short[64];
+    private int minX;
+    private int minY;
+    private int minZ;
+    private int sizeX;
+    private int sizeY;
+    private int sizeZ;
+
+    /**
+     * Reads the inclusive box {@code [minX..maxX] × [minY..maxY] × [minZ..maxZ]}
+     * from the world, replacing what this volume held.
+     *
+     * @return this volume
+     */
+    public BlockVolume read(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.sizeX = Math.max(0, maxX - minX + 1);
+        this.sizeY = Math.max(0, maxY - minY + 1);
+        this.sizeZ = Math.max(0, maxZ - minZ + 1);
+        int volume = sizeX * sizeY * sizeZ;
+        if (ids.length < volume) {
+            ids = new short[Math.max(volume, ids.length * 2)];
+        }
+        world.readBlockIds(minX, minY, minZ, sizeX, sizeY, sizeZ, ids);
+        return this;
+    }
+
+    /** Reads the single column {@code x, z} from {@code minY} to {@code maxY} inclusive. */
+    public BlockVolume readColumn(World world, int x, int z, int minY, int maxY) {
+        return read(world, x, minY, z, x, maxY, z);
+    }
+
+    /** Whether the block lies inside the last box read. */
+    public boolean contains(int x, int y, int z) {
+        return x >= minX && x < minX + sizeX
+            && y >= minY && y < minY + sizeY
+            && z >= minZ && z < minZ + sizeZ;
+    }
+
+    /** Block id at a world position inside the last box read. */
+    public int id(int x, int y, int z) {
+        return ids[((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX)];
+    }
+
+    /** Block at a world position inside the last box read; unknown ids read as air. */
+    public BlockType block(int x, int y, int z) {
+        BlockType type = BlockType.getById(id(x, y, z));
+        return type != null ? type : BlockType.AIR;
+    }
+}
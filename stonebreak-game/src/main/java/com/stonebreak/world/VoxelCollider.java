@@ -0,0 +1,264 @@
+package com.stonebreak.world;
+
+import com.openmason.engine.voxel.IBlockType;
+import com.openmason.engine.voxel.cco.data.CcoBlockStorage;
+import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
+import com.openmason.engine.voxel.cco.data.palette.CcoSectionIndexing;
+import com.stonebreak.blocks.BlockShape;
+import com.stonebreak.world.chunk.Chunk;
+import com.stonebreak.world.operations.WorldConfiguration;
+
+import java.util.Arrays;
+
+/**
+ * The cells of a box that something can collide with, read from the
+ * per-section collision masks ({@link CcoPalettedChunkStorage#collisionMasks})
+ * rather than block by block. A row of up to a chunk's width is one or two
+ * mask words: a shift, an AND, and a loop over the set bits, so air and
+ * passable blocks cost nothing and a solid cube is known to fill its cell
+ * without looking the block up. Only shaped cells (snow layers, stairs, doors)
+ * are left for the caller to measure, with whatever height rule it already
+ * applies ({@link BlockShape}, plus any caller policy such as the player's
+ * door panels).
+ *
+ * <p>{@link #collect} lists the colliding cells in Y, then Z, then X order —
+ * the order the per-axis resolvers always walked them in, which matters to
+ * rules that look at the foot row before the rows above it. Everything here
+ * is plain integer and float arithmetic in a fixed order, so a server and a
+ * client stepping the same body through the same blocks get the same result.
+ *
+ * <p>Reusable and allocation-free once its buffers have grown; not
+ * thread-safe, so an owner shared between threads keeps one per thread.
+ */
+public final class VoxelCollider {
+
+    /** Tolerance for resting contact: faces this close count as touching, not overlapping. */
+    public static final float CONTACT_EPSILON = 1.0e-4f;
+
+    public static final int AXIS_X = 0;
+    public static final int AXIS_Y = 1;
+    public static final int AXIS_Z = 2;
+
+    private static final int CHUNK_SIZE = WorldConfiguration.CHUNK_SIZE;
+
+    private int[] xs = new int[32];
+    private int[] ys = new int[32];
+    private int[] zs = new int[32];
+    private boolean[] shaped = new boolean[32];
+    private int count;
+    private Chunk[] chunks = new Chunk[4];
+
+    /**
+     * Collects the colliding cells of the inclusive box
+     * {@code [minX..maxX] × [minY..maxY] × [minZ..maxZ]}, replacing what this
+     * collider held. Cells outside the world's height and in unloaded chunks
+     * are empty.
+     *
+     * @return the number of cells collected
+     */
+    public int collect(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        count = 0;
+        int yLo = Math.max(minY, 0);
+        int yHi = Math.min(maxY, WorldConfiguration.WORLD_HEIGHT - 1);
+        if (yLo > yHi || minX > maxX || minZ > maxZ) {
+            return 0;
+        }
+        int chunkX0 = Math.floorDiv(minX, CHUNK_SIZE);
+        int chunkZ0 = Math.floorDiv(minZ, CHUNK_SIZE);
+        int chunksX = Math.floorDiv(maxX, CHUNK_SIZE) - chunkX0 + 1;
+        int chunksZ = Math.floorDiv(maxZ, CHUNK_SIZE) - chunkZ0 + 1;
+        if (chunks.length < chunksX * chunksZ) {
+            chunks = new Chunk[chunksX * chunksZ];
+        }
+        for (int i = 0; i < chunksX; i++) {
+            for (int k = 0; k < chunksZ; k++) {
+                chunks[i * chunksZ + k] = world.getChunkIfLoaded(chunkX0 + i, chunkZ0 + k);
+            }
+        }
+
+        for (int y = yLo; y <= yHi; y++) {
+            int section = CcoSectionIndexing.sectionIndex(y);
+            for (int z = minZ; z <= maxZ; z++) {
+                int chunkZ = Math.floorDiv(z, CHUNK_SIZE);
+                int localZ = z - chunkZ * CHUNK_SIZE;
+                for (int i = 0; i < chunksX; i++) {
+                    Chunk chunk = chunks[i * chunksZ + (chunkZ - chunkZ0)];
+                    if (chunk == null) {
+                        continue;
+                    }
+                    int baseX = (chunkX0 + i) * CHUNK_SIZE;
+                    int x0 = Math.max(minX, baseX) - baseX;
+                    int x1 = Math.min(maxX, baseX + CHUNK_SIZE - 1) - baseX;
+                    collectRow(chunk.getBlockStorageView(), section, baseX, x0, x1, y, z, localZ);
+                }
+            }
+        }
+        Arrays.fill(chunks, 0, chunksX * chunksZ, null);
+        return count;
+    }
+
+    /** Local cells {@code x0..x1} of one row of a chunk. */
+    private void collectRow(CcoBlockStorage storage, int section, int baseX, int x0, int x1,
+                            int y, int z, int localZ) {
+        int width = x1 - x0 + 1;
+        if (!(storage instanceof CcoPalettedChunkStorage paletted)) {
+            for (int x = x0; x <= x1; x++) {
+                IBlockType block = storage.get(x, y, localZ);
+                if (block == null) {
+                    continue;
+                }
+                if (block.hasShapedCollision()) {
+                    add(baseX + x, y, z, true);
+                } else if (block.isSolid()) {
+                    add(baseX + x, y, z, false);
+                }
+            }
+            return;
+        }
+        long[] masks = paletted.collisionMasks(section);
+        int words = masks.length >>> 1;
+        int first = CcoSectionIndexing.cellIndex(x0, y, localZ, paletted.getSizeX(), paletted.getSizeZ());
+        long full = rowBits(masks, 0, first, width);
+        long shapedBits = rowBits(masks, words, first, width);
+        long any = full | shapedBits;
+        while (any != 0) {
+            int bit = Long.numberOfTrailingZeros(any);
+            add(baseX + x0 + bit, y, z, (shapedBits >>> bit & 1L) != 0);
+            any &= any - 1;
+        }
+    }
+
+    /** {@code width} (at most 64) consecutive bits from cell {@code first} of the bitset at word {@code base}. */
+    private static long rowBits(long[] masks, int base, int first, int width) {
+        int word = first >>> 6;
+        int shift = first & 63;
+        long bits = masks[base + word] >>> shift;
+        if (shift + width > 64) {
+            bits |= masks[base + word + 1] << (64 - shift);
+        }
+        return width == 64 ? bits : bits & ((1L << width) - 1);
+    }
+
+    private void add(int x, int y, int z, boolean isShaped) {
+        if (count == xs.length) {
+            int grown = count * 2;
+            xs = Arrays.copyOf(xs, grown);
+            ys = Arrays.copyOf(ys, grown);
+            zs = Arrays.copyOf(zs, grown);
+            shaped = Arrays.copyOf(shaped, grown);
+        }
+        xs[count] = x;
+        ys[count] = y;
+        zs[count] = z;
+        shaped[count] = isShaped;
+        count++;
+    }
+
+    /** Number of cells the last {@link #collect} found. */
+    public int count() {
+        return count;
+    }
+
+    public int x(int i) {
+        return xs[i];
+    }
+
+    public int y(int i) {
+        return ys[i];
+    }
+
+    public int z(int i) {
+        return zs[i];
+    }
+
+    /**
+     * Whether cell {@code i} holds a shaped collider, whose height the caller
+     * measures; otherwise the block fills the whole cell.
+     */
+    public boolean shaped(int i) {
+        return shaped[i];
+    }
+
+    /**
+     * How far the box can move along {@code axis}, up to {@code delta}, before
+     * a face of a colliding cell stops it. Shaped cells collide as a box from
+     * their floor up to {@link BlockShape#collisionHeight} under the box's
+     * footprint. Cells the box already overlaps are ignored, so a body that
+     * ends up inside a block can still move out of it.
+     *
+     * @return the allowed displacement: {@code delta}, or less in magnitude, never past zero
+     */
+    public float sweep(World world, int axis, float minX, float minY, float minZ,
+                       float maxX, float maxY, float maxZ, float delta) {
+        if (delta == 0.0f) {
+            return 0.0f;
+        }
+        float lo0 = minX;
+        float lo1 = minY;
+        float lo2 = minZ;
+        float hi0 = maxX;
+        float hi1 = maxY;
+        float hi2 = maxZ;
+        switch (axis) {
+            case AXIS_X -> { if (delta > 0) hi0 += delta; else lo0 += delta; }
+            case AXIS_Y -> { if (delta > 0) hi1 += delta; else lo1 += delta; }
+            case AXIS_Z -> { if (delta > 0) hi2 += delta; else lo2 += delta; }
+            default -> throw new IllegalArgumentException("axis " + axis);
+        }
+        collect(world,
+            (int) Math.floor(lo0 + (axis == AXIS_X ? 0 : CONTACT_EPSILON)),
+            (int) Math.floor(lo1 + (axis == AXIS_Y ? 0 : CONTACT_EPSILON)),
+            (int) Math.floor(lo2 + (axis == AXIS_Z ? 0 : CONTACT_EPSILON)),
+            (int) Math.floor(hi0 - (axis == AXIS_X ? 0 : CONTACT_EPSILON)),
+            (int) Math.floor(hi1 - (axis == AXIS_Y ? 0 : CONTACT_EPSILON)),
+            (int) Math.floor(hi2 - (axis == AXIS_Z ? 0 : CONTACT_EPSILON)));
+
+        float allowed = delta;
+        for (int i = 0; i < count; i++) {
+            float cellMinX = xs[i];
+            float cellMinY = ys[i];
+            float cellMinZ = zs[i];
+            float cellMaxY = cellMinY + (shaped[i]
+                ? BlockShape.collisionHeight(world, xs[i], ys[i], zs[i], minX, minZ, maxX, maxZ)
+                : 1.0f);
+            if (cellMaxY <= cellMinY) {
+                continue;
+            }
+            float cellMaxX = cellMinX + 1.0f;
+            float cellMaxZ = cellMinZ + 1.0f;
+            switch (axis) {
+                case AXIS_X -> {
+                    if (overlaps(cellMinY, cellMaxY, minY, maxY) && overlaps(cellMinZ, cellMaxZ, minZ, maxZ)) {
+                        allowed = clip(allowed, cellMinX, cellMaxX, minX, maxX);
+                    }
+                }
+                case AXIS_Y -> {
+                    if (overlaps(cellMinX, cellMaxX, minX, maxX) && overlaps(cellMinZ, cellMaxZ, minZ, maxZ)) {
+                        allowed = clip(allowed, cellMinY, cellMaxY, minY, maxY);
+                    }
+                }
+                default -> {
+                    if (overlaps(cellMinX, cellMaxX, minX, maxX) && overlaps(cellMinY, cellMaxY, minY, maxY)) {
+                        allowed = clip(allowed, cellMinZ, cellMaxZ, minZ, maxZ);
+                    }
+                }
+            }
+        }
+        return allowed;
+    }
+
+    private static boolean overlaps(float cellMin, float cellMax, float boxMin, float boxMax) {
+        return cellMax > boxMin + CONTACT_EPSILON && cellMin < boxMax - CONTACT_EPSILON;
+    }
+
+    /** Shortens {@code delta} to stop at the cell's near face, if the cell lies ahead of the box. */
+    private static float clip(float delta, float cellMin, float cellMax, float boxMin, float boxMax) {
+        if (delta > 0 && cellMin >= boxMax - CONTACT_EPSILON) {
+            return Math.max(0.0f, Math.min(delta, cellMin - boxMax));
+        }
+        if (delta < 0 && cellMax <= boxMin + CONTACT_EPSILON) {
+            return Math.min(0.0f, Math.max(delta, cellMax - boxMin));
+        }
+        return delta;
+    }
+}
@@ -1,5 +1,6 @@
 package com.stonebreak.world;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.Collection;
@@ -23,6 +24,7 @@ import com.stonebreak.world.generation.biomes.BiomeType;
 import com.stonebreak.world.fastlod.FastLodManager;
 import com.stonebreak.world.leaves.LeafDecaySystem;
 import com.stonebreak.world.leaves.WorldLeafWorld;
+import com.stonebreak.world.lighting.WorldBlockLight;
 import com.stonebreak.world.operations.WorldConfiguration;
 
 
@@ -48,6 +50,9 @@ public class World {
     /** Set once {@link #cleanup()} has run, so a late caller cannot resurrect a torn-down world's service. */
     private volatile boolean cleanedUp;
 
+    /** Per-thread sink for {@link #setBlockAt} hooks while a worker defers them; see {@link #deferBlockChangeHooks}. */
+    private final ThreadLocal<BlockChangeBatch> deferredBlockChanges = new ThreadLocal<>();
+
 
     // World spawn position
     private Vector3f spawnPosition = new Vector3f(0, 100, 0);
@@ -56,6 +61,8 @@ public class World {
     private final WorldChunkStore chunkStore;
     private final CcoNeighborCoordinator neighborCoordinator;
     private final MmsMeshPipeline meshPipeline;
+    /** Emissive block light; rendered worlds only (null on headless/test worlds). */
+    private final WorldBlockLight blockLight;
     private final ChunkErrorReporter errorReporter;
     private final WaterSim waterSim;
     private final LeafDecaySystem leafDecay;
@@ -247,6 +254,9 @@ public class World {
         }
 
         this.meshScheduler = new ChunkMeshScheduler(meshPipeline, neighborCoordinator, chunkStore);
+        this.blockLight = meshPipeline != null
+                ? new WorldBlockLight(this, meshScheduler::scheduleRebuild)
+                : null;
         this.fastLod = new FastLodLifecycle(config, terrainSystem);
         this.networkChunkInstaller = new NetworkChunkInstaller(
                 chunkStore, snowLayerManager, furnaceRegistry, animatedBlockRegistry, meshScheduler);
@@ -274,12 +284,19 @@ public class World {
                 furnaceRegistry.onChunkLoaded(chunk);
             }
             animatedBlockRegistry.onChunkLoaded(chunk);
+            if (blockLight != null) {
+                blockLight.onChunkLoaded(chunk);
+            }
             meshScheduler.onChunkLoaded(chunk.getX(), chunk.getZ());
+            invalidateNavigation(chunk);
         }, chunk -> {
             if (furnaceRegistry != null) {
                 furnaceRegistry.onChunkUnloaded(chunk);
             }
             animatedBlockRegistry.onChunkUnloaded(chunk);
+            if (blockLight != null) {
+                blockLight.onChunkUnloaded(chunk);
+            }
             // Water state is chunk-owned (ChunkWaterLayer) and leaves with the chunk;
             // the sim just drops its pending queue entries. Snow layers remain a
             // world-global map and must still purge everywhere (render-only clients
@@ -287,8 +304,20 @@ public class World {
             waterSim.onChunkUnloaded(chunk);
             leafDecay.onChunkUnloaded(chunk.getChunkX(), chunk.getChunkZ());
             snowLayerManager.onChunkUnloaded(chunk.getChunkX(), chunk.getChunkZ());
+            invalidateNavigation(chunk);
         });
     }
+
+    /** Tells the pathfinder, if one is running, that a chunk's terrain appeared or went away. */
+    private void invalidateNavigation(Chunk chunk) {
+        com.stonebreak.mobs.entities.ai.nav.PathfindingService service = pathfinding;
+        if (service != null) {
+            int minX = chunk.getChunkX() * WorldConfiguration.CHUNK_SIZE;
+            int minZ = chunk.getChunkZ() * WorldConfiguration.CHUNK_SIZE;
+            service.onColumnsChanged(minX, minZ,
+                    minX + WorldConfiguration.CHUNK_SIZE - 1, minZ + WorldConfiguration.CHUNK_SIZE - 1);
+        }
+    }
     
     /**
      * Updates loading progress during world generation.
@@ -432,6 +461,66 @@ public class World {
         return chunk.getBlock(localX, y, localZ);
     }
 
+    /**
+     * Copies the block ids of a box into {@code dst}: the box starts at world
+     * ({@code minX}, {@code minY}, {@code minZ}) and spans
+     * {@code sizeX × sizeY × sizeZ} blocks; block (x, y, z) lands at
+     * {@code ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX)}.
+     *
+     * <p>Answers cell for cell what {@link #getBlockAt} would — air above and
+     * below the world and in chunks that are not loaded — but resolves each
+     * chunk and section once and copies whole rows out of the palette, instead
+     * of a chunk lookup and a virtual call per block. Meant for the many small
+     * boxes and columns entity simulation reads every tick; see {@link BlockVolume}.
+     *
+     * @throws IllegalArgumentException if a size is negative or {@code dst} is too small
+     */
+    public void readBlockIds(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ, short[] dst) {
+        if (sizeX < 0 || sizeY < 0 || sizeZ < 0) {
+            throw new IllegalArgumentException("negative box size " + sizeX + "x" + sizeY + "x" + sizeZ);
+        }
+        int strideZ = sizeX;
+        int strideY = sizeX * sizeZ;
+        int volume = strideY * sizeY;
+        if (dst.length < volume) {
+            throw new IllegalArgumentException("buffer of " + dst.length + " for a box of " + volume);
+        }
+        short air = (short) BlockType.AIR.getId();
+        int yLo = Math.max(minY, 0);
+        int yHi = Math.min(minY + sizeY, WorldConfiguration.WORLD_HEIGHT);
+        if (yLo >= yHi) {
+            Arrays.fill(dst, 0, volume, air);
+            return;
+        }
+        Arrays.fill(dst, 0, (yLo - minY) * strideY, air);
+        Arrays.fill(dst, (yHi - minY) * strideY, volume, air);
+
+        int size = WorldConfiguration.CHUNK_SIZE;
+        int maxX = minX + sizeX;
+        int maxZ = minZ + sizeZ;
+        for (int chunkX = Math.floorDiv(minX, size); chunkX * size < maxX; chunkX++) {
+            int x0 = Math.max(minX, chunkX * size);
+            int x1 = Math.min(maxX, chunkX * size + size);
+            for (int chunkZ = Math.floorDiv(minZ, size); chunkZ * size < maxZ; chunkZ++) {
+                int z0 = Math.max(minZ, chunkZ * size);
+                int z1 = Math.min(maxZ, chunkZ * size + size);
+                int offset = (yLo - minY) * strideY + (z0 - minZ) * strideZ + (x0 - minX);
+                Chunk chunk = getChunkIfLoaded(chunkX, chunkZ);
+                if (chunk != null) {
+                    chunk.getBlockStorageView().copyBlockIds(x0 - chunkX * size, yLo, z0 - chunkZ * size,
+                        x1 - x0, yHi - yLo, z1 - z0, dst, offset, strideZ, strideY);
+                    continue;
+                }
+                for (int y = yLo; y < yHi; y++) {
+                    for (int z = z0; z < z1; z++) {
+                        int row = offset + (y - yLo) * strideY + (z - z0) * strideZ;
+                        Arrays.fill(dst, row, row + (x1 - x0), air);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Returns the SBO state name at the given world position, or
      * {@code null} if the block carries no non-default state (1.3+).
@@ -567,15 +656,12 @@ public class World {
 
         chunk.setBlock(localX, y, localZ, blockType);
 
-        meshScheduler.onBlockChanged(chunk, chunkX, chunkZ, localX, localZ, isPlayerModification);
-
-        // Only authoritative worlds simulate flow; a render-only client applying
-        // streamed changes must not queue sim work (its layer is display-only).
-        if (!renderOnly) {
-            waterSim.onBlockChanged(x, y, z, previous, blockType);
-            leafDecay.onBlockChanged(x, y, z, previous, blockType);
+        BlockChangeBatch deferred = deferredBlockChanges.get();
+        if (deferred != null && !isPlayerModification) {
+            deferred.record(x, y, z, previous, blockType);
+            return true;
         }
-        animatedBlockRegistry.onBlockChanged(x, y, z, previous, blockType);
+        fireBlockChangeHooks(chunk, x, y, z, previous, blockType, isPlayerModification);
 
         // Multiplayer: forward locally-driven block edits (player modifications) to the local
         // client, which sends them to the authoritative server as intents. Inbound network
@@ -590,6 +676,68 @@ public class World {
         return true;
     }
 
+    /** Notifies every per-world system that watches block edits; tick thread only. */
+    private void fireBlockChangeHooks(Chunk chunk, int x, int y, int z,
+                                      BlockType previous, BlockType blockType, boolean isPlayerModification) {
+        int chunkX = Math.floorDiv(x, WorldConfiguration.CHUNK_SIZE);
+        int chunkZ = Math.floorDiv(z, WorldConfiguration.CHUNK_SIZE);
+        meshScheduler.onBlockChanged(chunk, chunkX, chunkZ,
+                Math.floorMod(x, WorldConfiguration.CHUNK_SIZE), Math.floorMod(z, WorldConfiguration.CHUNK_SIZE),
+                isPlayerModification);
+
+        // Only authoritative worlds simulate flow; a render-only client applying
+        // streamed changes must not queue sim work (its layer is display-only).
+        if (!renderOnly) {
+            waterSim.onBlockChanged(x, y, z, previous, blockType);
+            leafDecay.onBlockChanged(x, y, z, previous, blockType);
+        }
+        animatedBlockRegistry.onBlockChanged(x, y, z, previous, blockType);
+        com.stonebreak.mobs.entities.ai.nav.PathfindingService service = pathfinding;
+        if (service != null) {
+            service.onBlockChanged(x, y, z);
+        }
+    }
+
+    /**
+     * Until {@link #endDeferredBlockChangeHooks}, non-player {@link #setBlockAt} calls on the
+     * calling thread write the block and record the edit in {@code batch} instead of notifying
+     * water, leaf decay, animated blocks, pathfinding and the mesh scheduler — none of which
+     * may be touched off the tick thread. Feature-decoration workers run their jobs this way.
+     */
+    public void deferBlockChangeHooks(BlockChangeBatch batch) {
+        deferredBlockChanges.set(batch);
+    }
+
+    /** Ends {@link #deferBlockChangeHooks} on the calling thread. */
+    public void endDeferredBlockChangeHooks() {
+        deferredBlockChanges.remove();
+    }
+
+    /**
+     * Fires the hooks a deferred batch held back, in the order the edits were made. Tick
+     * thread only. Edits in chunks that have since unloaded are dropped — their systems
+     * already forgot the chunk.
+     */
+    public void replayBlockChangeHooks(BlockChangeBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            int x = batch.x(i);
+            int z = batch.z(i);
+            Chunk chunk = getChunkIfLoaded(Math.floorDiv(x, WorldConfiguration.CHUNK_SIZE),
+                    Math.floorDiv(z, WorldConfiguration.CHUNK_SIZE));
+            if (chunk != null) {
+                fireBlockChangeHooks(chunk, x, batch.y(i), z, batch.previous(i), batch.next(i), false);
+            }
+        }
+    }
+
+    /**
+     * Emissive block-light propagation, or null on worlds without a mesh
+     * pipeline. Mesh workers drain it before each build.
+     */
+    public WorldBlockLight getBlockLight() {
+        return blockLight;
+    }
+
     /** The water flow simulation engine (debug/inspection; state lives in the chunks). */
     public WaterSim getWaterSim() {
         return waterSim;
@@ -711,6 +859,16 @@ public class World {
     public void unloadChunk(int chunkX, int chunkZ) {
         chunkStore.unloadChunk(chunkX, chunkZ);
     }
+
+    /**
+     * Packs idle chunks far from every anchor into the cold tier (rate-limited
+     * internally). {@code anchorXs/anchorZs[0..anchors)} are the chunk columns
+     * players stand in; call from the thread that ticks this world.
+     */
+    public void updateColdTier(int[] anchorXs, int[] anchorZs, int anchors) {
+        if (chunkStore == null) return; // Test mode - no chunk store
+        chunkStore.updateColdTier(anchorXs, anchorZs, anchors);
+    }
     /**
      * Cleans up resources when the game exits.
      */
@@ -724,6 +882,8 @@ public class World {
                 pathfinding = null;
             }
         }
+        // Stop the water worker pool (no-op when the sim ticks serially).
+        waterSim.setParallel(0);
 
         if (chunkManager != null) {
             chunkManager.shutdown();
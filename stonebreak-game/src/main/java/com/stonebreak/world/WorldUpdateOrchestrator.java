@@ -37,6 +37,10 @@ final class WorldUpdateOrchestrator {
     private int lastUnloadSweepCz = Integer.MIN_VALUE;
     private int lastUnloadSweepKeepRadius = -1;
 
+    // The local player's chunk column, the only cold-tier anchor a rendered world has.
+    private final int[] coldAnchorX = new int[1];
+    private final int[] coldAnchorZ = new int[1];
+
     WorldUpdateOrchestrator(World world,
                             WaterSim waterSim,
                             LeafDecaySystem leafDecay,
@@ -74,6 +78,7 @@ final class WorldUpdateOrchestrator {
         }
 
         meshScheduler.processChunkMeshBuildRequests(world);
+        updateColdTier();
     }
 
     /** Authoritative simulation step, independent of rendering (headless server world). */
@@ -107,6 +112,7 @@ final class WorldUpdateOrchestrator {
         meshScheduler.requeueFailedChunks();
         meshScheduler.processChunkMeshBuildRequests(world);
         unloadClientChunksOutsideView();
+        updateColdTier();
 
         // FastLOD ring tick (see FastLodLifecycle.updateRing for why the client drives it).
         var lodPlayer = Game.getPlayer();
@@ -115,6 +121,22 @@ final class WorldUpdateOrchestrator {
         }
     }
 
+    /**
+     * Packs idle chunks far from the local player (see {@code ColdChunkTier}).
+     * The headless server world is swept by the server tick instead, which knows
+     * every player's position.
+     */
+    private void updateColdTier() {
+        var player = Game.getPlayer();
+        if (player == null || chunkStore == null) {
+            return;
+        }
+        Vector3f pos = player.getPosition();
+        coldAnchorX[0] = Math.floorDiv((int) Math.floor(pos.x), WorldConfiguration.CHUNK_SIZE);
+        coldAnchorZ[0] = Math.floorDiv((int) Math.floor(pos.z), WorldConfiguration.CHUNK_SIZE);
+        chunkStore.updateColdTier(coldAnchorX, coldAnchorZ, 1);
+    }
+
     /**
      * Unload streamed chunks that have left the client's keep radius. Render-only worlds never
      * regenerate, so a dropped chunk simply re-streams from the server if the player returns
@@ -15,10 +15,13 @@ import com.openmason.engine.voxel.cco.operations.CcoBlockWriter;
 import com.openmason.engine.voxel.cco.state.CcoAtomicStateManager;
 import com.openmason.engine.voxel.mms.mmsCore.ChunkMeshResult;
 import com.openmason.engine.voxel.mms.mmsCore.MmsRenderableHandle;
+import com.openmason.engine.voxel.lighting.BlockLightEngine;
+import com.openmason.engine.voxel.lighting.ChunkBlockLight;
 import com.openmason.engine.voxel.lighting.ChunkHeightMap;
 import com.openmason.engine.voxel.lighting.ColumnOpacityProbe;
 import com.stonebreak.world.chunk.utils.ChunkPosition;
 import com.stonebreak.world.operations.WorldConfiguration;
+import com.stonebreak.world.lighting.BlockEmission;
 import com.stonebreak.world.lighting.BlockOpacity;
 import com.stonebreak.world.lighting.WorldLightingContext;
 
@@ -56,6 +59,12 @@ public class Chunk {
             WorldConfiguration.CHUNK_SIZE, WorldConfiguration.WORLD_HEIGHT, WorldConfiguration.CHUNK_SIZE);
     private final ColumnOpacityProbe opacityProbe = WorldLightingContext.probeFor(this);
 
+    // Emissive block light, propagated by the world's BlockLightEngine (rendered
+    // worlds only). Empty sections cost nothing; display state, never saved.
+    private final ChunkBlockLight blockLight = new ChunkBlockLight(
+            WorldConfiguration.CHUNK_SIZE, WorldConfiguration.WORLD_HEIGHT, WorldConfiguration.CHUNK_SIZE);
+    private volatile BlockLightEngine blockLightEngine;
+
     /**
      * Sparse per-block SBO state map (1.3+). Keys are packed local coordinates
      * (see {@link com.stonebreak.world.chunk.utils.LocalBlockKey}) — no string
@@ -72,6 +81,13 @@ public class Chunk {
      */
     private final ChunkWaterLayer waterLayer = new ChunkWaterLayer();
 
+    /**
+     * Per-section face-to-face visibility graphs, bottom up, from the last mesh
+     * build (see {@link com.stonebreak.rendering.gameWorld.occlusion.SectionConnectivity}).
+     * Null until first meshed; replaced whole, never mutated.
+     */
+    private volatile short[] sectionConnectivity;
+
     /**
      * Creates a new chunk at the specified position using CCO API.
      * Paletted storage starts as uniform-air sections — no 65k-reference
@@ -143,10 +159,35 @@ public class Chunk {
             if (blockType != BlockType.WATER) {
                 waterLayer.remove(x, y, z);
             }
-            heightMap.onBlockChanged(x, y, z,
-                    BlockOpacity.isOpaque(blockType),
-                    BlockOpacity.isOpaque(previous),
-                    opacityProbe);
+            boolean nowOpaque = BlockOpacity.isOpaque(blockType);
+            boolean wasOpaque = BlockOpacity.isOpaque(previous);
+            heightMap.onBlockChanged(x, y, z, nowOpaque, wasOpaque, opacityProbe);
+            BlockLightEngine light = blockLightEngine;
+            if (light != null && (nowOpaque != wasOpaque
+                    || BlockEmission.of(blockType) != BlockEmission.of(previous))) {
+                light.onBlockChanged(getWorldX(x), y, getWorldZ(z));
+            }
+        }
+    }
+
+    /**
+     * Connects this chunk to the world's block-light engine (null detaches).
+     * While attached, every write that changes opacity or emission queues a
+     * light update, and bulk block installs queue a full reseed.
+     */
+    public void attachBlockLight(BlockLightEngine engine) {
+        this.blockLightEngine = engine;
+    }
+
+    /** Block-light levels of this chunk, sampled by the mesher's lighting context. */
+    public ChunkBlockLight getBlockLight() {
+        return blockLight;
+    }
+
+    private void reseedBlockLight() {
+        BlockLightEngine light = blockLightEngine;
+        if (light != null) {
+            light.onChunkLoaded(x, z);
         }
     }
 
@@ -213,6 +254,7 @@ public class Chunk {
     public void replaceAllBlocks(CcoBlockStorage source) {
         blocks.copyFrom(source);
         dirtyTracker.markBlockChanged();
+        reseedBlockLight();
     }
 
     // ===== Mesh Operations (delegated to ChunkMeshLifecycle) =====
@@ -256,6 +298,15 @@ public class Chunk {
         mesh.setStampRenderableHandle(handle);
     }
 
+    /** Section visibility graphs from the last mesh build, or null before the first. */
+    public short[] getSectionConnectivity() {
+        return sectionConnectivity;
+    }
+
+    public void setSectionConnectivity(short[] graphs) {
+        this.sectionConnectivity = graphs;
+    }
+
     /** Whether this chunk currently has uploaded water geometry. */
     public boolean hasWaterMesh() {
         return mesh.hasWaterMesh();
@@ -376,6 +427,16 @@ public class Chunk {
         return dirtyTracker.isDataDirty();
     }
 
+    /**
+     * Revision of the chunk's saved contents (blocks, states, water, snow,
+     * entities): it changes on every mutation that marks the chunk dirty and
+     * is never reused by another chunk instance. Used to validate cached
+     * encodings of this chunk.
+     */
+    public long getDataRevision() {
+        return dirtyTracker.getDataRevision();
+    }
+
     /**
      * Marks the chunk as dirty (needing to be saved).
      */
@@ -462,6 +523,7 @@ public class Chunk {
         // Copy block data — section-level palette copy, near-free compared to
         // the old 65k-element arraycopy.
         blocks.copyFrom(snapshot.getBlockStorage());
+        reseedBlockLight();
 
         // Restore per-block SBO state map (1.3+). Empty for v1 saves.
         blockStates.clear();
@@ -1,6 +1,7 @@
 package com.stonebreak.world.chunk.api.mightyMesh;
 
 import com.stonebreak.blocks.BlockType;
+import com.stonebreak.rendering.gameWorld.occlusion.SectionConnectivity;
 import com.stonebreak.rendering.textures.BlockTextureArray;
 import com.stonebreak.world.chunk.api.voxel.TextureArrayAdapter;
 import com.openmason.engine.voxel.mms.mmsTexturing.MmsArrayTextureMapper;
@@ -211,6 +212,10 @@ public final class MmsAPI {
                 chunk.getCcoDirtyTracker()
             );
 
+            // Section visibility graphs for cave-occlusion culling: read from the
+            // same blocks the mesh just saw, published with it.
+            chunk.setSectionConnectivity(SectionConnectivity.of(chunk));
+
             // Record statistics for atlas mesh (nanosecond resolution — the ms
             // clock rounded most builds to 0 and made averages meaningless)
             MmsMeshData meshData = meshResult.atlasMesh();
@@ -141,6 +141,8 @@ public final class MmsMeshPipeline {
         this.handlesPendingGpuCleanup = new ConcurrentLinkedQueue<>();
         this.chunkRetryCount = new ConcurrentHashMap<>();
         this.chunkPriorityMap = new ConcurrentHashMap<>();
+        // This process draws chunks: follow each one from request to first upload.
+        com.stonebreak.world.chunk.utils.ChunkLatency.trackAppearances();
 
         // System.out.println("[MmsMeshPipeline] Created mesh pipeline with " +
         //     config.getChunkBuildThreads() + " threads");
@@ -304,6 +306,12 @@ public final class MmsMeshPipeline {
     private void processMeshGenerationTask(World world, Chunk chunk) {
         boolean success = false;
         MmsMeshData meshData = null;
+        // Drain queued block-light edits first so this build samples current
+        // light. Only one worker propagates at a time; the rest skip straight
+        // to building, and every chunk a pass relights is rescheduled by it.
+        if (world != null && world.getBlockLight() != null) {
+            world.getBlockLight().propagatePending();
+        }
         // Consume the pending remesh request at build START, before any chunk
         // data is read. A markMeshDirty arriving after this point refers to
         // data this build may not see (neighbor chunk payload installed,
@@ -337,6 +345,7 @@ public final class MmsMeshPipeline {
                 throw new IllegalStateException("MMS API not initialized");
             }
 
+            long meshStart = System.nanoTime();
             com.openmason.engine.voxel.mms.mmsCore.ChunkMeshResult meshResult = MmsAPI.getInstance().generateChunkMesh(chunk);
             meshData = meshResult.atlasMesh();
             // The build COMPLETED (no exception), so it is not a failure even if it produced no
@@ -345,6 +354,8 @@ public final class MmsMeshPipeline {
             success = true;
             meshedOnce.add(chunk);
             com.stonebreak.world.chunk.utils.ChunkPipelineStats.MESHED.increment();
+            com.stonebreak.world.chunk.utils.ChunkLatency.record(
+                com.stonebreak.world.chunk.utils.ChunkLatency.Stage.MESH, cx, cz, meshStart);
             // Any part counts: a rebuild that empties one part (e.g. the last
             // water in a chunk drained) must still reach the upload step so the
             // stale handle for that part gets cleared.
@@ -381,6 +392,7 @@ public final class MmsMeshPipeline {
                 // (a transient empty build must not blank a rendered chunk). The dirty
                 // flag was consumed at build start; if set again, the worker-end
                 // recheck in the finally block reschedules.
+                com.stonebreak.world.chunk.utils.ChunkLatency.discard(cx, cz);
                 synchronized (chunk) {
                     if (!chunk.getCcoStateManager().hasState(CcoChunkState.MESH_GPU_UPLOADED)) {
                         chunk.getCcoStateManager().addState(CcoChunkState.MESH_CPU_READY);
@@ -494,6 +506,7 @@ public final class MmsMeshPipeline {
                 break;
             }
 
+            long uploadStart = System.nanoTime();
             try {
                 // Upload the atlas mesh. It may legitimately be empty when the
                 // result reached upload only for its water/SBO parts — in that
@@ -648,6 +661,9 @@ public final class MmsMeshPipeline {
 
                 updatesThisFrame++;
                 com.stonebreak.world.chunk.utils.ChunkPipelineStats.UPLOADED.increment();
+                com.stonebreak.world.chunk.utils.ChunkLatency.record(
+                    com.stonebreak.world.chunk.utils.ChunkLatency.Stage.UPLOAD,
+                    task.chunk.getChunkX(), task.chunk.getChunkZ(), uploadStart);
 
             } catch (Exception e) {
                 errorReporter.reportGLUpdateError(task.chunk, e,
@@ -302,9 +302,13 @@ public class MmsCcoAdapter {
             // Native fast path: cube culling + lighting in one Cenda kernel
             // call over a flat snapshot; the Java loop below only runs for the
             // snapshot's special cells (SBO/cross/water). Falls back to the
-            // classic full loop whenever the kernel or snapshot is unavailable.
+            // classic full loop whenever the kernel or snapshot is unavailable,
+            // and for chunks with block light nearby: the kernel bakes sky + AO
+            // from heights only, while the Java path samples block light too.
             boolean nativeDone = false;
-            if (CendaMesher.enabled() && world != null && shadowContext != null) {
+            boolean blockLit = world != null && world.getBlockLight() != null
+                && world.getBlockLight().isLitNear(chunkX, chunkZ);
+            if (CendaMesher.enabled() && world != null && shadowContext != null && !blockLit) {
                 CendaMesher.Snapshot snap = CendaMesher.snapshot(
                     chunkData, world, shadowContext, CendaMesher.classTable(), maxY);
                 if (snap != null) {
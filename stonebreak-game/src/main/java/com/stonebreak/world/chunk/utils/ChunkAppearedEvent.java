@@ -0,0 +1,53 @@
+package com.stonebreak.world.chunk.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for a chunk's first upload after it was requested,
+ * committed by {@link ChunkLatency}. Each stage field is when that stage
+ * finished, counted from the request; 0 means the chunk skipped it (loaded
+ * from disk, or this process only saw the client half). The gaps between
+ * them are queueing, which is usually where a slow chunk spent its time.
+ */
+@Name("stonebreak.ChunkAppeared")
+@Label("Chunk Appeared")
+@Category({"Stonebreak", "Chunk Pipeline"})
+@Description("A requested chunk reached the GPU; request-to-first-upload time with per-stage offsets")
+@StackTrace(false)
+final class ChunkAppearedEvent extends jdk.jfr.Event {
+
+    @Label("Chunk X")
+    int chunkX;
+
+    @Label("Chunk Z")
+    int chunkZ;
+
+    @Label("Total")
+    @Timespan(Timespan.NANOSECONDS)
+    long total;
+
+    @Label("Generated At")
+    @Timespan(Timespan.NANOSECONDS)
+    long generated;
+
+    @Label("Populated At")
+    @Timespan(Timespan.NANOSECONDS)
+    long populated;
+
+    @Label("Streamed At")
+    @Timespan(Timespan.NANOSECONDS)
+    long streamed;
+
+    @Label("Installed At")
+    @Timespan(Timespan.NANOSECONDS)
+    long installed;
+
+    @Label("Meshed At")
+    @Timespan(Timespan.NANOSECONDS)
+    long meshed;
+}
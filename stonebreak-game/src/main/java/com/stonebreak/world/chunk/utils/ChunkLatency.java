@@ -0,0 +1,186 @@
+package com.stonebreak.world.chunk.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Process-wide latency per chunk pipeline stage, next to the throughput totals
+ * in {@link ChunkPipelineStats}. Each stage keeps a {@link LatencyHistogram}
+ * of how long one chunk spent in it, and every sample is also committed as a
+ * {@code stonebreak.ChunkStage} Flight Recorder event, so a {@code -XX:StartFlightRecording}
+ * run shows which chunk was slow where.
+ *
+ * <p>Stage latencies are the stage's own work (generation, one decoration job,
+ * encode-and-send, decode-and-install, one mesh build, one GL upload). What a
+ * player waits for also includes the queues between them, so a process that
+ * renders additionally follows each chunk from request to its first upload —
+ * the frame it becomes drawable — and records that as {@link Stage#END_TO_END}
+ * plus a {@code stonebreak.ChunkAppeared} event carrying when each stage
+ * finished. In singleplayer and on an integrated host the request is the
+ * server world's load, so the timeline covers generation through upload; a
+ * remote client only sees its half, from the payload arriving.
+ *
+ * <p>Timelines are only opened once a mesh pipeline has called
+ * {@link #trackAppearances()}, so a dedicated server keeps none. A chunk that
+ * is never drawn (unloaded first, or nothing to draw) has its timeline dropped
+ * after {@link #ABANDON_NANOS}.
+ */
+public final class ChunkLatency {
+
+    /** Pipeline stages, in pipeline order. */
+    public enum Stage {
+        GENERATE("gen"),
+        POPULATE("pop"),
+        STREAM("str"),
+        INSTALL("inst"),
+        MESH("mesh"),
+        UPLOAD("gl"),
+        /** Request to first upload; recorded by the pipeline itself, not by callers. */
+        END_TO_END("e2e");
+
+        private final String shortName;
+
+        Stage(String shortName) {
+            this.shortName = shortName;
+        }
+
+        /** Overlay/report label. */
+        public String shortName() {
+            return shortName;
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final LatencyHistogram[] HISTOGRAMS = new LatencyHistogram[STAGES.length];
+
+    static {
+        for (int i = 0; i < HISTOGRAMS.length; i++) {
+            HISTOGRAMS[i] = new LatencyHistogram();
+        }
+    }
+
+    private static final long ABANDON_NANOS = 120_000_000_000L;
+    private static final long PRUNE_INTERVAL_NANOS = 10_000_000_000L;
+
+    /** One chunk on its way to the screen. */
+    private static final class Timeline {
+        final long requested;
+        /** Per stage before {@link Stage#UPLOAD}: first finish, nanos after {@link #requested}; 0 = not yet. */
+        final AtomicLongArray reached = new AtomicLongArray(Stage.UPLOAD.ordinal());
+
+        Timeline(long requested) {
+            this.requested = requested;
+        }
+
+        void reach(Stage stage, long now) {
+            reached.compareAndSet(stage.ordinal(), 0L, Math.max(1L, now - requested));
+        }
+    }
+
+    private static final ConcurrentHashMap<Long, Timeline> TIMELINES = new ConcurrentHashMap<>();
+    private static final AtomicLong NEXT_PRUNE = new AtomicLong(System.nanoTime());
+    private static volatile boolean trackAppearances;
+
+    private ChunkLatency() {
+    }
+
+    /** Called by a mesh pipeline: this process draws chunks, so follow them to the screen. */
+    public static void trackAppearances() {
+        trackAppearances = true;
+    }
+
+    /**
+     * Marks the chunk as wanted now, unless it is already on its way. Call at
+     * every point a chunk can enter the pipeline (load, send, receive); the
+     * earliest one wins.
+     */
+    public static void requested(int chunkX, int chunkZ) {
+        if (trackAppearances) {
+            TIMELINES.putIfAbsent(key(chunkX, chunkZ), new Timeline(System.nanoTime()));
+        }
+    }
+
+    /**
+     * Records that the chunk just finished {@code stage}, which started at
+     * {@code startNanos} ({@link System#nanoTime()}).
+     */
+    public static void record(Stage stage, int chunkX, int chunkZ, long startNanos) {
+        long now = System.nanoTime();
+        long nanos = now - startNanos;
+        HISTOGRAMS[stage.ordinal()].record(nanos);
+
+        ChunkStageEvent event = new ChunkStageEvent();
+        if (event.shouldCommit()) {
+            event.stage = stage.name();
+            event.chunkX = chunkX;
+            event.chunkZ = chunkZ;
+            event.latency = nanos;
+            event.commit();
+        }
+
+        if (!trackAppearances) {
+            return;
+        }
+        Long key = key(chunkX, chunkZ);
+        Timeline timeline = TIMELINES.get(key);
+        if (timeline == null) {
+            return;
+        }
+        if (stage == Stage.UPLOAD) {
+            if (TIMELINES.remove(key, timeline)) {
+                appeared(chunkX, chunkZ, timeline, now);
+            }
+            pruneAbandoned(now);
+        } else {
+            timeline.reach(stage, now);
+        }
+    }
+
+    /** The chunk will not be drawn (its mesh came out empty): stop following it. */
+    public static void discard(int chunkX, int chunkZ) {
+        if (trackAppearances) {
+            TIMELINES.remove(key(chunkX, chunkZ));
+        }
+    }
+
+    public static LatencyHistogram histogram(Stage stage) {
+        return HISTOGRAMS[stage.ordinal()];
+    }
+
+    /** Chunks currently between request and first upload. */
+    public static int inFlight() {
+        return TIMELINES.size();
+    }
+
+    private static void appeared(int chunkX, int chunkZ, Timeline timeline, long now) {
+        long total = now - timeline.requested;
+        HISTOGRAMS[Stage.END_TO_END.ordinal()].record(total);
+
+        ChunkAppearedEvent event = new ChunkAppearedEvent();
+        if (event.shouldCommit()) {
+            event.chunkX = chunkX;
+            event.chunkZ = chunkZ;
+            event.total = total;
+            event.generated = timeline.reached.get(Stage.GENERATE.ordinal());
+            event.populated = timeline.reached.get(Stage.POPULATE.ordinal());
+            event.streamed = timeline.reached.get(Stage.STREAM.ordinal());
+            event.installed = timeline.reached.get(Stage.INSTALL.ordinal());
+            event.meshed = timeline.reached.get(Stage.MESH.ordinal());
+            event.commit();
+        }
+    }
+
+    /** Drops timelines of chunks that never made it, every few seconds at most. */
+    private static void pruneAbandoned(long now) {
+        long due = NEXT_PRUNE.get();
+        if (now - due < 0 || !NEXT_PRUNE.compareAndSet(due, now + PRUNE_INTERVAL_NANOS)) {
+            return;
+        }
+        TIMELINES.values().removeIf(timeline -> now - timeline.requested > ABANDON_NANOS);
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return (((long) chunkX) << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
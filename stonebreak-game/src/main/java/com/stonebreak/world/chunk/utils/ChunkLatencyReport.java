@@ -0,0 +1,95 @@
+package com.stonebreak.world.chunk.utils;
+
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * Periodic headless dump of {@link ChunkLatency}: per stage, how many chunks
+ * passed it in the last interval and their p50 / p99 / max, as one text line
+ * or one JSON object per interval. Lets a production server be profiled from
+ * its log without the F3 overlay; the dedicated server enables it with
+ * {@code --latency-report <seconds>}.
+ *
+ * <p>Stages nothing passed in the interval are left out of the text form and
+ * reported with {@code "count":0} in the JSON form, so the JSON keys stay put.
+ * Not thread-safe: call {@link #maybeReport} from one thread.
+ */
+public final class ChunkLatencyReport {
+
+    public enum Format { TEXT, JSON }
+
+    private static final ChunkLatency.Stage[] STAGES = ChunkLatency.Stage.values();
+
+    private final long intervalNanos;
+    private final Format format;
+    private final PrintStream out;
+    private final LatencyHistogram.Snapshot[] previous = new LatencyHistogram.Snapshot[STAGES.length];
+    private long nextReport;
+
+    public ChunkLatencyReport(long intervalNanos, Format format, PrintStream out) {
+        if (intervalNanos <= 0) {
+            throw new IllegalArgumentException("intervalNanos must be positive, got " + intervalNanos);
+        }
+        this.intervalNanos = intervalNanos;
+        this.format = format;
+        this.out = out;
+        for (int i = 0; i < STAGES.length; i++) {
+            previous[i] = ChunkLatency.histogram(STAGES[i]).snapshot();
+        }
+        this.nextReport = System.nanoTime() + intervalNanos;
+    }
+
+    /** Prints a report if an interval has passed since the last one. */
+    public void maybeReport(long now) {
+        if (now - nextReport < 0) {
+            return;
+        }
+        double seconds = (now - nextReport + intervalNanos) / 1e9;
+        nextReport = now + intervalNanos;
+        LatencyHistogram.Snapshot[] window = new LatencyHistogram.Snapshot[STAGES.length];
+        for (int i = 0; i < STAGES.length; i++) {
+            LatencyHistogram.Snapshot current = ChunkLatency.histogram(STAGES[i]).snapshot();
+            window[i] = current.since(previous[i]);
+            previous[i] = current;
+        }
+        out.println(format == Format.JSON ? json(window, seconds) : text(window, seconds));
+    }
+
+    /** e.g. {@code [LATENCY] 10.0 s | gen 212 x 9.1/31.5/44.0 ms | ... } (count x p50/p99/max). */
+    static String text(LatencyHistogram.Snapshot[] window, double seconds) {
+        StringBuilder sb = new StringBuilder(160);
+        sb.append(String.format(Locale.ROOT, "[LATENCY] %.1f s", seconds));
+        boolean any = false;
+        for (int i = 0; i < STAGES.length; i++) {
+            LatencyHistogram.Snapshot s = window[i];
+            if (s.count() == 0) {
+                continue;
+            }
+            any = true;
+            sb.append(String.format(Locale.ROOT, " | %s %d x %.1f/%.1f/%.1f ms",
+                STAGES[i].shortName(), s.count(),
+                s.percentileNanos(50) / 1e6, s.percentileNanos(99) / 1e6, s.maxNanos() / 1e6));
+        }
+        if (!any) {
+            sb.append(" | idle");
+        }
+        return sb.toString();
+    }
+
+    /** One line, e.g. {@code {"intervalSeconds":10.0,"stages":{"gen":{"count":212,"p50Ms":9.1,...},...}}}. */
+    static String json(LatencyHistogram.Snapshot[] window, double seconds) {
+        StringBuilder sb = new StringBuilder(400);
+        sb.append(String.format(Locale.ROOT, "{\"intervalSeconds\":%.1f,\"stages\":{", seconds));
+        for (int i = 0; i < STAGES.length; i++) {
+            LatencyHistogram.Snapshot s = window[i];
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(String.format(Locale.ROOT,
+                "\"%s\":{\"count\":%d,\"p50Ms\":%.3f,\"p99Ms\":%.3f,\"maxMs\":%.3f}",
+                STAGES[i].shortName(), s.count(),
+                s.percentileNanos(50) / 1e6, s.percentileNanos(99) / 1e6, s.maxNanos() / 1e6));
+        }
+        return sb.append("}}").toString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.stonebreak.world.chunk.utils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Exclusive claims on square chunk neighbourhoods for feature-decoration jobs. A job that
+ * holds the neighbourhood around its chunk is the only writer to any chunk in it, so trees
+ * spilling over a border never race another job's ores or flowers — and two jobs that
+ * would touch a common chunk simply never run at the same time.
+ *
+ * <p>Claims are taken on the tick thread and released from the worker that finishes the job.
+ */
+final class ChunkNeighbourhoodClaims {
+
+    private final Set<Long> claimed = new HashSet<>();
+
+    /**
+     * Claims every chunk within Chebyshev {@code radius} of ({@code chunkX}, {@code chunkZ}),
+     * all or nothing. False when any of them is held by another job.
+     */
+    synchronized boolean tryClaim(int chunkX, int chunkZ, int radius) {
+        if (overlaps(claimed, chunkX, chunkZ, radius)) {
+            return false;
+        }
+        mark(claimed, chunkX, chunkZ, radius);
+        return true;
+    }
+
+    synchronized void release(int chunkX, int chunkZ, int radius) {
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                claimed.remove(key(chunkX + dx, chunkZ + dz));
+            }
+        }
+    }
+
+    /** Whether a running job may write to this chunk (unloading it now would lose the writes). */
+    synchronized boolean isClaimed(int chunkX, int chunkZ) {
+        return claimed.contains(key(chunkX, chunkZ));
+    }
+
+    static boolean overlaps(Set<Long> chunks, int chunkX, int chunkZ, int radius) {
+        if (chunks.isEmpty()) {
+            return false;
+        }
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                if (chunks.contains(key(chunkX + dx, chunkZ + dz))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static void mark(Set<Long> chunks, int chunkX, int chunkZ, int radius) {
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                chunks.add(key(chunkX + dx, chunkZ + dz));
+            }
+        }
+    }
+
+    private static long key(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+}
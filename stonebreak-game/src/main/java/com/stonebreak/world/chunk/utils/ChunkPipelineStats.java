@@ -23,6 +23,26 @@ public final class ChunkPipelineStats {
     public static final LongAdder MESHED = new LongAdder();
     /** Mesh GL uploads applied (render thread; includes rebuilds). */
     public static final LongAdder UPLOADED = new LongAdder();
+    /** Chunk sends served from the server's shared encoded-payload cache. */
+    public static final LongAdder PAYLOAD_CACHE_HITS = new LongAdder();
+    /** Chunk sends that had to encode (no entry, or a stale one). */
+    public static final LongAdder PAYLOAD_CACHE_MISSES = new LongAdder();
+    /** Encoded payload bytes the cache hits did not have to produce again. */
+    public static final LongAdder PAYLOAD_BYTES_SAVED = new LongAdder();
+    /** Chunk sends replaced by a confirmation of the client's disk-cached copy (server side). */
+    public static final LongAdder CACHE_CONFIRMED = new LongAdder();
+    /** Chunks installed from the client's disk cache instead of a streamed payload (client side). */
+    public static final LongAdder CACHE_INSTALLED = new LongAdder();
+    /** Sections re-sent to repair a desync-audit mismatch (server side). */
+    public static final LongAdder SECTIONS_REPAIRED = new LongAdder();
+    /** Chunks whose sections the cold tier packed (includes re-packs after a warm spell). */
+    public static final LongAdder COLD_PACKED = new LongAdder();
+    /** Time spent packing those chunks, in nanoseconds. */
+    public static final LongAdder COLD_PACK_NANOS = new LongAdder();
+    /** Gauge: resident chunks with at least one packed section right now. */
+    public static final LongAdder COLD_CHUNKS = new LongAdder();
+    /** Gauge: bytes held by packed section blobs right now. */
+    public static final LongAdder COLD_BYTES = new LongAdder();
 
     private ChunkPipelineStats() {
     }
@@ -0,0 +1,34 @@
+package com.stonebreak.world.chunk.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for one chunk passing one pipeline stage, committed
+ * by {@link ChunkLatency#record}. The stage ran on the committing thread and
+ * ended at the event's timestamp; {@code latency} is how long it took.
+ */
+@Name("stonebreak.ChunkStage")
+@Label("Chunk Pipeline Stage")
+@Category({"Stonebreak", "Chunk Pipeline"})
+@Description("One chunk through one stage of generate, populate, stream, install, mesh, upload")
+@StackTrace(false)
+final class ChunkStageEvent extends jdk.jfr.Event {
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Chunk X")
+    int chunkX;
+
+    @Label("Chunk Z")
+    int chunkZ;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+}
@@ -0,0 +1,174 @@
+package com.stonebreak.world.chunk.utils;
+
+import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
+import com.stonebreak.world.chunk.Chunk;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Cold residency tier: resident chunks far from every player that nobody has
+ * touched for a while have their block sections packed into compressed blobs
+ * ({@link CcoPalettedChunkStorage#packSections()}). Rings kept only so the
+ * edge of the view can mesh against them — or, on the server, everything
+ * inside any player's view radius — are read rarely if ever, so at large view
+ * distances most of the block heap sits in them.
+ *
+ * <p>Nothing changes for callers: the first read, write or mesh of a packed
+ * section inflates it in place. Such an inflation counts as a touch, so a
+ * chunk that keeps being read stays warm. A touch is detected on the next
+ * sweep from the chunk's data revision (writes) and its packed-section count
+ * (any access), so warm-path reads carry no bookkeeping at all.
+ *
+ * <p>Block ids are what gets packed; the chunk's heightmap (1 KB, fixed) and
+ * its sparse water and block-state maps (empty for almost every chunk) stay
+ * as they are.
+ *
+ * <p>Swept from the tick that owns the chunk map, at most once a second and
+ * within a small time budget. Tuned with {@code -Dstonebreak.coldtier.distance}
+ * (chunks, Chebyshev, default 8) and {@code -Dstonebreak.coldtier.idleSeconds}
+ * (default 30); off with {@code -Dstonebreak.coldtier=off}.
+ */
+final class ColdChunkTier {
+
+    static final long SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+    static final long SWEEP_BUDGET_NANOS = 2_000_000L;
+    static final int DEFAULT_DISTANCE = 8;
+    static final int DEFAULT_IDLE_SECONDS = 30;
+
+    private static volatile Boolean enabled;
+
+    /** Per-chunk idle clock. */
+    private static final class Idle {
+        Chunk chunk;
+        long revision;
+        int packedSections;
+        long idleSince;
+        /** Packed by this tier and not touched since. */
+        boolean cold;
+        long seenInSweep;
+    }
+
+    private final LongSupplier nanoClock;
+    private final int distance = Integer.getInteger("stonebreak.coldtier.distance", DEFAULT_DISTANCE);
+    private final long idleNanos =
+        Integer.getInteger("stonebreak.coldtier.idleSeconds", DEFAULT_IDLE_SECONDS) * 1_000_000_000L;
+    private final Map<ChunkPosition, Idle> idle = new HashMap<>();
+    private long nextSweep;
+    private long sweeps;
+
+    // Last values this tier added into the process-wide gauges.
+    private long reportedChunks;
+    private long reportedBytes;
+
+    ColdChunkTier() {
+        this(System::nanoTime);
+    }
+
+    /** @param nanoClock stands in for {@link System#nanoTime()}: sweep interval, budget and idle clocks */
+    ColdChunkTier(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /** Whether the cold tier is on (default) — {@code -Dstonebreak.coldtier=off} disables it. */
+    static boolean isEnabled() {
+        Boolean value = enabled;
+        if (value == null) {
+            String prop = System.getProperty("stonebreak.coldtier", "on");
+            value = !("off".equalsIgnoreCase(prop) || "false".equalsIgnoreCase(prop));
+            enabled = value;
+            System.out.println("[ColdChunkTier] Cold chunk tier "
+                + (value ? "ENABLED" : "disabled (property)"));
+        }
+        return value;
+    }
+
+    /**
+     * One sweep over the resident chunks, unless one ran less than a second ago.
+     * {@code anchorXs/anchorZs[0..anchors)} are the chunk columns players stand in.
+     *
+     * @param busy chunks that must not be packed right now (a job is writing them)
+     */
+    void sweep(Map<ChunkPosition, Chunk> chunks, int[] anchorXs, int[] anchorZs, int anchors,
+               ChunkNeighbourhoodClaims busy) {
+        long now = nanoClock.getAsLong();
+        if (now < nextSweep) {
+            return;
+        }
+        nextSweep = now + SWEEP_INTERVAL_NANOS;
+        long deadline = now + SWEEP_BUDGET_NANOS;
+        long sweep = ++sweeps;
+
+        long coldChunks = 0;
+        long coldBytes = 0;
+        for (Map.Entry<ChunkPosition, Chunk> entry : chunks.entrySet()) {
+            Chunk chunk = entry.getValue();
+            if (!(chunk.getBlockStorageView() instanceof CcoPalettedChunkStorage storage)) {
+                continue;
+            }
+            Idle state = idle.computeIfAbsent(entry.getKey(), p -> new Idle());
+            state.seenInSweep = sweep;
+            long revision = chunk.getDataRevision();
+            int packed = storage.packedSectionCount();
+            if (state.chunk != chunk || revision != state.revision || packed < state.packedSections) {
+                // New here, written, or read since the last sweep: restart its clock.
+                state.chunk = chunk;
+                state.revision = revision;
+                state.packedSections = packed;
+                state.idleSince = now;
+                state.cold = false;
+            }
+
+            if (!state.cold && now - state.idleSince >= idleNanos && nanoClock.getAsLong() < deadline
+                    && isFar(chunk, anchorXs, anchorZs, anchors) && isQuiet(chunk, busy)) {
+                long start = nanoClock.getAsLong();
+                if (storage.packSections() > 0) {
+                    ChunkPipelineStats.COLD_PACKED.increment();
+                    ChunkPipelineStats.COLD_PACK_NANOS.add(nanoClock.getAsLong() - start);
+                }
+                state.packedSections = storage.packedSectionCount();
+                state.cold = true;
+                packed = state.packedSections;
+            }
+            if (packed > 0) {
+                coldChunks++;
+                coldBytes += storage.packedBytes();
+            }
+        }
+
+        // Forget chunks that left the store.
+        idle.values().removeIf(state -> state.seenInSweep != sweep);
+        report(coldChunks, coldBytes);
+    }
+
+    /** Drops this tier's share of the gauges (world teardown). */
+    void clear() {
+        idle.clear();
+        report(0, 0);
+    }
+
+    private void report(long coldChunks, long coldBytes) {
+        ChunkPipelineStats.COLD_CHUNKS.add(coldChunks - reportedChunks);
+        ChunkPipelineStats.COLD_BYTES.add(coldBytes - reportedBytes);
+        reportedChunks = coldChunks;
+        reportedBytes = coldBytes;
+    }
+
+    private boolean isFar(Chunk chunk, int[] anchorXs, int[] anchorZs, int anchors) {
+        for (int i = 0; i < anchors; i++) {
+            int d = Math.max(Math.abs(chunk.getChunkX() - anchorXs[i]), Math.abs(chunk.getChunkZ() - anchorZs[i]));
+            if (d <= distance) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Nothing is about to read or write the whole chunk. */
+    private static boolean isQuiet(Chunk chunk, ChunkNeighbourhoodClaims busy) {
+        return chunk.areFeaturesPopulated()
+            && !chunk.isMeshDataGenerationScheduledOrInProgress()
+            && !busy.isClaimed(chunk.getChunkX(), chunk.getChunkZ());
+    }
+}
@@ -0,0 +1,127 @@
+package com.stonebreak.world.chunk.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of nanosecond latencies: eight linear
+ * sub-buckets per power of two, so any percentile it reports is within
+ * 12.5% of the true value, from 1 ns up to {@code Long.MAX_VALUE}, in a fixed
+ * 4 KB. Recording is two atomic adds and a max update, safe from any thread.
+ *
+ * <p>Counts only grow. Readers that want a window (the periodic report, the
+ * overlay) take a {@link #snapshot()} and subtract an earlier one.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    /** Values below this get a bucket each; above it buckets double per {@link #SUB_BUCKETS}. */
+    private static final long LINEAR_LIMIT = SUB_BUCKETS;
+    static final int BUCKETS = (63 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /** Records one latency; negative values (clock skew across threads) count as zero. */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /** Copies the counts as they are now. */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy, max.get());
+    }
+
+    static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /** Largest value that lands in {@code bucket}. */
+    static long upperBound(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        long lower = (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+        long width = 1L << (exponent - SUB_BITS);
+        return lower + (width - 1);
+    }
+
+    /** Immutable bucket counts at one instant. */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long maxNanos;
+        private final long total;
+
+        private Snapshot(long[] counts, long maxNanos) {
+            this.counts = counts;
+            this.maxNanos = maxNanos;
+            long sum = 0;
+            for (long c : counts) {
+                sum += c;
+            }
+            this.total = sum;
+        }
+
+        /**
+         * What was recorded between {@code earlier} and this snapshot. The window's
+         * max is the top of its highest bucket, capped by the all-time max.
+         */
+        public Snapshot since(Snapshot earlier) {
+            long[] delta = new long[BUCKETS];
+            int highest = -1;
+            for (int i = 0; i < BUCKETS; i++) {
+                delta[i] = counts[i] - earlier.counts[i];
+                if (delta[i] > 0) {
+                    highest = i;
+                }
+            }
+            long windowMax = highest < 0 ? 0L : Math.min(upperBound(highest), maxNanos);
+            return new Snapshot(delta, windowMax);
+        }
+
+        public long count() {
+            return total;
+        }
+
+        /** Largest recorded value; exact for a cumulative snapshot. */
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Nearest-rank percentile, {@code p} in [0, 100], as the top of the bucket it
+         * falls in (never above {@link #maxNanos()}); 0 when empty.
+         */
+        public long percentileNanos(double p) {
+            if (total == 0) {
+                return 0L;
+            }
+            long rank = Math.max(1L, (long) Math.ceil(p / 100.0 * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(upperBound(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
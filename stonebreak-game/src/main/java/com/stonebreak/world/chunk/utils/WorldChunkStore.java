@@ -3,6 +3,7 @@ package com.stonebreak.world.chunk.utils;
 import com.stonebreak.core.Game;
 import com.stonebreak.player.Player;
 import com.openmason.engine.diagnostics.MemoryProfiler;
+import com.stonebreak.world.BlockChangeBatch;
 import com.stonebreak.world.chunk.Chunk;
 import com.stonebreak.world.chunk.ChunkStatus;
 import com.stonebreak.world.chunk.api.mightyMesh.mmsCore.MmsMeshPipeline;
@@ -18,6 +19,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -37,7 +39,7 @@ public class WorldChunkStore {
     private final FeatureQueue featureQueue;
 
     // Deferred feature population queue to break recursive generation cycles
-    private final Queue<ChunkPosition> pendingFeaturePopulation = new ConcurrentLinkedQueue<>();
+    private final Queue<FeatureJob> pendingFeaturePopulation = new ConcurrentLinkedQueue<>();
 
     // Column profiles (heights + biomes) computed during terrain generation,
     // consumed by deferred feature population so the noise stack isn't
@@ -192,6 +194,9 @@ public class WorldChunkStore {
         }
 
         // Start async chunk load
+        if (terrainGenerationEnabled) {
+            ChunkLatency.requested(x, z);
+        }
         CompletableFuture<Chunk> loadFuture = loadOrGenerateAsync(x, z)
             .thenApply(loadedChunk -> {
                 if (loadedChunk != null) {
@@ -220,14 +225,22 @@ public class WorldChunkStore {
      * Called when async chunk load completes.
      */
     private void finalizeChunkLoad(ChunkPosition pos, Chunk chunk) {
+        // Place queued features that were waiting for this chunk. They write into
+        // neighbours other decoration jobs may be writing, so they go through the
+        // same claimed dispatch rather than running here on the loading thread.
+        // Queued even when nothing waits yet: a neighbour's job can queue one onto
+        // this chunk between its hasChunk check and this chunk landing in the map,
+        // and the dispatcher re-checks when it gets here. Render-only clients never
+        // decorate (nor drain this queue), so they queue nothing.
+        if (terrainGenerationEnabled) {
+            pendingFeaturePopulation.offer(new FeatureJob(pos, true));
+        }
+
         // Queue for deferred feature population if not already populated
         if (!chunk.areFeaturesPopulated()) {
-            pendingFeaturePopulation.offer(pos);
+            pendingFeaturePopulation.offer(new FeatureJob(pos, false));
         }
 
-        // Process queued features that were waiting for this chunk
-        featureQueue.processChunk(world, pos);
-
         // Notify load listener
         if (loadListener != null) {
             notify(loadListener, chunk);
@@ -307,6 +320,10 @@ public class WorldChunkStore {
     }
 
     public void unloadChunk(int chunkX, int chunkZ) {
+        if (featureClaims.isClaimed(chunkX, chunkZ)) {
+            // A decoration job may be writing into it; the next unload sweep retries.
+            return;
+        }
         ChunkPosition pos = positionCache.get(chunkX, chunkZ);
         pendingColumnProfiles.remove(pos);
         Chunk chunk = chunks.remove(pos);
@@ -376,15 +393,20 @@ public class WorldChunkStore {
         // reconnect), where an inline glDeleteVertexArrays aborts the JVM ("No context is
         // current"). runOnMainThread runs the loop inline when we're already on the main
         // thread (shutdown / quit-to-menu), so those paths keep their exact old behavior.
+        // A dedicated server has no Game and no GL; its headless chunks never held GPU objects.
         final List<Chunk> chunksToRelease = new ArrayList<>(chunks.values());
-        Game.getInstance().runOnMainThread(() -> {
-            for (Chunk chunk : chunksToRelease) {
-                if (chunk != null) chunk.cleanupGpuResources();
-            }
-        });
+        Game game = Game.getInstance();
+        if (game != null) {
+            game.runOnMainThread(() -> {
+                for (Chunk chunk : chunksToRelease) {
+                    if (chunk != null) chunk.cleanupGpuResources();
+                }
+            });
+        }
         chunks.clear();
         positionCache.clear();
         featureQueue.clear();
+        coldTier.clear();
     }
 
     public ChunkPosition getCachedChunkPosition(int x, int z) {
@@ -404,18 +426,43 @@ public class WorldChunkStore {
         }
     }
 
-    // Feature population is TIME-budgeted, not count-budgeted. On the server
-    // tick the caller passes a DEADLINE anchored at the tick's own start
-    // (World.updateSimulation), so the drain consumes whatever real headroom
-    // this tick has left instead of a fixed private slice — a light tick
-    // populates for ~30 ms, a heavy one backs off automatically. The legacy
-    // render-thread path (single-world World.update) keeps a small fixed
-    // slice to protect the frame.
+    // Feature decoration runs on the generation pool. The tick thread only
+    // DISPATCHES: it walks the pending queue in order, claims each job's chunk
+    // neighbourhood and hands it to a worker; on later ticks it collects the
+    // finished jobs and does the tick-thread half (deferred block hooks, mesh
+    // scheduling, entity flags). The deadline still bounds the dispatch walk —
+    // on the server tick it is anchored at the tick's own start
+    // (World.updateSimulation); the legacy render-thread path keeps a small
+    // fixed slice to protect the frame.
     private static final long FEATURE_FRAME_SLICE_NANOS = 8_000_000L; // render-thread path only
-    private static final int FEATURE_HARD_CAP = 512;                 // runaway guard per drain
+    private static final int FEATURE_SCAN_CAP = 4096;                 // runaway guard per drain
+
+    // A chunk's own features write into its east/south neighbours (trees overhang
+    // by up to their leaf radius, under a chunk), so the job holds the 3x3 around
+    // it. Cross-chunk features queued on a chunk were rooted in a neighbour of it
+    // and reach one chunk further, hence 5x5.
+    private static final int POPULATE_CLAIM_RADIUS = 1;
+    private static final int QUEUED_FEATURES_CLAIM_RADIUS = 2;
+
+    /** One pending decoration job: a chunk's own features, or the cross-chunk features waiting on it. */
+    private record FeatureJob(ChunkPosition pos, boolean queuedFeatures) {
+        int claimRadius() {
+            return queuedFeatures ? QUEUED_FEATURES_CLAIM_RADIUS : POPULATE_CLAIM_RADIUS;
+        }
+    }
+
+    /** A job a worker finished, waiting for the tick thread to pick it up. */
+    private record FinishedFeatureJob(FeatureJob job, Chunk chunk, BlockChangeBatch changes, boolean failed) {
+    }
+
+    private final ChunkNeighbourhoodClaims featureClaims = new ChunkNeighbourhoodClaims();
+    private final Queue<FinishedFeatureJob> finishedFeatureJobs = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger featureJobsInFlight = new AtomicInteger();
+    // Tick-thread scratch: neighbourhoods of jobs that could not be claimed this pass.
+    private final Set<Long> featurePassBlocked = new HashSet<>();
 
     /**
-     * Render-thread variant: drains with a small fixed slice so the frame
+     * Render-thread variant: dispatches with a small fixed slice so the frame
      * stays protected. Server ticks use {@link #processPendingFeaturePopulation(long)}.
      */
     public void processPendingFeaturePopulation() {
@@ -423,68 +470,145 @@ public class WorldChunkStore {
     }
 
     /**
-     * Processes chunks waiting for feature population until {@code deadline}
-     * (nanoTime) passes or the queue empties. Only populates chunks whose
-     * neighbors exist to prevent recursion.
+     * Collects finished decoration jobs, then hands pending ones to the generation
+     * pool until {@code deadline} (nanoTime) passes, the queue is walked, or every
+     * worker has a job. Tick thread only.
+     *
+     * <p>A chunk is only populated once its east, south and south-east neighbours
+     * exist; until then it keeps its place in the queue without holding up the
+     * chunks behind it. Output is the serial drain's, whatever the pool size: jobs
+     * whose neighbourhoods overlap never run together, and a job that can't claim
+     * its neighbourhood also blocks every later job overlapping it for the rest of
+     * the pass, so overlapping jobs always run in queue order.
      */
     public void processPendingFeaturePopulation(long deadline) {
-
-        ChunkPosition pos;
-        int processed = 0;
-
-        while (processed < FEATURE_HARD_CAP && System.nanoTime() < deadline
-                && (pos = pendingFeaturePopulation.poll()) != null) {
+        applyFinishedFeatureJobs();
+
+        int maxInFlight = config.getChunkBuildThreads();
+        int scanned = 0;
+        featurePassBlocked.clear();
+        Iterator<FeatureJob> pending = pendingFeaturePopulation.iterator();
+        while (pending.hasNext() && scanned < FEATURE_SCAN_CAP && System.nanoTime() < deadline
+                && featureJobsInFlight.get() < maxInFlight) {
+            FeatureJob job = pending.next();
+            scanned++;
+            ChunkPosition pos = job.pos();
+            int x = pos.getX();
+            int z = pos.getZ();
             Chunk chunk = chunks.get(pos);
 
-            // Skip if chunk was unloaded or already has features
-            if (chunk == null || chunk.areFeaturesPopulated()) {
-                pendingColumnProfiles.remove(pos);
+            if (job.queuedFeatures()) {
+                // Nothing (left) waiting on this chunk: no job needed.
+                if (!featureQueue.hasPendingFeatures(pos)) {
+                    pending.remove();
+                    continue;
+                }
+            } else {
+                // Skip if chunk was unloaded or already has features
+                if (chunk == null || chunk.areFeaturesPopulated()) {
+                    pendingColumnProfiles.remove(pos);
+                    pending.remove();
+                    continue;
+                }
+                // Check if all required neighbors exist (east, south, southeast);
+                // if not, leave it queued for a later pass.
+                if (!(hasChunk(x + 1, z) && hasChunk(x, z + 1) && hasChunk(x + 1, z + 1))) {
+                    continue;
+                }
+            }
+
+            int radius = job.claimRadius();
+            if (ChunkNeighbourhoodClaims.overlaps(featurePassBlocked, x, z, radius)
+                    || !featureClaims.tryClaim(x, z, radius)) {
+                ChunkNeighbourhoodClaims.mark(featurePassBlocked, x, z, radius);
                 continue;
             }
+            pending.remove();
+            featureJobsInFlight.incrementAndGet();
+            // Profile from terrain generation (null for disk-loaded chunks
+            // that somehow still need features — populate recomputes then).
+            ColumnProfile profile = job.queuedFeatures() ? null : pendingColumnProfiles.remove(pos);
+            Runnable task = () -> runFeatureJob(job, chunk, profile);
+            try {
+                generationExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                task.run(); // pool shut down (world teardown): finish the job here
+            }
+        }
+    }
 
-            // Check if all required neighbors exist (east, south, southeast)
-            int x = pos.getX();
-            int z = pos.getZ();
-            boolean neighborsReady = hasChunk(x + 1, z) &&
-                                   hasChunk(x, z + 1) &&
-                                   hasChunk(x + 1, z + 1);
-
-            if (neighborsReady) {
-                // Neighbors exist - safe to populate features
-                try {
-                    // Profile from terrain generation (null for disk-loaded chunks
-                    // that somehow still need features — populate recomputes then).
-                    ColumnProfile profile = pendingColumnProfiles.remove(pos);
-                    terrainSystem.populateChunkWithFeatures(world, chunk, world.getSnowLayerManager(), profile);
-                    chunk.setFeaturesPopulated(true);
-                    // Features write via chunk.setBlock(), which only flips the CCO dirty flag
-                    // and does not schedule a remesh. If the mesh was already built from
-                    // terrain-only data (common when flying fast), flowers/wildgrass would
-                    // stay invisible until another write forced a rebuild. Schedule it here
-                    // so every populated chunk is guaranteed to remesh once features land.
-                    if (meshPipeline != null) {
-                        meshPipeline.scheduleConditionalMeshBuild(chunk);
-                    }
-                    // Passive mobs are no longer spawned at chunk generation. Population is owned
-                    // entirely by the server's continuous, visibility-capped spawner (EntitySpawner),
-                    // which fills the loaded area toward a dynamic cap and lets depopulated regions
-                    // refill. We still mark the chunk entity-processed so its persisted state stays
-                    // consistent and re-loaded chunks restore their own saved entities.
-                    if (!chunk.getCcoMetadata().hasEntities()) {
-                        chunk.setEntitiesGenerated(true);
-                    }
-                    ChunkPipelineStats.POPULATED.increment();
-                    processed++;
-                } catch (Exception e) {
-                    System.err.println("Exception populating features for chunk (" + x + ", " + z + "): " + e.getMessage());
-                    // Mark as populated anyway to prevent infinite retry
-                    chunk.setFeaturesPopulated(true);
-                }
+    /** Worker half of a decoration job: writes blocks, records hooks, frees the neighbourhood. */
+    private void runFeatureJob(FeatureJob job, Chunk chunk, ColumnProfile profile) {
+        long start = System.nanoTime();
+        BlockChangeBatch changes = new BlockChangeBatch();
+        boolean failed = false;
+        world.deferBlockChangeHooks(changes);
+        try {
+            if (job.queuedFeatures()) {
+                featureQueue.processChunk(world, job.pos());
             } else {
-                // Re-queue if neighbors not ready yet
-                pendingFeaturePopulation.offer(pos);
-                break; // Stop processing to prevent spinning on same chunk
+                terrainSystem.populateChunkWithFeatures(world, chunk, world.getSnowLayerManager(), profile);
+                chunk.setFeaturesPopulated(true);
+            }
+        } catch (Exception e) {
+            failed = true;
+            System.err.println("Exception populating features for chunk (" + job.pos().getX() + ", "
+                + job.pos().getZ() + "): " + e.getMessage());
+            if (chunk != null && !job.queuedFeatures()) {
+                // Mark as populated anyway to prevent infinite retry
+                chunk.setFeaturesPopulated(true);
+            }
+        } finally {
+            world.endDeferredBlockChangeHooks();
+            if (!job.queuedFeatures()) {
+                ChunkLatency.record(ChunkLatency.Stage.POPULATE, job.pos().getX(), job.pos().getZ(), start);
             }
+            featureClaims.release(job.pos().getX(), job.pos().getZ(), job.claimRadius());
+            finishedFeatureJobs.offer(new FinishedFeatureJob(job, chunk, changes, failed));
+            featureJobsInFlight.decrementAndGet();
+        }
+    }
+
+    /** Tick half of finished decoration jobs. */
+    private void applyFinishedFeatureJobs() {
+        FinishedFeatureJob finished;
+        while ((finished = finishedFeatureJobs.poll()) != null) {
+            world.replayBlockChangeHooks(finished.changes());
+            Chunk chunk = finished.chunk();
+            if (finished.job().queuedFeatures() || finished.failed() || chunk != chunks.get(finished.job().pos())) {
+                continue;
+            }
+            // Features write via chunk.setBlock(), which only flips the CCO dirty flag
+            // and does not schedule a remesh. If the mesh was already built from
+            // terrain-only data (common when flying fast), flowers/wildgrass would
+            // stay invisible until another write forced a rebuild. Schedule it here
+            // so every populated chunk is guaranteed to remesh once features land.
+            if (meshPipeline != null) {
+                meshPipeline.scheduleConditionalMeshBuild(chunk);
+            }
+            // Passive mobs are no longer spawned at chunk generation. Population is owned
+            // entirely by the server's continuous, visibility-capped spawner (EntitySpawner),
+            // which fills the loaded area toward a dynamic cap and lets depopulated regions
+            // refill. We still mark the chunk entity-processed so its persisted state stays
+            // consistent and re-loaded chunks restore their own saved entities.
+            if (!chunk.getCcoMetadata().hasEntities()) {
+                chunk.setEntitiesGenerated(true);
+            }
+            ChunkPipelineStats.POPULATED.increment();
+        }
+    }
+
+    // Idle chunks far from every player get their block sections packed; see ColdChunkTier.
+    private final ColdChunkTier coldTier = new ColdChunkTier();
+
+    /**
+     * Runs a cold-tier sweep (at most once a second, small time budget).
+     * Call from the thread that ticks this store, with the chunk columns the
+     * players stand in as {@code anchorXs/anchorZs[0..anchors)}.
+     */
+    public void updateColdTier(int[] anchorXs, int[] anchorZs, int anchors) {
+        if (ColdChunkTier.isEnabled()) {
+            coldTier.sweep(chunks, anchorXs, anchorZs, anchors, featureClaims);
         }
     }
 
@@ -526,6 +650,7 @@ public class WorldChunkStore {
         if (!terrainGenerationEnabled) {
             return generateEmptyChunk(x, z);
         }
+        long start = System.nanoTime();
         try {
             MemoryProfiler.getInstance().incrementAllocation("Chunk");
 
@@ -575,6 +700,7 @@ public class WorldChunkStore {
                 System.out.println("[WATER-GEN] Chunk (" + x + ", " + z + ") has flowing water - keeping dirty for save");
             }
 
+            ChunkLatency.record(ChunkLatency.Stage.GENERATE, x, z, start);
             return chunk;
         } catch (Exception e) {
             System.err.println("Exception generating chunk (" + x + ", " + z + "): " + e.getMessage());
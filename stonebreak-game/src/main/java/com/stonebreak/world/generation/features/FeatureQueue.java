@@ -68,6 +68,14 @@ public class FeatureQueue {
         }
     }
 
+    /**
+     * Whether any feature is waiting on this chunk — a cheap check so callers can skip
+     * scheduling {@link #processChunk} for the (common) chunk nothing is waiting on.
+     */
+    public boolean hasPendingFeatures(ChunkPosition chunkPos) {
+        return pendingFeatures.containsKey(chunkPos);
+    }
+
     /**
      * Checks if all required chunks for a feature are loaded.
      */
@@ -0,0 +1,24 @@
+package com.stonebreak.world.lighting;
+
+import com.openmason.engine.voxel.lighting.BlockLightEngine;
+import com.stonebreak.blocks.BlockType;
+
+/**
+ * Single table of how much block light each block type emits (0..15).
+ *
+ * <p>Counterpart of {@link BlockOpacity} for the engine's
+ * {@link BlockLightEngine}: a cell holding an emitter is lit at its emission
+ * level, falling off one level per block through non-opaque cells. New light
+ * sources (torches, lanterns) get their level here.
+ */
+public final class BlockEmission {
+
+    private BlockEmission() {}
+
+    /** Emission level of the block; 0 for anything that doesn't glow. */
+    public static int of(BlockType type) {
+        if (type == BlockType.MAGMA) return 12;
+        if (type == BlockType.CRYSTAL) return 9;
+        return 0;
+    }
+}
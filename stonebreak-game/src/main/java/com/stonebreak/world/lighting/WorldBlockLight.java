@@ -0,0 +1,196 @@
+package com.stonebreak.world.lighting;
+
+import com.openmason.engine.voxel.cco.data.CcoBlockStorage;
+import com.openmason.engine.voxel.cco.data.palette.CcoPaletteSection;
+import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
+import com.openmason.engine.voxel.cco.data.palette.CcoSectionIndexing;
+import com.openmason.engine.voxel.lighting.BlockLightEngine;
+import com.openmason.engine.voxel.lighting.ChunkBlockLight;
+import com.stonebreak.blocks.BlockType;
+import com.stonebreak.world.World;
+import com.stonebreak.world.chunk.Chunk;
+import com.stonebreak.world.operations.WorldConfiguration;
+
+import java.util.function.Consumer;
+
+/**
+ * Game-side host for the engine's {@link BlockLightEngine}: resolves light
+ * stores, emission ({@link BlockEmission}) and opacity ({@link BlockOpacity})
+ * against Stonebreak's chunk map, and turns "light changed here" into mesh
+ * rebuilds.
+ *
+ * <p>Only rendered worlds own one — light is display state, never saved or
+ * streamed, and re-seeded from the blocks whenever a chunk loads. Chunks
+ * report their own edits ({@link Chunk#attachBlockLight}); propagation runs on
+ * mesh worker threads via {@link #propagatePending()} ahead of each build.
+ */
+public final class WorldBlockLight implements BlockLightEngine.Host {
+
+    private static final int CHUNK_SIZE = WorldConfiguration.CHUNK_SIZE;
+
+    private final World world;
+    private final Consumer<Chunk> remesh;
+    private final BlockLightEngine engine;
+    /** Section block-id scratch for emitter scans; only the propagating thread scans. */
+    private final short[] sectionIds = new short[CHUNK_SIZE * CHUNK_SIZE * CcoSectionIndexing.SECTION_HEIGHT];
+    /** Emission by block id, rebuilt lazily when the registry grows. */
+    private int[] emissionById = new int[0];
+
+    public WorldBlockLight(World world, Consumer<Chunk> remesh) {
+        this.world = world;
+        this.remesh = remesh;
+        this.engine = new BlockLightEngine(this, CHUNK_SIZE, WorldConfiguration.WORLD_HEIGHT);
+    }
+
+    /** Chunk-load hook: the chunk starts reporting edits and is seeded on the next pass. */
+    public void onChunkLoaded(Chunk chunk) {
+        chunk.attachBlockLight(engine);
+        engine.onChunkLoaded(chunk.getChunkX(), chunk.getChunkZ());
+    }
+
+    /**
+     * Chunk-unload hook. Light it spilled into loaded neighbours is removed on
+     * the next pass; lit neighbours are remeshed so a worker runs that pass
+     * even when nothing else is building.
+     */
+    public void onChunkUnloaded(Chunk chunk) {
+        chunk.attachBlockLight(null);
+        int chunkX = chunk.getChunkX();
+        int chunkZ = chunk.getChunkZ();
+        engine.onChunkUnloaded(chunkX, chunkZ);
+        remeshIfLit(chunkX + 1, chunkZ);
+        remeshIfLit(chunkX - 1, chunkZ);
+        remeshIfLit(chunkX, chunkZ + 1);
+        remeshIfLit(chunkX, chunkZ - 1);
+    }
+
+    private void remeshIfLit(int chunkX, int chunkZ) {
+        Chunk chunk = world.getChunkIfLoaded(chunkX, chunkZ);
+        if (chunk != null && !chunk.getBlockLight().isEmpty()) {
+            remesh.accept(chunk);
+        }
+    }
+
+    /** Drains queued light work; called by mesh workers before they sample light. */
+    public void propagatePending() {
+        engine.propagatePending();
+    }
+
+    /**
+     * True when the chunk or one of its cardinal neighbours holds any block
+     * light — its mesh then has to sample it (the native mesher bakes sky and
+     * AO only).
+     */
+    public boolean isLitNear(int chunkX, int chunkZ) {
+        return isLit(chunkX, chunkZ)
+            || isLit(chunkX + 1, chunkZ) || isLit(chunkX - 1, chunkZ)
+            || isLit(chunkX, chunkZ + 1) || isLit(chunkX, chunkZ - 1);
+    }
+
+    private boolean isLit(int chunkX, int chunkZ) {
+        Chunk chunk = world.getChunkIfLoaded(chunkX, chunkZ);
+        return chunk != null && !chunk.getBlockLight().isEmpty();
+    }
+
+    // ─── BlockLightEngine.Host ────────────────────────────────────────────
+
+    @Override
+    public ChunkBlockLight lightStore(int chunkX, int chunkZ) {
+        Chunk chunk = world.getChunkIfLoaded(chunkX, chunkZ);
+        return chunk == null ? null : chunk.getBlockLight();
+    }
+
+    @Override
+    public int emission(int worldX, int worldY, int worldZ) {
+        return BlockEmission.of(blockAt(worldX, worldY, worldZ));
+    }
+
+    @Override
+    public boolean blocksLight(int worldX, int worldY, int worldZ) {
+        return BlockOpacity.isOpaque(blockAt(worldX, worldY, worldZ));
+    }
+
+    @Override
+    public void forEachEmitter(int chunkX, int chunkZ, BlockLightEngine.EmitterSink sink) {
+        Chunk chunk = world.getChunkIfLoaded(chunkX, chunkZ);
+        if (chunk == null) {
+            return;
+        }
+        int baseX = chunkX * CHUNK_SIZE;
+        int baseZ = chunkZ * CHUNK_SIZE;
+        CcoBlockStorage storage = chunk.getBlockStorageView();
+        if (!(storage instanceof CcoPalettedChunkStorage paletted)) {
+            for (int y = 0; y < WorldConfiguration.WORLD_HEIGHT; y++) {
+                for (int z = 0; z < CHUNK_SIZE; z++) {
+                    for (int x = 0; x < CHUNK_SIZE; x++) {
+                        int level = BlockEmission.of(chunk.getBlock(x, y, z));
+                        if (level > 0) {
+                            sink.emit(baseX + x, y, baseZ + z, level);
+                        }
+                    }
+                }
+            }
+            return;
+        }
+        // Paletted fast path: uniform sections are one lookup, the rest one
+        // bulk id copy plus an int-table probe per cell.
+        int cellsPerLayer = CHUNK_SIZE * CHUNK_SIZE;
+        int[] table = null;
+        for (int s = 0; s < paletted.getSectionCount(); s++) {
+            CcoPaletteSection section = paletted.getSection(s);
+            if (section.isUniform() && BlockEmission.of((BlockType) section.uniformBlock()) == 0) {
+                continue;
+            }
+            section.writeBlockIdsInto(sectionIds, 0);
+            if (table == null) {
+                table = emissionTable();
+            }
+            int baseY = s * CcoSectionIndexing.SECTION_HEIGHT;
+            for (int cell = 0; cell < sectionIds.length; cell++) {
+                int id = sectionIds[cell];
+                int level = id >= 0 && id < table.length ? table[id] : 0;
+                if (level > 0) {
+                    int ly = cell / cellsPerLayer;
+                    int rem = cell - ly * cellsPerLayer;
+                    sink.emit(baseX + rem % CHUNK_SIZE, baseY + ly, baseZ + rem / CHUNK_SIZE, level);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onLightChanged(int chunkX, int chunkZ) {
+        Chunk chunk = world.getChunkIfLoaded(chunkX, chunkZ);
+        if (chunk != null) {
+            remesh.accept(chunk);
+        }
+    }
+
+    private BlockType blockAt(int worldX, int worldY, int worldZ) {
+        Chunk chunk = world.getChunkIfLoaded(Math.floorDiv(worldX, CHUNK_SIZE), Math.floorDiv(worldZ, CHUNK_SIZE));
+        if (chunk == null) {
+            return null;
+        }
+        return chunk.getBlock(Math.floorMod(worldX, CHUNK_SIZE), worldY, Math.floorMod(worldZ, CHUNK_SIZE));
+    }
+
+    private int[] emissionTable() {
+        int[] table = emissionById;
+        BlockType[] types = BlockType.values();
+        int maxId = -1;
+        for (BlockType type : types) {
+            maxId = Math.max(maxId, type.getId());
+        }
+        if (table.length == maxId + 1) {
+            return table;
+        }
+        table = new int[maxId + 1];
+        for (BlockType type : types) {
+            if (type.getId() >= 0) {
+                table[type.getId()] = BlockEmission.of(type);
+            }
+        }
+        emissionById = table;
+        return table;
+    }
+}
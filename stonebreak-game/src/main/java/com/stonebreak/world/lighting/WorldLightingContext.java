@@ -13,9 +13,9 @@ import com.stonebreak.world.operations.WorldConfiguration;
  * {@code BlockType} concrete types — the engine only sees integer world coords
  * and booleans.
  *
- * <p>Both query methods refuse to trigger chunk generation. Unloaded chunks
- * are reported as "no data" (column height -1, solid false) so the mesh-thread
- * sampler can't cascade into runaway loads.
+ * <p>All query methods refuse to trigger chunk generation. Unloaded chunks
+ * are reported as "no data" (column height -1, solid false, block light 0) so
+ * the mesh-thread sampler can't cascade into runaway loads.
  */
 public final class WorldLightingContext implements LightingContext {
 
@@ -56,6 +56,19 @@ public final class WorldLightingContext implements LightingContext {
         return BlockOpacity.isOpaque(chunk.getBlock(lx, worldY, lz));
     }
 
+    @Override
+    public int getBlockLight(int worldX, int worldY, int worldZ) {
+        if (worldY < 0 || worldY >= WorldConfiguration.WORLD_HEIGHT) return 0;
+        int cx = Math.floorDiv(worldX, WorldConfiguration.CHUNK_SIZE);
+        int cz = Math.floorDiv(worldZ, WorldConfiguration.CHUNK_SIZE);
+        if (world == null) return 0;
+        Chunk chunk = world.getChunkIfLoaded(cx, cz);
+        if (chunk == null) return 0;
+        int lx = Math.floorMod(worldX, WorldConfiguration.CHUNK_SIZE);
+        int lz = Math.floorMod(worldZ, WorldConfiguration.CHUNK_SIZE);
+        return chunk.getBlockLight().get(lx, worldY, lz);
+    }
+
     /** Returns a {@link ColumnOpacityProbe} that queries the given chunk's blocks. */
     public static ColumnOpacityProbe probeFor(Chunk chunk) {
         return (lx, ly, lz) -> BlockOpacity.isOpaque(chunk.getBlock(lx, ly, lz));
@@ -28,8 +28,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * <ul>
  *   <li><b>Load pool</b> — chunk loads / existence probes. Never queues behind
  *       saves, so exploration keeps streaming during an auto-save.</li>
- *   <li><b>Save pool</b> — per-chunk save tasks (encode + atomic write are both
- *       parallel-safe: per-chunk files, temp+move, stateless codec) plus the
+ *   <li><b>Save pool</b> — per-region save tasks (encode + region write are both
+ *       parallel-safe: stateless codec, one lock per region file) plus the
  *       rare metadata/player writes.</li>
  * </ul>
  * The only ordering that matters — operations on the SAME chunk — is enforced
@@ -43,6 +43,8 @@ public class SaveService implements AutoCloseable {
     private static final int AUTO_SAVE_INTERVAL_SECONDS = 30;
     private static final int SAVE_THREADS = 4;
     private static final int LOAD_THREADS = 4;
+    /** Chunk edge length of one region file — save batches are split along these. */
+    private static final int REGION_SIZE = 32;
 
     private final String worldPath;
     private final FileSaveRepository repository;
@@ -93,6 +95,25 @@ public class SaveService implements AutoCloseable {
         } catch (IOException e) {
             throw new RuntimeException("Failed to create world directory: " + worldPath, e);
         }
+        migrateLegacyChunks();
+    }
+
+    /**
+     * Upgrades worlds saved with one file per chunk to region containers before
+     * the first load probe. A failure leaves the legacy files in place and is
+     * logged — it must not keep the world from opening.
+     */
+    private void migrateLegacyChunks() {
+        long start = System.currentTimeMillis();
+        try {
+            var result = repository.migrateLegacyChunks();
+            if (!result.isEmpty()) {
+                System.out.printf("[SAVE] Migrated %d chunks to region files in %dms (%d already present, %d failed)%n",
+                    result.migrated(), System.currentTimeMillis() - start, result.skipped(), result.failed());
+            }
+        } catch (IOException e) {
+            System.err.println("[SAVE] Legacy chunk migration failed: " + e.getMessage());
+        }
     }
 
     public void initialize(WorldData worldData, Player player, World world) {
@@ -357,12 +378,13 @@ public class SaveService implements AutoCloseable {
     }
 
     /**
-     * Fans the batch out as ONE task per chunk across the save pool (parallel
-     * encode + write on SSD) instead of a single monolithic batch task — a
-     * 2600-chunk auto-save used to hold the sole IO thread for 5+ seconds,
-     * starving every chunk-load probe behind it. Same-chunk ordering is kept
-     * by chaining each chunk's task behind its previous in-flight save; a
-     * failed chunk re-marks only itself dirty for the next save round.
+     * Fans the batch out as ONE task per region across the save pool (parallel
+     * encode + write on SSD, one region-file write pass per task) instead of a
+     * single monolithic batch task — a 2600-chunk auto-save used to hold the
+     * sole IO thread for 5+ seconds, starving every chunk-load probe behind it.
+     * Same-chunk ordering is kept by chaining each region task behind the
+     * previous in-flight save of every chunk it carries; a failed region
+     * re-marks only its own chunks dirty for the next save round.
      */
     private CompletableFuture<Void> submitSave(SaveWork work) {
         List<ChunkSaveTask> chunkTasks = work.chunks();
@@ -390,33 +412,59 @@ public class SaveService implements AutoCloseable {
             }));
         }
 
+        java.util.Map<Long, List<ChunkSaveTask>> byRegion = new java.util.LinkedHashMap<>();
         for (ChunkSaveTask task : chunkTasks) {
-            parts.add(submitChunkSave(task, work.reason()));
+            long regionKey = chunkKey(Math.floorDiv(task.data().getChunkX(), REGION_SIZE),
+                Math.floorDiv(task.data().getChunkZ(), REGION_SIZE));
+            byRegion.computeIfAbsent(regionKey, k -> new ArrayList<>()).add(task);
+        }
+        for (List<ChunkSaveTask> regionTasks : byRegion.values()) {
+            parts.add(submitRegionSave(regionTasks, work.reason()));
         }
         return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new));
     }
 
-    private CompletableFuture<Void> submitChunkSave(ChunkSaveTask task, String reason) {
-        long key = chunkKey(task.data().getChunkX(), task.data().getChunkZ());
-        CompletableFuture<Void> run = pendingChunkSaves.compute(key, (k, prev) -> {
-            CompletableFuture<Void> gate = prev == null
-                ? CompletableFuture.completedFuture(null)
-                : prev.exceptionally(t -> null);
-            return gate.thenRunAsync(() -> {
+    private CompletableFuture<Void> submitRegionSave(List<ChunkSaveTask> tasks, String reason) {
+        long[] keys = new long[tasks.size()];
+        List<ChunkData> data = new ArrayList<>(tasks.size());
+        for (int i = 0; i < keys.length; i++) {
+            ChunkData chunkData = tasks.get(i).data();
+            keys[i] = chunkKey(chunkData.getChunkX(), chunkData.getChunkZ());
+            data.add(chunkData);
+        }
+
+        CompletableFuture<Void> run;
+        // Gate lookup + registration must be atomic across all keys of the
+        // region, or a concurrent batch could slip between a chunk's gate and
+        // its replacement.
+        synchronized (pendingChunkSaves) {
+            CompletableFuture<?>[] gates = new CompletableFuture<?>[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                CompletableFuture<Void> prev = pendingChunkSaves.get(keys[i]);
+                gates[i] = prev == null ? CompletableFuture.completedFuture(null) : prev.exceptionally(t -> null);
+            }
+            run = CompletableFuture.allOf(gates).thenRunAsync(() -> {
                 try {
-                    repository.saveChunk(task.data());
+                    repository.saveChunks(data);
                 } catch (IOException e) {
                     throw new RuntimeException("Chunk save failed (" + reason + ")", e);
                 }
             }, savePool);
-        });
+            for (long key : keys) {
+                pendingChunkSaves.put(key, run);
+            }
+        }
         run.whenComplete((ignored, throwable) -> {
-            pendingChunkSaves.remove(key, run);
+            for (long key : keys) {
+                pendingChunkSaves.remove(key, run);
+            }
             if (throwable != null) {
-                task.chunk().getCcoDirtyTracker().markDataDirtyOnly();
-                System.err.println("[SAVE] Chunk (" + task.data().getChunkX() + ","
-                    + task.data().getChunkZ() + ") save failed (" + reason + "): "
-                    + throwable.getMessage());
+                for (ChunkSaveTask task : tasks) {
+                    task.chunk().getCcoDirtyTracker().markDataDirtyOnly();
+                }
+                System.err.println("[SAVE] Region batch of " + tasks.size() + " chunks starting at ("
+                    + data.get(0).getChunkX() + "," + data.get(0).getChunkZ() + ") save failed ("
+                    + reason + "): " + throwable.getMessage());
             }
         });
         return run;
@@ -22,6 +22,8 @@ public final class WorldStorage {
 
     private static final String APP_DIR_NAME = "Stonebreak";
     private static final String WORLDS_DIR_NAME = "worlds";
+    private static final String CHUNK_CACHE_DIR_NAME = "chunk-cache";
+    private static final String ASSET_CACHE_DIR_NAME = "asset-cache";
 
     private WorldStorage() {
     }
@@ -41,6 +43,22 @@ public final class WorldStorage {
         return worldDir(worldName).toString();
     }
 
+    /**
+     * Base directory of the multiplayer client's chunk cache, one subdirectory per server
+     * world. Kept beside {@code worlds} rather than inside it: it is disposable, not a save.
+     */
+    public static Path chunkCacheRoot() {
+        return appDataDir().resolve(CHUNK_CACHE_DIR_NAME);
+    }
+
+    /**
+     * Directory of baked asset caches (decoded SBOs). Disposable like the chunk cache:
+     * deleting it only costs one slower boot.
+     */
+    public static Path assetCacheRoot() {
+        return appDataDir().resolve(ASSET_CACHE_DIR_NAME);
+    }
+
     private static Path appDataDir() {
         String os = System.getProperty("os.name", "").toLowerCase();
 
@@ -1,6 +1,7 @@
 package com.stonebreak.world.save.diagnostics;
 
 import com.stonebreak.world.save.io.ChunkCodec;
+import com.stonebreak.world.save.io.ChunkStorage;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -11,7 +12,9 @@ import java.util.List;
 import java.util.stream.Stream;
 
 /**
- * Scans chunk files produced by the new save system and deletes unreadable entries.
+ * Scans chunks produced by the new save system and deletes unreadable entries:
+ * every payload inside the region containers, plus any leftover legacy
+ * per-chunk {@code .sbc} files that were not migrated.
  * Usage: {@code java CorruptionCleanupTool <world-path>}.
  */
 public class CorruptionCleanupTool {
@@ -51,6 +54,14 @@ public class CorruptionCleanupTool {
         System.out.println("Chunk directory: " + chunkRoot);
         System.out.println();
 
+        try (ChunkStorage storage = new ChunkStorage(chunkRoot)) {
+            List<int[]> regionChunks = storage.listChunks();
+            System.out.println("Found " + regionChunks.size() + " chunks in region files to scan");
+            for (int[] chunk : regionChunks) {
+                scanRegionChunk(storage, chunk[0], chunk[1]);
+            }
+        }
+
         List<Path> chunkFiles;
         try (Stream<Path> files = Files.walk(chunkRoot)) {
             chunkFiles = files
@@ -58,7 +69,7 @@ public class CorruptionCleanupTool {
                 .toList();
         }
 
-        System.out.println("Found " + chunkFiles.size() + " chunk files to scan");
+        System.out.println("Found " + chunkFiles.size() + " legacy chunk files to scan");
         System.out.println();
 
         for (Path chunkFile : chunkFiles) {
@@ -66,6 +77,24 @@ public class CorruptionCleanupTool {
         }
     }
 
+    private void scanRegionChunk(ChunkStorage storage, int chunkX, int chunkZ) {
+        totalChunksScanned++;
+        try {
+            storage.loadChunk(chunkX, chunkZ); // Throws on corruption
+        } catch (Exception e) {
+            corruptedChunksFound++;
+            String message = "[CORRUPTED] region chunk (" + chunkX + "," + chunkZ + ") - " + e.getMessage();
+            corruptionLog.add(message);
+            try {
+                storage.deleteChunk(chunkX, chunkZ);
+                chunksDeleted++;
+                System.out.println(message + " - DELETED");
+            } catch (IOException deleteError) {
+                System.out.println(message + " - DELETE FAILED: " + deleteError.getMessage());
+            }
+        }
+    }
+
     private void scanChunkFile(Path chunkFile) {
         totalChunksScanned++;
         try {
@@ -3,99 +3,296 @@ package com.stonebreak.world.save.io;
 import com.stonebreak.world.save.model.ChunkData;
 
 import java.io.IOException;
-import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Filesystem backed chunk store.
- * Uses a simple per-chunk file layout:
+ * One {@link RegionFile} container per 32x32 chunk region:
  *
  * <pre>
  *   chunks/
- *     r.&lt;regionX&gt;.&lt;regionZ&gt;/
- *       c.&lt;chunkX&gt;.&lt;chunkZ&gt;.sbc
+ *     r.&lt;regionX&gt;.&lt;regionZ&gt;.sbr
  * </pre>
  *
- * Region folders keep directory sizes manageable while maintaining atomic writes via
- * temporary files and {@link Files#move(Path, Path, java.nio.file.CopyOption...)}.
+ * Payloads are {@link ChunkCodec} bytes, unchanged from the old layout of one
+ * {@code r.X.Z/c.X.Z.sbc} file per chunk — {@link LegacyChunkMigrator} moves
+ * those into region containers without re-encoding.
+ *
+ * <p>{@link #saveChunks(Collection)} groups its batch by region and does one
+ * write pass (one table write, one force) per region instead of a temp file,
+ * fsync and rename per chunk. A bounded cache keeps recently used regions
+ * open. At most one {@link RegionFile} is ever open per region file — each
+ * instance owns its sector table and free list, so two on the same path
+ * would hand out the same sectors and overwrite each other's tables. The
+ * cache therefore never evicts a region a caller still holds (it grows past
+ * its bound instead), and a region retired by {@link #close()} while in use
+ * stays cached until released.
  */
-public final class ChunkStorage {
+public final class ChunkStorage implements AutoCloseable {
 
     private static final String REGION_PREFIX = "r.";
-    private static final String CHUNK_PREFIX = "c.";
-    private static final String CHUNK_SUFFIX = ".sbc";
-    private static final int REGION_SIZE = 32;
+    private static final String REGION_SUFFIX = ".sbr";
+    private static final int REGION_SIZE = RegionFile.REGION_SIZE;
+    private static final int MAX_OPEN_REGIONS = 64;
 
     private final Path rootDirectory;
+    private final int maxOpenRegions;
+
+    /** Open regions by {@link #regionKey}, access-ordered for LRU eviction. Guarded by itself. */
+    private final LinkedHashMap<Long, RegionFile> openRegions = new LinkedHashMap<>(16, 0.75f, true);
 
     public ChunkStorage(Path rootDirectory) {
+        this(rootDirectory, MAX_OPEN_REGIONS);
+    }
+
+    ChunkStorage(Path rootDirectory, int maxOpenRegions) {
         this.rootDirectory = rootDirectory;
+        this.maxOpenRegions = maxOpenRegions;
     }
 
     public void saveChunks(Collection<ChunkData> chunks) throws IOException {
+        Map<Long, Map<Integer, byte[]>> byRegion = new HashMap<>();
         for (ChunkData chunk : chunks) {
-            saveChunk(chunk);
+            long key = regionKey(regionOf(chunk.getChunkX()), regionOf(chunk.getChunkZ()));
+            byRegion.computeIfAbsent(key, k -> new LinkedHashMap<>())
+                .put(RegionFile.index(chunk.getChunkX(), chunk.getChunkZ()), ChunkCodec.encode(chunk));
+        }
+        for (Map.Entry<Long, Map<Integer, byte[]>> entry : byRegion.entrySet()) {
+            long key = entry.getKey();
+            writeRegion((int) (key >> 32), (int) key, entry.getValue());
         }
     }
 
     public void saveChunk(ChunkData chunk) throws IOException {
-        Path target = chunkFile(chunk.getChunkX(), chunk.getChunkZ());
-        ensureParentExists(target);
-
-        byte[] payload = ChunkCodec.encode(chunk);
-        // Unique temp name per write: a fixed sibling name races when two
-        // threads save the same chunk concurrently (the loser's move throws
-        // NoSuchFileException after the winner consumed the shared temp file).
-        Path temp = target.resolveSibling(target.getFileName() + "."
-            + Long.toUnsignedString(System.nanoTime(), 36)
-            + "-" + Thread.currentThread().threadId() + ".tmp");
-
-        Files.write(temp, payload);
-        try {
-            Files.move(temp, target,
-                StandardCopyOption.REPLACE_EXISTING,
-                StandardCopyOption.ATOMIC_MOVE);
-        } catch (AtomicMoveNotSupportedException e) {
-            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
-        }
+        saveChunks(List.of(chunk));
     }
 
     public Optional<ChunkData> loadChunk(int chunkX, int chunkZ) throws IOException {
-        Path file = chunkFile(chunkX, chunkZ);
-        if (!Files.exists(file)) {
+        RegionFile region = acquireRegion(regionOf(chunkX), regionOf(chunkZ), false);
+        if (region == null) {
             return Optional.empty();
         }
-        byte[] payload = Files.readAllBytes(file);
-        return Optional.of(ChunkCodec.decode(payload));
+        try {
+            byte[] payload = region.read(RegionFile.index(chunkX, chunkZ));
+            return payload == null ? Optional.empty() : Optional.of(ChunkCodec.decode(payload));
+        } finally {
+            region.release();
+        }
     }
 
     public boolean chunkExists(int chunkX, int chunkZ) {
-        return Files.exists(chunkFile(chunkX, chunkZ));
+        try {
+            RegionFile region = acquireRegion(regionOf(chunkX), regionOf(chunkZ), false);
+            if (region == null) {
+                return false;
+            }
+            try {
+                return region.contains(RegionFile.index(chunkX, chunkZ));
+            } finally {
+                region.release();
+            }
+        } catch (IOException e) {
+            System.err.println("[SAVE] Region probe failed for chunk (" + chunkX + "," + chunkZ + "): "
+                + e.getMessage());
+            return false;
+        }
     }
 
     public void deleteChunk(int chunkX, int chunkZ) throws IOException {
-        Path file = chunkFile(chunkX, chunkZ);
-        Files.deleteIfExists(file);
+        RegionFile region = acquireRegion(regionOf(chunkX), regionOf(chunkZ), false);
+        if (region == null) {
+            return;
+        }
+        try {
+            region.delete(RegionFile.index(chunkX, chunkZ));
+        } finally {
+            region.release();
+        }
+    }
+
+    /**
+     * Coordinates ({@code {chunkX, chunkZ}}) of every chunk held in a region
+     * container under the root. Used by diagnostics; not a hot path.
+     */
+    public List<int[]> listChunks() throws IOException {
+        List<int[]> chunks = new ArrayList<>();
+        if (!Files.isDirectory(rootDirectory)) {
+            return chunks;
+        }
+        List<Path> regionFiles;
+        try (var files = Files.list(rootDirectory)) {
+            regionFiles = files.filter(path -> path.getFileName().toString().endsWith(REGION_SUFFIX)).toList();
+        }
+        for (Path file : regionFiles) {
+            String name = file.getFileName().toString();
+            String[] parts = name.substring(REGION_PREFIX.length(), name.length() - REGION_SUFFIX.length())
+                .split("\\.");
+            int regionX;
+            int regionZ;
+            try {
+                regionX = Integer.parseInt(parts[0]);
+                regionZ = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                continue;
+            }
+            RegionFile region = acquireRegion(regionX, regionZ, false);
+            if (region == null) {
+                continue;
+            }
+            try {
+                for (int index = 0; index < REGION_SIZE * REGION_SIZE; index++) {
+                    if (region.contains(index)) {
+                        chunks.add(new int[] {
+                            regionX * REGION_SIZE + index % REGION_SIZE,
+                            regionZ * REGION_SIZE + index / REGION_SIZE
+                        });
+                    }
+                }
+            } finally {
+                region.release();
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Closes every cached region; the storage reopens them lazily if used
+     * again. Regions still in use close on their last release and stay cached
+     * until then, so a concurrent caller gets the same instance back.
+     */
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        synchronized (openRegions) {
+            var entries = openRegions.values().iterator();
+            while (entries.hasNext()) {
+                RegionFile region = entries.next();
+                try {
+                    region.retire();
+                } catch (IOException e) {
+                    failure = e;
+                }
+                if (region.isClosed()) {
+                    entries.remove();
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /** Regions currently cached open. Test hook. */
+    int openRegionCount() {
+        synchronized (openRegions) {
+            return openRegions.size();
+        }
+    }
+
+    Path rootDirectory() {
+        return rootDirectory;
     }
 
-    private Path chunkFile(int chunkX, int chunkZ) {
-        int regionX = Math.floorDiv(chunkX, REGION_SIZE);
-        int regionZ = Math.floorDiv(chunkZ, REGION_SIZE);
-        Path regionDir = rootDirectory.resolve(REGION_PREFIX + regionX + "." + regionZ);
-        return regionDir.resolve(CHUNK_PREFIX + chunkX + "." + chunkZ + CHUNK_SUFFIX);
+    /**
+     * One write pass into a region: {@code payloads} are already-encoded chunk
+     * bytes keyed by region table index. Shared by saves and
+     * {@link LegacyChunkMigrator}, which copies legacy payloads verbatim.
+     */
+    void writeRegion(int regionX, int regionZ, Map<Integer, byte[]> payloads) throws IOException {
+        RegionFile region = acquireRegion(regionX, regionZ, true);
+        try {
+            region.writeAll(payloads);
+        } finally {
+            region.release();
+        }
+    }
+
+    /** True if the region container already holds a payload for the chunk. */
+    boolean regionContains(int chunkX, int chunkZ) throws IOException {
+        RegionFile region = acquireRegion(regionOf(chunkX), regionOf(chunkZ), false);
+        if (region == null) {
+            return false;
+        }
+        try {
+            return region.contains(RegionFile.index(chunkX, chunkZ));
+        } finally {
+            region.release();
+        }
     }
 
-    private void ensureParentExists(Path target) throws IOException {
-        Path parent = target.getParent();
-        if (parent != null && !Files.exists(parent)) {
-            Files.createDirectories(parent);
+    /**
+     * Retained region for the caller, opened (and created when {@code create})
+     * on a cache miss. Returns {@code null} when absent and not creating.
+     * Callers must {@link RegionFile#release()} in a finally block.
+     */
+    private RegionFile acquireRegion(int regionX, int regionZ, boolean create) throws IOException {
+        long key = regionKey(regionX, regionZ);
+        RegionFile evicted = null;
+        RegionFile region;
+        synchronized (openRegions) {
+            region = openRegions.get(key);
+            if (region != null && !region.retainIfOpen()) {
+                // Retired by close() and released since: nobody holds it.
+                openRegions.remove(key);
+                region = null;
+            }
+            if (region == null) {
+                Path file = regionFile(regionX, regionZ);
+                if (!create && !Files.exists(file)) {
+                    return null;
+                }
+                if (!Files.exists(rootDirectory)) {
+                    Files.createDirectories(rootDirectory);
+                }
+                region = RegionFile.open(file);
+                region.retain();
+                openRegions.put(key, region);
+                if (openRegions.size() > maxOpenRegions) {
+                    evicted = evictIdle();
+                }
+            }
+        }
+        if (evicted != null) {
+            evicted.retire();
         }
-        if (!Files.exists(rootDirectory)) {
-            Files.createDirectories(rootDirectory);
+        return region;
+    }
+
+    /**
+     * Removes the least recently used region nobody holds, or returns null
+     * when every cached region is in use (the cache then stays over its bound
+     * until a later miss finds one idle). References are only taken under
+     * the cache lock, so an idle region cannot be picked up once removed.
+     */
+    private RegionFile evictIdle() {
+        var eldest = openRegions.values().iterator();
+        while (eldest.hasNext()) {
+            RegionFile candidate = eldest.next();
+            if (!candidate.inUse()) {
+                eldest.remove();
+                return candidate;
+            }
         }
+        return null;
+    }
+
+    private Path regionFile(int regionX, int regionZ) {
+        return rootDirectory.resolve(REGION_PREFIX + regionX + "." + regionZ + REGION_SUFFIX);
+    }
+
+    private static int regionOf(int chunkCoord) {
+        return Math.floorDiv(chunkCoord, REGION_SIZE);
+    }
+
+    private static long regionKey(int regionX, int regionZ) {
+        return (((long) regionX) << 32) | (regionZ & 0xFFFFFFFFL);
     }
 }
@@ -0,0 +1,129 @@
+package com.stonebreak.world.save.io;
+
+import com.stonebreak.world.save.model.ChunkData;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One-shot upgrade from the per-chunk layout ({@code r.X.Z/c.X.Z.sbc}) to
+ * {@link RegionFile} containers. Each legacy region folder becomes one write
+ * pass into its region file; payload bytes are copied verbatim (decoded only
+ * to validate them), so no chunk is re-encoded.
+ *
+ * <p>Legacy files are deleted only after their region pass has been forced to
+ * disk. Files that fail to decode are left in place and reported, so a bad
+ * chunk never blocks the rest of the world from migrating. A chunk already
+ * present in the region container wins over its legacy file — the container
+ * can only have been written by a newer save.
+ */
+public final class LegacyChunkMigrator {
+
+    private static final Pattern REGION_DIR = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)");
+    private static final Pattern CHUNK_FILE = Pattern.compile("c\\.(-?\\d+)\\.(-?\\d+)\\.sbc");
+
+    private LegacyChunkMigrator() {
+    }
+
+    /** Outcome of a migration run. */
+    public record Result(int migrated, int skipped, int failed) {
+        public boolean isEmpty() {
+            return migrated == 0 && skipped == 0 && failed == 0;
+        }
+    }
+
+    /** Migrates every legacy region folder under the storage root. Cheap no-op once done. */
+    public static Result migrate(ChunkStorage storage) throws IOException {
+        Path root = storage.rootDirectory();
+        if (!Files.isDirectory(root)) {
+            return new Result(0, 0, 0);
+        }
+        List<Path> legacyDirs = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(root)) {
+            for (Path entry : entries) {
+                if (Files.isDirectory(entry) && REGION_DIR.matcher(entry.getFileName().toString()).matches()) {
+                    legacyDirs.add(entry);
+                }
+            }
+        }
+
+        int migrated = 0;
+        int skipped = 0;
+        int failed = 0;
+        for (Path dir : legacyDirs) {
+            Matcher regionName = REGION_DIR.matcher(dir.getFileName().toString());
+            regionName.matches();
+            int regionX = Integer.parseInt(regionName.group(1));
+            int regionZ = Integer.parseInt(regionName.group(2));
+
+            Map<Integer, byte[]> payloads = new LinkedHashMap<>();
+            List<Path> consumed = new ArrayList<>();
+            List<Path> stale = new ArrayList<>();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    if (name.endsWith(".tmp")) {
+                        // Orphaned temp from an interrupted legacy write.
+                        stale.add(file);
+                        continue;
+                    }
+                    Matcher chunkName = CHUNK_FILE.matcher(name);
+                    if (!chunkName.matches()) {
+                        continue;
+                    }
+                    int chunkX = Integer.parseInt(chunkName.group(1));
+                    int chunkZ = Integer.parseInt(chunkName.group(2));
+                    if (Math.floorDiv(chunkX, RegionFile.REGION_SIZE) != regionX
+                            || Math.floorDiv(chunkZ, RegionFile.REGION_SIZE) != regionZ) {
+                        failed++;
+                        System.err.println("[SAVE] Legacy chunk " + file + " is outside its region folder");
+                        continue;
+                    }
+                    if (storage.regionContains(chunkX, chunkZ)) {
+                        stale.add(file);
+                        skipped++;
+                        continue;
+                    }
+                    try {
+                        byte[] payload = Files.readAllBytes(file);
+                        ChunkData decoded = ChunkCodec.decode(payload);
+                        if (decoded.getChunkX() != chunkX || decoded.getChunkZ() != chunkZ) {
+                            throw new IOException("payload is chunk (" + decoded.getChunkX() + ","
+                                + decoded.getChunkZ() + ")");
+                        }
+                        payloads.put(RegionFile.index(chunkX, chunkZ), payload);
+                        consumed.add(file);
+                    } catch (IOException | RuntimeException e) {
+                        failed++;
+                        System.err.println("[SAVE] Legacy chunk " + file + " not migrated: " + e.getMessage());
+                    }
+                }
+            }
+
+            if (!payloads.isEmpty()) {
+                storage.writeRegion(regionX, regionZ, payloads);
+            }
+            migrated += consumed.size();
+            for (Path file : consumed) {
+                Files.deleteIfExists(file);
+            }
+            for (Path file : stale) {
+                Files.deleteIfExists(file);
+            }
+            try (DirectoryStream<Path> remaining = Files.newDirectoryStream(dir)) {
+                if (!remaining.iterator().hasNext()) {
+                    Files.delete(dir);
+                }
+            }
+        }
+        return new Result(migrated, skipped, failed);
+    }
+}
@@ -0,0 +1,502 @@
+package com.stonebreak.world.save.io;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32C;
+
+/**
+ * One 32x32-chunk region container. Replaces the old one-file-per-chunk
+ * layout: a single file per region, a fixed sector allocation table up front,
+ * and {@link ChunkCodec} payloads packed into 4 KB sectors behind it.
+ *
+ * <pre>
+ * Header (6 sectors): two copies, at sector 0 and sector 3, each
+ *   magic (int)            = 'SBRG'
+ *   version (int)
+ *   generation (long)      bumped on every table write
+ *   table[1024]            indexed (localZ * 32 + localX):
+ *     sectorOffset (int)   first sector of the payload, 0 = chunk absent
+ *     byteLength (int)     exact payload length
+ *   crc (int)              CRC32C of everything above
+ *
+ * Body:
+ *   payloads, each starting on a sector boundary, occupying
+ *   ceil(byteLength / 4096) contiguous sectors
+ * </pre>
+ *
+ * <p>Writes are copy-on-write at sector granularity: a batch writes every new
+ * payload into free sectors and forces them, then writes the table into the
+ * header copy that does not hold the newest generation and forces again. The
+ * table write spans three sectors and is not atomic, but it only ever
+ * overwrites the older copy; on open the newest copy whose checksum holds
+ * wins, so a crash at any point leaves either the previous or the new table,
+ * each pointing at payloads already on disk. The sectors a batch replaced
+ * only return to the free list once the newest table points away from them;
+ * the older copy may still reference them, but it is never picked while the
+ * newer one is intact.
+ *
+ * <p>Version 1 files (one header copy, payloads from sector 3) are upgraded
+ * on open: payloads in sectors 3-5 move out and the single table is rewritten
+ * in place before the second copy claims those sectors. That one rewrite has
+ * the old single-table exposure; every write after it does not.
+ *
+ * <p>Reads go through a read-only memory mapping of the file, guarded by a
+ * read lock; writers take the write lock and remap once the file has grown.
+ * The mapping lives in its own shared {@link Arena} so it is released
+ * deterministically on close instead of waiting for GC (matters on Windows,
+ * where a mapped file cannot be deleted).
+ */
+final class RegionFile implements AutoCloseable {
+
+    static final int REGION_SIZE = 32;
+    static final int SECTOR_BYTES = 4096;
+
+    private static final int CHUNKS = REGION_SIZE * REGION_SIZE;
+    private static final int MAGIC = 0x53425247; // 'SBRG'
+    private static final int VERSION = 2;
+    private static final int LEGACY_VERSION = 1;
+    private static final int GENERATION_OFFSET = 8;
+    private static final int TABLE_OFFSET = 16;
+    private static final int CRC_OFFSET = TABLE_OFFSET + CHUNKS * 8;
+    private static final int HEADER_BYTES = CRC_OFFSET + 4;
+    private static final int COPY_SECTORS = (HEADER_BYTES + SECTOR_BYTES - 1) / SECTOR_BYTES;
+    private static final int HEADER_SECTORS = 2 * COPY_SECTORS;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int[] sectorOffsets = new int[CHUNKS];
+    private final int[] byteLengths = new int[CHUNKS];
+    private final BitSet usedSectors = new BitSet();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Header copy holding the newest table, and that table's generation. The
+    // next table write goes to the other copy.
+    private int headerSlot = 1;
+    private long generation;
+
+    private Arena mapArena;
+    private MemorySegment mapped;
+
+    // Owner bookkeeping (ChunkStorage's open-region cache): a retired region
+    // closes once the last in-flight caller releases it. Guarded by this.
+    private int refs;
+    private boolean retired;
+    private boolean closed;
+
+    private RegionFile(Path path, FileChannel channel) {
+        this.path = path;
+        this.channel = channel;
+    }
+
+    /** Opens (creating if absent) the region file at {@code path}. */
+    static RegionFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        RegionFile region = new RegionFile(path, channel);
+        try {
+            region.loadHeader();
+            region.remap();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return region;
+    }
+
+    /** Table index of a chunk inside its region. */
+    static int index(int chunkX, int chunkZ) {
+        return Math.floorMod(chunkZ, REGION_SIZE) * REGION_SIZE + Math.floorMod(chunkX, REGION_SIZE);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    boolean contains(int index) {
+        lock.readLock().lock();
+        try {
+            return sectorOffsets[index] != 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Payload bytes for the chunk at {@code index}, or {@code null} if absent. */
+    byte[] read(int index) throws IOException {
+        lock.readLock().lock();
+        try {
+            int sector = sectorOffsets[index];
+            if (sector == 0) {
+                return null;
+            }
+            int length = byteLengths[index];
+            long offset = (long) sector * SECTOR_BYTES;
+            if (offset + length > mapped.byteSize()) {
+                throw new IOException("Region " + path.getFileName() + " entry " + index
+                    + " points past end of file (" + (offset + length) + " > " + mapped.byteSize() + ")");
+            }
+            byte[] payload = new byte[length];
+            MemorySegment.copy(mapped, ValueLayout.JAVA_BYTE, offset, payload, 0, length);
+            return payload;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes every payload (keyed by table index) in one pass: payloads into
+     * free sectors and a force, then a single table write into the older
+     * header copy and a second force.
+     */
+    void writeAll(Map<Integer, byte[]> payloads) throws IOException {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            BitSet released = new BitSet();
+            for (Map.Entry<Integer, byte[]> entry : payloads.entrySet()) {
+                int index = entry.getKey();
+                byte[] payload = entry.getValue();
+                int sectors = sectorsFor(payload.length);
+                int start = allocate(sectors);
+                writeFully(ByteBuffer.wrap(payload), (long) start * SECTOR_BYTES);
+
+                if (sectorOffsets[index] != 0) {
+                    released.set(sectorOffsets[index], sectorOffsets[index] + sectorsFor(byteLengths[index]));
+                }
+                sectorOffsets[index] = start;
+                byteLengths[index] = payload.length;
+            }
+            // Payloads must be durable before any table points at them.
+            channel.force(false);
+            writeHeader();
+            usedSectors.andNot(released);
+            remapIfGrown();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Drops the chunk at {@code index}; its sectors become reusable. */
+    void delete(int index) throws IOException {
+        lock.writeLock().lock();
+        try {
+            int sector = sectorOffsets[index];
+            if (sector == 0) {
+                return;
+            }
+            int sectors = sectorsFor(byteLengths[index]);
+            sectorOffsets[index] = 0;
+            byteLengths[index] = 0;
+            writeHeader();
+            usedSectors.clear(sector, sector + sectors);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int chunkCount() {
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            for (int sector : sectorOffsets) {
+                if (sector != 0) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    synchronized void retain() {
+        refs++;
+    }
+
+    /**
+     * Retains the region unless it already closed, un-retiring it: the owner
+     * found it still cached after {@link #retire()} and hands it out again,
+     * so no second instance is ever opened on the same file.
+     *
+     * @return false if the region is closed and must be reopened
+     */
+    synchronized boolean retainIfOpen() {
+        if (closed) {
+            return false;
+        }
+        retired = false;
+        refs++;
+        return true;
+    }
+
+    /** True while a caller holds the region between retain and release. */
+    synchronized boolean inUse() {
+        return refs > 0;
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    synchronized void release() throws IOException {
+        refs--;
+        if (refs == 0 && retired) {
+            close();
+        }
+    }
+
+    /** Evicted from the owner's cache: close now, or when the last user releases. */
+    synchronized void retire() throws IOException {
+        retired = true;
+        if (refs == 0) {
+            close();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        lock.writeLock().lock();
+        try {
+            if (mapArena != null) {
+                mapArena.close();
+                mapArena = null;
+                mapped = MemorySegment.NULL;
+            }
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void loadHeader() throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            usedSectors.set(0, HEADER_SECTORS);
+            writeHeader();
+            return;
+        }
+        ByteBuffer newest = null;
+        for (int slot = 0; slot < 2; slot++) {
+            ByteBuffer copy = readHeaderCopy(slot, size);
+            if (copy != null && (newest == null || copy.getLong(GENERATION_OFFSET) > generation)) {
+                newest = copy;
+                headerSlot = slot;
+                generation = copy.getLong(GENERATION_OFFSET);
+            }
+        }
+        if (newest != null) {
+            usedSectors.set(0, HEADER_SECTORS);
+            readTable(newest, size);
+            return;
+        }
+        ByteBuffer legacy = readLegacyHeader(size);
+        usedSectors.set(0, COPY_SECTORS);
+        readTable(legacy, size);
+        upgradeLegacy();
+    }
+
+    /** Header copy {@code slot} positioned at its start, or null if missing or torn. */
+    private ByteBuffer readHeaderCopy(int slot, long size) throws IOException {
+        long offset = (long) slot * COPY_SECTORS * SECTOR_BYTES;
+        if (size < offset + HEADER_BYTES) {
+            return null;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(header, offset);
+        header.flip();
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                || header.getInt(CRC_OFFSET) != checksum(header)) {
+            return null;
+        }
+        return header;
+    }
+
+    /** The single table of a version 1 file; anything else is rejected here. */
+    private ByteBuffer readLegacyHeader(long size) throws IOException {
+        if (size < TABLE_OFFSET) {
+            throw new IOException("Region " + path.getFileName() + " truncated header (" + size + " bytes)");
+        }
+        ByteBuffer header = ByteBuffer.allocate(CRC_OFFSET);
+        header.limit(TABLE_OFFSET);
+        readFully(header, 0);
+        int magic = header.getInt(0);
+        if (magic != MAGIC) {
+            throw new IOException("Region " + path.getFileName() + " bad magic 0x" + Integer.toHexString(magic));
+        }
+        int version = header.getInt(4);
+        if (version == VERSION) {
+            throw new IOException("Region " + path.getFileName() + " has no intact header copy");
+        }
+        if (version != LEGACY_VERSION) {
+            throw new IOException("Region " + path.getFileName() + " unsupported version " + version);
+        }
+        if (size < CRC_OFFSET) {
+            throw new IOException("Region " + path.getFileName() + " truncated header (" + size + " bytes)");
+        }
+        header.limit(CRC_OFFSET);
+        readFully(header, TABLE_OFFSET);
+        header.flip();
+        return header;
+    }
+
+    private void readTable(ByteBuffer header, long size) {
+        header.position(TABLE_OFFSET);
+        long fileSectors = (size + SECTOR_BYTES - 1) / SECTOR_BYTES;
+        for (int i = 0; i < CHUNKS; i++) {
+            int sector = header.getInt();
+            int length = header.getInt();
+            if (sector == 0) {
+                continue;
+            }
+            int sectors = sectorsFor(length);
+            // A torn write or foreign file can leave entries pointing into the
+            // header or past EOF; drop them rather than fail the whole region.
+            if (length <= 0 || sector + sectors > fileSectors
+                    || usedSectors.get(sector, sector + sectors).cardinality() != 0) {
+                System.err.println("[SAVE] Region " + path.getFileName() + " dropping invalid entry "
+                    + i + " (sector=" + sector + ", length=" + length + ")");
+                continue;
+            }
+            sectorOffsets[i] = sector;
+            byteLengths[i] = length;
+            usedSectors.set(sector, sector + sectors);
+        }
+    }
+
+    /**
+     * Moves version 1 payloads out of the sectors the second header copy
+     * takes, rewrites the single table over them, then writes the first
+     * version 2 copy into sector 3. The old header stays the only valid one
+     * until that copy is forced.
+     */
+    private void upgradeLegacy() throws IOException {
+        BitSet released = new BitSet();
+        for (int i = 0; i < CHUNKS; i++) {
+            int sector = sectorOffsets[i];
+            if (sector == 0 || sector >= HEADER_SECTORS) {
+                continue;
+            }
+            int sectors = sectorsFor(byteLengths[i]);
+            ByteBuffer payload = ByteBuffer.allocate(byteLengths[i]);
+            readFully(payload, (long) sector * SECTOR_BYTES);
+            payload.flip();
+            int start = allocate(sectors);
+            writeFully(payload, (long) start * SECTOR_BYTES);
+            released.set(sector, sector + sectors);
+            sectorOffsets[i] = start;
+        }
+        if (!released.isEmpty()) {
+            channel.force(false);
+            ByteBuffer table = ByteBuffer.allocate(CRC_OFFSET);
+            table.putInt(MAGIC);
+            table.putInt(LEGACY_VERSION);
+            table.putLong(0L);
+            putTable(table);
+            table.flip();
+            writeFully(table, 0);
+            channel.force(false);
+            usedSectors.andNot(released);
+        }
+        usedSectors.set(0, HEADER_SECTORS);
+        headerSlot = 0;
+        writeHeader();
+    }
+
+    /** Writes the table into the older header copy and forces it. */
+    private void writeHeader() throws IOException {
+        int slot = 1 - headerSlot;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putLong(generation + 1);
+        putTable(header);
+        header.putInt(checksum(header));
+        header.flip();
+        writeFully(header, (long) slot * COPY_SECTORS * SECTOR_BYTES);
+        channel.force(false);
+        headerSlot = slot;
+        generation++;
+    }
+
+    private void putTable(ByteBuffer header) {
+        for (int i = 0; i < CHUNKS; i++) {
+            header.putInt(sectorOffsets[i]);
+            header.putInt(byteLengths[i]);
+        }
+    }
+
+    private static int checksum(ByteBuffer header) {
+        CRC32C crc = new CRC32C();
+        crc.update(header.array(), 0, CRC_OFFSET);
+        return (int) crc.getValue();
+    }
+
+    /** First-fit run of {@code count} free sectors; marks them used. */
+    private int allocate(int count) {
+        int start = usedSectors.nextClearBit(HEADER_SECTORS);
+        while (true) {
+            int nextUsed = usedSectors.nextSetBit(start);
+            if (nextUsed < 0 || nextUsed - start >= count) {
+                usedSectors.set(start, start + count);
+                return start;
+            }
+            start = usedSectors.nextClearBit(nextUsed);
+        }
+    }
+
+    private void remapIfGrown() throws IOException {
+        if (channel.size() > mapped.byteSize()) {
+            remap();
+        }
+    }
+
+    private void remap() throws IOException {
+        Arena previous = mapArena;
+        Arena arena = Arena.ofShared();
+        try {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+        mapArena = arena;
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected EOF in region " + path.getFileName());
+            }
+            position += read;
+        }
+    }
+
+    private static int sectorsFor(int bytes) {
+        return Math.max(1, (bytes + SECTOR_BYTES - 1) / SECTOR_BYTES);
+    }
+}
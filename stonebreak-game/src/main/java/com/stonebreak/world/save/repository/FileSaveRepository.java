@@ -1,6 +1,7 @@
 package com.stonebreak.world.save.repository;
 
 import com.stonebreak.world.save.io.ChunkStorage;
+import com.stonebreak.world.save.io.LegacyChunkMigrator;
 import com.stonebreak.world.save.model.ChunkData;
 import com.stonebreak.world.save.model.PlayerData;
 import com.stonebreak.world.save.model.WorldData;
@@ -99,12 +100,22 @@ public class FileSaveRepository {
         return cleaned.length() > 64 ? cleaned.substring(0, 64) : cleaned;
     }
 
+    /**
+     * Moves any chunks still in the old one-file-per-chunk layout into region
+     * containers. Safe to call on every open; a migrated world costs one
+     * directory listing.
+     */
+    public LegacyChunkMigrator.Result migrateLegacyChunks() throws IOException {
+        return LegacyChunkMigrator.migrate(chunkStorage);
+    }
+
+    /** Region-batched save: one write pass per region touched by the batch. */
     public void saveChunks(Collection<ChunkData> chunks) throws IOException {
         ensureWorldDirectory();
         chunkStorage.saveChunks(chunks);
     }
 
-    /** Single-chunk save — the parallel save pool fans batches out through this. */
+    /** Single-chunk save — a one-entry region pass. */
     public void saveChunk(ChunkData chunk) throws IOException {
         ensureWorldDirectory();
         chunkStorage.saveChunk(chunk);
@@ -127,7 +138,11 @@ public class FileSaveRepository {
     }
 
     public void close() {
-        // no-op: kept for API parity with legacy implementation
+        try {
+            chunkStorage.close();
+        } catch (IOException e) {
+            System.err.println("[SAVE] Failed to close region files: " + e.getMessage());
+        }
     }
 
     private void writeAtomic(Path target, byte[] payload) throws IOException {
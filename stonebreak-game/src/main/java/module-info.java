@@ -43,6 +43,7 @@ module stonebreak.game {
     requires java.management;
     requires java.logging;
     requires java.sql;        // SQLite JDBC driver for FastLod persistent cache
+    requires jdk.jfr;         // chunk pipeline Flight Recorder events (ChunkLatency)
 
     // JUnit 5 for testing (requires static = compile-time only)
 
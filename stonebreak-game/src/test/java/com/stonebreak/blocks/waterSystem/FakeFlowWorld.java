@@ -21,6 +21,8 @@ final class FakeFlowWorld implements FlowWorld {
     private final int[][][] water;
 
     final List<int[]> fragileDrops = new ArrayList<>();
+    /** False to act like a world that cannot be written from workers. */
+    boolean regionViews = true;
 
     FakeFlowWorld(int sizeX, int sizeY, int sizeZ) {
         this.sizeX = sizeX;
@@ -89,6 +91,62 @@ final class FakeFlowWorld implements FlowWorld {
     public void markWaterChanged(int x, int y, int z, int newValue) {
     }
 
+    /** Region view over the same arrays; only fragile drops are buffered until publish. */
+    @Override
+    public RegionView openRegionView() {
+        if (!regionViews) {
+            return null;
+        }
+        return new RegionView() {
+            private final List<int[]> pendingDrops = new ArrayList<>();
+
+            @Override
+            public BlockType getBlock(int x, int y, int z) {
+                return FakeFlowWorld.this.getBlock(x, y, z);
+            }
+
+            @Override
+            public boolean isLoaded(int x, int y, int z) {
+                return FakeFlowWorld.this.isLoaded(x, y, z);
+            }
+
+            @Override
+            public void setBlock(int x, int y, int z, BlockType type) {
+                FakeFlowWorld.this.setBlock(x, y, z, type);
+            }
+
+            @Override
+            public int getWater(int x, int y, int z) {
+                return FakeFlowWorld.this.getWater(x, y, z);
+            }
+
+            @Override
+            public void setWater(int x, int y, int z, int value) {
+                FakeFlowWorld.this.setWater(x, y, z, value);
+            }
+
+            @Override
+            public boolean isSolid(int x, int y, int z) {
+                return FakeFlowWorld.this.isSolid(x, y, z);
+            }
+
+            @Override
+            public void dropFragile(int x, int y, int z, BlockType type) {
+                pendingDrops.add(new int[]{x, y, z});
+            }
+
+            @Override
+            public void markWaterChanged(int x, int y, int z, int newValue) {
+            }
+
+            @Override
+            public void publish() {
+                fragileDrops.addAll(pendingDrops);
+                pendingDrops.clear();
+            }
+        };
+    }
+
     // ===== Test helpers =====
 
     /** Fills the full horizontal extent at the given y with a block type. */
@@ -154,6 +212,44 @@ final class FakeFlowWorld implements FlowWorld {
         return hash;
     }
 
+    /**
+     * A lake on a plateau with its rim broken on every side, pouring down a stepped
+     * cone (one block lower every five) — a breach front hundreds of cells wide.
+     */
+    static FakeFlowWorld lakeBreach(int lakeSize) {
+        int margin = 40;
+        int size = lakeSize + 2 * margin;
+        FakeFlowWorld world = new FakeFlowWorld(size, 32, size);
+        int plateau = 20;
+        for (int x = 0; x < size; x++) {
+            for (int z = 0; z < size; z++) {
+                int edge = Math.max(Math.max(margin - x, x - (margin + lakeSize - 1)),
+                                    Math.max(margin - z, z - (margin + lakeSize - 1)));
+                int top = edge <= 0 ? plateau : Math.max(1, plateau - (edge + 4) / 5);
+                for (int y = 0; y < top; y++) {
+                    world.blocks[x][y][z] = BlockType.STONE;
+                }
+                if (edge <= 0) {
+                    world.blocks[x][plateau][z] = BlockType.WATER;
+                }
+            }
+        }
+        return world;
+    }
+
+    /** Schedules every water cell, as a chunk load would for exposed water. */
+    void scheduleAllWater(WaterSim sim) {
+        for (int x = 0; x < sizeX; x++) {
+            for (int y = 0; y < sizeY; y++) {
+                for (int z = 0; z < sizeZ; z++) {
+                    if (blocks[x][y][z] == BlockType.WATER) {
+                        sim.schedule(x, y, z);
+                    }
+                }
+            }
+        }
+    }
+
     /** Runs logical ticks until the sim queue drains; fails the test if it never does. */
     static void tickUntilQuiet(WaterSim sim, int maxTicks) {
         for (int i = 0; i < maxTicks; i++) {
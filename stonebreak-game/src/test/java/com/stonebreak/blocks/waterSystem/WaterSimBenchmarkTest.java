@@ -0,0 +1,69 @@
+package com.stonebreak.blocks.waterSystem;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Manual benchmark: a lake breach ({@link FakeFlowWorld#lakeBreach}) run to
+ * quiet, serial against the region-parallel tick, reporting logical ticks to
+ * settle, wall time and the peak queue. Run explicitly:
+ * mvn test -pl stonebreak-game -Dtest=WaterSimBenchmarkTest -Dwater.bench=true
+ */
+class WaterSimBenchmarkTest {
+
+    private static final int SETTLE_TICKS = 20_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void benchmark() {
+        assumeTrue(Boolean.getBoolean("water.bench"), "manual benchmark (-Dwater.bench=true)");
+
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        for (int lake : new int[] {64, 256}) {
+            for (int warm = 0; warm < 2; warm++) {
+                run(lake, 0);
+                run(lake, threads);
+            }
+            Result serial = null;
+            Result parallel = null;
+            for (int r = 0; r < ROUNDS; r++) {
+                serial = Result.best(serial, run(lake, 0));
+                parallel = Result.best(parallel, run(lake, threads));
+            }
+            assertEquals(serial.hash, parallel.hash, "parallel breach settled to a different state");
+            System.out.printf("%3dx%-3d lake: %d ticks, peak queue %,d | serial %7.1f ms | "
+                    + "parallel (%d threads) %7.1f ms%n",
+                lake, lake, serial.ticks, serial.peakQueue, serial.nanos / 1e6, threads, parallel.nanos / 1e6);
+        }
+    }
+
+    private static Result run(int lake, int threads) {
+        FakeFlowWorld world = FakeFlowWorld.lakeBreach(lake);
+        WaterSim sim = new WaterSim(world);
+        sim.setParallel(threads);
+        try {
+            world.scheduleAllWater(sim);
+            int ticks = 0;
+            int peak = 0;
+            long start = System.nanoTime();
+            while (sim.getQueuedUpdateCount() > 0) {
+                if (ticks++ == SETTLE_TICKS) {
+                    throw new AssertionError("breach did not settle within " + SETTLE_TICKS + " ticks");
+                }
+                peak = Math.max(peak, sim.getQueuedUpdateCount());
+                sim.advanceTicks(1);
+            }
+            return new Result(ticks, peak, System.nanoTime() - start, world.stateHash());
+        } finally {
+            sim.setParallel(0);
+        }
+    }
+
+    private record Result(int ticks, int peakQueue, long nanos, long hash) {
+        static Result best(Result a, Result b) {
+            return a == null || b.nanos < a.nanos ? b : a;
+        }
+    }
+}
@@ -14,7 +14,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 /**
  * Vanilla water mechanics over {@link FakeFlowWorld}: spread diamond, waterfall
  * landing, hole-seeking, recession, the infinite-source rule, convergence,
- * fragile blocks, source protection and world-edge safety.
+ * fragile blocks, source protection, world-edge safety, and region-parallel
+ * ticking against the serial result.
  */
 class WaterSimTest {
 
@@ -302,4 +303,49 @@ class WaterSimTest {
         assertEquals(0, world.getWater(0, 11, 0));
         assertFalse(world.countWaterBlocks() == 0);
     }
+
+    // ===== 10. Region-parallel tick =====
+
+    @Test
+    void parallelTickSettlesLikeSerialOnLakeBreach() {
+        long serial = settledBreach(0);
+        long parallel = settledBreach(4);
+        assertEquals(serial, parallel, "parallel breach settled to a different state");
+    }
+
+    @Test
+    void parallelTickIsDeterministicAcrossRuns() {
+        long first = settledBreach(4);
+        for (int run = 0; run < 3; run++) {
+            assertEquals(first, settledBreach(4), "run " + run);
+        }
+    }
+
+    @Test
+    void parallelStaysOffWithoutRegionViews() {
+        FakeFlowWorld world = FakeFlowWorld.lakeBreach(48);
+        world.regionViews = false;
+        WaterSim sim = new WaterSim(world);
+
+        assertFalse(sim.setParallel(4));
+        assertFalse(sim.isParallel());
+        assertEquals(0, sim.parallelThreads());
+        world.scheduleAllWater(sim);
+        tickUntilQuiet(sim, SETTLE_TICKS);
+        assertEquals(settledBreach(1), world.stateHash(), "the serial tick still runs");
+    }
+
+    private static long settledBreach(int threads) {
+        FakeFlowWorld world = FakeFlowWorld.lakeBreach(48);
+        WaterSim sim = new WaterSim(world);
+        assertEquals(threads > 1, sim.setParallel(threads));
+        assertEquals(threads > 1 ? threads : 0, sim.parallelThreads());
+        try {
+            world.scheduleAllWater(sim);
+            tickUntilQuiet(sim, SETTLE_TICKS);
+            return world.stateHash();
+        } finally {
+            sim.setParallel(0);
+        }
+    }
 }
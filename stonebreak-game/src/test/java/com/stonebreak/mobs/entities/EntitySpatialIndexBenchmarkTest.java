@@ -0,0 +1,136 @@
+package com.stonebreak.mobs.entities;
+
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Manual benchmark: one tick's entity-entity collision pass and a round of
+ * AI-style range queries, naive O(n²) / linear scan against the spatial
+ * index, at 100, 1k and 10k entities spread at a fixed density. Run
+ * explicitly:
+ * mvn test -pl stonebreak-game -Dtest=EntitySpatialIndexBenchmarkTest -Dentity.bench=true
+ */
+class EntitySpatialIndexBenchmarkTest {
+
+    /** Roughly one mob per 4×4 blocks — a busy farm, not a stress pile. */
+    private static final float AREA_PER_ENTITY = 16f;
+    private static final float QUERY_RADIUS = 16f;
+    private static final int ROUNDS = 20;
+
+    @Test
+    void benchmark() {
+        assumeTrue(Boolean.getBoolean("entity.bench"), "manual benchmark (-Dentity.bench=true)");
+
+        EntityCollision collision = new EntityCollision(null);
+        for (int count : new int[] {100, 1_000, 10_000}) {
+            List<Entity> entities = spawn(count);
+            EntitySpatialIndex index = new EntitySpatialIndex();
+            entities.forEach(index::add);
+
+            int naivePairs = 0;
+            int indexedPairs = 0;
+            for (int warm = 0; warm < 3; warm++) {
+                naivePairs = naiveCollisions(entities, collision);
+                indexedPairs = indexedCollisions(entities, index, collision);
+            }
+            assertEquals(naivePairs, indexedPairs, "broadphase finds every colliding pair");
+
+            long start = System.nanoTime();
+            for (int r = 0; r < ROUNDS; r++) {
+                naiveCollisions(entities, collision);
+            }
+            long naiveCollide = (System.nanoTime() - start) / ROUNDS;
+
+            start = System.nanoTime();
+            for (int r = 0; r < ROUNDS; r++) {
+                indexedCollisions(entities, index, collision);
+            }
+            long indexedCollide = (System.nanoTime() - start) / ROUNDS;
+
+            start = System.nanoTime();
+            for (int r = 0; r < ROUNDS; r++) {
+                naiveRanges(entities);
+            }
+            long naiveRange = (System.nanoTime() - start) / ROUNDS;
+
+            start = System.nanoTime();
+            for (int r = 0; r < ROUNDS; r++) {
+                indexedRanges(entities, index);
+            }
+            long indexedRange = (System.nanoTime() - start) / ROUNDS;
+
+            System.out.printf("%,6d entities: collisions naive %8.2f ms, indexed %6.2f ms (%d pairs) | "
+                    + "range queries naive %8.2f ms, indexed %6.2f ms%n",
+                count, naiveCollide / 1e6, indexedCollide / 1e6, indexedPairs,
+                naiveRange / 1e6, indexedRange / 1e6);
+        }
+    }
+
+    private static List<Entity> spawn(int count) {
+        Random random = new Random(99L);
+        float side = (float) Math.sqrt(count * AREA_PER_ENTITY);
+        EntityType[] types = {EntityType.COW, EntityType.SHEEP, EntityType.CHICKEN, EntityType.GOOSE};
+        List<Entity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Vector3f position = new Vector3f(random.nextFloat() * side, 64, random.nextFloat() * side);
+            entities.add(new StubMob(types[i % types.length], position));
+        }
+        return entities;
+    }
+
+    private static int naiveCollisions(List<Entity> entities, EntityCollision collision) {
+        int pairs = 0;
+        for (int i = 0; i < entities.size(); i++) {
+            for (int j = i + 1; j < entities.size(); j++) {
+                if (collision.checkEntityCollision(entities.get(i), entities.get(j))) {
+                    pairs++;
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private static int indexedCollisions(List<Entity> entities, EntitySpatialIndex index, EntityCollision collision) {
+        int[] pairs = {0};
+        for (Entity entity : entities) {
+            index.forEachOverlapCandidate(entity, (first, second) -> {
+                if (collision.checkEntityCollision(first, second)) {
+                    pairs[0]++;
+                }
+            });
+        }
+        return pairs[0];
+    }
+
+    /** One "anything near me?" query per entity, as mob AI issues each tick. */
+    private static int naiveRanges(List<Entity> entities) {
+        int hits = 0;
+        float radiusSquared = QUERY_RADIUS * QUERY_RADIUS;
+        for (Entity self : entities) {
+            for (Entity other : entities) {
+                if (other.isAlive() && other.getPosition().distanceSquared(self.getPosition()) <= radiusSquared) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    private static int indexedRanges(List<Entity> entities, EntitySpatialIndex index) {
+        List<Entity> scratch = new ArrayList<>();
+        int hits = 0;
+        for (Entity self : entities) {
+            scratch.clear();
+            index.queryRange(self.getPosition(), QUERY_RADIUS, scratch);
+            hits += scratch.size();
+        }
+        return hits;
+    }
+}
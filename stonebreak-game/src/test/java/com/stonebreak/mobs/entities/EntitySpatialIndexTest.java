@@ -0,0 +1,180 @@
+package com.stonebreak.mobs.entities;
+
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The spatial index must answer exactly what the linear scans it replaced
+ * answered: same range hits, same nearest entity, same type lists, and a
+ * collision broadphase that never drops a pair whose boxes overlap — across
+ * cell borders, negative coordinates, moves and removals.
+ */
+class EntitySpatialIndexTest {
+
+    private static final EntityType[] TYPES = {EntityType.COW, EntityType.SHEEP, EntityType.CHICKEN};
+
+    private final EntitySpatialIndex index = new EntitySpatialIndex();
+    private final List<Entity> all = new ArrayList<>();
+    private final Random random = new Random(1234L);
+
+    private void populate(int count, float spread) {
+        for (int i = 0; i < count; i++) {
+            Entity mob = new StubMob(TYPES[i % TYPES.length], randomPosition(spread));
+            all.add(mob);
+            index.add(mob);
+        }
+    }
+
+    private Vector3f randomPosition(float spread) {
+        return new Vector3f(
+            (random.nextFloat() - 0.5f) * spread,
+            60 + random.nextFloat() * 8,
+            (random.nextFloat() - 0.5f) * spread);
+    }
+
+    private Set<Entity> rangeByScan(Vector3f center, float radius) {
+        Set<Entity> hits = new HashSet<>();
+        for (Entity e : all) {
+            if (e.isAlive() && e.getPosition().distanceSquared(center) <= radius * radius) {
+                hits.add(e);
+            }
+        }
+        return hits;
+    }
+
+    private Entity nearestByScan(Vector3f position, EntityType type) {
+        Entity best = null;
+        float bestDistance = Float.MAX_VALUE;
+        for (Entity e : all) {
+            if (e.isAlive() && e.getType() == type) {
+                float d = e.getPosition().distanceSquared(position);
+                if (d < bestDistance) {
+                    best = e;
+                    bestDistance = d;
+                }
+            }
+        }
+        return best;
+    }
+
+    private Set<Long> overlappingPairsByScan() {
+        EntityCollision collision = new EntityCollision(null);
+        Set<Long> pairs = new HashSet<>();
+        for (int i = 0; i < all.size(); i++) {
+            for (int j = i + 1; j < all.size(); j++) {
+                if (collision.checkEntityCollision(all.get(i), all.get(j))) {
+                    pairs.add(pairKey(all.get(i), all.get(j)));
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private Set<Long> candidatePairs() {
+        Set<Long> pairs = new HashSet<>();
+        for (Entity e : all) {
+            index.forEachOverlapCandidate(e, (first, second) -> assertTrue(pairs.add(pairKey(first, second)),
+                "each pair is visited once"));
+        }
+        return pairs;
+    }
+
+    private long pairKey(Entity a, Entity b) {
+        int i = all.indexOf(a);
+        int j = all.indexOf(b);
+        return ((long) Math.min(i, j) << 32) | Math.max(i, j);
+    }
+
+    @Test
+    void rangeQueriesMatchALinearScan() {
+        populate(600, 120);
+        for (int q = 0; q < 200; q++) {
+            Vector3f center = randomPosition(140);
+            float radius = 0.5f + random.nextFloat() * 20;
+            List<Entity> hits = new ArrayList<>();
+            index.queryRange(center, radius, hits);
+
+            assertEquals(rangeByScan(center, radius), new HashSet<>(hits));
+            assertEquals(hits.size(), new HashSet<>(hits).size(), "no duplicates");
+        }
+        // Wider than the populated area: takes the scan fallback.
+        List<Entity> everything = new ArrayList<>();
+        index.queryRange(new Vector3f(), 500, everything);
+        assertEquals(all.size(), everything.size());
+    }
+
+    @Test
+    void nearestMatchesALinearScan() {
+        populate(400, 200);
+        for (int q = 0; q < 200; q++) {
+            Vector3f position = randomPosition(260);
+            EntityType type = TYPES[q % TYPES.length];
+            Entity expected = nearestByScan(position, type);
+            Entity actual = index.nearest(position, type);
+
+            assertEquals(expected.getPosition().distanceSquared(position),
+                actual.getPosition().distanceSquared(position), 1e-4f);
+        }
+        assertNull(index.nearest(new Vector3f(), EntityType.GOOSE));
+    }
+
+    @Test
+    void broadphaseNeverMissesAnOverlappingPair() {
+        // Dense herd: lots of real overlaps, several per cell border.
+        populate(500, 30);
+        Set<Long> candidates = candidatePairs();
+        Set<Long> overlapping = overlappingPairsByScan();
+
+        assertTrue(candidates.containsAll(overlapping));
+        assertTrue(!overlapping.isEmpty());
+    }
+
+    @Test
+    void movedAndRemovedEntitiesAreRefiled() {
+        populate(200, 60);
+        for (int step = 0; step < 5; step++) {
+            for (Entity e : all) {
+                e.setPosition(e.getPosition().add((random.nextFloat() - 0.5f) * 9, 0, (random.nextFloat() - 0.5f) * 9));
+                index.update(e);
+            }
+            Entity gone = all.remove(random.nextInt(all.size()));
+            index.remove(gone);
+            all.get(0).setAlive(false);
+
+            Vector3f center = randomPosition(60);
+            List<Entity> hits = new ArrayList<>();
+            index.queryRange(center, 12, hits);
+            assertEquals(rangeByScan(center, 12), new HashSet<>(hits));
+            assertTrue(candidatePairs().containsAll(overlappingPairsByScan()));
+            assertEquals(all.size(), index.size());
+        }
+    }
+
+    @Test
+    void typeListsSkipDeadAndRemovedEntities() {
+        populate(30, 20);
+        Entity dead = all.get(0);
+        Entity removed = all.get(3);
+        dead.setAlive(false);
+        index.remove(removed);
+
+        List<Entity> cows = new ArrayList<>();
+        index.collectByType(EntityType.COW, cows);
+
+        assertEquals(8, cows.size());
+        assertTrue(!cows.contains(dead) && !cows.contains(removed));
+        Entity other = all.get(6);
+        assertSame(other, index.nearest(new Vector3f(other.getPosition()), EntityType.COW));
+    }
+}
@@ -0,0 +1,155 @@
+package com.stonebreak.mobs.entities;
+
+import org.joml.Vector3f;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The region-parallel tick must tick every entity exactly once, keep manager
+ * order inside a region, never run two neighbouring regions at the same time,
+ * and hand back what regions spawn in an order the scheduling cannot change.
+ */
+class ParallelEntityTickTest {
+
+    private final ParallelEntityTick tick = new ParallelEntityTick(4);
+
+    @AfterEach
+    void shutdown() {
+        tick.shutdown();
+    }
+
+    private static List<Entity> scatter(int count, float spread, long seed) {
+        Random random = new Random(seed);
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entities.add(new StubMob(EntityType.COW,
+                new Vector3f((random.nextFloat() - 0.5f) * spread, 64, (random.nextFloat() - 0.5f) * spread)));
+        }
+        return entities;
+    }
+
+    private static long region(Entity entity) {
+        Vector3f p = entity.getPosition();
+        return ((long) ParallelEntityTick.regionCoord(p.x) << 32)
+            | (ParallelEntityTick.regionCoord(p.z) & 0xFFFFFFFFL);
+    }
+
+    @Test
+    void neighbouringRegionsNeverShareAColour() {
+        for (int x = -5; x <= 5; x++) {
+            for (int z = -5; z <= 5; z++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    for (int dz = -1; dz <= 1; dz++) {
+                        if (dx != 0 || dz != 0) {
+                            assertNotEquals(ParallelEntityTick.colour(x, z), ParallelEntityTick.colour(x + dx, z + dz));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void everyEntityTicksOnceInManagerOrderWithinItsRegion() {
+        List<Entity> entities = scatter(3_000, 2_000, 11L);
+        Map<Entity, AtomicInteger> ticks = new ConcurrentHashMap<>();
+        Map<Long, List<Entity>> orderByRegion = new ConcurrentHashMap<>();
+
+        tick.partition(entities);
+        tick.run(entity -> {
+            ticks.computeIfAbsent(entity, e -> new AtomicInteger()).incrementAndGet();
+            // A region is only ever ticked by one worker, so its list needs no extra locking.
+            orderByRegion.computeIfAbsent(region(entity), r -> new ArrayList<>()).add(entity);
+        }, spawned -> { });
+
+        assertEquals(entities.size(), ticks.size());
+        ticks.values().forEach(count -> assertEquals(1, count.get()));
+
+        Map<Long, List<Entity>> expected = new HashMap<>();
+        for (Entity entity : entities) {
+            expected.computeIfAbsent(region(entity), r -> new ArrayList<>()).add(entity);
+        }
+        assertEquals(expected, orderByRegion);
+        assertEquals(expected.size(), tick.lastRegionCount());
+    }
+
+    @Test
+    void adjacentRegionsNeverTickConcurrently() {
+        List<Entity> entities = scatter(4_000, 800, 5L);
+        Map<Long, AtomicInteger> active = new ConcurrentHashMap<>();
+        List<String> violations = Collections.synchronizedList(new ArrayList<>());
+
+        tick.partition(entities);
+        tick.run(entity -> {
+            long key = region(entity);
+            int rx = (int) (key >> 32);
+            int rz = (int) key;
+            active.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    long neighbour = ((long) (rx + dx) << 32) | ((rz + dz) & 0xFFFFFFFFL);
+                    AtomicInteger count = active.get(neighbour);
+                    if (neighbour != key && count != null && count.get() > 0) {
+                        violations.add(rx + "," + rz + " ran beside " + (rx + dx) + "," + (rz + dz));
+                    }
+                }
+            }
+            Thread.onSpinWait();
+            active.get(key).decrementAndGet();
+        }, spawned -> { });
+
+        assertTrue(violations.isEmpty(), () -> violations.get(0));
+    }
+
+    @Test
+    void regionSpawnsComeBackInTheSameOrderWhateverThePoolSize() {
+        List<Entity> entities = scatter(2_000, 1_500, 23L);
+        List<Entity> parallel = spawnOrder(tick, entities);
+
+        ParallelEntityTick single = new ParallelEntityTick(1);
+        try {
+            assertEquals(spawnOrder(single, entities), parallel);
+        } finally {
+            single.shutdown();
+        }
+        assertEquals(entities.size(), parallel.size());
+        assertFalse(ParallelEntityTick.deferSpawn(entities.get(0)), "no region outside run");
+    }
+
+    /** Every entity spawns a marker from inside its tick; the order they come back in. */
+    private static List<Entity> spawnOrder(ParallelEntityTick tick, List<Entity> entities) {
+        Map<Entity, Entity> markers = new ConcurrentHashMap<>();
+        List<Entity> order = new ArrayList<>();
+        tick.partition(entities);
+        tick.run(entity -> {
+            Entity marker = new StubMob(EntityType.CHICKEN, entity.getPosition());
+            markers.put(marker, entity);
+            assertTrue(ParallelEntityTick.deferSpawn(marker));
+        }, marker -> order.add(markers.get(marker)));
+        return order;
+    }
+
+    @Test
+    void onlyServerSimulatedMobsAreRegionLocal() {
+        Entity mob = new StubMob(EntityType.SHEEP);
+        assertTrue(ParallelEntityTick.isRegionLocal(mob));
+
+        mob.setNetworkShadow(true);
+        assertFalse(ParallelEntityTick.isRegionLocal(mob));
+        assertFalse(ParallelEntityTick.isRegionLocal(new StubMob(EntityType.REMOTE_PLAYER)));
+    }
+}
@@ -0,0 +1,95 @@
+package com.stonebreak.mobs.entities.ai.nav;
+
+import com.openmason.engine.wayfind.voxel.FlowField;
+import com.openmason.engine.wayfind.voxel.NavNodes;
+import com.openmason.engine.wayfind.voxel.NavProfile;
+import com.openmason.engine.wayfind.voxel.NavWindow;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The sharing contract: however many mobs ask about one target, the world is read once and the
+ * field integrated once; a moving target costs an integration, not a window; and a block change
+ * inside a window is never served from the stale one. Same-thread executor, as in
+ * {@link PathfindingServiceTest}, so every refresh completes inside the call that asked for it.
+ */
+class FlowFieldServiceTest {
+
+    private static final int GROUND_TOP = 63;
+    private static final int STAND_Y = 64;
+    private static final NavProfile WALKER = NavProfile.walker(0.9f, 0);
+    private static final Executor SAME_THREAD = Runnable::run;
+
+    @Test
+    void aPackChasingOnePlayerSharesOneField() {
+        FlowFieldService fields = flatFields();
+        Vector3f player = new Vector3f(0.5f, STAND_Y, 0.5f);
+
+        FlowField first = fields.field(player, WALKER, false);
+        for (int mob = 1; mob < 10; mob++) {
+            assertSame(first, fields.field(player, WALKER, false),
+                    "mob " + mob + " reads the same field");
+        }
+
+        assertNotNull(first);
+        assertEquals(1, fields.liveFields());
+        assertEquals(1, fields.windowBuilds());
+        assertEquals(1, fields.integrations());
+    }
+
+    @Test
+    void aMovingTargetIsReintegratedOverTheSameWindow() {
+        FlowFieldService fields = flatFields();
+        FlowField before = fields.field(new Vector3f(0.5f, STAND_Y, 0.5f), WALKER, false);
+
+        FlowField after = fields.field(new Vector3f(3.5f, STAND_Y, 0.5f), WALKER, false);
+
+        assertNotSame(before, after);
+        assertSame(before.window(), after.window(), "a few blocks of movement reads no world");
+        assertEquals(1, fields.windowBuilds());
+        assertEquals(2, fields.integrations());
+        assertEquals(NavNodes.pack(3, STAND_Y, 0), after.window().node(after.target()));
+    }
+
+    @Test
+    void aBlockChangeInsideTheWindowForcesAFreshRead() {
+        FlatNavVolume world = new FlatNavVolume(GROUND_TOP);
+        PathfindingService service = new PathfindingService(world, SAME_THREAD);
+        Vector3f player = new Vector3f(0.5f, STAND_Y, 0.5f);
+        service.flowFields().field(player, WALKER, false);
+
+        world.wall(5, 0);
+        service.onBlockChanged(5, STAND_Y, 0);
+        FlowField rebuilt = service.flowFields().field(player, WALKER, false);
+
+        assertEquals(2, service.flowFields().windowBuilds());
+        assertEquals(NavWindow.NOT_FOUND, rebuilt.window().indexOf(NavNodes.pack(5, STAND_Y, 0)),
+                "the wall's cell is no longer standable");
+    }
+
+    @Test
+    void aFleeFieldStepsAwayFromTheThreat() {
+        FlowFieldService fields = flatFields();
+
+        FlowField away = fields.field(new Vector3f(0.5f, STAND_Y, 0.5f), WALKER, true);
+        int next = FlowFieldService.nextStep(away, new Vector3f(4.5f, STAND_Y, 0.5f));
+
+        assertNotEquals(FlowField.NO_STEP, next);
+        assertNotEquals(NavWindow.NOT_FOUND, next);
+        assertTrue(NavNodes.x(away.window().node(next)) > 4,
+                "the first step puts more ground between them");
+    }
+
+    private static FlowFieldService flatFields() {
+        return new PathfindingService(new FlatNavVolume(GROUND_TOP), SAME_THREAD).flowFields();
+    }
+}
@@ -1,6 +1,7 @@
 package com.stonebreak.mobs.entities.ai.nav;
 
 import com.openmason.engine.wayfind.SearchLimits;
+import com.openmason.engine.wayfind.voxel.HierarchicalPlanner;
 import com.openmason.engine.wayfind.voxel.NavProfile;
 import org.joml.Vector3f;
 import org.junit.jupiter.api.Test;
@@ -83,6 +84,22 @@ class PathfindingServiceTest {
         service.close();
     }
 
+    @Test
+    void aLongRouteComesBackAsItsFirstLeg() {
+        PathfindingService service = new PathfindingService(new FlatNavVolume(GROUND_TOP), SAME_THREAD);
+
+        Path path = service.submit(new Vector3f(0.5f, STAND_Y, 0.5f), new Vector3f(200.5f, STAND_Y, 0.5f),
+                1.0f, WALKER, new SearchLimits(600, Float.MAX_VALUE, 1.1f)).result();
+
+        assertFalse(path.isEmpty(), "two hundred blocks is far past the cell budget, not past the portal graph");
+        assertFalse(path.isComplete(), "a first leg must not claim the goal");
+        assertTrue(path.x(path.size() - 1) >= HierarchicalPlanner.LEG_MIN_BLOCKS,
+                "the leg should head toward the goal for at least its minimum length");
+        assertEquals(1, service.stats().hierarchical());
+        assertTrue(service.stats().portalSections() > 0);
+        service.close();
+    }
+
     @Test
     void aStartBuriedInRockResolvesToNoRoute() {
         PathfindingService service = new PathfindingService(new FlatNavVolume(GROUND_TOP), SAME_THREAD);
@@ -10,6 +10,7 @@ import com.stonebreak.network.packet.entity.EntityAnimS2C;
 import com.stonebreak.network.packet.entity.EntityDamageC2S;
 import com.stonebreak.network.packet.entity.EntityDespawnS2C;
 import com.stonebreak.network.packet.entity.EntityMoveS2C;
+import com.stonebreak.network.packet.entity.EntityMovesS2C;
 import com.stonebreak.network.packet.entity.EntitySpawnS2C;
 import com.stonebreak.network.packet.entity.EntityTeleportS2C;
 import com.stonebreak.network.packet.handshake.DisconnectC2S;
@@ -36,8 +37,11 @@ import com.stonebreak.network.packet.world.BlockStateS2C;
 import com.stonebreak.network.packet.entity.EntityResyncC2S;
 import com.stonebreak.network.packet.entity.ProjectileSpawnC2S;
 import com.stonebreak.network.packet.world.ChunkDataS2C;
+import com.stonebreak.network.packet.world.ChunkCacheOfferC2S;
+import com.stonebreak.network.packet.world.ChunkCachedS2C;
 import com.stonebreak.network.packet.world.ChunkHashesC2S;
 import com.stonebreak.network.packet.world.ChunkResyncRequestC2S;
+import com.stonebreak.network.packet.world.ChunkSectionsS2C;
 import com.stonebreak.network.packet.world.FurnaceSlotsC2S;
 import com.stonebreak.network.packet.world.MultiBlockChangeS2C;
 import com.stonebreak.network.packet.world.SnowLayerC2S;
@@ -47,11 +51,17 @@ import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Random;
+
 import static com.openmason.engine.net.protocol.PacketDirection.CLIENTBOUND;
 import static com.openmason.engine.net.protocol.PacketDirection.SERVERBOUND;
 import static com.openmason.engine.net.protocol.ProtocolPhase.PLAY;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * §5d — every packet's codec round-trips, and the {@link StonebreakProtocol} registry maps
@@ -136,11 +146,44 @@ class PacketRoundTripTest {
 
     @Test
     void chunkHashesRoundTrip() {
-        int[] entries = {1, -2, 0xDEADBEEF, 3, 4, 0};
+        int[] entries = new int[2 * ChunkHashesC2S.STRIDE];
+        entries[0] = 1;
+        entries[1] = -2;
+        entries[2] = 0xDEADBEEF;
+        entries[ChunkHashesC2S.STRIDE - 1] = -1;
+        entries[ChunkHashesC2S.STRIDE] = 3;
+        entries[ChunkHashesC2S.STRIDE + 1] = 4;
         assertArrayEquals(entries,
             roundTrip(ChunkHashesC2S.CODEC, new ChunkHashesC2S(entries)).entries());
     }
 
+    @Test
+    void chunkSectionsRoundTrip() {
+        ChunkSectionsS2C decoded = roundTrip(ChunkSectionsS2C.CODEC,
+            new ChunkSectionsS2C(-5, 9, 0x8001, new byte[] {1, 2, 3}, new byte[] {7}));
+        assertEquals(-5, decoded.chunkX());
+        assertEquals(9, decoded.chunkZ());
+        assertEquals(0x8001, decoded.sectionMask());
+        assertArrayEquals(new byte[] {1, 2, 3}, decoded.payload());
+        assertArrayEquals(new byte[] {7}, decoded.metaPayload());
+    }
+
+    @Test
+    void chunkCacheNegotiationRoundTrips() {
+        int[] coords = {-7, 3, 8, -8};
+        long[] hashes = {0xCAFEBABE_0DDBA11L, 1L};
+        ChunkCacheOfferC2S offer = roundTrip(ChunkCacheOfferC2S.CODEC, new ChunkCacheOfferC2S(coords, hashes));
+        assertArrayEquals(coords, offer.coords());
+        assertArrayEquals(hashes, offer.hashes());
+
+        ChunkCachedS2C decoded = roundTrip(ChunkCachedS2C.CODEC,
+            new ChunkCachedS2C(-7, 3, 0xCAFEBABE_0DDBA11L, new byte[] {4, 5}));
+        assertEquals(-7, decoded.chunkX());
+        assertEquals(3, decoded.chunkZ());
+        assertEquals(0xCAFEBABE_0DDBA11L, decoded.hash());
+        assertArrayEquals(new byte[] {4, 5}, decoded.metaPayload());
+    }
+
     @Test
     void blockMetaRoundTrips() {
         int[] packed = {(0x123 << 16) | 1, (0x456 << 16) | 8, (0x789 << 16)};
@@ -180,6 +223,46 @@ class PacketRoundTripTest {
         assertArrayEquals(meta, withMeta.metaPayload());
     }
 
+    @Test
+    void chunkDataWireBodyMatchesTheCodec() {
+        // The cached wire body goes out without re-running the codec, so it must be the
+        // codec's exact output or every remote client desyncs on cache hits.
+        ChunkDataS2C packet = new ChunkDataS2C(-12, 40, new byte[] {5, 4, 3, 2, 1}, new byte[] {7, 7});
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            ChunkDataS2C.CODEC.encode(buf, packet);
+            byte[] expected = new byte[buf.readableBytes()];
+            buf.readBytes(expected);
+            assertArrayEquals(expected, packet.withWireBody().encodedBody());
+        } finally {
+            buf.release();
+        }
+        assertNull(packet.encodedBody(), "plain packets encode normally");
+        assertNull(roundTrip(ChunkDataS2C.CODEC, packet.withWireBody()).wireBody(), "never decoded");
+    }
+
+    @Test
+    void chunkDataWireOnlyFormsDecodeBackToThePacket() {
+        byte[] payload = new byte[4096];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) (i % 5);
+        }
+        byte[] noise = new byte[4096];
+        new Random(11).nextBytes(noise);
+        for (byte[] data : List.of(payload, noise)) {
+            ChunkDataS2C packet = new ChunkDataS2C(-12, 40, data, new byte[] {7, 7});
+            ChunkDataS2C wire = packet.wireOnly(1);
+            assertTrue(wire.isWireOnly());
+            ChunkDataS2C back = wire.fromWireBody();
+            assertEquals(-12, back.chunkX());
+            assertEquals(40, back.chunkZ());
+            assertArrayEquals(data, back.payload());
+            assertArrayEquals(new byte[] {7, 7}, back.metaPayload());
+        }
+        assertNotNull(new ChunkDataS2C(0, 0, payload).wireOnly(1).compressedFrame(), "repetitive data compresses");
+        assertNull(new ChunkDataS2C(0, 0, noise).wireOnly(1).compressedFrame(), "noise stays plain");
+    }
+
     @Test
     void playerDataBlobsRoundTrip() {
         // PlayerData{C2S,S2C} carry an opaque JSON blob; byte[] needs array equality (record
@@ -201,6 +284,18 @@ class PacketRoundTripTest {
         assertArrayEquals(packed, decoded.packed());
     }
 
+    @Test
+    void entityMovesRoundTrip() {
+        int[] ids = {1, 300, 70_000};
+        short[] deltas = {1, -2, 3, 900, Short.MIN_VALUE, 0, Short.MAX_VALUE, -1800, 0, 0, 0, 0};
+        byte[] intervals = {1, 4, 8};
+        EntityMovesS2C decoded = roundTrip(EntityMovesS2C.CODEC, new EntityMovesS2C(50, ids, deltas, intervals));
+        assertEquals(50, decoded.tickMillis());
+        assertArrayEquals(ids, decoded.networkIds());
+        assertArrayEquals(deltas, decoded.deltas());
+        assertArrayEquals(intervals, decoded.intervals());
+    }
+
     @Test
     void registryRoundTripsById() {
         PacketRegistry reg = StonebreakProtocol.registry();
@@ -0,0 +1,127 @@
+package com.stonebreak.network.client;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The client's on-disk chunk cache: entries survive a reopen with their full 64-bit
+ * hashes, a new hash replaces the old copy, discarded and missing entries read as null,
+ * entries from the 32-bit naming are dropped, and the per-world entry cap is enforced
+ * when the cache opens.
+ */
+class ClientChunkCacheTest {
+
+    private static final long NONE = Long.MIN_VALUE;
+    private static final long WIDE = 0xCAFEBABE_0DDBA11L;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void storedChunksAreOfferedAgainAfterReopen() {
+        ClientChunkCache cache = ClientChunkCache.open(dir, ClientChunkCache.MAX_ENTRIES);
+        cache.store(-3, 12, WIDE, new byte[] {1, 2, 3});
+        cache.store(4, -1, 42, new byte[] {9});
+        cache.close();
+
+        ClientChunkCache reopened = ClientChunkCache.open(dir, ClientChunkCache.MAX_ENTRIES);
+        assertEquals(2, reopened.size());
+        assertEquals(WIDE, reopened.heldHash(-3, 12, NONE));
+        assertEquals(42L, reopened.heldHash(4, -1, NONE));
+        assertEquals(NONE, reopened.heldHash(0, 0, NONE));
+        assertArrayEquals(new byte[] {1, 2, 3}, reopened.read(-3, 12, WIDE));
+        reopened.close();
+    }
+
+    @Test
+    void aNewHashReplacesTheOldCopy() throws IOException {
+        ClientChunkCache cache = ClientChunkCache.open(dir, ClientChunkCache.MAX_ENTRIES);
+        cache.store(1, 1, 100, new byte[] {1});
+        cache.store(1, 1, 200, new byte[] {2});
+        cache.close();
+
+        assertEquals(1, fileCount());
+        ClientChunkCache reopened = ClientChunkCache.open(dir, ClientChunkCache.MAX_ENTRIES);
+        assertEquals(200L, reopened.heldHash(1, 1, NONE));
+        assertNull(reopened.read(1, 1, 100), "the superseded copy is gone");
+        assertArrayEquals(new byte[] {2}, reopened.read(1, 1, 200));
+        reopened.close();
+    }
+
+    @Test
+    void discardedOrMissingEntriesReadAsNull() throws IOException {
+        ClientChunkCache cache = ClientChunkCache.open(dir, ClientChunkCache.MAX_ENTRIES);
+        cache.store(5, 5, 7, new byte[] {7});
+        cache.discard(5, 5, 7);
+        cache.close();
+
+        assertEquals(0, fileCount());
+        ClientChunkCache reopened = ClientChunkCache.open(dir, ClientChunkCache.MAX_ENTRIES);
+        assertEquals(NONE, reopened.heldHash(5, 5, NONE));
+        assertNull(reopened.read(5, 5, 7));
+        reopened.close();
+    }
+
+    @Test
+    void entriesNamedWithA32BitHashAreDroppedOnOpen() throws IOException {
+        Files.write(dir.resolve("2.3.cafebabe.chunk"), new byte[] {1});
+
+        ClientChunkCache cache = ClientChunkCache.open(dir, ClientChunkCache.MAX_ENTRIES);
+        assertEquals(NONE, cache.heldHash(2, 3, NONE));
+        cache.close();
+        assertEquals(0, fileCount());
+    }
+
+    @Test
+    void openPrunesTheOldestEntriesOverTheCap() throws IOException {
+        ClientChunkCache cache = ClientChunkCache.open(dir, 100);
+        for (int i = 0; i < 8; i++) {
+            cache.store(i, 0, i, new byte[] {(byte) i});
+        }
+        cache.close();
+        try (Stream<Path> files = Files.list(dir)) {
+            // Chunk i is the i-th oldest.
+            files.forEach(f -> {
+                int cx = Integer.parseInt(f.getFileName().toString().split("\\.")[0]);
+                try {
+                    Files.setLastModifiedTime(f, FileTime.fromMillis(1_000_000L + cx * 1000L));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+        }
+
+        ClientChunkCache pruned = ClientChunkCache.open(dir, 4);
+        assertEquals(3, pruned.size(), "pruned to three quarters of the cap");
+        assertEquals(7L, pruned.heldHash(7, 0, NONE));
+        assertEquals(NONE, pruned.heldHash(0, 0, NONE));
+        pruned.close();
+        assertEquals(3, fileCount());
+    }
+
+    @Test
+    void worldIdsSeparateServersAndSeeds() {
+        String a = ClientChunkCache.worldId("play.example.net:25565", 1L);
+        assertEquals(a, ClientChunkCache.worldId("play.example.net:25565", 1L));
+        assertNotEquals(a, ClientChunkCache.worldId("play.example.net:25565", 2L));
+        assertNotEquals(a, ClientChunkCache.worldId("other.example.net:25565", 1L));
+        assertEquals(-1, a.indexOf(':'), "safe as a directory name");
+    }
+
+    private long fileCount() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+}
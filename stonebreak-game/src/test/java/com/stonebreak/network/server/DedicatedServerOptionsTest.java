@@ -0,0 +1,75 @@
+package com.stonebreak.network.server;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The dedicated server's command line: defaults match an integrated host, seeds follow the
+ * create-world dialog's rule, and bad input fails before anything boots.
+ */
+class DedicatedServerOptionsTest {
+
+    @Test
+    void defaultsMatchAnIntegratedHost() {
+        DedicatedServer.Options o = DedicatedServer.Options.parse(new String[0]);
+        assertEquals("world", o.worldName());
+        assertEquals(DedicatedServer.DEFAULT_PORT, o.port());
+        assertEquals(IntegratedServer.DEFAULT_TICK_RATE, o.tickRate());
+        assertEquals(0, o.genWorkers(), "0 keeps the world's own worker count");
+        assertNull(o.bindHost());
+    }
+
+    @Test
+    void tunablesAreParsed() {
+        DedicatedServer.Options o = DedicatedServer.Options.parse(new String[]{
+            "--world", "survival", "--seed", "42", "--port", "0", "--tick-rate", "30",
+            "--gen-workers", "6", "--io-threads", "2", "--entity-threads", "4"});
+        assertEquals("survival", o.worldName());
+        assertEquals(42L, o.seed());
+        assertEquals(0, o.port(), "port 0 binds an ephemeral port");
+        assertEquals(30, o.tickRate());
+        assertEquals(6, o.genWorkers());
+        assertEquals(6, o.worldConfiguration().getChunkBuildThreads());
+        assertEquals(2, o.ioThreads());
+        assertEquals(4, o.entityThreads());
+    }
+
+    @Test
+    void latencyReportIsOffUnlessAsked() {
+        assertNull(DedicatedServer.Options.parse(new String[0]).latencyReport());
+        DedicatedServer.Options o = DedicatedServer.Options.parse(new String[]{
+            "--latency-report", "15", "--latency-format", "json"});
+        assertEquals(15, o.latencyReportSeconds());
+        assertEquals(com.stonebreak.world.chunk.utils.ChunkLatencyReport.Format.JSON, o.latencyFormat());
+        IllegalArgumentException format = assertThrows(IllegalArgumentException.class,
+            () -> DedicatedServer.Options.parse(new String[]{"--latency-format", "xml"}));
+        assertTrue(format.getMessage().contains("--latency-format"));
+    }
+
+    @Test
+    void textSeedsHashLikeTheCreateWorldDialog() {
+        DedicatedServer.Options o = DedicatedServer.Options.parse(new String[]{"--seed", "glacier"});
+        assertEquals("glacier".hashCode(), o.seed());
+    }
+
+    @Test
+    void helpReturnsNoOptions() {
+        assertNull(DedicatedServer.Options.parse(new String[]{"--help"}));
+    }
+
+    @Test
+    void badInputIsRejectedWithTheFlagName() {
+        IllegalArgumentException unknown = assertThrows(IllegalArgumentException.class,
+            () -> DedicatedServer.Options.parse(new String[]{"--prot", "1"}));
+        assertTrue(unknown.getMessage().contains("--prot"));
+        IllegalArgumentException range = assertThrows(IllegalArgumentException.class,
+            () -> DedicatedServer.Options.parse(new String[]{"--tick-rate", "0"}));
+        assertTrue(range.getMessage().contains("--tick-rate"));
+        assertThrows(IllegalArgumentException.class,
+            () -> DedicatedServer.Options.parse(new String[]{"--port"}));
+    }
+}
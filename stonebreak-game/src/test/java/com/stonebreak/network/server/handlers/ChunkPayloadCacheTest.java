@@ -0,0 +1,119 @@
+package com.stonebreak.network.server.handlers;
+
+import com.stonebreak.network.packet.world.ChunkDataS2C;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The shared chunk payload cache: one encode serves every viewer of the same
+ * chunk state, compressed once for every remote viewer, any change of version or
+ * data revision is a miss, entries keep one form of the payload, and the LRU byte
+ * budget holds.
+ */
+class ChunkPayloadCacheTest {
+
+    private static ChunkDataS2C snapshot(int cx, int cz, int size) {
+        return new ChunkDataS2C(cx, cz, new byte[size], new byte[] {1, 2});
+    }
+
+    @Test
+    void theSameChunkStateIsServedFromOneEncode() {
+        ChunkPayloadCache cache = new ChunkPayloadCache(ChunkPayloadCache.DEFAULT_BUDGET_BYTES);
+        ChunkDataS2C sent = cache.put(7L, 3, 100L, snapshot(0, 7, 900), false);
+
+        assertSame(sent, cache.get(7L, 3, 100L, false));
+        assertSame(sent, cache.get(7L, 3, 100L, false));
+    }
+
+    @Test
+    void aNewVersionOrRevisionIsAMissAndDropsTheEntry() {
+        ChunkPayloadCache cache = new ChunkPayloadCache(ChunkPayloadCache.DEFAULT_BUDGET_BYTES);
+        cache.put(7L, 3, 100L, snapshot(0, 7, 900), false);
+
+        assertNull(cache.get(7L, 4, 100L, false), "player edit bumped the version");
+        assertEquals(0, cache.size());
+
+        cache.put(7L, 4, 100L, snapshot(0, 7, 900), false);
+        assertNull(cache.get(7L, 4, 101L, false), "sim edit changed the chunk without a version bump");
+        assertEquals(0, cache.sizeBytes());
+    }
+
+    @Test
+    void invalidateForgetsTheChunk() {
+        ChunkPayloadCache cache = new ChunkPayloadCache(ChunkPayloadCache.DEFAULT_BUDGET_BYTES);
+        cache.put(7L, 3, 100L, snapshot(0, 7, 900), false);
+        cache.invalidate(7L);
+
+        assertNull(cache.get(7L, 3, 100L, false));
+    }
+
+    @Test
+    void remoteSendsShareOneCompressedFrame() {
+        ChunkPayloadCache cache = new ChunkPayloadCache(ChunkPayloadCache.DEFAULT_BUDGET_BYTES);
+        ChunkDataS2C local = cache.put(7L, 3, 100L, snapshot(0, 7, 900), false);
+        assertNull(local.wireBody(), "a local-only chunk never builds the wire form");
+        assertNull(local.compressedFrame());
+
+        ChunkDataS2C first = cache.get(7L, 3, 100L, true);
+        assertNotNull(first.compressedFrame(), "a zero-filled chunk compresses");
+        for (int viewer = 0; viewer < 8; viewer++) {
+            assertSame(first.compressedFrame(), cache.get(7L, 3, 100L, true).compressedFrame(),
+                "compressed once; every connection writes the same array");
+        }
+    }
+
+    @Test
+    void anIncompressibleChunkKeepsItsPlainWireBody() {
+        ChunkPayloadCache cache = new ChunkPayloadCache(ChunkPayloadCache.DEFAULT_BUDGET_BYTES);
+        byte[] noise = new byte[900];
+        new Random(5).nextBytes(noise);
+        ChunkDataS2C first = cache.put(7L, 3, 100L, new ChunkDataS2C(0, 7, noise, new byte[0]), true);
+
+        assertNull(first.compressedFrame());
+        assertNotNull(first.wireBody());
+        assertSame(first.wireBody(), cache.get(7L, 3, 100L, true).wireBody());
+        assertArrayEquals(noise, cache.get(7L, 3, 100L, false).payload());
+    }
+
+    @Test
+    void aRemoteSendLeavesTheEntryHoldingOnlyTheWireBody() {
+        ChunkPayloadCache cache = new ChunkPayloadCache(ChunkPayloadCache.DEFAULT_BUDGET_BYTES);
+        ChunkDataS2C local = cache.put(7L, 3, 100L, snapshot(0, 7, 900), false);
+        long localBytes = cache.sizeBytes();
+
+        ChunkDataS2C wire = cache.get(7L, 3, 100L, true);
+        assertTrue(wire.isWireOnly());
+        assertNull(wire.payload(), "the raw arrays are dropped once the wire body exists");
+        assertTrue(cache.sizeBytes() <= localBytes, "the payload is not retained twice: " + cache.sizeBytes());
+
+        ChunkDataS2C decoded = cache.get(7L, 3, 100L, false);
+        assertArrayEquals(local.payload(), decoded.payload());
+        assertArrayEquals(local.metaPayload(), decoded.metaPayload());
+        assertEquals(local.chunkX(), decoded.chunkX());
+        assertEquals(local.chunkZ(), decoded.chunkZ());
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesGoFirstOverBudget() {
+        // Each entry retains ~1 KB of payload; the budget fits about three.
+        ChunkPayloadCache cache = new ChunkPayloadCache(3_500);
+        for (long key = 0; key < 3; key++) {
+            cache.put(key, 0, key, snapshot((int) key, 0, 1_000), false);
+        }
+        assertNotNull(cache.get(0L, 0, 0L, false)); // 0 is now most recent; 1 is the eldest
+        cache.put(3L, 0, 3L, snapshot(3, 0, 1_000), false);
+
+        assertNull(cache.get(1L, 0, 1L, false));
+        assertNotNull(cache.get(0L, 0, 0L, false));
+        assertNotNull(cache.get(3L, 0, 3L, false));
+        assertTrue(cache.sizeBytes() <= 3_500);
+    }
+}
@@ -1,8 +1,11 @@
 package com.stonebreak.network.server.handlers;
 
+import com.stonebreak.mobs.entities.EntityType;
 import org.junit.jupiter.api.Test;
 
+import static com.stonebreak.network.server.handlers.ServerEntityHandler.updateIntervalTicks;
 import static com.stonebreak.network.server.handlers.ServerEntityHandler.withinChunkRadius;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -10,6 +13,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * Interest math for per-player entity replication: Chebyshev chunk-radius membership,
  * matching the view shape chunk streaming uses. The enter radius is the player's view
  * distance; the exit radius adds {@code INTEREST_EXIT_MARGIN_CHUNKS} of hysteresis.
+ * Also the distance tiers that space out updates, and the per-player delta bases.
  */
 class EntityInterestTest {
 
@@ -56,4 +60,48 @@ class EntityInterestTest {
         assertFalse(withinChunkRadius(ex, 0f, 0f, 0f, view));
         assertTrue(withinChunkRadius(ex, 0f, 0f, 0f, exit));
     }
+
+    @Test
+    void updateIntervalDoublesPerDistanceTier() {
+        assertEquals(1, updateIntervalTicks(EntityType.COW, 0f));
+        assertEquals(1, updateIntervalTicks(EntityType.COW, sq(ServerEntityHandler.NEAR_TIER_BLOCKS)));
+        assertEquals(2, updateIntervalTicks(EntityType.COW, sq(ServerEntityHandler.NEAR_TIER_BLOCKS + 1f)));
+        assertEquals(4, updateIntervalTicks(EntityType.SHEEP, sq(ServerEntityHandler.MID_TIER_BLOCKS + 1f)));
+        assertEquals(8, updateIntervalTicks(EntityType.ITEM_DROP, sq(ServerEntityHandler.FAR_TIER_BLOCKS + 1f)));
+    }
+
+    @Test
+    void projectilesStayAtEveryTickAtAnyDistance() {
+        float far = sq(ServerEntityHandler.FAR_TIER_BLOCKS * 2f);
+        assertEquals(1, updateIntervalTicks(EntityType.ARROW, far));
+        assertEquals(1, updateIntervalTicks(EntityType.FIRE_BOLT, far));
+        assertEquals(1, updateIntervalTicks(EntityType.NULL_SPIKE, far));
+    }
+
+    @Test
+    void viewBaseAdvancesByDeltasAndResetsOnRebase() {
+        PlayerEntityView view = new PlayerEntityView();
+        view.add(130, 10f, 64f, -5f, 90f, 7);
+        assertTrue(view.knows(130));
+        assertFalse(view.knows(129));
+        assertEquals(7, view.lastSentTick(130));
+        assertEquals(7, view.lastResyncTick(130));
+
+        view.advance(130, 0.5f, 0f, -0.25f, 95f, 9);
+        assertEquals(10.5f, view.baseX(130));
+        assertEquals(-5.25f, view.baseZ(130));
+        assertEquals(95f, view.baseYaw(130));
+        assertEquals(9, view.lastSentTick(130));
+        assertEquals(7, view.lastResyncTick(130), "a delta is not a resync");
+
+        view.rebase(130, 0f, 0f, 0f, 0f, 12);
+        assertEquals(0f, view.baseX(130));
+        view.forget(130);
+        assertFalse(view.knows(130));
+        assertEquals(-1, view.nextKnown(0));
+    }
+
+    private static float sq(float v) {
+        return v * v;
+    }
 }
@@ -0,0 +1,127 @@
+package com.stonebreak.rendering.gameWorld.occlusion;
+
+import com.openmason.engine.cenda.CendaKernels;
+import org.junit.jupiter.api.Test;
+
+import static com.stonebreak.rendering.gameWorld.occlusion.SectionConnectivity.DOWN;
+import static com.stonebreak.rendering.gameWorld.occlusion.SectionConnectivity.EAST;
+import static com.stonebreak.rendering.gameWorld.occlusion.SectionConnectivity.NORTH;
+import static com.stonebreak.rendering.gameWorld.occlusion.SectionConnectivity.SOUTH;
+import static com.stonebreak.rendering.gameWorld.occlusion.SectionConnectivity.UP;
+import static com.stonebreak.rendering.gameWorld.occlusion.SectionConnectivity.WEST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Section graphs built from hand-laid block ids against a two-entry class
+ * table (0 = air, 1 = stone, 2 = leaves), so no block registry or mesher
+ * wiring is needed.
+ */
+class SectionConnectivityTest {
+
+    private static final short AIR = 0;
+    private static final short STONE = 1;
+    private static final short LEAVES = 2;
+    private static final byte[] CLASSES = {
+            0,
+            CendaKernels.CLASS_CUBE | CendaKernels.CLASS_OPAQUE_LIGHT,
+            CendaKernels.CLASS_CUBE | CendaKernels.CLASS_TRANSPARENT
+    };
+
+    @Test
+    void openAirConnectsEveryFace() {
+        assertEquals(SectionConnectivity.ALL, SectionConnectivity.compute(filled(AIR), 0, CLASSES));
+    }
+
+    @Test
+    void solidStoneConnectsNothing() {
+        assertEquals(SectionConnectivity.NONE, SectionConnectivity.compute(filled(STONE), 0, CLASSES));
+    }
+
+    @Test
+    void transparentCubesDoNotOcclude() {
+        assertEquals(SectionConnectivity.ALL, SectionConnectivity.compute(filled(LEAVES), 0, CLASSES));
+    }
+
+    @Test
+    void aFloorSplitsTopFromBottom() {
+        short[] ids = filled(AIR);
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                ids[index(x, 8, z)] = STONE;
+            }
+        }
+
+        short graph = SectionConnectivity.compute(ids, 0, CLASSES);
+
+        assertFalse(SectionConnectivity.connects(graph, DOWN, UP));
+        assertTrue(SectionConnectivity.connects(graph, WEST, EAST), "either half runs side to side");
+        assertTrue(SectionConnectivity.connects(graph, UP, NORTH));
+        assertTrue(SectionConnectivity.connects(graph, DOWN, SOUTH));
+    }
+
+    @Test
+    void aTunnelConnectsOnlyItsTwoEnds() {
+        short[] ids = filled(STONE);
+        for (int x = 0; x < 16; x++) {
+            ids[index(x, 7, 7)] = AIR;
+        }
+
+        short graph = SectionConnectivity.compute(ids, 0, CLASSES);
+
+        assertTrue(SectionConnectivity.connects(graph, WEST, EAST));
+        assertTrue(SectionConnectivity.connects(graph, EAST, WEST), "pairs are symmetric");
+        assertFalse(SectionConnectivity.connects(graph, WEST, UP));
+        assertFalse(SectionConnectivity.connects(graph, NORTH, SOUTH));
+        assertFalse(SectionConnectivity.connects(graph, DOWN, UP));
+    }
+
+    @Test
+    void twoDeadEndsDoNotJoinAcrossTheWallBetweenThem() {
+        short[] ids = filled(STONE);
+        for (int x = 0; x < 7; x++) {
+            ids[index(x, 7, 7)] = AIR;  // from the west face, stops short
+        }
+        for (int y = 9; y < 16; y++) {
+            ids[index(8, y, 7)] = AIR;  // from the top face, stops short
+        }
+
+        assertEquals(SectionConnectivity.NONE, SectionConnectivity.compute(ids, 0, CLASSES),
+                "each pocket touches one face only");
+    }
+
+    @Test
+    void anEnclosedPocketConnectsNothing() {
+        short[] ids = filled(STONE);
+        for (int x = 4; x < 12; x++) {
+            for (int y = 4; y < 12; y++) {
+                for (int z = 4; z < 12; z++) {
+                    ids[index(x, y, z)] = AIR;
+                }
+            }
+        }
+
+        assertEquals(SectionConnectivity.NONE, SectionConnectivity.compute(ids, 0, CLASSES));
+    }
+
+    @Test
+    void readsAtAnOffsetIntoAWholeColumn() {
+        short[] column = new short[SectionConnectivity.CELLS * 2];
+        java.util.Arrays.fill(column, 0, SectionConnectivity.CELLS, STONE);
+
+        assertEquals(SectionConnectivity.NONE, SectionConnectivity.compute(column, 0, CLASSES));
+        assertEquals(SectionConnectivity.ALL,
+                SectionConnectivity.compute(column, SectionConnectivity.CELLS, CLASSES));
+    }
+
+    private static short[] filled(short id) {
+        short[] ids = new short[SectionConnectivity.CELLS];
+        java.util.Arrays.fill(ids, id);
+        return ids;
+    }
+
+    private static int index(int x, int y, int z) {
+        return y * 256 + z * 16 + x;
+    }
+}
@@ -0,0 +1,161 @@
+package com.stonebreak.rendering.gameWorld.occlusion;
+
+import com.stonebreak.rendering.gameWorld.ChunkFrustumCuller;
+import org.joml.Matrix4f;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The camera-outward walk over hand-built section graphs on a 9x9-column grid
+ * centred on column (0, 0). Camera sits in section row 2 (y 32..47) unless a
+ * test says otherwise.
+ */
+class SectionOcclusionCullerTest {
+
+    private static final int RADIUS = 4;
+    private static final int SECTIONS = 16;
+    private static final float CAMERA_Y = 40.0f;
+
+    private final SectionOcclusionCuller culler = new SectionOcclusionCuller();
+
+    @Test
+    void openAirReachesEveryColumn() {
+        culler.begin(-RADIUS, -RADIUS, RADIUS, RADIUS);
+        fill(SectionConnectivity.ALL);
+
+        culler.run(8.0f, CAMERA_Y, 8.0f, null);
+
+        for (int cx = -RADIUS; cx <= RADIUS; cx++) {
+            for (int cz = -RADIUS; cz <= RADIUS; cz++) {
+                assertTrue(culler.isColumnVisible(cx, cz), cx + "," + cz);
+            }
+        }
+        assertEquals((2 * RADIUS + 1) * (2 * RADIUS + 1) * SECTIONS, culler.visitedSections());
+    }
+
+    @Test
+    void solidRockStopsAtTheCamerasNeighbours() {
+        culler.begin(-RADIUS, -RADIUS, RADIUS, RADIUS);
+        fill(SectionConnectivity.NONE);
+
+        culler.run(8.0f, CAMERA_Y, 8.0f, null);
+
+        assertTrue(culler.isColumnVisible(0, 0));
+        assertTrue(culler.isColumnVisible(1, 0), "the walls of the camera's section are drawn");
+        assertTrue(culler.isColumnVisible(0, -1));
+        assertFalse(culler.isColumnVisible(2, 0), "nothing is seen through them");
+        assertFalse(culler.isColumnVisible(1, 1));
+        assertEquals(7, culler.visitedSections(), "the camera's section and its six neighbours");
+    }
+
+    @Test
+    void aTunnelIsFollowedToItsEndAndNoFurther() {
+        culler.begin(-RADIUS, -RADIUS, RADIUS, RADIUS);
+        fill(SectionConnectivity.NONE);
+        short tunnel = pair(SectionConnectivity.WEST, SectionConnectivity.EAST);
+        for (int cx = -RADIUS; cx <= RADIUS; cx++) {
+            column(cx, 0)[2] = tunnel;
+        }
+
+        culler.run(8.0f, CAMERA_Y, 8.0f, null);
+
+        for (int cx = -RADIUS; cx <= RADIUS; cx++) {
+            assertTrue(culler.isColumnVisible(cx, 0), "tunnel column " + cx);
+            assertTrue(culler.isSectionVisible(cx, 2, 0));
+        }
+        assertFalse(culler.isSectionVisible(3, 2, 1), "rock beside the far tunnel is never reached");
+        assertFalse(culler.isColumnVisible(3, 2));
+        assertFalse(culler.isSectionVisible(3, 3, 0), "nor the rock above it");
+    }
+
+    @Test
+    void theWalkNeverDoublesBackTowardTheCamera() {
+        culler.begin(-RADIUS, -RADIUS, RADIUS, RADIUS);
+        fill(SectionConnectivity.NONE);
+        // A U-bend: east along row z=0, south one column at x=2, back west along z=1.
+        short eastWest = pair(SectionConnectivity.WEST, SectionConnectivity.EAST);
+        column(1, 0)[2] = eastWest;
+        column(2, 0)[2] = pair(SectionConnectivity.WEST, SectionConnectivity.SOUTH);
+        column(2, 1)[2] = pair(SectionConnectivity.NORTH, SectionConnectivity.WEST);
+        column(1, 1)[2] = eastWest;
+
+        culler.run(8.0f, CAMERA_Y, 8.0f, null);
+
+        assertTrue(culler.isSectionVisible(2, 2, 1), "round the bend");
+        assertFalse(culler.isSectionVisible(1, 2, 1),
+                "heading west after heading east is doubling back; no line of sight goes there");
+    }
+
+    @Test
+    void unmeshedColumnsCountAsOpen() {
+        culler.begin(-RADIUS, -RADIUS, RADIUS, RADIUS);
+        fill(SectionConnectivity.NONE);
+        for (int cx = 1; cx <= RADIUS; cx++) {
+            culler.setColumn(cx, 0, null);
+        }
+
+        culler.run(8.0f, CAMERA_Y, 8.0f, null);
+
+        assertTrue(culler.isColumnVisible(RADIUS, 0), "no graph yet, so nothing may be hidden behind it");
+    }
+
+    @Test
+    void aCameraAboveTheWorldCullsNothing() {
+        culler.begin(-RADIUS, -RADIUS, RADIUS, RADIUS);
+        fill(SectionConnectivity.NONE);
+
+        culler.run(8.0f, 300.0f, 8.0f, null);
+
+        assertTrue(culler.isColumnVisible(RADIUS, RADIUS));
+        assertTrue(culler.isColumnVisible(-RADIUS, -RADIUS));
+    }
+
+    @Test
+    void sectionsOutsideTheFrustumAreNotWalked() {
+        ChunkFrustumCuller frustum = new ChunkFrustumCuller();
+        frustum.update(new Matrix4f().setPerspective((float) Math.toRadians(70.0), 16f / 9f, 0.1f, 1500f),
+                new Matrix4f().setLookAt(8f, CAMERA_Y, 8f, 8f, CAMERA_Y, 108f, 0f, 1f, 0f));
+        culler.begin(-RADIUS, -RADIUS, RADIUS, RADIUS);
+        fill(SectionConnectivity.ALL);
+
+        culler.run(8.0f, CAMERA_Y, 8.0f, frustum);
+
+        assertTrue(culler.isColumnVisible(0, RADIUS), "straight ahead");
+        assertFalse(culler.isColumnVisible(0, -2), "behind the camera");
+        assertTrue(culler.visitedSections() < (2 * RADIUS + 1) * (2 * RADIUS + 1) * SECTIONS);
+    }
+
+    // ── Fixtures ─────────────────────────────────────────────────────────────
+
+    private final short[][] graphs = new short[(2 * RADIUS + 1) * (2 * RADIUS + 1)][];
+
+    private void fill(short graph) {
+        for (int cx = -RADIUS; cx <= RADIUS; cx++) {
+            for (int cz = -RADIUS; cz <= RADIUS; cz++) {
+                short[] sections = new short[SECTIONS];
+                Arrays.fill(sections, graph);
+                graphs[(cx + RADIUS) * (2 * RADIUS + 1) + cz + RADIUS] = sections;
+                culler.setColumn(cx, cz, sections);
+            }
+        }
+    }
+
+    /** The graph array already handed to the culler for a column; edits show through. */
+    private short[] column(int cx, int cz) {
+        return graphs[(cx + RADIUS) * (2 * RADIUS + 1) + cz + RADIUS];
+    }
+
+    private static short pair(int a, int b) {
+        for (short bit = 0; bit < 15; bit++) {
+            if (SectionConnectivity.connects((short) (1 << bit), a, b)) {
+                return (short) (1 << bit);
+            }
+        }
+        throw new IllegalArgumentException(a + "-" + b);
+    }
+}
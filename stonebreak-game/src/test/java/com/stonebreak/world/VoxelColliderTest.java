@@ -0,0 +1,121 @@
+package com.stonebreak.world;
+
+import com.stonebreak.blocks.BlockType;
+import com.stonebreak.world.chunk.Chunk;
+import com.stonebreak.world.operations.WorldConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The collider answers from section collision masks instead of blocks, so the thing worth pinning
+ * is that it never disagrees with the blocks: the same cells, classified the same way, in the
+ * Y-Z-X order the resolvers rely on — across chunk and section borders, and after edits. And that
+ * a sweep stops a box at the first face in its path however far it is asked to move.
+ */
+class VoxelColliderTest {
+
+    private static final BlockType[] MIX = {
+        BlockType.AIR, BlockType.AIR, BlockType.STONE, BlockType.DIRT, BlockType.WATER,
+        BlockType.ROSE, BlockType.SNOW, BlockType.OAK_STAIRS
+    };
+
+    private final VoxelCollider collider = new VoxelCollider();
+
+    /** Two chunks side by side along X, filled at random between y 10 and 40. */
+    private static TestWorld randomWorld(long seed) {
+        TestWorld world = new TestWorld(new WorldConfiguration(8, 4), 1L, true);
+        Random random = new Random(seed);
+        for (int cx = 0; cx < 2; cx++) {
+            Chunk chunk = new Chunk(cx, 0);
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int y = 10; y <= 40; y++) {
+                        chunk.setBlock(x, y, z, MIX[random.nextInt(MIX.length)]);
+                    }
+                }
+            }
+            world.setChunk(cx, 0, chunk);
+        }
+        return world;
+    }
+
+    @Test
+    void collectMatchesTheBlocksAcrossChunkAndSectionBorders() {
+        TestWorld world = randomWorld(7L);
+
+        collider.collect(world, 12, 13, 3, 19, 34, 9);
+
+        int found = 0;
+        for (int y = 13; y <= 34; y++) {
+            for (int z = 3; z <= 9; z++) {
+                for (int x = 12; x <= 19; x++) {
+                    BlockType block = world.getBlockAt(x, y, z);
+                    if (!block.hasShapedCollision() && !block.isSolid()) {
+                        continue;
+                    }
+                    assertTrue(found < collider.count(), "missing cell " + x + "," + y + "," + z);
+                    assertEquals(x, collider.x(found));
+                    assertEquals(y, collider.y(found));
+                    assertEquals(z, collider.z(found));
+                    assertEquals(block.hasShapedCollision(), collider.shaped(found), block + " at " + x + "," + y + "," + z);
+                    found++;
+                }
+            }
+        }
+        assertEquals(found, collider.count());
+    }
+
+    @Test
+    void collectFollowsEdits() {
+        TestWorld world = randomWorld(11L);
+        collider.collect(world, 0, 0, 0, 31, 63, 15); // builds every mask first
+
+        world.getChunkIfLoaded(0, 0).setBlock(4, 20, 4, BlockType.STONE);
+        world.getChunkIfLoaded(1, 0).setBlock(2, 20, 4, BlockType.AIR);
+        world.getChunkIfLoaded(1, 0).setBlock(3, 20, 4, BlockType.SNOW);
+
+        collider.collect(world, 4, 20, 4, 4, 20, 4);
+        assertEquals(1, collider.count());
+        assertFalse(collider.shaped(0));
+        collider.collect(world, 18, 20, 4, 19, 20, 4);
+        assertEquals(1, collider.count());
+        assertEquals(19, collider.x(0));
+        assertTrue(collider.shaped(0));
+    }
+
+    @Test
+    void unloadedChunksAndOutOfRangeHeightsAreEmpty() {
+        TestWorld world = randomWorld(3L);
+
+        assertEquals(0, collider.collect(world, 40, 10, 0, 50, 40, 15));
+        assertEquals(0, collider.collect(world, 0, -20, 0, 15, -1, 15));
+        assertEquals(0, collider.collect(world, 0, WorldConfiguration.WORLD_HEIGHT, 0, 15,
+            WorldConfiguration.WORLD_HEIGHT + 10, 15));
+    }
+
+    @Test
+    void sweepStopsAtTheFirstFaceHoweverFarItMoves() {
+        TestWorld world = new TestWorld(new WorldConfiguration(8, 4), 1L, true);
+        Chunk chunk = new Chunk(0, 0);
+        for (int y = 20; y <= 22; y++) {
+            chunk.setBlock(9, y, 5, BlockType.STONE); // a wall at x = 9
+        }
+        chunk.setBlock(5, 10, 5, BlockType.STONE);    // a one-block floor at y = 10
+        world.setChunk(0, 0, chunk);
+
+        float dx = collider.sweep(world, VoxelCollider.AXIS_X, 2.0f, 20.5f, 5.2f, 2.6f, 21.5f, 5.8f, 30.0f);
+        assertEquals(9.0f - 2.6f, dx, 1e-5f);
+
+        float dy = collider.sweep(world, VoxelCollider.AXIS_Y, 5.2f, 30.0f, 5.2f, 5.8f, 31.0f, 5.8f, -50.0f);
+        assertEquals(11.0f - 30.0f, dy, 1e-5f);
+
+        // Resting on the floor, sliding along it is not blocked by it.
+        float slide = collider.sweep(world, VoxelCollider.AXIS_Z, 5.2f, 11.0f, 5.2f, 5.8f, 12.0f, 5.8f, 3.0f);
+        assertEquals(3.0f, slide, 1e-6f);
+    }
+}
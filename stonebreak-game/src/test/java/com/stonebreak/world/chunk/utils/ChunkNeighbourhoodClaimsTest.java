@@ -0,0 +1,56 @@
+package com.stonebreak.world.chunk.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The exclusion the parallel feature dispatcher relies on: two decoration jobs whose
+ * neighbourhoods share a chunk never hold their claims at the same time.
+ */
+class ChunkNeighbourhoodClaimsTest {
+
+    private final ChunkNeighbourhoodClaims claims = new ChunkNeighbourhoodClaims();
+
+    @Test
+    void overlappingNeighbourhoodsExcludeEachOther() {
+        assertTrue(claims.tryClaim(0, 0, 1));
+
+        assertFalse(claims.tryClaim(2, 2, 1), "corner chunk (1, 1) is shared");
+        assertTrue(claims.tryClaim(3, 0, 1), "x 2..4 touches nothing of x -1..1");
+    }
+
+    @Test
+    void aFailedClaimTakesNothing() {
+        assertTrue(claims.tryClaim(0, 0, 1));
+        assertFalse(claims.tryClaim(1, 3, 2));
+
+        assertFalse(claims.isClaimed(1, 4), "all or nothing");
+        assertTrue(claims.tryClaim(0, 3, 1));
+    }
+
+    @Test
+    void releaseFreesTheWholeNeighbourhood() {
+        assertTrue(claims.tryClaim(5, -5, 2));
+        assertTrue(claims.isClaimed(7, -3));
+
+        claims.release(5, -5, 2);
+
+        assertFalse(claims.isClaimed(7, -3));
+        assertTrue(claims.tryClaim(6, -4, 2));
+    }
+
+    @Test
+    void passBlockedAreasUseTheSameFootprint() {
+        Set<Long> blocked = new HashSet<>();
+        ChunkNeighbourhoodClaims.mark(blocked, 0, 0, 1);
+
+        assertTrue(ChunkNeighbourhoodClaims.overlaps(blocked, 2, 0, 1));
+        assertFalse(ChunkNeighbourhoodClaims.overlaps(blocked, 3, 0, 1));
+        assertTrue(ChunkNeighbourhoodClaims.overlaps(blocked, 0, 3, 2));
+    }
+}
@@ -0,0 +1,165 @@
+package com.stonebreak.world.chunk.utils;
+
+import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
+import com.stonebreak.blocks.BlockType;
+import com.stonebreak.world.chunk.Chunk;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cold-tier sweeps against a fake clock: a sweep runs at most once a second,
+ * packs only chunks idle for 30 s beyond distance 8 of every anchor, stops
+ * packing once its 2 ms budget is spent, and a chunk read after packing is
+ * inflated and starts a fresh idle period.
+ */
+class ColdChunkTierTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long IDLE = ColdChunkTier.DEFAULT_IDLE_SECONDS * SECOND;
+    private static final int[] ORIGIN_X = {0};
+    private static final int[] ORIGIN_Z = {0};
+
+    /** Reads return {@code now}, then move it on by {@code step}. */
+    private static final class FakeClock implements LongSupplier {
+        long now = 5 * SECOND;
+        long step;
+
+        @Override
+        public long getAsLong() {
+            long t = now;
+            now += step;
+            return t;
+        }
+    }
+
+    private final FakeClock clock = new FakeClock();
+    private final ColdChunkTier tier = new ColdChunkTier(clock);
+    private final ChunkNeighbourhoodClaims claims = new ChunkNeighbourhoodClaims();
+    private final Map<ChunkPosition, Chunk> chunks = new HashMap<>();
+
+    @Test
+    void anIdleFarChunkIsPackedOnceItsIdlePeriodHasPassed() {
+        Chunk far = add(20, 0);
+        sweep();
+
+        clock.now += IDLE - SECOND;
+        sweep();
+        assertEquals(0, packed(far), "idle 29 s");
+
+        clock.now += SECOND;
+        sweep();
+        assertTrue(packed(far) > 0, "idle 30 s");
+    }
+
+    @Test
+    void sweepsRunAtMostOnceASecond() {
+        Chunk far = add(20, 0);
+        sweep();
+        clock.now += IDLE - SECOND / 2;
+        sweep(); // the chunk is 29.5 s idle: nothing packed, next sweep due in 1 s
+
+        clock.now += SECOND / 2;
+        sweep();
+        assertEquals(0, packed(far), "idle long enough, but the sweep is not due");
+
+        clock.now += SECOND / 2;
+        sweep();
+        assertTrue(packed(far) > 0);
+    }
+
+    @Test
+    void chunksWithinDistanceEightOfAnAnchorStayUnpacked() {
+        int edge = ColdChunkTier.DEFAULT_DISTANCE;
+        Chunk inside = add(edge, -edge);
+        Chunk outside = add(edge + 1, 3);
+        sweep();
+        clock.now += IDLE;
+        sweep();
+
+        assertEquals(0, packed(inside), "Chebyshev distance 8");
+        assertTrue(packed(outside) > 0, "Chebyshev distance 9");
+    }
+
+    @Test
+    void aSweepStopsPackingOnceItsBudgetIsSpent() {
+        int count = 10;
+        for (int i = 0; i < count; i++) {
+            add(20 + i, 0);
+        }
+        sweep();
+        clock.now += IDLE;
+        // Each clock read costs a millisecond, so the 2 ms budget covers one pack.
+        clock.step = ColdChunkTier.SWEEP_BUDGET_NANOS / 2;
+        sweep();
+        int first = packedChunks();
+        assertTrue(first >= 1 && first < count, first + " chunks packed in one sweep");
+
+        for (int s = 0; s < count && packedChunks() < count; s++) {
+            clock.now += SECOND;
+            sweep();
+        }
+        assertEquals(count, packedChunks(), "later sweeps pick up the rest");
+    }
+
+    @Test
+    void readingAPackedChunkInflatesItAndRestartsItsIdleClock() {
+        Chunk far = add(20, 0);
+        sweep();
+        clock.now += IDLE;
+        sweep();
+        assertTrue(packed(far) > 0);
+
+        assertEquals(BlockType.STONE, far.getBlock(3, 1, 3), "reads see the packed blocks");
+        assertEquals(BlockType.DIRT, far.getBlock(3, 5, 3));
+        assertEquals(0, packed(far), "the read section is inflated in place");
+
+        clock.now += SECOND;
+        sweep(); // notices the read
+        clock.now += IDLE - SECOND;
+        sweep();
+        assertEquals(0, packed(far), "warm again: the idle period starts over");
+
+        clock.now += SECOND;
+        sweep();
+        assertTrue(packed(far) > 0, "idle 30 s since the read");
+    }
+
+    private void sweep() {
+        tier.sweep(chunks, ORIGIN_X, ORIGIN_Z, 1, claims);
+    }
+
+    /** A decorated chunk whose only section holds compressible, non-uniform blocks. */
+    private Chunk add(int chunkX, int chunkZ) {
+        Chunk chunk = new Chunk(chunkX, chunkZ);
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                for (int y = 0; y < 8; y++) {
+                    chunk.setBlock(x, y, z, y < 4 ? BlockType.STONE : BlockType.DIRT);
+                }
+            }
+        }
+        chunk.setFeaturesPopulated(true);
+        chunks.put(new ChunkPosition(chunkX, chunkZ), chunk);
+        return chunk;
+    }
+
+    private static int packed(Chunk chunk) {
+        return ((CcoPalettedChunkStorage) chunk.getBlockStorageView()).packedSectionCount();
+    }
+
+    private int packedChunks() {
+        int n = 0;
+        for (Chunk chunk : chunks.values()) {
+            if (packed(chunk) > 0) {
+                n++;
+            }
+        }
+        return n;
+    }
+}
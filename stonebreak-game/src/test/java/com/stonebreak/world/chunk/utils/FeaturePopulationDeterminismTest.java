@@ -0,0 +1,115 @@
+package com.stonebreak.world.chunk.utils;
+
+import com.stonebreak.blocks.BlockType;
+import com.stonebreak.world.World;
+import com.stonebreak.world.chunk.Chunk;
+import com.stonebreak.world.operations.WorldConfiguration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Feature decoration on the generation pool must not depend on the pool size:
+ * the same seed and terrain decorated by one worker and by several leave every
+ * block of every chunk identical, including the trees and queued cross-chunk
+ * features that reach into neighbours.
+ */
+@Tag("integration")
+class FeaturePopulationDeterminismTest {
+
+    private static final long SEED = 20240611L;
+    private static final int GRID = 6;
+    private static final int BORDER = 2; // cross-chunk features reach two chunks out
+
+    @Test
+    @Timeout(value = 120, unit = TimeUnit.SECONDS)
+    void oneWorkerAndManyWorkersDecorateIdentically() {
+        long[] serial = decoratedBlockHashes(1);
+        long[] parallel = decoratedBlockHashes(6);
+
+        assertArrayEquals(serial, parallel, "chunk block hashes, row-major over the decorated grid");
+    }
+
+    /** Decorates a fresh world with {@code workers} pool threads; one block hash per chunk. */
+    private static long[] decoratedBlockHashes(int workers) {
+        World world = World.createHeadless(new WorldConfiguration(GRID, workers), SEED);
+        try {
+            int span = GRID + BORDER;
+            for (int cx = -BORDER; cx <= span; cx++) {
+                for (int cz = -BORDER; cz <= span; cz++) {
+                    world.getChunkAt(cx, cz);
+                }
+            }
+            world.awaitPendingChunkLoads().join();
+            // Everything whose east/south neighbours exist, border included: border
+            // chunks' trees overhang into the grid.
+            while (!allPopulated(world, -BORDER, span - 1)) {
+                world.updateSimulation(0.05f);
+                LockSupport.parkNanos(1_000_000L);
+            }
+            // Let the last dispatched jobs land and their queued features drain.
+            for (int i = 0; i < 20; i++) {
+                world.updateSimulation(0.05f);
+                LockSupport.parkNanos(5_000_000L);
+            }
+
+            long[] hashes = new long[GRID * GRID];
+            boolean sawFeatures = false;
+            for (int cx = 0; cx < GRID; cx++) {
+                for (int cz = 0; cz < GRID; cz++) {
+                    Chunk chunk = world.getChunkIfLoaded(cx, cz);
+                    hashes[cx * GRID + cz] = blockHash(chunk);
+                    sawFeatures |= hasDecoration(chunk);
+                }
+            }
+            assertTrue(sawFeatures, "the grid should grow at least one tree or flower");
+            return hashes;
+        } finally {
+            world.cleanup();
+        }
+    }
+
+    private static boolean allPopulated(World world, int from, int to) {
+        for (int cx = from; cx <= to; cx++) {
+            for (int cz = from; cz <= to; cz++) {
+                Chunk chunk = world.getChunkIfLoaded(cx, cz);
+                if (chunk == null || !chunk.areFeaturesPopulated()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static long blockHash(Chunk chunk) {
+        long hash = 1125899906842597L;
+        for (int x = 0; x < 16; x++) {
+            for (int y = 0; y < WorldConfiguration.WORLD_HEIGHT; y++) {
+                for (int z = 0; z < 16; z++) {
+                    hash = 31 * hash + chunk.getBlock(x, y, z).getId();
+                }
+            }
+        }
+        return hash;
+    }
+
+    private static boolean hasDecoration(Chunk chunk) {
+        for (int x = 0; x < 16; x++) {
+            for (int y = 0; y < WorldConfiguration.WORLD_HEIGHT; y++) {
+                for (int z = 0; z < 16; z++) {
+                    BlockType block = chunk.getBlock(x, y, z);
+                    if (block.isFlower() || block.isLog()) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,74 @@
+package com.stonebreak.world.chunk.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The log-linear buckets: every value lands in a bucket that contains it,
+ * percentiles stay within the 12.5% bucket width, and a snapshot minus an
+ * earlier one sees only what was recorded in between.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void everyValueLandsInABucketThatContainsIt() {
+        long[] values = {0, 1, 7, 8, 9, 15, 16, 17, 1_000, 123_456_789L, 4_000_000_000L, Long.MAX_VALUE};
+        for (long v : values) {
+            int bucket = LatencyHistogram.bucketOf(v);
+            assertTrue(bucket < LatencyHistogram.BUCKETS, "bucket of " + v);
+            assertTrue(LatencyHistogram.upperBound(bucket) >= v, "upper bound of " + v);
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.upperBound(bucket - 1) < v, "previous bucket below " + v);
+            }
+        }
+    }
+
+    @Test
+    void percentilesAreWithinOneBucket() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int ms = 1; ms <= 1000; ms++) {
+            h.record(ms * 1_000_000L);
+        }
+        LatencyHistogram.Snapshot s = h.snapshot();
+
+        assertEquals(1000, s.count());
+        assertNear(500_000_000L, s.percentileNanos(50));
+        assertNear(990_000_000L, s.percentileNanos(99));
+        assertEquals(1_000_000_000L, s.maxNanos());
+        assertEquals(s.maxNanos(), s.percentileNanos(100), "the top percentile is capped by the max");
+    }
+
+    @Test
+    void aWindowSeesOnlyWhatWasRecordedSinceTheEarlierSnapshot() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 0; i < 100; i++) {
+            h.record(5_000_000_000L);
+        }
+        LatencyHistogram.Snapshot before = h.snapshot();
+        for (int i = 0; i < 10; i++) {
+            h.record(2_000_000L);
+        }
+
+        LatencyHistogram.Snapshot window = h.snapshot().since(before);
+
+        assertEquals(10, window.count());
+        assertNear(2_000_000L, window.percentileNanos(99));
+        assertNear(2_000_000L, window.maxNanos());
+    }
+
+    @Test
+    void negativeSamplesCountAsZero() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.record(-50);
+
+        assertEquals(1, h.snapshot().count());
+        assertEquals(0, h.snapshot().maxNanos());
+    }
+
+    private static void assertNear(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 8,
+            "expected ~" + expected + " (within one bucket), got " + actual);
+    }
+}
@@ -2,6 +2,7 @@ package com.stonebreak.world.save.diagnostics;
 
 import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
 import com.stonebreak.blocks.BlockType;
+import com.stonebreak.world.save.io.ChunkCodec;
 import com.stonebreak.world.save.model.ChunkData;
 import com.stonebreak.world.save.repository.FileSaveRepository;
 import org.junit.jupiter.api.Tag;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
@@ -30,10 +32,10 @@ class CorruptionCleanupToolTest {
         Path chunksRoot = tempDir.resolve("world/chunks");
         Files.createDirectories(chunksRoot);
 
-        FileSaveRepository repo = new FileSaveRepository(worldPath);
-        repo.saveChunk(smallChunk(0, 0));
-        repo.saveChunk(smallChunk(1, 1));
-        repo.close();
+        // Leftover legacy per-chunk layout (never migrated).
+        Files.createDirectories(chunksRoot.resolve("r.0.0"));
+        Files.write(chunksRoot.resolve("r.0.0/c.0.0.sbc"), ChunkCodec.encode(smallChunk(0, 0)));
+        Files.write(chunksRoot.resolve("r.0.0/c.1.1.sbc"), ChunkCodec.encode(smallChunk(1, 1)));
 
         Path garbageFile = chunksRoot.resolve("r.0.0/c.9.9.sbc");
         Files.write(garbageFile, "garbage".getBytes());
@@ -58,6 +60,33 @@ class CorruptionCleanupToolTest {
         assertTrue(Files.exists(notesFile), "notes.txt should be untouched");
     }
 
+    @Test
+    void cleanupDropsUndecodableRegionEntries() throws IOException {
+        String worldPath = tempDir.resolve("world").toString();
+        FileSaveRepository repo = new FileSaveRepository(worldPath);
+        repo.saveChunk(smallChunk(0, 0));
+        repo.saveChunk(smallChunk(2, 0));
+        repo.close();
+
+        // Scribble over chunk (2,0)'s payload: its table entry sits at
+        // 16 + index * 8 and holds the payload's first sector.
+        Path regionFile = tempDir.resolve("world/chunks/r.0.0.sbr");
+        try (RandomAccessFile raf = new RandomAccessFile(regionFile.toFile(), "rw")) {
+            raf.seek(16 + 2 * 8);
+            int sector = raf.readInt();
+            raf.seek((long) sector * 4096);
+            raf.write(new byte[64]);
+        }
+
+        CorruptionCleanupTool tool = new CorruptionCleanupTool();
+        tool.scanAndCleanWorld(worldPath);
+
+        FileSaveRepository reopened = new FileSaveRepository(worldPath);
+        assertTrue(reopened.chunkExists(0, 0), "Valid region chunk should remain");
+        assertFalse(reopened.chunkExists(2, 0), "Corrupted region chunk should be deleted");
+        reopened.close();
+    }
+
     @Test
     void missingChunksDirectoryReturnsQuietly() throws IOException {
         String worldPath = tempDir.resolve("emptyWorld").toString();
@@ -0,0 +1,131 @@
+package com.stonebreak.world.save.io;
+
+import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
+import com.stonebreak.blocks.BlockType;
+import com.stonebreak.world.save.model.ChunkData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The open-region cache under eviction pressure: more regions in play than
+ * the cache holds, written by several threads at once (as the save pool
+ * does). A region evicted or closed mid-write must not be reopened as a
+ * second instance on the same file, or the two sector tables overwrite each
+ * other and chunks come back wrong or missing.
+ */
+class ChunkStorageConcurrencyTest {
+
+    private static final int REGIONS = 6;
+    private static final int PATCH = 4;       // 4x4 chunks per region
+    private static final int THREADS = 4;
+    private static final int ROUNDS = 12;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void concurrentWritesUnderEvictionKeepEveryChunk() throws Exception {
+        ChunkStorage storage = new ChunkStorage(tempDir, 2);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                writers.add(pool.submit(() -> {
+                    Random random = new Random(thread);
+                    List<Integer> regions = new ArrayList<>();
+                    for (int r = 0; r < REGIONS; r++) {
+                        regions.add(r);
+                    }
+                    for (int round = 0; round < ROUNDS; round++) {
+                        Collections.shuffle(regions, random);
+                        for (int region : regions) {
+                            storage.saveChunks(ownedChunks(region, thread, round));
+                            // Reads churn the cache too.
+                            storage.loadChunk(regions.get(0) * RegionFile.REGION_SIZE, 0);
+                        }
+                        if (round == ROUNDS / 2 && thread == 0) {
+                            storage.close();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        storage.close();
+        assertEquals(0, storage.openRegionCount(), "every region closed once released");
+
+        try (ChunkStorage reopened = new ChunkStorage(tempDir)) {
+            assertEquals(REGIONS * PATCH * PATCH, reopened.listChunks().size());
+            for (int region = 0; region < REGIONS; region++) {
+                for (int thread = 0; thread < THREADS; thread++) {
+                    for (ChunkData expected : ownedChunks(region, thread, ROUNDS - 1)) {
+                        ChunkData actual = reopened.loadChunk(expected.getChunkX(), expected.getChunkZ())
+                            .orElseThrow();
+                        String at = "chunk (" + expected.getChunkX() + "," + expected.getChunkZ() + ")";
+                        assertEquals(expected.getSnowLayers(), actual.getSnowLayers(), at);
+                        for (int y = 0; y < 16; y++) {
+                            assertEquals(expected.getBlockStorage().get(y % 16, y, 3),
+                                actual.getBlockStorage().get(y % 16, y, 3), at + " y=" + y);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /** The chunks of {@code region}'s patch that {@code thread} writes, stamped with {@code round}. */
+    private static List<ChunkData> ownedChunks(int region, int thread, int round) {
+        List<ChunkData> chunks = new ArrayList<>();
+        for (int i = thread; i < PATCH * PATCH; i += THREADS) {
+            chunks.add(chunk(region * RegionFile.REGION_SIZE + i % PATCH, i / PATCH, round));
+        }
+        return chunks;
+    }
+
+    /** Payload size varies with the round, so rewrites move between sector runs. */
+    private static ChunkData chunk(int chunkX, int chunkZ, int round) {
+        CcoPalettedChunkStorage blocks = CcoPalettedChunkStorage.createEmpty(16, 256, 16, BlockType.AIR);
+        Random random = new Random(chunkX * 31L + chunkZ * 7919L + round);
+        int height = 1 + (round % 3) * 40;
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                for (int y = 0; y < height; y++) {
+                    blocks.set(x, y, z, random.nextInt(3) == 0 ? BlockType.STONE : BlockType.DIRT);
+                }
+            }
+        }
+        Map<Integer, Integer> stamp = new HashMap<>();
+        stamp.put(0, round);
+        return ChunkData.builder()
+            .chunkX(chunkX)
+            .chunkZ(chunkZ)
+            .blocks(blocks)
+            .lastModified(LocalDateTime.of(2024, 1, 1, 12, 0))
+            .featuresPopulated(true)
+            .hasEntitiesGenerated(false)
+            .waterMetadata(new HashMap<>())
+            .entities(new ArrayList<>())
+            .snowLayers(stamp)
+            .build();
+    }
+}
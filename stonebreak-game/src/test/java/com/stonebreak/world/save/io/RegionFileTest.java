@@ -0,0 +1,97 @@
+package com.stonebreak.world.save.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Crash behaviour of the double-buffered sector table: a table write torn
+ * part-way must leave the previous table usable, and version 1 files must
+ * come through the upgrade to two header copies with every chunk intact.
+ */
+class RegionFileTest {
+
+    private static final int COPY_BYTES = 3 * RegionFile.SECTOR_BYTES;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void tornNewestTableFallsBackToThePreviousOne() throws Exception {
+        Path file = tempDir.resolve("r.0.0.sbr");
+        byte[] first = payload(5000, 1);
+        byte[] second = payload(700, 2);
+        try (RegionFile region = RegionFile.open(file)) {
+            region.writeAll(Map.of(0, first));
+            region.writeAll(Map.of(0, second, 1, second));
+        }
+
+        // Generations so far: 1 (empty, copy 0), 2 (copy 1), 3 (copy 0).
+        // Tear the newest copy in the middle of its table.
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(4096 + 17);
+            raf.write(0x5A);
+        }
+
+        try (RegionFile region = RegionFile.open(file)) {
+            assertArrayEquals(first, region.read(0));
+            assertNull(region.read(1));
+            region.writeAll(Map.of(2, second));
+        }
+        try (RegionFile region = RegionFile.open(file)) {
+            assertArrayEquals(first, region.read(0));
+            assertArrayEquals(second, region.read(2));
+        }
+    }
+
+    @Test
+    void versionOneFileIsUpgradedWithEveryChunkIntact() throws Exception {
+        Path file = tempDir.resolve("r.1.0.sbr");
+        byte[] spanning = payload(5000, 3);   // sectors 3-4
+        byte[] straddling = payload(6000, 4); // sectors 5-6, half inside the new header
+        byte[] clear = payload(100, 5);       // sector 7, already clear of it
+        ByteBuffer legacy = ByteBuffer.allocate(8 * RegionFile.SECTOR_BYTES);
+        legacy.putInt(0x53425247).putInt(1).putLong(0L);
+        legacy.putInt(16 + 0 * 8, 3).putInt(16 + 0 * 8 + 4, spanning.length);
+        legacy.putInt(16 + 1 * 8, 5).putInt(16 + 1 * 8 + 4, straddling.length);
+        legacy.putInt(16 + 2 * 8, 7).putInt(16 + 2 * 8 + 4, clear.length);
+        legacy.put(3 * RegionFile.SECTOR_BYTES, spanning);
+        legacy.put(5 * RegionFile.SECTOR_BYTES, straddling);
+        legacy.put(7 * RegionFile.SECTOR_BYTES, clear);
+        Files.write(file, legacy.array());
+
+        try (RegionFile region = RegionFile.open(file)) {
+            assertArrayEquals(spanning, region.read(0));
+            assertArrayEquals(straddling, region.read(1));
+            assertArrayEquals(clear, region.read(2));
+            region.writeAll(Map.of(3, clear));
+        }
+        ByteBuffer upgraded = ByteBuffer.wrap(Files.readAllBytes(file));
+        assertEquals(2, upgraded.getInt(COPY_BYTES + 4));
+
+        try (RegionFile region = RegionFile.open(file)) {
+            assertArrayEquals(spanning, region.read(0));
+            assertArrayEquals(straddling, region.read(1));
+            assertArrayEquals(clear, region.read(2));
+            assertArrayEquals(clear, region.read(3));
+            assertEquals(4, region.chunkCount());
+        }
+    }
+
+    private static byte[] payload(int length, int seed) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) seed);
+        bytes[length - 1] = (byte) (seed * 31);
+        return bytes;
+    }
+}
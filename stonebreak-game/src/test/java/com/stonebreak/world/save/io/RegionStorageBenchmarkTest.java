@@ -0,0 +1,151 @@
+package com.stonebreak.world.save.io;
+
+import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
+import com.stonebreak.blocks.BlockType;
+import com.stonebreak.world.save.model.ChunkData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Manual benchmark: chunks/second saved and loaded through the region
+ * containers vs the old one-file-per-chunk layout (temp file + atomic move
+ * per chunk, reproduced inline below). Both arms pay the same
+ * {@link ChunkCodec} encode/decode, so the gap is pure storage overhead.
+ * Run explicitly:
+ * mvn test -pl stonebreak-game -Dtest=RegionStorageBenchmarkTest -Dsave.bench=true
+ */
+class RegionStorageBenchmarkTest {
+
+    private static final int SIDE = 32;  // one full region: 1024 chunks
+    private static final int ROUNDS = 3;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void benchmark() throws Exception {
+        assumeTrue(Boolean.getBoolean("save.bench"), "manual benchmark (-Dsave.bench=true)");
+
+        List<ChunkData> chunks = new ArrayList<>(SIDE * SIDE);
+        for (int z = 0; z < SIDE; z++) {
+            for (int x = 0; x < SIDE; x++) {
+                chunks.add(terrainChunk(x, z));
+            }
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            Path legacyRoot = Files.createDirectories(tempDir.resolve("legacy-" + round));
+            long legacySave = time(() -> {
+                for (ChunkData chunk : chunks) {
+                    legacySave(legacyRoot, chunk);
+                }
+            });
+            long legacyLoad = time(() -> {
+                for (ChunkData chunk : chunks) {
+                    assertEquals(chunk.getChunkX(),
+                        legacyLoad(legacyRoot, chunk.getChunkX(), chunk.getChunkZ()).getChunkX());
+                }
+            });
+
+            Path regionRoot = tempDir.resolve("region-" + round);
+            long regionSave;
+            long regionLoad;
+            try (ChunkStorage storage = new ChunkStorage(regionRoot)) {
+                regionSave = time(() -> storage.saveChunks(chunks));
+                regionLoad = time(() -> {
+                    for (ChunkData chunk : chunks) {
+                        assertEquals(chunk.getChunkX(),
+                            storage.loadChunk(chunk.getChunkX(), chunk.getChunkZ()).orElseThrow().getChunkX());
+                    }
+                });
+            }
+
+            System.out.printf("round %d (%d chunks): save legacy %.0f/s, region %.0f/s | "
+                    + "load legacy %.0f/s, region %.0f/s%n",
+                round, chunks.size(),
+                perSecond(chunks.size(), legacySave), perSecond(chunks.size(), regionSave),
+                perSecond(chunks.size(), legacyLoad), perSecond(chunks.size(), regionLoad));
+        }
+    }
+
+    private interface IoBlock {
+        void run() throws IOException;
+    }
+
+    private static long time(IoBlock block) throws IOException {
+        long start = System.nanoTime();
+        block.run();
+        return System.nanoTime() - start;
+    }
+
+    private static double perSecond(int count, long nanos) {
+        return count / (nanos / 1e9);
+    }
+
+    /** The pre-region write path: per-chunk file, unique temp, atomic move. */
+    private static void legacySave(Path root, ChunkData chunk) throws IOException {
+        Path target = legacyFile(root, chunk.getChunkX(), chunk.getChunkZ());
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + "."
+            + Long.toUnsignedString(System.nanoTime(), 36) + ".tmp");
+        Files.write(temp, ChunkCodec.encode(chunk));
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static ChunkData legacyLoad(Path root, int chunkX, int chunkZ) throws IOException {
+        return ChunkCodec.decode(Files.readAllBytes(legacyFile(root, chunkX, chunkZ)));
+    }
+
+    private static Path legacyFile(Path root, int chunkX, int chunkZ) {
+        return root.resolve("r." + Math.floorDiv(chunkX, 32) + "." + Math.floorDiv(chunkZ, 32))
+            .resolve("c." + chunkX + "." + chunkZ + ".sbc");
+    }
+
+    /** Stone/dirt/grass below a noisy surface around y=64, air above. */
+    private static ChunkData terrainChunk(int chunkX, int chunkZ) {
+        CcoPalettedChunkStorage blocks = CcoPalettedChunkStorage.createEmpty(16, 256, 16, BlockType.AIR);
+        Random random = new Random(chunkX * 341873128712L + chunkZ * 132897987541L);
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                int surface = 60 + random.nextInt(8);
+                for (int y = 0; y < surface; y++) {
+                    BlockType type = y < surface - 4 ? BlockType.STONE : BlockType.DIRT;
+                    if (type == BlockType.STONE && random.nextInt(40) == 0) {
+                        type = BlockType.GRAVEL;
+                    }
+                    blocks.set(x, y, z, type);
+                }
+                blocks.set(x, surface, z, BlockType.GRASS);
+            }
+        }
+        return ChunkData.builder()
+            .chunkX(chunkX)
+            .chunkZ(chunkZ)
+            .blocks(blocks)
+            .lastModified(LocalDateTime.of(2024, 1, 1, 12, 0))
+            .featuresPopulated(true)
+            .hasEntitiesGenerated(false)
+            .waterMetadata(new HashMap<>())
+            .entities(new ArrayList<>())
+            .snowLayers(new HashMap<>())
+            .build();
+    }
+}
@@ -2,6 +2,8 @@ package com.stonebreak.world.save.repository;
 
 import com.openmason.engine.voxel.cco.data.palette.CcoPalettedChunkStorage;
 import com.stonebreak.blocks.BlockType;
+import com.stonebreak.world.save.io.ChunkCodec;
+import com.stonebreak.world.save.io.LegacyChunkMigrator;
 import com.stonebreak.world.save.model.ChunkData;
 import com.stonebreak.world.save.model.PlayerData;
 import com.stonebreak.world.save.model.WorldData;
@@ -139,11 +141,14 @@ class FileSaveRepositoryTest {
 
         Path worldRoot = Path.of(worldPath);
 
-        assertTrue(Files.exists(worldRoot.resolve("chunks/r.0.0/c.0.0.sbc")));
-        assertTrue(Files.exists(worldRoot.resolve("chunks/r.0.0/c.31.31.sbc")));
-        assertTrue(Files.exists(worldRoot.resolve("chunks/r.1.0/c.32.0.sbc")));
-        assertTrue(Files.exists(worldRoot.resolve("chunks/r.-1.-1/c.-1.-1.sbc")));
-        assertTrue(Files.exists(worldRoot.resolve("chunks/r.-2.-2/c.-33.-33.sbc")));
+        // One container per 32x32 region: (0,0) and (31,31) share r.0.0.
+        assertTrue(Files.exists(worldRoot.resolve("chunks/r.0.0.sbr")));
+        assertTrue(Files.exists(worldRoot.resolve("chunks/r.1.0.sbr")));
+        assertTrue(Files.exists(worldRoot.resolve("chunks/r.-1.-1.sbr")));
+        assertTrue(Files.exists(worldRoot.resolve("chunks/r.-2.-2.sbr")));
+        try (Stream<Path> files = Files.list(worldRoot.resolve("chunks"))) {
+            assertEquals(4, files.count(), "no per-chunk files next to the region containers");
+        }
 
         assertTrue(repo.chunkExists(0, 0));
         assertTrue(repo.chunkExists(31, 31));
@@ -160,6 +165,57 @@ class FileSaveRepositoryTest {
         repo.close();
     }
 
+    @Test
+    void legacyPerChunkFilesMigrateIntoRegions() throws IOException {
+        String worldPath = tempDir.resolve("world").toString();
+        Path chunksRoot = Path.of(worldPath, "chunks");
+        Files.createDirectories(chunksRoot.resolve("r.0.0"));
+        Files.createDirectories(chunksRoot.resolve("r.-1.0"));
+        Files.write(chunksRoot.resolve("r.0.0/c.3.4.sbc"), ChunkCodec.encode(smallChunk(3, 4)));
+        Files.write(chunksRoot.resolve("r.0.0/c.5.5.sbc"), "garbage".getBytes());
+        Files.write(chunksRoot.resolve("r.-1.0/c.-1.0.sbc"), ChunkCodec.encode(smallChunk(-1, 0)));
+
+        FileSaveRepository repo = new FileSaveRepository(worldPath);
+        LegacyChunkMigrator.Result result = repo.migrateLegacyChunks();
+
+        assertEquals(2, result.migrated());
+        assertEquals(1, result.failed());
+        assertEquals(BlockType.DIRT, repo.loadChunk(3, 4).orElseThrow().getBlockStorage().get(5, 10, 5));
+        assertTrue(repo.chunkExists(-1, 0));
+        assertFalse(Files.exists(chunksRoot.resolve("r.0.0/c.3.4.sbc")));
+        assertFalse(Files.exists(chunksRoot.resolve("r.-1.0")), "emptied legacy folder is removed");
+        assertTrue(Files.exists(chunksRoot.resolve("r.0.0/c.5.5.sbc")), "undecodable file is left in place");
+
+        // Second run is a no-op apart from re-reporting the bad file.
+        LegacyChunkMigrator.Result again = repo.migrateLegacyChunks();
+        assertEquals(0, again.migrated());
+        repo.close();
+    }
+
+    @Test
+    void regionRewriteReusesFreedSectors() throws IOException {
+        String worldPath = tempDir.resolve("world").toString();
+        FileSaveRepository repo = new FileSaveRepository(worldPath);
+
+        List<ChunkData> batch = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            batch.add(smallChunk(i, 0));
+        }
+        repo.saveChunks(batch);
+        long sizeAfterFirst = Files.size(Path.of(worldPath, "chunks", "r.0.0.sbr"));
+        for (int round = 0; round < 5; round++) {
+            repo.saveChunks(batch);
+        }
+        long sizeAfterRewrites = Files.size(Path.of(worldPath, "chunks", "r.0.0.sbr"));
+
+        assertTrue(sizeAfterRewrites <= sizeAfterFirst * 2,
+            "rewrites must recycle sectors, grew " + sizeAfterFirst + " -> " + sizeAfterRewrites);
+        for (int i = 0; i < 32; i++) {
+            assertEquals(i, repo.loadChunk(i, 0).orElseThrow().getChunkX());
+        }
+        repo.close();
+    }
+
     @Test
     void deleteChunkRemovesFileAndExistsGoesFalse() throws IOException {
         String worldPath = tempDir.resolve("world").toString();